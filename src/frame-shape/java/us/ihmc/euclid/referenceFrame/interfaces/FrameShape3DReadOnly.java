@@ -1,6 +1,7 @@
 package us.ihmc.euclid.referenceFrame.interfaces;
 
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.referenceFrame.FrameBoundingBox3D;
 import us.ihmc.euclid.referenceFrame.FramePoint3D;
 import us.ihmc.euclid.referenceFrame.ReferenceFrame;
@@ -9,6 +10,7 @@ import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
  * Read-only interface for representing a 3D shape expressed in a given reference frame.
@@ -126,6 +128,56 @@ public interface FrameShape3DReadOnly extends Shape3DReadOnly, SupportingFrameVe
       return evaluatePoint3DCollision((Point3DReadOnly) pointToCheck, closestPointOnSurfaceToPack, normalAtClosestPointToPack);
    }
 
+   /**
+    * Computes the distance from the ray origin to the first intersection between a ray and the
+    * surface of this shape.
+    * <p>
+    * When the ray origin is inside this shape, the intersection is where the ray exits this shape.
+    * </p>
+    *
+    * @param rayOrigin    the origin of the ray. Not modified.
+    * @param rayDirection the direction of the ray. It does not need to be a unit vector. Not
+    *                     modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect this shape.
+    * @throws ReferenceFrameMismatchException if any of the arguments is not expressed in the same
+    *                                         reference frame as {@code this}.
+    */
+   default double castRay(FramePoint3DReadOnly rayOrigin, FrameVector3DReadOnly rayDirection)
+   {
+      checkReferenceFrameMatch(rayOrigin, rayDirection);
+      return castRay((Point3DReadOnly) rayOrigin, (Vector3DReadOnly) rayDirection);
+   }
+
+   /**
+    * Computes the first intersection between a ray and the surface of this shape.
+    * <p>
+    * When the ray origin is inside this shape, the intersection is where the ray exits this shape.
+    * </p>
+    *
+    * @param rayOrigin                  the origin of the ray. Not modified.
+    * @param rayDirection               the direction of the ray. It does not need to be a unit vector.
+    *                                   Not modified.
+    * @param intersectionToPack         the coordinates of the intersection. Can be {@code null}.
+    *                                   Modified.
+    * @param normalAtIntersectionToPack the surface normal at the intersection. The normal points
+    *                                   toward outside the shape. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect this shape.
+    * @throws ReferenceFrameMismatchException if any of the arguments is not expressed in the same
+    *                                         reference frame as {@code this}.
+    */
+   default double castRay(FramePoint3DReadOnly rayOrigin, FrameVector3DReadOnly rayDirection, FixedFramePoint3DBasics intersectionToPack,
+                          FixedFrameVector3DBasics normalAtIntersectionToPack)
+   {
+      checkReferenceFrameMatch(rayOrigin, rayDirection);
+      if (intersectionToPack != null)
+         checkReferenceFrameMatch(intersectionToPack);
+      if (normalAtIntersectionToPack != null)
+         checkReferenceFrameMatch(normalAtIntersectionToPack);
+      return castRay((Point3DReadOnly) rayOrigin, (Vector3DReadOnly) rayDirection, (Point3DBasics) intersectionToPack, (Vector3DBasics) normalAtIntersectionToPack);
+   }
+
    /**
     * Calculates the minimum distance between a point and this shape.
     * <p>
@@ -437,6 +489,20 @@ public interface FrameShape3DReadOnly extends Shape3DReadOnly, SupportingFrameVe
     */
    void getBoundingBox(ReferenceFrame destinationFrame, BoundingBox3DBasics boundingBoxToPack);
 
+   /**
+    * Gets a tight oriented bounding box that contains this shape in the given reference frame.
+    *
+    * @param destinationFrame          the reference frame in which the bounding box is to be
+    *                                  expressed.
+    * @param orientedBoundingBoxToPack the oriented bounding box to pack. Modified.
+    * @see #getOrientedBoundingBox(OrientedBoundingBox3DBasics)
+    */
+   default void getOrientedBoundingBox(ReferenceFrame destinationFrame, OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      getOrientedBoundingBox(orientedBoundingBoxToPack);
+      getReferenceFrame().transformFromThisToDesiredFrame(destinationFrame, orientedBoundingBoxToPack);
+   }
+
    /**
     * Gets the tightest axis-aligned bounding box that contains this shape in the given reference
     * frame.
@@ -100,6 +100,15 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
     * </p>
     */
    private boolean isUpToDate = false;
+   /**
+    * The number of vertices that were composing this polygon when it was last updated, or {@code -1}
+    * if its vertices have been modified since in a way other than by adding new vertices.
+    * <p>
+    * It is used in {@link #update()} to insert the vertices added since the last update into the
+    * existing convex hull instead of recomputing it from scratch.
+    * </p>
+    */
+   private int numberOfHullVertices = -1;
    /** The reference frame in which this polygon is currently expressed. */
    private ReferenceFrame referenceFrame;
    /** Vertex to store intermediate results to allow garbage free operations. */
@@ -232,6 +241,7 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
    public void notifyVerticesChanged()
    {
       isUpToDate = false;
+      numberOfHullVertices = -1;
    }
 
    /** {@inheritDoc} */
@@ -243,6 +253,7 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
       centroid.setToNaN();
       boundingBox.setToNaN();
       isUpToDate = false;
+      numberOfHullVertices = -1;
    }
 
    /** {@inheritDoc} */
@@ -294,7 +305,11 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
       if (isUpToDate)
          return;
 
-      numberOfVertices = EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D(vertexBuffer, numberOfVertices);
+      if (numberOfHullVertices >= 0)
+         numberOfVertices = EuclidGeometryPolygonTools.inPlaceAddVerticesToConvexHull2D(vertexBuffer, numberOfHullVertices, numberOfVertices);
+      else
+         numberOfVertices = EuclidGeometryPolygonTools.inPlaceConvexHull2D(vertexBuffer, numberOfVertices);
+      numberOfHullVertices = -1;
       isUpToDate = true;
 
       updateCentroidAndArea();
@@ -312,6 +327,8 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
    @Override
    public void addVertex(double x, double y)
    {
+      if (isUpToDate)
+         numberOfHullVertices = numberOfVertices;
       isUpToDate = false;
       setOrCreate(x, y, numberOfVertices);
       numberOfVertices++;
@@ -330,6 +347,7 @@ public class FrameConvexPolygon2D implements FrameConvexPolygon2DBasics, Geometr
    {
       checkNonEmpty();
       checkIndexInBoundaries(indexOfVertexToRemove);
+      numberOfHullVertices = -1;
 
       if (indexOfVertexToRemove == numberOfVertices - 1)
       {
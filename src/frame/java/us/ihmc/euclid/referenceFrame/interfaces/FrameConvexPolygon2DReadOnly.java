@@ -1859,6 +1859,78 @@ public interface FrameConvexPolygon2DReadOnly extends ConvexPolygon2DReadOnly, R
       ConvexPolygon2DReadOnly.super.getEdge(edgeIndex, edgeToPack);
    }
 
+   /**
+    * Offsets the edges of this polygon by the given distance and packs the result in
+    * {@code offsetPolygonToPack}.
+    *
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code offsetPolygonToPack} and {@code this} are not
+    *                                         expressed in the same reference frame.
+    * @see #offset(double, ConvexPolygon2DBasics)
+    */
+   default boolean offset(double distance, FixedFrameConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      checkReferenceFrameMatch(offsetPolygonToPack);
+      return ConvexPolygon2DReadOnly.super.offset(distance, offsetPolygonToPack);
+   }
+
+   /**
+    * Offsets the edges of this polygon by the given distance and packs the result in
+    * {@code offsetPolygonToPack}.
+    *
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @see #offset(double, ConvexPolygon2DBasics)
+    */
+   default boolean offset(double distance, FrameConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      offsetPolygonToPack.setReferenceFrame(getReferenceFrame());
+      return ConvexPolygon2DReadOnly.super.offset(distance, offsetPolygonToPack);
+   }
+
+   /**
+    * Offsets the edges of this polygon by the given distance, rounding the corners when growing, and
+    * packs the result in {@code offsetPolygonToPack}.
+    *
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param maximumArcAngle     the maximum angle between two consecutive vertices of the rounded
+    *                            corners.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code offsetPolygonToPack} and {@code this} are not
+    *                                         expressed in the same reference frame.
+    * @see #offsetRounded(double, double, ConvexPolygon2DBasics)
+    */
+   default boolean offsetRounded(double distance, double maximumArcAngle, FixedFrameConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      checkReferenceFrameMatch(offsetPolygonToPack);
+      return ConvexPolygon2DReadOnly.super.offsetRounded(distance, maximumArcAngle, offsetPolygonToPack);
+   }
+
+   /**
+    * Offsets the edges of this polygon by the given distance, rounding the corners when growing, and
+    * packs the result in {@code offsetPolygonToPack}.
+    *
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param maximumArcAngle     the maximum angle between two consecutive vertices of the rounded
+    *                            corners.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @see #offsetRounded(double, double, ConvexPolygon2DBasics)
+    */
+   default boolean offsetRounded(double distance, double maximumArcAngle, FrameConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      offsetPolygonToPack.setReferenceFrame(getReferenceFrame());
+      return ConvexPolygon2DReadOnly.super.offsetRounded(distance, maximumArcAngle, offsetPolygonToPack);
+   }
+
    /** {@inheritDoc} */
    @Override
    default FrameConvexPolygon2DBasics translateCopy(Tuple2DReadOnly translation)
@@ -91,6 +91,15 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
     * </p>
     */
    private boolean isUpToDate = false;
+   /**
+    * The number of vertices that were composing this polygon when it was last updated, or {@code -1}
+    * if its vertices have been modified since in a way other than by adding new vertices.
+    * <p>
+    * It is used in {@link #update()} to insert the vertices added since the last update into the
+    * existing convex hull instead of recomputing it from scratch.
+    * </p>
+    */
+   private int numberOfHullVertices = -1;
 
    /**
     * Creates an empty convex polygon.
@@ -165,6 +174,7 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       centroid.setToNaN();
       boundingBox.setToNaN();
       isUpToDate = false;
+      numberOfHullVertices = -1;
    }
 
    /** {@inheritDoc} */
@@ -179,6 +189,8 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
    @Override
    public void addVertex(double x, double y)
    {
+      if (isUpToDate)
+         numberOfHullVertices = numberOfVertices;
       isUpToDate = false;
       setOrCreate(x, y, numberOfVertices);
       numberOfVertices++;
@@ -190,6 +202,7 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
    {
       checkNonEmpty();
       checkIndexInBoundaries(indexOfVertexToRemove);
+      numberOfHullVertices = -1;
 
       if (indexOfVertexToRemove == numberOfVertices - 1)
       {
@@ -226,7 +239,11 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       if (isUpToDate)
          return;
 
-      numberOfVertices = EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D(vertexBuffer, numberOfVertices);
+      if (numberOfHullVertices >= 0)
+         numberOfVertices = EuclidGeometryPolygonTools.inPlaceAddVerticesToConvexHull2D(vertexBuffer, numberOfHullVertices, numberOfVertices);
+      else
+         numberOfVertices = EuclidGeometryPolygonTools.inPlaceConvexHull2D(vertexBuffer, numberOfVertices);
+      numberOfHullVertices = -1;
       isUpToDate = true;
 
       updateCentroidAndArea();
@@ -327,6 +344,7 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
    public void notifyVerticesChanged()
    {
       isUpToDate = false;
+      numberOfHullVertices = -1;
    }
 
    @Override
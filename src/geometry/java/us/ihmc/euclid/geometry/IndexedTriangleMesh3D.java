@@ -0,0 +1,385 @@
+package us.ihmc.euclid.geometry;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.Triangle3DBasics;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Represents a 3D mesh made of triangles which vertices are referenced by index.
+ * <p>
+ * The vertex coordinates are stored in a packed array, such that the coordinates of the
+ * i<sup>th</sup> vertex are stored at the indices {@code 3 * i}, {@code 3 * i + 1}, and
+ * {@code 3 * i + 2}, and the triangles are stored as triplets of vertex indices in a second array.
+ * This representation is compact and does not require an object per vertex or per triangle, it is
+ * well suited for large meshes. To speed up queries such as ray casting on large meshes, see
+ * {@link us.ihmc.euclid.geometry.tools.TriangleMeshBVH3D}.
+ * </p>
+ * <p>
+ * The mesh is designed for garbage free operations when adding vertices and triangles once its
+ * internal arrays are large enough.
+ * </p>
+ */
+public class IndexedTriangleMesh3D implements Vertex3DSupplier, Settable<IndexedTriangleMesh3D>, Transformable
+{
+   private int numberOfVertices = 0;
+   private double[] vertices = new double[0];
+   private int numberOfTriangles = 0;
+   private int[] triangleIndices = new int[0];
+
+   /** Point used to expose a vertex through the {@link Vertex3DSupplier} interface. */
+   private final Point3D vertex = new Point3D();
+
+   /**
+    * Creates an empty mesh.
+    */
+   public IndexedTriangleMesh3D()
+   {
+   }
+
+   /**
+    * Creates a new mesh and initializes it from the given packed arrays.
+    *
+    * @param vertices          the packed coordinates of the vertices. Not modified.
+    * @param numberOfVertices  the number of vertices to read.
+    * @param triangleIndices   the triplets of vertex indices of the triangles. Not modified.
+    * @param numberOfTriangles the number of triangles to read.
+    * @throws IllegalArgumentException if an array is too small or if a triangle references a vertex
+    *                                  that does not exist.
+    */
+   public IndexedTriangleMesh3D(double[] vertices, int numberOfVertices, int[] triangleIndices, int numberOfTriangles)
+   {
+      set(vertices, numberOfVertices, triangleIndices, numberOfTriangles);
+   }
+
+   /**
+    * Removes all the vertices and triangles of this mesh.
+    */
+   public void clear()
+   {
+      numberOfVertices = 0;
+      numberOfTriangles = 0;
+   }
+
+   /**
+    * Clears this mesh and sets it from the given packed arrays.
+    *
+    * @param vertices          the packed coordinates of the vertices. Not modified.
+    * @param numberOfVertices  the number of vertices to read.
+    * @param triangleIndices   the triplets of vertex indices of the triangles. Not modified.
+    * @param numberOfTriangles the number of triangles to read.
+    * @throws IllegalArgumentException if an array is too small or if a triangle references a vertex
+    *                                  that does not exist.
+    */
+   public void set(double[] vertices, int numberOfVertices, int[] triangleIndices, int numberOfTriangles)
+   {
+      checkArrayLength(vertices.length, 3 * numberOfVertices);
+      checkArrayLength(triangleIndices.length, 3 * numberOfTriangles);
+      clear();
+      ensureVertexCapacity(numberOfVertices);
+      System.arraycopy(vertices, 0, this.vertices, 0, 3 * numberOfVertices);
+      this.numberOfVertices = numberOfVertices;
+      setTriangles(triangleIndices, numberOfTriangles);
+   }
+
+   /**
+    * Clears this mesh and sets it from the given packed arrays using single precision coordinates.
+    *
+    * @param vertices          the packed coordinates of the vertices. Not modified.
+    * @param numberOfVertices  the number of vertices to read.
+    * @param triangleIndices   the triplets of vertex indices of the triangles. Not modified.
+    * @param numberOfTriangles the number of triangles to read.
+    * @throws IllegalArgumentException if an array is too small or if a triangle references a vertex
+    *                                  that does not exist.
+    */
+   public void set(float[] vertices, int numberOfVertices, int[] triangleIndices, int numberOfTriangles)
+   {
+      checkArrayLength(vertices.length, 3 * numberOfVertices);
+      checkArrayLength(triangleIndices.length, 3 * numberOfTriangles);
+      clear();
+      ensureVertexCapacity(numberOfVertices);
+      for (int i = 0; i < 3 * numberOfVertices; i++)
+         this.vertices[i] = vertices[i];
+      this.numberOfVertices = numberOfVertices;
+      setTriangles(triangleIndices, numberOfTriangles);
+   }
+
+   private void setTriangles(int[] triangleIndices, int numberOfTriangles)
+   {
+      ensureTriangleCapacity(numberOfTriangles);
+
+      for (int i = 0; i < 3 * numberOfTriangles; i++)
+      {
+         checkVertexIndex(triangleIndices[i]);
+         this.triangleIndices[i] = triangleIndices[i];
+      }
+
+      this.numberOfTriangles = numberOfTriangles;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void set(IndexedTriangleMesh3D other)
+   {
+      set(other.vertices, other.numberOfVertices, other.triangleIndices, other.numberOfTriangles);
+   }
+
+   /**
+    * Adds a vertex to this mesh.
+    *
+    * @param vertex the new vertex. Not modified.
+    * @return the index of the new vertex.
+    */
+   public int addVertex(Point3DReadOnly vertex)
+   {
+      return addVertex(vertex.getX(), vertex.getY(), vertex.getZ());
+   }
+
+   /**
+    * Adds a vertex to this mesh.
+    *
+    * @param x the x-coordinate of the new vertex.
+    * @param y the y-coordinate of the new vertex.
+    * @param z the z-coordinate of the new vertex.
+    * @return the index of the new vertex.
+    */
+   public int addVertex(double x, double y, double z)
+   {
+      ensureVertexCapacity(numberOfVertices + 1);
+      vertices[3 * numberOfVertices] = x;
+      vertices[3 * numberOfVertices + 1] = y;
+      vertices[3 * numberOfVertices + 2] = z;
+      return numberOfVertices++;
+   }
+
+   /**
+    * Adds a triangle to this mesh.
+    *
+    * @param indexA the index of the first vertex of the triangle.
+    * @param indexB the index of the second vertex of the triangle.
+    * @param indexC the index of the third vertex of the triangle.
+    * @return the index of the new triangle.
+    * @throws IndexOutOfBoundsException if one of the indices does not refer to a vertex of this mesh.
+    */
+   public int addTriangle(int indexA, int indexB, int indexC)
+   {
+      checkVertexIndex(indexA);
+      checkVertexIndex(indexB);
+      checkVertexIndex(indexC);
+      ensureTriangleCapacity(numberOfTriangles + 1);
+      triangleIndices[3 * numberOfTriangles] = indexA;
+      triangleIndices[3 * numberOfTriangles + 1] = indexB;
+      triangleIndices[3 * numberOfTriangles + 2] = indexC;
+      return numberOfTriangles++;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public int getNumberOfVertices()
+   {
+      return numberOfVertices;
+   }
+
+   /**
+    * Gets the number of triangles this mesh is composed of.
+    *
+    * @return the number of triangles.
+    */
+   public int getNumberOfTriangles()
+   {
+      return numberOfTriangles;
+   }
+
+   /**
+    * Gets the i<sup>th</sup> vertex of this mesh.
+    * <p>
+    * WARNING: the returned point is reused by this mesh and is only valid until the next call to this
+    * method, use {@link #getVertex(int, Point3DBasics)} to keep the vertex.
+    * </p>
+    *
+    * @param index the index of the vertex.
+    * @return the vertex.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code numberOfVertices}[.
+    */
+   @Override
+   public Point3DReadOnly getVertex(int index)
+   {
+      getVertex(index, vertex);
+      return vertex;
+   }
+
+   /**
+    * Gets the i<sup>th</sup> vertex of this mesh.
+    *
+    * @param index        the index of the vertex.
+    * @param vertexToPack the point in which the vertex is stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code numberOfVertices}[.
+    */
+   public void getVertex(int index, Point3DBasics vertexToPack)
+   {
+      checkVertexIndex(index);
+      vertexToPack.set(vertices[3 * index], vertices[3 * index + 1], vertices[3 * index + 2]);
+   }
+
+   /**
+    * Gets the coordinate of a vertex of this mesh.
+    *
+    * @param index the index of the vertex.
+    * @param axis  the axis of the coordinate: 0 for x, 1 for y, and 2 for z.
+    * @return the coordinate.
+    */
+   public double getVertexCoordinate(int index, int axis)
+   {
+      return vertices[3 * index + axis];
+   }
+
+   /**
+    * Gets the index of a vertex of a triangle of this mesh.
+    *
+    * @param triangleIndex the index of the triangle.
+    * @param vertex        the vertex of the triangle: 0 for A, 1 for B, and 2 for C.
+    * @return the index of the vertex.
+    * @throws IndexOutOfBoundsException if {@code triangleIndex} is not in [0,
+    *                                   {@code numberOfTriangles}[.
+    */
+   public int getTriangleVertexIndex(int triangleIndex, int vertex)
+   {
+      checkTriangleIndex(triangleIndex);
+      return triangleIndices[3 * triangleIndex + vertex];
+   }
+
+   /**
+    * Gets the i<sup>th</sup> triangle of this mesh.
+    *
+    * @param index          the index of the triangle.
+    * @param triangleToPack the triangle in which the vertices are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code numberOfTriangles}[.
+    */
+   public void getTriangle(int index, Triangle3DBasics triangleToPack)
+   {
+      checkTriangleIndex(index);
+      getVertex(triangleIndices[3 * index], triangleToPack.getA());
+      getVertex(triangleIndices[3 * index + 1], triangleToPack.getB());
+      getVertex(triangleIndices[3 * index + 2], triangleToPack.getC());
+   }
+
+   /**
+    * Computes the bounding box of the vertices of this mesh.
+    *
+    * @param boundingBoxToPack the bounding box in which the result is stored. Modified.
+    */
+   public void getBoundingBox(BoundingBox3DBasics boundingBoxToPack)
+   {
+      boundingBoxToPack.setToNaN();
+
+      for (int i = 0; i < numberOfVertices; i++)
+         boundingBoxToPack.updateToIncludePoint(vertices[3 * i], vertices[3 * i + 1], vertices[3 * i + 2]);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void applyTransform(Transform transform)
+   {
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         getVertex(i, vertex);
+         transform.transform(vertex);
+         vertex.get(3 * i, vertices);
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void applyInverseTransform(Transform transform)
+   {
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         getVertex(i, vertex);
+         transform.inverseTransform(vertex);
+         vertex.get(3 * i, vertices);
+      }
+   }
+
+   private void checkVertexIndex(int index)
+   {
+      if (index < 0 || index >= numberOfVertices)
+         throw new IndexOutOfBoundsException("Vertex index: " + index + ", number of vertices: " + numberOfVertices);
+   }
+
+   private void checkTriangleIndex(int index)
+   {
+      if (index < 0 || index >= numberOfTriangles)
+         throw new IndexOutOfBoundsException("Triangle index: " + index + ", number of triangles: " + numberOfTriangles);
+   }
+
+   private static void checkArrayLength(int length, int minimumLength)
+   {
+      if (length < minimumLength)
+         throw new IllegalArgumentException("The array is too small, expected at least: " + minimumLength + ", was: " + length);
+   }
+
+   private void ensureVertexCapacity(int capacity)
+   {
+      if (3 * capacity > vertices.length)
+         vertices = Arrays.copyOf(vertices, 3 * Math.max(capacity, 2 * numberOfVertices));
+   }
+
+   private void ensureTriangleCapacity(int capacity)
+   {
+      if (3 * capacity > triangleIndices.length)
+         triangleIndices = Arrays.copyOf(triangleIndices, 3 * Math.max(capacity, 2 * numberOfTriangles));
+   }
+
+   /**
+    * Tests on a per-component basis if this mesh is exactly equal to {@code object}, i.e. same
+    * vertices and same triangles in the same order.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if the two meshes are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object == this)
+         return true;
+      if (!(object instanceof IndexedTriangleMesh3D))
+         return false;
+
+      IndexedTriangleMesh3D other = (IndexedTriangleMesh3D) object;
+      return numberOfVertices == other.numberOfVertices && numberOfTriangles == other.numberOfTriangles
+            && Arrays.equals(vertices, 0, 3 * numberOfVertices, other.vertices, 0, 3 * numberOfVertices)
+            && Arrays.equals(triangleIndices, 0, 3 * numberOfTriangles, other.triangleIndices, 0, 3 * numberOfTriangles);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the vertices and triangles of this mesh.
+    *
+    * @return the hash code value for this mesh.
+    */
+   @Override
+   public int hashCode()
+   {
+      int hash = 1;
+      for (int i = 0; i < 3 * numberOfVertices; i++)
+         hash = 31 * hash + Double.hashCode(vertices[i]);
+      for (int i = 0; i < 3 * numberOfTriangles; i++)
+         hash = 31 * hash + triangleIndices[i];
+      return hash;
+   }
+
+   /**
+    * Creates and returns a representative {@code String} for this mesh.
+    */
+   @Override
+   public String toString()
+   {
+      return "Indexed triangle mesh 3D: number of vertices: " + numberOfVertices + ", number of triangles: " + numberOfTriangles;
+   }
+}
@@ -0,0 +1,190 @@
+package us.ihmc.euclid.geometry;
+
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryIOTools;
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * An {@link OrientedBoundingBox3D} is a bounding box which axes are not necessarily aligned with
+ * the axes of the coordinate system.
+ * <p>
+ * The box is defined by the position of its center, its orientation, and its half-size along each
+ * of its local axes. The local axes of the box are the columns of its orientation matrix.
+ * </p>
+ * <p>
+ * Compared to the axis-aligned {@link BoundingBox3D}, an oriented bounding box remains tight for
+ * rotated and elongated objects at the cost of more expensive queries. For fitting an oriented
+ * bounding box to a set of points, see
+ * {@link us.ihmc.euclid.geometry.tools.OrientedBoundingBoxFitter3D}.
+ * </p>
+ */
+public class OrientedBoundingBox3D implements OrientedBoundingBox3DBasics, GeometryObject<OrientedBoundingBox3D>
+{
+   /** The position of the center of this bounding box. */
+   private final Point3D center = new Point3D();
+   /** The orientation of this bounding box, its columns are the local axes of the box. */
+   private final RotationMatrix orientation = new RotationMatrix();
+   /** Half the size of this bounding box along each of its local axes. */
+   private final Vector3D halfSize = new Vector3D();
+
+   /**
+    * Creates a new oriented bounding box initialized with its center and half-size set to
+    * {@link Double#NaN}.
+    */
+   public OrientedBoundingBox3D()
+   {
+      setToNaN();
+   }
+
+   /**
+    * Creates a new oriented bounding box and initializes it to the given center, orientation, and
+    * half-size.
+    *
+    * @param center      the position of the center of the new box. Not modified.
+    * @param orientation the orientation of the new box. Not modified.
+    * @param halfSize    half the size of the new box along each of its local axes. Not modified.
+    * @throws IllegalArgumentException if any component of {@code halfSize} is negative.
+    */
+   public OrientedBoundingBox3D(Point3DReadOnly center, Orientation3DReadOnly orientation, Tuple3DReadOnly halfSize)
+   {
+      set(center, orientation, halfSize);
+   }
+
+   /**
+    * Creates a new oriented bounding box and initializes it to match the given axis-aligned bounding
+    * box.
+    *
+    * @param boundingBox the axis-aligned bounding box used to initialize this. Not modified.
+    */
+   public OrientedBoundingBox3D(BoundingBox3DReadOnly boundingBox)
+   {
+      set(boundingBox);
+   }
+
+   /**
+    * Creates a new oriented bounding box and initializes it to {@code other}.
+    *
+    * @param other the other oriented bounding box used to initialize this. Not modified.
+    */
+   public OrientedBoundingBox3D(OrientedBoundingBox3DReadOnly other)
+   {
+      set(other);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void set(OrientedBoundingBox3D other)
+   {
+      OrientedBoundingBox3DBasics.super.set(other);
+   }
+
+   /**
+    * Gets the reference to the position of the center of this bounding box.
+    *
+    * @return the center of this bounding box.
+    */
+   @Override
+   public Point3D getCenter()
+   {
+      return center;
+   }
+
+   /**
+    * Gets the reference to the orientation of this bounding box.
+    * <p>
+    * The columns of the orientation matrix are the local axes of this bounding box.
+    * </p>
+    *
+    * @return the orientation of this bounding box.
+    */
+   @Override
+   public RotationMatrix getOrientation()
+   {
+      return orientation;
+   }
+
+   /**
+    * Gets the read-only reference to half the size of this bounding box along each of its local axes.
+    *
+    * @return the half-size of this bounding box.
+    */
+   @Override
+   public Tuple3DReadOnly getHalfSize()
+   {
+      return halfSize;
+   }
+
+   /**
+    * Sets half the size of this bounding box along each of its local axes.
+    *
+    * @param halfSizeX half the size along the local x-axis.
+    * @param halfSizeY half the size along the local y-axis.
+    * @param halfSizeZ half the size along the local z-axis.
+    * @throws IllegalArgumentException if any of the arguments is negative.
+    */
+   @Override
+   public void setHalfSize(double halfSizeX, double halfSizeY, double halfSizeZ)
+   {
+      if (halfSizeX < 0.0 || halfSizeY < 0.0 || halfSizeZ < 0.0)
+         throw new IllegalArgumentException("The half-size of an oriented bounding box cannot be negative: " + halfSizeX + ", " + halfSizeY + ", " + halfSizeZ);
+      halfSize.set(halfSizeX, halfSizeY, halfSizeZ);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public boolean epsilonEquals(OrientedBoundingBox3D other, double epsilon)
+   {
+      return OrientedBoundingBox3DBasics.super.epsilonEquals(other, epsilon);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public boolean geometricallyEquals(OrientedBoundingBox3D other, double epsilon)
+   {
+      return OrientedBoundingBox3DBasics.super.geometricallyEquals(other, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(OrientedBoundingBox3DReadOnly)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof OrientedBoundingBox3DReadOnly)
+         return equals((OrientedBoundingBox3DReadOnly) object);
+      else
+         return false;
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return EuclidHashCodeTools.toIntHashCode(center, orientation, halfSize);
+   }
+
+   /**
+    * Provides a {@code String} representation of this oriented bounding box 3D as follows:<br>
+    * Oriented Bounding Box 3D: [center: ( 0.540, 0.110, 0.319 ), yaw-pitch-roll: (-2.061, -0.904,
+    * -1.136), half-size: ( 0.191, 0.719, 0.479 )]
+    *
+    * @return the {@code String} representing this oriented bounding box 3D.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidGeometryIOTools.getOrientedBoundingBox3DString(this);
+   }
+}
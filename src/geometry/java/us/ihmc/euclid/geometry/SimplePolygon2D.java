@@ -0,0 +1,294 @@
+package us.ihmc.euclid.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryIOTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+
+/**
+ * Describes a planar simple polygon defined in the XY-plane.
+ * <p>
+ * Unlike {@link ConvexPolygon2D}, a simple polygon can be concave and its vertices are kept in the
+ * order they were added, which can be either clockwise or counter-clockwise. Its edges are expected
+ * to not intersect each other, this is not verified.
+ * </p>
+ * <p>
+ * A simple polygon can be decomposed into convex polygons with
+ * {@link #decompose(List)}, such that the convex polygon queries can be used on concave shapes.
+ * </p>
+ * <p>
+ * This implementation of simple polygon is designed for garbage free operations when adding
+ * vertices.
+ * </p>
+ */
+public class SimplePolygon2D implements Vertex2DSupplier, Settable<SimplePolygon2D>
+{
+   /** The current number of vertices for this polygon. */
+   private int numberOfVertices = 0;
+   /**
+    * The internal memory of this polygon. It is used as a buffer to recycle the memory and can thus
+    * be greater than the actual size of this polygon.
+    */
+   private final List<Point2D> vertexBuffer = new ArrayList<>();
+
+   /**
+    * Creates an empty polygon.
+    */
+   public SimplePolygon2D()
+   {
+   }
+
+   /**
+    * Creates a new polygon with the vertices provided by the supplier in the same order.
+    *
+    * @param vertex2DSupplier the supplier of vertices.
+    */
+   public SimplePolygon2D(Vertex2DSupplier vertex2DSupplier)
+   {
+      set(vertex2DSupplier);
+   }
+
+   /**
+    * Removes all the vertices of this polygon.
+    */
+   public void clear()
+   {
+      numberOfVertices = 0;
+   }
+
+   /**
+    * Adds a vertex at the end of this polygon.
+    *
+    * @param vertex the new vertex. Not modified.
+    */
+   public void addVertex(Point2DReadOnly vertex)
+   {
+      addVertex(vertex.getX(), vertex.getY());
+   }
+
+   /**
+    * Adds a vertex at the end of this polygon.
+    *
+    * @param x the x-coordinate of the new vertex.
+    * @param y the y-coordinate of the new vertex.
+    */
+   public void addVertex(double x, double y)
+   {
+      if (numberOfVertices == vertexBuffer.size())
+         vertexBuffer.add(new Point2D());
+      vertexBuffer.get(numberOfVertices).set(x, y);
+      numberOfVertices++;
+   }
+
+   /**
+    * Clears this polygon and adds the vertices provided by the supplier in the same order.
+    *
+    * @param vertex2DSupplier the supplier of vertices. Not modified.
+    */
+   public void set(Vertex2DSupplier vertex2DSupplier)
+   {
+      clear();
+      for (int i = 0; i < vertex2DSupplier.getNumberOfVertices(); i++)
+         addVertex(vertex2DSupplier.getVertex(i));
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void set(SimplePolygon2D other)
+   {
+      set((Vertex2DSupplier) other);
+   }
+
+   /**
+    * Computes the signed area of this polygon.
+    *
+    * @return the area, positive if the vertices are counter-clockwise ordered, negative if they are
+    *         clockwise ordered.
+    * @see EuclidGeometryPolygonTools#signedAreaOfSimplePolygon2D(Vertex2DSupplier)
+    */
+   public double getSignedArea()
+   {
+      return EuclidGeometryPolygonTools.signedAreaOfSimplePolygon2D(this);
+   }
+
+   /**
+    * Computes the area of this polygon.
+    *
+    * @return the area of this polygon.
+    */
+   public double getArea()
+   {
+      return Math.abs(getSignedArea());
+   }
+
+   /**
+    * Tests whether the vertices of this polygon are clockwise ordered.
+    *
+    * @return {@code true} if the vertices are clockwise ordered, {@code false} otherwise.
+    */
+   public boolean isClockwiseOrdered()
+   {
+      return getSignedArea() < 0.0;
+   }
+
+   /**
+    * Tests whether this polygon is convex, i.e. whether all its vertices turn in the same direction.
+    * <p>
+    * Collinear consecutive vertices do not make the polygon concave.
+    * </p>
+    *
+    * @return {@code true} if this polygon is convex, {@code false} otherwise.
+    */
+   public boolean isConvex()
+   {
+      if (numberOfVertices < 4)
+         return true;
+
+      double orientation = getSignedArea();
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point2DReadOnly previous = getVertex(EuclidGeometryPolygonTools.previous(i, numberOfVertices));
+         Point2DReadOnly vertex = getVertex(i);
+         Point2DReadOnly next = getVertex(EuclidGeometryPolygonTools.next(i, numberOfVertices));
+         double turn = (vertex.getX() - previous.getX()) * (next.getY() - vertex.getY()) - (vertex.getY() - previous.getY()) * (next.getX() - vertex.getX());
+
+         if (turn * orientation < 0.0)
+            return false;
+      }
+
+      return true;
+   }
+
+   /**
+    * Tests whether the given point is inside this polygon using the crossing number test.
+    * <p>
+    * The result is undefined for points exactly on an edge of this polygon.
+    * </p>
+    *
+    * @param point the query. Not modified.
+    * @return {@code true} if the point is inside this polygon, {@code false} otherwise.
+    */
+   public boolean isPointInside(Point2DReadOnly point)
+   {
+      return isPointInside(point.getX(), point.getY());
+   }
+
+   /**
+    * Tests whether the given point is inside this polygon using the crossing number test.
+    * <p>
+    * The result is undefined for points exactly on an edge of this polygon.
+    * </p>
+    *
+    * @param x the x-coordinate of the query.
+    * @param y the y-coordinate of the query.
+    * @return {@code true} if the point is inside this polygon, {@code false} otherwise.
+    */
+   public boolean isPointInside(double x, double y)
+   {
+      boolean isInside = false;
+
+      for (int i = 0, j = numberOfVertices - 1; i < numberOfVertices; j = i++)
+      {
+         Point2DReadOnly vertex = getVertex(i);
+         Point2DReadOnly previous = getVertex(j);
+
+         if ((vertex.getY() > y) != (previous.getY() > y))
+         {
+            double crossingX = vertex.getX() + (y - vertex.getY()) * (previous.getX() - vertex.getX()) / (previous.getY() - vertex.getY());
+            if (x < crossingX)
+               isInside = !isInside;
+         }
+      }
+
+      return isInside;
+   }
+
+   /**
+    * Triangulates this polygon.
+    *
+    * @param triangleIndicesToPack the array in which the triangles are stored as triplets of vertex
+    *                              indices. Modified.
+    * @return the number of triangles.
+    * @see EuclidGeometryPolygonTools#triangulateSimplePolygon2D(Vertex2DSupplier, int[])
+    */
+   public int triangulate(int[] triangleIndicesToPack)
+   {
+      return EuclidGeometryPolygonTools.triangulateSimplePolygon2D(this, triangleIndicesToPack);
+   }
+
+   /**
+    * Decomposes this polygon into convex polygons.
+    *
+    * @param convexPolygonsToPack the list in which the convex polygons are stored. The polygons it
+    *                             already contains are recycled. Modified.
+    * @return the number of convex polygons.
+    * @see EuclidGeometryPolygonTools#decomposeSimplePolygon2DIntoConvexPolygon2Ds(Vertex2DSupplier,
+    *      List)
+    */
+   public int decompose(List<ConvexPolygon2D> convexPolygonsToPack)
+   {
+      return EuclidGeometryPolygonTools.decomposeSimplePolygon2DIntoConvexPolygon2Ds(this, convexPolygonsToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public Point2DReadOnly getVertex(int index)
+   {
+      if (index < 0 || index >= numberOfVertices)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of vertices: " + numberOfVertices);
+      return vertexBuffer.get(index);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public int getNumberOfVertices()
+   {
+      return numberOfVertices;
+   }
+
+   /**
+    * Tests on a per-component basis on every vertices if this polygon is exactly equal to
+    * {@code object}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if the two polygons are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof SimplePolygon2D)
+         return Vertex2DSupplier.super.equals((SimplePolygon2D) object);
+      else
+         return false;
+   }
+
+   /**
+    * Calculates and returns a hash code value from the vertices of this polygon.
+    *
+    * @return the hash code value for this polygon.
+    */
+   @Override
+   public int hashCode()
+   {
+      long hash = 1L;
+      for (int i = 0; i < numberOfVertices; i++)
+         hash = EuclidHashCodeTools.addToHashCode(hash, vertexBuffer.get(i));
+      return EuclidHashCodeTools.toIntHashCode(hash);
+   }
+
+   /**
+    * Creates and returns a representative {@code String} for this polygon.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidGeometryIOTools.getVertex2DSupplierString(this);
+   }
+}
@@ -1563,6 +1563,55 @@ public interface ConvexPolygon2DReadOnly extends Vertex2DSupplier
       edgeToPack.set(getVertex(edgeIndex), getNextVertex(edgeIndex));
    }
 
+   /**
+    * Offsets the edges of this polygon by the given distance and packs the result in
+    * {@code offsetPolygonToPack}.
+    * <p>
+    * The polygon grows with sharp corners when {@code distance} is positive and shrinks when
+    * {@code distance} is negative, vertices are removed as they collapse.
+    * </p>
+    *
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @throws IllegalArgumentException if {@code offsetPolygonToPack} is {@code this}.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *                                  since last time this polygon's vertices were edited.
+    * @see EuclidGeometryPolygonTools#offsetConvexPolygon2D(ConvexPolygon2DReadOnly, double,
+    *      ConvexPolygon2DBasics)
+    */
+   default boolean offset(double distance, ConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      return EuclidGeometryPolygonTools.offsetConvexPolygon2D(this, distance, offsetPolygonToPack);
+   }
+
+   /**
+    * Offsets the edges of this polygon by the given distance and packs the result in
+    * {@code offsetPolygonToPack}.
+    * <p>
+    * The polygon grows with rounded corners when {@code distance} is positive and shrinks when
+    * {@code distance} is negative, vertices are removed as they collapse.
+    * </p>
+    *
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param maximumArcAngle     the maximum angle between two consecutive vertices of the rounded
+    *                            corners.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @throws IllegalArgumentException if {@code offsetPolygonToPack} is {@code this} or if
+    *                                  {@code maximumArcAngle} is not strictly positive.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *                                  since last time this polygon's vertices were edited.
+    * @see EuclidGeometryPolygonTools#offsetConvexPolygon2DRounded(ConvexPolygon2DReadOnly, double,
+    *      double, ConvexPolygon2DBasics)
+    */
+   default boolean offsetRounded(double distance, double maximumArcAngle, ConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      return EuclidGeometryPolygonTools.offsetConvexPolygon2DRounded(this, distance, maximumArcAngle, offsetPolygonToPack);
+   }
+
    /**
     * Copies this polygon, translates the copy, and returns it.
     * <p>
@@ -0,0 +1,162 @@
+package us.ihmc.euclid.geometry.interfaces;
+
+import us.ihmc.euclid.interfaces.Clearable;
+import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * Write and read interface for a 3D oriented bounding box.
+ * <p>
+ * An oriented bounding box is defined by the position of its center, its orientation, and its
+ * half-size along each of its local axes. The local axes of the box are the columns of its
+ * orientation matrix.
+ * </p>
+ */
+public interface OrientedBoundingBox3DBasics extends OrientedBoundingBox3DReadOnly, Transformable, Clearable
+{
+   /**
+    * Gets the reference to the position of the center of this bounding box.
+    *
+    * @return the center of this bounding box.
+    */
+   @Override
+   Point3DBasics getCenter();
+
+   /**
+    * Gets the reference to the orientation of this bounding box.
+    * <p>
+    * The columns of the orientation matrix are the local axes of this bounding box.
+    * </p>
+    *
+    * @return the orientation of this bounding box.
+    */
+   @Override
+   RotationMatrixBasics getOrientation();
+
+   /**
+    * Sets half the size of this bounding box along each of its local axes.
+    *
+    * @param halfSizeX half the size along the local x-axis.
+    * @param halfSizeY half the size along the local y-axis.
+    * @param halfSizeZ half the size along the local z-axis.
+    * @throws IllegalArgumentException if any of the arguments is negative.
+    */
+   void setHalfSize(double halfSizeX, double halfSizeY, double halfSizeZ);
+
+   /**
+    * Sets half the size of this bounding box along each of its local axes.
+    *
+    * @param halfSize half the size along each local axis. Not modified.
+    * @throws IllegalArgumentException if any component of {@code halfSize} is negative.
+    */
+   default void setHalfSize(Tuple3DReadOnly halfSize)
+   {
+      setHalfSize(halfSize.getX(), halfSize.getY(), halfSize.getZ());
+   }
+
+   /**
+    * Sets this bounding box to the given center, orientation, and half-size.
+    *
+    * @param center      the position of the center of the box. Not modified.
+    * @param orientation the orientation of the box. Not modified.
+    * @param halfSize    half the size of the box along each of its local axes. Not modified.
+    * @throws IllegalArgumentException if any component of {@code halfSize} is negative.
+    */
+   default void set(Point3DReadOnly center, Orientation3DReadOnly orientation, Tuple3DReadOnly halfSize)
+   {
+      setHalfSize(halfSize);
+      getCenter().set(center);
+      getOrientation().set(orientation);
+   }
+
+   /**
+    * Sets this bounding box to match the given axis-aligned bounding box.
+    *
+    * @param boundingBox the axis-aligned bounding box to copy. Not modified.
+    */
+   default void set(BoundingBox3DReadOnly boundingBox)
+   {
+      boundingBox.getCenterPoint(getCenter());
+      getOrientation().setIdentity();
+      setHalfSize(0.5 * (boundingBox.getMaxX() - boundingBox.getMinX()),
+                  0.5 * (boundingBox.getMaxY() - boundingBox.getMinY()),
+                  0.5 * (boundingBox.getMaxZ() - boundingBox.getMinZ()));
+   }
+
+   /**
+    * Sets this bounding box to {@code other}.
+    *
+    * @param other the other bounding box to copy. Not modified.
+    */
+   default void set(OrientedBoundingBox3DReadOnly other)
+   {
+      set(other.getCenter(), other.getOrientation(), other.getHalfSize());
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   default boolean containsNaN()
+   {
+      return OrientedBoundingBox3DReadOnly.super.containsNaN();
+   }
+
+   /**
+    * Sets the center and half-size of this bounding box to {@link Double#NaN} and its orientation to
+    * identity.
+    */
+   @Override
+   default void setToNaN()
+   {
+      getCenter().setToNaN();
+      getOrientation().setIdentity();
+      setHalfSize(Double.NaN, Double.NaN, Double.NaN);
+   }
+
+   /**
+    * Sets the center and half-size of this bounding box to zero and its orientation to identity.
+    */
+   @Override
+   default void setToZero()
+   {
+      getCenter().setToZero();
+      getOrientation().setIdentity();
+      setHalfSize(0.0, 0.0, 0.0);
+   }
+
+   /**
+    * Transforms this bounding box using the given transform.
+    * <p>
+    * Only the position of the center and the orientation are transformed, the half-size remains
+    * unchanged.
+    * </p>
+    *
+    * @param transform the transform to apply on this bounding box. Not modified.
+    */
+   @Override
+   default void applyTransform(Transform transform)
+   {
+      transform.transform(getCenter());
+      transform.transform(getOrientation());
+   }
+
+   /**
+    * Transforms this bounding box using the inverse of the given transform.
+    * <p>
+    * Only the position of the center and the orientation are transformed, the half-size remains
+    * unchanged.
+    * </p>
+    *
+    * @param transform the transform to apply on this bounding box. Not modified.
+    */
+   @Override
+   default void applyInverseTransform(Transform transform)
+   {
+      transform.inverseTransform(getCenter());
+      transform.inverseTransform(getOrientation());
+   }
+}
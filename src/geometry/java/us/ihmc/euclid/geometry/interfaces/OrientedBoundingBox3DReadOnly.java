@@ -0,0 +1,351 @@
+package us.ihmc.euclid.geometry.interfaces;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+
+/**
+ * Read-only interface for a 3D oriented bounding box.
+ * <p>
+ * An oriented bounding box is defined by the position of its center, its orientation, and its
+ * half-size along each of its local axes. The local axes of the box are the columns of its
+ * orientation matrix.
+ * </p>
+ */
+public interface OrientedBoundingBox3DReadOnly
+{
+   /**
+    * Gets the read-only reference to the position of the center of this bounding box.
+    *
+    * @return the center of this bounding box.
+    */
+   Point3DReadOnly getCenter();
+
+   /**
+    * Gets the read-only reference to the orientation of this bounding box.
+    * <p>
+    * The columns of the orientation matrix are the local axes of this bounding box.
+    * </p>
+    *
+    * @return the orientation of this bounding box.
+    */
+   RotationMatrixReadOnly getOrientation();
+
+   /**
+    * Gets the read-only reference to half the size of this bounding box along each of its local axes.
+    *
+    * @return the half-size of this bounding box.
+    */
+   Tuple3DReadOnly getHalfSize();
+
+   /**
+    * Tests if this bounding box contains {@link Double#NaN}.
+    *
+    * @return {@code true} if the center, the orientation, or the half-size contains
+    *         {@link Double#NaN}, {@code false} otherwise.
+    */
+   default boolean containsNaN()
+   {
+      return getCenter().containsNaN() || getOrientation().containsNaN() || getHalfSize().containsNaN();
+   }
+
+   /**
+    * Gets one of the local axes of this bounding box.
+    *
+    * @param axisIndex  the index of the axis: 0 for x, 1 for y, and 2 for z.
+    * @param axisToPack the vector used to store the axis. Modified.
+    * @throws IndexOutOfBoundsException if {@code axisIndex} is not in [0, 2].
+    */
+   default void getAxis(int axisIndex, Vector3DBasics axisToPack)
+   {
+      if (axisIndex < 0 || axisIndex > 2)
+         throw new IndexOutOfBoundsException("The axis index has to be in [0, 2], was: " + axisIndex);
+      RotationMatrixReadOnly orientation = getOrientation();
+      axisToPack.set(orientation.getElement(0, axisIndex), orientation.getElement(1, axisIndex), orientation.getElement(2, axisIndex));
+   }
+
+   /**
+    * Gets the position of one of the 8 vertices of this bounding box.
+    * <p>
+    * The bits 0, 1, and 2 of {@code vertexIndex} select the sign of the half-size along the local x,
+    * y, and z axes respectively: when the bit is set, the vertex is on the positive side.
+    * </p>
+    *
+    * @param vertexIndex  the index of the vertex in [0, 7].
+    * @param vertexToPack the point used to store the vertex. Modified.
+    * @throws IndexOutOfBoundsException if {@code vertexIndex} is not in [0, 7].
+    */
+   default void getVertex(int vertexIndex, Point3DBasics vertexToPack)
+   {
+      if (vertexIndex < 0 || vertexIndex > 7)
+         throw new IndexOutOfBoundsException("The vertex index has to be in [0, 7], was: " + vertexIndex);
+
+      Tuple3DReadOnly halfSize = getHalfSize();
+      vertexToPack.set((vertexIndex & 1) != 0 ? halfSize.getX() : -halfSize.getX(),
+                       (vertexIndex & 2) != 0 ? halfSize.getY() : -halfSize.getY(),
+                       (vertexIndex & 4) != 0 ? halfSize.getZ() : -halfSize.getZ());
+      getOrientation().transform(vertexToPack);
+      vertexToPack.add(getCenter());
+   }
+
+   /**
+    * Computes the volume of this bounding box.
+    *
+    * @return the volume.
+    */
+   default double getVolume()
+   {
+      return 8.0 * getHalfSize().getX() * getHalfSize().getY() * getHalfSize().getZ();
+   }
+
+   /**
+    * Computes the tightest axis-aligned bounding box that contains this bounding box.
+    *
+    * @param boundingBoxToPack the axis-aligned bounding box used to store the result. Modified.
+    */
+   default void getBoundingBox(BoundingBox3DBasics boundingBoxToPack)
+   {
+      RotationMatrixReadOnly orientation = getOrientation();
+      Tuple3DReadOnly halfSize = getHalfSize();
+      Point3DReadOnly center = getCenter();
+
+      double extentX = Math.abs(orientation.getM00()) * halfSize.getX() + Math.abs(orientation.getM01()) * halfSize.getY()
+            + Math.abs(orientation.getM02()) * halfSize.getZ();
+      double extentY = Math.abs(orientation.getM10()) * halfSize.getX() + Math.abs(orientation.getM11()) * halfSize.getY()
+            + Math.abs(orientation.getM12()) * halfSize.getZ();
+      double extentZ = Math.abs(orientation.getM20()) * halfSize.getX() + Math.abs(orientation.getM21()) * halfSize.getY()
+            + Math.abs(orientation.getM22()) * halfSize.getZ();
+      boundingBoxToPack.set(center.getX() - extentX,
+                            center.getY() - extentY,
+                            center.getZ() - extentZ,
+                            center.getX() + extentX,
+                            center.getY() + extentY,
+                            center.getZ() + extentZ);
+   }
+
+   /**
+    * Tests if the query is located inside or on the surface of this bounding box.
+    *
+    * @param query the query. Not modified.
+    * @return {@code true} if the query is inside or on the surface, {@code false} otherwise.
+    */
+   default boolean isInsideInclusive(Point3DReadOnly query)
+   {
+      return isInsideEpsilon(query, 0.0);
+   }
+
+   /**
+    * Tests if the query is located inside this bounding box given the tolerance {@code epsilon}.
+    * <p>
+    * The tolerance is used to grow this bounding box along each of its local axes when
+    * {@code epsilon > 0} and to shrink it when {@code epsilon < 0}.
+    * </p>
+    *
+    * @param query   the query. Not modified.
+    * @param epsilon the tolerance to use.
+    * @return {@code true} if the query is inside, {@code false} otherwise.
+    */
+   default boolean isInsideEpsilon(Point3DReadOnly query, double epsilon)
+   {
+      RotationMatrixReadOnly orientation = getOrientation();
+      Tuple3DReadOnly halfSize = getHalfSize();
+
+      double dx = query.getX() - getCenter().getX();
+      double dy = query.getY() - getCenter().getY();
+      double dz = query.getZ() - getCenter().getZ();
+
+      if (Math.abs(orientation.getM00() * dx + orientation.getM10() * dy + orientation.getM20() * dz) > halfSize.getX() + epsilon)
+         return false;
+      if (Math.abs(orientation.getM01() * dx + orientation.getM11() * dy + orientation.getM21() * dz) > halfSize.getY() + epsilon)
+         return false;
+      return Math.abs(orientation.getM02() * dx + orientation.getM12() * dy + orientation.getM22() * dz) <= halfSize.getZ() + epsilon;
+   }
+
+   /**
+    * Tests if this bounding box and {@code other} intersect using the separating axis theorem.
+    * <p>
+    * Boxes that are only touching are considered to be intersecting.
+    * </p>
+    *
+    * @param other the other oriented bounding box. Not modified.
+    * @return {@code true} if the two boxes intersect, {@code false} otherwise.
+    * @see EuclidGeometryTools#doOrientedBox3DsIntersect(double, double, double, double, double,
+    *      double, double, double, double, double, double, double, double, double, double, double,
+    *      double, double)
+    */
+   default boolean intersects(OrientedBoundingBox3DReadOnly other)
+   {
+      RotationMatrixReadOnly a = getOrientation();
+      RotationMatrixReadOnly b = other.getOrientation();
+
+      // Rotation of the other box expressed in the local coordinates of this box: R = A^T B.
+      double r00 = a.getM00() * b.getM00() + a.getM10() * b.getM10() + a.getM20() * b.getM20();
+      double r01 = a.getM00() * b.getM01() + a.getM10() * b.getM11() + a.getM20() * b.getM21();
+      double r02 = a.getM00() * b.getM02() + a.getM10() * b.getM12() + a.getM20() * b.getM22();
+      double r10 = a.getM01() * b.getM00() + a.getM11() * b.getM10() + a.getM21() * b.getM20();
+      double r11 = a.getM01() * b.getM01() + a.getM11() * b.getM11() + a.getM21() * b.getM21();
+      double r12 = a.getM01() * b.getM02() + a.getM11() * b.getM12() + a.getM21() * b.getM22();
+      double r20 = a.getM02() * b.getM00() + a.getM12() * b.getM10() + a.getM22() * b.getM20();
+      double r21 = a.getM02() * b.getM01() + a.getM12() * b.getM11() + a.getM22() * b.getM21();
+      double r22 = a.getM02() * b.getM02() + a.getM12() * b.getM12() + a.getM22() * b.getM22();
+
+      double dx = other.getCenter().getX() - getCenter().getX();
+      double dy = other.getCenter().getY() - getCenter().getY();
+      double dz = other.getCenter().getZ() - getCenter().getZ();
+      double tx = a.getM00() * dx + a.getM10() * dy + a.getM20() * dz;
+      double ty = a.getM01() * dx + a.getM11() * dy + a.getM21() * dz;
+      double tz = a.getM02() * dx + a.getM12() * dy + a.getM22() * dz;
+
+      return EuclidGeometryTools.doOrientedBox3DsIntersect(tx,
+                                                           ty,
+                                                           tz,
+                                                           r00,
+                                                           r01,
+                                                           r02,
+                                                           r10,
+                                                           r11,
+                                                           r12,
+                                                           r20,
+                                                           r21,
+                                                           r22,
+                                                           getHalfSize().getX(),
+                                                           getHalfSize().getY(),
+                                                           getHalfSize().getZ(),
+                                                           other.getHalfSize().getX(),
+                                                           other.getHalfSize().getY(),
+                                                           other.getHalfSize().getZ());
+   }
+
+   /**
+    * Tests if this bounding box and the given axis-aligned bounding box intersect using the
+    * separating axis theorem.
+    * <p>
+    * Boxes that are only touching are considered to be intersecting.
+    * </p>
+    *
+    * @param other the axis-aligned bounding box. Not modified.
+    * @return {@code true} if the two boxes intersect, {@code false} otherwise.
+    */
+   default boolean intersects(BoundingBox3DReadOnly other)
+   {
+      RotationMatrixReadOnly a = getOrientation();
+
+      double dx = 0.5 * (other.getMinX() + other.getMaxX()) - getCenter().getX();
+      double dy = 0.5 * (other.getMinY() + other.getMaxY()) - getCenter().getY();
+      double dz = 0.5 * (other.getMinZ() + other.getMaxZ()) - getCenter().getZ();
+      double tx = a.getM00() * dx + a.getM10() * dy + a.getM20() * dz;
+      double ty = a.getM01() * dx + a.getM11() * dy + a.getM21() * dz;
+      double tz = a.getM02() * dx + a.getM12() * dy + a.getM22() * dz;
+
+      double otherHalfSizeX = 0.5 * (other.getMaxX() - other.getMinX());
+      double otherHalfSizeY = 0.5 * (other.getMaxY() - other.getMinY());
+      double otherHalfSizeZ = 0.5 * (other.getMaxZ() - other.getMinZ());
+
+      // The axes of the other box are the world axes, such that R = A^T.
+      return EuclidGeometryTools.doOrientedBox3DsIntersect(tx,
+                                                           ty,
+                                                           tz,
+                                                           a.getM00(),
+                                                           a.getM10(),
+                                                           a.getM20(),
+                                                           a.getM01(),
+                                                           a.getM11(),
+                                                           a.getM21(),
+                                                           a.getM02(),
+                                                           a.getM12(),
+                                                           a.getM22(),
+                                                           getHalfSize().getX(),
+                                                           getHalfSize().getY(),
+                                                           getHalfSize().getZ(),
+                                                           otherHalfSizeX,
+                                                           otherHalfSizeY,
+                                                           otherHalfSizeZ);
+   }
+
+   /**
+    * Tests on a per-component basis if this bounding box and {@code other} are equal to an
+    * {@code epsilon}.
+    *
+    * @param other   the other bounding box to compare against this. Not modified.
+    * @param epsilon the tolerance to use.
+    * @return {@code true} if the two bounding boxes are equal component-wise, {@code false}
+    *         otherwise.
+    */
+   default boolean epsilonEquals(OrientedBoundingBox3DReadOnly other, double epsilon)
+   {
+      return getCenter().epsilonEquals(other.getCenter(), epsilon) && getOrientation().epsilonEquals(other.getOrientation(), epsilon)
+            && getHalfSize().epsilonEquals(other.getHalfSize(), epsilon);
+   }
+
+   /**
+    * Compares {@code this} to {@code other} to determine if the two bounding boxes are geometrically
+    * similar.
+    * <p>
+    * Two oriented bounding boxes are geometrically equal if each vertex of one is within a distance of
+    * {@code epsilon} of a vertex of the other. Different orientations and half-sizes can describe the
+    * same box, for instance when swapping or flipping its axes.
+    * </p>
+    *
+    * @param other   the other bounding box to compare against this. Not modified.
+    * @param epsilon the tolerance of the comparison.
+    * @return {@code true} if the two bounding boxes represent the same geometry, {@code false}
+    *         otherwise.
+    */
+   default boolean geometricallyEquals(OrientedBoundingBox3DReadOnly other, double epsilon)
+   {
+      if (!getCenter().geometricallyEquals(other.getCenter(), epsilon))
+         return false;
+
+      Point3D vertexA = new Point3D();
+      Point3D vertexB = new Point3D();
+
+      for (int pass = 0; pass < 2; pass++)
+      {
+         OrientedBoundingBox3DReadOnly boxA = pass == 0 ? this : other;
+         OrientedBoundingBox3DReadOnly boxB = pass == 0 ? other : this;
+
+         for (int i = 0; i < 8; i++)
+         {
+            boxA.getVertex(i, vertexA);
+            boolean hasCloseVertex = false;
+
+            for (int j = 0; j < 8; j++)
+            {
+               boxB.getVertex(j, vertexB);
+
+               if (vertexA.distanceSquared(vertexB) <= epsilon * epsilon)
+               {
+                  hasCloseVertex = true;
+                  break;
+               }
+            }
+
+            if (!hasCloseVertex)
+               return false;
+         }
+      }
+
+      return true;
+   }
+
+   /**
+    * Tests on a per component basis, if this bounding box is exactly equal to {@code other}.
+    *
+    * @param other the other bounding box to compare against this. Not modified.
+    * @return {@code true} if the two bounding boxes are exactly equal component-wise, {@code false}
+    *         otherwise.
+    */
+   default boolean equals(OrientedBoundingBox3DReadOnly other)
+   {
+      if (other == this)
+         return true;
+      else if (other == null)
+         return false;
+      else
+         return getCenter().equals(other.getCenter()) && getOrientation().equals(other.getOrientation()) && getHalfSize().equals(other.getHalfSize());
+   }
+}
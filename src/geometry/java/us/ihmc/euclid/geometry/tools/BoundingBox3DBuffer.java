@@ -0,0 +1,238 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.geometry.exceptions.BoundingBoxException;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Buffer of axis-aligned 3D bounding boxes stored in primitive arrays for testing a ray against many
+ * bounding boxes at once.
+ * <p>
+ * The bounding boxes are stored as a structure of arrays: one array per coordinate of the minimum
+ * and maximum corners. Testing a ray against the buffer runs the slab test on each bounding box in a
+ * single pass over contiguous arrays, without branching on the ray direction sign.
+ * </p>
+ * <p>
+ * The buffers grow as needed and are reused when the buffer is cleared, such that refilling it does
+ * not generate garbage once the buffers are large enough.
+ * </p>
+ * @see RayPacket3D
+ */
+public class BoundingBox3DBuffer
+{
+   private int numberOfBoundingBoxes = 0;
+   private double[] minX, minY, minZ;
+   private double[] maxX, maxY, maxZ;
+
+   /**
+    * Creates a new empty buffer.
+    */
+   public BoundingBox3DBuffer()
+   {
+      this(64);
+   }
+
+   /**
+    * Creates a new empty buffer with the given initial capacity.
+    *
+    * @param initialCapacity the number of bounding boxes the buffer can hold before growing.
+    */
+   public BoundingBox3DBuffer(int initialCapacity)
+   {
+      int capacity = Math.max(1, initialCapacity);
+      minX = new double[capacity];
+      minY = new double[capacity];
+      minZ = new double[capacity];
+      maxX = new double[capacity];
+      maxY = new double[capacity];
+      maxZ = new double[capacity];
+   }
+
+   /**
+    * Removes all the bounding boxes from this buffer.
+    */
+   public void clear()
+   {
+      numberOfBoundingBoxes = 0;
+   }
+
+   /**
+    * Adds a copy of the given bounding box to this buffer.
+    *
+    * @param boundingBox the bounding box to add. Not modified.
+    * @return the index of the new bounding box in this buffer.
+    * @throws BoundingBoxException if any of the minimum coordinates is strictly greater than the
+    *                              maximum coordinate on the same axis.
+    */
+   public int add(BoundingBox3DReadOnly boundingBox)
+   {
+      return add(boundingBox.getMinX(), boundingBox.getMinY(), boundingBox.getMinZ(), boundingBox.getMaxX(), boundingBox.getMaxY(), boundingBox.getMaxZ());
+   }
+
+   /**
+    * Adds a bounding box to this buffer.
+    *
+    * @param minX the minimum x-coordinate of the bounding box.
+    * @param minY the minimum y-coordinate of the bounding box.
+    * @param minZ the minimum z-coordinate of the bounding box.
+    * @param maxX the maximum x-coordinate of the bounding box.
+    * @param maxY the maximum y-coordinate of the bounding box.
+    * @param maxZ the maximum z-coordinate of the bounding box.
+    * @return the index of the new bounding box in this buffer.
+    * @throws BoundingBoxException if any of the minimum coordinates is strictly greater than the
+    *                              maximum coordinate on the same axis.
+    */
+   public int add(double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+   {
+      if (numberOfBoundingBoxes == this.minX.length)
+         grow();
+
+      set(numberOfBoundingBoxes++, minX, minY, minZ, maxX, maxY, maxZ);
+      return numberOfBoundingBoxes - 1;
+   }
+
+   /**
+    * Replaces the {@code index}<sup>th</sup> bounding box of this buffer.
+    *
+    * @param index       the index of the bounding box to replace.
+    * @param boundingBox the new bounding box. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *                                   {@code getNumberOfBoundingBoxes()}[.
+    * @throws BoundingBoxException      if any of the minimum coordinates is strictly greater than the
+    *                                   maximum coordinate on the same axis.
+    */
+   public void set(int index, BoundingBox3DReadOnly boundingBox)
+   {
+      checkIndex(index);
+      set(index, boundingBox.getMinX(), boundingBox.getMinY(), boundingBox.getMinZ(), boundingBox.getMaxX(), boundingBox.getMaxY(), boundingBox.getMaxZ());
+   }
+
+   private void set(int index, double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+   {
+      if (minX > maxX || minY > maxY || minZ > maxZ)
+         throw new BoundingBoxException(minX, minY, minZ, maxX, maxY, maxZ);
+
+      this.minX[index] = minX;
+      this.minY[index] = minY;
+      this.minZ[index] = minZ;
+      this.maxX[index] = maxX;
+      this.maxY[index] = maxY;
+      this.maxZ[index] = maxZ;
+   }
+
+   private void grow()
+   {
+      int newCapacity = 2 * minX.length;
+      minX = Arrays.copyOf(minX, newCapacity);
+      minY = Arrays.copyOf(minY, newCapacity);
+      minZ = Arrays.copyOf(minZ, newCapacity);
+      maxX = Arrays.copyOf(maxX, newCapacity);
+      maxY = Arrays.copyOf(maxY, newCapacity);
+      maxZ = Arrays.copyOf(maxZ, newCapacity);
+   }
+
+   /**
+    * Gets the number of bounding boxes in this buffer.
+    *
+    * @return the number of bounding boxes.
+    */
+   public int getNumberOfBoundingBoxes()
+   {
+      return numberOfBoundingBoxes;
+   }
+
+   /**
+    * Gets the {@code index}<sup>th</sup> bounding box of this buffer.
+    *
+    * @param index             the index of the bounding box.
+    * @param boundingBoxToPack the bounding box used to store the result. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *                                   {@code getNumberOfBoundingBoxes()}[.
+    */
+   public void getBoundingBox(int index, BoundingBox3DBasics boundingBoxToPack)
+   {
+      checkIndex(index);
+      boundingBoxToPack.set(minX[index], minY[index], minZ[index], maxX[index], maxY[index], maxZ[index]);
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= numberOfBoundingBoxes)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of bounding boxes: " + numberOfBoundingBoxes);
+   }
+
+   /**
+    * Tests a ray against every bounding box of this buffer.
+    * <p>
+    * A bounding box containing the ray origin intersects the ray with an entry distance of zero. For a
+    * bounding box that does not intersect the ray, the entry and exit distances are set to
+    * {@link Double#NaN}. A ray lying exactly in the plane of a face of a bounding box may be reported
+    * as not intersecting that bounding box.
+    * </p>
+    *
+    * @param rayOrigin            the origin of the ray. Not modified.
+    * @param rayDirection         the direction of the ray. It does not need to be a unit vector. Not
+    *                             modified.
+    * @param hitMaskToPack        the array in which the outcome of the test is stored for each
+    *                             bounding box. Its length has to be at least equal to the number of
+    *                             bounding boxes. Modified.
+    * @param entryDistancesToPack the array in which the distance from the ray origin to where it
+    *                             enters the bounding box is stored for each bounding box. Can be
+    *                             {@code null}. Modified.
+    * @param exitDistancesToPack  the array in which the distance from the ray origin to where it exits
+    *                             the bounding box is stored for each bounding box. Can be
+    *                             {@code null}. Modified.
+    * @return the number of bounding boxes intersecting the ray.
+    * @throws IllegalArgumentException if the ray direction is zero.
+    */
+   public int intersectWithRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, boolean[] hitMaskToPack, double[] entryDistancesToPack,
+                               double[] exitDistancesToPack)
+   {
+      double directionLength = rayDirection.length();
+
+      if (!(directionLength > 0.0))
+         throw new IllegalArgumentException("The ray direction cannot be zero.");
+
+      double originX = rayOrigin.getX();
+      double originY = rayOrigin.getY();
+      double originZ = rayOrigin.getZ();
+      double inverseDirectionX = directionLength / rayDirection.getX();
+      double inverseDirectionY = directionLength / rayDirection.getY();
+      double inverseDirectionZ = directionLength / rayDirection.getZ();
+
+      int numberOfHits = 0;
+
+      for (int i = 0; i < numberOfBoundingBoxes; i++)
+      {
+         double t1 = (minX[i] - originX) * inverseDirectionX;
+         double t2 = (maxX[i] - originX) * inverseDirectionX;
+         double tEnter = Math.min(t1, t2);
+         double tExit = Math.max(t1, t2);
+
+         t1 = (minY[i] - originY) * inverseDirectionY;
+         t2 = (maxY[i] - originY) * inverseDirectionY;
+         tEnter = Math.max(tEnter, Math.min(t1, t2));
+         tExit = Math.min(tExit, Math.max(t1, t2));
+
+         t1 = (minZ[i] - originZ) * inverseDirectionZ;
+         t2 = (maxZ[i] - originZ) * inverseDirectionZ;
+         tEnter = Math.max(Math.max(tEnter, Math.min(t1, t2)), 0.0);
+         tExit = Math.min(tExit, Math.max(t1, t2));
+
+         boolean hit = tEnter <= tExit;
+         hitMaskToPack[i] = hit;
+         numberOfHits += hit ? 1 : 0;
+
+         if (entryDistancesToPack != null)
+            entryDistancesToPack[i] = hit ? tEnter : Double.NaN;
+         if (exitDistancesToPack != null)
+            exitDistancesToPack[i] = hit ? tExit : Double.NaN;
+      }
+
+      return numberOfHits;
+   }
+}
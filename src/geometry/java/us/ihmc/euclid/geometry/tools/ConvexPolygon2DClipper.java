@@ -0,0 +1,321 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+import java.util.List;
+
+import us.ihmc.euclid.geometry.interfaces.BoundingBox2DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DBasics;
+import us.ihmc.euclid.geometry.interfaces.Line2DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+
+/**
+ * Clips convex polygons in the XY-plane against half-planes using the Sutherland-Hodgman
+ * algorithm.
+ * <p>
+ * A polygon can be clipped against a single half-plane described by a {@link Line2DReadOnly}, a
+ * {@link BoundingBox2DReadOnly}, or a list of half-planes. When clipping against a line, the part of
+ * the polygon that is kept is on the left side of the line when looking in the line direction.
+ * </p>
+ * <p>
+ * The input polygon can be any {@link Vertex2DSupplier} which vertices describe a convex polygon in
+ * either clockwise or counter-clockwise order, such as a {@code ConvexPolygon2D}. The vertices of the
+ * result are ordered the same way as the input. The result of the last clip is held by this clipper
+ * which is itself a {@link Vertex2DSupplier}, such that it can be passed to the next clip, or it can
+ * be packed into a {@link ConvexPolygon2DBasics}.
+ * </p>
+ * <p>
+ * This clipper uses two vertex buffers alternatively as source and destination of each clipping
+ * pass. The buffers grow as needed and are reused from one clip to the next, such that clipping
+ * does not generate garbage once the buffers are large enough.
+ * </p>
+ */
+public class ConvexPolygon2DClipper implements Vertex2DSupplier
+{
+   private final VertexBuffer bufferA = new VertexBuffer();
+   private final VertexBuffer bufferB = new VertexBuffer();
+   /** The buffer holding the result of the last clip. */
+   private VertexBuffer result = bufferA;
+
+   /**
+    * Creates a new clipper ready to be used.
+    */
+   public ConvexPolygon2DClipper()
+   {
+   }
+
+   /**
+    * Clips the given polygon against the half-plane located on the left side of the given line.
+    *
+    * @param polygon the convex polygon to clip. Not modified.
+    * @param line    the line bounding the half-plane to keep. Not modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex2DSupplier polygon, Line2DReadOnly line)
+   {
+      VertexBuffer target = otherBuffer(polygon);
+      clipWithLine(source(polygon), line, target);
+      result = target;
+      return !result.isEmpty();
+   }
+
+   /**
+    * Clips the given polygon against the half-plane located on the left side of the given line and
+    * packs the result in {@code clippedPolygonToPack}.
+    *
+    * @param polygon              the convex polygon to clip. Not modified.
+    * @param line                 the line bounding the half-plane to keep. Not modified.
+    * @param clippedPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex2DSupplier polygon, Line2DReadOnly line, ConvexPolygon2DBasics clippedPolygonToPack)
+   {
+      boolean isNotEmpty = clip(polygon, line);
+      clippedPolygonToPack.set(this);
+      return isNotEmpty;
+   }
+
+   /**
+    * Clips the given polygon against the given bounding box.
+    *
+    * @param polygon     the convex polygon to clip. Not modified.
+    * @param boundingBox the bounding box to clip the polygon against. Not modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex2DSupplier polygon, BoundingBox2DReadOnly boundingBox)
+   {
+      Vertex2DSupplier source = source(polygon);
+
+      for (int i = 0; i < 4; i++)
+      {
+         VertexBuffer target = otherBuffer(source);
+
+         switch (i)
+         {
+            case 0:
+               clipWithHalfPlane(source, boundingBox.getMinX(), 0.0, 1.0, 0.0, target);
+               break;
+            case 1:
+               clipWithHalfPlane(source, boundingBox.getMaxX(), 0.0, -1.0, 0.0, target);
+               break;
+            case 2:
+               clipWithHalfPlane(source, 0.0, boundingBox.getMinY(), 0.0, 1.0, target);
+               break;
+            default:
+               clipWithHalfPlane(source, 0.0, boundingBox.getMaxY(), 0.0, -1.0, target);
+               break;
+         }
+
+         source = target;
+
+         if (target.isEmpty())
+            break;
+      }
+
+      result = (VertexBuffer) source;
+      return !result.isEmpty();
+   }
+
+   /**
+    * Clips the given polygon against the given bounding box and packs the result in
+    * {@code clippedPolygonToPack}.
+    *
+    * @param polygon              the convex polygon to clip. Not modified.
+    * @param boundingBox          the bounding box to clip the polygon against. Not modified.
+    * @param clippedPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex2DSupplier polygon, BoundingBox2DReadOnly boundingBox, ConvexPolygon2DBasics clippedPolygonToPack)
+   {
+      boolean isNotEmpty = clip(polygon, boundingBox);
+      clippedPolygonToPack.set(this);
+      return isNotEmpty;
+   }
+
+   /**
+    * Clips the given polygon against the intersection of the half-planes located on the left side of
+    * the given lines.
+    * <p>
+    * The clipping stops as soon as the result is empty.
+    * </p>
+    *
+    * @param polygon the convex polygon to clip. Not modified.
+    * @param lines   the lines bounding the half-planes to keep. Not modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex2DSupplier polygon, List<? extends Line2DReadOnly> lines)
+   {
+      Vertex2DSupplier source = source(polygon);
+
+      if (lines.isEmpty())
+      {
+         VertexBuffer target = otherBuffer(source);
+         target.set(source);
+         source = target;
+      }
+
+      for (int i = 0; i < lines.size(); i++)
+      {
+         VertexBuffer target = otherBuffer(source);
+         clipWithLine(source, lines.get(i), target);
+         source = target;
+
+         if (target.isEmpty())
+            break;
+      }
+
+      result = (VertexBuffer) source;
+      return !result.isEmpty();
+   }
+
+   /**
+    * Clips the given polygon against the intersection of the half-planes located on the left side of
+    * the given lines and packs the result in {@code clippedPolygonToPack}.
+    *
+    * @param polygon              the convex polygon to clip. Not modified.
+    * @param lines                the lines bounding the half-planes to keep. Not modified.
+    * @param clippedPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex2DSupplier polygon, List<? extends Line2DReadOnly> lines, ConvexPolygon2DBasics clippedPolygonToPack)
+   {
+      boolean isNotEmpty = clip(polygon, lines);
+      clippedPolygonToPack.set(this);
+      return isNotEmpty;
+   }
+
+   private Vertex2DSupplier source(Vertex2DSupplier polygon)
+   {
+      // Clipping the result of the previous clip.
+      return polygon == this ? result : polygon;
+   }
+
+   private VertexBuffer otherBuffer(Vertex2DSupplier source)
+   {
+      if (source == this)
+         source = result;
+      return source == bufferA ? bufferB : bufferA;
+   }
+
+   private static void clipWithLine(Vertex2DSupplier source, Line2DReadOnly line, VertexBuffer target)
+   {
+      // The normal pointing toward the left side of the line.
+      clipWithHalfPlane(source, line.getPointX(), line.getPointY(), -line.getDirectionY(), line.getDirectionX(), target);
+   }
+
+   /**
+    * One pass of the Sutherland-Hodgman algorithm keeping the vertices such that
+    * {@code (vertex - point) . normal >= 0}.
+    */
+   private static void clipWithHalfPlane(Vertex2DSupplier source, double pointX, double pointY, double normalX, double normalY, VertexBuffer target)
+   {
+      target.clear();
+      int numberOfVertices = source.getNumberOfVertices();
+
+      if (numberOfVertices == 0)
+         return;
+
+      Point2DReadOnly previous = source.getVertex(numberOfVertices - 1);
+      double previousDistance = (previous.getX() - pointX) * normalX + (previous.getY() - pointY) * normalY;
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point2DReadOnly current = source.getVertex(i);
+         double currentDistance = (current.getX() - pointX) * normalX + (current.getY() - pointY) * normalY;
+
+         if (currentDistance >= 0.0)
+         {
+            if (previousDistance < 0.0)
+               target.addIntersection(previous, previousDistance, current, currentDistance);
+            target.add(current.getX(), current.getY());
+         }
+         else if (previousDistance >= 0.0)
+         {
+            target.addIntersection(previous, previousDistance, current, currentDistance);
+         }
+
+         previous = current;
+         previousDistance = currentDistance;
+      }
+
+      target.removeLastIfEqualToFirst();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public Point2DReadOnly getVertex(int index)
+   {
+      return result.getVertex(index);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public int getNumberOfVertices()
+   {
+      return result.getNumberOfVertices();
+   }
+
+   private static class VertexBuffer implements Vertex2DSupplier
+   {
+      private Point2D[] vertices = new Point2D[0];
+      private int size = 0;
+
+      void clear()
+      {
+         size = 0;
+      }
+
+      void set(Vertex2DSupplier other)
+      {
+         clear();
+         for (int i = 0; i < other.getNumberOfVertices(); i++)
+         {
+            Point2DReadOnly vertex = other.getVertex(i);
+            add(vertex.getX(), vertex.getY());
+         }
+      }
+
+      void addIntersection(Point2DReadOnly start, double startDistance, Point2DReadOnly end, double endDistance)
+      {
+         double alpha = startDistance / (startDistance - endDistance);
+         add(start.getX() + alpha * (end.getX() - start.getX()), start.getY() + alpha * (end.getY() - start.getY()));
+      }
+
+      void add(double x, double y)
+      {
+         if (size > 0 && vertices[size - 1].getX() == x && vertices[size - 1].getY() == y)
+            return;
+
+         if (size == vertices.length)
+         {
+            int newLength = Math.max(8, 2 * size);
+            vertices = Arrays.copyOf(vertices, newLength);
+            for (int i = size; i < newLength; i++)
+               vertices[i] = new Point2D();
+         }
+
+         vertices[size++].set(x, y);
+      }
+
+      void removeLastIfEqualToFirst()
+      {
+         if (size > 1 && vertices[0].equals(vertices[size - 1]))
+            size--;
+      }
+
+      @Override
+      public Point2DReadOnly getVertex(int index)
+      {
+         if (index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", number of vertices: " + size);
+         return vertices[index];
+      }
+
+      @Override
+      public int getNumberOfVertices()
+      {
+         return size;
+      }
+   }
+}
@@ -0,0 +1,872 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+import java.util.List;
+
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.Line2D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox2DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DBasics;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+
+/**
+ * Computes the Delaunay triangulation of a set of points in the XY-plane and derives the Voronoi
+ * cells from it.
+ * <p>
+ * The triangulation is computed incrementally with a sweep-hull algorithm: the points are inserted
+ * in order of distance from the circumcenter of a seed triangle such that each new point is outside
+ * the current triangulation. The new point is connected to the visible edges of the convex hull,
+ * after which the Delaunay condition is restored by flipping edges. Its complexity is in
+ * O(n.log(n)).
+ * </p>
+ * <p>
+ * The triangulation is stored in compact arrays of integers:
+ * <ul>
+ * <li>{@link #getTriangles()}: the triangle {@code t} is composed of the points which indices are
+ * stored at {@code 3 * t}, {@code 3 * t + 1}, and {@code 3 * t + 2}. The triangles are clockwise
+ * ordered.
+ * <li>{@link #getHalfEdges()}: the half-edge {@code e} goes from the point {@code triangles[e]} to
+ * the point {@code triangles[nextHalfEdge(e)]}, {@code halfEdges[e]} is the index of the opposite
+ * half-edge in the adjacent triangle, or {@code -1} if {@code e} is on the convex hull.
+ * <li>{@link #getHull()}: the indices of the points on the convex hull in clockwise order.
+ * </ul>
+ * </p>
+ * <p>
+ * The memory used by this triangulator grows as needed and is reused from one triangulation to the
+ * next.
+ * </p>
+ * <p>
+ * Edge cases:
+ * <ul>
+ * <li>duplicate points are not part of the triangulation: only one of them is triangulated and the
+ * others have an empty Voronoi cell.
+ * <li>if all the points are collinear, the triangulation is empty and the hull contains the points
+ * sorted along the line.
+ * </ul>
+ * </p>
+ * <p>
+ * The triangulation is a port of <a href="https://github.com/mapbox/delaunator">Delaunator</a> by
+ * Vladimir Agafonkin, which is distributed under the following license:
+ *
+ * <pre>
+ * ISC License
+ *
+ * Copyright (c) 2017, Mapbox
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any purpose
+ * with or without fee is hereby granted, provided that the above copyright notice
+ * and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES WITH
+ * REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY SPECIAL, DIRECT,
+ * INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES WHATSOEVER RESULTING FROM LOSS
+ * OF USE, DATA OR PROFITS, WHETHER IN AN ACTION OF CONTRACT, NEGLIGENCE OR OTHER
+ * TORTIOUS ACTION, ARISING OUT OF OR IN CONNECTION WITH THE USE OR PERFORMANCE OF
+ * THIS SOFTWARE.
+ * </pre>
+ * </p>
+ */
+public class DelaunayTriangulator2D
+{
+   /** Tolerance used to identify duplicate points. */
+   private static final double EPSILON = Math.ulp(1.0);
+
+   private int numberOfPoints = 0;
+   private double[] coordinates = new double[0];
+   private int numberOfTriangles = 0;
+   private int[] triangles = new int[0];
+   private int[] halfEdges = new int[0];
+   private int hullSize = 0;
+   private int[] hull = new int[0];
+
+   // Working memory.
+   private int[] ids = new int[0];
+   /** Whether each point is within {@link #EPSILON} of a point with a lower index. */
+   private boolean[] isDuplicate = new boolean[0];
+   /** Open addressing hash table of the point indices used to find the duplicates. */
+   private int[] pointHash = new int[0];
+   private double[] distances = new double[0];
+   private int[] hullPrevious = new int[0];
+   private int[] hullNext = new int[0];
+   private int[] hullTriangles = new int[0];
+   private int[] hullHash = new int[0];
+   private int hashSize;
+   private int hullStart;
+   private double centerX, centerY;
+   private int[] edgeStack = new int[64];
+   /** For each point, a half-edge ending at the point, preferably on the convex hull. */
+   private int[] incomingHalfEdges = new int[0];
+
+   private final ConvexPolygon2DClipper clipper = new ConvexPolygon2DClipper();
+   private final Line2D bisector = new Line2D();
+   private final Point2D[] boxVertices = {new Point2D(), new Point2D(), new Point2D(), new Point2D()};
+   private final Vertex2DSupplier boxVertexSupplier = Vertex2DSupplier.asVertex2DSupplier(boxVertices);
+   /** The Voronoi cell being computed. */
+   private Vertex2DSupplier cell;
+
+   /**
+    * Creates a new triangulator ready to be used.
+    */
+   public DelaunayTriangulator2D()
+   {
+   }
+
+   /**
+    * Computes the Delaunay triangulation of the given points.
+    *
+    * @param points the points to triangulate. Not modified.
+    * @return the number of triangles.
+    */
+   public int triangulate(Vertex2DSupplier points)
+   {
+      numberOfPoints = points.getNumberOfVertices();
+      numberOfTriangles = 0;
+      hullSize = 0;
+      ensureCapacity();
+
+      double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         Point2DReadOnly point = points.getVertex(i);
+         double x = point.getX();
+         double y = point.getY();
+         coordinates[2 * i] = x;
+         coordinates[2 * i + 1] = y;
+         minX = Math.min(minX, x);
+         minY = Math.min(minY, y);
+         maxX = Math.max(maxX, x);
+         maxY = Math.max(maxY, y);
+         ids[i] = i;
+         incomingHalfEdges[i] = -1;
+      }
+
+      if (numberOfPoints == 0)
+         return 0;
+
+      markDuplicates();
+
+      double boxCenterX = 0.5 * (minX + maxX);
+      double boxCenterY = 0.5 * (minY + maxY);
+
+      // Seed triangle: the point closest to the center, its closest neighbor, and the point making the smallest circumcircle with them.
+      int i0 = 0, i1 = 0, i2 = 0;
+      double minDistance = Double.POSITIVE_INFINITY;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         if (isDuplicate[i])
+            continue;
+         double distance = distanceSquared(boxCenterX, boxCenterY, x(i), y(i));
+         if (distance < minDistance)
+         {
+            i0 = i;
+            minDistance = distance;
+         }
+      }
+
+      minDistance = Double.POSITIVE_INFINITY;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         if (i == i0 || isDuplicate[i])
+            continue;
+         double distance = distanceSquared(x(i0), y(i0), x(i), y(i));
+         if (distance < minDistance)
+         {
+            i1 = i;
+            minDistance = distance;
+         }
+      }
+
+      double minRadius = Double.POSITIVE_INFINITY;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         if (i == i0 || i == i1 || isDuplicate[i])
+            continue;
+         double radius = circumradiusSquared(x(i0), y(i0), x(i1), y(i1), x(i), y(i));
+         if (radius < minRadius)
+         {
+            i2 = i;
+            minRadius = radius;
+         }
+      }
+
+      if (minRadius == Double.POSITIVE_INFINITY)
+      { // All the points are collinear, the hull is made of the points sorted along the line.
+         for (int i = 0; i < numberOfPoints; i++)
+         {
+            double dx = x(i) - x(0);
+            distances[i] = dx != 0.0 ? dx : y(i) - y(0);
+         }
+         quicksort(ids, distances, 0, numberOfPoints - 1);
+
+         for (int i = 0; i < numberOfPoints; i++)
+         {
+            int id = ids[i];
+            if (!isDuplicate[id])
+               hull[hullSize++] = id;
+         }
+         return 0;
+      }
+
+      // Making the seed triangle clockwise.
+      if (isCounterClockwise(x(i0), y(i0), x(i1), y(i1), x(i2), y(i2)))
+      {
+         int tmp = i1;
+         i1 = i2;
+         i2 = tmp;
+      }
+
+      computeCircumcenter(x(i0), y(i0), x(i1), y(i1), x(i2), y(i2));
+
+      for (int i = 0; i < numberOfPoints; i++)
+         distances[i] = distanceSquared(x(i), y(i), centerX, centerY);
+
+      quicksort(ids, distances, 0, numberOfPoints - 1);
+
+      hashSize = (int) Math.ceil(Math.sqrt(numberOfPoints));
+      if (hullHash.length < hashSize)
+         hullHash = new int[hashSize];
+      Arrays.fill(hullHash, 0, hashSize, -1);
+
+      hullStart = i0;
+      hullNext[i0] = hullPrevious[i2] = i1;
+      hullNext[i1] = hullPrevious[i0] = i2;
+      hullNext[i2] = hullPrevious[i1] = i0;
+      hullTriangles[i0] = 0;
+      hullTriangles[i1] = 1;
+      hullTriangles[i2] = 2;
+      hullHash[hashKey(x(i0), y(i0))] = i0;
+      hullHash[hashKey(x(i1), y(i1))] = i1;
+      hullHash[hashKey(x(i2), y(i2))] = i2;
+
+      addTriangle(i0, i1, i2, -1, -1, -1);
+
+      for (int k = 0; k < numberOfPoints; k++)
+      {
+         int i = ids[k];
+
+         if (isDuplicate[i] || i == i0 || i == i1 || i == i2)
+            continue;
+
+         double x = x(i);
+         double y = y(i);
+
+         // Finding a visible edge on the convex hull using the edge hash.
+         int start = 0;
+         for (int j = 0, key = hashKey(x, y); j < hashSize; j++)
+         {
+            start = hullHash[(key + j) % hashSize];
+            if (start != -1 && start != hullNext[start])
+               break;
+         }
+
+         start = hullPrevious[start];
+         int e = start;
+         int q;
+
+         while (!isCounterClockwise(x, y, x(e), y(e), x(q = hullNext[e]), y(q)))
+         {
+            e = q;
+            if (e == start)
+            {
+               e = -1;
+               break;
+            }
+         }
+
+         if (e == -1)
+            continue; // Round-off error, the point is not outside the hull.
+
+         // Adding the first triangle from the point.
+         int t = addTriangle(e, i, hullNext[e], -1, -1, hullTriangles[e]);
+
+         // Flipping triangles from the point until they satisfy the Delaunay condition.
+         hullTriangles[i] = legalize(t + 2);
+         hullTriangles[e] = t;
+
+         // Walking forward through the hull, adding more triangles and flipping.
+         int n = hullNext[e];
+         while (isCounterClockwise(x, y, x(n), y(n), x(q = hullNext[n]), y(q)))
+         {
+            t = addTriangle(n, i, q, hullTriangles[i], -1, hullTriangles[n]);
+            hullTriangles[i] = legalize(t + 2);
+            hullNext[n] = n; // Marking as removed.
+            n = q;
+         }
+
+         // Walking backward from the other side, adding more triangles and flipping.
+         if (e == start)
+         {
+            while (isCounterClockwise(x, y, x(q = hullPrevious[e]), y(q), x(e), y(e)))
+            {
+               t = addTriangle(q, i, e, -1, hullTriangles[e], hullTriangles[q]);
+               legalize(t + 2);
+               hullTriangles[q] = t;
+               hullNext[e] = e; // Marking as removed.
+               e = q;
+            }
+         }
+
+         // Updating the hull indices.
+         hullStart = hullPrevious[i] = e;
+         hullNext[e] = hullPrevious[n] = i;
+         hullNext[i] = n;
+
+         hullHash[hashKey(x, y)] = i;
+         hullHash[hashKey(x(e), y(e))] = e;
+      }
+
+      int e = hullStart;
+      do
+      {
+         hull[hullSize++] = e;
+         e = hullNext[e];
+      }
+      while (e != hullStart);
+
+      for (int halfEdge = 0; halfEdge < 3 * numberOfTriangles; halfEdge++)
+      {
+         int end = triangles[nextHalfEdge(halfEdge)];
+         if (halfEdges[halfEdge] == -1 || incomingHalfEdges[end] == -1)
+            incomingHalfEdges[end] = halfEdge;
+      }
+
+      return numberOfTriangles;
+   }
+
+   private void ensureCapacity()
+   {
+      if (ids.length < numberOfPoints)
+      {
+         int capacity = Math.max(numberOfPoints, 2 * ids.length);
+         coordinates = new double[2 * capacity];
+         ids = new int[capacity];
+         isDuplicate = new boolean[capacity];
+         distances = new double[capacity];
+         hullPrevious = new int[capacity];
+         hullNext = new int[capacity];
+         hullTriangles = new int[capacity];
+         hull = new int[capacity];
+         incomingHalfEdges = new int[capacity];
+         int maxNumberOfHalfEdges = 3 * Math.max(2 * capacity - 5, 0);
+         triangles = new int[maxNumberOfHalfEdges];
+         halfEdges = new int[maxNumberOfHalfEdges];
+      }
+   }
+
+   /**
+    * Marks the points that are within {@link #EPSILON} of a point with a lower index as duplicates.
+    * <p>
+    * The points are hashed on a grid which cells are {@link #EPSILON} wide such that each point only
+    * needs to be compared to the points in the 9 cells around it.
+    * </p>
+    */
+   private void markDuplicates()
+   {
+      int tableSize = Integer.highestOneBit(2 * numberOfPoints - 1) << 1;
+      if (pointHash.length < tableSize)
+         pointHash = new int[tableSize];
+      Arrays.fill(pointHash, 0, tableSize, -1);
+      int mask = tableSize - 1;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         // Adding 0.0 to turn -0.0 into 0.0 such that both hash to the same cell.
+         double cellX = Math.floor(x(i) / EPSILON) + 0.0;
+         double cellY = Math.floor(y(i) / EPSILON) + 0.0;
+         isDuplicate[i] = false;
+
+         for (int dx = -1; dx <= 1 && !isDuplicate[i]; dx++)
+         {
+            for (int dy = -1; dy <= 1 && !isDuplicate[i]; dy++)
+            {
+               for (int slot = cellHash(cellX + dx, cellY + dy) & mask; pointHash[slot] != -1; slot = (slot + 1) & mask)
+               {
+                  int other = pointHash[slot];
+
+                  if (Math.abs(x(i) - x(other)) <= EPSILON && Math.abs(y(i) - y(other)) <= EPSILON)
+                  {
+                     isDuplicate[i] = true;
+                     break;
+                  }
+               }
+            }
+         }
+
+         if (isDuplicate[i])
+            continue;
+
+         int slot = cellHash(cellX, cellY) & mask;
+         while (pointHash[slot] != -1)
+            slot = (slot + 1) & mask;
+         pointHash[slot] = i;
+      }
+   }
+
+   private static int cellHash(double cellX, double cellY)
+   {
+      long bits = 31L * Double.doubleToLongBits(cellX) + Double.doubleToLongBits(cellY);
+      bits ^= bits >>> 33;
+      bits *= 0xff51afd7ed558ccdL;
+      bits ^= bits >>> 33;
+      return (int) bits;
+   }
+
+   private int addTriangle(int i0, int i1, int i2, int a, int b, int c)
+   {
+      int t = 3 * numberOfTriangles;
+      triangles[t] = i0;
+      triangles[t + 1] = i1;
+      triangles[t + 2] = i2;
+      link(t, a);
+      link(t + 1, b);
+      link(t + 2, c);
+      numberOfTriangles++;
+      return t;
+   }
+
+   private void link(int a, int b)
+   {
+      halfEdges[a] = b;
+      if (b != -1)
+         halfEdges[b] = a;
+   }
+
+   /**
+    * Flips the edges starting from the half-edge {@code a} until the Delaunay condition is satisfied.
+    * The recursion is eliminated with a stack of half-edges to process.
+    */
+   private int legalize(int a)
+   {
+      int stackSize = 0;
+      int ar;
+
+      while (true)
+      {
+         int b = halfEdges[a];
+         int a0 = a - a % 3;
+         ar = a0 + (a + 2) % 3;
+
+         if (b == -1)
+         { // Convex hull edge.
+            if (stackSize == 0)
+               break;
+            a = edgeStack[--stackSize];
+            continue;
+         }
+
+         int b0 = b - b % 3;
+         int al = a0 + (a + 1) % 3;
+         int bl = b0 + (b + 2) % 3;
+
+         int p0 = triangles[ar];
+         int pr = triangles[a];
+         int pl = triangles[al];
+         int p1 = triangles[bl];
+
+         if (isInCircumcircle(x(p0), y(p0), x(pr), y(pr), x(pl), y(pl), x(p1), y(p1)))
+         {
+            triangles[a] = p1;
+            triangles[b] = p0;
+
+            int hbl = halfEdges[bl];
+
+            // The edge was swapped on the other side of the hull, fixing the half-edge reference.
+            if (hbl == -1)
+            {
+               int e = hullStart;
+               do
+               {
+                  if (hullTriangles[e] == bl)
+                  {
+                     hullTriangles[e] = a;
+                     break;
+                  }
+                  e = hullPrevious[e];
+               }
+               while (e != hullStart);
+            }
+
+            link(a, hbl);
+            link(b, halfEdges[ar]);
+            link(ar, bl);
+
+            if (stackSize == edgeStack.length)
+               edgeStack = Arrays.copyOf(edgeStack, 2 * stackSize);
+            edgeStack[stackSize++] = b0 + (b + 1) % 3;
+         }
+         else
+         {
+            if (stackSize == 0)
+               break;
+            a = edgeStack[--stackSize];
+         }
+      }
+
+      return ar;
+   }
+
+   private int hashKey(double x, double y)
+   {
+      return (int) Math.floor(pseudoAngle(x - centerX, y - centerY) * hashSize) % hashSize;
+   }
+
+   /**
+    * Monotonically increasing function of the angle of the vector, in [0, 1].
+    */
+   private static double pseudoAngle(double dx, double dy)
+   {
+      double p = dx / (Math.abs(dx) + Math.abs(dy));
+      return (dy > 0.0 ? 3.0 - p : 1.0 + p) / 4.0;
+   }
+
+   private void computeCircumcenter(double ax, double ay, double bx, double by, double cx, double cy)
+   {
+      double dx = bx - ax;
+      double dy = by - ay;
+      double ex = cx - ax;
+      double ey = cy - ay;
+      double bl = dx * dx + dy * dy;
+      double cl = ex * ex + ey * ey;
+      double d = 0.5 / (dx * ey - dy * ex);
+      centerX = ax + (ey * bl - dy * cl) * d;
+      centerY = ay + (dx * cl - ex * bl) * d;
+   }
+
+   private static double circumradiusSquared(double ax, double ay, double bx, double by, double cx, double cy)
+   {
+      double dx = bx - ax;
+      double dy = by - ay;
+      double ex = cx - ax;
+      double ey = cy - ay;
+      double bl = dx * dx + dy * dy;
+      double cl = ex * ex + ey * ey;
+      double d = 0.5 / (dx * ey - dy * ex);
+      double x = (ey * bl - dy * cl) * d;
+      double y = (dx * cl - ex * bl) * d;
+      return x * x + y * y;
+   }
+
+   /**
+    * Tests whether {@code p} is strictly inside the circumcircle of the clockwise triangle
+    * {@code abc}.
+    */
+   private static boolean isInCircumcircle(double ax, double ay, double bx, double by, double cx, double cy, double px, double py)
+   {
+      double dx = ax - px;
+      double dy = ay - py;
+      double ex = bx - px;
+      double ey = by - py;
+      double fx = cx - px;
+      double fy = cy - py;
+      double ap = dx * dx + dy * dy;
+      double bp = ex * ex + ey * ey;
+      double cp = fx * fx + fy * fy;
+      return dx * (ey * cp - bp * fy) - dy * (ex * cp - bp * fx) + ap * (ex * fy - ey * fx) < 0.0;
+   }
+
+   private static boolean isCounterClockwise(double px, double py, double qx, double qy, double rx, double ry)
+   {
+      return (qy - py) * (rx - qx) - (qx - px) * (ry - qy) < 0.0;
+   }
+
+   private static double distanceSquared(double ax, double ay, double bx, double by)
+   {
+      double dx = ax - bx;
+      double dy = ay - by;
+      return dx * dx + dy * dy;
+   }
+
+   /**
+    * Sorts the indices in {@code [left, right]} by increasing value of {@code keys[id]}.
+    */
+   private static void quicksort(int[] ids, double[] keys, int left, int right)
+   {
+      while (right - left > 20)
+      {
+         int median = (left + right) >> 1;
+         int i = left + 1;
+         int j = right;
+         swap(ids, median, i);
+         if (keys[ids[left]] > keys[ids[right]])
+            swap(ids, left, right);
+         if (keys[ids[i]] > keys[ids[right]])
+            swap(ids, i, right);
+         if (keys[ids[left]] > keys[ids[i]])
+            swap(ids, left, i);
+
+         int temp = ids[i];
+         double tempKey = keys[temp];
+
+         while (true)
+         {
+            do
+               i++;
+            while (keys[ids[i]] < tempKey);
+            do
+               j--;
+            while (keys[ids[j]] > tempKey);
+            if (j < i)
+               break;
+            swap(ids, i, j);
+         }
+
+         ids[left + 1] = ids[j];
+         ids[j] = temp;
+
+         // Recursing on the smaller side to bound the stack depth.
+         if (right - i + 1 >= j - left)
+         {
+            quicksort(ids, keys, left, j - 1);
+            left = i;
+         }
+         else
+         {
+            quicksort(ids, keys, i, right);
+            right = j - 1;
+         }
+      }
+
+      // Insertion sort for the small ranges.
+      for (int i = left + 1; i <= right; i++)
+      {
+         int temp = ids[i];
+         double tempKey = keys[temp];
+         int j = i - 1;
+         while (j >= left && keys[ids[j]] > tempKey)
+         {
+            ids[j + 1] = ids[j];
+            j--;
+         }
+         ids[j + 1] = temp;
+      }
+   }
+
+   private static void swap(int[] array, int i, int j)
+   {
+      int tmp = array[i];
+      array[i] = array[j];
+      array[j] = tmp;
+   }
+
+   private double x(int index)
+   {
+      return coordinates[2 * index];
+   }
+
+   private double y(int index)
+   {
+      return coordinates[2 * index + 1];
+   }
+
+   /**
+    * Computes the Voronoi cell of the {@code index}<sup>th</sup> point clipped to the given bounding
+    * box.
+    * <p>
+    * The cell is computed as the intersection of the bounding box with the half-planes closer to the
+    * point than to each of its neighbors in the triangulation. When the triangulation is empty, i.e.
+    * the points are collinear or less than 3, all the other points are used as neighbors.
+    * </p>
+    *
+    * @param index       the index of the point.
+    * @param boundingBox the bounding box to clip the cell to. Not modified.
+    * @param cellToPack  the polygon in which the cell is stored. Modified.
+    * @return {@code true} if the cell is not empty, {@code false} if the point is a duplicate or is
+    *         such that its cell does not intersect the bounding box.
+    */
+   public boolean getVoronoiCell(int index, BoundingBox2DReadOnly boundingBox, ConvexPolygon2DBasics cellToPack)
+   {
+      if (index < 0 || index >= numberOfPoints)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of points: " + numberOfPoints);
+
+      if (isDuplicate[index])
+      {
+         cellToPack.clearAndUpdate();
+         return false;
+      }
+
+      boxVertices[0].set(boundingBox.getMinX(), boundingBox.getMinY());
+      boxVertices[1].set(boundingBox.getMinX(), boundingBox.getMaxY());
+      boxVertices[2].set(boundingBox.getMaxX(), boundingBox.getMaxY());
+      boxVertices[3].set(boundingBox.getMaxX(), boundingBox.getMinY());
+      cell = boxVertexSupplier;
+
+      if (numberOfTriangles == 0)
+      {
+         for (int neighbor = 0; neighbor < numberOfPoints && !cell.isEmpty(); neighbor++)
+         {
+            if (neighbor != index && !isDuplicate[neighbor])
+               clipCellWithBisector(index, neighbor);
+         }
+      }
+      else
+      {
+         int e0 = incomingHalfEdges[index];
+
+         if (e0 == -1)
+         { // The point could not be inserted in the triangulation.
+            cellToPack.clearAndUpdate();
+            return false;
+         }
+
+         int e = e0;
+
+         do
+         {
+            clipCellWithBisector(index, triangles[e]);
+            int outgoing = nextHalfEdge(e);
+
+            if (halfEdges[outgoing] == -1)
+            { // Last edge around a point on the hull.
+               clipCellWithBisector(index, triangles[nextHalfEdge(outgoing)]);
+               break;
+            }
+
+            e = halfEdges[outgoing];
+         }
+         while (!cell.isEmpty() && e != e0);
+      }
+
+      cellToPack.set(cell);
+      return !cell.isEmpty();
+   }
+
+   /**
+    * Computes the Voronoi cells of all the points clipped to the given bounding box.
+    * <p>
+    * The list is reused: the convex polygons it already contains are recycled, new ones are added
+    * when needed, and the list is trimmed to the number of points.
+    * </p>
+    *
+    * @param boundingBox the bounding box to clip the cells to. Not modified.
+    * @param cellsToPack the list in which the cells are stored, the i<sup>th</sup> cell being the
+    *                    cell of the i<sup>th</sup> point. Modified.
+    * @see #getVoronoiCell(int, BoundingBox2DReadOnly, ConvexPolygon2DBasics)
+    */
+   public void getVoronoiCells(BoundingBox2DReadOnly boundingBox, List<ConvexPolygon2D> cellsToPack)
+   {
+      while (cellsToPack.size() > numberOfPoints)
+         cellsToPack.remove(cellsToPack.size() - 1);
+      while (cellsToPack.size() < numberOfPoints)
+         cellsToPack.add(new ConvexPolygon2D());
+
+      for (int i = 0; i < numberOfPoints; i++)
+         getVoronoiCell(i, boundingBox, cellsToPack.get(i));
+   }
+
+   /**
+    * Clips the cell with the half-plane containing the points closer to the point {@code index} than
+    * to the point {@code neighbor}.
+    */
+   private void clipCellWithBisector(int index, int neighbor)
+   {
+      double normalX = x(index) - x(neighbor);
+      double normalY = y(index) - y(neighbor);
+
+      // The line direction is such that the point is on its left side.
+      bisector.getPoint().set(0.5 * (x(index) + x(neighbor)), 0.5 * (y(index) + y(neighbor)));
+      bisector.getDirection().set(normalY, -normalX);
+      clipper.clip(cell, bisector);
+      cell = clipper;
+   }
+
+   /**
+    * Gets the number of points from the last triangulation.
+    *
+    * @return the number of points.
+    */
+   public int getNumberOfPoints()
+   {
+      return numberOfPoints;
+   }
+
+   /**
+    * Gets the number of triangles from the last triangulation.
+    *
+    * @return the number of triangles.
+    */
+   public int getNumberOfTriangles()
+   {
+      return numberOfTriangles;
+   }
+
+   /**
+    * Gets the internal reference to the array containing the triangles as triplets of point indices.
+    * <p>
+    * Only the first {@code 3 * getNumberOfTriangles()} elements are valid.
+    * </p>
+    *
+    * @return the triangles.
+    */
+   public int[] getTriangles()
+   {
+      return triangles;
+   }
+
+   /**
+    * Gets the internal reference to the array containing for each half-edge the index of the opposite
+    * half-edge, or {@code -1} for the half-edges on the convex hull.
+    * <p>
+    * Only the first {@code 3 * getNumberOfTriangles()} elements are valid.
+    * </p>
+    *
+    * @return the half-edges.
+    */
+   public int[] getHalfEdges()
+   {
+      return halfEdges;
+   }
+
+   /**
+    * Gets the number of points on the convex hull.
+    *
+    * @return the size of the convex hull.
+    */
+   public int getHullSize()
+   {
+      return hullSize;
+   }
+
+   /**
+    * Gets the internal reference to the array containing the indices of the points on the convex
+    * hull in clockwise order.
+    * <p>
+    * Only the first {@link #getHullSize()} elements are valid.
+    * </p>
+    *
+    * @return the convex hull.
+    */
+   public int[] getHull()
+   {
+      return hull;
+   }
+
+   /**
+    * Gets the index of the half-edge following the given half-edge in its triangle.
+    *
+    * @param halfEdge the index of the half-edge.
+    * @return the index of the next half-edge.
+    */
+   public static int nextHalfEdge(int halfEdge)
+   {
+      return halfEdge % 3 == 2 ? halfEdge - 2 : halfEdge + 1;
+   }
+
+   /**
+    * Gets the index of the half-edge preceding the given half-edge in its triangle.
+    *
+    * @param halfEdge the index of the half-edge.
+    * @return the index of the previous half-edge.
+    */
+   public static int previousHalfEdge(int halfEdge)
+   {
+      return halfEdge % 3 == 0 ? halfEdge + 2 : halfEdge - 1;
+   }
+}
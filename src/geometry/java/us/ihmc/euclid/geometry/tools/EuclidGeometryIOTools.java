@@ -1,6 +1,7 @@
 package us.ihmc.euclid.geometry.tools;
 
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.DEFAULT_FORMAT;
+import static us.ihmc.euclid.tools.EuclidCoreIOTools.getStringAsYawPitchRoll;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getStringOf;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getTuple2DString;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getTuple3DString;
@@ -17,6 +18,7 @@ import us.ihmc.euclid.geometry.interfaces.Line2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Line3DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.LineSegment2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.LineSegment3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Pose2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Pose3DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Triangle3DReadOnly;
@@ -457,6 +459,46 @@ public class EuclidGeometryIOTools
       return "Bounding Box 3D: min = " + getTuple3DString(format, boundingBoxMin) + ", max = " + getTuple3DString(format, boundingBoxMax);
    }
 
+   /**
+    * Gets a representative {@code String} of {@code orientedBoundingBox3D} as follows:
+    *
+    * <pre>
+    * Oriented Bounding Box 3D: [center: ( 0.540,  0.110,  0.319 ), yaw-pitch-roll: (-2.061, -0.904, -1.136), half-size: ( 0.191,  0.719,  0.479 )]
+    * </pre>
+    *
+    * @param orientedBoundingBox3D the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getOrientedBoundingBox3DString(OrientedBoundingBox3DReadOnly orientedBoundingBox3D)
+   {
+      return getOrientedBoundingBox3DString(DEFAULT_FORMAT, orientedBoundingBox3D);
+   }
+
+   /**
+    * Gets a representative {@code String} of {@code orientedBoundingBox3D} given a specific format to
+    * use.
+    * <p>
+    * Using the default format {@link #DEFAULT_FORMAT}, this provides a {@code String} as follows:
+    *
+    * <pre>
+    * Oriented Bounding Box 3D: [center: ( 0.540,  0.110,  0.319 ), yaw-pitch-roll: (-2.061, -0.904, -1.136), half-size: ( 0.191,  0.719,  0.479 )]
+    * </pre>
+    * </p>
+    *
+    * @param format                the format to use for each number.
+    * @param orientedBoundingBox3D the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getOrientedBoundingBox3DString(String format, OrientedBoundingBox3DReadOnly orientedBoundingBox3D)
+   {
+      if (orientedBoundingBox3D == null)
+         return "null";
+      else
+         return "Oriented Bounding Box 3D: [center: " + getTuple3DString(format, orientedBoundingBox3D.getCenter()) + ", "
+               + getStringAsYawPitchRoll(format, orientedBoundingBox3D.getOrientation()) + ", half-size: "
+               + getTuple3DString(format, orientedBoundingBox3D.getHalfSize()) + "]";
+   }
+
    /**
     * Gets a representative {@code String} of {@code orientation2D} as follows:
     *
@@ -11,6 +11,7 @@ import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.distanceSquaredB
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.distanceSquaredFromPoint2DToLineSegment2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.doLine2DAndLineSegment2DIntersect;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.intersectionBetweenLine2DAndLineSegment2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.intersectionBetweenTwoLineSegment2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DInFrontOfRay2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnLeftSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnLine2D;
@@ -24,6 +25,10 @@ import java.util.List;
 import java.util.Random;
 
 import us.ihmc.euclid.geometry.Bound;
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.exceptions.OutdatedPolygonException;
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DBasics;
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tuple2D.Point2D;
@@ -41,6 +46,17 @@ public class EuclidGeometryPolygonTools
 {
    private static final Random random = new Random();
    static final double EPSILON = 1.0e-7;
+   /**
+    * Maximum number of vertices for which {@link #inPlaceConvexHull2D(List, int)} uses the gift
+    * wrapping algorithm, above this number the monotone chain algorithm is used.
+    */
+   public static final int GIFT_WRAP_MAX_NUMBER_OF_VERTICES = 32;
+   /**
+    * Maximum number of vertices for which the queries on a convex polygon, such as
+    * {@link #isPoint2DInsideConvexPolygon2D(double, double, List, int, boolean)}, iterate over all the
+    * edges. Above this number, the queries rely on binary searches and run in O(log(n)).
+    */
+   public static final int LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES = 16;
 
    private EuclidGeometryPolygonTools()
    {
@@ -118,6 +134,8 @@ public class EuclidGeometryPolygonTools
     * <p>
     * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
     * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * When several vertices lie on an edge of the hull, only the two extremities of the edge are part
+    * of the hull.
     * </p>
     *
     * @param vertices the 2D point cloud from which the convex hull is to be computed. Modified.
@@ -137,6 +155,8 @@ public class EuclidGeometryPolygonTools
     * <p>
     * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
     * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * When several vertices lie on an edge of the hull, only the two extremities of the edge are part
+    * of the hull.
     * </p>
     *
     * @param vertices         the 2D point cloud from which the convex hull is to be computed.
@@ -197,7 +217,7 @@ public class EuclidGeometryPolygonTools
                continue;
             }
 
-            if (isPoint2DOnLeftSideOfLine2D(vertex, lastHullVertex, candidateVertex))
+            if (isPoint2DOnLeftSideOfLine2D(vertex, lastHullVertex, candidateVertex) || isFurtherAlongLine2D(vertex, lastHullVertex, candidateVertex))
             { // vertex is located outside => candidateVertex is not the next polygon vertex, vertex might be though.
                candidateIndex = wrappedIndex;
                candidateVertex = vertex;
@@ -325,6 +345,371 @@ public class EuclidGeometryPolygonTools
       return numberOfVertices;
    }
 
+   /**
+    * In-place and garbage free implementation of the
+    * <a href="https://en.wikibooks.org/wiki/Algorithm_Implementation/Geometry/Convex_hull/Monotone_chain">
+    * Andrew's monotone chain algorithm</a> for computing the convex hull 2D of a set of points.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * The vertices that do not belong to the convex hull are sorted lexicographically, such that
+    * processing the list a second time does not modify it.
+    * </p>
+    * <p>
+    * This algorithm runs in O(n log(n)) independently of the number of vertices on the convex hull,
+    * which makes it preferable to {@link #inPlaceGiftWrapConvexHull2D(List, int)} for large point
+    * clouds.
+    * </p>
+    *
+    * @param vertices the 2D point cloud from which the convex hull is to be computed. Modified.
+    * @return the size of the convex hull.
+    */
+   public static int inPlaceMonotoneChainConvexHull2D(List<? extends Point2DReadOnly> vertices)
+   {
+      return inPlaceMonotoneChainConvexHull2D(vertices, vertices.size());
+   }
+
+   /**
+    * In-place and garbage free implementation of the
+    * <a href="https://en.wikibooks.org/wiki/Algorithm_Implementation/Geometry/Convex_hull/Monotone_chain">
+    * Andrew's monotone chain algorithm</a> for computing the convex hull 2D of a set of points.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * The vertices that do not belong to the convex hull are sorted lexicographically, such that
+    * processing the list a second time does not modify it.
+    * </p>
+    * <p>
+    * This algorithm runs in O(n log(n)) independently of the number of vertices on the convex hull,
+    * which makes it preferable to {@link #inPlaceGiftWrapConvexHull2D(List, int)} for large point
+    * clouds.
+    * </p>
+    *
+    * @param vertices         the 2D point cloud from which the convex hull is to be computed.
+    *                         Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
+    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices.
+    */
+   public static int inPlaceMonotoneChainConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      if (numberOfVertices == 0)
+         return 0;
+
+      checkNumberOfVertices(vertices, numberOfVertices);
+
+      if (numberOfVertices == 1)
+         return 1;
+
+      lexicographicSort(vertices, 0, numberOfVertices);
+
+      /*
+       * Upper chain: from the min to the max vertex going clockwise. The chain is stored in [0,
+       * upperChainSize[, the vertices that are swapped out of the chain are pushed further in the list.
+       */
+      int upperChainSize = 1;
+
+      for (int vertexIndex = 1; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         Point2DReadOnly vertex = vertices.get(vertexIndex);
+
+         if (vertex.epsilonEquals(vertices.get(upperChainSize - 1), EPSILON))
+            continue; // Remove duplicate vertices
+
+         while (upperChainSize >= 2 && !isPoint2DOnSideOfLine2D(vertex, vertices.get(upperChainSize - 2), vertices.get(upperChainSize - 1), false))
+            upperChainSize--;
+
+         Collections.swap(vertices, upperChainSize++, vertexIndex);
+      }
+
+      if (upperChainSize == 1)
+         return 1;
+
+      /*
+       * Lower chain: from the max back to the min vertex going clockwise. The remaining candidates are
+       * sorted in decreasing order, the chain starts with the last vertex of the upper chain.
+       */
+      lexicographicSort(vertices, upperChainSize, numberOfVertices);
+      reverse(vertices, upperChainSize, numberOfVertices);
+
+      int hullSize = upperChainSize;
+      int lowerChainStartIndex = upperChainSize - 1;
+      Point2DReadOnly firstVertex = vertices.get(0);
+
+      for (int vertexIndex = upperChainSize; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         Point2DReadOnly vertex = vertices.get(vertexIndex);
+
+         if (vertex.epsilonEquals(vertices.get(hullSize - 1), EPSILON) || vertex.epsilonEquals(firstVertex, EPSILON))
+            continue; // Remove duplicate vertices
+
+         while (hullSize - lowerChainStartIndex >= 2 && !isPoint2DOnSideOfLine2D(vertex, vertices.get(hullSize - 2), vertices.get(hullSize - 1), false))
+            hullSize--;
+
+         Collections.swap(vertices, hullSize++, vertexIndex);
+      }
+
+      // Closing the hull with the first vertex.
+      while (hullSize - lowerChainStartIndex >= 2 && !isPoint2DOnSideOfLine2D(firstVertex, vertices.get(hullSize - 2), vertices.get(hullSize - 1), false))
+         hullSize--;
+
+      // The hull starts with the min x, min y vertex, shift it to start with the min x, max y vertex.
+      if (vertices.get(1).getX() == firstVertex.getX())
+         moveElementToEnd(vertices, 0, hullSize);
+
+      lexicographicSort(vertices, hullSize, numberOfVertices);
+
+      return hullSize;
+   }
+
+   /**
+    * Computes in-place the convex hull 2D of a set of points, the algorithm is selected depending on
+    * the number of vertices:
+    * <ul>
+    * <li>{@link #inPlaceGiftWrapConvexHull2D(List, int)} is used for small point clouds, i.e. with a
+    * number of vertices less or equal to {@value #GIFT_WRAP_MAX_NUMBER_OF_VERTICES}, for which its
+    * O(n&middot;h) complexity is not an issue.
+    * <li>{@link #inPlaceMonotoneChainConvexHull2D(List, int)} is used otherwise.
+    * </ul>
+    * In addition, when the vertices already form a strictly convex polygon ordered clockwise, which
+    * can be verified in O(n), the vertices are only rotated to start with the min x, max y vertex.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex hull
+    * are positioned first. The method returns the number of vertices that compose the convex hull.
+    * </p>
+    * <p>
+    * Whichever algorithm is used, the vertices lying on an edge of the hull are not part of the
+    * result, such that the output does not depend on the number of vertices.
+    * </p>
+    *
+    * @param vertices         the 2D point cloud from which the convex hull is to be computed.
+    *                         Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
+    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices.
+    */
+   public static int inPlaceConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      if (isStrictlyConvexClockwisePolygon2D(vertices, numberOfVertices))
+      {
+         int minXMaxYIndex = findMinXMaxYVertexIndex(vertices, numberOfVertices);
+         reverse(vertices, 0, minXMaxYIndex);
+         reverse(vertices, minXMaxYIndex, numberOfVertices);
+         reverse(vertices, 0, numberOfVertices);
+         return numberOfVertices;
+      }
+
+      if (numberOfVertices <= GIFT_WRAP_MAX_NUMBER_OF_VERTICES)
+         return inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices);
+      else
+         return inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices);
+   }
+
+   /**
+    * Adds vertices to an existing convex hull 2D without recomputing it entirely.
+    * <p>
+    * The vertices in [0, {@code hullSize}[ are expected to form a clockwise convex hull, as obtained
+    * from {@link #inPlaceConvexHull2D(List, int)}, while the vertices in [{@code hullSize},
+    * {@code numberOfVertices}[ are the new vertices to be added. The algorithm proceeds in two steps:
+    * <ol>
+    * <li>the new vertices that are inside or on the current hull are discarded, each test is a
+    * binary search in O(log(h)) where h is the size of the hull.
+    * <li>the remaining vertices are inserted one at a time. The two tangents from a new vertex to the
+    * hull are found using binary searches in O(log(h)), then the vertices that are no longer part of
+    * the hull are removed and the new vertex inserted in a single pass over the hull in O(h).
+    * </ol>
+    * </p>
+    * <p>
+    * As for {@link #inPlaceConvexHull2D(List, int)}, the given list {@code vertices} is reordered such
+    * that the vertices of the clockwise convex hull are positioned first starting with the min x, max
+    * y vertex, and the vertices lying on an edge of the hull are not part of it. The method returns
+    * the number of vertices that compose the convex hull.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>the convex hull is computed from scratch using {@link #inPlaceConvexHull2D(List, int)} when
+    * the current hull has less than 3 vertices or is not strictly convex, when the number of vertices
+    * to add is greater than the size of the current hull, or when more than log2(n) of the new
+    * vertices are outside the current hull, in which case inserting them one at a time is not cheaper
+    * than recomputing the hull.
+    * </ul>
+    * </p>
+    *
+    * @param vertices         the list containing the current convex hull followed by the vertices to
+    *                         add. Modified.
+    * @param hullSize         the number of vertices forming the current convex hull.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
+    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the size
+    *                                  of the given list of vertices, or if {@code hullSize} is not in
+    *                                  [0, {@code numberOfVertices}].
+    */
+   public static int inPlaceAddVerticesToConvexHull2D(List<? extends Point2DReadOnly> vertices, int hullSize, int numberOfVertices)
+   {
+      checkNumberOfVertices(vertices, numberOfVertices);
+
+      if (hullSize < 0 || hullSize > numberOfVertices)
+         throw new IllegalArgumentException("Illegal hull size: " + hullSize + ", expected to be in [0, " + numberOfVertices + "].");
+
+      if (hullSize == numberOfVertices)
+         return hullSize;
+
+      if (hullSize < 3 || numberOfVertices - hullSize > hullSize || !isStrictlyConvexClockwisePolygon2D(vertices, hullSize))
+         return inPlaceConvexHull2D(vertices, numberOfVertices);
+
+      // Pick a point strictly inside the hull, it remains inside as the hull grows.
+      Point2DReadOnly a = vertices.get(0);
+      Point2DReadOnly b = vertices.get(hullSize / 3);
+      Point2DReadOnly c = vertices.get(2 * hullSize / 3);
+
+      if (!isPoint2DOnSideOfLine2D(c, a, b, false))
+         return inPlaceConvexHull2D(vertices, numberOfVertices);
+
+      double interiorX = (a.getX() + b.getX() + c.getX()) / 3.0;
+      double interiorY = (a.getY() + b.getY() + c.getY()) / 3.0;
+
+      /*
+       * First pass: the vertices inside the current hull are moved right after the hull. The list is
+       * then organized as follows: [0, hullSize[ is the current hull, [hullSize, vertexIndex[ are the
+       * vertices that are not part of the hull, and the remaining vertices are the ones left to insert.
+       */
+      int firstVertexToInsertIndex = hullSize;
+
+      for (int vertexIndex = hullSize; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         if (isInsideConvexHull(vertices.get(vertexIndex), vertices, hullSize, interiorX, interiorY))
+            Collections.swap(vertices, firstVertexToInsertIndex++, vertexIndex);
+      }
+
+      if (numberOfVertices - firstVertexToInsertIndex > 32 - Integer.numberOfLeadingZeros(numberOfVertices))
+         return inPlaceConvexHull2D(vertices, numberOfVertices);
+
+      for (int vertexIndex = firstVertexToInsertIndex; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         Point2DReadOnly vertex = vertices.get(vertexIndex);
+         double x = vertex.getX();
+         double y = vertex.getY();
+
+         if (isInsideConvexHull(vertex, vertices, hullSize, interiorX, interiorY))
+            continue; // The vertex is inside the hull which has grown since the first pass.
+
+         int sectorIndex = findSectorIndex(vertices, hullSize, true, interiorX, interiorY, x - interiorX, y - interiorY);
+         // The edge facing the interior point from the opposite side of the vertex is not visible.
+         int hiddenEdgeIndex = findSectorIndex(vertices, hullSize, true, interiorX, interiorY, interiorX - x, interiorY - y);
+
+         if (isEdgeVisible(x, y, vertices.get(hiddenEdgeIndex), vertices.get(next(hiddenEdgeIndex, hullSize)), false))
+         { // Numerical issue, this should not happen.
+            return inPlaceConvexHull2D(vertices, numberOfVertices);
+         }
+
+         /*
+          * Binary search for the first visible edge, the edges go from hidden to visible. The edges which
+          * are aligned with the vertex are considered visible, such that the vertex they end with is
+          * removed and the hull remains strictly convex.
+          */
+         int low = 0;
+         int high = wrap(sectorIndex - hiddenEdgeIndex, hullSize);
+
+         while (high - low > 1)
+         {
+            int mid = (low + high) / 2;
+            int edgeIndex = wrap(hiddenEdgeIndex + mid, hullSize);
+            if (isEdgeVisible(x, y, vertices.get(edgeIndex), vertices.get(next(edgeIndex, hullSize)), false))
+               high = mid;
+            else
+               low = mid;
+         }
+
+         int firstVisibleEdgeIndex = wrap(hiddenEdgeIndex + high, hullSize);
+
+         // Binary search for the last visible edge, the edges go from visible to hidden.
+         low = 0;
+         high = wrap(hiddenEdgeIndex - sectorIndex, hullSize);
+
+         while (high - low > 1)
+         {
+            int mid = (low + high) / 2;
+            int edgeIndex = wrap(sectorIndex + mid, hullSize);
+            if (isEdgeVisible(x, y, vertices.get(edgeIndex), vertices.get(next(edgeIndex, hullSize)), false))
+               low = mid;
+            else
+               high = mid;
+         }
+
+         int lastVisibleEdgeIndex = wrap(sectorIndex + low, hullSize);
+
+         if (vertex.epsilonEquals(vertices.get(firstVisibleEdgeIndex), EPSILON)
+               || vertex.epsilonEquals(vertices.get(next(lastVisibleEdgeIndex, hullSize)), EPSILON))
+         { // Duplicate vertex.
+            continue;
+         }
+
+         /*
+          * The vertices in ]firstVisibleEdgeIndex, lastVisibleEdgeIndex] are removed from the hull and the
+          * new vertex is inserted in their place. The removed vertices are moved right after the hull,
+          * where they join the vertices that are not part of the hull, using a single rotation of the hull.
+          */
+         int numberOfVerticesToRemove = wrap(lastVisibleEdgeIndex - firstVisibleEdgeIndex, hullSize);
+
+         if (numberOfVerticesToRemove == 0)
+         { // Nothing to remove, the new vertex is moved right after the hull and rotated into place.
+            Collections.swap(vertices, hullSize, vertexIndex);
+            rotateLeft(vertices, firstVisibleEdgeIndex + 1, hullSize + 1, hullSize - firstVisibleEdgeIndex - 1);
+            hullSize++;
+         }
+         else if (firstVisibleEdgeIndex + numberOfVerticesToRemove >= hullSize)
+         { // The vertices to remove wrap around, the hull is rotated to start right after them.
+            rotateLeft(vertices, 0, hullSize, lastVisibleEdgeIndex + 1);
+            hullSize -= numberOfVerticesToRemove;
+            Collections.swap(vertices, hullSize, vertexIndex);
+            hullSize++;
+         }
+         else
+         { // The new vertex takes the place of the first vertex to remove, the others are moved to the end of the hull.
+            Collections.swap(vertices, firstVisibleEdgeIndex + 1, vertexIndex);
+            rotateLeft(vertices, firstVisibleEdgeIndex + 2, hullSize, numberOfVerticesToRemove - 1);
+            hullSize -= numberOfVerticesToRemove - 1;
+         }
+      }
+
+      // Shift the hull such that it starts with the min x, max y vertex.
+      rotateLeft(vertices, 0, hullSize, findMinXMaxYVertexIndex(vertices, hullSize));
+
+      return hullSize;
+   }
+
+   /**
+    * Tests whether the given vertex is inside or on the convex hull, or equal to one of its vertices,
+    * using a binary search around the given interior point.
+    */
+   private static boolean isInsideConvexHull(Point2DReadOnly vertex, List<? extends Point2DReadOnly> hull, int hullSize, double interiorX, double interiorY)
+   {
+      int sectorIndex = findSectorIndex(hull, hullSize, true, interiorX, interiorY, vertex.getX() - interiorX, vertex.getY() - interiorY);
+      Point2DReadOnly sectorStart = hull.get(sectorIndex);
+      Point2DReadOnly sectorEnd = hull.get(next(sectorIndex, hullSize));
+      return !isEdgeVisible(vertex.getX(), vertex.getY(), sectorStart, sectorEnd, true) || vertex.epsilonEquals(sectorStart, EPSILON)
+            || vertex.epsilonEquals(sectorEnd, EPSILON);
+   }
+
+   /**
+    * Tests whether {@code vertex} is on the line going through {@code origin} and {@code candidate},
+    * and further than {@code candidate} from {@code origin} in the same direction.
+    */
+   private static boolean isFurtherAlongLine2D(Point2DReadOnly vertex, Point2DReadOnly origin, Point2DReadOnly candidate)
+   {
+      double candidateX = candidate.getX() - origin.getX();
+      double candidateY = candidate.getY() - origin.getY();
+      double vertexX = vertex.getX() - origin.getX();
+      double vertexY = vertex.getY() - origin.getY();
+      return cross(candidateX, candidateY, vertexX, vertexY) == 0.0 && vertexX * candidateX + vertexY * candidateY > candidateX * candidateX + candidateY * candidateY;
+   }
+
    /**
     * Computes the area and centroid (optional) of a convex polygon defined by its size
     * {@code numberOfVertices} and vertices {@code convexPolygon2D}.
@@ -558,6 +943,14 @@ public class EuclidGeometryPolygonTools
          return crossProduct == 0.0;
       }
 
+      if (numberOfVertices > LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES)
+      {
+         int visibleEdgeIndex = findVisibleEdgeIndex(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         if (visibleEdgeIndex != -2)
+            return visibleEdgeIndex == -1;
+         // The polygon is degenerate, falling back to the linear search.
+      }
+
       if (isPoint2DOnSideOfLine2D(pointX, pointY, edgeStart, edgeEnd, clockwiseOrdered))
          return false;
 
@@ -645,6 +1038,11 @@ public class EuclidGeometryPolygonTools
    public static boolean isPoint2DInsideConvexPolygon2D(double pointX, double pointY, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
                                                         boolean clockwiseOrdered, double epsilon)
    {
+      // Saves the computation of the distance to the edges when the query is inside.
+      if (epsilon >= 0.0 && numberOfVertices > LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES
+            && isPoint2DInsideConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+         return true;
+
       return signedDistanceFromPoint2DToConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered) <= epsilon;
    }
 
@@ -798,6 +1196,22 @@ public class EuclidGeometryPolygonTools
          }
       }
 
+      if (numberOfVertices > LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES)
+      {
+         int numberOfIntersections = intersectionBetweenLine2DAndConvexPolygon2DBinarySearch(pointOnLineX,
+                                                                                              pointOnLineY,
+                                                                                              lineDirectionX,
+                                                                                              lineDirectionY,
+                                                                                              convexPolygon2D,
+                                                                                              numberOfVertices,
+                                                                                              clockwiseOrdered,
+                                                                                              firstIntersectionToPack,
+                                                                                              secondIntersectionToPack);
+         if (numberOfIntersections >= 0)
+            return numberOfIntersections;
+         // The line goes through a vertex or the polygon is degenerate, falling back to the linear search.
+      }
+
       int firstEdgeIndex = nextEdgeIndexIntersectingWithLine2D(-1,
                                                                pointOnLineX,
                                                                pointOnLineY,
@@ -1328,6 +1742,19 @@ public class EuclidGeometryPolygonTools
       if (numberOfVertices == 2)
          return distanceFromPoint2DToLineSegment2D(pointX, pointY, convexPolygon2D.get(0), convexPolygon2D.get(1));
 
+      if (numberOfVertices > LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES)
+      {
+         int closestEdgeIndex = closestVisibleEdgeIndexToPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+         if (closestEdgeIndex >= 0)
+         {
+            Point2DReadOnly edgeStart = convexPolygon2D.get(closestEdgeIndex);
+            Point2DReadOnly edgeEnd = convexPolygon2D.get(next(closestEdgeIndex, numberOfVertices));
+            return EuclidCoreTools.squareRoot(distanceSquaredFromPoint2DToLineSegment2D(pointX, pointY, edgeStart, edgeEnd));
+         }
+         // The query is inside, the distance to all the edges has to be evaluated.
+      }
+
       boolean isQueryOutsidePolygon = false;
       double minDistance = Double.POSITIVE_INFINITY;
 
@@ -1753,6 +2180,14 @@ public class EuclidGeometryPolygonTools
       if (numberOfVertices <= 1)
          return -1;
 
+      if (numberOfVertices > LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES)
+      {
+         int closestEdgeIndex = closestVisibleEdgeIndexToPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         if (closestEdgeIndex >= 0)
+            return closestEdgeIndex;
+         // The query is inside, the distance to all the edges has to be evaluated.
+      }
+
       boolean isQueryOutsidePolygon = false;
       int insideIndex = -1;
       int outsideIndex = -1;
@@ -1877,6 +2312,18 @@ public class EuclidGeometryPolygonTools
          return isOnSide ? 0 : 1;
       }
 
+      if (numberOfVertices > LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES)
+      {
+         int visibleEdgeIndex = findVisibleEdgeIndex(observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         if (visibleEdgeIndex == -1)
+            return -1;
+
+         int hiddenEdgeIndex = visibleEdgeIndex < 0 ? -2 : findHiddenEdgeIndex(observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         if (hiddenEdgeIndex >= 0)
+            return firstVisibleEdgeIndex(hiddenEdgeIndex, visibleEdgeIndex, observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         // The polygon is degenerate, falling back to the linear search.
+      }
+
       boolean previousEdgeVisible = canObserverSeeEdge(numberOfVertices - 1, observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
 
       for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
@@ -1983,6 +2430,18 @@ public class EuclidGeometryPolygonTools
          return isOnSide ? 1 : 0;
       }
 
+      if (numberOfVertices > LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES)
+      {
+         int visibleEdgeIndex = findVisibleEdgeIndex(observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         if (visibleEdgeIndex == -1)
+            return -1;
+
+         int hiddenEdgeIndex = visibleEdgeIndex < 0 ? -2 : findHiddenEdgeIndex(observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         if (hiddenEdgeIndex >= 0)
+            return firstHiddenEdgeIndex(visibleEdgeIndex, hiddenEdgeIndex, observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         // The polygon is degenerate, falling back to the linear search.
+      }
+
       boolean previousEdgeVisible = canObserverSeeEdge(numberOfVertices - 1, observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
 
       for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
@@ -2488,121 +2947,2470 @@ public class EuclidGeometryPolygonTools
    }
 
    /**
-    * Sorts the vertices to complete the first step of the Graham scan algorithm.
+    * Computes the intersection of two convex polygons.
     * <p>
-    * First the vertex located at the lowest x-coordinate is found and used as the reference P.
+    * The algorithm from <i>O'Rourke, J., Chien, C.-B., Olson, T., &amp; Naddor, D. (1982). A new
+    * linear algorithm for intersecting convex polygons.</i> is used: the two polygons are traversed
+    * simultaneously advancing on one or the other such that the intersection is obtained in O(n + m)
+    * where n and m are the number of vertices of the two polygons.
     * </p>
     * <p>
-    * Then the vertices are sorted in increasing order of the angle they and the reference P make with
-    * the y-axis.
+    * This method does not generate garbage as long as {@code intersectionToPack} has enough capacity.
     * </p>
     * <p>
-    * The <a href="https://en.wikipedia.org/wiki/Quicksort#Choice_of_pivot">Quicksort algorithm</a> is
-    * adapted to the Graham scan application to prevent garbage generation.
+    * Edge cases:
+    * <ul>
+    * <li>if the polygons do not intersect, {@code intersectionToPack} is empty and this method returns
+    * {@code false}.
+    * <li>if the polygons only touch each other on a vertex or an edge, {@code intersectionToPack} is
+    * degenerate and has 1 or 2 vertices.
+    * <li>if either polygon has less than 3 vertices, the intersection is computed by testing the
+    * vertices and edges of the smallest polygon against the other polygon.
+    * <li>if a vertex of one polygon lies exactly on an edge of the other, for instance when the two
+    * polygons share vertices, the traversal cannot tell which polygon is inside and the intersection
+    * is computed by testing all the vertices and all the pairs of edges instead, in O(n m).
+    * </ul>
     * </p>
     *
-    * @param vertices         the list of vertices to be sorted. Modified.
-    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
-    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    * @param polygonA           the first convex polygon. Not modified.
+    * @param polygonB           the second convex polygon. Not modified.
+    * @param intersectionToPack the polygon in which the intersection is stored. Modified.
+    * @return {@code true} if the two polygons intersect, {@code false} otherwise.
+    * @throws IllegalArgumentException if {@code intersectionToPack} is one of the two polygons.
+    * @throws OutdatedPolygonException if either polygon is not up-to-date.
     */
-   static void grahamScanAngleSort(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   public static boolean intersectionBetweenTwoConvexPolygon2Ds(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB,
+                                                               ConvexPolygon2DBasics intersectionToPack)
    {
-      Point2DReadOnly minXMaxYVertex = vertices.get(findMinXMaxYVertexIndex(vertices, numberOfVertices));
-      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, 0, numberOfVertices - 1);
-   }
+      checkNotAliased(polygonA, polygonB, intersectionToPack);
+      polygonA.checkIfUpToDate();
+      polygonB.checkIfUpToDate();
 
-   /**
-    * Recursive step of the sorting algorithm for the Graham scan.
-    */
-   private static void grahamScanAngleSortRecursive(List<? extends Point2DReadOnly> vertices, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex)
-   {
-      if (endIndex <= startIndex)
-         return;
+      intersectionToPack.clear();
 
-      // Choose the pivot randomly
-      int pivotIndex = random.nextInt(endIndex - startIndex) + startIndex;
+      if (polygonA.isEmpty() || polygonB.isEmpty())
+      {
+         intersectionToPack.update();
+         return false;
+      }
 
-      /*
-       * Partitioning:
-       * @formatter:off
-       * +------------------------+
-       *  | <= pivot | > pivot |
-       * +------------------------+
-       *             ^
-       *             |
-       *         pivotIndex
-       * @formatter:on
-       */
-      pivotIndex = grahamScanAnglePartition(vertices, minXMaxYVertex, startIndex, endIndex, pivotIndex);
-      // Recurse on each side of the pivot
-      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, startIndex, pivotIndex - 1);
-      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, pivotIndex + 1, endIndex);
-   }
+      if (polygonA.getNumberOfVertices() < 3 || polygonB.getNumberOfVertices() < 3)
+      {
+         intersectionBetweenTwoConvexPolygon2DsBruteForce(polygonA, polygonB, intersectionToPack);
+         intersectionToPack.update();
+         return !intersectionToPack.isEmpty();
+      }
 
-   /**
-    * Partition the list around the pivot:
-    *
-    * <pre>
-    * +------------------------+
-    * |  <= pivot  |  > pivot  |
-    * +------------------------+
+      int n = polygonA.getNumberOfVertices();
+      int m = polygonB.getNumberOfVertices();
+      int a = 0;
+      int b = 0;
+      int numberOfAdvancesOnA = 0;
+      int numberOfAdvancesOnB = 0;
+      int inside = UNKNOWN_INSIDE;
+      boolean firstIntersectionFound = false;
+
+      do
+      {
+         Point2DReadOnly previousVertexA = polygonA.getVertex(previous(a, n));
+         Point2DReadOnly vertexA = polygonA.getVertex(a);
+         Point2DReadOnly previousVertexB = polygonB.getVertex(previous(b, m));
+         Point2DReadOnly vertexB = polygonB.getVertex(b);
+
+         double edgeAX = vertexA.getX() - previousVertexA.getX();
+         double edgeAY = vertexA.getY() - previousVertexA.getY();
+         double edgeBX = vertexB.getX() - previousVertexB.getX();
+         double edgeBY = vertexB.getY() - previousVertexB.getY();
+
+         // The signs are flipped such that they are positive when turning/being on the inner side of clockwise polygons.
+         int crossSign = -sign(cross(edgeAX, edgeAY, edgeBX, edgeBY));
+         int aInsideB = -sign(cross(edgeBX, edgeBY, vertexA.getX() - previousVertexB.getX(), vertexA.getY() - previousVertexB.getY()));
+         int bInsideA = -sign(cross(edgeAX, edgeAY, vertexB.getX() - previousVertexA.getX(), vertexB.getY() - previousVertexA.getY()));
+
+         if (crossSign != 0)
+         {
+            int previousAInsideB = -sign(cross(edgeBX, edgeBY, previousVertexA.getX() - previousVertexB.getX(), previousVertexA.getY() - previousVertexB.getY()));
+            int previousBInsideA = -sign(cross(edgeAX, edgeAY, previousVertexB.getX() - previousVertexA.getX(), previousVertexB.getY() - previousVertexA.getY()));
+
+            if (previousAInsideB * aInsideB <= 0 && previousBInsideA * bInsideA <= 0)
+            {
+               if (previousAInsideB == 0 || aInsideB == 0 || previousBInsideA == 0 || bInsideA == 0)
+               { // The edges touch at a vertex, the advance rules cannot decide which polygon is inside.
+                  intersectionToPack.clear();
+                  intersectionBetweenTwoConvexPolygon2DsBruteForce(polygonA, polygonB, intersectionToPack);
+                  intersectionToPack.update();
+                  return !intersectionToPack.isEmpty();
+               }
+
+               double alpha = percentageOfIntersectionBetweenTwoEdges(previousVertexA, edgeAX, edgeAY, previousVertexB, edgeBX, edgeBY);
+               alpha = EuclidCoreTools.clamp(alpha, 0.0, 1.0);
+
+               if (inside == UNKNOWN_INSIDE && !firstIntersectionFound)
+               { // Restarting the counters to make sure the polygons are entirely traversed from this point.
+                  numberOfAdvancesOnA = 0;
+                  numberOfAdvancesOnB = 0;
+                  firstIntersectionFound = true;
+               }
+
+               addVertexIfDistinct(EuclidCoreTools.interpolate(previousVertexA.getX(), vertexA.getX(), alpha),
+                                   EuclidCoreTools.interpolate(previousVertexA.getY(), vertexA.getY(), alpha),
+                                   intersectionToPack);
+
+               if (aInsideB > 0)
+                  inside = A_INSIDE;
+               else if (bInsideA > 0)
+                  inside = B_INSIDE;
+            }
+         }
+         else if (aInsideB == 0 && edgeAX * edgeBX + edgeAY * edgeBY < 0.0)
+         { // Collinear edges with opposite directions: the polygons can only touch along these edges.
+            if (addCollinearEdgesOverlap(previousVertexA, vertexA, previousVertexB, vertexB, intersectionToPack))
+            {
+               intersectionToPack.update();
+               return true;
+            }
+         }
+
+         if (crossSign == 0 && aInsideB < 0 && bInsideA < 0)
+         { // Parallel edges facing each other, the polygons are disjoint.
+            intersectionToPack.clearAndUpdate();
+            return false;
+         }
+         else if (crossSign == 0 && aInsideB == 0 && bInsideA == 0)
+         { // Collinear edges, advancing on the outer polygon.
+            if (inside == A_INSIDE)
+            {
+               b = next(b, m);
+               numberOfAdvancesOnB++;
+            }
+            else
+            {
+               a = next(a, n);
+               numberOfAdvancesOnA++;
+            }
+         }
+         else if (crossSign >= 0 ? bInsideA > 0 : aInsideB <= 0)
+         {
+            a = advance(a, n, inside == A_INSIDE, vertexA, intersectionToPack);
+            numberOfAdvancesOnA++;
+         }
+         else
+         {
+            b = advance(b, m, inside == B_INSIDE, vertexB, intersectionToPack);
+            numberOfAdvancesOnB++;
+         }
+      }
+      while ((numberOfAdvancesOnA < n || numberOfAdvancesOnB < m) && numberOfAdvancesOnA < 2 * n && numberOfAdvancesOnB < 2 * m);
+
+      if (inside == UNKNOWN_INSIDE)
+      { // The boundaries do not cross, either one polygon is inside the other or they are disjoint or touching.
+         // Testing the centroid alone is not enough as the centroids of both polygons can be inside the intersection.
+         if (polygonB.isPointInside(polygonA.getVertex(0)) && polygonB.isPointInside(polygonA.getCentroid()))
+         {
+            intersectionToPack.clear();
+            addVertices(polygonA, intersectionToPack);
+         }
+         else if (polygonA.isPointInside(polygonB.getVertex(0)) && polygonA.isPointInside(polygonB.getCentroid()))
+         {
+            intersectionToPack.clear();
+            addVertices(polygonB, intersectionToPack);
+         }
+      }
+
+      removeLastVertexIfEqualToFirst(intersectionToPack);
+
+      intersectionToPack.update();
+      return !intersectionToPack.isEmpty();
+   }
+
+   /**
+    * Computes the smallest convex polygon that contains the two given convex polygons.
+    * <p>
+    * The upper and lower chains of the two polygons are already sorted in lexicographic order, they
+    * are merged and processed with the monotone chain algorithm which results in an O(n + m)
+    * complexity where n and m are the number of vertices of the two polygons.
+    * </p>
+    * <p>
+    * This method does not generate garbage as long as {@code convexHullToPack} has enough capacity.
+    * </p>
+    *
+    * @param polygonA         the first convex polygon. Not modified.
+    * @param polygonB         the second convex polygon. Not modified.
+    * @param convexHullToPack the polygon in which the convex hull of the two polygons is stored.
+    *                         Modified.
+    * @throws IllegalArgumentException if {@code convexHullToPack} is one of the two polygons.
+    * @throws OutdatedPolygonException if either polygon is not up-to-date.
+    */
+   public static void convexHullOfTwoConvexPolygon2Ds(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB,
+                                                      ConvexPolygon2DBasics convexHullToPack)
+   {
+      checkNotAliased(polygonA, polygonB, convexHullToPack);
+      polygonA.checkIfUpToDate();
+      polygonB.checkIfUpToDate();
+
+      convexHullToPack.clear();
+
+      int lexMinA = polygonA.isEmpty() ? -1 : findVertexIndex(polygonA, true, Bound.MIN, Bound.MIN);
+      int lexMaxA = polygonA.isEmpty() ? -1 : findVertexIndex(polygonA, true, Bound.MAX, Bound.MAX);
+      int lexMinB = polygonB.isEmpty() ? -1 : findVertexIndex(polygonB, true, Bound.MIN, Bound.MIN);
+      int lexMaxB = polygonB.isEmpty() ? -1 : findVertexIndex(polygonB, true, Bound.MAX, Bound.MAX);
+
+      // Upper chains, from the lexicographic min to the lexicographic max.
+      mergeMonotoneChains(polygonA, lexMinA, lexMaxA, polygonB, lexMinB, lexMaxB, true, 0, convexHullToPack);
+      // Lower chains, from the lexicographic max back to the lexicographic min.
+      int floor = Math.max(0, convexHullToPack.getNumberOfVertices() - 1);
+      mergeMonotoneChains(polygonA, lexMaxA, lexMinA, polygonB, lexMaxB, lexMinB, false, floor, convexHullToPack);
+      removeLastVertexIfEqualToFirst(convexHullToPack);
+
+      convexHullToPack.update();
+   }
+
+   /**
+    * Computes the Minkowski sum of two convex polygons.
+    * <p>
+    * The Minkowski sum is the polygon that contains all the points {@code a + b} where {@code a} is
+    * in {@code polygonA} and {@code b} is in {@code polygonB}. The edges of the two polygons are
+    * merged in order of their orientation which results in an O(n + m) complexity where n and m are
+    * the number of vertices of the two polygons.
+    * </p>
+    * <p>
+    * This method does not generate garbage as long as {@code minkowskiSumToPack} has enough capacity.
+    * </p>
+    *
+    * @param polygonA           the first convex polygon. Not modified.
+    * @param polygonB           the second convex polygon. Not modified.
+    * @param minkowskiSumToPack the polygon in which the Minkowski sum is stored. Modified.
+    * @throws IllegalArgumentException if {@code minkowskiSumToPack} is one of the two polygons.
+    * @throws OutdatedPolygonException if either polygon is not up-to-date.
+    */
+   public static void minkowskiSumOfTwoConvexPolygon2Ds(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB,
+                                                        ConvexPolygon2DBasics minkowskiSumToPack)
+   {
+      minkowskiSumOfTwoConvexPolygon2Ds(polygonA, polygonB, false, minkowskiSumToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of two convex polygons.
+    * <p>
+    * The Minkowski difference is the polygon that contains all the points {@code a - b} where
+    * {@code a} is in {@code polygonA} and {@code b} is in {@code polygonB}. It is the Minkowski sum of
+    * {@code polygonA} and of {@code polygonB} reflected through the origin, and it contains the origin
+    * if and only if the two polygons intersect. The complexity is O(n + m) where n and m are the
+    * number of vertices of the two polygons.
+    * </p>
+    * <p>
+    * This method does not generate garbage as long as {@code minkowskiDifferenceToPack} has enough
+    * capacity.
+    * </p>
+    *
+    * @param polygonA                  the first convex polygon. Not modified.
+    * @param polygonB                  the second convex polygon. Not modified.
+    * @param minkowskiDifferenceToPack the polygon in which the Minkowski difference is stored.
+    *                                  Modified.
+    * @throws IllegalArgumentException if {@code minkowskiDifferenceToPack} is one of the two polygons.
+    * @throws OutdatedPolygonException if either polygon is not up-to-date.
+    */
+   public static void minkowskiDifferenceOfTwoConvexPolygon2Ds(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB,
+                                                               ConvexPolygon2DBasics minkowskiDifferenceToPack)
+   {
+      minkowskiSumOfTwoConvexPolygon2Ds(polygonA, polygonB, true, minkowskiDifferenceToPack);
+   }
+
+   private static void minkowskiSumOfTwoConvexPolygon2Ds(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB, boolean negateB,
+                                                         ConvexPolygon2DBasics minkowskiSumToPack)
+   {
+      checkNotAliased(polygonA, polygonB, minkowskiSumToPack);
+      polygonA.checkIfUpToDate();
+      polygonB.checkIfUpToDate();
+
+      minkowskiSumToPack.clear();
+
+      if (polygonA.isEmpty() || polygonB.isEmpty())
+      {
+         minkowskiSumToPack.update();
+         return;
+      }
+
+      int n = polygonA.getNumberOfVertices();
+      int m = polygonB.getNumberOfVertices();
+      // A polygon with a single vertex has no edge.
+      int numberOfEdgesA = n == 1 ? 0 : n;
+      int numberOfEdgesB = m == 1 ? 0 : m;
+      double signB = negateB ? -1.0 : 1.0;
+      // Both polygons have to start with their min x, max y vertex. Once reflected, it is the max x, min y vertex of B.
+      int startB = negateB ? findVertexIndex(polygonB, true, Bound.MAX, Bound.MIN) : 0;
+
+      int i = 0;
+      int j = 0;
+
+      do
+      {
+         Point2DReadOnly vertexA = polygonA.getVertex(wrap(i, n));
+         Point2DReadOnly nextVertexA = polygonA.getVertex(next(i, n));
+         Point2DReadOnly vertexB = polygonB.getVertex(wrap(startB + j, m));
+         Point2DReadOnly nextVertexB = polygonB.getVertex(next(startB + j, m));
+
+         minkowskiSumToPack.addVertex(vertexA.getX() + signB * vertexB.getX(), vertexA.getY() + signB * vertexB.getY());
+
+         int comparison;
+         if (j == numberOfEdgesB)
+            comparison = -1;
+         else if (i == numberOfEdgesA)
+            comparison = 1;
+         else
+            comparison = compareEdgeAngles(nextVertexA.getX() - vertexA.getX(),
+                                           nextVertexA.getY() - vertexA.getY(),
+                                           signB * (nextVertexB.getX() - vertexB.getX()),
+                                           signB * (nextVertexB.getY() - vertexB.getY()));
+
+         if (comparison <= 0)
+            i++;
+         if (comparison >= 0)
+            j++;
+      }
+      while (i < numberOfEdgesA || j < numberOfEdgesB);
+
+      minkowskiSumToPack.update();
+   }
+
+   /**
+    * Offsets the edges of a convex polygon by a given distance, growing the polygon when
+    * {@code distance} is positive and shrinking it when {@code distance} is negative.
+    * <p>
+    * When growing, each vertex is moved to the intersection of its two adjacent edges once shifted,
+    * such that the resulting polygon has sharp corners and the same number of vertices as the
+    * original. See
+    * {@link #offsetConvexPolygon2DRounded(ConvexPolygon2DReadOnly, double, double, ConvexPolygon2DBasics)}
+    * for rounded corners.
+    * </p>
+    * <p>
+    * When shrinking, the shifted edges are intersected in order while discarding the edges that
+    * collapse, such that vertices disappear as the distance increases and the polygon eventually
+    * vanishes when the distance exceeds the radius of its largest inscribed circle.
+    * </p>
+    * <p>
+    * The complexity is O(n) where n is the number of vertices of the polygon and this method does not
+    * generate garbage as long as {@code offsetPolygonToPack} has enough capacity.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if the polygon is empty, {@code offsetPolygonToPack} is empty and this method returns
+    * {@code false}.
+    * <li>if the polygon has less than 3 vertices, it is grown into the square, respectively the
+    * rectangle, which sides are at {@code distance} from the vertex, respectively the edge, while
+    * shrinking results in an empty polygon.
+    * </ul>
+    * </p>
+    *
+    * @param polygon             the convex polygon to offset. Not modified.
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @throws IllegalArgumentException if {@code offsetPolygonToPack} is {@code polygon}.
+    * @throws OutdatedPolygonException if {@code polygon} is not up-to-date.
+    */
+   public static boolean offsetConvexPolygon2D(ConvexPolygon2DReadOnly polygon, double distance, ConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      checkNotAliased(polygon, polygon, offsetPolygonToPack);
+      polygon.checkIfUpToDate();
+
+      offsetPolygonToPack.clear();
+
+      if (polygon.isEmpty())
+      {
+         offsetPolygonToPack.update();
+         return false;
+      }
+
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (distance == 0.0)
+      {
+         addVertices(polygon, offsetPolygonToPack);
+      }
+      else if (distance > 0.0)
+      {
+         if (numberOfVertices == 1)
+         {
+            Point2DReadOnly vertex = polygon.getVertex(0);
+            offsetPolygonToPack.addVertex(vertex.getX() - distance, vertex.getY() + distance);
+            offsetPolygonToPack.addVertex(vertex.getX() + distance, vertex.getY() + distance);
+            offsetPolygonToPack.addVertex(vertex.getX() + distance, vertex.getY() - distance);
+            offsetPolygonToPack.addVertex(vertex.getX() - distance, vertex.getY() - distance);
+         }
+         else if (numberOfVertices == 2)
+         {
+            Point2DReadOnly start = polygon.getVertex(0);
+            Point2DReadOnly end = polygon.getVertex(1);
+            double edgeLength = EuclidCoreTools.norm(end.getX() - start.getX(), end.getY() - start.getY());
+            // Shifts along the edge and along its left side.
+            double alongX = distance * (end.getX() - start.getX()) / edgeLength;
+            double alongY = distance * (end.getY() - start.getY()) / edgeLength;
+            double leftX = -alongY;
+            double leftY = alongX;
+            offsetPolygonToPack.addVertex(start.getX() - alongX + leftX, start.getY() - alongY + leftY);
+            offsetPolygonToPack.addVertex(end.getX() + alongX + leftX, end.getY() + alongY + leftY);
+            offsetPolygonToPack.addVertex(end.getX() + alongX - leftX, end.getY() + alongY - leftY);
+            offsetPolygonToPack.addVertex(start.getX() - alongX - leftX, start.getY() - alongY - leftY);
+         }
+         else
+         {
+            for (int i = 0; i < numberOfVertices; i++)
+            {
+               Point2DReadOnly previousVertex = polygon.getPreviousVertex(i);
+               Point2DReadOnly vertex = polygon.getVertex(i);
+               Point2DReadOnly nextVertex = polygon.getNextVertex(i);
+
+               // The outward normals of the two edges, the outside of a clockwise polygon is on the left side of the edges.
+               double previousEdgeLength = EuclidCoreTools.norm(vertex.getX() - previousVertex.getX(), vertex.getY() - previousVertex.getY());
+               double previousNormalX = (previousVertex.getY() - vertex.getY()) / previousEdgeLength;
+               double previousNormalY = (vertex.getX() - previousVertex.getX()) / previousEdgeLength;
+               double nextEdgeLength = EuclidCoreTools.norm(nextVertex.getX() - vertex.getX(), nextVertex.getY() - vertex.getY());
+               double nextNormalX = (vertex.getY() - nextVertex.getY()) / nextEdgeLength;
+               double nextNormalY = (nextVertex.getX() - vertex.getX()) / nextEdgeLength;
+
+               // The miter vector is the bisector of the two normals scaled such that its projection on each normal is equal to the distance.
+               double scale = distance / (1.0 + previousNormalX * nextNormalX + previousNormalY * nextNormalY);
+               offsetPolygonToPack.addVertex(vertex.getX() + scale * (previousNormalX + nextNormalX), vertex.getY() + scale * (previousNormalY + nextNormalY));
+            }
+         }
+      }
+      else if (numberOfVertices >= 3)
+      {
+         shrinkConvexPolygon2D(polygon, -distance, offsetPolygonToPack);
+      }
+
+      offsetPolygonToPack.update();
+      return !offsetPolygonToPack.isEmpty();
+   }
+
+   /**
+    * Offsets the edges of a convex polygon by a given distance, growing the polygon with rounded
+    * corners when {@code distance} is positive and shrinking it when {@code distance} is negative.
+    * <p>
+    * When growing, the corners are approximated with arcs of circle of radius {@code distance}
+    * centered at the original vertices. Each arc is subdivided such that the angle between two
+    * consecutive vertices of the arc does not exceed {@code maximumArcAngle}. When shrinking, this
+    * method is equivalent to
+    * {@link #offsetConvexPolygon2D(ConvexPolygon2DReadOnly, double, ConvexPolygon2DBasics)}.
+    * </p>
+    * <p>
+    * The complexity is O(n + k) where n is the number of vertices of the polygon and k the number of
+    * vertices added for the arcs and this method does not generate garbage as long as
+    * {@code offsetPolygonToPack} has enough capacity.
+    * </p>
+    *
+    * @param polygon             the convex polygon to offset. Not modified.
+    * @param distance            the distance by which the edges are shifted outward when positive
+    *                            and inward when negative.
+    * @param maximumArcAngle     the maximum angle between two consecutive vertices of the rounded
+    *                            corners. Has to be strictly positive.
+    * @param offsetPolygonToPack the polygon in which the result is stored. Modified.
+    * @return {@code false} if the resulting polygon is empty, {@code true} otherwise.
+    * @throws IllegalArgumentException if {@code offsetPolygonToPack} is {@code polygon} or if
+    *                                  {@code maximumArcAngle} is not strictly positive.
+    * @throws OutdatedPolygonException if {@code polygon} is not up-to-date.
+    */
+   public static boolean offsetConvexPolygon2DRounded(ConvexPolygon2DReadOnly polygon, double distance, double maximumArcAngle,
+                                                      ConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      if (!(maximumArcAngle > 0.0))
+         throw new IllegalArgumentException("The maximum arc angle has to be strictly positive, was: " + maximumArcAngle);
+
+      if (distance <= 0.0)
+         return offsetConvexPolygon2D(polygon, distance, offsetPolygonToPack);
+
+      checkNotAliased(polygon, polygon, offsetPolygonToPack);
+      polygon.checkIfUpToDate();
+
+      offsetPolygonToPack.clear();
+
+      if (polygon.isEmpty())
+      {
+         offsetPolygonToPack.update();
+         return false;
+      }
+
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (numberOfVertices == 1)
+      {
+         Point2DReadOnly vertex = polygon.getVertex(0);
+         addArc(vertex, 0.0, distance, 2.0 * Math.PI, Math.max(3, (int) Math.ceil(2.0 * Math.PI / maximumArcAngle)), false, offsetPolygonToPack);
+      }
+      else
+      {
+         for (int i = 0; i < numberOfVertices; i++)
+         {
+            Point2DReadOnly previousVertex = polygon.getPreviousVertex(i);
+            Point2DReadOnly vertex = polygon.getVertex(i);
+            Point2DReadOnly nextVertex = polygon.getNextVertex(i);
+
+            // The outward normals of the two edges, the outside of a clockwise polygon is on the left side of the edges.
+            double previousEdgeLength = EuclidCoreTools.norm(vertex.getX() - previousVertex.getX(), vertex.getY() - previousVertex.getY());
+            double previousNormalX = (previousVertex.getY() - vertex.getY()) / previousEdgeLength;
+            double previousNormalY = (vertex.getX() - previousVertex.getX()) / previousEdgeLength;
+            double nextEdgeLength = EuclidCoreTools.norm(nextVertex.getX() - vertex.getX(), nextVertex.getY() - vertex.getY());
+            double nextNormalX = (vertex.getY() - nextVertex.getY()) / nextEdgeLength;
+            double nextNormalY = (nextVertex.getX() - vertex.getX()) / nextEdgeLength;
+
+            // The arc goes clockwise from the previous normal to the next normal.
+            double arcAngle = EuclidCoreTools.atan2(Math.abs(cross(previousNormalX, previousNormalY, nextNormalX, nextNormalY)),
+                                                    previousNormalX * nextNormalX + previousNormalY * nextNormalY);
+            double startAngle = EuclidCoreTools.atan2(previousNormalX, previousNormalY);
+            addArc(vertex, startAngle, distance, arcAngle, Math.max(1, (int) Math.ceil(arcAngle / maximumArcAngle)), true, offsetPolygonToPack);
+         }
+      }
+
+      offsetPolygonToPack.update();
+      return true;
+   }
+
+   /**
+    * Offsets each polygon of a batch, see
+    * {@link #offsetConvexPolygon2D(ConvexPolygon2DReadOnly, double, ConvexPolygon2DBasics)}.
+    * <p>
+    * This method does not generate garbage as long as the polygons to pack have enough capacity.
+    * </p>
+    *
+    * @param polygons             the convex polygons to offset. Not modified.
+    * @param distance             the distance by which the edges are shifted outward when positive
+    *                             and inward when negative.
+    * @param offsetPolygonsToPack the polygons in which the results are stored, the i<sup>th</sup>
+    *                             result is the offset of the i<sup>th</sup> polygon. Modified.
+    * @return the number of resulting polygons that are not empty.
+    * @throws IllegalArgumentException if the two lists do not have the same size or if a polygon is
+    *                                  also used to store a result.
+    * @throws OutdatedPolygonException if any of the polygons is not up-to-date.
+    */
+   public static int offsetConvexPolygon2Ds(List<? extends ConvexPolygon2DReadOnly> polygons, double distance,
+                                            List<? extends ConvexPolygon2DBasics> offsetPolygonsToPack)
+   {
+      if (polygons.size() != offsetPolygonsToPack.size())
+         throw new IllegalArgumentException("The number of polygons and the number of polygons to pack differ: " + polygons.size() + " != "
+               + offsetPolygonsToPack.size());
+
+      int numberOfNonEmptyPolygons = 0;
+
+      for (int i = 0; i < polygons.size(); i++)
+      {
+         if (offsetConvexPolygon2D(polygons.get(i), distance, offsetPolygonsToPack.get(i)))
+            numberOfNonEmptyPolygons++;
+      }
+
+      return numberOfNonEmptyPolygons;
+   }
+
+   /**
+    * Computes the diameter of a convex polygon, i.e. the largest distance between two of its
+    * vertices.
+    * <p>
+    * The rotating calipers are used to visit only the antipodal pairs of vertices, such that the
+    * complexity is O(n) where n is the number of vertices. This method does not generate garbage.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if the polygon is empty, this method fails and returns {@link Double#NaN}.
+    * <li>if the polygon has a single vertex, this method returns {@code 0.0}.
+    * </ul>
+    * </p>
+    *
+    * @param polygon            the convex polygon to compute the diameter of. Not modified.
+    * @param firstVertexToPack  the first of the two vertices that are the farthest apart. Modified.
+    *                           Can be {@code null}.
+    * @param secondVertexToPack the second of the two vertices that are the farthest apart. Modified.
+    *                           Can be {@code null}.
+    * @return the diameter of the polygon.
+    * @throws OutdatedPolygonException if {@code polygon} is not up-to-date.
+    */
+   public static double diameterOfConvexPolygon2D(ConvexPolygon2DReadOnly polygon, Point2DBasics firstVertexToPack, Point2DBasics secondVertexToPack)
+   {
+      polygon.checkIfUpToDate();
+
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (numberOfVertices == 0)
+         return Double.NaN;
+
+      int firstIndex = 0;
+      int secondIndex = numberOfVertices - 1;
+      double maxDistanceSquared = polygon.getVertex(firstIndex).distanceSquared(polygon.getVertex(secondIndex));
+
+      if (numberOfVertices >= 3)
+      {
+         int farthestIndex = 1;
+
+         for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+         {
+            farthestIndex = farthestVertexIndexFromEdge(polygon, edgeIndex, farthestIndex);
+            int nextEdgeIndex = next(edgeIndex, numberOfVertices);
+
+            // The antipodal pairs are formed by the farthest vertex and both vertices of the edge.
+            for (int i = 0; i < 2; i++)
+            {
+               int vertexIndex = i == 0 ? edgeIndex : nextEdgeIndex;
+               double distanceSquared = polygon.getVertex(vertexIndex).distanceSquared(polygon.getVertex(farthestIndex));
+
+               if (distanceSquared > maxDistanceSquared)
+               {
+                  maxDistanceSquared = distanceSquared;
+                  firstIndex = vertexIndex;
+                  secondIndex = farthestIndex;
+               }
+            }
+         }
+      }
+
+      if (firstVertexToPack != null)
+         firstVertexToPack.set(polygon.getVertex(firstIndex));
+      if (secondVertexToPack != null)
+         secondVertexToPack.set(polygon.getVertex(secondIndex));
+      return EuclidCoreTools.squareRoot(maxDistanceSquared);
+   }
+
+   /**
+    * Computes the width of a convex polygon, i.e. the smallest distance between two parallel lines
+    * that enclose the polygon.
+    * <p>
+    * One of the two lines always contains an edge of the polygon. The rotating calipers are used to
+    * find the vertex the farthest from each edge, such that the complexity is O(n) where n is the
+    * number of vertices. This method does not generate garbage.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if the polygon is empty, this method fails and returns {@link Double#NaN}.
+    * <li>if the polygon has less than 3 vertices, this method returns {@code 0.0} and
+    * {@code widthDirectionToPack} is set to the normal of the edge when there is one.
+    * </ul>
+    * </p>
+    *
+    * @param polygon              the convex polygon to compute the width of. Not modified.
+    * @param widthDirectionToPack the unit vector orthogonal to the two enclosing lines. It is the
+    *                             inward normal of the edge that lies on one of the lines. Modified.
+    *                             Can be {@code null}.
+    * @return the width of the polygon.
+    * @throws OutdatedPolygonException if {@code polygon} is not up-to-date.
+    */
+   public static double widthOfConvexPolygon2D(ConvexPolygon2DReadOnly polygon, Vector2DBasics widthDirectionToPack)
+   {
+      polygon.checkIfUpToDate();
+
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (numberOfVertices == 0)
+         return Double.NaN;
+
+      int bestEdgeIndex = numberOfVertices == 2 ? 0 : -1;
+      double minWidth = 0.0;
+
+      if (numberOfVertices >= 3)
+      {
+         int farthestIndex = 1;
+         minWidth = Double.POSITIVE_INFINITY;
+
+         for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+         {
+            farthestIndex = farthestVertexIndexFromEdge(polygon, edgeIndex, farthestIndex);
+            double width = heightAboveEdge(polygon, edgeIndex, polygon.getVertex(farthestIndex));
+
+            if (width < minWidth)
+            {
+               minWidth = width;
+               bestEdgeIndex = edgeIndex;
+            }
+         }
+      }
+
+      if (widthDirectionToPack != null && bestEdgeIndex >= 0)
+      {
+         Point2DReadOnly edgeStart = polygon.getVertex(bestEdgeIndex);
+         Point2DReadOnly edgeEnd = polygon.getNextVertex(bestEdgeIndex);
+         // The inside of a clockwise polygon is on the right side of the edges.
+         widthDirectionToPack.set(edgeEnd.getY() - edgeStart.getY(), edgeStart.getX() - edgeEnd.getX());
+         widthDirectionToPack.normalize();
+      }
+
+      return minWidth;
+   }
+
+   /**
+    * Computes the rectangle of minimum area that encloses a convex polygon.
+    * <p>
+    * The optimal rectangle has a side that contains an edge of the polygon. For each edge, the
+    * rotating calipers are used to maintain the three other extreme vertices, such that the
+    * complexity is O(n) where n is the number of vertices. This method does not generate garbage as
+    * long as {@code rectangleToPack} has enough capacity.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if the polygon is empty, this method fails, returns {@link Double#NaN}, and
+    * {@code rectangleToPack} is empty.
+    * <li>if the polygon has less than 3 vertices, this method returns {@code 0.0} and
+    * {@code rectangleToPack} is set to the polygon.
+    * </ul>
+    * </p>
+    *
+    * @param polygon         the convex polygon to enclose. Not modified.
+    * @param rectangleToPack the polygon in which the rectangle is stored. Modified. Can be
+    *                        {@code null}.
+    * @return the area of the rectangle.
+    * @throws IllegalArgumentException if {@code rectangleToPack} is {@code polygon}.
+    * @throws OutdatedPolygonException if {@code polygon} is not up-to-date.
+    */
+   public static double minimumAreaBoundingRectangleOfConvexPolygon2D(ConvexPolygon2DReadOnly polygon, ConvexPolygon2DBasics rectangleToPack)
+   {
+      return minimumBoundingRectangleOfConvexPolygon2D(polygon, true, rectangleToPack);
+   }
+
+   /**
+    * Computes the rectangle of minimum perimeter that encloses a convex polygon.
+    * <p>
+    * The optimal rectangle has a side that contains an edge of the polygon. For each edge, the
+    * rotating calipers are used to maintain the three other extreme vertices, such that the
+    * complexity is O(n) where n is the number of vertices. This method does not generate garbage as
+    * long as {@code rectangleToPack} has enough capacity.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if the polygon is empty, this method fails, returns {@link Double#NaN}, and
+    * {@code rectangleToPack} is empty.
+    * <li>if the polygon has less than 3 vertices, this method returns twice the distance between the
+    * vertices and {@code rectangleToPack} is set to the polygon.
+    * </ul>
+    * </p>
+    *
+    * @param polygon         the convex polygon to enclose. Not modified.
+    * @param rectangleToPack the polygon in which the rectangle is stored. Modified. Can be
+    *                        {@code null}.
+    * @return the perimeter of the rectangle.
+    * @throws IllegalArgumentException if {@code rectangleToPack} is {@code polygon}.
+    * @throws OutdatedPolygonException if {@code polygon} is not up-to-date.
+    */
+   public static double minimumPerimeterBoundingRectangleOfConvexPolygon2D(ConvexPolygon2DReadOnly polygon, ConvexPolygon2DBasics rectangleToPack)
+   {
+      return minimumBoundingRectangleOfConvexPolygon2D(polygon, false, rectangleToPack);
+   }
+
+   private static double minimumBoundingRectangleOfConvexPolygon2D(ConvexPolygon2DReadOnly polygon, boolean minimizeArea,
+                                                                   ConvexPolygon2DBasics rectangleToPack)
+   {
+      if (rectangleToPack != null)
+      {
+         checkNotAliased(polygon, polygon, rectangleToPack);
+         rectangleToPack.clear();
+      }
+      polygon.checkIfUpToDate();
+
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (numberOfVertices < 3)
+      {
+         if (rectangleToPack != null)
+         {
+            addVertices(polygon, rectangleToPack);
+            rectangleToPack.update();
+         }
+
+         if (numberOfVertices == 0)
+            return Double.NaN;
+         else
+            return minimizeArea ? 0.0 : 2.0 * polygon.getVertex(0).distance(polygon.getVertex(numberOfVertices - 1));
+      }
+
+      int maxAlongIndex = 1;
+      int farthestIndex = 1;
+      int minAlongIndex = 1;
+
+      double bestCost = Double.POSITIVE_INFINITY;
+      int bestEdgeIndex = -1;
+      double bestMinAlong = 0.0;
+      double bestMaxAlong = 0.0;
+      double bestHeight = 0.0;
+
+      for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+      {
+         Point2DReadOnly edgeStart = polygon.getVertex(edgeIndex);
+         Point2DReadOnly edgeEnd = polygon.getNextVertex(edgeIndex);
+         double edgeLength = edgeStart.distance(edgeEnd);
+         double directionX = (edgeEnd.getX() - edgeStart.getX()) / edgeLength;
+         double directionY = (edgeEnd.getY() - edgeStart.getY()) / edgeLength;
+
+         // Going clockwise from the edge, the extreme vertices are reached in this order: max along the edge, farthest from the edge, min along the edge.
+         if (edgeIndex == 0)
+            maxAlongIndex = next(edgeIndex, numberOfVertices);
+         while (dot(polygon.getNextVertex(maxAlongIndex), edgeStart, directionX, directionY) > dot(polygon.getVertex(maxAlongIndex),
+                                                                                                      edgeStart,
+                                                                                                      directionX,
+                                                                                                      directionY))
+            maxAlongIndex = next(maxAlongIndex, numberOfVertices);
+
+         if (edgeIndex == 0)
+            farthestIndex = maxAlongIndex;
+         farthestIndex = farthestVertexIndexFromEdge(polygon, edgeIndex, farthestIndex);
+
+         if (edgeIndex == 0)
+            minAlongIndex = farthestIndex;
+         while (dot(polygon.getNextVertex(minAlongIndex), edgeStart, directionX, directionY) < dot(polygon.getVertex(minAlongIndex),
+                                                                                                      edgeStart,
+                                                                                                      directionX,
+                                                                                                      directionY))
+            minAlongIndex = next(minAlongIndex, numberOfVertices);
+
+         double minAlong = dot(polygon.getVertex(minAlongIndex), edgeStart, directionX, directionY);
+         double maxAlong = dot(polygon.getVertex(maxAlongIndex), edgeStart, directionX, directionY);
+         double height = heightAboveEdge(polygon, edgeIndex, polygon.getVertex(farthestIndex));
+         double cost = minimizeArea ? (maxAlong - minAlong) * height : 2.0 * (maxAlong - minAlong + height);
+
+         if (cost < bestCost)
+         {
+            bestCost = cost;
+            bestEdgeIndex = edgeIndex;
+            bestMinAlong = minAlong;
+            bestMaxAlong = maxAlong;
+            bestHeight = height;
+         }
+      }
+
+      if (rectangleToPack != null)
+      {
+         Point2DReadOnly edgeStart = polygon.getVertex(bestEdgeIndex);
+         Point2DReadOnly edgeEnd = polygon.getNextVertex(bestEdgeIndex);
+         double edgeLength = edgeStart.distance(edgeEnd);
+         double directionX = (edgeEnd.getX() - edgeStart.getX()) / edgeLength;
+         double directionY = (edgeEnd.getY() - edgeStart.getY()) / edgeLength;
+         // The inside of a clockwise polygon is on the right side of the edges.
+         double normalX = directionY;
+         double normalY = -directionX;
+
+         rectangleToPack.addVertex(edgeStart.getX() + bestMinAlong * directionX, edgeStart.getY() + bestMinAlong * directionY);
+         rectangleToPack.addVertex(edgeStart.getX() + bestMaxAlong * directionX, edgeStart.getY() + bestMaxAlong * directionY);
+         rectangleToPack.addVertex(edgeStart.getX() + bestMaxAlong * directionX + bestHeight * normalX,
+                                   edgeStart.getY() + bestMaxAlong * directionY + bestHeight * normalY);
+         rectangleToPack.addVertex(edgeStart.getX() + bestMinAlong * directionX + bestHeight * normalX,
+                                   edgeStart.getY() + bestMinAlong * directionY + bestHeight * normalY);
+         rectangleToPack.update();
+      }
+
+      return bestCost;
+   }
+
+   /**
+    * Computes the minimum distance between two disjoint convex polygons.
+    * <p>
+    * The algorithm from <i>Toussaint, G. T. (1983). Solving geometric problems with the rotating
+    * calipers.</i> is used: two parallel lines of support, one for each polygon, are rotated around
+    * the polygons such that only the pairs of antipodal edges are visited. The complexity is O(n + m)
+    * where n and m are the number of vertices of the two polygons. This method does not generate
+    * garbage.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if either polygon is empty, this method fails and returns {@link Double#NaN}.
+    * <li>the polygons are assumed to be disjoint, when they intersect the result is not the
+    * penetration distance and is meaningless. See
+    * {@link #intersectionBetweenTwoConvexPolygon2Ds(ConvexPolygon2DReadOnly, ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)}.
+    * </ul>
+    * </p>
+    *
+    * @param polygonA              the first convex polygon. Not modified.
+    * @param polygonB              the second convex polygon. Not modified.
+    * @param closestPointOnAToPack the point on {@code polygonA} that is the closest to
+    *                              {@code polygonB}. Modified. Can be {@code null}.
+    * @param closestPointOnBToPack the point on {@code polygonB} that is the closest to
+    *                              {@code polygonA}. Modified. Can be {@code null}.
+    * @return the distance between the two polygons.
+    * @throws OutdatedPolygonException if either polygon is not up-to-date.
+    */
+   public static double distanceBetweenTwoConvexPolygon2Ds(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB,
+                                                           Point2DBasics closestPointOnAToPack, Point2DBasics closestPointOnBToPack)
+   {
+      polygonA.checkIfUpToDate();
+      polygonB.checkIfUpToDate();
+
+      int n = polygonA.getNumberOfVertices();
+      int m = polygonB.getNumberOfVertices();
+
+      if (n == 0 || m == 0)
+         return Double.NaN;
+
+      double minDistanceSquared = Double.POSITIVE_INFINITY;
+
+      if (n < 3 || m < 3)
+      { // Testing all the pairs of edges, one of the polygons has at most 2 edges.
+         for (int i = 0; i < n; i++)
+         {
+            for (int j = 0; j < m; j++)
+               minDistanceSquared = closestPointsBetweenTwoEdges(polygonA, i, polygonB, j, minDistanceSquared, closestPointOnAToPack, closestPointOnBToPack);
+         }
+
+         return EuclidCoreTools.squareRoot(minDistanceSquared);
+      }
+
+      // The support line of A is initially at its bottom, going toward -x, while the one of B is at its top going toward +x.
+      int a = findVertexIndex(polygonA, false, Bound.MAX, Bound.MIN);
+      int b = findVertexIndex(polygonB, false, Bound.MIN, Bound.MAX);
+      double caliperX = -1.0;
+      double caliperY = 0.0;
+      int numberOfAdvancesOnA = 0;
+      int numberOfAdvancesOnB = 0;
+
+      while (numberOfAdvancesOnA < n || numberOfAdvancesOnB < m)
+      {
+         minDistanceSquared = closestPointsBetweenTwoEdges(polygonA, a, polygonB, b, minDistanceSquared, closestPointOnAToPack, closestPointOnBToPack);
+
+         Point2DReadOnly vertexA = polygonA.getVertex(a);
+         Point2DReadOnly nextVertexA = polygonA.getNextVertex(a);
+         Point2DReadOnly vertexB = polygonB.getVertex(b);
+         Point2DReadOnly nextVertexB = polygonB.getNextVertex(b);
+         double edgeAX = nextVertexA.getX() - vertexA.getX();
+         double edgeAY = nextVertexA.getY() - vertexA.getY();
+         // The support line of B is opposite to the one of A.
+         double edgeBX = vertexB.getX() - nextVertexB.getX();
+         double edgeBY = vertexB.getY() - nextVertexB.getY();
+
+         boolean advanceOnA;
+         if (numberOfAdvancesOnB == m)
+            advanceOnA = true;
+         else if (numberOfAdvancesOnA == n)
+            advanceOnA = false;
+         else
+            advanceOnA = compareClockwiseAngles(caliperX, caliperY, edgeAX, edgeAY, edgeBX, edgeBY) <= 0;
+
+         if (advanceOnA)
+         {
+            caliperX = edgeAX;
+            caliperY = edgeAY;
+            a = next(a, n);
+            numberOfAdvancesOnA++;
+         }
+         else
+         {
+            caliperX = edgeBX;
+            caliperY = edgeBY;
+            b = next(b, m);
+            numberOfAdvancesOnB++;
+         }
+      }
+
+      return EuclidCoreTools.squareRoot(minDistanceSquared);
+   }
+
+   /**
+    * Computes the signed area of the simple polygon described by the given vertices using the shoelace
+    * formula.
+    * <p>
+    * The area is positive when the vertices are counter-clockwise ordered and negative when they are
+    * clockwise ordered. The polygon is not required to be convex, but it should be simple, i.e. its
+    * edges should not intersect each other, for the result to be meaningful.
+    * </p>
+    * <p>
+    * Edge case: if the polygon has less than 3 vertices, this method returns {@code 0.0}.
+    * </p>
+    *
+    * @param polygon the vertices of the polygon. Not modified.
+    * @return the signed area of the polygon.
+    */
+   public static double signedAreaOfSimplePolygon2D(Vertex2DSupplier polygon)
+   {
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (numberOfVertices < 3)
+         return 0.0;
+
+      double doubleArea = 0.0;
+      Point2DReadOnly previous = polygon.getVertex(numberOfVertices - 1);
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point2DReadOnly vertex = polygon.getVertex(i);
+         doubleArea += previous.getX() * vertex.getY() - previous.getY() * vertex.getX();
+         previous = vertex;
+      }
+
+      return 0.5 * doubleArea;
+   }
+
+   /**
+    * Triangulates the simple polygon described by the given vertices using the ear clipping
+    * algorithm.
+    * <p>
+    * The polygon can be concave and its vertices can be either clockwise or counter-clockwise ordered.
+    * Each triangle is packed as 3 consecutive vertex indices ordered the same way as the polygon.
+    * </p>
+    * <p>
+    * The polygon should be simple, i.e. its edges should not intersect each other. If the polygon is
+    * not simple, this method still terminates and packs {@code n - 2} triangles but they may overlap
+    * or lie outside the polygon.
+    * </p>
+    * <p>
+    * Edge case: if the polygon has less than 3 vertices, this method returns {@code 0}.
+    * </p>
+    *
+    * @param polygon               the vertices of the polygon. Not modified.
+    * @param triangleIndicesToPack the array in which the triangles are stored. It has to be of length
+    *                              greater or equal to {@code 3 * (n - 2)} where {@code n} is the number
+    *                              of vertices of the polygon. Modified.
+    * @return the number of triangles, equal to {@code n - 2}.
+    * @throws IllegalArgumentException if {@code triangleIndicesToPack} is too small.
+    */
+   public static int triangulateSimplePolygon2D(Vertex2DSupplier polygon, int[] triangleIndicesToPack)
+   {
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (numberOfVertices < 3)
+         return 0;
+
+      if (triangleIndicesToPack.length < 3 * (numberOfVertices - 2))
+         throw new IllegalArgumentException("The array is too small to store the triangles, expected length: " + 3 * (numberOfVertices - 2) + ", was: "
+               + triangleIndicesToPack.length);
+
+      return clipEars(polygon, triangleIndicesToPack, null);
+   }
+
+   /**
+    * Decomposes the simple polygon described by the given vertices into convex polygons.
+    * <p>
+    * The polygon is first triangulated with
+    * {@link #triangulateSimplePolygon2D(Vertex2DSupplier, int[])}, then the Hertel-Mehlhorn
+    * algorithm removes every diagonal of the triangulation which removal does not create a reflex
+    * vertex. The resulting number of convex polygons is at most 4 times the optimal number and at
+    * most twice the number of reflex vertices plus one.
+    * </p>
+    * <p>
+    * The list is reused: the convex polygons it already contains are recycled, new ones are added
+    * when needed, and the list is trimmed to the number of convex polygons.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if the polygon is empty, the list is cleared and this method returns {@code 0}.
+    * <li>if the polygon has 1 or 2 vertices, the list is packed with a single polygon with these
+    * vertices.
+    * </ul>
+    * </p>
+    *
+    * @param polygon              the vertices of the polygon. Not modified.
+    * @param convexPolygonsToPack the list in which the convex polygons are stored. Modified.
+    * @return the number of convex polygons.
+    */
+   public static int decomposeSimplePolygon2DIntoConvexPolygon2Ds(Vertex2DSupplier polygon, List<ConvexPolygon2D> convexPolygonsToPack)
+   {
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      if (numberOfVertices == 0)
+      {
+         convexPolygonsToPack.clear();
+         return 0;
+      }
+
+      if (numberOfVertices < 3)
+      {
+         nextConvexPolygon2D(convexPolygonsToPack, 0).set(polygon);
+         trimList(convexPolygonsToPack, 1);
+         return 1;
+      }
+
+      int numberOfTriangles = numberOfVertices - 2;
+      int[] triangles = new int[3 * numberOfTriangles];
+      // For each diagonal, the indices of the two triangles sharing it.
+      int[] diagonalTriangles = new int[2 * (numberOfTriangles - 1)];
+      clipEars(polygon, triangles, diagonalTriangles);
+
+      double orientation = Math.signum(signedAreaOfSimplePolygon2D(polygon));
+      if (orientation == 0.0)
+         orientation = 1.0;
+
+      // Each part starts as a triangle and is identified by the index of one of its triangles.
+      int[][] parts = new int[numberOfTriangles][];
+      int[] partParents = new int[numberOfTriangles];
+
+      for (int i = 0; i < numberOfTriangles; i++)
+      {
+         parts[i] = new int[] {triangles[3 * i], triangles[3 * i + 1], triangles[3 * i + 2]};
+         partParents[i] = i;
+      }
+
+      int numberOfParts = numberOfTriangles;
+
+      for (int diagonal = 0; diagonal < numberOfTriangles - 1; diagonal++)
+      {
+         int partA = findRootPart(partParents, diagonalTriangles[2 * diagonal]);
+         int partB = findRootPart(partParents, diagonalTriangles[2 * diagonal + 1]);
+         int[] mergedPart = mergeConvexParts(polygon, parts[partA], parts[partB], orientation);
+
+         if (mergedPart != null)
+         {
+            parts[partA] = mergedPart;
+            parts[partB] = null;
+            partParents[partB] = partA;
+            numberOfParts--;
+         }
+      }
+
+      int partIndex = 0;
+
+      for (int[] part : parts)
+      {
+         if (part == null)
+            continue;
+
+         ConvexPolygon2D convexPolygon = nextConvexPolygon2D(convexPolygonsToPack, partIndex++);
+         convexPolygon.clear();
+         for (int vertexIndex : part)
+            convexPolygon.addVertex(polygon.getVertex(vertexIndex));
+         convexPolygon.update();
+      }
+
+      trimList(convexPolygonsToPack, numberOfParts);
+      return numberOfParts;
+   }
+
+   /**
+    * Sorts the vertices to complete the first step of the Graham scan algorithm.
+    * <p>
+    * First the vertex located at the lowest x-coordinate is found and used as the reference P.
+    * </p>
+    * <p>
+    * Then the vertices are sorted in increasing order of the angle they and the reference P make with
+    * the y-axis.
+    * </p>
+    * <p>
+    * The <a href="https://en.wikipedia.org/wiki/Quicksort#Choice_of_pivot">Quicksort algorithm</a> is
+    * adapted to the Graham scan application to prevent garbage generation.
+    * </p>
+    *
+    * @param vertices         the list of vertices to be sorted. Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm will
+    *                         only process the points &in; [0; {@code numberOfVertices}[.
+    */
+   static void grahamScanAngleSort(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      Point2DReadOnly minXMaxYVertex = vertices.get(findMinXMaxYVertexIndex(vertices, numberOfVertices));
+      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, 0, numberOfVertices - 1);
+   }
+
+   /**
+    * Recursive step of the sorting algorithm for the Graham scan.
+    */
+   private static void grahamScanAngleSortRecursive(List<? extends Point2DReadOnly> vertices, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex)
+   {
+      if (endIndex <= startIndex)
+         return;
+
+      // Choose the pivot randomly
+      int pivotIndex = random.nextInt(endIndex - startIndex) + startIndex;
+
+      /*
+       * Partitioning:
+       * @formatter:off
+       * +------------------------+
+       *  | <= pivot | > pivot |
+       * +------------------------+
+       *             ^
+       *             |
+       *         pivotIndex
+       * @formatter:on
+       */
+      pivotIndex = grahamScanAnglePartition(vertices, minXMaxYVertex, startIndex, endIndex, pivotIndex);
+      // Recurse on each side of the pivot
+      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, startIndex, pivotIndex - 1);
+      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, pivotIndex + 1, endIndex);
+   }
+
+   /**
+    * Partition the list around the pivot:
+    *
+    * <pre>
+    * +------------------------+
+    * |  <= pivot  |  > pivot  |
+    * +------------------------+
     *              ^
     *              |
     *          pivotIndex
     * </pre>
     */
-   private static int grahamScanAnglePartition(List<? extends Point2DReadOnly> list, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex,
-                                               int pivotIndex)
+   private static int grahamScanAnglePartition(List<? extends Point2DReadOnly> list, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex,
+                                               int pivotIndex)
+   {
+      Point2DReadOnly pivot = list.get(pivotIndex);
+      // Push the pivot to the endIndex
+      Collections.swap(list, pivotIndex, endIndex);
+      // Index where the array is partitioned between smaller and larger elements than the pivot
+      int partitionIndex = startIndex;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         if (grahamScanAngleCompare(minXMaxYVertex, list.get(i), pivot) <= 0)
+         { // Element is lower or equal to the pivot: it is part of the first partition.
+            Collections.swap(list, i, partitionIndex);
+            partitionIndex++;
+         }
+      }
+
+      // Move the pivot back to the partition index.
+      Collections.swap(list, endIndex, partitionIndex);
+      return partitionIndex;
+   }
+
+   static int grahamScanAngleCompare(Point2DReadOnly minXMaxYVertex, Point2DReadOnly vertex1, Point2DReadOnly vertex2)
+   {
+      if (vertex1 == minXMaxYVertex)
+         return -1;
+      if (vertex2 == minXMaxYVertex)
+         return 1;
+      if (vertex1.epsilonEquals(vertex2, EPSILON))
+         return 0;
+      if (isPoint2DOnLeftSideOfLine2D(vertex1, minXMaxYVertex, vertex2))
+         return -1;
+      return 1;
+   }
+
+   /**
+    * Finds the index i of the polygon vertex such that the direction (dx, dy) from the interior point
+    * lies in the sector defined by the vertices i and i + 1, using a binary search on the angle from
+    * the first vertex.
+    */
+   private static int findSectorIndex(List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices, boolean clockwiseOrdered, double interiorX,
+                                      double interiorY, double dx, double dy)
+   {
+      // Mirroring the y-axis makes a counter-clockwise polygon clockwise.
+      double ySign = clockwiseOrdered ? 1.0 : -1.0;
+      Point2DReadOnly firstVertex = convexPolygon2D.get(0);
+      double referenceX = firstVertex.getX() - interiorX;
+      double referenceY = ySign * (firstVertex.getY() - interiorY);
+      dy *= ySign;
+
+      int low = 0;
+      int high = numberOfVertices;
+
+      // Finds the last vertex which clockwise angle is lower or equal to the angle of the direction.
+      while (high - low > 1)
+      {
+         int mid = (low + high) / 2;
+         Point2DReadOnly vertex = convexPolygon2D.get(mid);
+
+         if (compareClockwiseAngles(referenceX, referenceY, vertex.getX() - interiorX, ySign * (vertex.getY() - interiorY), dx, dy) <= 0)
+            low = mid;
+         else
+            high = mid;
+      }
+
+      return low;
+   }
+
+   /**
+    * Finds using a binary search the index of an edge of the convex polygon that the observer can see.
+    * The edge is the one crossed by the ray going from a point inside the polygon to the observer.
+    *
+    * @return the index of a visible edge, {@code -1} if the observer is inside or on the polygon, or
+    *         {@code -2} if the polygon is degenerate.
+    */
+   private static int findVisibleEdgeIndex(double observerX, double observerY, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                           boolean clockwiseOrdered)
+   {
+      Point2DReadOnly a = convexPolygon2D.get(0);
+      Point2DReadOnly b = convexPolygon2D.get(numberOfVertices / 3);
+      Point2DReadOnly c = convexPolygon2D.get(2 * numberOfVertices / 3);
+
+      if (!isPoint2DOnSideOfLine2D(c, a, b, !clockwiseOrdered))
+         return -2;
+
+      double interiorX = (a.getX() + b.getX() + c.getX()) / 3.0;
+      double interiorY = (a.getY() + b.getY() + c.getY()) / 3.0;
+      int edgeIndex = findSectorIndex(convexPolygon2D, numberOfVertices, clockwiseOrdered, interiorX, interiorY, observerX - interiorX, observerY - interiorY);
+
+      if (canObserverSeeEdge(edgeIndex, observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+         return edgeIndex;
+      else
+         return -1;
+   }
+
+   /**
+    * Finds using a binary search the index of an edge of the convex polygon that the observer cannot
+    * see. The edge is the one crossed by the ray going from a point inside the polygon away from the
+    * observer.
+    * <p>
+    * This method assumes that the polygon is not degenerate, see
+    * {@link #findVisibleEdgeIndex(double, double, List, int, boolean)}.
+    * </p>
+    *
+    * @return the index of a hidden edge, or {@code -2} if the search failed due to numerical issues.
+    */
+   private static int findHiddenEdgeIndex(double observerX, double observerY, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                          boolean clockwiseOrdered)
+   {
+      Point2DReadOnly a = convexPolygon2D.get(0);
+      Point2DReadOnly b = convexPolygon2D.get(numberOfVertices / 3);
+      Point2DReadOnly c = convexPolygon2D.get(2 * numberOfVertices / 3);
+
+      double interiorX = (a.getX() + b.getX() + c.getX()) / 3.0;
+      double interiorY = (a.getY() + b.getY() + c.getY()) / 3.0;
+      int edgeIndex = findSectorIndex(convexPolygon2D, numberOfVertices, clockwiseOrdered, interiorX, interiorY, interiorX - observerX, interiorY - observerY);
+
+      if (canObserverSeeEdge(edgeIndex, observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+         return -2;
+      else
+         return edgeIndex;
+   }
+
+   /**
+    * Finds using a binary search the first visible edge when going from the hidden edge to the visible
+    * edge, i.e. the start of the line-of-sight.
+    */
+   private static int firstVisibleEdgeIndex(int hiddenEdgeIndex, int visibleEdgeIndex, double observerX, double observerY,
+                                            List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices, boolean clockwiseOrdered)
+   {
+      int low = 0;
+      int high = wrap(visibleEdgeIndex - hiddenEdgeIndex, numberOfVertices);
+
+      while (high - low > 1)
+      {
+         int mid = (low + high) / 2;
+
+         if (canObserverSeeEdge(wrap(hiddenEdgeIndex + mid, numberOfVertices), observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+            high = mid;
+         else
+            low = mid;
+      }
+
+      return wrap(hiddenEdgeIndex + high, numberOfVertices);
+   }
+
+   /**
+    * Finds using a binary search the first hidden edge when going from the visible edge to the hidden
+    * edge, i.e. the end of the line-of-sight.
+    */
+   private static int firstHiddenEdgeIndex(int visibleEdgeIndex, int hiddenEdgeIndex, double observerX, double observerY,
+                                           List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices, boolean clockwiseOrdered)
+   {
+      int low = 0;
+      int high = wrap(hiddenEdgeIndex - visibleEdgeIndex, numberOfVertices);
+
+      while (high - low > 1)
+      {
+         int mid = (low + high) / 2;
+
+         if (canObserverSeeEdge(wrap(visibleEdgeIndex + mid, numberOfVertices), observerX, observerY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+            low = mid;
+         else
+            high = mid;
+      }
+
+      return wrap(visibleEdgeIndex + high, numberOfVertices);
+   }
+
+   /**
+    * Finds using binary searches the index of the closest edge to a query located outside the polygon.
+    * <p>
+    * The distance from the query to the edges in the line-of-sight decreases until reaching the closest
+    * edge and then increases, such that the closest edge is the first edge onto which the query does
+    * not project beyond the edge's end.
+    * </p>
+    *
+    * @return the index of the closest edge, {@code -1} if the query is inside or on the polygon, or
+    *         {@code -2} if the polygon is degenerate.
+    */
+   private static int closestVisibleEdgeIndexToPoint2D(double pointX, double pointY, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                                       boolean clockwiseOrdered)
+   {
+      int visibleEdgeIndex = findVisibleEdgeIndex(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+      if (visibleEdgeIndex < 0)
+         return visibleEdgeIndex;
+      int hiddenEdgeIndex = findHiddenEdgeIndex(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+      if (hiddenEdgeIndex < 0)
+         return hiddenEdgeIndex;
+
+      int startIndex = firstVisibleEdgeIndex(hiddenEdgeIndex, visibleEdgeIndex, pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+      int endIndex = firstHiddenEdgeIndex(visibleEdgeIndex, hiddenEdgeIndex, pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+      int numberOfVisibleEdges = wrap(endIndex - startIndex, numberOfVertices);
+
+      int low = -1;
+      int high = numberOfVisibleEdges - 1;
+
+      while (high - low > 1)
+      {
+         int mid = (low + high) / 2;
+         int edgeIndex = wrap(startIndex + mid, numberOfVertices);
+         Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+         double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+         double edgeDirectionY = edgeEnd.getY() - edgeStart.getY();
+
+         if ((pointX - edgeEnd.getX()) * edgeDirectionX + (pointY - edgeEnd.getY()) * edgeDirectionY > 0.0)
+            low = mid;
+         else
+            high = mid;
+      }
+
+      /*
+       * When the closest point is a vertex, the two edges sharing it are at the same distance. The
+       * neighbors are evaluated to return the edge with the lowest index as the linear search does.
+       */
+      int closestEdgeIndex = wrap(startIndex + high, numberOfVertices);
+      double minDistanceSquared = distanceSquaredFromPoint2DToLineSegment2D(pointX,
+                                                                            pointY,
+                                                                            convexPolygon2D.get(closestEdgeIndex),
+                                                                            convexPolygon2D.get(next(closestEdgeIndex, numberOfVertices)));
+
+      for (int offset = high - 1; offset <= high + 1; offset += 2)
+      {
+         if (offset < 0 || offset >= numberOfVisibleEdges)
+            continue;
+
+         int edgeIndex = wrap(startIndex + offset, numberOfVertices);
+         double distanceSquared = distanceSquaredFromPoint2DToLineSegment2D(pointX,
+                                                                            pointY,
+                                                                            convexPolygon2D.get(edgeIndex),
+                                                                            convexPolygon2D.get(next(edgeIndex, numberOfVertices)));
+
+         if (distanceSquared < minDistanceSquared || distanceSquared == minDistanceSquared && edgeIndex < closestEdgeIndex)
+         {
+            closestEdgeIndex = edgeIndex;
+            minDistanceSquared = distanceSquared;
+         }
+      }
+
+      return closestEdgeIndex;
+   }
+
+   /**
+    * Computes the intersections between a line and a convex polygon using binary searches.
+    * <p>
+    * The two extreme vertices on each side of the line are found first, then the vertices in between
+    * are sorted by their signed distance to the line allowing to find each intersecting edge with a
+    * binary search.
+    * </p>
+    *
+    * @return the number of intersections, or {@code -1} if the line goes through a vertex or
+    *         the polygon is degenerate, these cases are handled by the linear search.
+    */
+   private static int intersectionBetweenLine2DAndConvexPolygon2DBinarySearch(double pointOnLineX, double pointOnLineY, double lineDirectionX,
+                                                                              double lineDirectionY, List<? extends Point2DReadOnly> convexPolygon2D,
+                                                                              int numberOfVertices, boolean clockwiseOrdered,
+                                                                              Point2DBasics firstIntersectionToPack, Point2DBasics secondIntersectionToPack)
+   {
+      if (lineDirectionX == 0.0 && lineDirectionY == 0.0)
+         return -1;
+
+      int leftMostIndex = findExtremeVertexIndex(convexPolygon2D, numberOfVertices, clockwiseOrdered, -lineDirectionY, lineDirectionX);
+      int rightMostIndex = findExtremeVertexIndex(convexPolygon2D, numberOfVertices, clockwiseOrdered, lineDirectionY, -lineDirectionX);
+
+      if (leftMostIndex < 0 || rightMostIndex < 0)
+         return -1;
+
+      double leftMostDistance = signedDistanceToLine(convexPolygon2D.get(leftMostIndex), pointOnLineX, pointOnLineY, lineDirectionX, lineDirectionY);
+      double rightMostDistance = signedDistanceToLine(convexPolygon2D.get(rightMostIndex), pointOnLineX, pointOnLineY, lineDirectionX, lineDirectionY);
+
+      // The signed distances are scaled by the norm of the line direction.
+      double tolerance = EPSILON * EuclidCoreTools.norm(lineDirectionX, lineDirectionY);
+
+      if (leftMostDistance < -tolerance || rightMostDistance > tolerance)
+         return 0;
+      if (leftMostDistance <= tolerance || rightMostDistance >= -tolerance)
+         return -1;
+
+      int firstEdgeIndex = findEdgeCrossingLine(leftMostIndex,
+                                                rightMostIndex,
+                                                pointOnLineX,
+                                                pointOnLineY,
+                                                lineDirectionX,
+                                                lineDirectionY,
+                                                tolerance,
+                                                convexPolygon2D,
+                                                numberOfVertices);
+      int secondEdgeIndex = findEdgeCrossingLine(rightMostIndex,
+                                                 leftMostIndex,
+                                                 pointOnLineX,
+                                                 pointOnLineY,
+                                                 lineDirectionX,
+                                                 lineDirectionY,
+                                                 tolerance,
+                                                 convexPolygon2D,
+                                                 numberOfVertices);
+
+      if (firstEdgeIndex < 0 || secondEdgeIndex < 0)
+         return -1;
+
+      if (secondEdgeIndex < firstEdgeIndex)
+      {
+         int temp = firstEdgeIndex;
+         firstEdgeIndex = secondEdgeIndex;
+         secondEdgeIndex = temp;
+      }
+
+      Point2DReadOnly edgeStart = convexPolygon2D.get(firstEdgeIndex);
+      Point2DReadOnly edgeEnd = convexPolygon2D.get(next(firstEdgeIndex, numberOfVertices));
+      boolean success = intersectionBetweenLine2DAndLineSegment2D(pointOnLineX,
+                                                                  pointOnLineY,
+                                                                  lineDirectionX,
+                                                                  lineDirectionY,
+                                                                  edgeStart.getX(),
+                                                                  edgeStart.getY(),
+                                                                  edgeEnd.getX(),
+                                                                  edgeEnd.getY(),
+                                                                  firstIntersectionToPack);
+      if (!success)
+         return -1;
+
+      edgeStart = convexPolygon2D.get(secondEdgeIndex);
+      edgeEnd = convexPolygon2D.get(next(secondEdgeIndex, numberOfVertices));
+      success = intersectionBetweenLine2DAndLineSegment2D(pointOnLineX,
+                                                          pointOnLineY,
+                                                          lineDirectionX,
+                                                          lineDirectionY,
+                                                          edgeStart.getX(),
+                                                          edgeStart.getY(),
+                                                          edgeEnd.getX(),
+                                                          edgeEnd.getY(),
+                                                          secondIntersectionToPack);
+      if (!success)
+         return -1;
+
+      if (firstIntersectionToPack.epsilonEquals(secondIntersectionToPack, EPSILON))
+         return 1;
+      else
+         return 2;
+   }
+
+   /**
+    * Finds using a binary search the edge crossing the line when going from the vertex
+    * {@code fromIndex} to the vertex {@code toIndex} which are on opposite sides of the line.
+    *
+    * @return the index of the crossing edge, or {@code -1} if a vertex lies on the line.
+    */
+   private static int findEdgeCrossingLine(int fromIndex, int toIndex, double pointOnLineX, double pointOnLineY, double lineDirectionX,
+                                           double lineDirectionY, double tolerance, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices)
+   {
+      boolean isFromOnLeftSide = signedDistanceToLine(convexPolygon2D.get(fromIndex), pointOnLineX, pointOnLineY, lineDirectionX, lineDirectionY) > 0.0;
+
+      int low = 0;
+      int high = wrap(toIndex - fromIndex, numberOfVertices);
+
+      while (high - low > 1)
+      {
+         int mid = (low + high) / 2;
+         Point2DReadOnly vertex = convexPolygon2D.get(wrap(fromIndex + mid, numberOfVertices));
+         double distance = signedDistanceToLine(vertex, pointOnLineX, pointOnLineY, lineDirectionX, lineDirectionY);
+
+         if (Math.abs(distance) <= tolerance)
+            return -1;
+
+         if (distance > 0.0 == isFromOnLeftSide)
+            low = mid;
+         else
+            high = mid;
+      }
+
+      return wrap(fromIndex + low, numberOfVertices);
+   }
+
+   /**
+    * Computes a value proportional to the signed distance from the vertex to the line, it is positive
+    * when the vertex is on the left side of the line.
+    */
+   private static double signedDistanceToLine(Point2DReadOnly vertex, double pointOnLineX, double pointOnLineY, double lineDirectionX, double lineDirectionY)
+   {
+      return cross(lineDirectionX, lineDirectionY, vertex.getX() - pointOnLineX, vertex.getY() - pointOnLineY);
+   }
+
+   /**
+    * Finds the index of the vertex that is the furthest along the given direction using a binary
+    * search. The search relies on the edge directions that rotate monotonically around the convex
+    * polygon: for a clockwise polygon, the extreme vertex is the start of the first edge which
+    * direction is at or after the given direction rotated clockwise by a right angle.
+    * <p>
+    * The edge directions are measured from the first edge, so the polygon must turn strictly at the
+    * first vertex. Otherwise the last edge has the same direction as the first one, the directions are
+    * no longer monotonic, and the search could miss the extreme vertex. Vertices lying on an edge
+    * elsewhere in the polygon do not affect the search.
+    * </p>
+    *
+    * @return the index of the extreme vertex, or {@code -1} if the first edge is degenerate or if the
+    *         polygon does not turn strictly at the first vertex.
+    */
+   private static int findExtremeVertexIndex(List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices, boolean clockwiseOrdered,
+                                             double directionX, double directionY)
+   {
+      // Mirroring the y-axis makes a counter-clockwise polygon clockwise.
+      double ySign = clockwiseOrdered ? 1.0 : -1.0;
+      Point2DReadOnly firstVertex = convexPolygon2D.get(0);
+      Point2DReadOnly secondVertex = convexPolygon2D.get(1);
+      double referenceX = secondVertex.getX() - firstVertex.getX();
+      double referenceY = ySign * (secondVertex.getY() - firstVertex.getY());
+
+      if (referenceX == 0.0 && referenceY == 0.0)
+         return -1;
+
+      Point2DReadOnly lastVertex = convexPolygon2D.get(numberOfVertices - 1);
+      if (cross(firstVertex.getX() - lastVertex.getX(), ySign * (firstVertex.getY() - lastVertex.getY()), referenceX, referenceY) >= 0.0)
+         return -1;
+
+      double targetX = ySign * directionY;
+      double targetY = -directionX;
+
+      int low = -1;
+      int high = numberOfVertices;
+
+      while (high - low > 1)
+      {
+         int mid = (low + high) / 2;
+         Point2DReadOnly edgeStart = convexPolygon2D.get(mid);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(mid, numberOfVertices));
+         double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+         double edgeDirectionY = ySign * (edgeEnd.getY() - edgeStart.getY());
+
+         if (compareClockwiseAngles(referenceX, referenceY, edgeDirectionX, edgeDirectionY, targetX, targetY) >= 0)
+            high = mid;
+         else
+            low = mid;
+      }
+
+      return high == numberOfVertices ? 0 : high;
+   }
+
+   /**
+    * Compares the clockwise angles in [0, 2&pi;[ from the reference direction to each of the two given
+    * directions.
+    */
+   private static int compareClockwiseAngles(double referenceX, double referenceY, double firstX, double firstY, double secondX, double secondY)
+   {
+      boolean isFirstInSecondHalf = isInSecondClockwiseHalf(referenceX, referenceY, firstX, firstY);
+      boolean isSecondInSecondHalf = isInSecondClockwiseHalf(referenceX, referenceY, secondX, secondY);
+
+      if (isFirstInSecondHalf != isSecondInSecondHalf)
+         return isFirstInSecondHalf ? 1 : -1;
+
+      double cross = cross(firstX, firstY, secondX, secondY);
+      return cross < 0.0 ? -1 : cross > 0.0 ? 1 : 0;
+   }
+
+   private static boolean isInSecondClockwiseHalf(double referenceX, double referenceY, double directionX, double directionY)
+   {
+      double cross = cross(referenceX, referenceY, directionX, directionY);
+      if (cross < 0.0)
+         return false;
+      if (cross > 0.0)
+         return true;
+      return referenceX * directionX + referenceY * directionY < 0.0;
+   }
+
+   /**
+    * Tests whether the edge of a clockwise convex polygon can be seen from the given point, i.e. the
+    * point is on the outer side of the edge.
+    */
+   private static boolean isEdgeVisible(double pointX, double pointY, Point2DReadOnly edgeStart, Point2DReadOnly edgeEnd, boolean strict)
+   {
+      double cross = cross(edgeEnd.getX() - edgeStart.getX(), edgeEnd.getY() - edgeStart.getY(), pointX - edgeStart.getX(), pointY - edgeStart.getY());
+      return strict ? cross > 0.0 : cross >= 0.0;
+   }
+
+   private static double cross(double x1, double y1, double x2, double y2)
+   {
+      return x1 * y2 - y1 * x2;
+   }
+
+   /**
+    * Sorts in-place the vertices in [{@code startIndex}, {@code endIndex}[ in increasing order of
+    * x-coordinate, then y-coordinate, using the
+    * <a href="https://en.wikipedia.org/wiki/Heapsort">Heapsort algorithm</a> which guarantees
+    * O(n log(n)) without generating garbage.
+    */
+   static void lexicographicSort(List<? extends Point2DReadOnly> vertices, int startIndex, int endIndex)
+   {
+      int size = endIndex - startIndex;
+
+      for (int i = size / 2 - 1; i >= 0; i--)
+         lexicographicSiftDown(vertices, startIndex, i, size);
+
+      for (int i = size - 1; i > 0; i--)
+      {
+         Collections.swap(vertices, startIndex, startIndex + i);
+         lexicographicSiftDown(vertices, startIndex, 0, i);
+      }
+   }
+
+   private static void lexicographicSiftDown(List<? extends Point2DReadOnly> vertices, int offset, int root, int size)
+   {
+      while (true)
+      {
+         int child = 2 * root + 1;
+
+         if (child >= size)
+            return;
+
+         if (child + 1 < size && lexicographicCompare(vertices.get(offset + child), vertices.get(offset + child + 1)) < 0)
+            child++;
+
+         if (lexicographicCompare(vertices.get(offset + root), vertices.get(offset + child)) >= 0)
+            return;
+
+         Collections.swap(vertices, offset + root, offset + child);
+         root = child;
+      }
+   }
+
+   private static int lexicographicCompare(Point2DReadOnly vertex1, Point2DReadOnly vertex2)
+   {
+      int result = Double.compare(vertex1.getX(), vertex2.getX());
+      return result != 0 ? result : Double.compare(vertex1.getY(), vertex2.getY());
+   }
+
+   /**
+    * Reverses in-place the order of the elements in [{@code startIndex}, {@code endIndex}[.
+    */
+   private static void reverse(List<?> list, int startIndex, int endIndex)
+   {
+      for (int i = startIndex, j = endIndex - 1; i < j; i++, j--)
+         Collections.swap(list, i, j);
+   }
+
+   /**
+    * Rotates in-place the elements in [{@code startIndex}, {@code endIndex}[ such that the element at
+    * {@code startIndex + shift} becomes the first one.
+    */
+   private static void rotateLeft(List<?> list, int startIndex, int endIndex, int shift)
+   {
+      if (shift <= 0 || shift >= endIndex - startIndex)
+         return;
+
+      reverse(list, startIndex, startIndex + shift);
+      reverse(list, startIndex + shift, endIndex);
+      reverse(list, startIndex, endIndex);
+   }
+
+   /**
+    * Moves the element located at {@code indexOfElementToShift} to {@code listSize - 1} and shifts all
+    * the elements located in [{@code indexToRemove + 1}; {@code listSize - 1}] by {@code -1}.
+    *
+    * @param list                 the list from which the element is to be moved. Modified.
+    * @param indexOfElementToMove the index of the element to move to the end of the list.
+    * @param listSize             the actual size of the list with relevant information.
+    */
+   static <T> void moveElementToEnd(List<T> list, int indexOfElementToMove, int listSize)
+   {
+      T elementToMove = list.get(indexOfElementToMove);
+
+      while (indexOfElementToMove < listSize - 1)
+         list.set(indexOfElementToMove, list.get(++indexOfElementToMove));
+
+      list.set(indexOfElementToMove, elementToMove);
+   }
+
+   /**
+    * Tests in O(n) whether the vertices form a strictly convex polygon ordered clockwise: each vertex
+    * is a strict right turn and all the vertices are sorted clockwise around the first vertex within
+    * a half-plane, which prevents the polygon from winding more than once.
+    */
+   private static boolean isStrictlyConvexClockwisePolygon2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      checkNumberOfVertices(vertices, numberOfVertices);
+
+      if (numberOfVertices < 3)
+         return false;
+
+      Point2DReadOnly firstVertex = vertices.get(0);
+      Point2DReadOnly secondVertex = vertices.get(1);
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point2DReadOnly previousVertex = vertices.get(i);
+         Point2DReadOnly vertex = vertices.get(next(i, numberOfVertices));
+         Point2DReadOnly nextVertex = vertices.get(wrap(i + 2, numberOfVertices));
+
+         if (vertex.epsilonEquals(previousVertex, EPSILON))
+            return false;
+         if (cross(vertex.getX() - previousVertex.getX(),
+                   vertex.getY() - previousVertex.getY(),
+                   nextVertex.getX() - vertex.getX(),
+                   nextVertex.getY() - vertex.getY()) >= 0.0)
+            return false;
+
+         if (i >= 2 && cross(secondVertex.getX() - firstVertex.getX(),
+                             secondVertex.getY() - firstVertex.getY(),
+                             previousVertex.getX() - firstVertex.getX(),
+                             previousVertex.getY() - firstVertex.getY()) >= 0.0)
+            return false;
+         if (i >= 1 && i < numberOfVertices - 1 && cross(previousVertex.getX() - firstVertex.getX(),
+                                                         previousVertex.getY() - firstVertex.getY(),
+                                                         vertex.getX() - firstVertex.getX(),
+                                                         vertex.getY() - firstVertex.getY()) >= 0.0)
+            return false;
+      }
+
+      return true;
+   }
+
+   private static final int UNKNOWN_INSIDE = 0;
+   private static final int A_INSIDE = 1;
+   private static final int B_INSIDE = 2;
+
+   private static void checkNotAliased(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB, ConvexPolygon2DBasics resultToPack)
+   {
+      if (resultToPack == polygonA || resultToPack == polygonB)
+         throw new IllegalArgumentException("The result cannot be one of the two input polygons.");
+   }
+
+   /**
+    * Advances on one of the polygons during the intersection algorithm, the vertex is added to the
+    * intersection if the polygon is the inner one.
+    */
+   private static int advance(int index, int numberOfVertices, boolean isInside, Point2DReadOnly vertex, ConvexPolygon2DBasics intersectionToPack)
+   {
+      if (isInside)
+         addVertexIfDistinct(vertex.getX(), vertex.getY(), intersectionToPack);
+      return next(index, numberOfVertices);
+   }
+
+   /**
+    * Computes the intersection of two convex polygons when at least one of them has less than 3
+    * vertices by testing the vertices of each polygon against the other and by intersecting all the
+    * pairs of edges.
+    */
+   private static void intersectionBetweenTwoConvexPolygon2DsBruteForce(ConvexPolygon2DReadOnly polygonA, ConvexPolygon2DReadOnly polygonB,
+                                                                        ConvexPolygon2DBasics intersectionToPack)
+   {
+      for (int i = 0; i < polygonA.getNumberOfVertices(); i++)
+      {
+         if (polygonB.isPointInside(polygonA.getVertex(i)))
+            addVertexIfDistinct(polygonA.getVertex(i).getX(), polygonA.getVertex(i).getY(), intersectionToPack);
+      }
+
+      for (int j = 0; j < polygonB.getNumberOfVertices(); j++)
+      {
+         if (polygonA.isPointInside(polygonB.getVertex(j)))
+            addVertexIfDistinct(polygonB.getVertex(j).getX(), polygonB.getVertex(j).getY(), intersectionToPack);
+      }
+
+      int numberOfEdgesA = polygonA.getNumberOfVertices() == 2 ? 1 : polygonA.getNumberOfVertices();
+      int numberOfEdgesB = polygonB.getNumberOfVertices() == 2 ? 1 : polygonB.getNumberOfVertices();
+
+      if (polygonA.getNumberOfVertices() < 2 || polygonB.getNumberOfVertices() < 2)
+         return;
+
+      for (int i = 0; i < numberOfEdgesA; i++)
+      {
+         for (int j = 0; j < numberOfEdgesB; j++)
+         {
+            // Using the next vertex to add as intersection to pack to prevent garbage generation.
+            intersectionToPack.addVertex(Double.NaN, Double.NaN);
+            int lastIndex = intersectionToPack.getNumberOfVertices() - 1;
+
+            if (!intersectionBetweenTwoLineSegment2Ds(polygonA.getVertex(i),
+                                                      polygonA.getNextVertex(i),
+                                                      polygonB.getVertex(j),
+                                                      polygonB.getNextVertex(j),
+                                                      intersectionToPack.getVertexUnsafe(lastIndex)))
+               intersectionToPack.removeVertex(lastIndex);
+         }
+      }
+   }
+
+   /**
+    * Adds to the intersection the overlap between two collinear edges.
+    *
+    * @return whether the edges overlap.
+    */
+   private static boolean addCollinearEdgesOverlap(Point2DReadOnly edgeStartA, Point2DReadOnly edgeEndA, Point2DReadOnly edgeStartB, Point2DReadOnly edgeEndB,
+                                                   ConvexPolygon2DBasics intersectionToPack)
    {
-      Point2DReadOnly pivot = list.get(pivotIndex);
-      // Push the pivot to the endIndex
-      Collections.swap(list, pivotIndex, endIndex);
-      // Index where the array is partitioned between smaller and larger elements than the pivot
-      int partitionIndex = startIndex;
+      double edgeX = edgeEndA.getX() - edgeStartA.getX();
+      double edgeY = edgeEndA.getY() - edgeStartA.getY();
+      double edgeLengthSquared = edgeX * edgeX + edgeY * edgeY;
+      // Position of B's vertices along A's edge, B's edge goes in the opposite direction.
+      double startB = ((edgeEndB.getX() - edgeStartA.getX()) * edgeX + (edgeEndB.getY() - edgeStartA.getY()) * edgeY) / edgeLengthSquared;
+      double endB = ((edgeStartB.getX() - edgeStartA.getX()) * edgeX + (edgeStartB.getY() - edgeStartA.getY()) * edgeY) / edgeLengthSquared;
+      double start = Math.max(0.0, startB);
+      double end = Math.min(1.0, endB);
+
+      if (start > end)
+         return false;
 
-      for (int i = startIndex; i < endIndex; i++)
+      intersectionToPack.clear();
+      intersectionToPack.addVertex(EuclidCoreTools.interpolate(edgeStartA.getX(), edgeEndA.getX(), start),
+                                   EuclidCoreTools.interpolate(edgeStartA.getY(), edgeEndA.getY(), start));
+      addVertexIfDistinct(EuclidCoreTools.interpolate(edgeStartA.getX(), edgeEndA.getX(), end),
+                          EuclidCoreTools.interpolate(edgeStartA.getY(), edgeEndA.getY(), end),
+                          intersectionToPack);
+      return true;
+   }
+
+   /**
+    * Computes the percentage along the first edge of the intersection with the line supporting the
+    * second edge. The two edges are assumed to not be parallel.
+    */
+   private static double percentageOfIntersectionBetweenTwoEdges(Point2DReadOnly edgeStart1, double edgeDirection1X, double edgeDirection1Y,
+                                                                 Point2DReadOnly edgeStart2, double edgeDirection2X, double edgeDirection2Y)
+   {
+      double dx = edgeStart2.getX() - edgeStart1.getX();
+      double dy = edgeStart2.getY() - edgeStart1.getY();
+      return cross(dx, dy, edgeDirection2X, edgeDirection2Y) / cross(edgeDirection1X, edgeDirection1Y, edgeDirection2X, edgeDirection2Y);
+   }
+
+   /**
+    * Merges the chains [{@code fromA}, {@code toA}] of {@code polygonA} and [{@code fromB},
+    * {@code toB}] of {@code polygonB} which are sorted in lexicographic order, increasing or
+    * decreasing, and processes the resulting sequence with the monotone chain algorithm using
+    * {@code convexHullToPack} as the stack. The vertices of the stack below {@code floor} are not
+    * modified.
+    */
+   private static void mergeMonotoneChains(ConvexPolygon2DReadOnly polygonA, int fromA, int toA, ConvexPolygon2DReadOnly polygonB, int fromB, int toB,
+                                           boolean increasing, int floor, ConvexPolygon2DBasics convexHullToPack)
+   {
+      int n = polygonA.getNumberOfVertices();
+      int m = polygonB.getNumberOfVertices();
+      int chainSizeA = n == 0 ? 0 : wrap(toA - fromA, n) + 1;
+      int chainSizeB = m == 0 ? 0 : wrap(toB - fromB, m) + 1;
+      int i = 0;
+      int j = 0;
+
+      while (i < chainSizeA || j < chainSizeB)
       {
-         if (grahamScanAngleCompare(minXMaxYVertex, list.get(i), pivot) <= 0)
-         { // Element is lower or equal to the pivot: it is part of the first partition.
-            Collections.swap(list, i, partitionIndex);
-            partitionIndex++;
+         Point2DReadOnly candidate;
+
+         if (j == chainSizeB)
+         {
+            candidate = polygonA.getVertex(wrap(fromA + i++, n));
+         }
+         else if (i == chainSizeA)
+         {
+            candidate = polygonB.getVertex(wrap(fromB + j++, m));
+         }
+         else
+         {
+            Point2DReadOnly vertexA = polygonA.getVertex(wrap(fromA + i, n));
+            Point2DReadOnly vertexB = polygonB.getVertex(wrap(fromB + j, m));
+            int comparison = lexicographicCompare(vertexA, vertexB);
+
+            if (increasing ? comparison <= 0 : comparison >= 0)
+            {
+               candidate = vertexA;
+               i++;
+            }
+            else
+            {
+               candidate = vertexB;
+               j++;
+            }
+         }
+
+         int size = convexHullToPack.getNumberOfVertices();
+
+         if (size > 0 && convexHullToPack.getVertexUnsafe(size - 1).epsilonEquals(candidate, EPSILON))
+            continue;
+
+         while (size >= floor + 2)
+         {
+            Point2DReadOnly top = convexHullToPack.getVertexUnsafe(size - 1);
+            Point2DReadOnly belowTop = convexHullToPack.getVertexUnsafe(size - 2);
+
+            // Only the right turns are kept, such that the resulting polygon is clockwise.
+            if (cross(top.getX() - belowTop.getX(), top.getY() - belowTop.getY(), candidate.getX() - top.getX(), candidate.getY() - top.getY()) < 0.0)
+               break;
+
+            convexHullToPack.removeVertex(--size);
          }
+
+         convexHullToPack.addVertex(candidate);
       }
+   }
 
-      // Move the pivot back to the partition index.
-      Collections.swap(list, endIndex, partitionIndex);
-      return partitionIndex;
+   /**
+    * Compares the orientations of two edges measured as the clockwise angle in ]0, 2&pi;] from the
+    * y-axis. This is the order in which the edges of a clockwise polygon starting from its min x, max
+    * y vertex are visited.
+    */
+   private static int compareEdgeAngles(double edge1X, double edge1Y, double edge2X, double edge2Y)
+   {
+      boolean isEdge1InFirstHalf = edge1X > 0.0 || edge1X == 0.0 && edge1Y < 0.0;
+      boolean isEdge2InFirstHalf = edge2X > 0.0 || edge2X == 0.0 && edge2Y < 0.0;
+
+      if (isEdge1InFirstHalf != isEdge2InFirstHalf)
+         return isEdge1InFirstHalf ? -1 : 1;
+
+      return sign(cross(edge1X, edge1Y, edge2X, edge2Y));
    }
 
-   static int grahamScanAngleCompare(Point2DReadOnly minXMaxYVertex, Point2DReadOnly vertex1, Point2DReadOnly vertex2)
+   private static int sign(double value)
    {
-      if (vertex1 == minXMaxYVertex)
-         return -1;
-      if (vertex2 == minXMaxYVertex)
-         return 1;
-      if (vertex1.epsilonEquals(vertex2, EPSILON))
-         return 0;
-      if (isPoint2DOnLeftSideOfLine2D(vertex1, minXMaxYVertex, vertex2))
-         return -1;
-      return 1;
+      return value < 0.0 ? -1 : value > 0.0 ? 1 : 0;
+   }
+
+   private static void addVertices(ConvexPolygon2DReadOnly polygon, ConvexPolygon2DBasics polygonToPack)
+   {
+      for (int i = 0; i < polygon.getNumberOfVertices(); i++)
+         polygonToPack.addVertex(polygon.getVertex(i));
+   }
+
+   private static void addVertexIfDistinct(double x, double y, ConvexPolygon2DBasics polygonToPack)
+   {
+      int size = polygonToPack.getNumberOfVertices();
+
+      if (size > 0)
+      {
+         Point2DReadOnly lastVertex = polygonToPack.getVertexUnsafe(size - 1);
+         if (Math.abs(lastVertex.getX() - x) <= EPSILON && Math.abs(lastVertex.getY() - y) <= EPSILON)
+            return;
+      }
+
+      polygonToPack.addVertex(x, y);
+   }
+
+   private static void removeLastVertexIfEqualToFirst(ConvexPolygon2DBasics polygon)
+   {
+      int size = polygon.getNumberOfVertices();
+
+      if (size > 1 && polygon.getVertexUnsafe(size - 1).epsilonEquals(polygon.getVertexUnsafe(0), EPSILON))
+         polygon.removeVertex(size - 1);
    }
 
    /**
-    * Moves the element located at {@code indexOfElementToShift} to {@code listSize - 1} and shifts all
-    * the elements located in [{@code indexToRemove + 1}; {@code listSize - 1}] by {@code -1}.
+    * Shrinks a convex polygon with at least 3 vertices by intersecting the half-planes delimited by
+    * its edges shifted inward.
+    * <p>
+    * The edges of a convex polygon are already sorted by angle, such that the intersection is
+    * computed in O(n) by maintaining a deque of the edges that are part of the result. To prevent
+    * garbage generation, the vertices of {@code shrunkPolygonToPack} are used to store the deque,
+    * i.e. the x-coordinate of each vertex holds the index of an edge, before they are replaced with
+    * the actual vertices.
+    * </p>
+    */
+   private static void shrinkConvexPolygon2D(ConvexPolygon2DReadOnly polygon, double distance, ConvexPolygon2DBasics shrunkPolygonToPack)
+   {
+      int numberOfVertices = polygon.getNumberOfVertices();
+      int head = 0;
+
+      for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+      {
+         int tail = shrunkPolygonToPack.getNumberOfVertices();
+
+         while (tail - head >= 2 && isShiftedEdgesIntersectionOutside(polygon, dequeEdge(shrunkPolygonToPack, tail - 2), dequeEdge(shrunkPolygonToPack, tail - 1),
+                                                                     edgeIndex, distance))
+            shrunkPolygonToPack.removeVertex(--tail);
+
+         while (tail - head >= 2 && isShiftedEdgesIntersectionOutside(polygon, dequeEdge(shrunkPolygonToPack, head), dequeEdge(shrunkPolygonToPack, head + 1),
+                                                                     edgeIndex, distance))
+            head++;
+
+         if (tail - head >= 1 && !isRightTurn(polygon, dequeEdge(shrunkPolygonToPack, tail - 1), edgeIndex))
+         { // All the edges in between collapsed, the shifted edges do not enclose any region.
+            shrunkPolygonToPack.clear();
+            return;
+         }
+
+         shrunkPolygonToPack.addVertex(edgeIndex, 0.0);
+      }
+
+      int tail = shrunkPolygonToPack.getNumberOfVertices();
+
+      while (tail - head >= 3 && isShiftedEdgesIntersectionOutside(polygon, dequeEdge(shrunkPolygonToPack, tail - 2), dequeEdge(shrunkPolygonToPack, tail - 1),
+                                                                  dequeEdge(shrunkPolygonToPack, head), distance))
+         shrunkPolygonToPack.removeVertex(--tail);
+
+      while (tail - head >= 3 && isShiftedEdgesIntersectionOutside(polygon, dequeEdge(shrunkPolygonToPack, head), dequeEdge(shrunkPolygonToPack, head + 1),
+                                                                  dequeEdge(shrunkPolygonToPack, tail - 1), distance))
+         head++;
+
+      if (tail - head < 3 || !isRightTurn(polygon, dequeEdge(shrunkPolygonToPack, tail - 1), dequeEdge(shrunkPolygonToPack, head)))
+      {
+         shrunkPolygonToPack.clear();
+         return;
+      }
+
+      // Replacing the edges with the intersections of consecutive edges, the deque is moved to the beginning of the polygon at the same time.
+      int firstEdge = dequeEdge(shrunkPolygonToPack, head);
+
+      for (int i = head; i < tail; i++)
+      {
+         int edge = dequeEdge(shrunkPolygonToPack, i);
+         int nextEdge = i + 1 < tail ? dequeEdge(shrunkPolygonToPack, i + 1) : firstEdge;
+
+         Point2DReadOnly start = polygon.getVertex(edge);
+         Point2DReadOnly end = polygon.getNextVertex(edge);
+         double edgeLength = EuclidCoreTools.norm(end.getX() - start.getX(), end.getY() - start.getY());
+         double directionX = (end.getX() - start.getX()) / edgeLength;
+         double directionY = (end.getY() - start.getY()) / edgeLength;
+         double alpha = shiftedEdgesIntersectionAbscissa(polygon, edge, nextEdge, distance);
+         // The inside of a clockwise polygon is on the right side of the edges.
+         shrunkPolygonToPack.getVertexUnsafe(i - head).set(start.getX() + distance * directionY + alpha * directionX,
+                                                           start.getY() - distance * directionX + alpha * directionY);
+      }
+
+      for (int i = 0; i < head; i++)
+         shrunkPolygonToPack.removeVertex(shrunkPolygonToPack.getNumberOfVertices() - 1);
+   }
+
+   private static int dequeEdge(ConvexPolygon2DBasics deque, int index)
+   {
+      return (int) deque.getVertexUnsafe(index).getX();
+   }
+
+   private static boolean isRightTurn(ConvexPolygon2DReadOnly polygon, int edgeIndex, int nextEdgeIndex)
+   {
+      Point2DReadOnly start = polygon.getVertex(edgeIndex);
+      Point2DReadOnly end = polygon.getNextVertex(edgeIndex);
+      Point2DReadOnly nextStart = polygon.getVertex(nextEdgeIndex);
+      Point2DReadOnly nextEnd = polygon.getNextVertex(nextEdgeIndex);
+      return cross(end.getX() - start.getX(), end.getY() - start.getY(), nextEnd.getX() - nextStart.getX(), nextEnd.getY() - nextStart.getY()) < 0.0;
+   }
+
+   /**
+    * Computes the position along the first edge, shifted inward by {@code distance}, of its
+    * intersection with the second edge, also shifted inward. The position is measured from the first
+    * edge start.
+    */
+   private static double shiftedEdgesIntersectionAbscissa(ConvexPolygon2DReadOnly polygon, int firstEdgeIndex, int secondEdgeIndex, double distance)
+   {
+      Point2DReadOnly firstStart = polygon.getVertex(firstEdgeIndex);
+      Point2DReadOnly firstEnd = polygon.getNextVertex(firstEdgeIndex);
+      Point2DReadOnly secondStart = polygon.getVertex(secondEdgeIndex);
+      Point2DReadOnly secondEnd = polygon.getNextVertex(secondEdgeIndex);
+
+      double firstLength = EuclidCoreTools.norm(firstEnd.getX() - firstStart.getX(), firstEnd.getY() - firstStart.getY());
+      double firstDirectionX = (firstEnd.getX() - firstStart.getX()) / firstLength;
+      double firstDirectionY = (firstEnd.getY() - firstStart.getY()) / firstLength;
+      double secondLength = EuclidCoreTools.norm(secondEnd.getX() - secondStart.getX(), secondEnd.getY() - secondStart.getY());
+      double secondDirectionX = (secondEnd.getX() - secondStart.getX()) / secondLength;
+      double secondDirectionY = (secondEnd.getY() - secondStart.getY()) / secondLength;
+
+      // Difference between the shifted starts, each start is shifted along the right normal of its edge.
+      double dx = secondStart.getX() + distance * secondDirectionY - firstStart.getX() - distance * firstDirectionY;
+      double dy = secondStart.getY() - distance * secondDirectionX - firstStart.getY() + distance * firstDirectionX;
+      return cross(dx, dy, secondDirectionX, secondDirectionY) / cross(firstDirectionX, firstDirectionY, secondDirectionX, secondDirectionY);
+   }
+
+   /**
+    * Tests whether the intersection of the first two shifted edges is strictly outside the half-plane
+    * delimited by the third shifted edge.
+    */
+   private static boolean isShiftedEdgesIntersectionOutside(ConvexPolygon2DReadOnly polygon, int firstEdgeIndex, int secondEdgeIndex, int thirdEdgeIndex,
+                                                            double distance)
+   {
+      Point2DReadOnly firstStart = polygon.getVertex(firstEdgeIndex);
+      Point2DReadOnly firstEnd = polygon.getNextVertex(firstEdgeIndex);
+      double firstLength = EuclidCoreTools.norm(firstEnd.getX() - firstStart.getX(), firstEnd.getY() - firstStart.getY());
+      double firstDirectionX = (firstEnd.getX() - firstStart.getX()) / firstLength;
+      double firstDirectionY = (firstEnd.getY() - firstStart.getY()) / firstLength;
+      double alpha = shiftedEdgesIntersectionAbscissa(polygon, firstEdgeIndex, secondEdgeIndex, distance);
+      double intersectionX = firstStart.getX() + distance * firstDirectionY + alpha * firstDirectionX;
+      double intersectionY = firstStart.getY() - distance * firstDirectionX + alpha * firstDirectionY;
+
+      Point2DReadOnly thirdStart = polygon.getVertex(thirdEdgeIndex);
+      Point2DReadOnly thirdEnd = polygon.getNextVertex(thirdEdgeIndex);
+      double thirdLength = EuclidCoreTools.norm(thirdEnd.getX() - thirdStart.getX(), thirdEnd.getY() - thirdStart.getY());
+      double thirdDirectionX = (thirdEnd.getX() - thirdStart.getX()) / thirdLength;
+      double thirdDirectionY = (thirdEnd.getY() - thirdStart.getY()) / thirdLength;
+      // The signed distance to the unshifted edge is negative inside, the point has to be at least at distance from the edge.
+      return cross(thirdDirectionX, thirdDirectionY, intersectionX - thirdStart.getX(), intersectionY - thirdStart.getY()) > -distance;
+   }
+
+   /**
+    * Adds the vertices of an arc of circle going clockwise.
     *
-    * @param list                 the list from which the element is to be moved. Modified.
-    * @param indexOfElementToMove the index of the element to move to the end of the list.
-    * @param listSize             the actual size of the list with relevant information.
+    * @param center         the center of the arc.
+    * @param startAngle     the angle of the first vertex measured clockwise from the y-axis.
+    * @param radius         the radius of the arc.
+    * @param arcAngle       the angle spanned by the arc.
+    * @param numberOfArcs   the number of subdivisions of the arc.
+    * @param addLastVertex  whether the vertex at the end of the arc should be added.
+    * @param polygonToPack the polygon to which the vertices are added.
     */
-   static <T> void moveElementToEnd(List<T> list, int indexOfElementToMove, int listSize)
+   private static void addArc(Point2DReadOnly center, double startAngle, double radius, double arcAngle, int numberOfArcs, boolean addLastVertex,
+                              ConvexPolygon2DBasics polygonToPack)
    {
-      T elementToMove = list.get(indexOfElementToMove);
+      int numberOfArcVertices = addLastVertex ? numberOfArcs + 1 : numberOfArcs;
 
-      while (indexOfElementToMove < listSize - 1)
-         list.set(indexOfElementToMove, list.get(++indexOfElementToMove));
+      for (int i = 0; i < numberOfArcVertices; i++)
+      {
+         double angle = startAngle + arcAngle * i / numberOfArcs;
+         polygonToPack.addVertex(center.getX() + radius * EuclidCoreTools.sin(angle), center.getY() + radius * EuclidCoreTools.cos(angle));
+      }
+   }
 
-      list.set(indexOfElementToMove, elementToMove);
+   /**
+    * Advances the index of the farthest vertex from the given edge, starting from the farthest
+    * vertex of the previous edge.
+    */
+   private static int farthestVertexIndexFromEdge(ConvexPolygon2DReadOnly polygon, int edgeIndex, int farthestIndex)
+   {
+      int numberOfVertices = polygon.getNumberOfVertices();
+
+      while (heightAboveEdge(polygon, edgeIndex, polygon.getNextVertex(farthestIndex)) > heightAboveEdge(polygon,
+                                                                                                        edgeIndex,
+                                                                                                        polygon.getVertex(farthestIndex)))
+         farthestIndex = next(farthestIndex, numberOfVertices);
+
+      return farthestIndex;
+   }
+
+   /**
+    * Computes the distance from the line supporting the given edge to the vertex, positive toward
+    * the inside of the polygon.
+    */
+   private static double heightAboveEdge(ConvexPolygon2DReadOnly polygon, int edgeIndex, Point2DReadOnly vertex)
+   {
+      Point2DReadOnly edgeStart = polygon.getVertex(edgeIndex);
+      Point2DReadOnly edgeEnd = polygon.getNextVertex(edgeIndex);
+      double edgeX = edgeEnd.getX() - edgeStart.getX();
+      double edgeY = edgeEnd.getY() - edgeStart.getY();
+      // The inside of a clockwise polygon is on the right side of the edges.
+      return -cross(edgeX, edgeY, vertex.getX() - edgeStart.getX(), vertex.getY() - edgeStart.getY()) / EuclidCoreTools.norm(edgeX, edgeY);
+   }
+
+   private static double dot(Point2DReadOnly vertex, Point2DReadOnly origin, double directionX, double directionY)
+   {
+      return (vertex.getX() - origin.getX()) * directionX + (vertex.getY() - origin.getY()) * directionY;
+   }
+
+   /**
+    * Updates the closest points between the two polygons with the edges {@code edgeIndexA} and
+    * {@code edgeIndexB} assuming they do not intersect.
+    *
+    * @return the updated minimum distance squared.
+    */
+   private static double closestPointsBetweenTwoEdges(ConvexPolygon2DReadOnly polygonA, int edgeIndexA, ConvexPolygon2DReadOnly polygonB, int edgeIndexB,
+                                                      double minDistanceSquared, Point2DBasics closestPointOnAToPack, Point2DBasics closestPointOnBToPack)
+   {
+      Point2DReadOnly startA = polygonA.getVertex(edgeIndexA);
+      Point2DReadOnly endA = polygonA.getNextVertex(edgeIndexA);
+      Point2DReadOnly startB = polygonB.getVertex(edgeIndexB);
+      Point2DReadOnly endB = polygonB.getNextVertex(edgeIndexB);
+
+      minDistanceSquared = closestPointsBetweenVertexAndEdge(startA, startB, endB, false, minDistanceSquared, closestPointOnAToPack, closestPointOnBToPack);
+      minDistanceSquared = closestPointsBetweenVertexAndEdge(endA, startB, endB, false, minDistanceSquared, closestPointOnAToPack, closestPointOnBToPack);
+      minDistanceSquared = closestPointsBetweenVertexAndEdge(startB, startA, endA, true, minDistanceSquared, closestPointOnAToPack, closestPointOnBToPack);
+      minDistanceSquared = closestPointsBetweenVertexAndEdge(endB, startA, endA, true, minDistanceSquared, closestPointOnAToPack, closestPointOnBToPack);
+      return minDistanceSquared;
+   }
+
+   private static double closestPointsBetweenVertexAndEdge(Point2DReadOnly vertex, Point2DReadOnly edgeStart, Point2DReadOnly edgeEnd, boolean isEdgeOnA,
+                                                           double minDistanceSquared, Point2DBasics closestPointOnAToPack, Point2DBasics closestPointOnBToPack)
+   {
+      double percentage = EuclidGeometryTools.percentageAlongLineSegment2D(vertex.getX(), vertex.getY(), edgeStart, edgeEnd);
+      percentage = EuclidCoreTools.clamp(percentage, 0.0, 1.0);
+      double projectionX = EuclidCoreTools.interpolate(edgeStart.getX(), edgeEnd.getX(), percentage);
+      double projectionY = EuclidCoreTools.interpolate(edgeStart.getY(), edgeEnd.getY(), percentage);
+      double distanceSquared = EuclidCoreTools.normSquared(vertex.getX() - projectionX, vertex.getY() - projectionY);
+
+      if (distanceSquared >= minDistanceSquared)
+         return minDistanceSquared;
+
+      Point2DBasics closestPointOnVertexPolygon = isEdgeOnA ? closestPointOnBToPack : closestPointOnAToPack;
+      Point2DBasics closestPointOnEdgePolygon = isEdgeOnA ? closestPointOnAToPack : closestPointOnBToPack;
+
+      if (closestPointOnVertexPolygon != null)
+         closestPointOnVertexPolygon.set(vertex);
+      if (closestPointOnEdgePolygon != null)
+         closestPointOnEdgePolygon.set(projectionX, projectionY);
+      return distanceSquared;
+   }
+
+   /**
+    * Triangulates a simple polygon by clipping ears.
+    * <p>
+    * The remaining vertices are stored in a circular doubly linked list. At each step, a convex vertex
+    * that forms with its neighbors a triangle containing none of the other remaining non-convex
+    * vertices is clipped, the edge connecting its neighbors being a diagonal of the polygon.
+    * </p>
+    *
+    * @param diagonalTrianglesToPack when not {@code null}, the two triangles sharing each diagonal
+    *                                are stored in this array.
+    */
+   private static int clipEars(Vertex2DSupplier polygon, int[] triangleIndicesToPack, int[] diagonalTrianglesToPack)
+   {
+      int numberOfVertices = polygon.getNumberOfVertices();
+      double orientation = Math.signum(signedAreaOfSimplePolygon2D(polygon));
+      if (orientation == 0.0)
+         orientation = 1.0;
+
+      int[] nextIndices = new int[numberOfVertices];
+      int[] previousIndices = new int[numberOfVertices];
+      // The index of the diagonal represented by the edge starting at a vertex, -1 for polygon edges.
+      int[] edgeDiagonals = new int[numberOfVertices];
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         nextIndices[i] = next(i, numberOfVertices);
+         previousIndices[i] = previous(i, numberOfVertices);
+         edgeDiagonals[i] = -1;
+      }
+
+      int numberOfTriangles = 0;
+      int numberOfDiagonals = 0;
+      int remaining = numberOfVertices;
+      int current = 0;
+      int numberOfFailedAttempts = 0;
+
+      while (remaining > 3)
+      {
+         int previous = previousIndices[current];
+         int next = nextIndices[current];
+
+         // When no ear can be found, the polygon is not simple or is degenerate, the current vertex is clipped anyway to ensure termination.
+         if (numberOfFailedAttempts < remaining && !isEar(polygon, previous, current, next, nextIndices, previousIndices, orientation))
+         {
+            current = next;
+            numberOfFailedAttempts++;
+            continue;
+         }
+
+         int triangleIndex = numberOfTriangles++;
+         triangleIndicesToPack[3 * triangleIndex] = previous;
+         triangleIndicesToPack[3 * triangleIndex + 1] = current;
+         triangleIndicesToPack[3 * triangleIndex + 2] = next;
+
+         if (diagonalTrianglesToPack != null)
+         {
+            addTriangleToDiagonal(edgeDiagonals[previous], triangleIndex, diagonalTrianglesToPack);
+            addTriangleToDiagonal(edgeDiagonals[current], triangleIndex, diagonalTrianglesToPack);
+            diagonalTrianglesToPack[2 * numberOfDiagonals] = triangleIndex;
+            diagonalTrianglesToPack[2 * numberOfDiagonals + 1] = -1;
+         }
+
+         edgeDiagonals[previous] = numberOfDiagonals++;
+         nextIndices[previous] = next;
+         previousIndices[next] = previous;
+         remaining--;
+         // Going back to the previous vertex as it may have become an ear.
+         current = previous;
+         numberOfFailedAttempts = 0;
+      }
+
+      int previous = previousIndices[current];
+      int next = nextIndices[current];
+      int triangleIndex = numberOfTriangles++;
+      triangleIndicesToPack[3 * triangleIndex] = previous;
+      triangleIndicesToPack[3 * triangleIndex + 1] = current;
+      triangleIndicesToPack[3 * triangleIndex + 2] = next;
+
+      if (diagonalTrianglesToPack != null)
+      {
+         addTriangleToDiagonal(edgeDiagonals[previous], triangleIndex, diagonalTrianglesToPack);
+         addTriangleToDiagonal(edgeDiagonals[current], triangleIndex, diagonalTrianglesToPack);
+         addTriangleToDiagonal(edgeDiagonals[next], triangleIndex, diagonalTrianglesToPack);
+      }
+
+      return numberOfTriangles;
+   }
+
+   private static void addTriangleToDiagonal(int diagonalIndex, int triangleIndex, int[] diagonalTriangles)
+   {
+      if (diagonalIndex >= 0)
+         diagonalTriangles[2 * diagonalIndex + 1] = triangleIndex;
+   }
+
+   private static boolean isEar(Vertex2DSupplier polygon, int previous, int current, int next, int[] nextIndices, int[] previousIndices, double orientation)
+   {
+      Point2DReadOnly a = polygon.getVertex(previous);
+      Point2DReadOnly b = polygon.getVertex(current);
+      Point2DReadOnly c = polygon.getVertex(next);
+
+      if (orientation * turn(a, b, c) <= 0.0)
+         return false;
+
+      for (int i = nextIndices[next]; i != previous; i = nextIndices[i])
+      {
+         Point2DReadOnly vertex = polygon.getVertex(i);
+
+         // Only the non-convex vertices can be inside the ear, a vertex coinciding with a corner of the ear does not prevent clipping it.
+         if (vertex.equals(a) || vertex.equals(b) || vertex.equals(c))
+            continue;
+         if (orientation * turn(polygon.getVertex(previousIndices[i]), vertex, polygon.getVertex(nextIndices[i])) > 0.0)
+            continue;
+
+         if (orientation * turn(a, b, vertex) >= 0.0 && orientation * turn(b, c, vertex) >= 0.0 && orientation * turn(c, a, vertex) >= 0.0)
+            return false;
+      }
+
+      return true;
+   }
+
+   private static double turn(Point2DReadOnly a, Point2DReadOnly b, Point2DReadOnly c)
+   {
+      return cross(b.getX() - a.getX(), b.getY() - a.getY(), c.getX() - b.getX(), c.getY() - b.getY());
+   }
+
+   private static int findRootPart(int[] partParents, int part)
+   {
+      while (partParents[part] != part)
+      {
+         partParents[part] = partParents[partParents[part]];
+         part = partParents[part];
+      }
+      return part;
+   }
+
+   /**
+    * Merges two convex parts sharing an edge if the result is convex.
+    *
+    * @return the merged part, or {@code null} if the result would not be convex.
+    */
+   private static int[] mergeConvexParts(Vertex2DSupplier polygon, int[] partA, int[] partB, double orientation)
+   {
+      // Finding the shared edge such that it goes from a to b in partA, and from b to a in partB.
+      int aInA = -1, bInB = -1;
+
+      for (int i = 0; i < partA.length && aInA == -1; i++)
+      {
+         int a = partA[i];
+         int b = partA[next(i, partA.length)];
+
+         for (int j = 0; j < partB.length; j++)
+         {
+            if (partB[j] == b && partB[next(j, partB.length)] == a)
+            {
+               aInA = i;
+               bInB = j;
+               break;
+            }
+         }
+      }
+
+      if (aInA == -1)
+         return null;
+
+      int bInA = next(aInA, partA.length);
+      int aInB = next(bInB, partB.length);
+      Point2DReadOnly a = polygon.getVertex(partA[aInA]);
+      Point2DReadOnly b = polygon.getVertex(partA[bInA]);
+
+      if (orientation * turn(polygon.getVertex(partA[previous(aInA, partA.length)]), a, polygon.getVertex(partB[next(aInB, partB.length)])) < 0.0)
+         return null;
+      if (orientation * turn(polygon.getVertex(partB[previous(bInB, partB.length)]), b, polygon.getVertex(partA[next(bInA, partA.length)])) < 0.0)
+         return null;
+
+      // Walking partA from b to a, then partB from the vertex after a to the vertex before b.
+      int[] merged = new int[partA.length + partB.length - 2];
+      int index = 0;
+
+      for (int i = 0; i < partA.length; i++)
+         merged[index++] = partA[wrap(bInA + i, partA.length)];
+      for (int i = 1; i < partB.length - 1; i++)
+         merged[index++] = partB[wrap(aInB + i, partB.length)];
+
+      return merged;
+   }
+
+   private static ConvexPolygon2D nextConvexPolygon2D(List<ConvexPolygon2D> convexPolygons, int index)
+   {
+      if (index < convexPolygons.size())
+         return convexPolygons.get(index);
+
+      ConvexPolygon2D convexPolygon = new ConvexPolygon2D();
+      convexPolygons.add(convexPolygon);
+      return convexPolygon;
+   }
+
+   private static void trimList(List<?> list, int size)
+   {
+      while (list.size() > size)
+         list.remove(list.size() - 1);
    }
 
    /**
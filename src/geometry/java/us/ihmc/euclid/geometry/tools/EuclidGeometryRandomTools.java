@@ -4,6 +4,7 @@ import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextDouble;
 import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextPoint2D;
 import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextPoint3D;
 import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextQuaternion;
+import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextRotationMatrix;
 import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextVector2D;
 import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextVector2DWithFixedLength;
 import static us.ihmc.euclid.tools.EuclidCoreRandomTools.nextVector3D;
@@ -25,6 +26,7 @@ import us.ihmc.euclid.geometry.Line3D;
 import us.ihmc.euclid.geometry.LineSegment1D;
 import us.ihmc.euclid.geometry.LineSegment2D;
 import us.ihmc.euclid.geometry.LineSegment3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.Plane3D;
 import us.ihmc.euclid.geometry.Pose2D;
 import us.ihmc.euclid.geometry.Pose3D;
@@ -290,6 +292,33 @@ public class EuclidGeometryRandomTools
       return BoundingBox3D.createUsingCenterAndPlusMinusVector(center, halfSize);
    }
 
+   /**
+    * Generates a random oriented bounding box from random center location, orientation, and size.
+    *
+    * @param random the random generator to use.
+    * @return the random oriented bounding box.
+    */
+   public static OrientedBoundingBox3D nextOrientedBoundingBox3D(Random random)
+   {
+      return nextOrientedBoundingBox3D(random, 1.0, 1.0);
+   }
+
+   /**
+    * Generates a random oriented bounding box from random center location, orientation, and size.
+    *
+    * @param random       the random generator to use.
+    * @param centerMinMax the maximum absolute value for each coordinate of the bounding box center.
+    * @param sizeMax      the maximum size along each local axis for the bounding box.
+    * @return the random oriented bounding box.
+    * @throws RuntimeException if {@code centerMinMax < 0} or {@code sizeMax < 0}.
+    */
+   public static OrientedBoundingBox3D nextOrientedBoundingBox3D(Random random, double centerMinMax, double sizeMax)
+   {
+      Point3D center = nextPoint3D(random, centerMinMax);
+      Vector3D halfSize = nextVector3D(random, 0.0, sizeMax / 2.0);
+      return new OrientedBoundingBox3D(center, nextRotationMatrix(random), halfSize);
+   }
+
    /**
     * Generates a random orientation 2D.
     * <p>
@@ -2879,6 +2879,108 @@ public class EuclidGeometryTools
                                        lineSegmentEnd2.getY());
    }
 
+   /**
+    * Tests if two oriented boxes A and B intersect using the separating axis theorem.
+    * <p>
+    * The 15 candidate separating axes are tested: the 3 local axes of each box and the 9 cross
+    * products between them. The absolute values of the relative rotation are increased by
+    * {@link #ONE_TRILLIONTH} to avoid false negatives when two edges are near parallel and their cross
+    * product is close to zero.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>Boxes that are only touching are considered to be intersecting.
+    * </ul>
+    * </p>
+    *
+    * @param centerBx   the x-coordinate of the center of B expressed in the local coordinates of A.
+    * @param centerBy   the y-coordinate of the center of B expressed in the local coordinates of A.
+    * @param centerBz   the z-coordinate of the center of B expressed in the local coordinates of A.
+    * @param r00        the 1st row 1st column element of the rotation from B to A.
+    * @param r01        the 1st row 2nd column element of the rotation from B to A.
+    * @param r02        the 1st row 3rd column element of the rotation from B to A.
+    * @param r10        the 2nd row 1st column element of the rotation from B to A.
+    * @param r11        the 2nd row 2nd column element of the rotation from B to A.
+    * @param r12        the 2nd row 3rd column element of the rotation from B to A.
+    * @param r20        the 3rd row 1st column element of the rotation from B to A.
+    * @param r21        the 3rd row 2nd column element of the rotation from B to A.
+    * @param r22        the 3rd row 3rd column element of the rotation from B to A.
+    * @param halfSizeAx half the size of A along its local x-axis.
+    * @param halfSizeAy half the size of A along its local y-axis.
+    * @param halfSizeAz half the size of A along its local z-axis.
+    * @param halfSizeBx half the size of B along its local x-axis.
+    * @param halfSizeBy half the size of B along its local y-axis.
+    * @param halfSizeBz half the size of B along its local z-axis.
+    * @return {@code true} if the two boxes intersect, {@code false} otherwise.
+    */
+   public static boolean doOrientedBox3DsIntersect(double centerBx, double centerBy, double centerBz, double r00, double r01, double r02, double r10, double r11,
+                                                   double r12, double r20, double r21, double r22, double halfSizeAx, double halfSizeAy, double halfSizeAz,
+                                                   double halfSizeBx, double halfSizeBy, double halfSizeBz)
+   {
+      double tx = centerBx;
+      double ty = centerBy;
+      double tz = centerBz;
+      double a0 = halfSizeAx;
+      double a1 = halfSizeAy;
+      double a2 = halfSizeAz;
+      double b0 = halfSizeBx;
+      double b1 = halfSizeBy;
+      double b2 = halfSizeBz;
+
+      double abs00 = Math.abs(r00) + ONE_TRILLIONTH;
+      double abs01 = Math.abs(r01) + ONE_TRILLIONTH;
+      double abs02 = Math.abs(r02) + ONE_TRILLIONTH;
+      double abs10 = Math.abs(r10) + ONE_TRILLIONTH;
+      double abs11 = Math.abs(r11) + ONE_TRILLIONTH;
+      double abs12 = Math.abs(r12) + ONE_TRILLIONTH;
+      double abs20 = Math.abs(r20) + ONE_TRILLIONTH;
+      double abs21 = Math.abs(r21) + ONE_TRILLIONTH;
+      double abs22 = Math.abs(r22) + ONE_TRILLIONTH;
+
+      // Axes of A.
+      if (Math.abs(tx) > a0 + b0 * abs00 + b1 * abs01 + b2 * abs02)
+         return false;
+      if (Math.abs(ty) > a1 + b0 * abs10 + b1 * abs11 + b2 * abs12)
+         return false;
+      if (Math.abs(tz) > a2 + b0 * abs20 + b1 * abs21 + b2 * abs22)
+         return false;
+
+      // Axes of B.
+      if (Math.abs(tx * r00 + ty * r10 + tz * r20) > a0 * abs00 + a1 * abs10 + a2 * abs20 + b0)
+         return false;
+      if (Math.abs(tx * r01 + ty * r11 + tz * r21) > a0 * abs01 + a1 * abs11 + a2 * abs21 + b1)
+         return false;
+      if (Math.abs(tx * r02 + ty * r12 + tz * r22) > a0 * abs02 + a1 * abs12 + a2 * abs22 + b2)
+         return false;
+
+      // Cross products A0 x Bj.
+      if (Math.abs(tz * r10 - ty * r20) > a1 * abs20 + a2 * abs10 + b1 * abs02 + b2 * abs01)
+         return false;
+      if (Math.abs(tz * r11 - ty * r21) > a1 * abs21 + a2 * abs11 + b0 * abs02 + b2 * abs00)
+         return false;
+      if (Math.abs(tz * r12 - ty * r22) > a1 * abs22 + a2 * abs12 + b0 * abs01 + b1 * abs00)
+         return false;
+
+      // Cross products A1 x Bj.
+      if (Math.abs(tx * r20 - tz * r00) > a0 * abs20 + a2 * abs00 + b1 * abs12 + b2 * abs11)
+         return false;
+      if (Math.abs(tx * r21 - tz * r01) > a0 * abs21 + a2 * abs01 + b0 * abs12 + b2 * abs10)
+         return false;
+      if (Math.abs(tx * r22 - tz * r02) > a0 * abs22 + a2 * abs02 + b0 * abs11 + b1 * abs10)
+         return false;
+
+      // Cross products A2 x Bj.
+      if (Math.abs(ty * r00 - tx * r10) > a0 * abs10 + a1 * abs00 + b1 * abs22 + b2 * abs21)
+         return false;
+      if (Math.abs(ty * r01 - tx * r11) > a0 * abs11 + a1 * abs01 + b0 * abs22 + b2 * abs20)
+         return false;
+      if (Math.abs(ty * r02 - tx * r12) > a0 * abs12 + a1 * abs02 + b0 * abs21 + b1 * abs20)
+         return false;
+
+      return true;
+   }
+
    /**
     * Tests if an intersection exists between a 2D ray and a 2D line segment.
     * <p>
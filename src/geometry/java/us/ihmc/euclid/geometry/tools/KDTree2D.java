@@ -0,0 +1,453 @@
+package us.ihmc.euclid.geometry.tools;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+
+/**
+ * Static KD-tree over a set of points in the XY-plane used to perform nearest-neighbor, k-nearest-neighbor and
+ * radius queries in logarithmic time on average.
+ * <p>
+ * The tree is built once from a {@link Vertex2DSupplier} or from a packed array of coordinates and
+ * does not support adding or removing points afterwards. The points are copied in the tree such that
+ * the original collection can be modified afterwards without affecting the tree. The queries refer
+ * to the points using their index in the original collection.
+ * </p>
+ * <p>
+ * The tree is implicit and entirely stored in arrays: the points are reordered such that each node
+ * is a range of the reordered points which median is the splitting point and the two halves on
+ * each side of the median are the children. Ranges with at most {@value #LEAF_SIZE} points are
+ * leaves and are searched linearly. The splitting axis of each node is the axis along which its
+ * points are the most spread.
+ * </p>
+ * <p>
+ * The queries do not modify the tree and can be performed concurrently as long as each thread uses
+ * its own {@link PointQueryResult}. They do not generate garbage once the result buffers are large
+ * enough.
+ * </p>
+ */
+public class KDTree2D
+{
+   /** The maximum number of points in a leaf of the tree. */
+   public static final int LEAF_SIZE = 8;
+
+   private int numberOfPoints = 0;
+   /** The coordinates of the points in the order of the tree, packed as x, y. */
+   private double[] coordinates = new double[0];
+   /** For each point in the order of the tree, its index in the original collection. */
+   private int[] originalIndices = new int[0];
+   /** For each node, identified by the index of its median point, the splitting axis. */
+   private byte[] splitAxes = new byte[0];
+
+   /** Result used by the convenience queries that do not take a result as argument. */
+   private final PointQueryResult defaultResult = new PointQueryResult();
+
+   /**
+    * Creates a new empty tree.
+    */
+   public KDTree2D()
+   {
+   }
+
+   /**
+    * Creates a new tree and builds it from the given points.
+    *
+    * @param points the points to build the tree from. Not modified.
+    */
+   public KDTree2D(Vertex2DSupplier points)
+   {
+      build(points);
+   }
+
+   /**
+    * Clears and rebuilds this tree from the given points.
+    * <p>
+    * The internal arrays are reused when they are large enough.
+    * </p>
+    *
+    * @param points the points to build the tree from. Not modified.
+    */
+   public void build(Vertex2DSupplier points)
+   {
+      int size = points.getNumberOfVertices();
+      ensureCapacity(size);
+
+      for (int i = 0; i < size; i++)
+      {
+         Point2DReadOnly point = points.getVertex(i);
+         coordinates[2 * i] = point.getX();
+         coordinates[2 * i + 1] = point.getY();
+         originalIndices[i] = i;
+      }
+
+      numberOfPoints = size;
+      buildNode(0, numberOfPoints);
+   }
+
+   /**
+    * Clears and rebuilds this tree from the given packed coordinates.
+    * <p>
+    * The coordinates of the i<sup>th</sup> point are expected to be stored at the indices
+    * {@code 2 * i} and {@code 2 * i + 1}. The internal arrays are reused when they are large enough.
+    * </p>
+    *
+    * @param packedCoordinates the x and y coordinates of the points. Not modified.
+    * @param numberOfPoints    the number of points to read from the array.
+    * @throws IllegalArgumentException if the array is too small for the given number of points.
+    */
+   public void build(double[] packedCoordinates, int numberOfPoints)
+   {
+      if (packedCoordinates.length < 2 * numberOfPoints)
+         throw new IllegalArgumentException("The array is too small to hold " + numberOfPoints + " points, length: " + packedCoordinates.length);
+
+      ensureCapacity(numberOfPoints);
+      System.arraycopy(packedCoordinates, 0, coordinates, 0, 2 * numberOfPoints);
+      for (int i = 0; i < numberOfPoints; i++)
+         originalIndices[i] = i;
+
+      this.numberOfPoints = numberOfPoints;
+      buildNode(0, numberOfPoints);
+   }
+
+   /**
+    * Removes all the points from this tree.
+    */
+   public void clear()
+   {
+      numberOfPoints = 0;
+   }
+
+   /**
+    * Gets the number of points in this tree.
+    *
+    * @return the number of points.
+    */
+   public int getNumberOfPoints()
+   {
+      return numberOfPoints;
+   }
+
+   /**
+    * Tests whether this tree contains no point.
+    *
+    * @return {@code true} if this tree is empty, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return numberOfPoints == 0;
+   }
+
+   /**
+    * Finds the point closest to the given query.
+    * <p>
+    * This method uses an internal result and is therefore not thread-safe, see
+    * {@link #findNearest(double, double, PointQueryResult)}.
+    * </p>
+    *
+    * @param query the coordinates of the query. Not modified.
+    * @return the index of the closest point in the original collection, or {@code -1} if this tree
+    *         is empty.
+    */
+   public int findNearest(Point2DReadOnly query)
+   {
+      return findNearest(query.getX(), query.getY(), defaultResult);
+   }
+
+   /**
+    * Finds the point closest to the given query.
+    *
+    * @param x            the x-coordinate of the query.
+    * @param y            the y-coordinate of the query.
+    * @param resultToPack the result in which the closest point and its squared distance to the
+    *                     query are stored. Modified.
+    * @return the index of the closest point in the original collection, or {@code -1} if this tree
+    *         is empty.
+    */
+   public int findNearest(double x, double y, PointQueryResult resultToPack)
+   {
+      return findApproximateNearest(x, y, 0.0, resultToPack);
+   }
+
+   /**
+    * Finds a point which distance to the given query is at most {@code 1 + epsilon} times the
+    * distance to the closest point.
+    * <p>
+    * Allowing an approximation error reduces the number of nodes to visit, the query is exact when
+    * {@code epsilon == 0}.
+    * </p>
+    *
+    * @param x            the x-coordinate of the query.
+    * @param y            the y-coordinate of the query.
+    * @param epsilon      the relative approximation error allowed on the distance, positive.
+    * @param resultToPack the result in which the point found and its squared distance to the query
+    *                     are stored. Modified.
+    * @return the index of the point found in the original collection, or {@code -1} if this tree is
+    *         empty.
+    */
+   public int findApproximateNearest(double x, double y, double epsilon, PointQueryResult resultToPack)
+   {
+      resultToPack.clear();
+
+      if (numberOfPoints == 0)
+         return -1;
+
+      double scale = (1.0 + epsilon) * (1.0 + epsilon);
+      search(0, numberOfPoints, x, y, 1, scale, resultToPack);
+      return resultToPack.getIndex(0);
+   }
+
+   /**
+    * Finds the {@code k} points closest to the given query.
+    *
+    * @param query        the coordinates of the query. Not modified.
+    * @param k            the number of points to find.
+    * @param resultToPack the result in which the points found are stored sorted by increasing
+    *                     distance. Modified.
+    * @return the number of points found, which is less than {@code k} only when this tree has less
+    *         than {@code k} points.
+    */
+   public int findKNearest(Point2DReadOnly query, int k, PointQueryResult resultToPack)
+   {
+      return findKNearest(query.getX(), query.getY(), k, resultToPack);
+   }
+
+   /**
+    * Finds the {@code k} points closest to the given query.
+    *
+    * @param x            the x-coordinate of the query.
+    * @param y            the y-coordinate of the query.
+    * @param k            the number of points to find.
+    * @param resultToPack the result in which the points found are stored sorted by increasing
+    *                     distance. Modified.
+    * @return the number of points found, which is less than {@code k} only when this tree has less
+    *         than {@code k} points.
+    */
+   public int findKNearest(double x, double y, int k, PointQueryResult resultToPack)
+   {
+      resultToPack.clear();
+
+      if (numberOfPoints == 0 || k <= 0)
+         return 0;
+
+      search(0, numberOfPoints, x, y, k, 1.0, resultToPack);
+      resultToPack.sort();
+      return resultToPack.size();
+   }
+
+   /**
+    * Finds all the points which distance to the given query is less than or equal to
+    * {@code radius}.
+    *
+    * @param query        the coordinates of the query. Not modified.
+    * @param radius       the radius of the search.
+    * @param resultToPack the result in which the points found are stored sorted by increasing
+    *                     distance. Modified.
+    * @return the number of points found.
+    */
+   public int findWithinRadius(Point2DReadOnly query, double radius, PointQueryResult resultToPack)
+   {
+      return findWithinRadius(query.getX(), query.getY(), radius, resultToPack);
+   }
+
+   /**
+    * Finds all the points which distance to the given query is less than or equal to
+    * {@code radius}.
+    *
+    * @param x            the x-coordinate of the query.
+    * @param y            the y-coordinate of the query.
+    * @param radius       the radius of the search.
+    * @param resultToPack the result in which the points found are stored sorted by increasing
+    *                     distance. Modified.
+    * @return the number of points found.
+    */
+   public int findWithinRadius(double x, double y, double radius, PointQueryResult resultToPack)
+   {
+      resultToPack.clear();
+
+      if (numberOfPoints == 0 || radius < 0.0)
+         return 0;
+
+      searchRadius(0, numberOfPoints, x, y, radius * radius, resultToPack);
+      resultToPack.sort();
+      return resultToPack.size();
+   }
+
+   /**
+    * Recursive search for the {@code k} nearest points within the node covering the points in
+    * [{@code start}, {@code end}[. The result is maintained as a max-heap such that the farthest
+    * point found so far is readily available to prune the nodes.
+    */
+   private void search(int start, int end, double x, double y, int k, double scale, PointQueryResult result)
+   {
+      if (end - start <= LEAF_SIZE)
+      {
+         for (int i = start; i < end; i++)
+         {
+            result.offer(originalIndices[i], distanceSquared(i, x, y), k);
+         }
+         return;
+      }
+
+      int median = (start + end) >>> 1;
+      result.offer(originalIndices[median], distanceSquared(median, x, y), k);
+
+      int axis = splitAxes[median];
+      double offset = (axis == 0 ? x : y) - coordinates[2 * median + axis];
+
+      if (offset < 0.0)
+         search(start, median, x, y, k, scale, result);
+      else
+         search(median + 1, end, x, y, k, scale, result);
+
+      // The other child can only contain closer points if the splitting plane is closer than the farthest point found.
+      double bound = result.size() < k ? Double.POSITIVE_INFINITY : result.peekMaxDistanceSquared();
+      if (offset * offset * scale >= bound)
+         return;
+
+      if (offset < 0.0)
+         search(median + 1, end, x, y, k, scale, result);
+      else
+         search(start, median, x, y, k, scale, result);
+   }
+
+   private void searchRadius(int start, int end, double x, double y, double radiusSquared, PointQueryResult result)
+   {
+      if (end - start <= LEAF_SIZE)
+      {
+         for (int i = start; i < end; i++)
+         {
+            double distanceSquared = distanceSquared(i, x, y);
+            if (distanceSquared <= radiusSquared)
+               result.add(originalIndices[i], distanceSquared);
+         }
+         return;
+      }
+
+      int median = (start + end) >>> 1;
+      double medianDistanceSquared = distanceSquared(median, x, y);
+      if (medianDistanceSquared <= radiusSquared)
+         result.add(originalIndices[median], medianDistanceSquared);
+
+      int axis = splitAxes[median];
+      double offset = (axis == 0 ? x : y) - coordinates[2 * median + axis];
+
+      if (offset <= 0.0 || offset * offset <= radiusSquared)
+         searchRadius(start, median, x, y, radiusSquared, result);
+      if (offset >= 0.0 || offset * offset <= radiusSquared)
+         searchRadius(median + 1, end, x, y, radiusSquared, result);
+   }
+
+   private double distanceSquared(int i, double x, double y)
+   {
+      double dx = coordinates[2 * i] - x;
+      double dy = coordinates[2 * i + 1] - y;
+      return dx * dx + dy * dy;
+   }
+
+   /**
+    * Builds the node covering the points in [{@code start}, {@code end}[ by partitioning the points
+    * around the median along the axis of largest spread.
+    */
+   private void buildNode(int start, int end)
+   {
+      if (end - start <= LEAF_SIZE)
+         return;
+
+      double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+
+      for (int i = start; i < end; i++)
+      {
+         double x = coordinates[2 * i];
+         double y = coordinates[2 * i + 1];
+         minX = Math.min(minX, x);
+         maxX = Math.max(maxX, x);
+         minY = Math.min(minY, y);
+         maxY = Math.max(maxY, y);
+      }
+
+      int axis = maxX - minX >= maxY - minY ? 0 : 1;
+
+      int median = (start + end) >>> 1;
+      select(start, end - 1, median, axis);
+      splitAxes[median] = (byte) axis;
+
+      buildNode(start, median);
+      buildNode(median + 1, end);
+   }
+
+   /**
+    * Quickselect: partially sorts the points in [{@code left}, {@code right}] such that the
+    * {@code k}<sup>th</sup> point is the one that would be there if the range was sorted along the
+    * given axis, the points before it being less than or equal and the points after greater than or
+    * equal.
+    */
+   private void select(int left, int right, int k, int axis)
+   {
+      while (right > left)
+      {
+         // Median of three as pivot to avoid the quadratic behavior on sorted input.
+         int middle = (left + right) >>> 1;
+         if (coordinate(middle, axis) < coordinate(left, axis))
+            swap(middle, left);
+         if (coordinate(right, axis) < coordinate(left, axis))
+            swap(right, left);
+         if (coordinate(right, axis) < coordinate(middle, axis))
+            swap(right, middle);
+         double pivot = coordinate(middle, axis);
+
+         int i = left;
+         int j = right;
+
+         while (i <= j)
+         {
+            while (coordinate(i, axis) < pivot)
+               i++;
+            while (coordinate(j, axis) > pivot)
+               j--;
+
+            if (i <= j)
+            {
+               swap(i, j);
+               i++;
+               j--;
+            }
+         }
+
+         if (k <= j)
+            right = j;
+         else if (k >= i)
+            left = i;
+         else
+            return;
+      }
+   }
+
+   private double coordinate(int i, int axis)
+   {
+      return coordinates[2 * i + axis];
+   }
+
+   private void swap(int i, int j)
+   {
+      for (int axis = 0; axis < 2; axis++)
+      {
+         double coordinate = coordinates[2 * i + axis];
+         coordinates[2 * i + axis] = coordinates[2 * j + axis];
+         coordinates[2 * j + axis] = coordinate;
+      }
+
+      int index = originalIndices[i];
+      originalIndices[i] = originalIndices[j];
+      originalIndices[j] = index;
+   }
+
+   private void ensureCapacity(int capacity)
+   {
+      if (originalIndices.length >= capacity)
+         return;
+
+      coordinates = new double[2 * capacity];
+      originalIndices = new int[capacity];
+      splitAxes = new byte[capacity];
+   }
+}
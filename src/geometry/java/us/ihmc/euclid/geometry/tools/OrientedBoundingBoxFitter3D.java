@@ -0,0 +1,287 @@
+package us.ihmc.euclid.geometry.tools;
+
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Fits {@link OrientedBoundingBox3D}s to sets of 3D points.
+ * <p>
+ * Two strategies are available:
+ * <ul>
+ * <li>{@link #fitPrincipalAxes(Vertex3DSupplier, OrientedBoundingBox3DBasics)}: the axes of the box
+ * are the principal axes of the points, obtained from the eigen decomposition of their covariance.
+ * This is the fastest option, but the box can be loose for point sets which are not evenly
+ * distributed.
+ * <li>{@link #fitMinimumVolume(Vertex3DSupplier, OrientedBoundingBox3DBasics)}: for each principal
+ * axis, the points are projected onto the plane orthogonal to the axis and the rectangle of minimum
+ * area enclosing the projection is found with the rotating calipers. The box with the smallest
+ * volume is kept. This is an approximation of the minimum volume box which is never worse than the
+ * principal axes box.
+ * </ul>
+ * Additional candidate axes, such as the face normals of a convex polytope, can be evaluated with
+ * {@link #fitAroundAxis(Vertex3DSupplier, Vector3DReadOnly, OrientedBoundingBox3DBasics)}.
+ * </p>
+ * <p>
+ * The fitter is designed for garbage free operations once its internal buffers are large enough.
+ * </p>
+ */
+public class OrientedBoundingBoxFitter3D
+{
+   private final PlaneFitAccumulator3D accumulator = new PlaneFitAccumulator3D();
+   private final Matrix3D covariance = new Matrix3D();
+   private final Matrix3D principalAxes = new Matrix3D();
+   private final Vector3D eigenValues = new Vector3D();
+
+   private final Point3D center = new Point3D();
+   private final Vector3D axis = new Vector3D();
+   private final Vector3D tangent1 = new Vector3D();
+   private final Vector3D tangent2 = new Vector3D();
+   private final Vector3D xAxis = new Vector3D();
+   private final Vector3D yAxis = new Vector3D();
+   private final ConvexPolygon2D projection = new ConvexPolygon2D();
+   private final ConvexPolygon2D rectangle = new ConvexPolygon2D();
+   private final OrientedBoundingBox3D candidate = new OrientedBoundingBox3D();
+
+   /**
+    * Creates a new fitter.
+    */
+   public OrientedBoundingBoxFitter3D()
+   {
+   }
+
+   /**
+    * Fits a box which axes are the principal axes of the given points.
+    *
+    * @param points                    the points to enclose. Not modified.
+    * @param orientedBoundingBoxToPack the box used to store the result, or set to
+    *                                  {@link Double#NaN} if there is no point. Modified.
+    * @return the volume of the box, or {@link Double#NaN} if there is no point.
+    */
+   public double fitPrincipalAxes(Vertex3DSupplier points, OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      if (!computePrincipalAxes(points))
+      {
+         orientedBoundingBoxToPack.setToNaN();
+         return Double.NaN;
+      }
+
+      Point3DReadOnly reference = points.getVertex(0);
+      double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+
+      for (int i = 0; i < points.getNumberOfVertices(); i++)
+      {
+         Point3DReadOnly point = points.getVertex(i);
+         double dx = point.getX() - reference.getX();
+         double dy = point.getY() - reference.getY();
+         double dz = point.getZ() - reference.getZ();
+         double x = principalAxes.getM00() * dx + principalAxes.getM10() * dy + principalAxes.getM20() * dz;
+         double y = principalAxes.getM01() * dx + principalAxes.getM11() * dy + principalAxes.getM21() * dz;
+         double z = principalAxes.getM02() * dx + principalAxes.getM12() * dy + principalAxes.getM22() * dz;
+         minX = Math.min(minX, x);
+         minY = Math.min(minY, y);
+         minZ = Math.min(minZ, z);
+         maxX = Math.max(maxX, x);
+         maxY = Math.max(maxY, y);
+         maxZ = Math.max(maxZ, z);
+      }
+
+      center.set(0.5 * (minX + maxX), 0.5 * (minY + maxY), 0.5 * (minZ + maxZ));
+      principalAxes.transform(center);
+      center.add(reference);
+      orientedBoundingBoxToPack.getCenter().set(center);
+      orientedBoundingBoxToPack.getOrientation().setAndNormalize(principalAxes);
+      orientedBoundingBoxToPack.setHalfSize(0.5 * (maxX - minX), 0.5 * (maxY - minY), 0.5 * (maxZ - minZ));
+      return orientedBoundingBoxToPack.getVolume();
+   }
+
+   /**
+    * Fits a box to the given points approximating the box of minimum volume.
+    * <p>
+    * Each principal axis of the points is used as a candidate axis for
+    * {@link #fitAroundAxis(Vertex3DSupplier, Vector3DReadOnly, OrientedBoundingBox3DBasics)}, and the
+    * box with the smallest volume is kept.
+    * </p>
+    *
+    * @param points                    the points to enclose. Not modified.
+    * @param orientedBoundingBoxToPack the box used to store the result, or set to
+    *                                  {@link Double#NaN} if there is no point. Modified.
+    * @return the volume of the box, or {@link Double#NaN} if there is no point.
+    */
+   public double fitMinimumVolume(Vertex3DSupplier points, OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      double bestVolume = fitPrincipalAxes(points, orientedBoundingBoxToPack);
+
+      if (Double.isNaN(bestVolume))
+         return Double.NaN;
+
+      for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+      {
+         principalAxes.getColumn(axisIndex, axis);
+         double volume = fitAroundAxis(points, axis, candidate);
+
+         if (volume < bestVolume)
+         {
+            bestVolume = volume;
+            orientedBoundingBoxToPack.set(candidate);
+         }
+      }
+
+      return bestVolume;
+   }
+
+   /**
+    * Fits a box to the given points such that its z-axis is aligned with {@code axis}.
+    * <p>
+    * The points are projected onto the plane orthogonal to {@code axis} and the rectangle of minimum
+    * area enclosing the projection is computed with the rotating calipers, see
+    * {@link EuclidGeometryPolygonTools#minimumAreaBoundingRectangleOfConvexPolygon2D}. The rectangle
+    * only provides the orientation of the box, its extents are measured on all the points such that
+    * the box contains them even when the convex hull of the projection is degenerate.
+    * </p>
+    *
+    * @param points                    the points to enclose. Not modified.
+    * @param axis                      the direction of the z-axis of the box. It does not need to be
+    *                                  a unit vector. Not modified.
+    * @param orientedBoundingBoxToPack the box used to store the result, or set to
+    *                                  {@link Double#NaN} if there is no point or if {@code axis} is
+    *                                  too small. Modified.
+    * @return the volume of the box, or {@link Double#NaN} if the fit failed.
+    */
+   public double fitAroundAxis(Vertex3DSupplier points, Vector3DReadOnly axis, OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      double axisLength = axis.length();
+
+      if (points.isEmpty() || !(axisLength > EuclidGeometryTools.ONE_TRILLIONTH))
+      {
+         orientedBoundingBoxToPack.setToNaN();
+         return Double.NaN;
+      }
+
+      this.axis.setAndScale(1.0 / axisLength, axis);
+      computeTangents(this.axis, tangent1, tangent2);
+
+      Point3DReadOnly reference = points.getVertex(0);
+      projection.clear();
+
+      for (int i = 0; i < points.getNumberOfVertices(); i++)
+      {
+         Point3DReadOnly point = points.getVertex(i);
+         double dx = point.getX() - reference.getX();
+         double dy = point.getY() - reference.getY();
+         double dz = point.getZ() - reference.getZ();
+         projection.addVertex(tangent1.getX() * dx + tangent1.getY() * dy + tangent1.getZ() * dz,
+                              tangent2.getX() * dx + tangent2.getY() * dy + tangent2.getZ() * dz);
+      }
+
+      projection.update();
+      EuclidGeometryPolygonTools.minimumAreaBoundingRectangleOfConvexPolygon2D(projection, rectangle);
+
+      // Only the direction of the rectangle's first edge is used, the extents of the box are computed from all the points.
+      double directionU = 1.0;
+      double directionV = 0.0;
+
+      if (rectangle.getNumberOfVertices() >= 2)
+      {
+         double edgeU = rectangle.getVertex(1).getX() - rectangle.getVertex(0).getX();
+         double edgeV = rectangle.getVertex(1).getY() - rectangle.getVertex(0).getY();
+         double edgeLength = EuclidCoreTools.norm(edgeU, edgeV);
+
+         if (edgeLength > EuclidGeometryTools.ONE_TRILLIONTH)
+         {
+            directionU = edgeU / edgeLength;
+            directionV = edgeV / edgeLength;
+         }
+      }
+
+      xAxis.setAndScale(directionU, tangent1);
+      xAxis.scaleAdd(directionV, tangent2, xAxis);
+      yAxis.cross(this.axis, xAxis);
+
+      double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+
+      for (int i = 0; i < points.getNumberOfVertices(); i++)
+      {
+         Point3DReadOnly point = points.getVertex(i);
+         double dx = point.getX() - reference.getX();
+         double dy = point.getY() - reference.getY();
+         double dz = point.getZ() - reference.getZ();
+         double x = xAxis.getX() * dx + xAxis.getY() * dy + xAxis.getZ() * dz;
+         double y = yAxis.getX() * dx + yAxis.getY() * dy + yAxis.getZ() * dz;
+         double z = this.axis.getX() * dx + this.axis.getY() * dy + this.axis.getZ() * dz;
+         minX = Math.min(minX, x);
+         minY = Math.min(minY, y);
+         minZ = Math.min(minZ, z);
+         maxX = Math.max(maxX, x);
+         maxY = Math.max(maxY, y);
+         maxZ = Math.max(maxZ, z);
+      }
+
+      center.setAndScale(0.5 * (minX + maxX), xAxis);
+      center.scaleAdd(0.5 * (minY + maxY), yAxis, center);
+      center.scaleAdd(0.5 * (minZ + maxZ), this.axis, center);
+      center.add(reference);
+
+      orientedBoundingBoxToPack.getCenter().set(center);
+      orientedBoundingBoxToPack.getOrientation()
+                               .setAndNormalize(xAxis.getX(),
+                                                yAxis.getX(),
+                                                this.axis.getX(),
+                                                xAxis.getY(),
+                                                yAxis.getY(),
+                                                this.axis.getY(),
+                                                xAxis.getZ(),
+                                                yAxis.getZ(),
+                                                this.axis.getZ());
+      orientedBoundingBoxToPack.setHalfSize(0.5 * (maxX - minX), 0.5 * (maxY - minY), 0.5 * (maxZ - minZ));
+      return orientedBoundingBoxToPack.getVolume();
+   }
+
+   /**
+    * Computes the principal axes of the points as the columns of {@link #principalAxes}, forming a
+    * right-handed frame.
+    */
+   private boolean computePrincipalAxes(Vertex3DSupplier points)
+   {
+      if (points.isEmpty())
+         return false;
+
+      accumulator.clear();
+      for (int i = 0; i < points.getNumberOfVertices(); i++)
+         accumulator.addPoint(points.getVertex(i));
+      accumulator.getCovariance(covariance);
+
+      if (!Matrix3DTools.computeSymmetricEigenDecomposition(covariance, eigenValues, principalAxes))
+         principalAxes.setIdentity();
+
+      if (principalAxes.determinant() < 0.0)
+      {
+         principalAxes.setM02(-principalAxes.getM02());
+         principalAxes.setM12(-principalAxes.getM12());
+         principalAxes.setM22(-principalAxes.getM22());
+      }
+
+      return true;
+   }
+
+   private static void computeTangents(Vector3DReadOnly normal, Vector3D tangent1ToPack, Vector3D tangent2ToPack)
+   {
+      // Crossing the normal with the world axis it is the least aligned with.
+      if (Math.abs(normal.getX()) < 0.9)
+         tangent1ToPack.set(0.0, normal.getZ(), -normal.getY());
+      else
+         tangent1ToPack.set(-normal.getZ(), 0.0, normal.getX());
+      tangent1ToPack.normalize();
+      tangent2ToPack.cross(normal, tangent1ToPack);
+   }
+}
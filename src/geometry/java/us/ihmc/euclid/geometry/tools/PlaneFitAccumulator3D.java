@@ -0,0 +1,315 @@
+package us.ihmc.euclid.geometry.tools;
+
+import us.ihmc.euclid.geometry.interfaces.Plane3DBasics;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Accumulator of 3D points for fitting a plane in the least-squares sense, to which points can be
+ * added and removed one at a time.
+ * <p>
+ * Only the running sums of the coordinates and of their products are stored, such that adding or
+ * removing a point runs in constant time and without generating garbage regardless of the number of
+ * points. The plane is obtained from the eigen decomposition of the 3-by-3 covariance matrix: it
+ * passes through the centroid of the points and its normal is the eigen vector associated with the
+ * smallest eigen value.
+ * </p>
+ * <p>
+ * To preserve the precision when the points are far from the origin, the sums are expressed with
+ * respect to the first point added since the accumulator was last cleared.
+ * </p>
+ */
+public class PlaneFitAccumulator3D
+{
+   private int numberOfPoints = 0;
+   private double referenceX, referenceY, referenceZ;
+   private double sumX, sumY, sumZ;
+   private double sumXX, sumXY, sumXZ, sumYY, sumYZ, sumZZ;
+
+   private final Matrix3D covariance = new Matrix3D();
+   private final Matrix3D eigenVectors = new Matrix3D();
+   private final Vector3D eigenValues = new Vector3D();
+
+   /**
+    * Creates a new empty accumulator.
+    */
+   public PlaneFitAccumulator3D()
+   {
+      clear();
+   }
+
+   /**
+    * Removes all the points from this accumulator.
+    */
+   public void clear()
+   {
+      numberOfPoints = 0;
+      referenceX = referenceY = referenceZ = 0.0;
+      sumX = sumY = sumZ = 0.0;
+      sumXX = sumXY = sumXZ = sumYY = sumYZ = sumZZ = 0.0;
+   }
+
+   /**
+    * Adds a point to this accumulator.
+    *
+    * @param point the point to add. Not modified.
+    */
+   public void addPoint(Point3DReadOnly point)
+   {
+      addPoint(point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Adds a point to this accumulator.
+    *
+    * @param x the x-coordinate of the point to add.
+    * @param y the y-coordinate of the point to add.
+    * @param z the z-coordinate of the point to add.
+    */
+   public void addPoint(double x, double y, double z)
+   {
+      if (numberOfPoints == 0)
+      {
+         referenceX = x;
+         referenceY = y;
+         referenceZ = z;
+      }
+
+      accumulate(x - referenceX, y - referenceY, z - referenceZ, 1.0);
+      numberOfPoints++;
+   }
+
+   /**
+    * Removes a point previously added to this accumulator.
+    * <p>
+    * This accumulator cannot verify that the point was actually added, removing a point that was not
+    * added results in an invalid fit.
+    * </p>
+    *
+    * @param point the point to remove. Not modified.
+    * @throws IllegalStateException if this accumulator is empty.
+    */
+   public void removePoint(Point3DReadOnly point)
+   {
+      removePoint(point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Removes a point previously added to this accumulator.
+    * <p>
+    * This accumulator cannot verify that the point was actually added, removing a point that was not
+    * added results in an invalid fit.
+    * </p>
+    *
+    * @param x the x-coordinate of the point to remove.
+    * @param y the y-coordinate of the point to remove.
+    * @param z the z-coordinate of the point to remove.
+    * @throws IllegalStateException if this accumulator is empty.
+    */
+   public void removePoint(double x, double y, double z)
+   {
+      if (numberOfPoints == 0)
+         throw new IllegalStateException("Cannot remove a point from an empty accumulator.");
+
+      if (numberOfPoints == 1)
+      {
+         clear();
+         return;
+      }
+
+      accumulate(x - referenceX, y - referenceY, z - referenceZ, -1.0);
+      numberOfPoints--;
+   }
+
+   /**
+    * Adds all the points of the other accumulator to this accumulator.
+    *
+    * @param other the other accumulator. Not modified.
+    */
+   public void add(PlaneFitAccumulator3D other)
+   {
+      if (other.numberOfPoints == 0)
+         return;
+
+      if (numberOfPoints == 0)
+      {
+         set(other);
+         return;
+      }
+
+      // Expressing the sums of the other accumulator with respect to the reference of this accumulator.
+      double dx = other.referenceX - referenceX;
+      double dy = other.referenceY - referenceY;
+      double dz = other.referenceZ - referenceZ;
+      int n = other.numberOfPoints;
+
+      sumX += other.sumX + n * dx;
+      sumY += other.sumY + n * dy;
+      sumZ += other.sumZ + n * dz;
+      sumXX += other.sumXX + 2.0 * dx * other.sumX + n * dx * dx;
+      sumYY += other.sumYY + 2.0 * dy * other.sumY + n * dy * dy;
+      sumZZ += other.sumZZ + 2.0 * dz * other.sumZ + n * dz * dz;
+      sumXY += other.sumXY + dx * other.sumY + dy * other.sumX + n * dx * dy;
+      sumXZ += other.sumXZ + dx * other.sumZ + dz * other.sumX + n * dx * dz;
+      sumYZ += other.sumYZ + dy * other.sumZ + dz * other.sumY + n * dy * dz;
+      numberOfPoints += n;
+   }
+
+   /**
+    * Sets this accumulator to hold the same points as the other accumulator.
+    *
+    * @param other the other accumulator. Not modified.
+    */
+   public void set(PlaneFitAccumulator3D other)
+   {
+      numberOfPoints = other.numberOfPoints;
+      referenceX = other.referenceX;
+      referenceY = other.referenceY;
+      referenceZ = other.referenceZ;
+      sumX = other.sumX;
+      sumY = other.sumY;
+      sumZ = other.sumZ;
+      sumXX = other.sumXX;
+      sumXY = other.sumXY;
+      sumXZ = other.sumXZ;
+      sumYY = other.sumYY;
+      sumYZ = other.sumYZ;
+      sumZZ = other.sumZZ;
+   }
+
+   private void accumulate(double x, double y, double z, double sign)
+   {
+      sumX += sign * x;
+      sumY += sign * y;
+      sumZ += sign * z;
+      sumXX += sign * x * x;
+      sumXY += sign * x * y;
+      sumXZ += sign * x * z;
+      sumYY += sign * y * y;
+      sumYZ += sign * y * z;
+      sumZZ += sign * z * z;
+   }
+
+   /**
+    * Gets the number of points currently held by this accumulator.
+    *
+    * @return the number of points.
+    */
+   public int getNumberOfPoints()
+   {
+      return numberOfPoints;
+   }
+
+   /**
+    * Computes the centroid of the points.
+    *
+    * @param centroidToPack the point used to store the centroid, or set to {@link Double#NaN} if this
+    *                       accumulator is empty. Modified.
+    */
+   public void getCentroid(Point3DBasics centroidToPack)
+   {
+      if (numberOfPoints == 0)
+      {
+         centroidToPack.setToNaN();
+         return;
+      }
+
+      double inverseNumberOfPoints = 1.0 / numberOfPoints;
+      centroidToPack.set(referenceX + sumX * inverseNumberOfPoints, referenceY + sumY * inverseNumberOfPoints, referenceZ + sumZ * inverseNumberOfPoints);
+   }
+
+   /**
+    * Computes the covariance matrix of the points, normalized by the number of points.
+    *
+    * @param covarianceToPack the matrix used to store the covariance, or set to {@link Double#NaN} if
+    *                         this accumulator is empty. Modified.
+    */
+   public void getCovariance(Matrix3DBasics covarianceToPack)
+   {
+      if (numberOfPoints == 0)
+      {
+         covarianceToPack.setToNaN();
+         return;
+      }
+
+      double inverseNumberOfPoints = 1.0 / numberOfPoints;
+      double meanX = sumX * inverseNumberOfPoints;
+      double meanY = sumY * inverseNumberOfPoints;
+      double meanZ = sumZ * inverseNumberOfPoints;
+      double covXX = sumXX * inverseNumberOfPoints - meanX * meanX;
+      double covXY = sumXY * inverseNumberOfPoints - meanX * meanY;
+      double covXZ = sumXZ * inverseNumberOfPoints - meanX * meanZ;
+      double covYY = sumYY * inverseNumberOfPoints - meanY * meanY;
+      double covYZ = sumYZ * inverseNumberOfPoints - meanY * meanZ;
+      double covZZ = sumZZ * inverseNumberOfPoints - meanZ * meanZ;
+      covarianceToPack.set(covXX, covXY, covXZ, covXY, covYY, covYZ, covXZ, covYZ, covZZ);
+   }
+
+   /**
+    * Fits a plane to the points in the least-squares sense.
+    * <p>
+    * The plane passes through the centroid of the points. Its normal is oriented such that its
+    * z-component is positive, or when the z-component is zero, such that the y-component, and then
+    * the x-component, is positive.
+    * </p>
+    *
+    * @param planeToPack the plane used to store the result, or set to {@link Double#NaN} if the fit
+    *                    failed. Modified.
+    * @return the mean of the squared distances from the points to the plane, or {@link Double#NaN}
+    *         if this accumulator holds less than 3 points or the decomposition failed.
+    */
+   public double fitPlane(Plane3DBasics planeToPack)
+   {
+      if (numberOfPoints < 3)
+      {
+         planeToPack.setToNaN();
+         return Double.NaN;
+      }
+
+      getCovariance(covariance);
+
+      if (!Matrix3DTools.computeSymmetricEigenDecomposition(covariance, eigenValues, eigenVectors))
+      {
+         planeToPack.setToNaN();
+         return Double.NaN;
+      }
+
+      // The eigen values are sorted in decreasing order, the normal is the last eigen vector.
+      double normalX = eigenVectors.getM02();
+      double normalY = eigenVectors.getM12();
+      double normalZ = eigenVectors.getM22();
+
+      if (normalZ < 0.0 || (normalZ == 0.0 && (normalY < 0.0 || (normalY == 0.0 && normalX < 0.0))))
+      {
+         normalX = -normalX;
+         normalY = -normalY;
+         normalZ = -normalZ;
+      }
+
+      double inverseNumberOfPoints = 1.0 / numberOfPoints;
+      planeToPack.set(referenceX + sumX * inverseNumberOfPoints,
+                      referenceY + sumY * inverseNumberOfPoints,
+                      referenceZ + sumZ * inverseNumberOfPoints,
+                      normalX,
+                      normalY,
+                      normalZ);
+      // The variance along the normal cannot be negative, rounding errors aside.
+      return Math.max(0.0, eigenValues.getZ());
+   }
+
+   /**
+    * Provides a {@code String} representation of this accumulator as follows:<br>
+    * Plane fit accumulator: number of points: 42
+    *
+    * @return the {@code String} representing this accumulator.
+    */
+   @Override
+   public String toString()
+   {
+      return "Plane fit accumulator: number of points: " + numberOfPoints;
+   }
+}
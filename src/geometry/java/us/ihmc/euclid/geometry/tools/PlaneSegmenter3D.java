@@ -0,0 +1,335 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import us.ihmc.euclid.geometry.Plane3D;
+import us.ihmc.euclid.geometry.interfaces.Plane3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+
+/**
+ * Segments a point cloud into planes using the
+ * <a href="https://en.wikipedia.org/wiki/Random_sample_consensus">random sample consensus
+ * (RANSAC)</a> algorithm.
+ * <p>
+ * The planes are extracted one after the other. For each plane, candidate planes are built from
+ * random triplets of the points not yet assigned and the candidate with the most points within the
+ * distance threshold is selected. The number of candidates is reduced as better candidates are
+ * found, such that there is a probability of at least {@link #setSuccessProbability(double)} that
+ * one triplet only contains inliers. The selected plane is then refined with a least-squares fit of
+ * its inliers using {@link PlaneFitAccumulator3D}, and its inliers are assigned to it. The
+ * extraction stops when the best candidate has less than the minimum number of inliers or when the
+ * maximum number of planes is reached.
+ * </p>
+ * <p>
+ * The point cloud is given as a structure of arrays: one array per coordinate, the i<sup>th</sup>
+ * point being {@code (xs[i], ys[i], zs[i])}. The segmenter is designed for garbage free operations
+ * once its internal buffers are large enough.
+ * </p>
+ */
+public class PlaneSegmenter3D
+{
+   /** Label of the points that do not belong to any plane. */
+   public static final int NO_PLANE = -1;
+
+   private final Random random;
+   private double distanceThreshold = 0.02;
+   private int minimumNumberOfInliers = 50;
+   private int maximumNumberOfIterations = 1000;
+   private int maximumNumberOfPlanes = 10;
+   private double successProbability = 0.99;
+
+   private final List<Plane3D> planes = new ArrayList<>();
+   private int[] planeSizes = new int[8];
+   private int numberOfPlanes = 0;
+   /** Indices of the points that are not yet assigned to a plane. */
+   private int[] remainingPoints = new int[0];
+   private final PlaneFitAccumulator3D accumulator = new PlaneFitAccumulator3D();
+
+   /**
+    * Creates a new segmenter.
+    *
+    * @param random the random generator used to draw the candidate planes.
+    */
+   public PlaneSegmenter3D(Random random)
+   {
+      this.random = random;
+   }
+
+   /**
+    * Sets the maximum distance between a point and a plane for the point to be considered as part of
+    * the plane. Default value: {@code 0.02}.
+    *
+    * @param distanceThreshold the distance threshold.
+    * @throws IllegalArgumentException if {@code distanceThreshold} is not strictly positive.
+    */
+   public void setDistanceThreshold(double distanceThreshold)
+   {
+      if (!(distanceThreshold > 0.0))
+         throw new IllegalArgumentException("The distance threshold has to be strictly positive, was: " + distanceThreshold);
+      this.distanceThreshold = distanceThreshold;
+   }
+
+   /**
+    * Sets the minimum number of points a plane needs to be extracted. Default value: {@code 50}.
+    *
+    * @param minimumNumberOfInliers the minimum number of points per plane.
+    * @throws IllegalArgumentException if {@code minimumNumberOfInliers < 3}.
+    */
+   public void setMinimumNumberOfInliers(int minimumNumberOfInliers)
+   {
+      if (minimumNumberOfInliers < 3)
+         throw new IllegalArgumentException("The minimum number of inliers has to be at least 3, was: " + minimumNumberOfInliers);
+      this.minimumNumberOfInliers = minimumNumberOfInliers;
+   }
+
+   /**
+    * Sets the maximum number of candidate planes evaluated for extracting one plane. Default value:
+    * {@code 1000}.
+    *
+    * @param maximumNumberOfIterations the maximum number of candidates per plane.
+    * @throws IllegalArgumentException if {@code maximumNumberOfIterations < 1}.
+    */
+   public void setMaximumNumberOfIterations(int maximumNumberOfIterations)
+   {
+      if (maximumNumberOfIterations < 1)
+         throw new IllegalArgumentException("The maximum number of iterations has to be at least 1, was: " + maximumNumberOfIterations);
+      this.maximumNumberOfIterations = maximumNumberOfIterations;
+   }
+
+   /**
+    * Sets the maximum number of planes to extract. Default value: {@code 10}.
+    *
+    * @param maximumNumberOfPlanes the maximum number of planes.
+    * @throws IllegalArgumentException if {@code maximumNumberOfPlanes < 1}.
+    */
+   public void setMaximumNumberOfPlanes(int maximumNumberOfPlanes)
+   {
+      if (maximumNumberOfPlanes < 1)
+         throw new IllegalArgumentException("The maximum number of planes has to be at least 1, was: " + maximumNumberOfPlanes);
+      this.maximumNumberOfPlanes = maximumNumberOfPlanes;
+   }
+
+   /**
+    * Sets the desired probability that at least one of the candidates of a plane is drawn from its
+    * inliers only, used to stop drawing candidates early. Default value: {@code 0.99}.
+    *
+    * @param successProbability the success probability in ]0, 1[.
+    * @throws IllegalArgumentException if {@code successProbability} is not in ]0, 1[.
+    */
+   public void setSuccessProbability(double successProbability)
+   {
+      if (!(successProbability > 0.0 && successProbability < 1.0))
+         throw new IllegalArgumentException("The success probability has to be in ]0, 1[, was: " + successProbability);
+      this.successProbability = successProbability;
+   }
+
+   /**
+    * Segments the given point cloud into planes.
+    *
+    * @param xs             the x-coordinates of the points. Not modified.
+    * @param ys             the y-coordinates of the points. Not modified.
+    * @param zs             the z-coordinates of the points. Not modified.
+    * @param numberOfPoints the number of points to segment.
+    * @param labelsToPack   the array in which the index of the plane of each point is stored, or
+    *                       {@link #NO_PLANE} for the points that do not belong to any plane.
+    *                       Modified.
+    * @return the number of planes extracted.
+    * @throws IllegalArgumentException if any of the arrays has less than {@code numberOfPoints}
+    *                                  elements.
+    */
+   public int segment(double[] xs, double[] ys, double[] zs, int numberOfPoints, int[] labelsToPack)
+   {
+      if (numberOfPoints < 0)
+         throw new IllegalArgumentException("The number of points cannot be negative: " + numberOfPoints);
+      if (xs.length < numberOfPoints || ys.length < numberOfPoints || zs.length < numberOfPoints || labelsToPack.length < numberOfPoints)
+         throw new IllegalArgumentException("The arrays are too small, expected at least " + numberOfPoints + " elements.");
+
+      Arrays.fill(labelsToPack, 0, numberOfPoints, NO_PLANE);
+      numberOfPlanes = 0;
+
+      if (remainingPoints.length < numberOfPoints)
+         remainingPoints = new int[numberOfPoints];
+      for (int i = 0; i < numberOfPoints; i++)
+         remainingPoints[i] = i;
+      int numberOfRemainingPoints = numberOfPoints;
+
+      while (numberOfPlanes < maximumNumberOfPlanes && numberOfRemainingPoints >= minimumNumberOfInliers)
+      {
+         Plane3D plane = nextPlane();
+
+         if (!findBestCandidate(xs, ys, zs, numberOfRemainingPoints, plane))
+            break;
+
+         // Refining the candidate with a least-squares fit of its inliers.
+         accumulator.clear();
+         accumulateInliers(xs, ys, zs, numberOfRemainingPoints, plane);
+         if (Double.isNaN(accumulator.fitPlane(plane)))
+            break;
+
+         accumulator.clear();
+         accumulateInliers(xs, ys, zs, numberOfRemainingPoints, plane);
+         if (accumulator.getNumberOfPoints() < minimumNumberOfInliers)
+            break;
+
+         // Assigning the inliers of the refined plane and removing them from the remaining points.
+         double pointX = plane.getPoint().getX();
+         double pointY = plane.getPoint().getY();
+         double pointZ = plane.getPoint().getZ();
+         double normalX = plane.getNormal().getX();
+         double normalY = plane.getNormal().getY();
+         double normalZ = plane.getNormal().getZ();
+         int numberOfOutliers = 0;
+
+         for (int r = 0; r < numberOfRemainingPoints; r++)
+         {
+            int index = remainingPoints[r];
+            double distance = normalX * (xs[index] - pointX) + normalY * (ys[index] - pointY) + normalZ * (zs[index] - pointZ);
+
+            if (Math.abs(distance) <= distanceThreshold)
+               labelsToPack[index] = numberOfPlanes;
+            else
+               remainingPoints[numberOfOutliers++] = index;
+         }
+
+         if (planeSizes.length <= numberOfPlanes)
+            planeSizes = Arrays.copyOf(planeSizes, 2 * planeSizes.length);
+         planeSizes[numberOfPlanes] = numberOfRemainingPoints - numberOfOutliers;
+         numberOfRemainingPoints = numberOfOutliers;
+         numberOfPlanes++;
+      }
+
+      return numberOfPlanes;
+   }
+
+   private Plane3D nextPlane()
+   {
+      while (planes.size() <= numberOfPlanes)
+         planes.add(new Plane3D());
+      return planes.get(numberOfPlanes);
+   }
+
+   private boolean findBestCandidate(double[] xs, double[] ys, double[] zs, int numberOfRemainingPoints, Plane3D bestCandidateToPack)
+   {
+      int bestNumberOfInliers = 0;
+      int numberOfIterations = maximumNumberOfIterations;
+      double logFailureProbability = Math.log(1.0 - successProbability);
+
+      for (int iteration = 0; iteration < numberOfIterations; iteration++)
+      {
+         int a = remainingPoints[random.nextInt(numberOfRemainingPoints)];
+         int b = remainingPoints[random.nextInt(numberOfRemainingPoints)];
+         int c = remainingPoints[random.nextInt(numberOfRemainingPoints)];
+
+         double abX = xs[b] - xs[a];
+         double abY = ys[b] - ys[a];
+         double abZ = zs[b] - zs[a];
+         double acX = xs[c] - xs[a];
+         double acY = ys[c] - ys[a];
+         double acZ = zs[c] - zs[a];
+         double normalX = abY * acZ - abZ * acY;
+         double normalY = abZ * acX - abX * acZ;
+         double normalZ = abX * acY - abY * acX;
+         double normalLength = EuclidCoreTools.norm(normalX, normalY, normalZ);
+
+         // Skipping the degenerate triplets, this also covers the triplets with repeated points.
+         if (normalLength < 1.0e-12)
+            continue;
+
+         normalX /= normalLength;
+         normalY /= normalLength;
+         normalZ /= normalLength;
+
+         int numberOfInliers = 0;
+
+         for (int r = 0; r < numberOfRemainingPoints; r++)
+         {
+            int index = remainingPoints[r];
+            double distance = normalX * (xs[index] - xs[a]) + normalY * (ys[index] - ys[a]) + normalZ * (zs[index] - zs[a]);
+            if (Math.abs(distance) <= distanceThreshold)
+               numberOfInliers++;
+         }
+
+         if (numberOfInliers <= bestNumberOfInliers)
+            continue;
+
+         bestNumberOfInliers = numberOfInliers;
+         bestCandidateToPack.set(xs[a], ys[a], zs[a], normalX, normalY, normalZ);
+
+         double inlierRatio = (double) numberOfInliers / numberOfRemainingPoints;
+         double logOutlierTripletProbability = Math.log(1.0 - inlierRatio * inlierRatio * inlierRatio);
+         if (logOutlierTripletProbability == Double.NEGATIVE_INFINITY)
+            break;
+         numberOfIterations = (int) Math.min(maximumNumberOfIterations, Math.ceil(logFailureProbability / logOutlierTripletProbability));
+      }
+
+      return bestNumberOfInliers >= minimumNumberOfInliers;
+   }
+
+   private void accumulateInliers(double[] xs, double[] ys, double[] zs, int numberOfRemainingPoints, Plane3DReadOnly plane)
+   {
+      double pointX = plane.getPoint().getX();
+      double pointY = plane.getPoint().getY();
+      double pointZ = plane.getPoint().getZ();
+      double normalX = plane.getNormal().getX();
+      double normalY = plane.getNormal().getY();
+      double normalZ = plane.getNormal().getZ();
+
+      for (int r = 0; r < numberOfRemainingPoints; r++)
+      {
+         int index = remainingPoints[r];
+         double distance = normalX * (xs[index] - pointX) + normalY * (ys[index] - pointY) + normalZ * (zs[index] - pointZ);
+         if (Math.abs(distance) <= distanceThreshold)
+            accumulator.addPoint(xs[index], ys[index], zs[index]);
+      }
+   }
+
+   /**
+    * Gets the number of planes extracted by the last segmentation.
+    *
+    * @return the number of planes.
+    */
+   public int getNumberOfPlanes()
+   {
+      return numberOfPlanes;
+   }
+
+   /**
+    * Gets the {@code index}<sup>th</sup> plane extracted by the last segmentation.
+    * <p>
+    * The plane is the least-squares fit of the inliers of the best candidate, all the points assigned
+    * to it are within the distance threshold from it.
+    * </p>
+    *
+    * @param index the index of the plane.
+    * @return the plane.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code getNumberOfPlanes()}[.
+    */
+   public Plane3DReadOnly getPlane(int index)
+   {
+      checkIndex(index);
+      return planes.get(index);
+   }
+
+   /**
+    * Gets the number of points assigned to the {@code index}<sup>th</sup> plane by the last
+    * segmentation.
+    *
+    * @param index the index of the plane.
+    * @return the number of points of the plane.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code getNumberOfPlanes()}[.
+    */
+   public int getNumberOfInliers(int index)
+   {
+      checkIndex(index);
+      return planeSizes[index];
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= numberOfPlanes)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of planes: " + numberOfPlanes);
+   }
+}
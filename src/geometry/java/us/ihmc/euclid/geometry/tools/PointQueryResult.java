@@ -0,0 +1,238 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer holding the result of a proximity query on a set of points, such as the k-nearest
+ * neighbors or the points within a radius of a query.
+ * <p>
+ * The result is a list of point indices, referring to the indices of the points in the collection
+ * that was used to build the spatial index, and their squared distance to the query. After a query,
+ * the points are sorted by increasing distance.
+ * </p>
+ * <p>
+ * The buffers grow as needed and are reused from one query to the next, such that queries do not
+ * generate garbage once the buffers are large enough. A result can be used by a single thread at a
+ * time, to run queries from several threads, each thread should use its own result.
+ * </p>
+ */
+public class PointQueryResult
+{
+   private int size = 0;
+   private int[] indices;
+   private double[] distancesSquared;
+
+   /**
+    * Creates a new empty result.
+    */
+   public PointQueryResult()
+   {
+      this(16);
+   }
+
+   /**
+    * Creates a new empty result with the given initial capacity.
+    *
+    * @param initialCapacity the number of points the result can hold before growing.
+    */
+   public PointQueryResult(int initialCapacity)
+   {
+      indices = new int[Math.max(1, initialCapacity)];
+      distancesSquared = new double[indices.length];
+   }
+
+   /**
+    * Removes all the points from this result.
+    */
+   public void clear()
+   {
+      size = 0;
+   }
+
+   /**
+    * Gets the number of points in this result.
+    *
+    * @return the number of points.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Tests whether this result is empty.
+    *
+    * @return {@code true} if this result contains no point, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   /**
+    * Gets the index of the {@code i}<sup>th</sup> point of this result.
+    *
+    * @param i the position of the point in this result.
+    * @return the index of the point in the original collection.
+    * @throws IndexOutOfBoundsException if {@code i} is not in [0, {@code size()}[.
+    */
+   public int getIndex(int i)
+   {
+      checkIndex(i);
+      return indices[i];
+   }
+
+   /**
+    * Gets the squared distance between the query and the {@code i}<sup>th</sup> point of this result.
+    *
+    * @param i the position of the point in this result.
+    * @return the squared distance to the query.
+    * @throws IndexOutOfBoundsException if {@code i} is not in [0, {@code size()}[.
+    */
+   public double getDistanceSquared(int i)
+   {
+      checkIndex(i);
+      return distancesSquared[i];
+   }
+
+   /**
+    * Gets the distance between the query and the {@code i}<sup>th</sup> point of this result.
+    *
+    * @param i the position of the point in this result.
+    * @return the distance to the query.
+    * @throws IndexOutOfBoundsException if {@code i} is not in [0, {@code size()}[.
+    */
+   public double getDistance(int i)
+   {
+      return Math.sqrt(getDistanceSquared(i));
+   }
+
+   private void checkIndex(int i)
+   {
+      if (i < 0 || i >= size)
+         throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+   }
+
+   /**
+    * Gets the largest squared distance in this result while it is organized as a max-heap.
+    */
+   double peekMaxDistanceSquared()
+   {
+      return distancesSquared[0];
+   }
+
+   /**
+    * Adds a point to this result while it is organized as a max-heap of at most {@code maxSize}
+    * points. When the heap is full, the point replaces the farthest point if it is closer.
+    */
+   void offer(int index, double distanceSquared, int maxSize)
+   {
+      if (size < maxSize)
+      {
+         ensureCapacity(size + 1);
+         int position = size++;
+
+         while (position > 0)
+         {
+            int parent = (position - 1) >>> 1;
+            if (!isGreater(distanceSquared, index, distancesSquared[parent], indices[parent]))
+               break;
+            indices[position] = indices[parent];
+            distancesSquared[position] = distancesSquared[parent];
+            position = parent;
+         }
+
+         indices[position] = index;
+         distancesSquared[position] = distanceSquared;
+      }
+      else if (isGreater(distancesSquared[0], indices[0], distanceSquared, index))
+      {
+         siftDown(0, index, distanceSquared, size);
+      }
+   }
+
+   /**
+    * Adds a point at the end of this result without maintaining any ordering.
+    */
+   void add(int index, double distanceSquared)
+   {
+      ensureCapacity(size + 1);
+      indices[size] = index;
+      distancesSquared[size] = distanceSquared;
+      size++;
+   }
+
+   /**
+    * Sorts the points of this result by increasing distance, ties are broken using the point index.
+    */
+   void sort()
+   {
+      // Heap sort: build a max-heap and repeatedly move its root to the end.
+      for (int i = (size >>> 1) - 1; i >= 0; i--)
+         siftDown(i, indices[i], distancesSquared[i], size);
+
+      for (int end = size - 1; end > 0; end--)
+      {
+         int index = indices[end];
+         double distanceSquared = distancesSquared[end];
+         indices[end] = indices[0];
+         distancesSquared[end] = distancesSquared[0];
+         siftDown(0, index, distanceSquared, end);
+      }
+   }
+
+   private void siftDown(int position, int index, double distanceSquared, int heapSize)
+   {
+      while (true)
+      {
+         int child = 2 * position + 1;
+
+         if (child >= heapSize)
+            break;
+         if (child + 1 < heapSize && isGreater(distancesSquared[child + 1], indices[child + 1], distancesSquared[child], indices[child]))
+            child++;
+         if (!isGreater(distancesSquared[child], indices[child], distanceSquared, index))
+            break;
+
+         indices[position] = indices[child];
+         distancesSquared[position] = distancesSquared[child];
+         position = child;
+      }
+
+      indices[position] = index;
+      distancesSquared[position] = distanceSquared;
+   }
+
+   private static boolean isGreater(double distanceSquaredA, int indexA, double distanceSquaredB, int indexB)
+   {
+      if (distanceSquaredA != distanceSquaredB)
+         return distanceSquaredA > distanceSquaredB;
+      return indexA > indexB;
+   }
+
+   private void ensureCapacity(int capacity)
+   {
+      if (capacity <= indices.length)
+         return;
+
+      int newCapacity = Math.max(capacity, 2 * indices.length);
+      indices = Arrays.copyOf(indices, newCapacity);
+      distancesSquared = Arrays.copyOf(distancesSquared, newCapacity);
+   }
+
+   /**
+    * Creates and returns a representative {@code String} for this result.
+    */
+   @Override
+   public String toString()
+   {
+      StringBuilder builder = new StringBuilder("Point query result: [");
+      for (int i = 0; i < size; i++)
+      {
+         if (i > 0)
+            builder.append(", ");
+         builder.append(indices[i]).append(": ").append(Math.sqrt(distancesSquared[i]));
+      }
+      return builder.append("]").toString();
+   }
+}
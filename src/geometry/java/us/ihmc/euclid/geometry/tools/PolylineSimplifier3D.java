@@ -0,0 +1,470 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Simplifies and resamples polylines in 3D.
+ * <p>
+ * The points of the polyline are streamed into this simplifier with {@link #addPoint(double, double, double)}
+ * and are stored in an internal buffer. The buffer can then be processed with:
+ * <ul>
+ * <li>{@link #simplifyDouglasPeucker(double, List)}: removes the points that are closer than a
+ * tolerance to the simplified polyline.
+ * <li>{@link #simplifyVisvalingamWhyatt(double, List)}: iteratively removes the point forming the
+ * triangle of smallest area with its neighbors.
+ * <li>{@link #resample(double, List)}: generates points evenly spaced along the polyline.
+ * </ul>
+ * The first and last points of the buffer are always part of the result. To simplify a long stream
+ * window by window, {@link #clearExceptLastPoint()} can be called after processing the buffer such
+ * that the next window starts where the previous one ended.
+ * </p>
+ * <p>
+ * This simplifier is designed for garbage free operations: the point buffer and the work arrays
+ * grow as needed and are reused from one call to the next, and the points of the output lists are
+ * recycled.
+ * </p>
+ */
+public class PolylineSimplifier3D
+{
+   /** The current number of points in the buffer. */
+   private int numberOfPoints = 0;
+   /**
+    * The internal memory of this simplifier. It is used as a buffer to recycle the memory and can
+    * thus be greater than the actual number of points.
+    */
+   private final List<Point3D> pointBuffer = new ArrayList<>();
+
+   /** Marks the points that are kept by the simplification. */
+   private boolean[] isKept = new boolean[0];
+   /** Stack of the index ranges remaining to be processed by the Douglas-Peucker algorithm. */
+   private int[] rangeStack = new int[0];
+   /** Doubly linked list of the points remaining in the Visvalingam-Whyatt algorithm. */
+   private int[] previousIndices = new int[0];
+   private int[] nextIndices = new int[0];
+   /** Effective area of each point, the points are sorted in a binary min-heap according to it. */
+   private double[] areas = new double[0];
+   private int[] heap = new int[0];
+   /** Position of each point in the heap, {@code -1} when the point is not in the heap. */
+   private int[] heapPositions = new int[0];
+   private int heapSize = 0;
+
+   /**
+    * Creates a new simplifier with an empty buffer.
+    */
+   public PolylineSimplifier3D()
+   {
+   }
+
+   /**
+    * Removes all the points from the buffer.
+    */
+   public void clear()
+   {
+      numberOfPoints = 0;
+   }
+
+   /**
+    * Removes all the points from the buffer except for the last one.
+    * <p>
+    * This is useful to simplify a stream of points window by window: the last point of a window is
+    * always kept by the simplification and becomes the first point of the next window.
+    * </p>
+    */
+   public void clearExceptLastPoint()
+   {
+      if (numberOfPoints <= 1)
+         return;
+
+      // Swapping the points to not lose the reference to the first one.
+      Point3D lastPoint = pointBuffer.set(numberOfPoints - 1, pointBuffer.get(0));
+      pointBuffer.set(0, lastPoint);
+      numberOfPoints = 1;
+   }
+
+   /**
+    * Adds a point at the end of the buffer.
+    *
+    * @param point the new point. Not modified.
+    */
+   public void addPoint(Point3DReadOnly point)
+   {
+      addPoint(point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Adds a point at the end of the buffer.
+    *
+    * @param x the x-coordinate of the new point.
+    * @param y the y-coordinate of the new point.
+    * @param z the z-coordinate of the new point.
+    */
+   public void addPoint(double x, double y, double z)
+   {
+      if (numberOfPoints == pointBuffer.size())
+         pointBuffer.add(new Point3D());
+      pointBuffer.get(numberOfPoints).set(x, y, z);
+      numberOfPoints++;
+   }
+
+   /**
+    * Adds the given points at the end of the buffer.
+    *
+    * @param points the new points. Not modified.
+    */
+   public void addPoints(List<? extends Point3DReadOnly> points)
+   {
+      for (int i = 0; i < points.size(); i++)
+         addPoint(points.get(i));
+   }
+
+   /**
+    * Gets the current number of points in the buffer.
+    *
+    * @return the number of points.
+    */
+   public int getNumberOfPoints()
+   {
+      return numberOfPoints;
+   }
+
+   /**
+    * Gets the read-only reference to the {@code index}<sup>th</sup> point of the buffer.
+    *
+    * @param index the index of the point.
+    * @return the read-only reference to the point.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code numberOfPoints}[.
+    */
+   public Point3DReadOnly getPoint(int index)
+   {
+      if (index < 0 || index >= numberOfPoints)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of points: " + numberOfPoints);
+      return pointBuffer.get(index);
+   }
+
+   /**
+    * Simplifies the polyline held in the buffer using the Douglas-Peucker algorithm.
+    * <p>
+    * The algorithm is implemented iteratively with an explicit stack of index ranges such that long
+    * polylines do not overflow the call stack. Each range is scanned entirely to find the point that
+    * is the farthest from the segment joining its ends, the complexity is therefore
+    * O(n<sup>2</sup>) in the worst case, when each split only separates one point from the rest of
+    * the range. {@link #simplifyVisvalingamWhyatt(double, List)} can be used instead when the
+    * running time has to be bounded by O(n log n).
+    * </p>
+    *
+    * @param tolerance              the maximum distance between a removed point and the simplified
+    *                               polyline.
+    * @param simplifiedPointsToPack the list in which the points of the simplified polyline are
+    *                               stored. The points it already contains are recycled. Modified.
+    * @return the number of points of the simplified polyline.
+    */
+   public int simplifyDouglasPeucker(double tolerance, List<Point3D> simplifiedPointsToPack)
+   {
+      if (numberOfPoints <= 2)
+         return packAllPoints(simplifiedPointsToPack);
+
+      ensureCapacity(numberOfPoints);
+      Arrays.fill(isKept, 0, numberOfPoints, false);
+      isKept[0] = true;
+      isKept[numberOfPoints - 1] = true;
+
+      double toleranceSquared = tolerance * tolerance;
+      int stackSize = 0;
+      rangeStack[stackSize++] = 0;
+      rangeStack[stackSize++] = numberOfPoints - 1;
+
+      while (stackSize > 0)
+      {
+         int end = rangeStack[--stackSize];
+         int start = rangeStack[--stackSize];
+         Point3D startPoint = pointBuffer.get(start);
+         Point3D endPoint = pointBuffer.get(end);
+
+         int farthestIndex = -1;
+         double maxDistanceSquared = toleranceSquared;
+
+         for (int i = start + 1; i < end; i++)
+         {
+            Point3D point = pointBuffer.get(i);
+            double distanceSquared = EuclidGeometryTools.distanceSquaredFromPoint3DToLineSegment3D(point.getX(), point.getY(), point.getZ(), startPoint, endPoint);
+
+            if (distanceSquared > maxDistanceSquared)
+            {
+               maxDistanceSquared = distanceSquared;
+               farthestIndex = i;
+            }
+         }
+
+         if (farthestIndex == -1)
+            continue;
+
+         isKept[farthestIndex] = true;
+
+         if (farthestIndex - start > 1)
+         {
+            rangeStack[stackSize++] = start;
+            rangeStack[stackSize++] = farthestIndex;
+         }
+
+         if (end - farthestIndex > 1)
+         {
+            rangeStack[stackSize++] = farthestIndex;
+            rangeStack[stackSize++] = end;
+         }
+      }
+
+      return packKeptPoints(simplifiedPointsToPack);
+   }
+
+   /**
+    * Simplifies the polyline held in the buffer using the Visvalingam-Whyatt algorithm.
+    * <p>
+    * The point forming the triangle of smallest area with its two neighbors is removed iteratively
+    * until all the remaining triangles have an area greater than or equal to {@code minimumArea}.
+    * When a point is removed, the area of its neighbors is updated and is not allowed to decrease
+    * below the area of the removed point, such that the points are removed in order of increasing
+    * significance. The points are sorted in a binary heap resulting in a complexity of O(n log n).
+    * </p>
+    *
+    * @param minimumArea            the minimum area of the triangle formed by a remaining point and
+    *                               its neighbors.
+    * @param simplifiedPointsToPack the list in which the points of the simplified polyline are
+    *                               stored. The points it already contains are recycled. Modified.
+    * @return the number of points of the simplified polyline.
+    */
+   public int simplifyVisvalingamWhyatt(double minimumArea, List<Point3D> simplifiedPointsToPack)
+   {
+      if (numberOfPoints <= 2)
+         return packAllPoints(simplifiedPointsToPack);
+
+      ensureCapacity(numberOfPoints);
+      Arrays.fill(isKept, 0, numberOfPoints, true);
+      heapSize = 0;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         previousIndices[i] = i - 1;
+         nextIndices[i] = i + 1;
+         heapPositions[i] = -1;
+      }
+
+      for (int i = 1; i < numberOfPoints - 1; i++)
+      {
+         areas[i] = triangleArea(i - 1, i, i + 1);
+         heap[heapSize] = i;
+         heapPositions[i] = heapSize;
+         heapSize++;
+      }
+
+      for (int i = heapSize / 2 - 1; i >= 0; i--)
+         siftDown(i);
+
+      while (heapSize > 0)
+      {
+         int index = heap[0];
+         double area = areas[index];
+
+         if (area >= minimumArea)
+            break;
+
+         removeHeapTop();
+         isKept[index] = false;
+
+         int previous = previousIndices[index];
+         int next = nextIndices[index];
+         nextIndices[previous] = next;
+         previousIndices[next] = previous;
+
+         updateArea(previous, area);
+         updateArea(next, area);
+      }
+
+      return packKeptPoints(simplifiedPointsToPack);
+   }
+
+   /**
+    * Resamples the polyline held in the buffer such that the resampled points are evenly spaced by
+    * {@code spacing} along the polyline.
+    * <p>
+    * The first resampled point is the first point of the buffer, the distance between two
+    * consecutive resampled points measured along the polyline is equal to {@code spacing} except for
+    * the last one which is the last point of the buffer and can be closer to the previous one.
+    * </p>
+    *
+    * @param spacing               the arc-length between two consecutive resampled points.
+    * @param resampledPointsToPack the list in which the resampled points are stored. The points it
+    *                              already contains are recycled. Modified.
+    * @return the number of resampled points.
+    * @throws IllegalArgumentException if {@code spacing} is not strictly positive.
+    */
+   public int resample(double spacing, List<Point3D> resampledPointsToPack)
+   {
+      if (!(spacing > 0.0))
+         throw new IllegalArgumentException("The spacing must be strictly positive, was: " + spacing);
+
+      if (numberOfPoints <= 1)
+         return packAllPoints(resampledPointsToPack);
+
+      int count = 0;
+      nextPoint(resampledPointsToPack, count++).set(pointBuffer.get(0));
+      // Arc-length to travel from the start of the current segment to the next resampled point.
+      double distanceToNextSample = spacing;
+
+      for (int i = 1; i < numberOfPoints; i++)
+      {
+         Point3D start = pointBuffer.get(i - 1);
+         Point3D end = pointBuffer.get(i);
+         double segmentLength = start.distance(end);
+         double position = distanceToNextSample;
+
+         while (position < segmentLength)
+         {
+            double alpha = position / segmentLength;
+            nextPoint(resampledPointsToPack, count++).interpolate(start, end, alpha);
+            position += spacing;
+         }
+
+         distanceToNextSample = position - segmentLength;
+      }
+
+      nextPoint(resampledPointsToPack, count++).set(pointBuffer.get(numberOfPoints - 1));
+      trimList(resampledPointsToPack, count);
+      return count;
+   }
+
+   private double triangleArea(int a, int b, int c)
+   {
+      return EuclidGeometryTools.triangleArea(pointBuffer.get(a), pointBuffer.get(b), pointBuffer.get(c));
+   }
+
+   private void updateArea(int index, double minimumArea)
+   {
+      int position = heapPositions[index];
+
+      if (position == -1)
+         return; // This is one of the two ends.
+
+      double oldArea = areas[index];
+      double newArea = Math.max(minimumArea, triangleArea(previousIndices[index], index, nextIndices[index]));
+      areas[index] = newArea;
+
+      if (newArea < oldArea)
+         siftUp(position);
+      else
+         siftDown(position);
+   }
+
+   private void removeHeapTop()
+   {
+      heapPositions[heap[0]] = -1;
+      heapSize--;
+
+      if (heapSize > 0)
+      {
+         heap[0] = heap[heapSize];
+         heapPositions[heap[0]] = 0;
+         siftDown(0);
+      }
+   }
+
+   private void siftUp(int position)
+   {
+      int index = heap[position];
+
+      while (position > 0)
+      {
+         int parent = (position - 1) / 2;
+
+         if (areas[heap[parent]] <= areas[index])
+            break;
+
+         heap[position] = heap[parent];
+         heapPositions[heap[position]] = position;
+         position = parent;
+      }
+
+      heap[position] = index;
+      heapPositions[index] = position;
+   }
+
+   private void siftDown(int position)
+   {
+      int index = heap[position];
+
+      while (true)
+      {
+         int child = 2 * position + 1;
+
+         if (child >= heapSize)
+            break;
+         if (child + 1 < heapSize && areas[heap[child + 1]] < areas[heap[child]])
+            child++;
+         if (areas[index] <= areas[heap[child]])
+            break;
+
+         heap[position] = heap[child];
+         heapPositions[heap[position]] = position;
+         position = child;
+      }
+
+      heap[position] = index;
+      heapPositions[index] = position;
+   }
+
+   private int packAllPoints(List<Point3D> pointsToPack)
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+         nextPoint(pointsToPack, i).set(pointBuffer.get(i));
+      trimList(pointsToPack, numberOfPoints);
+      return numberOfPoints;
+   }
+
+   private int packKeptPoints(List<Point3D> pointsToPack)
+   {
+      int count = 0;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         if (isKept[i])
+            nextPoint(pointsToPack, count++).set(pointBuffer.get(i));
+      }
+
+      trimList(pointsToPack, count);
+      return count;
+   }
+
+   private void ensureCapacity(int capacity)
+   {
+      if (isKept.length >= capacity)
+         return;
+
+      isKept = new boolean[capacity];
+      rangeStack = new int[2 * capacity];
+      previousIndices = new int[capacity];
+      nextIndices = new int[capacity];
+      areas = new double[capacity];
+      heap = new int[capacity];
+      heapPositions = new int[capacity];
+   }
+
+   private static Point3D nextPoint(List<Point3D> points, int index)
+   {
+      if (index < points.size())
+         return points.get(index);
+
+      Point3D point = new Point3D();
+      points.add(point);
+      return point;
+   }
+
+   private static void trimList(List<?> list, int size)
+   {
+      while (list.size() > size)
+         list.remove(list.size() - 1);
+   }
+}
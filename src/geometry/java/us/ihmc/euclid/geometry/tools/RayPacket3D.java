@@ -0,0 +1,227 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Packet of 3D rays stored in primitive arrays for testing many rays against the same bounding box,
+ * as done for instance when simulating a range sensor.
+ * <p>
+ * The rays are stored as a structure of arrays: one array per coordinate of the ray origins and one
+ * array per coordinate of the inverse of the ray directions. The directions are normalized and
+ * inverted once when a ray is added, such that a slab test only involves multiplications and
+ * comparisons without branching on the direction sign.
+ * </p>
+ * <p>
+ * The buffers grow as needed and are reused when the packet is cleared, such that refilling the
+ * packet does not generate garbage once the buffers are large enough.
+ * </p>
+ * @see BoundingBox3DBuffer
+ */
+public class RayPacket3D
+{
+   private int numberOfRays = 0;
+   private double[] originX, originY, originZ;
+   private double[] inverseDirectionX, inverseDirectionY, inverseDirectionZ;
+
+   /**
+    * Creates a new empty packet.
+    */
+   public RayPacket3D()
+   {
+      this(64);
+   }
+
+   /**
+    * Creates a new empty packet with the given initial capacity.
+    *
+    * @param initialCapacity the number of rays the packet can hold before growing.
+    */
+   public RayPacket3D(int initialCapacity)
+   {
+      int capacity = Math.max(1, initialCapacity);
+      originX = new double[capacity];
+      originY = new double[capacity];
+      originZ = new double[capacity];
+      inverseDirectionX = new double[capacity];
+      inverseDirectionY = new double[capacity];
+      inverseDirectionZ = new double[capacity];
+   }
+
+   /**
+    * Removes all the rays from this packet.
+    */
+   public void clear()
+   {
+      numberOfRays = 0;
+   }
+
+   /**
+    * Adds a ray to this packet.
+    *
+    * @param rayOrigin    the origin of the ray. Not modified.
+    * @param rayDirection the direction of the ray. It does not need to be a unit vector. Not
+    *                     modified.
+    * @return the index of the new ray in this packet.
+    * @throws IllegalArgumentException if the direction is zero.
+    */
+   public int addRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection)
+   {
+      return addRay(rayOrigin.getX(), rayOrigin.getY(), rayOrigin.getZ(), rayDirection.getX(), rayDirection.getY(), rayDirection.getZ());
+   }
+
+   /**
+    * Adds a ray to this packet.
+    *
+    * @param originX    the x-coordinate of the ray origin.
+    * @param originY    the y-coordinate of the ray origin.
+    * @param originZ    the z-coordinate of the ray origin.
+    * @param directionX the x-component of the ray direction.
+    * @param directionY the y-component of the ray direction.
+    * @param directionZ the z-component of the ray direction.
+    * @return the index of the new ray in this packet.
+    * @throws IllegalArgumentException if the direction is zero.
+    */
+   public int addRay(double originX, double originY, double originZ, double directionX, double directionY, double directionZ)
+   {
+      double directionLength = EuclidCoreTools.norm(directionX, directionY, directionZ);
+
+      if (!(directionLength > 0.0))
+         throw new IllegalArgumentException("The ray direction cannot be zero.");
+
+      if (numberOfRays == this.originX.length)
+         grow();
+
+      int index = numberOfRays++;
+      this.originX[index] = originX;
+      this.originY[index] = originY;
+      this.originZ[index] = originZ;
+      // Dividing the length by each component normalizes and inverts the direction in one go, a zero component gives an infinite inverse.
+      inverseDirectionX[index] = directionLength / directionX;
+      inverseDirectionY[index] = directionLength / directionY;
+      inverseDirectionZ[index] = directionLength / directionZ;
+      return index;
+   }
+
+   private void grow()
+   {
+      int newCapacity = 2 * originX.length;
+      originX = Arrays.copyOf(originX, newCapacity);
+      originY = Arrays.copyOf(originY, newCapacity);
+      originZ = Arrays.copyOf(originZ, newCapacity);
+      inverseDirectionX = Arrays.copyOf(inverseDirectionX, newCapacity);
+      inverseDirectionY = Arrays.copyOf(inverseDirectionY, newCapacity);
+      inverseDirectionZ = Arrays.copyOf(inverseDirectionZ, newCapacity);
+   }
+
+   /**
+    * Gets the number of rays in this packet.
+    *
+    * @return the number of rays.
+    */
+   public int getNumberOfRays()
+   {
+      return numberOfRays;
+   }
+
+   /**
+    * Gets the origin of the {@code index}<sup>th</sup> ray.
+    *
+    * @param index        the index of the ray.
+    * @param originToPack the point used to store the ray origin. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code getNumberOfRays()}[.
+    */
+   public void getRayOrigin(int index, Point3DBasics originToPack)
+   {
+      checkIndex(index);
+      originToPack.set(originX[index], originY[index], originZ[index]);
+   }
+
+   /**
+    * Gets the unit direction of the {@code index}<sup>th</sup> ray.
+    *
+    * @param index           the index of the ray.
+    * @param directionToPack the vector used to store the ray direction. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@code getNumberOfRays()}[.
+    */
+   public void getRayDirection(int index, Vector3DBasics directionToPack)
+   {
+      checkIndex(index);
+      directionToPack.set(1.0 / inverseDirectionX[index], 1.0 / inverseDirectionY[index], 1.0 / inverseDirectionZ[index]);
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= numberOfRays)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of rays: " + numberOfRays);
+   }
+
+   /**
+    * Tests every ray of this packet against a bounding box.
+    * <p>
+    * A ray whose origin is inside the bounding box intersects it with an entry distance of zero. For a
+    * ray that does not intersect the bounding box, the entry and exit distances are set to
+    * {@link Double#NaN}. A ray lying exactly in the plane of a face of the bounding box may be
+    * reported as not intersecting.
+    * </p>
+    *
+    * @param boundingBox           the bounding box to test the rays against. Not modified.
+    * @param hitMaskToPack         the array in which the outcome of the test is stored for each ray.
+    *                              Its length has to be at least equal to the number of rays.
+    *                              Modified.
+    * @param entryDistancesToPack  the array in which the distance from the ray origin to where it
+    *                              enters the bounding box is stored for each ray. Can be
+    *                              {@code null}. Modified.
+    * @param exitDistancesToPack   the array in which the distance from the ray origin to where it
+    *                              exits the bounding box is stored for each ray. Can be {@code null}.
+    *                              Modified.
+    * @return the number of rays intersecting the bounding box.
+    */
+   public int intersectWithBoundingBox(BoundingBox3DReadOnly boundingBox, boolean[] hitMaskToPack, double[] entryDistancesToPack,
+                                       double[] exitDistancesToPack)
+   {
+      double minX = boundingBox.getMinX();
+      double minY = boundingBox.getMinY();
+      double minZ = boundingBox.getMinZ();
+      double maxX = boundingBox.getMaxX();
+      double maxY = boundingBox.getMaxY();
+      double maxZ = boundingBox.getMaxZ();
+
+      int numberOfHits = 0;
+
+      for (int i = 0; i < numberOfRays; i++)
+      {
+         double t1 = (minX - originX[i]) * inverseDirectionX[i];
+         double t2 = (maxX - originX[i]) * inverseDirectionX[i];
+         double tEnter = Math.min(t1, t2);
+         double tExit = Math.max(t1, t2);
+
+         t1 = (minY - originY[i]) * inverseDirectionY[i];
+         t2 = (maxY - originY[i]) * inverseDirectionY[i];
+         tEnter = Math.max(tEnter, Math.min(t1, t2));
+         tExit = Math.min(tExit, Math.max(t1, t2));
+
+         t1 = (minZ - originZ[i]) * inverseDirectionZ[i];
+         t2 = (maxZ - originZ[i]) * inverseDirectionZ[i];
+         tEnter = Math.max(Math.max(tEnter, Math.min(t1, t2)), 0.0);
+         tExit = Math.min(tExit, Math.max(t1, t2));
+
+         boolean hit = tEnter <= tExit;
+         hitMaskToPack[i] = hit;
+         numberOfHits += hit ? 1 : 0;
+
+         if (entryDistancesToPack != null)
+            entryDistancesToPack[i] = hit ? tEnter : Double.NaN;
+         if (exitDistancesToPack != null)
+            exitDistancesToPack[i] = hit ? tExit : Double.NaN;
+      }
+
+      return numberOfHits;
+   }
+}
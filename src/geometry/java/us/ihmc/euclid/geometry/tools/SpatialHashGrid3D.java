@@ -0,0 +1,662 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Sparse uniform grid in 3D used to index points and axis-aligned bounding boxes that move
+ * frequently.
+ * <p>
+ * Each entry is identified by a non-negative index, typically the index of the object it represents
+ * in the user's collection. A point entry is registered in the cell containing it, a bounding box
+ * entry is registered in every cell it overlaps. Inserting, moving, and removing an entry runs in
+ * constant time with respect to the number of entries, moving an entry within the same cells only
+ * updates its bounds.
+ * </p>
+ * <p>
+ * Only the non-empty cells are stored, in a hash table using open addressing with linear probing
+ * which keys are the quantized cell coordinates packed in a {@code long}. The cell coordinates are
+ * stored on 21 bits, such that the grid spans [-2<sup>20</sup>, 2<sup>20</sup>[ cells along each
+ * axis. Entries outside of this range are registered in the boundary cells, they are still handled
+ * correctly by the distance and bounding box queries. Cells that become empty are discarded the
+ * next time the table is rebuilt.
+ * </p>
+ * <p>
+ * A bounding box entry is registered in every cell it overlaps, the cell size should therefore be
+ * chosen close to the typical size of the bounding boxes.
+ * </p>
+ * <p>
+ * The grid is designed for garbage free operations once its internal arrays are large enough. The
+ * queries are not thread-safe as they use internal state, for instance to report each entry only
+ * once.
+ * </p>
+ */
+public class SpatialHashGrid3D
+{
+   private static final int COORDINATE_BITS = 21;
+   private static final long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1L;
+   private static final int MIN_CELL_COORDINATE = -(1 << (COORDINATE_BITS - 1));
+   private static final int MAX_CELL_COORDINATE = (1 << (COORDINATE_BITS - 1)) - 1;
+   /** Marks a free slot of the hash table, packed keys are never negative. */
+   private static final long EMPTY_KEY = -1L;
+   private static final int NO_NODE = -1;
+   private static final int ALL_QUERY = 0;
+   private static final int BOUNDING_BOX_QUERY = 1;
+   private static final int RADIUS_QUERY = 2;
+
+   private final double cellSize;
+   private final double invCellSize;
+
+   // Hash table of the cells: key and first node of the cell.
+   private long[] cellKeys;
+   private int[] cellHeads;
+   private int numberOfOccupiedSlots = 0;
+
+   /*
+    * Pool of nodes: a node registers an entry in a cell. The nodes of a cell form a doubly linked list
+    * and the nodes of an entry form a singly linked list. The free nodes are chained using nextInCell.
+    */
+   private int[] nodeEntries = new int[0];
+   private long[] nodeCellKeys = new long[0];
+   private int[] nodeNextInCell = new int[0];
+   private int[] nodePreviousInCell = new int[0];
+   private int[] nodeNextOfEntry = new int[0];
+   private int firstFreeNode = NO_NODE;
+   private int numberOfNodes = 0;
+
+   // Per entry data indexed by the entry index.
+   private int[] entryFirstNodes = new int[0];
+   /** The bounds of the entries packed as minX, minY, minZ, maxX, maxY, maxZ. */
+   private double[] entryBounds = new double[0];
+   /** The range of cells covered by the entries packed as minX, minY, minZ, maxX, maxY, maxZ. */
+   private int[] entryCellRanges = new int[0];
+   private int[] entryQueryMarkers = new int[0];
+   private int queryMarker = 0;
+   private int numberOfEntries = 0;
+
+   // State of the query being performed.
+   private int queryType;
+   private double queryMinX, queryMinY, queryMinZ, queryMaxX, queryMaxY, queryMaxZ;
+   private double queryX, queryY, queryZ, queryRadiusSquared;
+   private IntConsumer queryAction;
+   private PointQueryResult queryResult;
+
+   /**
+    * Creates a new empty grid.
+    *
+    * @param cellSize the size of the cells, strictly positive.
+    * @throws IllegalArgumentException if {@code cellSize} is not strictly positive.
+    */
+   public SpatialHashGrid3D(double cellSize)
+   {
+      if (!(cellSize > 0.0))
+         throw new IllegalArgumentException("The cell size must be strictly positive, was: " + cellSize);
+
+      this.cellSize = cellSize;
+      invCellSize = 1.0 / cellSize;
+      cellKeys = new long[16];
+      cellHeads = new int[16];
+      Arrays.fill(cellKeys, EMPTY_KEY);
+   }
+
+   /**
+    * Removes all the entries from this grid.
+    */
+   public void clear()
+   {
+      Arrays.fill(cellKeys, EMPTY_KEY);
+      numberOfOccupiedSlots = 0;
+      Arrays.fill(entryFirstNodes, NO_NODE);
+      firstFreeNode = NO_NODE;
+      numberOfNodes = 0;
+      numberOfEntries = 0;
+   }
+
+   /**
+    * Inserts a point entry in this grid.
+    *
+    * @param index the index of the new entry, non-negative.
+    * @param point the position of the entry. Not modified.
+    * @throws IllegalArgumentException if an entry with the same index is already in this grid.
+    */
+   public void insert(int index, Point3DReadOnly point)
+   {
+      insert(index, point.getX(), point.getY(), point.getZ(), point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Inserts a bounding box entry in this grid.
+    *
+    * @param index       the index of the new entry, non-negative.
+    * @param boundingBox the bounds of the entry. Not modified.
+    * @throws IllegalArgumentException if an entry with the same index is already in this grid.
+    */
+   public void insert(int index, BoundingBox3DReadOnly boundingBox)
+   {
+      insert(index,
+             boundingBox.getMinX(),
+             boundingBox.getMinY(),
+             boundingBox.getMinZ(),
+             boundingBox.getMaxX(),
+             boundingBox.getMaxY(),
+             boundingBox.getMaxZ());
+   }
+
+   private void insert(int index, double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+   {
+      if (index < 0)
+         throw new IllegalArgumentException("The index must be non-negative, was: " + index);
+      if (contains(index))
+         throw new IllegalArgumentException("The grid already contains an entry with the index: " + index);
+
+      ensureEntryCapacity(index + 1);
+      setBounds(index, minX, minY, minZ, maxX, maxY, maxZ);
+      registerInCells(index);
+      numberOfEntries++;
+   }
+
+   /**
+    * Moves a point entry of this grid.
+    *
+    * @param index the index of the entry to move.
+    * @param point the new position of the entry. Not modified.
+    * @throws IllegalArgumentException if this grid does not contain an entry with the given index.
+    */
+   public void move(int index, Point3DReadOnly point)
+   {
+      move(index, point.getX(), point.getY(), point.getZ(), point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Moves a bounding box entry of this grid.
+    *
+    * @param index       the index of the entry to move.
+    * @param boundingBox the new bounds of the entry. Not modified.
+    * @throws IllegalArgumentException if this grid does not contain an entry with the given index.
+    */
+   public void move(int index, BoundingBox3DReadOnly boundingBox)
+   {
+      move(index,
+           boundingBox.getMinX(),
+           boundingBox.getMinY(),
+           boundingBox.getMinZ(),
+           boundingBox.getMaxX(),
+           boundingBox.getMaxY(),
+           boundingBox.getMaxZ());
+   }
+
+   private void move(int index, double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+   {
+      if (!contains(index))
+         throw new IllegalArgumentException("The grid does not contain an entry with the index: " + index);
+
+      int offset = 6 * index;
+      boolean isInSameCells = entryCellRanges[offset] == toCellCoordinate(minX) && entryCellRanges[offset + 1] == toCellCoordinate(minY)
+            && entryCellRanges[offset + 2] == toCellCoordinate(minZ) && entryCellRanges[offset + 3] == toCellCoordinate(maxX)
+            && entryCellRanges[offset + 4] == toCellCoordinate(maxY) && entryCellRanges[offset + 5] == toCellCoordinate(maxZ);
+
+      if (isInSameCells)
+      {
+         setBounds(index, minX, minY, minZ, maxX, maxY, maxZ);
+      }
+      else
+      {
+         unregisterFromCells(index);
+         setBounds(index, minX, minY, minZ, maxX, maxY, maxZ);
+         registerInCells(index);
+      }
+   }
+
+   /**
+    * Removes an entry from this grid.
+    *
+    * @param index the index of the entry to remove.
+    * @return {@code true} if the entry was removed, {@code false} if this grid did not contain it.
+    */
+   public boolean remove(int index)
+   {
+      if (!contains(index))
+         return false;
+
+      unregisterFromCells(index);
+      numberOfEntries--;
+      return true;
+   }
+
+   /**
+    * Tests whether this grid contains an entry with the given index.
+    *
+    * @param index the index of the entry.
+    * @return {@code true} if this grid contains the entry, {@code false} otherwise.
+    */
+   public boolean contains(int index)
+   {
+      return index >= 0 && index < entryFirstNodes.length && entryFirstNodes[index] != NO_NODE;
+   }
+
+   /**
+    * Gets the number of entries in this grid.
+    *
+    * @return the number of entries.
+    */
+   public int getNumberOfEntries()
+   {
+      return numberOfEntries;
+   }
+
+   /**
+    * Gets the size of the cells of this grid.
+    *
+    * @return the cell size.
+    */
+   public double getCellSize()
+   {
+      return cellSize;
+   }
+
+   /**
+    * Calls {@code action} for each entry registered in the cell containing the given point and in
+    * the 26 cells around it.
+    * <p>
+    * Each entry is reported once even when it overlaps several of these cells.
+    * </p>
+    *
+    * @param point  the coordinates of the query. Not modified.
+    * @param action the action to perform on the index of each entry.
+    */
+   public void forEachInNeighborCells(Point3DReadOnly point, IntConsumer action)
+   {
+      int x = toCellCoordinate(point.getX());
+      int y = toCellCoordinate(point.getY());
+      int z = toCellCoordinate(point.getZ());
+      queryType = ALL_QUERY;
+      queryAction = action;
+      processCells(x - 1, y - 1, z - 1, x + 1, y + 1, z + 1);
+      queryAction = null;
+   }
+
+   /**
+    * Calls {@code action} for each entry which bounds intersect the given bounding box.
+    * <p>
+    * Each entry is reported once even when it overlaps several cells.
+    * </p>
+    *
+    * @param boundingBox the range of the query. Not modified.
+    * @param action      the action to perform on the index of each entry.
+    */
+   public void forEachInBoundingBox(BoundingBox3DReadOnly boundingBox, IntConsumer action)
+   {
+      queryType = BOUNDING_BOX_QUERY;
+      queryMinX = boundingBox.getMinX();
+      queryMinY = boundingBox.getMinY();
+      queryMinZ = boundingBox.getMinZ();
+      queryMaxX = boundingBox.getMaxX();
+      queryMaxY = boundingBox.getMaxY();
+      queryMaxZ = boundingBox.getMaxZ();
+      queryAction = action;
+      processCells(toCellCoordinate(queryMinX),
+                   toCellCoordinate(queryMinY),
+                   toCellCoordinate(queryMinZ),
+                   toCellCoordinate(queryMaxX),
+                   toCellCoordinate(queryMaxY),
+                   toCellCoordinate(queryMaxZ));
+      queryAction = null;
+   }
+
+   /**
+    * Finds all the entries which distance to the given query is less than or equal to
+    * {@code radius}. The distance to a bounding box entry is zero when the query is inside it.
+    *
+    * @param query        the coordinates of the query. Not modified.
+    * @param radius       the radius of the search.
+    * @param resultToPack the result in which the entries found are stored sorted by increasing
+    *                     distance. Modified.
+    * @return the number of entries found.
+    */
+   public int findWithinRadius(Point3DReadOnly query, double radius, PointQueryResult resultToPack)
+   {
+      resultToPack.clear();
+
+      if (numberOfEntries == 0 || radius < 0.0)
+         return 0;
+
+      queryType = RADIUS_QUERY;
+      queryX = query.getX();
+      queryY = query.getY();
+      queryZ = query.getZ();
+      queryRadiusSquared = radius * radius;
+      queryResult = resultToPack;
+      processCells(toCellCoordinate(queryX - radius),
+                   toCellCoordinate(queryY - radius),
+                   toCellCoordinate(queryZ - radius),
+                   toCellCoordinate(queryX + radius),
+                   toCellCoordinate(queryY + radius),
+                   toCellCoordinate(queryZ + radius));
+      queryResult = null;
+
+      resultToPack.sort();
+      return resultToPack.size();
+   }
+
+   private double distanceSquared(int index, double x, double y, double z)
+   {
+      int offset = 6 * index;
+      double dx = Math.max(0.0, Math.max(entryBounds[offset] - x, x - entryBounds[offset + 3]));
+      double dy = Math.max(0.0, Math.max(entryBounds[offset + 1] - y, y - entryBounds[offset + 4]));
+      double dz = Math.max(0.0, Math.max(entryBounds[offset + 2] - z, z - entryBounds[offset + 5]));
+      return dx * dx + dy * dy + dz * dz;
+   }
+
+   /**
+    * Processes the entries of the cells in the given range according to the current query. When the
+    * range covers more cells than the hash table has slots, the table is scanned instead.
+    */
+   private void processCells(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+   {
+      int marker = nextQueryMarker();
+      long numberOfCells = (long) (maxX - minX + 1) * (long) (maxY - minY + 1) * (long) (maxZ - minZ + 1);
+
+      if (numberOfCells > cellKeys.length || numberOfCells <= 0L)
+      {
+         for (int slot = 0; slot < cellKeys.length; slot++)
+         {
+            long key = cellKeys[slot];
+            if (key == EMPTY_KEY)
+               continue;
+
+            int x = unpack(key, 2 * COORDINATE_BITS);
+            int y = unpack(key, COORDINATE_BITS);
+            int z = unpack(key, 0);
+            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ)
+               continue;
+
+            processCell(slot, marker);
+         }
+      }
+      else
+      {
+         for (int x = minX; x <= maxX; x++)
+         {
+            for (int y = minY; y <= maxY; y++)
+            {
+               for (int z = minZ; z <= maxZ; z++)
+               {
+                  int slot = findSlot(pack(x, y, z));
+                  if (slot >= 0)
+                     processCell(slot, marker);
+               }
+            }
+         }
+      }
+   }
+
+   private void processCell(int slot, int marker)
+   {
+      for (int node = cellHeads[slot]; node != NO_NODE; node = nodeNextInCell[node])
+      {
+         int index = nodeEntries[node];
+         if (entryQueryMarkers[index] == marker)
+            continue;
+         entryQueryMarkers[index] = marker;
+
+         switch (queryType)
+         {
+            case BOUNDING_BOX_QUERY:
+               if (intersectsQueryBoundingBox(index))
+                  queryAction.accept(index);
+               break;
+            case RADIUS_QUERY:
+               double distanceSquared = distanceSquared(index, queryX, queryY, queryZ);
+               if (distanceSquared <= queryRadiusSquared)
+                  queryResult.add(index, distanceSquared);
+               break;
+            default:
+               queryAction.accept(index);
+               break;
+         }
+      }
+   }
+
+   private boolean intersectsQueryBoundingBox(int index)
+   {
+      int offset = 6 * index;
+      if (entryBounds[offset] > queryMaxX || entryBounds[offset + 3] < queryMinX)
+         return false;
+      if (entryBounds[offset + 1] > queryMaxY || entryBounds[offset + 4] < queryMinY)
+         return false;
+      return entryBounds[offset + 2] <= queryMaxZ && entryBounds[offset + 5] >= queryMinZ;
+   }
+
+   private int nextQueryMarker()
+   {
+      queryMarker++;
+
+      if (queryMarker == 0)
+      { // The marker wrapped around, resetting the markers to avoid false positives.
+         Arrays.fill(entryQueryMarkers, 0);
+         queryMarker = 1;
+      }
+
+      return queryMarker;
+   }
+
+   private void setBounds(int index, double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+   {
+      int offset = 6 * index;
+      entryBounds[offset] = minX;
+      entryBounds[offset + 1] = minY;
+      entryBounds[offset + 2] = minZ;
+      entryBounds[offset + 3] = maxX;
+      entryBounds[offset + 4] = maxY;
+      entryBounds[offset + 5] = maxZ;
+      entryCellRanges[offset] = toCellCoordinate(minX);
+      entryCellRanges[offset + 1] = toCellCoordinate(minY);
+      entryCellRanges[offset + 2] = toCellCoordinate(minZ);
+      entryCellRanges[offset + 3] = toCellCoordinate(maxX);
+      entryCellRanges[offset + 4] = toCellCoordinate(maxY);
+      entryCellRanges[offset + 5] = toCellCoordinate(maxZ);
+   }
+
+   private void registerInCells(int index)
+   {
+      int offset = 6 * index;
+      int firstNode = NO_NODE;
+
+      for (int x = entryCellRanges[offset]; x <= entryCellRanges[offset + 3]; x++)
+      {
+         for (int y = entryCellRanges[offset + 1]; y <= entryCellRanges[offset + 4]; y++)
+         {
+            for (int z = entryCellRanges[offset + 2]; z <= entryCellRanges[offset + 5]; z++)
+            {
+               long key = pack(x, y, z);
+               int slot = findOrAddSlot(key);
+               int node = newNode();
+               nodeEntries[node] = index;
+               nodeCellKeys[node] = key;
+               nodeNextOfEntry[node] = firstNode;
+               firstNode = node;
+
+               // Pushing the node at the front of the cell list.
+               int head = cellHeads[slot];
+               nodePreviousInCell[node] = NO_NODE;
+               nodeNextInCell[node] = head;
+               if (head != NO_NODE)
+                  nodePreviousInCell[head] = node;
+               cellHeads[slot] = node;
+            }
+         }
+      }
+
+      entryFirstNodes[index] = firstNode;
+   }
+
+   private void unregisterFromCells(int index)
+   {
+      int node = entryFirstNodes[index];
+
+      while (node != NO_NODE)
+      {
+         int previous = nodePreviousInCell[node];
+         int next = nodeNextInCell[node];
+
+         if (previous != NO_NODE)
+            nodeNextInCell[previous] = next;
+         else
+            cellHeads[findSlot(nodeCellKeys[node])] = next;
+         if (next != NO_NODE)
+            nodePreviousInCell[next] = previous;
+
+         int nextOfEntry = nodeNextOfEntry[node];
+         freeNode(node);
+         node = nextOfEntry;
+      }
+
+      entryFirstNodes[index] = NO_NODE;
+   }
+
+   private int newNode()
+   {
+      if (firstFreeNode != NO_NODE)
+      {
+         int node = firstFreeNode;
+         firstFreeNode = nodeNextInCell[node];
+         return node;
+      }
+
+      if (numberOfNodes == nodeEntries.length)
+      {
+         int newCapacity = Math.max(16, 2 * numberOfNodes);
+         nodeEntries = Arrays.copyOf(nodeEntries, newCapacity);
+         nodeCellKeys = Arrays.copyOf(nodeCellKeys, newCapacity);
+         nodeNextInCell = Arrays.copyOf(nodeNextInCell, newCapacity);
+         nodePreviousInCell = Arrays.copyOf(nodePreviousInCell, newCapacity);
+         nodeNextOfEntry = Arrays.copyOf(nodeNextOfEntry, newCapacity);
+      }
+
+      return numberOfNodes++;
+   }
+
+   private void freeNode(int node)
+   {
+      nodeNextInCell[node] = firstFreeNode;
+      firstFreeNode = node;
+   }
+
+   private int findSlot(long key)
+   {
+      int mask = cellKeys.length - 1;
+
+      for (int slot = hash(key) & mask;; slot = (slot + 1) & mask)
+      {
+         long slotKey = cellKeys[slot];
+         if (slotKey == key)
+            return slot;
+         if (slotKey == EMPTY_KEY)
+            return -1;
+      }
+   }
+
+   private int findOrAddSlot(long key)
+   {
+      int slot = findSlot(key);
+      if (slot >= 0)
+         return slot;
+
+      // Keeping the load factor below 0.5.
+      if (2 * (numberOfOccupiedSlots + 1) > cellKeys.length)
+         rehash();
+
+      int mask = cellKeys.length - 1;
+      slot = hash(key) & mask;
+      while (cellKeys[slot] != EMPTY_KEY)
+         slot = (slot + 1) & mask;
+
+      cellKeys[slot] = key;
+      cellHeads[slot] = NO_NODE;
+      numberOfOccupiedSlots++;
+      return slot;
+   }
+
+   /**
+    * Rebuilds the hash table discarding the empty cells, the table is grown if at least a quarter of
+    * its slots are used by non-empty cells.
+    */
+   private void rehash()
+   {
+      long[] oldKeys = cellKeys;
+      int[] oldHeads = cellHeads;
+
+      int numberOfNonEmptyCells = 0;
+      for (int slot = 0; slot < oldKeys.length; slot++)
+      {
+         if (oldKeys[slot] != EMPTY_KEY && oldHeads[slot] != NO_NODE)
+            numberOfNonEmptyCells++;
+      }
+
+      int newCapacity = 4 * numberOfNonEmptyCells > oldKeys.length ? 2 * oldKeys.length : oldKeys.length;
+      cellKeys = new long[newCapacity];
+      cellHeads = new int[newCapacity];
+      Arrays.fill(cellKeys, EMPTY_KEY);
+      numberOfOccupiedSlots = 0;
+      int mask = newCapacity - 1;
+
+      for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++)
+      {
+         if (oldKeys[oldSlot] == EMPTY_KEY || oldHeads[oldSlot] == NO_NODE)
+            continue;
+
+         int slot = hash(oldKeys[oldSlot]) & mask;
+         while (cellKeys[slot] != EMPTY_KEY)
+            slot = (slot + 1) & mask;
+         cellKeys[slot] = oldKeys[oldSlot];
+         cellHeads[slot] = oldHeads[oldSlot];
+         numberOfOccupiedSlots++;
+      }
+   }
+
+   private void ensureEntryCapacity(int capacity)
+   {
+      if (entryFirstNodes.length >= capacity)
+         return;
+
+      int oldCapacity = entryFirstNodes.length;
+      int newCapacity = Math.max(capacity, 2 * oldCapacity);
+      entryFirstNodes = Arrays.copyOf(entryFirstNodes, newCapacity);
+      Arrays.fill(entryFirstNodes, oldCapacity, newCapacity, NO_NODE);
+      entryBounds = Arrays.copyOf(entryBounds, 6 * newCapacity);
+      entryCellRanges = Arrays.copyOf(entryCellRanges, 6 * newCapacity);
+      entryQueryMarkers = Arrays.copyOf(entryQueryMarkers, newCapacity);
+   }
+
+   private int toCellCoordinate(double coordinate)
+   {
+      double cell = Math.floor(coordinate * invCellSize);
+      if (cell <= MIN_CELL_COORDINATE)
+         return MIN_CELL_COORDINATE;
+      if (cell >= MAX_CELL_COORDINATE)
+         return MAX_CELL_COORDINATE;
+      return (int) cell;
+   }
+
+   private static long pack(int x, int y, int z)
+   {
+      return ((x & COORDINATE_MASK) << (2 * COORDINATE_BITS)) | ((y & COORDINATE_MASK) << COORDINATE_BITS) | (z & COORDINATE_MASK);
+   }
+
+   private static int unpack(long key, int shift)
+   {
+      // Shifting left then right to restore the sign.
+      return (int) ((key >>> shift) << (64 - COORDINATE_BITS) >> (64 - COORDINATE_BITS));
+   }
+
+   private static int hash(long key)
+   {
+      // Finalizer of the SplitMix64 generator to spread the bits of the cell coordinates.
+      key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+      key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+      return (int) (key ^ (key >>> 31));
+   }
+}
@@ -0,0 +1,753 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.geometry.IndexedTriangleMesh3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Bounding volume hierarchy over the triangles of an {@link IndexedTriangleMesh3D} used to perform
+ * ray casts, line segment intersections, and closest point queries on large meshes.
+ * <p>
+ * The hierarchy is a binary tree of axis-aligned bounding boxes built top-down using the surface
+ * area heuristic (SAH) evaluated on {@value #NUMBER_OF_BINS} bins of triangle centroids along each
+ * axis. The nodes are stored in flat arrays and the triangle vertices are copied in the order of the
+ * leaves to improve memory locality during the traversal. The hierarchy is static: it has to be
+ * rebuilt after the mesh is modified.
+ * </p>
+ * <p>
+ * The ray-triangle intersection uses the watertight algorithm from Woop, Benthin, and Wald, "<a href=
+ * "https://jcgt.org/published/0002/01/05/">Watertight Ray/Triangle Intersection</a>", such that a
+ * ray hitting an edge or a vertex shared by several triangles hits at least one of them. Both sides
+ * of the triangles are considered.
+ * </p>
+ * <p>
+ * The queries do not modify the hierarchy and can be performed concurrently as long as each thread
+ * uses its own {@link TriangleMeshQueryResult}. They do not generate garbage.
+ * </p>
+ */
+public class TriangleMeshBVH3D
+{
+   /** The number of bins used to evaluate the surface area heuristic along each axis. */
+   public static final int NUMBER_OF_BINS = 16;
+   /** The maximum number of triangles in a leaf. */
+   public static final int MAX_LEAF_SIZE = 4;
+   /** Cost of traversing a node relative to the cost of intersecting a triangle. */
+   private static final double TRAVERSAL_COST = 1.0;
+   /** Enlarges the ray parameter range tested against the boxes to compensate for round-off errors. */
+   private static final double ROBUST_FACTOR = 1.0 + 1.0e-12;
+
+   private int numberOfTriangles = 0;
+   /** The vertices of the triangles in the order of the leaves, 9 coordinates per triangle. */
+   private double[] triangleVertices = new double[0];
+   /** For each triangle in the order of the leaves, its index in the mesh. */
+   private int[] triangleOrder = new int[0];
+
+   private int numberOfNodes = 0;
+   /** The bounds of the nodes packed as minX, minY, minZ, maxX, maxY, maxZ. */
+   private double[] nodeBounds = new double[0];
+   /**
+    * For a leaf, the position of its first triangle. For an internal node, the index of its first
+    * child, the second child follows.
+    */
+   private int[] nodeOffsets = new int[0];
+   /** For a leaf, its number of triangles. For an internal node, {@code 0}. */
+   private int[] nodeSizes = new int[0];
+   private int depth = 0;
+
+   // Work arrays used only during the build.
+   private double[] centroids = new double[0];
+   private double[] triangleBounds = new double[0];
+   private final int[] binSizes = new int[NUMBER_OF_BINS];
+   private final double[] binBounds = new double[6 * NUMBER_OF_BINS];
+   private final double[] rightAreas = new double[NUMBER_OF_BINS];
+   private final double[] sweepBounds = new double[6];
+
+   /**
+    * Creates a new empty hierarchy.
+    */
+   public TriangleMeshBVH3D()
+   {
+   }
+
+   /**
+    * Creates a new hierarchy and builds it for the given mesh.
+    *
+    * @param mesh the mesh to build the hierarchy for. Not modified.
+    */
+   public TriangleMeshBVH3D(IndexedTriangleMesh3D mesh)
+   {
+      build(mesh);
+   }
+
+   /**
+    * Clears and rebuilds this hierarchy for the given mesh.
+    * <p>
+    * The internal arrays are reused when they are large enough.
+    * </p>
+    *
+    * @param mesh the mesh to build the hierarchy for. Not modified.
+    */
+   public void build(IndexedTriangleMesh3D mesh)
+   {
+      numberOfTriangles = mesh.getNumberOfTriangles();
+      ensureCapacity(numberOfTriangles);
+
+      for (int i = 0; i < numberOfTriangles; i++)
+      {
+         triangleOrder[i] = i;
+
+         for (int axis = 0; axis < 3; axis++)
+         {
+            double a = mesh.getVertexCoordinate(mesh.getTriangleVertexIndex(i, 0), axis);
+            double b = mesh.getVertexCoordinate(mesh.getTriangleVertexIndex(i, 1), axis);
+            double c = mesh.getVertexCoordinate(mesh.getTriangleVertexIndex(i, 2), axis);
+            triangleBounds[6 * i + axis] = Math.min(a, Math.min(b, c));
+            triangleBounds[6 * i + axis + 3] = Math.max(a, Math.max(b, c));
+            centroids[3 * i + axis] = (a + b + c) / 3.0;
+         }
+      }
+
+      numberOfNodes = 0;
+      depth = 0;
+
+      if (numberOfTriangles > 0)
+      {
+         numberOfNodes = 1;
+         buildNode(0, 0, numberOfTriangles, 1);
+      }
+
+      for (int i = 0; i < numberOfTriangles; i++)
+      {
+         int triangleIndex = triangleOrder[i];
+
+         for (int vertex = 0; vertex < 3; vertex++)
+         {
+            int vertexIndex = mesh.getTriangleVertexIndex(triangleIndex, vertex);
+            for (int axis = 0; axis < 3; axis++)
+               triangleVertices[9 * i + 3 * vertex + axis] = mesh.getVertexCoordinate(vertexIndex, axis);
+         }
+      }
+   }
+
+   /**
+    * Gets the number of triangles in this hierarchy.
+    *
+    * @return the number of triangles.
+    */
+   public int getNumberOfTriangles()
+   {
+      return numberOfTriangles;
+   }
+
+   /**
+    * Gets the number of nodes, internal nodes and leaves, in this hierarchy.
+    *
+    * @return the number of nodes.
+    */
+   public int getNumberOfNodes()
+   {
+      return numberOfNodes;
+   }
+
+   /**
+    * Gets the depth of this hierarchy, i.e. the number of nodes from the root to the deepest leaf.
+    *
+    * @return the depth of the tree.
+    */
+   public int getDepth()
+   {
+      return depth;
+   }
+
+   /**
+    * Finds the first intersection between a ray and the triangles of the mesh.
+    *
+    * @param rayOrigin    the origin of the ray. Not modified.
+    * @param rayDirection the direction of the ray. It does not need to be a unit vector. Not modified.
+    * @param resultToPack the result in which the intersection is stored. Modified.
+    * @return {@code true} if the ray intersects the mesh, {@code false} otherwise.
+    */
+   public boolean castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, TriangleMeshQueryResult resultToPack)
+   {
+      return castRay(rayOrigin, rayDirection, Double.POSITIVE_INFINITY, resultToPack);
+   }
+
+   /**
+    * Finds the first intersection between a ray and the triangles of the mesh within the given
+    * distance from the ray origin.
+    *
+    * @param rayOrigin    the origin of the ray. Not modified.
+    * @param rayDirection the direction of the ray. It does not need to be a unit vector. Not modified.
+    * @param maxDistance  the maximum distance from the ray origin of the intersections to consider.
+    * @param resultToPack the result in which the intersection is stored. Modified.
+    * @return {@code true} if the ray intersects the mesh, {@code false} otherwise.
+    */
+   public boolean castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, double maxDistance, TriangleMeshQueryResult resultToPack)
+   {
+      double directionLength = rayDirection.length();
+      resultToPack.clear();
+
+      if (!(directionLength > 0.0))
+         return false;
+
+      return intersect(rayOrigin.getX(),
+                       rayOrigin.getY(),
+                       rayOrigin.getZ(),
+                       rayDirection.getX(),
+                       rayDirection.getY(),
+                       rayDirection.getZ(),
+                       maxDistance / directionLength,
+                       directionLength,
+                       resultToPack);
+   }
+
+   /**
+    * Finds the intersection between a line segment and the triangles of the mesh which is the closest
+    * to the first endpoint.
+    *
+    * @param lineSegmentStart the first endpoint of the line segment. Not modified.
+    * @param lineSegmentEnd   the second endpoint of the line segment. Not modified.
+    * @param resultToPack     the result in which the intersection is stored, the distance is measured
+    *                         from the first endpoint. Modified.
+    * @return {@code true} if the line segment intersects the mesh, {@code false} otherwise.
+    */
+   public boolean intersectLineSegment(Point3DReadOnly lineSegmentStart, Point3DReadOnly lineSegmentEnd, TriangleMeshQueryResult resultToPack)
+   {
+      double dx = lineSegmentEnd.getX() - lineSegmentStart.getX();
+      double dy = lineSegmentEnd.getY() - lineSegmentStart.getY();
+      double dz = lineSegmentEnd.getZ() - lineSegmentStart.getZ();
+      double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+      resultToPack.clear();
+
+      if (!(length > 0.0))
+         return false;
+
+      return intersect(lineSegmentStart.getX(), lineSegmentStart.getY(), lineSegmentStart.getZ(), dx, dy, dz, 1.0, length, resultToPack);
+   }
+
+   private boolean intersect(double ox, double oy, double oz, double dx, double dy, double dz, double tMax, double directionLength,
+                             TriangleMeshQueryResult result)
+   {
+      if (numberOfNodes == 0)
+         return false;
+
+      double invDx = 1.0 / dx;
+      double invDy = 1.0 / dy;
+      double invDz = 1.0 / dz;
+
+      // Ray-dependent setup of the watertight test: kz is the dimension where the direction is maximal.
+      double absDx = Math.abs(dx), absDy = Math.abs(dy), absDz = Math.abs(dz);
+      int kz = absDx > absDy ? (absDx > absDz ? 0 : 2) : (absDy > absDz ? 1 : 2);
+      int kx = kz == 2 ? 0 : kz + 1;
+      int ky = kx == 2 ? 0 : kx + 1;
+      double dkz = component(dx, dy, dz, kz);
+      if (dkz < 0.0)
+      { // Swapping kx and ky to preserve the winding direction of the triangles.
+         int swap = kx;
+         kx = ky;
+         ky = swap;
+      }
+      double sx = component(dx, dy, dz, kx) / dkz;
+      double sy = component(dx, dy, dz, ky) / dkz;
+      double sz = 1.0 / dkz;
+
+      double closestT = tMax;
+      int closestTriangle = -1;
+      double closestV = Double.NaN, closestW = Double.NaN;
+
+      int[] stack = result.getNodeStack(depth + 1);
+      int stackSize = 0;
+      stack[stackSize++] = 0;
+
+      while (stackSize > 0)
+      {
+         int node = stack[--stackSize];
+
+         if (!(intersectNode(node, ox, oy, oz, invDx, invDy, invDz, closestT) < Double.POSITIVE_INFINITY))
+            continue;
+
+         int size = nodeSizes[node];
+
+         if (size == 0)
+         {
+            int left = nodeOffsets[node];
+            int right = left + 1;
+            double leftEntry = intersectNode(left, ox, oy, oz, invDx, invDy, invDz, closestT);
+            double rightEntry = intersectNode(right, ox, oy, oz, invDx, invDy, invDz, closestT);
+
+            // Pushing the farthest child first such that the closest one is visited first.
+            if (leftEntry <= rightEntry)
+            {
+               if (rightEntry < Double.POSITIVE_INFINITY)
+                  stack[stackSize++] = right;
+               if (leftEntry < Double.POSITIVE_INFINITY)
+                  stack[stackSize++] = left;
+            }
+            else
+            {
+               if (leftEntry < Double.POSITIVE_INFINITY)
+                  stack[stackSize++] = left;
+               stack[stackSize++] = right;
+            }
+            continue;
+         }
+
+         int first = nodeOffsets[node];
+
+         for (int i = first; i < first + size; i++)
+         {
+            int offset = 9 * i;
+            // Vertices relative to the ray origin.
+            double ax = triangleVertices[offset] - ox, ay = triangleVertices[offset + 1] - oy, az = triangleVertices[offset + 2] - oz;
+            double bx = triangleVertices[offset + 3] - ox, by = triangleVertices[offset + 4] - oy, bz = triangleVertices[offset + 5] - oz;
+            double cx = triangleVertices[offset + 6] - ox, cy = triangleVertices[offset + 7] - oy, cz = triangleVertices[offset + 8] - oz;
+
+            double akz = component(ax, ay, az, kz), bkz = component(bx, by, bz, kz), ckz = component(cx, cy, cz, kz);
+            // Shear and scale of the vertices.
+            double axs = component(ax, ay, az, kx) - sx * akz;
+            double ays = component(ax, ay, az, ky) - sy * akz;
+            double bxs = component(bx, by, bz, kx) - sx * bkz;
+            double bys = component(bx, by, bz, ky) - sy * bkz;
+            double cxs = component(cx, cy, cz, kx) - sx * ckz;
+            double cys = component(cx, cy, cz, ky) - sy * ckz;
+
+            // Scaled barycentric coordinates, u, v, and w are respectively the weights of the vertices A, B, and C.
+            double u = cxs * bys - cys * bxs;
+            double v = axs * cys - ays * cxs;
+            double w = bxs * ays - bys * axs;
+
+            if ((u < 0.0 || v < 0.0 || w < 0.0) && (u > 0.0 || v > 0.0 || w > 0.0))
+               continue;
+
+            double determinant = u + v + w;
+            if (determinant == 0.0)
+               continue;
+
+            double t = (u * akz + v * bkz + w * ckz) * sz / determinant;
+            if (!(t >= 0.0 && t <= closestT))
+               continue;
+
+            closestT = t;
+            closestTriangle = i;
+            closestV = v / determinant;
+            closestW = w / determinant;
+         }
+      }
+
+      if (closestTriangle == -1)
+         return false;
+
+      double x = ox + closestT * dx;
+      double y = oy + closestT * dy;
+      double z = oz + closestT * dz;
+      result.set(triangleOrder[closestTriangle], closestT * directionLength, x, y, z, closestV, closestW);
+      return true;
+   }
+
+   /**
+    * Slab test between a ray and the bounding box of a node.
+    *
+    * @return the ray parameter where the ray enters the box, or {@link Double#POSITIVE_INFINITY} if
+    *         the ray misses the box within [0, {@code tMax}].
+    */
+   private double intersectNode(int node, double ox, double oy, double oz, double invDx, double invDy, double invDz, double tMax)
+   {
+      int offset = 6 * node;
+      double tNear = 0.0;
+      double tFar = tMax;
+
+      for (int axis = 0; axis < 3; axis++)
+      {
+         double origin = component(ox, oy, oz, axis);
+         double inverse = component(invDx, invDy, invDz, axis);
+         double t1 = (nodeBounds[offset + axis] - origin) * inverse;
+         double t2 = (nodeBounds[offset + axis + 3] - origin) * inverse;
+
+         if (t1 > t2)
+         {
+            double swap = t1;
+            t1 = t2;
+            t2 = swap;
+         }
+
+         // Comparisons with NaN, which happen when the ray is parallel to a slab, are ignored.
+         if (t1 > tNear)
+            tNear = t1;
+         if (t2 * ROBUST_FACTOR < tFar)
+            tFar = t2 * ROBUST_FACTOR;
+      }
+
+      return tNear <= tFar ? tNear : Double.POSITIVE_INFINITY;
+   }
+
+   /**
+    * Finds the point on the mesh that is the closest to the given query.
+    *
+    * @param query        the coordinates of the query. Not modified.
+    * @param resultToPack the result in which the closest point is stored. Modified.
+    * @return {@code true} if the closest point was found, {@code false} if this hierarchy is empty.
+    */
+   public boolean closestPoint(Point3DReadOnly query, TriangleMeshQueryResult resultToPack)
+   {
+      resultToPack.clear();
+
+      if (numberOfNodes == 0)
+         return false;
+
+      double qx = query.getX();
+      double qy = query.getY();
+      double qz = query.getZ();
+
+      double closestDistanceSquared = Double.POSITIVE_INFINITY;
+      int closestTriangle = -1;
+      double closestV = Double.NaN, closestW = Double.NaN;
+
+      int[] stack = resultToPack.getNodeStack(depth + 1);
+      int stackSize = 0;
+      stack[stackSize++] = 0;
+
+      while (stackSize > 0)
+      {
+         int node = stack[--stackSize];
+
+         if (distanceSquaredToNode(node, qx, qy, qz) >= closestDistanceSquared)
+            continue;
+
+         int size = nodeSizes[node];
+
+         if (size == 0)
+         {
+            int left = nodeOffsets[node];
+            int right = left + 1;
+
+            // Pushing the farthest child first such that the closest one is visited first.
+            if (distanceSquaredToNode(left, qx, qy, qz) <= distanceSquaredToNode(right, qx, qy, qz))
+            {
+               stack[stackSize++] = right;
+               stack[stackSize++] = left;
+            }
+            else
+            {
+               stack[stackSize++] = left;
+               stack[stackSize++] = right;
+            }
+            continue;
+         }
+
+         int first = nodeOffsets[node];
+
+         for (int i = first; i < first + size; i++)
+         {
+            int offset = 9 * i;
+            double ax = triangleVertices[offset], ay = triangleVertices[offset + 1], az = triangleVertices[offset + 2];
+            double abx = triangleVertices[offset + 3] - ax, aby = triangleVertices[offset + 4] - ay, abz = triangleVertices[offset + 5] - az;
+            double acx = triangleVertices[offset + 6] - ax, acy = triangleVertices[offset + 7] - ay, acz = triangleVertices[offset + 8] - az;
+            double apx = qx - ax, apy = qy - ay, apz = qz - az;
+
+            // Closest point on a triangle from Ericson, "Real-Time Collision Detection", section 5.1.5.
+            double d1 = abx * apx + aby * apy + abz * apz;
+            double d2 = acx * apx + acy * apy + acz * apz;
+            double v, w;
+
+            if (d1 <= 0.0 && d2 <= 0.0)
+            { // Vertex region A.
+               v = 0.0;
+               w = 0.0;
+            }
+            else
+            {
+               double bpx = apx - abx, bpy = apy - aby, bpz = apz - abz;
+               double d3 = abx * bpx + aby * bpy + abz * bpz;
+               double d4 = acx * bpx + acy * bpy + acz * bpz;
+               double cpx = apx - acx, cpy = apy - acy, cpz = apz - acz;
+               double d5 = abx * cpx + aby * cpy + abz * cpz;
+               double d6 = acx * cpx + acy * cpy + acz * cpz;
+               double vc = d1 * d4 - d3 * d2;
+               double vb = d5 * d2 - d1 * d6;
+               double va = d3 * d6 - d5 * d4;
+
+               if (d3 >= 0.0 && d4 <= d3)
+               { // Vertex region B.
+                  v = 1.0;
+                  w = 0.0;
+               }
+               else if (vc <= 0.0 && d1 >= 0.0 && d3 <= 0.0)
+               { // Edge region AB.
+                  v = d1 / (d1 - d3);
+                  w = 0.0;
+               }
+               else if (d6 >= 0.0 && d5 <= d6)
+               { // Vertex region C.
+                  v = 0.0;
+                  w = 1.0;
+               }
+               else if (vb <= 0.0 && d2 >= 0.0 && d6 <= 0.0)
+               { // Edge region AC.
+                  v = 0.0;
+                  w = d2 / (d2 - d6);
+               }
+               else if (va <= 0.0 && (d4 - d3) >= 0.0 && (d5 - d6) >= 0.0)
+               { // Edge region BC.
+                  w = (d4 - d3) / ((d4 - d3) + (d5 - d6));
+                  v = 1.0 - w;
+               }
+               else
+               { // Face region.
+                  double denominator = 1.0 / (va + vb + vc);
+                  v = vb * denominator;
+                  w = vc * denominator;
+                  if (!Double.isFinite(v) || !Double.isFinite(w))
+                  { // Degenerate triangle, falling back to its first vertex.
+                     v = 0.0;
+                     w = 0.0;
+                  }
+               }
+            }
+
+            double dx = apx - v * abx - w * acx;
+            double dy = apy - v * aby - w * acy;
+            double dz = apz - v * abz - w * acz;
+            double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+            if (distanceSquared < closestDistanceSquared)
+            {
+               closestDistanceSquared = distanceSquared;
+               closestTriangle = i;
+               closestV = v;
+               closestW = w;
+            }
+         }
+      }
+
+      int offset = 9 * closestTriangle;
+      double x = (1.0 - closestV - closestW) * triangleVertices[offset] + closestV * triangleVertices[offset + 3] + closestW * triangleVertices[offset + 6];
+      double y = (1.0 - closestV - closestW) * triangleVertices[offset + 1] + closestV * triangleVertices[offset + 4] + closestW * triangleVertices[offset + 7];
+      double z = (1.0 - closestV - closestW) * triangleVertices[offset + 2] + closestV * triangleVertices[offset + 5] + closestW * triangleVertices[offset + 8];
+      resultToPack.set(triangleOrder[closestTriangle], Math.sqrt(closestDistanceSquared), x, y, z, closestV, closestW);
+      return true;
+   }
+
+   private double distanceSquaredToNode(int node, double x, double y, double z)
+   {
+      int offset = 6 * node;
+      double dx = Math.max(0.0, Math.max(nodeBounds[offset] - x, x - nodeBounds[offset + 3]));
+      double dy = Math.max(0.0, Math.max(nodeBounds[offset + 1] - y, y - nodeBounds[offset + 4]));
+      double dz = Math.max(0.0, Math.max(nodeBounds[offset + 2] - z, z - nodeBounds[offset + 5]));
+      return dx * dx + dy * dy + dz * dz;
+   }
+
+   private static double component(double x, double y, double z, int axis)
+   {
+      return axis == 0 ? x : axis == 1 ? y : z;
+   }
+
+   /**
+    * Builds the node covering the triangles in [{@code start}, {@code end}[, splitting it according
+    * to the surface area heuristic.
+    */
+   private void buildNode(int node, int start, int end, int nodeDepth)
+   {
+      depth = Math.max(depth, nodeDepth);
+      int offset = 6 * node;
+      double centroidMinX = Double.POSITIVE_INFINITY, centroidMinY = Double.POSITIVE_INFINITY, centroidMinZ = Double.POSITIVE_INFINITY;
+      double centroidMaxX = Double.NEGATIVE_INFINITY, centroidMaxY = Double.NEGATIVE_INFINITY, centroidMaxZ = Double.NEGATIVE_INFINITY;
+      resetBounds(nodeBounds, offset);
+
+      for (int i = start; i < end; i++)
+      {
+         includeBounds(nodeBounds, offset, triangleBounds, 6 * i);
+         centroidMinX = Math.min(centroidMinX, centroids[3 * i]);
+         centroidMinY = Math.min(centroidMinY, centroids[3 * i + 1]);
+         centroidMinZ = Math.min(centroidMinZ, centroids[3 * i + 2]);
+         centroidMaxX = Math.max(centroidMaxX, centroids[3 * i]);
+         centroidMaxY = Math.max(centroidMaxY, centroids[3 * i + 1]);
+         centroidMaxZ = Math.max(centroidMaxZ, centroids[3 * i + 2]);
+      }
+
+      int size = end - start;
+
+      if (size <= 2)
+      {
+         makeLeaf(node, start, size);
+         return;
+      }
+
+      double bestCost = Double.POSITIVE_INFINITY;
+      int bestAxis = -1;
+      int bestBin = -1;
+
+      for (int axis = 0; axis < 3; axis++)
+      {
+         double min = component(centroidMinX, centroidMinY, centroidMinZ, axis);
+         double max = component(centroidMaxX, centroidMaxY, centroidMaxZ, axis);
+
+         if (!(max > min))
+            continue;
+
+         double scale = NUMBER_OF_BINS / (max - min);
+         Arrays.fill(binSizes, 0);
+         for (int bin = 0; bin < NUMBER_OF_BINS; bin++)
+            resetBounds(binBounds, 6 * bin);
+
+         for (int i = start; i < end; i++)
+         {
+            int bin = binIndex(centroids[3 * i + axis], min, scale);
+            binSizes[bin]++;
+            includeBounds(binBounds, 6 * bin, triangleBounds, 6 * i);
+         }
+
+         // Sweeping from the right to compute the area of the right side of each split.
+         resetBounds(sweepBounds, 0);
+         for (int bin = NUMBER_OF_BINS - 1; bin > 0; bin--)
+         {
+            includeBounds(sweepBounds, 0, binBounds, 6 * bin);
+            rightAreas[bin] = halfSurfaceArea(sweepBounds, 0);
+         }
+
+         // Sweeping from the left, the split after the bin i separates [0, i] from [i + 1, NUMBER_OF_BINS - 1].
+         resetBounds(sweepBounds, 0);
+         int leftSize = 0;
+         for (int bin = 0; bin < NUMBER_OF_BINS - 1; bin++)
+         {
+            includeBounds(sweepBounds, 0, binBounds, 6 * bin);
+            leftSize += binSizes[bin];
+            int rightSize = size - leftSize;
+
+            if (leftSize == 0 || rightSize == 0)
+               continue;
+
+            double cost = halfSurfaceArea(sweepBounds, 0) * leftSize + rightAreas[bin + 1] * rightSize;
+
+            if (cost < bestCost)
+            {
+               bestCost = cost;
+               bestAxis = axis;
+               bestBin = bin;
+            }
+         }
+      }
+
+      double nodeArea = halfSurfaceArea(nodeBounds, offset);
+      double leafCost = size * nodeArea;
+      double splitCost = TRAVERSAL_COST * nodeArea + bestCost;
+      int middle;
+
+      if (bestAxis == -1)
+      {
+         // All the centroids are at the same location, splitting in the middle of the range.
+         if (size <= MAX_LEAF_SIZE)
+         {
+            makeLeaf(node, start, size);
+            return;
+         }
+         middle = (start + end) >>> 1;
+      }
+      else
+      {
+         if (size <= MAX_LEAF_SIZE && leafCost <= splitCost)
+         {
+            makeLeaf(node, start, size);
+            return;
+         }
+
+         double min = component(centroidMinX, centroidMinY, centroidMinZ, bestAxis);
+         double max = component(centroidMaxX, centroidMaxY, centroidMaxZ, bestAxis);
+         double scale = NUMBER_OF_BINS / (max - min);
+
+         // Partitioning the triangles according to the bin of their centroid.
+         int i = start;
+         int j = end - 1;
+
+         while (i <= j)
+         {
+            if (binIndex(centroids[3 * i + bestAxis], min, scale) <= bestBin)
+               i++;
+            else
+               swap(i, j--);
+         }
+
+         middle = i;
+      }
+
+      int left = numberOfNodes;
+      numberOfNodes += 2;
+      nodeOffsets[node] = left;
+      nodeSizes[node] = 0;
+      buildNode(left, start, middle, nodeDepth + 1);
+      buildNode(left + 1, middle, end, nodeDepth + 1);
+   }
+
+   private void makeLeaf(int node, int start, int size)
+   {
+      nodeOffsets[node] = start;
+      nodeSizes[node] = size;
+   }
+
+   private static int binIndex(double centroid, double min, double scale)
+   {
+      return Math.min(NUMBER_OF_BINS - 1, (int) ((centroid - min) * scale));
+   }
+
+   private void swap(int i, int j)
+   {
+      int index = triangleOrder[i];
+      triangleOrder[i] = triangleOrder[j];
+      triangleOrder[j] = index;
+
+      for (int k = 0; k < 3; k++)
+      {
+         double centroid = centroids[3 * i + k];
+         centroids[3 * i + k] = centroids[3 * j + k];
+         centroids[3 * j + k] = centroid;
+      }
+
+      for (int k = 0; k < 6; k++)
+      {
+         double bound = triangleBounds[6 * i + k];
+         triangleBounds[6 * i + k] = triangleBounds[6 * j + k];
+         triangleBounds[6 * j + k] = bound;
+      }
+   }
+
+   private static void resetBounds(double[] bounds, int offset)
+   {
+      Arrays.fill(bounds, offset, offset + 3, Double.POSITIVE_INFINITY);
+      Arrays.fill(bounds, offset + 3, offset + 6, Double.NEGATIVE_INFINITY);
+   }
+
+   private static void includeBounds(double[] bounds, int offset, double[] other, int otherOffset)
+   {
+      for (int axis = 0; axis < 3; axis++)
+      {
+         bounds[offset + axis] = Math.min(bounds[offset + axis], other[otherOffset + axis]);
+         bounds[offset + axis + 3] = Math.max(bounds[offset + axis + 3], other[otherOffset + axis + 3]);
+      }
+   }
+
+   private static double halfSurfaceArea(double[] bounds, int offset)
+   {
+      double dx = bounds[offset + 3] - bounds[offset];
+      double dy = bounds[offset + 4] - bounds[offset + 1];
+      double dz = bounds[offset + 5] - bounds[offset + 2];
+      if (!(dx >= 0.0))
+         return 0.0; // Empty bounds.
+      return dx * dy + dy * dz + dz * dx;
+   }
+
+   private void ensureCapacity(int capacity)
+   {
+      if (triangleOrder.length >= capacity)
+         return;
+
+      triangleOrder = new int[capacity];
+      triangleVertices = new double[9 * capacity];
+      centroids = new double[3 * capacity];
+      triangleBounds = new double[6 * capacity];
+      int maxNumberOfNodes = 2 * capacity - 1;
+      nodeBounds = new double[6 * maxNumberOfNodes];
+      nodeOffsets = new int[maxNumberOfNodes];
+      nodeSizes = new int[maxNumberOfNodes];
+   }
+}
@@ -0,0 +1,155 @@
+package us.ihmc.euclid.geometry.tools;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Reusable holder for the result of a query on a triangle mesh, such as a ray cast or a closest
+ * point query.
+ * <p>
+ * The result describes the triangle that was found, the point on that triangle, its barycentric
+ * coordinates with respect to the triangle vertices A, B, and C, and the distance from the query.
+ * </p>
+ * <p>
+ * This result also holds the work buffer used to traverse the bounding volume hierarchy, such that
+ * a query does not generate garbage once the buffer is large enough. A result can be used by a single
+ * thread at a time, to run queries from several threads, each thread should use its own result.
+ * </p>
+ */
+public class TriangleMeshQueryResult
+{
+   private int triangleIndex = -1;
+   private double distance = Double.NaN;
+   private final Point3D point = new Point3D();
+   private double weightA = Double.NaN, weightB = Double.NaN, weightC = Double.NaN;
+
+   /** Stack of the nodes remaining to visit used during the traversal. */
+   private int[] nodeStack = new int[64];
+
+   /**
+    * Creates a new empty result.
+    */
+   public TriangleMeshQueryResult()
+   {
+      clear();
+   }
+
+   /**
+    * Resets this result to indicate that no triangle was found.
+    */
+   public void clear()
+   {
+      triangleIndex = -1;
+      distance = Double.NaN;
+      point.setToNaN();
+      weightA = Double.NaN;
+      weightB = Double.NaN;
+      weightC = Double.NaN;
+   }
+
+   void set(int triangleIndex, double distance, double x, double y, double z, double weightB, double weightC)
+   {
+      this.triangleIndex = triangleIndex;
+      this.distance = distance;
+      point.set(x, y, z);
+      this.weightA = 1.0 - weightB - weightC;
+      this.weightB = weightB;
+      this.weightC = weightC;
+   }
+
+   /**
+    * Tests whether a triangle was found.
+    *
+    * @return {@code true} if this result describes a triangle, {@code false} otherwise.
+    */
+   public boolean hasTriangle()
+   {
+      return triangleIndex >= 0;
+   }
+
+   /**
+    * Gets the index of the triangle that was found.
+    *
+    * @return the index of the triangle in the mesh, or {@code -1} if no triangle was found.
+    */
+   public int getTriangleIndex()
+   {
+      return triangleIndex;
+   }
+
+   /**
+    * Gets the distance between the query and the point found.
+    * <p>
+    * For a ray cast, this is the distance along the ray from its origin.
+    * </p>
+    *
+    * @return the distance, or {@link Double#NaN} if no triangle was found.
+    */
+   public double getDistance()
+   {
+      return distance;
+   }
+
+   /**
+    * Gets the read-only reference to the point found.
+    *
+    * @return the point, set to {@link Double#NaN} if no triangle was found.
+    */
+   public Point3DReadOnly getPoint()
+   {
+      return point;
+   }
+
+   /**
+    * Gets the barycentric coordinate of the point found with respect to the first vertex of the
+    * triangle.
+    *
+    * @return the barycentric coordinate associated with the vertex A.
+    */
+   public double getWeightA()
+   {
+      return weightA;
+   }
+
+   /**
+    * Gets the barycentric coordinate of the point found with respect to the second vertex of the
+    * triangle.
+    *
+    * @return the barycentric coordinate associated with the vertex B.
+    */
+   public double getWeightB()
+   {
+      return weightB;
+   }
+
+   /**
+    * Gets the barycentric coordinate of the point found with respect to the third vertex of the
+    * triangle.
+    *
+    * @return the barycentric coordinate associated with the vertex C.
+    */
+   public double getWeightC()
+   {
+      return weightC;
+   }
+
+   int[] getNodeStack(int minimumSize)
+   {
+      if (nodeStack.length < minimumSize)
+         nodeStack = Arrays.copyOf(nodeStack, Math.max(minimumSize, 2 * nodeStack.length));
+      return nodeStack;
+   }
+
+   /**
+    * Creates and returns a representative {@code String} for this result.
+    */
+   @Override
+   public String toString()
+   {
+      if (!hasTriangle())
+         return "Triangle mesh query result: no triangle";
+      return "Triangle mesh query result: triangle " + triangleIndex + ", distance: " + distance + ", point: " + point;
+   }
+}
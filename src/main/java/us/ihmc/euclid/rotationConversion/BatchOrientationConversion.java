@@ -0,0 +1,808 @@
+package us.ihmc.euclid.rotationConversion;
+
+import static us.ihmc.euclid.rotationConversion.YawPitchRollConversion.computePitchFromQuaternionImpl;
+import static us.ihmc.euclid.rotationConversion.YawPitchRollConversion.computePitchImpl;
+import static us.ihmc.euclid.rotationConversion.YawPitchRollConversion.computeRollFromQuaternionImpl;
+import static us.ihmc.euclid.rotationConversion.YawPitchRollConversion.computeRollImpl;
+import static us.ihmc.euclid.rotationConversion.YawPitchRollConversion.computeYawFromQuaternionImpl;
+import static us.ihmc.euclid.rotationConversion.YawPitchRollConversion.computeYawImpl;
+
+import java.util.stream.IntStream;
+
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+
+/**
+ * This class gathers batch conversions between orientation representations stored in primitive
+ * arrays.
+ * <p>
+ * The conversions give the same results as the single orientation conversions from
+ * {@link QuaternionConversion}, {@link RotationMatrixConversion}, {@link AxisAngleConversion},
+ * {@link RotationVectorConversion}, and {@link YawPitchRollConversion}, including the edge cases,
+ * but operate directly on the array data without going through the orientation interfaces. They are
+ * meant for processing long streams of orientations, for instance IMU or trajectory logs.
+ * </p>
+ * <p>
+ * The orientations are stored contiguously in the arrays using the same layout as the
+ * {@code get(double[])} methods of the corresponding types:
+ * <ul>
+ * <li>quaternion: 4 elements per orientation, ordered as x, y, z, s.
+ * <li>rotation matrix: 9 elements per orientation, ordered row-major as m00, m01, m02, m10, m11,
+ * m12, m20, m21, m22.
+ * <li>axis-angle: 4 elements per orientation, ordered as x, y, z, angle.
+ * <li>rotation vector: 3 elements per orientation, ordered as x, y, z.
+ * <li>yaw-pitch-roll: 3 elements per orientation, ordered as yaw, pitch, roll.
+ * </ul>
+ * </p>
+ * <p>
+ * Each conversion can optionally be executed in parallel using the common fork-join pool. The
+ * parallel execution is only used when the number of orientations is at least
+ * {@value #PARALLEL_THRESHOLD}, below which the overhead outweighs the gain.
+ * </p>
+ */
+public class BatchOrientationConversion
+{
+   /** Minimum number of orientations for which a conversion is executed in parallel. */
+   public static final int PARALLEL_THRESHOLD = 1 << 15;
+   /** Number of orientations processed by a single task when executing in parallel. */
+   private static final int PARALLEL_CHUNK_SIZE = 1 << 12;
+
+   private static final int QUATERNION_SIZE = 4;
+   private static final int MATRIX_SIZE = 9;
+   private static final int AXIS_ANGLE_SIZE = 4;
+   private static final int ROTATION_VECTOR_SIZE = 3;
+   private static final int YAW_PITCH_ROLL_SIZE = 3;
+
+   private BatchOrientationConversion()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Converts a sequence of quaternions into rotation matrices.
+    *
+    * @param quaternions    the quaternions to convert, 4 elements per orientation. Not modified.
+    * @param matricesToPack the array in which the rotation matrices are stored, 9 elements per
+    *                       orientation. Modified.
+    * @param count          the number of orientations to convert.
+    * @see RotationMatrixConversion#convertQuaternionToMatrix(double, double, double, double,
+    *      us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics)
+    */
+   public static void convertQuaternionsToMatrices(double[] quaternions, double[] matricesToPack, int count)
+   {
+      convertQuaternionsToMatrices(quaternions, matricesToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of quaternions into rotation matrices.
+    *
+    * @param quaternions    the quaternions to convert, 4 elements per orientation. Not modified.
+    * @param matricesToPack the array in which the rotation matrices are stored, 9 elements per
+    *                       orientation. Modified.
+    * @param count          the number of orientations to convert.
+    * @param parallel       whether the conversion may be executed in parallel.
+    * @see RotationMatrixConversion#convertQuaternionToMatrix(double, double, double, double,
+    *      us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics)
+    */
+   public static void convertQuaternionsToMatrices(double[] quaternions, double[] matricesToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(quaternions, QUATERNION_SIZE, matricesToPack, MATRIX_SIZE, count);
+      execute(BatchOrientationConversion::quaternionsToMatrices, quaternions, matricesToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of rotation matrices into quaternions.
+    *
+    * @param matrices          the rotation matrices to convert, 9 elements per orientation. Not
+    *                          modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @see QuaternionConversion#convertMatrixToQuaternion(double, double, double, double, double,
+    *      double, double, double, double, us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertMatricesToQuaternions(double[] matrices, double[] quaternionsToPack, int count)
+   {
+      convertMatricesToQuaternions(matrices, quaternionsToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of rotation matrices into quaternions.
+    *
+    * @param matrices          the rotation matrices to convert, 9 elements per orientation. Not
+    *                          modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @param parallel          whether the conversion may be executed in parallel.
+    * @see QuaternionConversion#convertMatrixToQuaternion(double, double, double, double, double,
+    *      double, double, double, double, us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertMatricesToQuaternions(double[] matrices, double[] quaternionsToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(matrices, MATRIX_SIZE, quaternionsToPack, QUATERNION_SIZE, count);
+      execute(BatchOrientationConversion::matricesToQuaternions, matrices, quaternionsToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of quaternions into yaw-pitch-roll angles.
+    *
+    * @param quaternions         the quaternions to convert, 4 elements per orientation. Not
+    *                            modified.
+    * @param yawPitchRollsToPack the array in which the yaw-pitch-roll angles are stored, 3 elements
+    *                            per orientation. Modified.
+    * @param count               the number of orientations to convert.
+    * @see YawPitchRollConversion#convertQuaternionToYawPitchRoll(double, double, double, double,
+    *      us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollBasics)
+    */
+   public static void convertQuaternionsToYawPitchRolls(double[] quaternions, double[] yawPitchRollsToPack, int count)
+   {
+      convertQuaternionsToYawPitchRolls(quaternions, yawPitchRollsToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of quaternions into yaw-pitch-roll angles.
+    *
+    * @param quaternions         the quaternions to convert, 4 elements per orientation. Not
+    *                            modified.
+    * @param yawPitchRollsToPack the array in which the yaw-pitch-roll angles are stored, 3 elements
+    *                            per orientation. Modified.
+    * @param count               the number of orientations to convert.
+    * @param parallel            whether the conversion may be executed in parallel.
+    * @see YawPitchRollConversion#convertQuaternionToYawPitchRoll(double, double, double, double,
+    *      us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollBasics)
+    */
+   public static void convertQuaternionsToYawPitchRolls(double[] quaternions, double[] yawPitchRollsToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(quaternions, QUATERNION_SIZE, yawPitchRollsToPack, YAW_PITCH_ROLL_SIZE, count);
+      execute(BatchOrientationConversion::quaternionsToYawPitchRolls, quaternions, yawPitchRollsToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of yaw-pitch-roll angles into quaternions.
+    *
+    * @param yawPitchRolls     the yaw-pitch-roll angles to convert, 3 elements per orientation. Not
+    *                          modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @see QuaternionConversion#convertYawPitchRollToQuaternion(double, double, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertYawPitchRollsToQuaternions(double[] yawPitchRolls, double[] quaternionsToPack, int count)
+   {
+      convertYawPitchRollsToQuaternions(yawPitchRolls, quaternionsToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of yaw-pitch-roll angles into quaternions.
+    *
+    * @param yawPitchRolls     the yaw-pitch-roll angles to convert, 3 elements per orientation. Not
+    *                          modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @param parallel          whether the conversion may be executed in parallel.
+    * @see QuaternionConversion#convertYawPitchRollToQuaternion(double, double, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertYawPitchRollsToQuaternions(double[] yawPitchRolls, double[] quaternionsToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(yawPitchRolls, YAW_PITCH_ROLL_SIZE, quaternionsToPack, QUATERNION_SIZE, count);
+      execute(BatchOrientationConversion::yawPitchRollsToQuaternions, yawPitchRolls, quaternionsToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of rotation matrices into yaw-pitch-roll angles.
+    *
+    * @param matrices            the rotation matrices to convert, 9 elements per orientation. Not
+    *                            modified.
+    * @param yawPitchRollsToPack the array in which the yaw-pitch-roll angles are stored, 3 elements
+    *                            per orientation. Modified.
+    * @param count               the number of orientations to convert.
+    * @see YawPitchRollConversion#convertMatrixToYawPitchRoll(double, double, double, double, double,
+    *      double, double, double, double, us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollBasics)
+    */
+   public static void convertMatricesToYawPitchRolls(double[] matrices, double[] yawPitchRollsToPack, int count)
+   {
+      convertMatricesToYawPitchRolls(matrices, yawPitchRollsToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of rotation matrices into yaw-pitch-roll angles.
+    *
+    * @param matrices            the rotation matrices to convert, 9 elements per orientation. Not
+    *                            modified.
+    * @param yawPitchRollsToPack the array in which the yaw-pitch-roll angles are stored, 3 elements
+    *                            per orientation. Modified.
+    * @param count               the number of orientations to convert.
+    * @param parallel            whether the conversion may be executed in parallel.
+    * @see YawPitchRollConversion#convertMatrixToYawPitchRoll(double, double, double, double, double,
+    *      double, double, double, double, us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollBasics)
+    */
+   public static void convertMatricesToYawPitchRolls(double[] matrices, double[] yawPitchRollsToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(matrices, MATRIX_SIZE, yawPitchRollsToPack, YAW_PITCH_ROLL_SIZE, count);
+      execute(BatchOrientationConversion::matricesToYawPitchRolls, matrices, yawPitchRollsToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of yaw-pitch-roll angles into rotation matrices.
+    *
+    * @param yawPitchRolls  the yaw-pitch-roll angles to convert, 3 elements per orientation. Not
+    *                       modified.
+    * @param matricesToPack the array in which the rotation matrices are stored, 9 elements per
+    *                       orientation. Modified.
+    * @param count          the number of orientations to convert.
+    * @see RotationMatrixConversion#convertYawPitchRollToMatrix(double, double, double,
+    *      us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics)
+    */
+   public static void convertYawPitchRollsToMatrices(double[] yawPitchRolls, double[] matricesToPack, int count)
+   {
+      convertYawPitchRollsToMatrices(yawPitchRolls, matricesToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of yaw-pitch-roll angles into rotation matrices.
+    *
+    * @param yawPitchRolls  the yaw-pitch-roll angles to convert, 3 elements per orientation. Not
+    *                       modified.
+    * @param matricesToPack the array in which the rotation matrices are stored, 9 elements per
+    *                       orientation. Modified.
+    * @param count          the number of orientations to convert.
+    * @param parallel       whether the conversion may be executed in parallel.
+    * @see RotationMatrixConversion#convertYawPitchRollToMatrix(double, double, double,
+    *      us.ihmc.euclid.matrix.interfaces.RotationMatrixBasics)
+    */
+   public static void convertYawPitchRollsToMatrices(double[] yawPitchRolls, double[] matricesToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(yawPitchRolls, YAW_PITCH_ROLL_SIZE, matricesToPack, MATRIX_SIZE, count);
+      execute(BatchOrientationConversion::yawPitchRollsToMatrices, yawPitchRolls, matricesToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of quaternions into axis-angles.
+    *
+    * @param quaternions      the quaternions to convert, 4 elements per orientation. Not modified.
+    * @param axisAnglesToPack the array in which the axis-angles are stored, 4 elements per
+    *                         orientation. Modified.
+    * @param count            the number of orientations to convert.
+    * @see AxisAngleConversion#convertQuaternionToAxisAngle(double, double, double, double,
+    *      us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics)
+    */
+   public static void convertQuaternionsToAxisAngles(double[] quaternions, double[] axisAnglesToPack, int count)
+   {
+      convertQuaternionsToAxisAngles(quaternions, axisAnglesToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of quaternions into axis-angles.
+    *
+    * @param quaternions      the quaternions to convert, 4 elements per orientation. Not modified.
+    * @param axisAnglesToPack the array in which the axis-angles are stored, 4 elements per
+    *                         orientation. Modified.
+    * @param count            the number of orientations to convert.
+    * @param parallel         whether the conversion may be executed in parallel.
+    * @see AxisAngleConversion#convertQuaternionToAxisAngle(double, double, double, double,
+    *      us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics)
+    */
+   public static void convertQuaternionsToAxisAngles(double[] quaternions, double[] axisAnglesToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(quaternions, QUATERNION_SIZE, axisAnglesToPack, AXIS_ANGLE_SIZE, count);
+      execute(BatchOrientationConversion::quaternionsToAxisAngles, quaternions, axisAnglesToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of axis-angles into quaternions.
+    *
+    * @param axisAngles        the axis-angles to convert, 4 elements per orientation. Not modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @see QuaternionConversion#convertAxisAngleToQuaternion(double, double, double, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertAxisAnglesToQuaternions(double[] axisAngles, double[] quaternionsToPack, int count)
+   {
+      convertAxisAnglesToQuaternions(axisAngles, quaternionsToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of axis-angles into quaternions.
+    *
+    * @param axisAngles        the axis-angles to convert, 4 elements per orientation. Not modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @param parallel          whether the conversion may be executed in parallel.
+    * @see QuaternionConversion#convertAxisAngleToQuaternion(double, double, double, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertAxisAnglesToQuaternions(double[] axisAngles, double[] quaternionsToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(axisAngles, AXIS_ANGLE_SIZE, quaternionsToPack, QUATERNION_SIZE, count);
+      execute(BatchOrientationConversion::axisAnglesToQuaternions, axisAngles, quaternionsToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of quaternions into rotation vectors.
+    *
+    * @param quaternions           the quaternions to convert, 4 elements per orientation. Not
+    *                              modified.
+    * @param rotationVectorsToPack the array in which the rotation vectors are stored, 3 elements per
+    *                              orientation. Modified.
+    * @param count                 the number of orientations to convert.
+    * @see RotationVectorConversion#convertQuaternionToRotationVector(us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly,
+    *      us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics)
+    */
+   public static void convertQuaternionsToRotationVectors(double[] quaternions, double[] rotationVectorsToPack, int count)
+   {
+      convertQuaternionsToRotationVectors(quaternions, rotationVectorsToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of quaternions into rotation vectors.
+    *
+    * @param quaternions           the quaternions to convert, 4 elements per orientation. Not
+    *                              modified.
+    * @param rotationVectorsToPack the array in which the rotation vectors are stored, 3 elements per
+    *                              orientation. Modified.
+    * @param count                 the number of orientations to convert.
+    * @param parallel              whether the conversion may be executed in parallel.
+    * @see RotationVectorConversion#convertQuaternionToRotationVector(us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly,
+    *      us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics)
+    */
+   public static void convertQuaternionsToRotationVectors(double[] quaternions, double[] rotationVectorsToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(quaternions, QUATERNION_SIZE, rotationVectorsToPack, ROTATION_VECTOR_SIZE, count);
+      execute(BatchOrientationConversion::quaternionsToRotationVectors, quaternions, rotationVectorsToPack, count, parallel);
+   }
+
+   /**
+    * Converts a sequence of rotation vectors into quaternions.
+    *
+    * @param rotationVectors   the rotation vectors to convert, 3 elements per orientation. Not
+    *                          modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @see QuaternionConversion#convertRotationVectorToQuaternion(double, double, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertRotationVectorsToQuaternions(double[] rotationVectors, double[] quaternionsToPack, int count)
+   {
+      convertRotationVectorsToQuaternions(rotationVectors, quaternionsToPack, count, false);
+   }
+
+   /**
+    * Converts a sequence of rotation vectors into quaternions.
+    *
+    * @param rotationVectors   the rotation vectors to convert, 3 elements per orientation. Not
+    *                          modified.
+    * @param quaternionsToPack the array in which the quaternions are stored, 4 elements per
+    *                          orientation. Modified.
+    * @param count             the number of orientations to convert.
+    * @param parallel          whether the conversion may be executed in parallel.
+    * @see QuaternionConversion#convertRotationVectorToQuaternion(double, double, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void convertRotationVectorsToQuaternions(double[] rotationVectors, double[] quaternionsToPack, int count, boolean parallel)
+   {
+      checkArrayLengths(rotationVectors, ROTATION_VECTOR_SIZE, quaternionsToPack, QUATERNION_SIZE, count);
+      execute(BatchOrientationConversion::rotationVectorsToQuaternions, rotationVectors, quaternionsToPack, count, parallel);
+   }
+
+   private static void quaternionsToMatrices(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = QUATERNION_SIZE * i;
+         int outIndex = MATRIX_SIZE * i;
+         double qx = in[inIndex];
+         double qy = in[inIndex + 1];
+         double qz = in[inIndex + 2];
+         double qs = in[inIndex + 3];
+
+         if (EuclidCoreTools.containsNaN(qx, qy, qz, qs))
+         {
+            fill(out, outIndex, MATRIX_SIZE, Double.NaN);
+            continue;
+         }
+
+         double norm = EuclidCoreTools.fastNorm(qx, qy, qz, qs);
+
+         if (QuaternionTools.isNeutralQuaternion(qx, qy, qz, qs, RotationMatrixConversion.EPS) || norm < RotationMatrixConversion.EPS)
+         {
+            setIdentity(out, outIndex);
+            continue;
+         }
+
+         norm = 1.0 / norm;
+         qx *= norm;
+         qy *= norm;
+         qz *= norm;
+         qs *= norm;
+
+         double yy2 = 2.0 * qy * qy;
+         double zz2 = 2.0 * qz * qz;
+         double xx2 = 2.0 * qx * qx;
+         double xy2 = 2.0 * qx * qy;
+         double sz2 = 2.0 * qs * qz;
+         double xz2 = 2.0 * qx * qz;
+         double sy2 = 2.0 * qs * qy;
+         double yz2 = 2.0 * qy * qz;
+         double sx2 = 2.0 * qs * qx;
+
+         out[outIndex] = 1.0 - yy2 - zz2;
+         out[outIndex + 1] = xy2 - sz2;
+         out[outIndex + 2] = xz2 + sy2;
+         out[outIndex + 3] = xy2 + sz2;
+         out[outIndex + 4] = 1.0 - xx2 - zz2;
+         out[outIndex + 5] = yz2 - sx2;
+         out[outIndex + 6] = xz2 - sy2;
+         out[outIndex + 7] = yz2 + sx2;
+         out[outIndex + 8] = 1.0 - xx2 - yy2;
+      }
+   }
+
+   private static void matricesToQuaternions(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = MATRIX_SIZE * i;
+         int outIndex = QUATERNION_SIZE * i;
+         double m00 = in[inIndex];
+         double m01 = in[inIndex + 1];
+         double m02 = in[inIndex + 2];
+         double m10 = in[inIndex + 3];
+         double m11 = in[inIndex + 4];
+         double m12 = in[inIndex + 5];
+         double m20 = in[inIndex + 6];
+         double m21 = in[inIndex + 7];
+         double m22 = in[inIndex + 8];
+
+         if (EuclidCoreTools.containsNaN(m00, m01, m02, m10, m11, m12, m20, m21, m22))
+         {
+            fill(out, outIndex, QUATERNION_SIZE, Double.NaN);
+            continue;
+         }
+
+         // Same formula selection as in QuaternionConversion.convertMatrixToQuaternion(...).
+         double s = m00 + m11 + m22;
+         double qx, qy, qz, qs;
+
+         if (s > -0.19)
+         {
+            qs = 0.5 * EuclidCoreTools.squareRoot(s + 1.0);
+            double inv = 0.25 / qs;
+            qx = inv * (m21 - m12);
+            qy = inv * (m02 - m20);
+            qz = inv * (m10 - m01);
+         }
+         else if ((s = m00 - m11 - m22) > -0.19)
+         {
+            qx = 0.5 * EuclidCoreTools.squareRoot(s + 1.0);
+            double inv = 0.25 / qx;
+            qs = inv * (m21 - m12);
+            qy = inv * (m10 + m01);
+            qz = inv * (m20 + m02);
+         }
+         else if ((s = m11 - m00 - m22) > -0.19)
+         {
+            qy = 0.5 * EuclidCoreTools.squareRoot(s + 1.0);
+            double inv = 0.25 / qy;
+            qs = inv * (m02 - m20);
+            qx = inv * (m10 + m01);
+            qz = inv * (m12 + m21);
+         }
+         else
+         {
+            s = m22 - m00 - m11;
+            qz = 0.5 * EuclidCoreTools.squareRoot(s + 1.0);
+            double inv = 0.25 / qz;
+            qs = inv * (m10 - m01);
+            qx = inv * (m20 + m02);
+            qy = inv * (m12 + m21);
+         }
+
+         out[outIndex] = qx;
+         out[outIndex + 1] = qy;
+         out[outIndex + 2] = qz;
+         out[outIndex + 3] = qs;
+      }
+   }
+
+   private static void quaternionsToYawPitchRolls(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = QUATERNION_SIZE * i;
+         int outIndex = YAW_PITCH_ROLL_SIZE * i;
+         double qx = in[inIndex];
+         double qy = in[inIndex + 1];
+         double qz = in[inIndex + 2];
+         double qs = in[inIndex + 3];
+
+         if (EuclidCoreTools.containsNaN(qx, qy, qz, qs))
+         {
+            fill(out, outIndex, YAW_PITCH_ROLL_SIZE, Double.NaN);
+            continue;
+         }
+
+         double norm = EuclidCoreTools.fastNorm(qx, qy, qz, qs);
+
+         if (norm < YawPitchRollConversion.EPS)
+         {
+            fill(out, outIndex, YAW_PITCH_ROLL_SIZE, 0.0);
+            continue;
+         }
+
+         norm = 1.0 / norm;
+         qx *= norm;
+         qy *= norm;
+         qz *= norm;
+         qs *= norm;
+
+         out[outIndex] = computeYawFromQuaternionImpl(qx, qy, qz, qs);
+         out[outIndex + 1] = computePitchFromQuaternionImpl(qx, qy, qz, qs);
+         out[outIndex + 2] = computeRollFromQuaternionImpl(qx, qy, qz, qs);
+      }
+   }
+
+   private static void yawPitchRollsToQuaternions(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = YAW_PITCH_ROLL_SIZE * i;
+         int outIndex = QUATERNION_SIZE * i;
+         double halfYaw = 0.5 * in[inIndex];
+         double halfPitch = 0.5 * in[inIndex + 1];
+         double halfRoll = 0.5 * in[inIndex + 2];
+
+         double cYaw = EuclidCoreTools.cos(halfYaw);
+         double sYaw = EuclidCoreTools.sin(halfYaw);
+         double cPitch = EuclidCoreTools.cos(halfPitch);
+         double sPitch = EuclidCoreTools.sin(halfPitch);
+         double cRoll = EuclidCoreTools.cos(halfRoll);
+         double sRoll = EuclidCoreTools.sin(halfRoll);
+
+         out[outIndex] = cYaw * cPitch * sRoll - sYaw * sPitch * cRoll;
+         out[outIndex + 1] = sYaw * cPitch * sRoll + cYaw * sPitch * cRoll;
+         out[outIndex + 2] = sYaw * cPitch * cRoll - cYaw * sPitch * sRoll;
+         out[outIndex + 3] = cYaw * cPitch * cRoll + sYaw * sPitch * sRoll;
+      }
+   }
+
+   private static void matricesToYawPitchRolls(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = MATRIX_SIZE * i;
+         int outIndex = YAW_PITCH_ROLL_SIZE * i;
+         out[outIndex] = computeYawImpl(in[inIndex], in[inIndex + 3]);
+         out[outIndex + 1] = computePitchImpl(in[inIndex + 6]);
+         out[outIndex + 2] = computeRollImpl(in[inIndex + 7], in[inIndex + 8]);
+      }
+   }
+
+   private static void yawPitchRollsToMatrices(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = YAW_PITCH_ROLL_SIZE * i;
+         int outIndex = MATRIX_SIZE * i;
+         double yaw = in[inIndex];
+         double pitch = in[inIndex + 1];
+         double roll = in[inIndex + 2];
+
+         double cosc = EuclidCoreTools.cos(yaw);
+         double sinc = EuclidCoreTools.sin(yaw);
+         double cosb = EuclidCoreTools.cos(pitch);
+         double sinb = EuclidCoreTools.sin(pitch);
+         double cosa = EuclidCoreTools.cos(roll);
+         double sina = EuclidCoreTools.sin(roll);
+
+         // Introduction to Robotics, 2.64
+         out[outIndex] = cosc * cosb;
+         out[outIndex + 1] = cosc * sinb * sina - sinc * cosa;
+         out[outIndex + 2] = cosc * sinb * cosa + sinc * sina;
+         out[outIndex + 3] = sinc * cosb;
+         out[outIndex + 4] = sinc * sinb * sina + cosc * cosa;
+         out[outIndex + 5] = sinc * sinb * cosa - cosc * sina;
+         out[outIndex + 6] = -sinb;
+         out[outIndex + 7] = cosb * sina;
+         out[outIndex + 8] = cosb * cosa;
+      }
+   }
+
+   private static void quaternionsToAxisAngles(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = QUATERNION_SIZE * i;
+         int outIndex = AXIS_ANGLE_SIZE * i;
+         double qx = in[inIndex];
+         double qy = in[inIndex + 1];
+         double qz = in[inIndex + 2];
+         double qs = in[inIndex + 3];
+
+         if (EuclidCoreTools.containsNaN(qx, qy, qz, qs))
+         {
+            fill(out, outIndex, AXIS_ANGLE_SIZE, Double.NaN);
+            continue;
+         }
+
+         double uNorm = EuclidCoreTools.norm(qx, qy, qz);
+
+         if (uNorm > AxisAngleConversion.EPS)
+         {
+            out[outIndex + 3] = 2.0 * EuclidCoreTools.atan2(uNorm, qs);
+            uNorm = 1.0 / uNorm;
+            out[outIndex] = qx * uNorm;
+            out[outIndex + 1] = qy * uNorm;
+            out[outIndex + 2] = qz * uNorm;
+         }
+         else
+         {
+            out[outIndex] = 1.0;
+            out[outIndex + 1] = 0.0;
+            out[outIndex + 2] = 0.0;
+            out[outIndex + 3] = 0.0;
+         }
+      }
+   }
+
+   private static void axisAnglesToQuaternions(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = AXIS_ANGLE_SIZE * i;
+         int outIndex = QUATERNION_SIZE * i;
+         double ux = in[inIndex];
+         double uy = in[inIndex + 1];
+         double uz = in[inIndex + 2];
+         double angle = in[inIndex + 3];
+
+         if (EuclidCoreTools.containsNaN(ux, uy, uz, angle))
+         {
+            fill(out, outIndex, QUATERNION_SIZE, Double.NaN);
+            continue;
+         }
+
+         double uNorm = EuclidCoreTools.fastNorm(ux, uy, uz);
+
+         if (uNorm < QuaternionConversion.EPS)
+         {
+            setNeutralQuaternion(out, outIndex);
+         }
+         else
+         {
+            double halfTheta = 0.5 * angle;
+            double sinHalfTheta = EuclidCoreTools.sin(halfTheta) / uNorm;
+            out[outIndex] = ux * sinHalfTheta;
+            out[outIndex + 1] = uy * sinHalfTheta;
+            out[outIndex + 2] = uz * sinHalfTheta;
+            out[outIndex + 3] = EuclidCoreTools.cos(halfTheta);
+         }
+      }
+   }
+
+   private static void quaternionsToRotationVectors(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = QUATERNION_SIZE * i;
+         int outIndex = ROTATION_VECTOR_SIZE * i;
+         double qx = in[inIndex];
+         double qy = in[inIndex + 1];
+         double qz = in[inIndex + 2];
+         double qs = in[inIndex + 3];
+
+         if (EuclidCoreTools.containsNaN(qx, qy, qz, qs))
+         {
+            fill(out, outIndex, ROTATION_VECTOR_SIZE, Double.NaN);
+            continue;
+         }
+
+         double uNorm = EuclidCoreTools.norm(qx, qy, qz);
+         double scale;
+
+         if (uNorm > RotationVectorConversion.EPS)
+            scale = 2.0 * EuclidCoreTools.atan2(uNorm, qs) / uNorm;
+         else // Small angle approximation
+            scale = Math.signum(qs);
+
+         out[outIndex] = qx * scale;
+         out[outIndex + 1] = qy * scale;
+         out[outIndex + 2] = qz * scale;
+      }
+   }
+
+   private static void rotationVectorsToQuaternions(double[] in, double[] out, int from, int to)
+   {
+      for (int i = from; i < to; i++)
+      {
+         int inIndex = ROTATION_VECTOR_SIZE * i;
+         int outIndex = QUATERNION_SIZE * i;
+         double rx = in[inIndex];
+         double ry = in[inIndex + 1];
+         double rz = in[inIndex + 2];
+
+         if (EuclidCoreTools.containsNaN(rx, ry, rz))
+         {
+            fill(out, outIndex, QUATERNION_SIZE, Double.NaN);
+            continue;
+         }
+
+         double norm = EuclidCoreTools.norm(rx, ry, rz);
+
+         if (norm < QuaternionConversion.EPS)
+         { // Small angle approximation
+            out[outIndex] = 0.5 * rx;
+            out[outIndex + 1] = 0.5 * ry;
+            out[outIndex + 2] = 0.5 * rz;
+            out[outIndex + 3] = 1.0;
+         }
+         else
+         {
+            double halfTheta = 0.5 * norm;
+            double sinHalfTheta = EuclidCoreTools.sin(halfTheta) / norm;
+            out[outIndex] = rx * sinHalfTheta;
+            out[outIndex + 1] = ry * sinHalfTheta;
+            out[outIndex + 2] = rz * sinHalfTheta;
+            out[outIndex + 3] = EuclidCoreTools.cos(halfTheta);
+         }
+      }
+   }
+
+   private static void fill(double[] array, int startIndex, int length, double value)
+   {
+      for (int i = startIndex; i < startIndex + length; i++)
+         array[i] = value;
+   }
+
+   private static void setIdentity(double[] matrices, int startIndex)
+   {
+      for (int i = 0; i < MATRIX_SIZE; i++)
+         matrices[startIndex + i] = i % 4 == 0 ? 1.0 : 0.0;
+   }
+
+   private static void setNeutralQuaternion(double[] quaternions, int startIndex)
+   {
+      quaternions[startIndex] = 0.0;
+      quaternions[startIndex + 1] = 0.0;
+      quaternions[startIndex + 2] = 0.0;
+      quaternions[startIndex + 3] = 1.0;
+   }
+
+   private static void checkArrayLengths(double[] input, int inputSize, double[] output, int outputSize, int count)
+   {
+      if (count < 0)
+         throw new IllegalArgumentException("The number of orientations cannot be negative: " + count);
+      if (input.length < inputSize * count)
+         throw new IllegalArgumentException("The input array is too small, expected at least " + inputSize * count + " elements but was: " + input.length);
+      if (output.length < outputSize * count)
+         throw new IllegalArgumentException("The output array is too small, expected at least " + outputSize * count + " elements but was: " + output.length);
+   }
+
+   private static void execute(RangeConversion conversion, double[] input, double[] output, int count, boolean parallel)
+   {
+      if (!parallel || count < PARALLEL_THRESHOLD)
+      {
+         conversion.convert(input, output, 0, count);
+         return;
+      }
+
+      int numberOfChunks = (count + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+      IntStream.range(0, numberOfChunks).parallel().forEach(chunk ->
+      {
+         int from = chunk * PARALLEL_CHUNK_SIZE;
+         conversion.convert(input, output, from, Math.min(from + PARALLEL_CHUNK_SIZE, count));
+      });
+   }
+
+   private static interface RangeConversion
+   {
+      void convert(double[] input, double[] output, int from, int to);
+   }
+}
@@ -70,7 +70,7 @@ public class YawPitchRollConversion
     */
    public static final double MIN_SAFE_PITCH_ANGLE = -MAX_SAFE_PITCH_ANGLE;
 
-   private static final double EPS = 1.0e-12;
+   static final double EPS = 1.0e-12;
 
    private YawPitchRollConversion()
    {
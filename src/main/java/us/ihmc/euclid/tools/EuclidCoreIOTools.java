@@ -10,8 +10,10 @@ import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation2DReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
 import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.DualQuaternion;
 import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform32;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
@@ -180,6 +182,45 @@ public class EuclidCoreIOTools
       return getQuaternionBasedTransformString(format, quaternionBasedTransform.getRotation(), quaternionBasedTransform.getTranslation());
    }
 
+   /**
+    * Gets a representative {@code String} of {@code rigidBodyTransform32} as follows:
+    *
+    * <pre>
+    * Quaternion:  ( 0.174,  0.732, -0.222,  0.620 )
+    * Translation: (-0.558, -0.380,  0.130 )
+    * </pre>
+    *
+    * @param rigidBodyTransform32 the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getRigidBodyTransform32String(RigidBodyTransform32 rigidBodyTransform32)
+   {
+      return getRigidBodyTransform32String(DEFAULT_FORMAT, rigidBodyTransform32);
+   }
+
+   /**
+    * Gets a representative {@code String} of {@code rigidBodyTransform32} given a specific format to
+    * use.
+    * <p>
+    * Using the default format {@link #DEFAULT_FORMAT}, this provides a {@code String} as follows:
+    *
+    * <pre>
+    * Quaternion:  ( 0.174,  0.732, -0.222,  0.620 )
+    * Translation: (-0.558, -0.380,  0.130 )
+    * </pre>
+    * </p>
+    *
+    * @param format               the format to use for each number.
+    * @param rigidBodyTransform32 the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getRigidBodyTransform32String(String format, RigidBodyTransform32 rigidBodyTransform32)
+   {
+      if (rigidBodyTransform32 == null)
+         return "null";
+      return getQuaternionBasedTransformString(format, rigidBodyTransform32.getRotation(), rigidBodyTransform32.getTranslation());
+   }
+
    private static String getQuaternionBasedTransformString(String format, QuaternionReadOnly quaternion, Tuple3DReadOnly translation)
    {
       if (quaternion == null)
@@ -192,6 +233,50 @@ public class EuclidCoreIOTools
       return ret;
    }
 
+   /**
+    * Gets a representative {@code String} of {@code dualQuaternion} as follows:
+    *
+    * <pre>
+    * Real part: ( 0.174,  0.732, -0.222,  0.620 )
+    * Dual part: (-0.558, -0.380,  0.130,  0.084 )
+    * </pre>
+    *
+    * @param dualQuaternion the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getDualQuaternionString(DualQuaternion dualQuaternion)
+   {
+      return getDualQuaternionString(DEFAULT_FORMAT, dualQuaternion);
+   }
+
+   /**
+    * Gets a representative {@code String} of {@code dualQuaternion} given a specific format to use.
+    * <p>
+    * Using the default format {@link #DEFAULT_FORMAT}, this provides a {@code String} as follows:
+    *
+    * <pre>
+    * Real part: ( 0.174,  0.732, -0.222,  0.620 )
+    * Dual part: (-0.558, -0.380,  0.130,  0.084 )
+    * </pre>
+    * </p>
+    *
+    * @param format         the format to use for each number.
+    * @param dualQuaternion the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getDualQuaternionString(String format, DualQuaternion dualQuaternion)
+   {
+      if (dualQuaternion == null)
+         return "null";
+
+      QuaternionReadOnly realPart = dualQuaternion.getRealPart();
+      Tuple4DReadOnly dualPart = dualQuaternion.getDualPart();
+      String ret = "";
+      ret += getStringOf("Real part: (", " )\n", ", ", format, realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS());
+      ret += getStringOf("Dual part: (", " )", ", ", format, dualPart.getX(), dualPart.getY(), dualPart.getZ(), dualPart.getS());
+      return ret;
+   }
+
    /**
     * Gets a representative {@code String} of {@code tuple} as follows:
     *
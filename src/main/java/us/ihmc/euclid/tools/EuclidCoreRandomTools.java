@@ -16,8 +16,10 @@ import us.ihmc.euclid.orientation.Orientation2D;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
 import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.DualQuaternion;
 import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform32;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Point2D32;
 import us.ihmc.euclid.tuple2D.UnitVector2D;
@@ -599,6 +601,41 @@ public class EuclidCoreRandomTools
       return new QuaternionBasedTransform(nextQuaternion(random), nextVector3D(random));
    }
 
+   /**
+    * Generates a random single precision rigid-body transform.
+    * <p>
+    * <ul>
+    * <li>The rotation part is uniformly distributed on the unit sphere and describes an angle in [-<i>pi</i>; <i>pi</i>].
+    * <li>Each component of the translation part is in [-1.0; 1.0].
+    * </ul>
+    * </p>
+    *
+    * @param random the random generator to use.
+    * @return the random rigid-body transform.
+    */
+   public static RigidBodyTransform32 nextRigidBodyTransform32(Random random)
+   {
+      return new RigidBodyTransform32(nextQuaternion(random), nextVector3D(random));
+   }
+
+   /**
+    * Generates a random dual quaternion.
+    * <p>
+    * <ul>
+    * <li>The rotation part is uniformly distributed on the unit sphere and describes an rotation angle
+    * in [-<i>pi</i>; <i>pi</i>].
+    * <li>Each component of the translation part is in [-1.0; 1.0].
+    * </ul>
+    * </p>
+    *
+    * @param random the random generator to use.
+    * @return the random dual quaternion.
+    */
+   public static DualQuaternion nextDualQuaternion(Random random)
+   {
+      return new DualQuaternion(nextQuaternion(random), nextVector3D(random));
+   }
+
    /**
     * Generates a random affine transform.
     * <p>
@@ -2,8 +2,10 @@ package us.ihmc.euclid.tools;
 
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getAffineTransformString;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getAxisAngleString;
+import static us.ihmc.euclid.tools.EuclidCoreIOTools.getDualQuaternionString;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getMatrix3DString;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getQuaternionBasedTransformString;
+import static us.ihmc.euclid.tools.EuclidCoreIOTools.getRigidBodyTransform32String;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getRigidBodyTransformString;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getStringFormat;
 import static us.ihmc.euclid.tools.EuclidCoreIOTools.getTuple2DString;
@@ -22,8 +24,10 @@ import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation2DReadOnly;
 import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.DualQuaternion;
 import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform32;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
@@ -2320,6 +2324,279 @@ public class EuclidCoreTestTools
       }
    }
 
+   /**
+    * Asserts on a per component basis that the two rigid-body transforms are equal to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param expected the expected rigid-body transform. Not modified.
+    * @param actual   the actual rigid-body transform. Not modified.
+    * @param epsilon  the tolerance to use.
+    * @throws AssertionError if the two rigid-body transforms are not equal. If only one of the
+    *                        arguments is equal to {@code null}.
+    */
+   public static void assertRigidBodyTransform32Equals(RigidBodyTransform32 expected, RigidBodyTransform32 actual, double epsilon)
+   {
+      assertRigidBodyTransform32Equals(null, expected, actual, epsilon);
+   }
+
+   /**
+    * Asserts on a per component basis that the two rigid-body transforms are equal to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected rigid-body transform. Not modified.
+    * @param actual        the actual rigid-body transform. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @throws AssertionError if the two rigid-body transforms are not equal. If only one of the
+    *                        arguments is equal to {@code null}.
+    */
+   public static void assertRigidBodyTransform32Equals(String messagePrefix, RigidBodyTransform32 expected, RigidBodyTransform32 actual, double epsilon)
+   {
+      assertRigidBodyTransform32Equals(messagePrefix, expected, actual, epsilon, DEFAULT_FORMAT);
+   }
+
+   /**
+    * Asserts on a per component basis that the two rigid-body transforms are equal to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected rigid-body transform. Not modified.
+    * @param actual        the actual rigid-body transform. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @param format        the format to use for printing each component when an {@code AssertionError}
+    *                      is thrown.
+    * @throws AssertionError if the two rigid-body transforms are not equal. If only one of the
+    *                        arguments is equal to {@code null}.
+    */
+   public static void assertRigidBodyTransform32Equals(String messagePrefix, RigidBodyTransform32 expected, RigidBodyTransform32 actual, double epsilon,
+                                                       String format)
+   {
+      if (expected == null && actual == null)
+         return;
+
+      if (!(expected != null && actual != null))
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+
+      if (!expected.epsilonEquals(actual, epsilon))
+      {
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+      }
+   }
+
+   /**
+    * Asserts that the two rigid-body transforms represent the same geometry to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param expected the expected rigid-body transform. Not modified.
+    * @param actual   the actual rigid-body transform. Not modified.
+    * @param epsilon  the tolerance to use.
+    * @throws AssertionError if the two rigid-body transforms do not represent the same geometry.
+    *                        If only one of the arguments is equal to {@code null}.
+    */
+   public static void assertRigidBodyTransform32GeometricallyEquals(RigidBodyTransform32 expected, RigidBodyTransform32 actual, double epsilon)
+   {
+      assertRigidBodyTransform32GeometricallyEquals(null, expected, actual, epsilon);
+   }
+
+   /**
+    * Asserts that the two rigid-body transforms represent the same geometry to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected rigid-body transform. Not modified.
+    * @param actual        the actual rigid-body transform. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @throws AssertionError if the two rigid-body transforms do not represent the same geometry.
+    *                        If only one of the arguments is equal to {@code null}.
+    */
+   public static void assertRigidBodyTransform32GeometricallyEquals(String messagePrefix, RigidBodyTransform32 expected, RigidBodyTransform32 actual,
+                                                                    double epsilon)
+   {
+      assertRigidBodyTransform32GeometricallyEquals(messagePrefix, expected, actual, epsilon, DEFAULT_FORMAT);
+   }
+
+   /**
+    * Asserts that the two rigid-body transforms represent the same geometry to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected rigid-body transform. Not modified.
+    * @param actual        the actual rigid-body transform. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @param format        the format to use for printing each component when an {@code AssertionError}
+    *                      is thrown.
+    * @throws AssertionError if the two rigid-body transforms do not represent the same geometry.
+    *                        If only one of the arguments is equal to {@code null}.
+    */
+   public static void assertRigidBodyTransform32GeometricallyEquals(String messagePrefix, RigidBodyTransform32 expected, RigidBodyTransform32 actual,
+                                                                    double epsilon, String format)
+   {
+      if (expected == null && actual == null)
+         return;
+
+      if (!(expected != null && actual != null))
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+
+      if (!expected.geometricallyEquals(actual, epsilon))
+      {
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+      }
+   }
+
+   /**
+    * Asserts on a per component basis that the two dual quaternions are equal to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param expected the expected dual quaternion. Not modified.
+    * @param actual   the actual dual quaternion. Not modified.
+    * @param epsilon  the tolerance to use.
+    * @throws AssertionError if the two dual quaternions are not equal. If only one of the
+    *                        arguments is equal to {@code null}.
+    */
+   public static void assertDualQuaternionEquals(DualQuaternion expected, DualQuaternion actual, double epsilon)
+   {
+      assertDualQuaternionEquals(null, expected, actual, epsilon);
+   }
+
+   /**
+    * Asserts on a per component basis that the two dual quaternions are equal to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected dual quaternion. Not modified.
+    * @param actual        the actual dual quaternion. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @throws AssertionError if the two dual quaternions are not equal. If only one of the
+    *                        arguments is equal to {@code null}.
+    */
+   public static void assertDualQuaternionEquals(String messagePrefix, DualQuaternion expected, DualQuaternion actual, double epsilon)
+   {
+      assertDualQuaternionEquals(messagePrefix, expected, actual, epsilon, DEFAULT_FORMAT);
+   }
+
+   /**
+    * Asserts on a per component basis that the two dual quaternions are equal to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected dual quaternion. Not modified.
+    * @param actual        the actual dual quaternion. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @param format        the format to use for printing each component when an {@code AssertionError}
+    *                      is thrown.
+    * @throws AssertionError if the two dual quaternions are not equal. If only one of the
+    *                        arguments is equal to {@code null}.
+    */
+   public static void assertDualQuaternionEquals(String messagePrefix, DualQuaternion expected, DualQuaternion actual, double epsilon,
+                                                 String format)
+   {
+      if (expected == null && actual == null)
+         return;
+
+      if (!(expected != null && actual != null))
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+
+      if (!expected.epsilonEquals(actual, epsilon))
+      {
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+      }
+   }
+
+   /**
+    * Asserts that the two dual quaternions represent the same geometry to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param expected the expected dual quaternion. Not modified.
+    * @param actual   the actual dual quaternion. Not modified.
+    * @param epsilon  the tolerance to use.
+    * @throws AssertionError if the two dual quaternions do not represent the same geometry.
+    *                        If only one of the arguments is equal to {@code null}.
+    */
+   public static void assertDualQuaternionGeometricallyEquals(DualQuaternion expected, DualQuaternion actual, double epsilon)
+   {
+      assertDualQuaternionGeometricallyEquals(null, expected, actual, epsilon);
+   }
+
+   /**
+    * Asserts that the two dual quaternions represent the same geometry to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected dual quaternion. Not modified.
+    * @param actual        the actual dual quaternion. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @throws AssertionError if the two dual quaternions do not represent the same geometry.
+    *                        If only one of the arguments is equal to {@code null}.
+    */
+   public static void assertDualQuaternionGeometricallyEquals(String messagePrefix, DualQuaternion expected, DualQuaternion actual, double epsilon)
+   {
+      assertDualQuaternionGeometricallyEquals(messagePrefix, expected, actual, epsilon, DEFAULT_FORMAT);
+   }
+
+   /**
+    * Asserts that the two dual quaternions represent the same geometry to an
+    * {@code epsilon}.
+    * <p>
+    * Note: the two arguments are considered to be equal if they are both equal to {@code null}.
+    * </p>
+    *
+    * @param messagePrefix prefix to add to the error message.
+    * @param expected      the expected dual quaternion. Not modified.
+    * @param actual        the actual dual quaternion. Not modified.
+    * @param epsilon       the tolerance to use.
+    * @param format        the format to use for printing each component when an {@code AssertionError}
+    *                      is thrown.
+    * @throws AssertionError if the two dual quaternions do not represent the same geometry.
+    *                        If only one of the arguments is equal to {@code null}.
+    */
+   public static void assertDualQuaternionGeometricallyEquals(String messagePrefix, DualQuaternion expected, DualQuaternion actual, double epsilon,
+                                                              String format)
+   {
+      if (expected == null && actual == null)
+         return;
+
+      if (!(expected != null && actual != null))
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+
+      if (!expected.geometricallyEquals(actual, epsilon))
+      {
+         throwNotEqualAssertionError(messagePrefix, expected, actual, format);
+      }
+   }
+
    /**
     * Asserts on a per component basis that the two given affine transforms are equal to an
     * {@code epsilon}.
@@ -2673,6 +2950,20 @@ public class EuclidCoreTestTools
       throwNotEqualAssertionError(messagePrefix, expectedAsString, actualAsString);
    }
 
+   private static void throwNotEqualAssertionError(String messagePrefix, RigidBodyTransform32 expected, RigidBodyTransform32 actual, String format)
+   {
+      String expectedAsString = getRigidBodyTransform32String(format, expected);
+      String actualAsString = getRigidBodyTransform32String(format, actual);
+      throwNotEqualAssertionError(messagePrefix, expectedAsString, actualAsString);
+   }
+
+   private static void throwNotEqualAssertionError(String messagePrefix, DualQuaternion expected, DualQuaternion actual, String format)
+   {
+      String expectedAsString = getDualQuaternionString(format, expected);
+      String actualAsString = getDualQuaternionString(format, actual);
+      throwNotEqualAssertionError(messagePrefix, expectedAsString, actualAsString);
+   }
+
    /**
     * Throws a new {@code AssertionError} as follows:
     *
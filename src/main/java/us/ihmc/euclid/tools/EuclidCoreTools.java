@@ -39,6 +39,12 @@ public class EuclidCoreTools
     */
    public static final double CLAMP_EPS = 1.0e-10;
 
+   /**
+    * The implementation used for the trigonometric functions, see {@link TrigonometryBackend}.
+    * Volatile so a change of backend is visible to all threads.
+    */
+   private static volatile TrigonometryBackend trigonometryBackend = TrigonometryBackend.STRICT_MATH;
+
    /**
     * Constant representing the coordinates (0, 0) of the origin in the 2D plane.
     */
@@ -855,8 +861,42 @@ public class EuclidCoreTools
       return (1.0 - alpha) * a + alpha * b;
    }
 
+   /**
+    * Sets the implementation of the trigonometric functions to use in {@link #sin(double)},
+    * {@link #cos(double)}, {@link #tan(double)}, {@link #atan(double)},
+    * {@link #atan2(double, double)}, {@link #asin(double)}, and {@link #acos(double)}.
+    * <p>
+    * As these methods are used throughout Euclid, for instance in the orientation conversions, this
+    * affects the whole library. The default backend is {@link TrigonometryBackend#STRICT_MATH}.
+    * </p>
+    *
+    * @param trigonometryBackend the new backend to use. Not modified.
+    * @see TrigonometryBackend
+    */
+   public static void setTrigonometryBackend(TrigonometryBackend trigonometryBackend)
+   {
+      if (trigonometryBackend == null)
+         throw new IllegalArgumentException("The trigonometry backend cannot be null.");
+      EuclidCoreTools.trigonometryBackend = trigonometryBackend;
+   }
+
+   /**
+    * Gets the implementation of the trigonometric functions currently in use.
+    *
+    * @return the current backend.
+    * @see #setTrigonometryBackend(TrigonometryBackend)
+    */
+   public static TrigonometryBackend getTrigonometryBackend()
+   {
+      return trigonometryBackend;
+   }
+
    /**
     * Returns the trigonometric tangent of an angle.
+    * <p>
+    * The implementation used depends on the current backend, see
+    * {@link #setTrigonometryBackend(TrigonometryBackend)}.
+    * </p>
     *
     * @param a an angle, in radians.
     * @return the tangent of the argument.
@@ -864,12 +904,16 @@ public class EuclidCoreTools
     */
    public static double tan(double a)
    {
-      return StrictMath.tan(a);
+      return trigonometryBackend.tan(a);
    }
 
    /**
     * Returns the arc tangent of a value; the returned angle is in the range -<i>pi</i>/2 through
     * <i>pi</i>/2.
+    * <p>
+    * The implementation used depends on the current backend, see
+    * {@link #setTrigonometryBackend(TrigonometryBackend)}.
+    * </p>
     *
     * @param a the value whose arc tangent is to be returned.
     * @return the arc tangent of the argument.
@@ -877,12 +921,16 @@ public class EuclidCoreTools
     */
    public static double atan(double a)
    {
-      return StrictMath.atan(a);
+      return trigonometryBackend.atan(a);
    }
 
    /**
     * Returns the angle <i>theta</i> from the conversion of rectangular coordinates
     * ({@code x},&nbsp;{@code y}) to polar coordinates (r,&nbsp;<i>theta</i>).
+    * <p>
+    * The implementation used depends on the current backend, see
+    * {@link #setTrigonometryBackend(TrigonometryBackend)}.
+    * </p>
     *
     * @param y the ordinate coordinate
     * @param x the abscissa coordinate
@@ -893,11 +941,15 @@ public class EuclidCoreTools
     */
    public static double atan2(double y, double x)
    {
-      return StrictMath.atan2(y, x);
+      return trigonometryBackend.atan2(y, x);
    }
 
    /**
     * Returns the trigonometric cosine of an angle.
+    * <p>
+    * The implementation used depends on the current backend, see
+    * {@link #setTrigonometryBackend(TrigonometryBackend)}.
+    * </p>
     *
     * @param a an angle, in radians.
     * @return the cosine of the argument.
@@ -905,11 +957,15 @@ public class EuclidCoreTools
     */
    public static double cos(double a)
    {
-      return StrictMath.cos(a);
+      return trigonometryBackend.cos(a);
    }
 
    /**
     * Returns the trigonometric sine of an angle.
+    * <p>
+    * The implementation used depends on the current backend, see
+    * {@link #setTrigonometryBackend(TrigonometryBackend)}.
+    * </p>
     *
     * @param a an angle, in radians.
     * @return the sine of the argument.
@@ -917,11 +973,15 @@ public class EuclidCoreTools
     */
    public static double sin(double a)
    {
-      return StrictMath.sin(a);
+      return trigonometryBackend.sin(a);
    }
 
    /**
     * Returns the arc cosine of a value; the returned angle is in the range 0.0 through <i>pi</i>.
+    * <p>
+    * The implementation used depends on the current backend, see
+    * {@link #setTrigonometryBackend(TrigonometryBackend)}.
+    * </p>
     *
     * @param a the value whose arc cosine is to be returned.
     * @return the arc cosine of the argument.
@@ -929,12 +989,16 @@ public class EuclidCoreTools
     */
    public static double acos(double a)
    {
-      return StrictMath.acos(a);
+      return trigonometryBackend.acos(a);
    }
 
    /**
     * Returns the arc sine of a value; the returned angle is in the range -<i>pi</i>/2 through
     * <i>pi</i>/2.
+    * <p>
+    * The implementation used depends on the current backend, see
+    * {@link #setTrigonometryBackend(TrigonometryBackend)}.
+    * </p>
     *
     * @param a the value whose arc sine is to be returned.
     * @return the arc sine of the argument.
@@ -942,7 +1006,7 @@ public class EuclidCoreTools
     */
    public static double asin(double a)
    {
-      return StrictMath.asin(a);
+      return trigonometryBackend.asin(a);
    }
 
    /**
@@ -0,0 +1,278 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * This class provides fast polynomial approximations of the trigonometric functions.
+ * <p>
+ * The approximations trade a small amount of accuracy for speed compared to {@link StrictMath}. The
+ * maximum errors, measured against {@link StrictMath}, are:
+ * <ul>
+ * <li>{@link #sin(double)}, {@link #cos(double)}: absolute error &lt; 1.0e-13 for |a| &leq;
+ * {@value #MAX_REDUCIBLE_ANGLE}.
+ * <li>{@link #tan(double)}: relative error &lt; 1.0e-13 for |a| &leq; {@value #MAX_REDUCIBLE_ANGLE}.
+ * <li>{@link #atan(double)}, {@link #atan2(double, double)}: absolute error &lt; 2.0e-13.
+ * <li>{@link #asin(double)}, {@link #acos(double)}: absolute error &lt; 2.0e-13.
+ * </ul>
+ * For angles greater than {@value #MAX_REDUCIBLE_ANGLE} in magnitude and for non-finite arguments,
+ * the methods fall back to {@link StrictMath}. As with {@link StrictMath}, the sign of a zero
+ * argument is preserved by the odd functions.
+ * </p>
+ * <p>
+ * These methods can be used directly in performance critical sections, or globally for all of
+ * Euclid via {@link EuclidCoreTools#setTrigonometryBackend(TrigonometryBackend)} with
+ * {@link TrigonometryBackend#FAST}.
+ * </p>
+ */
+public class FastTrigonometryTools
+{
+   /**
+    * Beyond this value, the range reduction used for {@link #sin(double)}, {@link #cos(double)}, and
+    * {@link #tan(double)} loses accuracy and {@link StrictMath} is used instead.
+    */
+   public static final double MAX_REDUCIBLE_ANGLE = 1.0e5;
+
+   private static final double TWO_OVER_PI = 2.0 / Math.PI;
+   /** First 33 bits of <i>pi</i>/2. */
+   private static final double PI_OVER_TWO_HI = 1.57079632673412561417e+00;
+   /** <i>pi</i>/2 - {@link #PI_OVER_TWO_HI}. */
+   private static final double PI_OVER_TWO_LO = 6.07710050650619224932e-11;
+   private static final double PI_OVER_TWO = Math.PI / 2.0;
+   private static final double PI_OVER_FOUR = Math.PI / 4.0;
+   private static final double PI_OVER_EIGHT = Math.PI / 8.0;
+   /** tan(<i>pi</i>/8) */
+   private static final double TAN_PI_OVER_EIGHT = 0.41421356237309503;
+   /** tan(<i>pi</i>/16) */
+   private static final double TAN_PI_OVER_SIXTEEN = 0.19891236737965800;
+
+   // Taylor coefficients of sin(x) / x - 1 in x^2, truncation error < 2.0e-14 on [-pi/4, pi/4].
+   private static final double S1 = -1.0 / 6.0;
+   private static final double S2 = 1.0 / 120.0;
+   private static final double S3 = -1.0 / 5040.0;
+   private static final double S4 = 1.0 / 362880.0;
+   private static final double S5 = -1.0 / 39916800.0;
+   private static final double S6 = 1.0 / 6227020800.0;
+   // Taylor coefficients of cos(x) - 1 in x^2, truncation error < 1.0e-15 on [-pi/4, pi/4].
+   private static final double C1 = -1.0 / 2.0;
+   private static final double C2 = 1.0 / 24.0;
+   private static final double C3 = -1.0 / 720.0;
+   private static final double C4 = 1.0 / 40320.0;
+   private static final double C5 = -1.0 / 3628800.0;
+   private static final double C6 = 1.0 / 479001600.0;
+   private static final double C7 = -1.0 / 87178291200.0;
+   // Taylor coefficients of atan(x) / x - 1 in x^2, truncation error < 1.0e-13 on [-tan(pi/16), tan(pi/16)].
+   private static final double A1 = -1.0 / 3.0;
+   private static final double A2 = 1.0 / 5.0;
+   private static final double A3 = -1.0 / 7.0;
+   private static final double A4 = 1.0 / 9.0;
+   private static final double A5 = -1.0 / 11.0;
+   private static final double A6 = 1.0 / 13.0;
+   private static final double A7 = -1.0 / 15.0;
+
+   private FastTrigonometryTools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Returns an approximation of the trigonometric sine of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the sine of the argument.
+    */
+   public static double sin(double a)
+   {
+      if (!(Math.abs(a) <= MAX_REDUCIBLE_ANGLE))
+         return StrictMath.sin(a);
+      if (a == 0.0)
+         return a; // Preserves the sign of zero.
+
+      double k = Math.rint(a * TWO_OVER_PI);
+      double r = (a - k * PI_OVER_TWO_HI) - k * PI_OVER_TWO_LO;
+
+      switch ((int) k & 3)
+      {
+         case 0:
+            return sinKernel(r);
+         case 1:
+            return cosKernel(r);
+         case 2:
+            return -sinKernel(r);
+         default:
+            return -cosKernel(r);
+      }
+   }
+
+   /**
+    * Returns an approximation of the trigonometric cosine of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the cosine of the argument.
+    */
+   public static double cos(double a)
+   {
+      if (!(Math.abs(a) <= MAX_REDUCIBLE_ANGLE))
+         return StrictMath.cos(a);
+
+      double k = Math.rint(a * TWO_OVER_PI);
+      double r = (a - k * PI_OVER_TWO_HI) - k * PI_OVER_TWO_LO;
+
+      switch ((int) k & 3)
+      {
+         case 0:
+            return cosKernel(r);
+         case 1:
+            return -sinKernel(r);
+         case 2:
+            return -cosKernel(r);
+         default:
+            return sinKernel(r);
+      }
+   }
+
+   /**
+    * Returns an approximation of the trigonometric tangent of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the tangent of the argument.
+    */
+   public static double tan(double a)
+   {
+      if (!(Math.abs(a) <= MAX_REDUCIBLE_ANGLE))
+         return StrictMath.tan(a);
+      if (a == 0.0)
+         return a; // Preserves the sign of zero.
+
+      double k = Math.rint(a * TWO_OVER_PI);
+      double r = (a - k * PI_OVER_TWO_HI) - k * PI_OVER_TWO_LO;
+
+      if (((int) k & 1) == 0)
+         return sinKernel(r) / cosKernel(r);
+      else
+         return -cosKernel(r) / sinKernel(r);
+   }
+
+   /**
+    * Returns an approximation of the arc tangent of a value; the returned angle is in the range
+    * -<i>pi</i>/2 through <i>pi</i>/2.
+    *
+    * @param a the value whose arc tangent is to be returned.
+    * @return the arc tangent of the argument.
+    */
+   public static double atan(double a)
+   {
+      if (Double.isNaN(a))
+         return Double.NaN;
+      if (a == 0.0)
+         return a; // Preserves the sign of zero.
+
+      boolean negative = a < 0.0;
+      double x = Math.abs(a);
+      double offset = 0.0;
+      boolean complement = false;
+
+      if (x > 1.0)
+      { // atan(x) = pi/2 - atan(1/x)
+         x = 1.0 / x;
+         complement = true;
+      }
+
+      if (x > TAN_PI_OVER_EIGHT)
+      { // atan(x) = pi/4 + atan((x - 1) / (x + 1))
+         x = (x - 1.0) / (x + 1.0);
+         offset = PI_OVER_FOUR;
+      }
+
+      if (x > TAN_PI_OVER_SIXTEEN)
+      { // atan(x) = pi/8 + atan((x - t) / (1 + x t)) with t = tan(pi/8)
+         x = (x - TAN_PI_OVER_EIGHT) / (1.0 + x * TAN_PI_OVER_EIGHT);
+         offset += PI_OVER_EIGHT;
+      }
+      else if (x < -TAN_PI_OVER_SIXTEEN)
+      { // atan(x) = -pi/8 + atan((x + t) / (1 - x t)) with t = tan(pi/8)
+         x = (x + TAN_PI_OVER_EIGHT) / (1.0 - x * TAN_PI_OVER_EIGHT);
+         offset -= PI_OVER_EIGHT;
+      }
+
+      double result = offset + atanKernel(x);
+
+      if (complement)
+         result = PI_OVER_TWO - result;
+
+      return negative ? -result : result;
+   }
+
+   /**
+    * Returns an approximation of the angle <i>theta</i> from the conversion of rectangular
+    * coordinates ({@code x},&nbsp;{@code y}) to polar coordinates (r,&nbsp;<i>theta</i>).
+    *
+    * @param y the ordinate coordinate
+    * @param x the abscissa coordinate
+    * @return the <i>theta</i> component of the point (<i>r</i>,&nbsp;<i>theta</i>) in polar
+    *         coordinates that corresponds to the point (<i>x</i>,&nbsp;<i>y</i>) in Cartesian
+    *         coordinates.
+    */
+   public static double atan2(double y, double x)
+   {
+      if (Double.isInfinite(x) || Double.isInfinite(y) || Double.isNaN(x) || Double.isNaN(y) || x == 0.0 || y == 0.0)
+         return StrictMath.atan2(y, x); // Handles all the special cases, including the signed zeros.
+
+      double absX = Math.abs(x);
+      double absY = Math.abs(y);
+      double angle;
+
+      if (absY <= absX)
+         angle = atan(absY / absX);
+      else
+         angle = PI_OVER_TWO - atan(absX / absY);
+
+      if (x < 0.0)
+         angle = Math.PI - angle;
+
+      return y < 0.0 ? -angle : angle;
+   }
+
+   /**
+    * Returns an approximation of the arc sine of a value; the returned angle is in the range
+    * -<i>pi</i>/2 through <i>pi</i>/2.
+    *
+    * @param a the value whose arc sine is to be returned.
+    * @return the arc sine of the argument.
+    */
+   public static double asin(double a)
+   {
+      if (!(Math.abs(a) <= 1.0))
+         return Double.NaN;
+      return atan2(a, Math.sqrt((1.0 - a) * (1.0 + a)));
+   }
+
+   /**
+    * Returns an approximation of the arc cosine of a value; the returned angle is in the range 0.0
+    * through <i>pi</i>.
+    *
+    * @param a the value whose arc cosine is to be returned.
+    * @return the arc cosine of the argument.
+    */
+   public static double acos(double a)
+   {
+      if (!(Math.abs(a) <= 1.0))
+         return Double.NaN;
+      return atan2(Math.sqrt((1.0 - a) * (1.0 + a)), a);
+   }
+
+   private static double sinKernel(double r)
+   {
+      double r2 = r * r;
+      return r + r * r2 * (S1 + r2 * (S2 + r2 * (S3 + r2 * (S4 + r2 * (S5 + r2 * S6)))));
+   }
+
+   private static double cosKernel(double r)
+   {
+      double r2 = r * r;
+      return 1.0 + r2 * (C1 + r2 * (C2 + r2 * (C3 + r2 * (C4 + r2 * (C5 + r2 * (C6 + r2 * C7))))));
+   }
+
+   private static double atanKernel(double x)
+   {
+      double x2 = x * x;
+      return x + x * x2 * (A1 + x2 * (A2 + x2 * (A3 + x2 * (A4 + x2 * (A5 + x2 * (A6 + x2 * A7))))));
+   }
+}
@@ -22,6 +22,12 @@ import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
 public class Matrix3DTools
 {
    static final double EPS_INVERT = 1.0e-16;
+   /** Relative tolerance on the squared off-diagonal terms used to stop the Jacobi sweeps. */
+   static final double EPS_JACOBI = 1.0e-30;
+   /** Relative threshold under which a singular value is considered to be zero. */
+   static final double EPS_SVD_RANK = 1.0e-12;
+   /** Maximum number of sweeps performed by the Jacobi iterations, typically converges in less than 6. */
+   static final int MAX_JACOBI_SWEEPS = 50;
 
    private Matrix3DTools()
    {
@@ -744,6 +750,363 @@ public class Matrix3DTools
       multiply(matrixTransformed, matrix, matrixTransformed);
    }
 
+   /**
+    * Computes the eigen decomposition of the given symmetric matrix using the cyclic
+    * <a href="https://en.wikipedia.org/wiki/Jacobi_eigenvalue_algorithm">Jacobi eigenvalue
+    * algorithm</a>:
+    * <p>
+    * symmetricMatrix = V * diag(eigenValues) * V<sup>T</sup>
+    * </p>
+    * <p>
+    * Only the symmetric part of the matrix, i.e. 0.5 * (symmetricMatrix +
+    * symmetricMatrix<sup>T</sup>), is considered. The eigen values are sorted in decreasing order and
+    * the eigen vectors are stored as the columns of {@code eigenVectorsToPack} in the same order. The
+    * eigen vectors form an orthonormal basis, its handedness is not guaranteed.
+    * </p>
+    * <p>
+    * This method does not generate garbage and is meant to be used in place of a general purpose
+    * decomposition for small covariance or inertia matrices.
+    * </p>
+    *
+    * @param symmetricMatrix    the matrix to decompose. Not modified.
+    * @param eigenValuesToPack  the tuple in which the eigen values are stored. Modified.
+    * @param eigenVectorsToPack the matrix in which the eigen vectors are stored as columns. Modified.
+    * @return {@code true} if the decomposition succeeded, {@code false} if the matrix contains
+    *         {@link Double#NaN} or the algorithm did not converge.
+    */
+   public static boolean computeSymmetricEigenDecomposition(Matrix3DReadOnly symmetricMatrix, Tuple3DBasics eigenValuesToPack, Matrix3DBasics eigenVectorsToPack)
+   {
+      if (symmetricMatrix.containsNaN())
+         return false;
+
+      double a00 = symmetricMatrix.getM00();
+      double a11 = symmetricMatrix.getM11();
+      double a22 = symmetricMatrix.getM22();
+      double a01 = 0.5 * (symmetricMatrix.getM01() + symmetricMatrix.getM10());
+      double a02 = 0.5 * (symmetricMatrix.getM02() + symmetricMatrix.getM20());
+      double a12 = 0.5 * (symmetricMatrix.getM12() + symmetricMatrix.getM21());
+
+      double v00 = 1.0, v01 = 0.0, v02 = 0.0;
+      double v10 = 0.0, v11 = 1.0, v12 = 0.0;
+      double v20 = 0.0, v21 = 0.0, v22 = 1.0;
+
+      boolean hasConverged = false;
+
+      for (int sweep = 0; sweep < MAX_JACOBI_SWEEPS; sweep++)
+      {
+         double offDiagonal = a01 * a01 + a02 * a02 + a12 * a12;
+         double diagonal = a00 * a00 + a11 * a11 + a22 * a22;
+
+         if (offDiagonal <= EPS_JACOBI * diagonal)
+         {
+            hasConverged = true;
+            break;
+         }
+
+         if (a01 != 0.0)
+         { // Annihilates a01
+            double t = jacobiTangent(a00, a11, a01);
+            double c = 1.0 / EuclidCoreTools.squareRoot(t * t + 1.0);
+            double s = t * c;
+            a00 -= t * a01;
+            a11 += t * a01;
+            a01 = 0.0;
+            double a20 = c * a02 - s * a12;
+            a12 = s * a02 + c * a12;
+            a02 = a20;
+
+            double tmp = c * v00 - s * v01;
+            v01 = s * v00 + c * v01;
+            v00 = tmp;
+            tmp = c * v10 - s * v11;
+            v11 = s * v10 + c * v11;
+            v10 = tmp;
+            tmp = c * v20 - s * v21;
+            v21 = s * v20 + c * v21;
+            v20 = tmp;
+         }
+
+         if (a02 != 0.0)
+         { // Annihilates a02
+            double t = jacobiTangent(a00, a22, a02);
+            double c = 1.0 / EuclidCoreTools.squareRoot(t * t + 1.0);
+            double s = t * c;
+            a00 -= t * a02;
+            a22 += t * a02;
+            a02 = 0.0;
+            double a10 = c * a01 - s * a12;
+            a12 = s * a01 + c * a12;
+            a01 = a10;
+
+            double tmp = c * v00 - s * v02;
+            v02 = s * v00 + c * v02;
+            v00 = tmp;
+            tmp = c * v10 - s * v12;
+            v12 = s * v10 + c * v12;
+            v10 = tmp;
+            tmp = c * v20 - s * v22;
+            v22 = s * v20 + c * v22;
+            v20 = tmp;
+         }
+
+         if (a12 != 0.0)
+         { // Annihilates a12
+            double t = jacobiTangent(a11, a22, a12);
+            double c = 1.0 / EuclidCoreTools.squareRoot(t * t + 1.0);
+            double s = t * c;
+            a11 -= t * a12;
+            a22 += t * a12;
+            a12 = 0.0;
+            double a01New = c * a01 - s * a02;
+            a02 = s * a01 + c * a02;
+            a01 = a01New;
+
+            double tmp = c * v01 - s * v02;
+            v02 = s * v01 + c * v02;
+            v01 = tmp;
+            tmp = c * v11 - s * v12;
+            v12 = s * v11 + c * v12;
+            v11 = tmp;
+            tmp = c * v21 - s * v22;
+            v22 = s * v21 + c * v22;
+            v21 = tmp;
+         }
+      }
+
+      if (!hasConverged)
+         return false;
+
+      eigenValuesToPack.set(a00, a11, a22);
+      eigenVectorsToPack.set(v00, v01, v02, v10, v11, v12, v20, v21, v22);
+      sortColumnsInDecreasingOrder(eigenValuesToPack, eigenVectorsToPack);
+      return true;
+   }
+
+   /**
+    * Computes the singular value decomposition of the given matrix using the one-sided
+    * <a href="https://en.wikipedia.org/wiki/Jacobi_eigenvalue_algorithm">Jacobi method</a>:
+    * <p>
+    * matrix = U * diag(singularValues) * V<sup>T</sup>
+    * </p>
+    * <p>
+    * The singular values are non-negative and sorted in decreasing order. {@code uToPack} and
+    * {@code vToPack} are orthonormal, their handedness is not guaranteed. When the matrix is rank
+    * deficient, the columns of {@code uToPack} associated with the zero singular values are chosen to
+    * complete the orthonormal basis.
+    * </p>
+    * <p>
+    * {@code matrix} and {@code uToPack} can be the same object, {@code uToPack} and {@code vToPack}
+    * have to be different objects.
+    * </p>
+    *
+    * @param matrix               the matrix to decompose. Not modified.
+    * @param uToPack              the matrix in which the left singular vectors are stored as columns.
+    *                             Modified.
+    * @param singularValuesToPack the tuple in which the singular values are stored. Modified.
+    * @param vToPack              the matrix in which the right singular vectors are stored as columns.
+    *                             Modified.
+    * @return {@code true} if the decomposition succeeded, {@code false} if the matrix contains
+    *         {@link Double#NaN} or the algorithm did not converge.
+    * @throws IllegalArgumentException if {@code uToPack} and {@code vToPack} are the same object.
+    */
+   public static boolean computeSVD(Matrix3DReadOnly matrix, Matrix3DBasics uToPack, Tuple3DBasics singularValuesToPack, Matrix3DBasics vToPack)
+   {
+      if (uToPack == vToPack)
+         throw new IllegalArgumentException("uToPack and vToPack have to be different objects.");
+
+      if (matrix.containsNaN())
+         return false;
+
+      // The columns of uToPack are orthogonalized in place, vToPack accumulates the rotations.
+      uToPack.set(matrix);
+      vToPack.setIdentity();
+
+      boolean hasConverged = false;
+
+      for (int sweep = 0; sweep < MAX_JACOBI_SWEEPS; sweep++)
+      {
+         boolean hasRotated = orthogonalizeColumns(uToPack, vToPack, 0, 1);
+         hasRotated |= orthogonalizeColumns(uToPack, vToPack, 0, 2);
+         hasRotated |= orthogonalizeColumns(uToPack, vToPack, 1, 2);
+
+         if (!hasRotated)
+         {
+            hasConverged = true;
+            break;
+         }
+      }
+
+      if (!hasConverged)
+         return false;
+
+      for (int column = 0; column < 3; column++)
+      {
+         double x = uToPack.getElement(0, column);
+         double y = uToPack.getElement(1, column);
+         double z = uToPack.getElement(2, column);
+         singularValuesToPack.setElement(column, EuclidCoreTools.norm(x, y, z));
+      }
+
+      sortColumnsInDecreasingOrder(singularValuesToPack, uToPack, vToPack);
+
+      double sigmaMax = singularValuesToPack.getX();
+
+      for (int column = 0; column < 3; column++)
+      {
+         double sigma = singularValuesToPack.getElement(column);
+
+         if (sigma > EPS_SVD_RANK * sigmaMax)
+         {
+            double invSigma = 1.0 / sigma;
+            uToPack.setElement(0, column, uToPack.getElement(0, column) * invSigma);
+            uToPack.setElement(1, column, uToPack.getElement(1, column) * invSigma);
+            uToPack.setElement(2, column, uToPack.getElement(2, column) * invSigma);
+         }
+         else if (column == 0)
+         { // The matrix is zero.
+            uToPack.setIdentity();
+            break;
+         }
+         else if (column == 1)
+         { // Rank 1: picks the most orthogonal axis to the first column and completes the basis.
+            double x0 = uToPack.getM00();
+            double y0 = uToPack.getM10();
+            double z0 = uToPack.getM20();
+            double x1, y1, z1;
+
+            if (Math.abs(x0) <= Math.abs(y0) && Math.abs(x0) <= Math.abs(z0))
+            { // Cross with x-axis
+               x1 = 0.0;
+               y1 = z0;
+               z1 = -y0;
+            }
+            else if (Math.abs(y0) <= Math.abs(z0))
+            { // Cross with y-axis
+               x1 = -z0;
+               y1 = 0.0;
+               z1 = x0;
+            }
+            else
+            { // Cross with z-axis
+               x1 = y0;
+               y1 = -x0;
+               z1 = 0.0;
+            }
+
+            double invNorm = 1.0 / EuclidCoreTools.norm(x1, y1, z1);
+            x1 *= invNorm;
+            y1 *= invNorm;
+            z1 *= invNorm;
+            uToPack.setElement(0, 1, x1);
+            uToPack.setElement(1, 1, y1);
+            uToPack.setElement(2, 1, z1);
+            uToPack.setElement(0, 2, y0 * z1 - z0 * y1);
+            uToPack.setElement(1, 2, z0 * x1 - x0 * z1);
+            uToPack.setElement(2, 2, x0 * y1 - y0 * x1);
+            break;
+         }
+         else
+         { // Rank 2: the last column is the cross product of the first two.
+            double x0 = uToPack.getM00();
+            double y0 = uToPack.getM10();
+            double z0 = uToPack.getM20();
+            double x1 = uToPack.getM01();
+            double y1 = uToPack.getM11();
+            double z1 = uToPack.getM21();
+            uToPack.setElement(0, 2, y0 * z1 - z0 * y1);
+            uToPack.setElement(1, 2, z0 * x1 - x0 * z1);
+            uToPack.setElement(2, 2, x0 * y1 - y0 * x1);
+         }
+      }
+
+      return true;
+   }
+
+   /**
+    * Computes the tangent of the Jacobi rotation angle that annihilates the off-diagonal element
+    * {@code apq} of a 2-by-2 symmetric matrix, choosing the smallest rotation.
+    */
+   private static double jacobiTangent(double app, double aqq, double apq)
+   {
+      double theta = (aqq - app) / (2.0 * apq);
+      double t = 1.0 / (Math.abs(theta) + EuclidCoreTools.squareRoot(theta * theta + 1.0));
+      return theta < 0.0 ? -t : t;
+   }
+
+   /**
+    * Applies a Jacobi rotation to the columns {@code p} and {@code q} of {@code a} such that they
+    * become orthogonal, the same rotation is applied to the columns of {@code v}.
+    *
+    * @return {@code false} if the columns were already orthogonal and no rotation was applied.
+    */
+   private static boolean orthogonalizeColumns(Matrix3DBasics a, Matrix3DBasics v, int p, int q)
+   {
+      double alpha = 0.0;
+      double beta = 0.0;
+      double gamma = 0.0;
+
+      for (int row = 0; row < 3; row++)
+      {
+         double ap = a.getElement(row, p);
+         double aq = a.getElement(row, q);
+         alpha += ap * ap;
+         beta += aq * aq;
+         gamma += ap * aq;
+      }
+
+      if (gamma == 0.0 || gamma * gamma <= EPS_JACOBI * alpha * beta)
+         return false;
+
+      double t = jacobiTangent(alpha, beta, gamma);
+      double c = 1.0 / EuclidCoreTools.squareRoot(t * t + 1.0);
+      double s = t * c;
+
+      for (int row = 0; row < 3; row++)
+      {
+         double ap = a.getElement(row, p);
+         double aq = a.getElement(row, q);
+         a.setElement(row, p, c * ap - s * aq);
+         a.setElement(row, q, s * ap + c * aq);
+         double vp = v.getElement(row, p);
+         double vq = v.getElement(row, q);
+         v.setElement(row, p, c * vp - s * vq);
+         v.setElement(row, q, s * vp + c * vq);
+      }
+
+      return true;
+   }
+
+   /**
+    * Sorts the elements of {@code values} in decreasing order and swaps the columns of the given
+    * matrices accordingly.
+    */
+   private static void sortColumnsInDecreasingOrder(Tuple3DBasics values, Matrix3DBasics... matrices)
+   {
+      if (values.getX() < values.getY())
+         swapColumns(values, 0, 1, matrices);
+      if (values.getY() < values.getZ())
+         swapColumns(values, 1, 2, matrices);
+      if (values.getX() < values.getY())
+         swapColumns(values, 0, 1, matrices);
+   }
+
+   private static void swapColumns(Tuple3DBasics values, int i, int j, Matrix3DBasics... matrices)
+   {
+      double tmp = values.getElement(i);
+      values.setElement(i, values.getElement(j));
+      values.setElement(j, tmp);
+
+      for (Matrix3DBasics matrix : matrices)
+      {
+         for (int row = 0; row < 3; row++)
+         {
+            tmp = matrix.getElement(row, i);
+            matrix.setElement(row, i, matrix.getElement(row, j));
+            matrix.setElement(row, j, tmp);
+         }
+      }
+   }
+
    /**
     * Create an {@linkplain ArrayIndexOutOfBoundsException} for a bad column index.
     *
@@ -0,0 +1,241 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Defines the implementation of the trigonometric functions used in Euclid.
+ * <p>
+ * The backend used by {@link EuclidCoreTools#sin(double)}, {@link EuclidCoreTools#cos(double)},
+ * etc. can be changed globally via
+ * {@link EuclidCoreTools#setTrigonometryBackend(TrigonometryBackend)}. As the conversion and
+ * transformation tools go through {@link EuclidCoreTools}, this affects the whole library.
+ * </p>
+ * <p>
+ * The following implementations are available:
+ * <ul>
+ * <li>{@link #STRICT_MATH}: the default backend, uses {@link StrictMath} and provides results that
+ * are reproducible across platforms.
+ * <li>{@link #MATH}: uses {@link Math} which may use platform specific intrinsics.
+ * <li>{@link #FAST}: uses the polynomial approximations from {@link FastTrigonometryTools}, see the
+ * class documentation for the error bounds.
+ * </ul>
+ * </p>
+ */
+public interface TrigonometryBackend
+{
+   /** Backend using {@link StrictMath}, this is the default backend. */
+   static final TrigonometryBackend STRICT_MATH = new TrigonometryBackend()
+   {
+      @Override
+      public double sin(double a)
+      {
+         return StrictMath.sin(a);
+      }
+
+      @Override
+      public double cos(double a)
+      {
+         return StrictMath.cos(a);
+      }
+
+      @Override
+      public double tan(double a)
+      {
+         return StrictMath.tan(a);
+      }
+
+      @Override
+      public double atan(double a)
+      {
+         return StrictMath.atan(a);
+      }
+
+      @Override
+      public double atan2(double y, double x)
+      {
+         return StrictMath.atan2(y, x);
+      }
+
+      @Override
+      public double asin(double a)
+      {
+         return StrictMath.asin(a);
+      }
+
+      @Override
+      public double acos(double a)
+      {
+         return StrictMath.acos(a);
+      }
+
+      @Override
+      public String toString()
+      {
+         return "StrictMath";
+      }
+   };
+
+   /** Backend using {@link Math}. */
+   static final TrigonometryBackend MATH = new TrigonometryBackend()
+   {
+      @Override
+      public double sin(double a)
+      {
+         return Math.sin(a);
+      }
+
+      @Override
+      public double cos(double a)
+      {
+         return Math.cos(a);
+      }
+
+      @Override
+      public double tan(double a)
+      {
+         return Math.tan(a);
+      }
+
+      @Override
+      public double atan(double a)
+      {
+         return Math.atan(a);
+      }
+
+      @Override
+      public double atan2(double y, double x)
+      {
+         return Math.atan2(y, x);
+      }
+
+      @Override
+      public double asin(double a)
+      {
+         return Math.asin(a);
+      }
+
+      @Override
+      public double acos(double a)
+      {
+         return Math.acos(a);
+      }
+
+      @Override
+      public String toString()
+      {
+         return "Math";
+      }
+   };
+
+   /** Backend using the polynomial approximations from {@link FastTrigonometryTools}. */
+   static final TrigonometryBackend FAST = new TrigonometryBackend()
+   {
+      @Override
+      public double sin(double a)
+      {
+         return FastTrigonometryTools.sin(a);
+      }
+
+      @Override
+      public double cos(double a)
+      {
+         return FastTrigonometryTools.cos(a);
+      }
+
+      @Override
+      public double tan(double a)
+      {
+         return FastTrigonometryTools.tan(a);
+      }
+
+      @Override
+      public double atan(double a)
+      {
+         return FastTrigonometryTools.atan(a);
+      }
+
+      @Override
+      public double atan2(double y, double x)
+      {
+         return FastTrigonometryTools.atan2(y, x);
+      }
+
+      @Override
+      public double asin(double a)
+      {
+         return FastTrigonometryTools.asin(a);
+      }
+
+      @Override
+      public double acos(double a)
+      {
+         return FastTrigonometryTools.acos(a);
+      }
+
+      @Override
+      public String toString()
+      {
+         return "Fast";
+      }
+   };
+
+   /**
+    * Returns the trigonometric sine of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the sine of the argument.
+    */
+   double sin(double a);
+
+   /**
+    * Returns the trigonometric cosine of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the cosine of the argument.
+    */
+   double cos(double a);
+
+   /**
+    * Returns the trigonometric tangent of an angle.
+    *
+    * @param a an angle, in radians.
+    * @return the tangent of the argument.
+    */
+   double tan(double a);
+
+   /**
+    * Returns the arc tangent of a value; the returned angle is in the range -<i>pi</i>/2 through
+    * <i>pi</i>/2.
+    *
+    * @param a the value whose arc tangent is to be returned.
+    * @return the arc tangent of the argument.
+    */
+   double atan(double a);
+
+   /**
+    * Returns the angle <i>theta</i> from the conversion of rectangular coordinates
+    * ({@code x},&nbsp;{@code y}) to polar coordinates (r,&nbsp;<i>theta</i>).
+    *
+    * @param y the ordinate coordinate
+    * @param x the abscissa coordinate
+    * @return the <i>theta</i> component of the point (<i>r</i>,&nbsp;<i>theta</i>) in polar
+    *         coordinates that corresponds to the point (<i>x</i>,&nbsp;<i>y</i>) in Cartesian
+    *         coordinates.
+    */
+   double atan2(double y, double x);
+
+   /**
+    * Returns the arc sine of a value; the returned angle is in the range -<i>pi</i>/2 through
+    * <i>pi</i>/2.
+    *
+    * @param a the value whose arc sine is to be returned.
+    * @return the arc sine of the argument.
+    */
+   double asin(double a);
+
+   /**
+    * Returns the arc cosine of a value; the returned angle is in the range 0.0 through <i>pi</i>.
+    *
+    * @param a the value whose arc cosine is to be returned.
+    * @return the arc cosine of the argument.
+    */
+   double acos(double a);
+}
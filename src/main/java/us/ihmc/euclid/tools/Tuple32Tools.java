@@ -0,0 +1,364 @@
+package us.ihmc.euclid.tools;
+
+import us.ihmc.euclid.tuple3D.Point3D32;
+import us.ihmc.euclid.tuple3D.Vector3D32;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion32;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * This class provides operations for the single precision types, such as {@link Vector3D32} and
+ * {@link Quaternion32}, that are performed entirely in single precision.
+ * <p>
+ * The single precision types themselves delegate to the double precision default methods of their
+ * interfaces, the methods of this class should be used where the computation must remain in single
+ * precision.
+ * </p>
+ * <p>
+ * It also provides batch kernels operating on {@code float} arrays in which the tuples are stored
+ * contiguously, i.e. {x0, y0, z0, x1, y1, z1, ...} for 3D tuples and {x0, y0, z0, s0, x1, ...} for
+ * quaternions. These are meant for memory bound workloads such as point cloud processing where
+ * using single precision halves the memory bandwidth.
+ * </p>
+ * <p>
+ * Single precision arithmetic has a relative precision of about {@code 1.0e-7}, the results of these
+ * methods can therefore differ from the equivalent double precision operations in the last bits of
+ * the single precision result.
+ * </p>
+ */
+public class Tuple32Tools
+{
+   private Tuple32Tools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Performs the addition of {@code tuple1} and {@code tuple2} and stores the result in
+    * {@code sumToPack} using single precision arithmetic.
+    * <p>
+    * sumToPack = tuple1 + tuple2
+    * </p>
+    *
+    * @param tuple1    the first tuple in the sum. Not modified.
+    * @param tuple2    the second tuple in the sum. Not modified.
+    * @param sumToPack the point in which the result is stored. Modified.
+    */
+   public static void add(Tuple3DReadOnly tuple1, Tuple3DReadOnly tuple2, Point3D32 sumToPack)
+   {
+      sumToPack.setX(tuple1.getX32() + tuple2.getX32());
+      sumToPack.setY(tuple1.getY32() + tuple2.getY32());
+      sumToPack.setZ(tuple1.getZ32() + tuple2.getZ32());
+   }
+
+   /**
+    * Performs the addition of {@code tuple1} and {@code tuple2} and stores the result in
+    * {@code sumToPack} using single precision arithmetic.
+    * <p>
+    * sumToPack = tuple1 + tuple2
+    * </p>
+    *
+    * @param tuple1    the first tuple in the sum. Not modified.
+    * @param tuple2    the second tuple in the sum. Not modified.
+    * @param sumToPack the vector in which the result is stored. Modified.
+    */
+   public static void add(Tuple3DReadOnly tuple1, Tuple3DReadOnly tuple2, Vector3D32 sumToPack)
+   {
+      sumToPack.setX(tuple1.getX32() + tuple2.getX32());
+      sumToPack.setY(tuple1.getY32() + tuple2.getY32());
+      sumToPack.setZ(tuple1.getZ32() + tuple2.getZ32());
+   }
+
+   /**
+    * Normalizes the given vector using single precision arithmetic.
+    * <p>
+    * Edge case: a vector of length zero or containing {@link Float#NaN} results in
+    * {@link Float#NaN}.
+    * </p>
+    *
+    * @param vectorToNormalize the vector to normalize. Modified.
+    */
+   public static void normalize(Vector3D32 vectorToNormalize)
+   {
+      float x = vectorToNormalize.getX32();
+      float y = vectorToNormalize.getY32();
+      float z = vectorToNormalize.getZ32();
+      float invNorm = 1.0f / (float) Math.sqrt(x * x + y * y + z * z);
+      vectorToNormalize.setX(x * invNorm);
+      vectorToNormalize.setY(y * invNorm);
+      vectorToNormalize.setZ(z * invNorm);
+   }
+
+   /**
+    * Normalizes the given quaternion using single precision arithmetic.
+    * <p>
+    * Edge case: a quaternion of norm zero is set to the neutral quaternion.
+    * </p>
+    *
+    * @param quaternionToNormalize the quaternion to normalize. Modified.
+    */
+   public static void normalize(Quaternion32 quaternionToNormalize)
+   {
+      setAndNormalize(quaternionToNormalize.getX32(),
+                      quaternionToNormalize.getY32(),
+                      quaternionToNormalize.getZ32(),
+                      quaternionToNormalize.getS32(),
+                      quaternionToNormalize);
+   }
+
+   /**
+    * Sets the given quaternion to the normalized {@code (x, y, z, s)} using single precision
+    * arithmetic.
+    * <p>
+    * Edge case: a quaternion of norm zero is set to the neutral quaternion.
+    * </p>
+    *
+    * @param x                the x-component of the quaternion before normalization.
+    * @param y                the y-component of the quaternion before normalization.
+    * @param z                the z-component of the quaternion before normalization.
+    * @param s                the s-component of the quaternion before normalization.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void setAndNormalize(float x, float y, float z, float s, Quaternion32 quaternionToPack)
+   {
+      float norm = (float) Math.sqrt(x * x + y * y + z * z + s * s);
+
+      if (norm == 0.0f)
+      {
+         quaternionToPack.setToZero();
+      }
+      else
+      {
+         // The components are already single precision, setUnsafe stores them unchanged.
+         float invNorm = 1.0f / norm;
+         quaternionToPack.setUnsafe(x * invNorm, y * invNorm, z * invNorm, s * invNorm);
+      }
+   }
+
+   /**
+    * Calculates the cross product of {@code tuple1} and {@code tuple2} and stores the result in
+    * {@code crossToPack} using single precision arithmetic.
+    * <p>
+    * crossToPack = tuple1 &times; tuple2
+    * </p>
+    * <p>
+    * All three arguments can be the same object for in place operations.
+    * </p>
+    *
+    * @param tuple1      the first tuple in the cross product. Not modified.
+    * @param tuple2      the second tuple in the cross product. Not modified.
+    * @param crossToPack the vector in which the result is stored. Modified.
+    */
+   public static void cross(Tuple3DReadOnly tuple1, Tuple3DReadOnly tuple2, Vector3D32 crossToPack)
+   {
+      float x1 = tuple1.getX32();
+      float y1 = tuple1.getY32();
+      float z1 = tuple1.getZ32();
+      float x2 = tuple2.getX32();
+      float y2 = tuple2.getY32();
+      float z2 = tuple2.getZ32();
+      crossToPack.setX(y1 * z2 - z1 * y2);
+      crossToPack.setY(z1 * x2 - x1 * z2);
+      crossToPack.setZ(x1 * y2 - y1 * x2);
+   }
+
+   /**
+    * Performs the multiplication of {@code q1} and {@code q2} and stores the result in
+    * {@code quaternionToPack} using single precision arithmetic.
+    * <p>
+    * quaternionToPack = q1 * q2
+    * </p>
+    * <p>
+    * All three arguments can be the same object for in place operations.
+    * </p>
+    *
+    * @param q1               the first quaternion in the multiplication. Not modified.
+    * @param q2               the second quaternion in the multiplication. Not modified.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void multiply(QuaternionReadOnly q1, QuaternionReadOnly q2, Quaternion32 quaternionToPack)
+   {
+      float q1x = q1.getX32();
+      float q1y = q1.getY32();
+      float q1z = q1.getZ32();
+      float q1s = q1.getS32();
+      float q2x = q2.getX32();
+      float q2y = q2.getY32();
+      float q2z = q2.getZ32();
+      float q2s = q2.getS32();
+
+      float x = q1s * q2x + q1x * q2s + q1y * q2z - q1z * q2y;
+      float y = q1s * q2y - q1x * q2z + q1y * q2s + q1z * q2x;
+      float z = q1s * q2z + q1x * q2y - q1y * q2x + q1z * q2s;
+      float s = q1s * q2s - q1x * q2x - q1y * q2y - q1z * q2z;
+      setAndNormalize(x, y, z, s, quaternionToPack);
+   }
+
+   /**
+    * Adds a batch of 3D tuples stored in arrays.
+    * <p>
+    * sums[i] = tuples1[i] + tuples2[i]
+    * </p>
+    * <p>
+    * The arrays can be the same instance.
+    * </p>
+    *
+    * @param tuples1        the first array of tuples. Not modified.
+    * @param tuples2        the second array of tuples. Not modified.
+    * @param sumsToPack     the array in which the sums are stored. Modified.
+    * @param numberOfTuples the number of tuples to process.
+    */
+   public static void add(float[] tuples1, float[] tuples2, float[] sumsToPack, int numberOfTuples)
+   {
+      for (int i = 0; i < 3 * numberOfTuples; i++)
+         sumsToPack[i] = tuples1[i] + tuples2[i];
+   }
+
+   /**
+    * Subtracts a batch of 3D tuples stored in arrays.
+    * <p>
+    * differences[i] = tuples1[i] - tuples2[i]
+    * </p>
+    * <p>
+    * The arrays can be the same instance.
+    * </p>
+    *
+    * @param tuples1           the first array of tuples. Not modified.
+    * @param tuples2           the second array of tuples. Not modified.
+    * @param differencesToPack the array in which the differences are stored. Modified.
+    * @param numberOfTuples    the number of tuples to process.
+    */
+   public static void sub(float[] tuples1, float[] tuples2, float[] differencesToPack, int numberOfTuples)
+   {
+      for (int i = 0; i < 3 * numberOfTuples; i++)
+         differencesToPack[i] = tuples1[i] - tuples2[i];
+   }
+
+   /**
+    * Computes the cross products of a batch of 3D tuples stored in arrays.
+    * <p>
+    * crosses[i] = tuples1[i] &times; tuples2[i]
+    * </p>
+    * <p>
+    * The arrays can be the same instance.
+    * </p>
+    *
+    * @param tuples1        the first array of tuples. Not modified.
+    * @param tuples2        the second array of tuples. Not modified.
+    * @param crossesToPack  the array in which the cross products are stored. Modified.
+    * @param numberOfTuples the number of tuples to process.
+    */
+   public static void cross(float[] tuples1, float[] tuples2, float[] crossesToPack, int numberOfTuples)
+   {
+      for (int i = 0, index = 0; i < numberOfTuples; i++, index += 3)
+      {
+         float x1 = tuples1[index];
+         float y1 = tuples1[index + 1];
+         float z1 = tuples1[index + 2];
+         float x2 = tuples2[index];
+         float y2 = tuples2[index + 1];
+         float z2 = tuples2[index + 2];
+         crossesToPack[index] = y1 * z2 - z1 * y2;
+         crossesToPack[index + 1] = z1 * x2 - x1 * z2;
+         crossesToPack[index + 2] = x1 * y2 - y1 * x2;
+      }
+   }
+
+   /**
+    * Computes the dot products of a batch of 3D tuples stored in arrays.
+    *
+    * @param tuples1        the first array of tuples. Not modified.
+    * @param tuples2        the second array of tuples. Not modified.
+    * @param dotsToPack     the array in which the dot products are stored, one element per tuple.
+    *                       Modified.
+    * @param numberOfTuples the number of tuples to process.
+    */
+   public static void dot(float[] tuples1, float[] tuples2, float[] dotsToPack, int numberOfTuples)
+   {
+      for (int i = 0, index = 0; i < numberOfTuples; i++, index += 3)
+         dotsToPack[i] = tuples1[index] * tuples2[index] + tuples1[index + 1] * tuples2[index + 1] + tuples1[index + 2] * tuples2[index + 2];
+   }
+
+   /**
+    * Normalizes a batch of 3D vectors stored in an array.
+    * <p>
+    * Edge case: a vector of length zero or containing {@link Float#NaN} results in
+    * {@link Float#NaN}.
+    * </p>
+    * <p>
+    * The arrays can be the same instance.
+    * </p>
+    *
+    * @param vectors           the array of vectors to normalize. Not modified.
+    * @param unitVectorsToPack the array in which the normalized vectors are stored. Modified.
+    * @param numberOfVectors   the number of vectors to process.
+    */
+   public static void normalize(float[] vectors, float[] unitVectorsToPack, int numberOfVectors)
+   {
+      for (int i = 0, index = 0; i < numberOfVectors; i++, index += 3)
+      {
+         float x = vectors[index];
+         float y = vectors[index + 1];
+         float z = vectors[index + 2];
+         float invNorm = 1.0f / (float) Math.sqrt(x * x + y * y + z * z);
+         unitVectorsToPack[index] = x * invNorm;
+         unitVectorsToPack[index + 1] = y * invNorm;
+         unitVectorsToPack[index + 2] = z * invNorm;
+      }
+   }
+
+   /**
+    * Performs the multiplication of a batch of quaternions stored in arrays.
+    * <p>
+    * quaternions[i] = quaternions1[i] * quaternions2[i]
+    * </p>
+    * <p>
+    * The resulting quaternions are normalized, and set to the neutral quaternion when their norm is
+    * zero.
+    * </p>
+    * <p>
+    * The arrays can be the same instance.
+    * </p>
+    *
+    * @param quaternions1        the first array of quaternions. Not modified.
+    * @param quaternions2        the second array of quaternions. Not modified.
+    * @param quaternionsToPack   the array in which the products are stored. Modified.
+    * @param numberOfQuaternions the number of quaternions to process.
+    */
+   public static void multiplyQuaternions(float[] quaternions1, float[] quaternions2, float[] quaternionsToPack, int numberOfQuaternions)
+   {
+      for (int i = 0, index = 0; i < numberOfQuaternions; i++, index += 4)
+      {
+         float q1x = quaternions1[index];
+         float q1y = quaternions1[index + 1];
+         float q1z = quaternions1[index + 2];
+         float q1s = quaternions1[index + 3];
+         float q2x = quaternions2[index];
+         float q2y = quaternions2[index + 1];
+         float q2z = quaternions2[index + 2];
+         float q2s = quaternions2[index + 3];
+
+         float x = q1s * q2x + q1x * q2s + q1y * q2z - q1z * q2y;
+         float y = q1s * q2y - q1x * q2z + q1y * q2s + q1z * q2x;
+         float z = q1s * q2z + q1x * q2y - q1y * q2x + q1z * q2s;
+         float s = q1s * q2s - q1x * q2x - q1y * q2y - q1z * q2z;
+         float norm = (float) Math.sqrt(x * x + y * y + z * z + s * s);
+
+         if (norm == 0.0f)
+         {
+            quaternionsToPack[index] = 0.0f;
+            quaternionsToPack[index + 1] = 0.0f;
+            quaternionsToPack[index + 2] = 0.0f;
+            quaternionsToPack[index + 3] = 1.0f;
+         }
+         else
+         {
+            float invNorm = 1.0f / norm;
+            quaternionsToPack[index] = x * invNorm;
+            quaternionsToPack[index + 1] = y * invNorm;
+            quaternionsToPack[index + 2] = z * invNorm;
+            quaternionsToPack[index + 3] = s * invNorm;
+         }
+      }
+   }
+}
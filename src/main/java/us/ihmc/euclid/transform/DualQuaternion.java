@@ -0,0 +1,900 @@
+package us.ihmc.euclid.transform;
+
+import java.util.List;
+
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreFactories;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
+
+/**
+ * A {@code DualQuaternion} represents a rigid-body transform, i.e. a rotation followed by a
+ * translation, as a unit dual quaternion <i>q = r + &epsilon; d</i>.
+ * <p>
+ * The real part <i>r</i> is the unit quaternion describing the rotation, while the dual part
+ * <i>d</i> encodes the translation <i>t</i> as follows:
+ *
+ * <pre>
+ * d = 0.5 * t * r
+ * </pre>
+ *
+ * where <i>t</i> is the pure quaternion (tx, ty, tz, 0).
+ * </p>
+ * <p>
+ * Compared to {@link QuaternionBasedTransform}, composing dual quaternions only requires quaternion
+ * products and interpolating between poses can be done with the screw linear interpolation (ScLERP)
+ * which couples the rotation and translation. Blending many poses, as typically done for skinning,
+ * reduces to a weighted sum followed by a normalization, see
+ * {@link #blend(List, double[])}.
+ * </p>
+ * <p>
+ * A few special cases to keep in mind:
+ * <ul>
+ * <li>when applying this transform on a {@link Point3DBasics} or {@link Point2DBasics}, this object
+ * is rotated, then translated.
+ * <li>when applying this transform on a {@link Vector3DBasics} or {@link Vector2DBasics}, this
+ * object is only rotated. It is NOT translated.
+ * </ul>
+ * </p>
+ */
+public class DualQuaternion implements RigidBodyTransformReadOnly, EpsilonComparable<DualQuaternion>, GeometricallyComparable<DualQuaternion>,
+      Settable<DualQuaternion>
+{
+   /** Tolerance on the sine of the half rotation angle under which a motion is a pure translation. */
+   private static final double EPS_PURE_TRANSLATION = 1.0e-12;
+
+   /** The real part of this dual quaternion, i.e. the rotation part of this transform. */
+   private final Quaternion realPart = new Quaternion();
+   /** The dual part of this dual quaternion. */
+   private final Vector4D dualPart = new Vector4D();
+   /** Read-only view of the translation that is extracted on the fly from the dual part. */
+   private final Vector3DReadOnly translation = EuclidCoreFactories.newLinkedVector3DReadOnly(this::getTranslationX,
+                                                                                               this::getTranslationY,
+                                                                                               this::getTranslationZ);
+
+   /**
+    * Creates a new dual quaternion set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public DualQuaternion()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new dual quaternion and initializes it to {@code other}.
+    *
+    * @param other the other dual quaternion to copy. Not modified.
+    */
+   public DualQuaternion(DualQuaternion other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new dual quaternion and initializes it to the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    */
+   public DualQuaternion(RigidBodyTransformReadOnly rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Creates a new dual quaternion and initializes it to the given orientation and translation.
+    *
+    * @param orientation the orientation used to initialize the real part. Not modified.
+    * @param translation the translation used to initialize the dual part. Not modified.
+    */
+   public DualQuaternion(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      set(orientation, translation);
+   }
+
+   /**
+    * Creates a new dual quaternion given its 8 components.
+    * <p>
+    * The array is expected to be organized as follows: {rx, ry, rz, rs, dx, dy, dz, ds}.
+    * </p>
+    *
+    * @param array the array containing the 8 components. Not modified.
+    */
+   public DualQuaternion(double[] array)
+   {
+      set(array);
+   }
+
+   /**
+    * Resets this dual quaternion to identity, i.e. zero rotation and zero translation.
+    */
+   public void setIdentity()
+   {
+      realPart.setToZero();
+      dualPart.setToZero();
+   }
+
+   /**
+    * Sets all the components of this dual quaternion to {@link Double#NaN}.
+    */
+   public void setToNaN()
+   {
+      realPart.setToNaN();
+      dualPart.setToNaN();
+   }
+
+   /**
+    * Sets the 8 components of this dual quaternion and then normalizes it.
+    *
+    * @param rx the x-component of the real part.
+    * @param ry the y-component of the real part.
+    * @param rz the z-component of the real part.
+    * @param rs the s-component of the real part.
+    * @param dx the x-component of the dual part.
+    * @param dy the y-component of the dual part.
+    * @param dz the z-component of the dual part.
+    * @param ds the s-component of the dual part.
+    */
+   public void set(double rx, double ry, double rz, double rs, double dx, double dy, double dz, double ds)
+   {
+      setUnsafe(rx, ry, rz, rs, dx, dy, dz, ds);
+      normalize();
+   }
+
+   /**
+    * Sets the 8 components of this dual quaternion without normalizing it.
+    * <p>
+    * Prefer using the method {@link #set(double, double, double, double, double, double, double, double)}
+    * as it ensures that this dual quaternion represents a proper rigid-body transform.
+    * </p>
+    *
+    * @param rx the x-component of the real part.
+    * @param ry the y-component of the real part.
+    * @param rz the z-component of the real part.
+    * @param rs the s-component of the real part.
+    * @param dx the x-component of the dual part.
+    * @param dy the y-component of the dual part.
+    * @param dz the z-component of the dual part.
+    * @param ds the s-component of the dual part.
+    */
+   public void setUnsafe(double rx, double ry, double rz, double rs, double dx, double dy, double dz, double ds)
+   {
+      realPart.setUnsafe(rx, ry, rz, rs);
+      dualPart.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Sets this dual quaternion to {@code other}.
+    *
+    * @param other the other dual quaternion to copy. Not modified.
+    */
+   @Override
+   public void set(DualQuaternion other)
+   {
+      realPart.set(other.realPart);
+      dualPart.set(other.dualPart);
+   }
+
+   /**
+    * Sets this dual quaternion to represent the same transform as the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    */
+   public void set(RigidBodyTransformReadOnly rigidBodyTransform)
+   {
+      set(rigidBodyTransform.getRotation(), rigidBodyTransform.getTranslation());
+   }
+
+   /**
+    * Sets this dual quaternion from the given orientation and translation.
+    *
+    * @param orientation the orientation used to set the real part. Not modified.
+    * @param translation the translation used to set the dual part. Not modified.
+    */
+   public void set(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      realPart.set(orientation);
+      setTranslation(translation.getX(), translation.getY(), translation.getZ());
+   }
+
+   /**
+    * Sets the 8 components of this dual quaternion from the given array and normalizes it.
+    * <p>
+    * The array is expected to be organized as follows: {rx, ry, rz, rs, dx, dy, dz, ds}.
+    * </p>
+    *
+    * @param array the array containing the 8 components. Not modified.
+    */
+   public void set(double[] array)
+   {
+      set(array[0], array[1], array[2], array[3], array[4], array[5], array[6], array[7]);
+   }
+
+   /**
+    * Sets the translation of this transform while preserving its rotation.
+    *
+    * @param x the x-component of the translation.
+    * @param y the y-component of the translation.
+    * @param z the z-component of the translation.
+    */
+   public void setTranslation(double x, double y, double z)
+   {
+      double rx = realPart.getX();
+      double ry = realPart.getY();
+      double rz = realPart.getZ();
+      double rs = realPart.getS();
+      // d = 0.5 * (t, 0) * r
+      double dx = 0.5 * (x * rs + y * rz - z * ry);
+      double dy = 0.5 * (-x * rz + y * rs + z * rx);
+      double dz = 0.5 * (x * ry - y * rx + z * rs);
+      double ds = -0.5 * (x * rx + y * ry + z * rz);
+      dualPart.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Sets the rotation of this transform while preserving its translation.
+    *
+    * @param orientation the new rotation. Not modified.
+    */
+   public void setRotation(Orientation3DReadOnly orientation)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      realPart.set(orientation);
+      setTranslation(x, y, z);
+   }
+
+   /**
+    * Normalizes this dual quaternion such that it represents a proper rigid-body transform.
+    * <p>
+    * The real part is normalized to a unit quaternion and the dual part is scaled accordingly and
+    * corrected to be orthogonal to the real part.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if this dual quaternion contains {@link Double#NaN}, this method is ineffective.
+    * <li>if the real part is zero, this dual quaternion is set to identity.
+    * </ul>
+    * </p>
+    */
+   public void normalize()
+   {
+      if (containsNaN())
+         return;
+
+      double rx = realPart.getX();
+      double ry = realPart.getY();
+      double rz = realPart.getZ();
+      double rs = realPart.getS();
+      double dx = dualPart.getX();
+      double dy = dualPart.getY();
+      double dz = dualPart.getZ();
+      double ds = dualPart.getS();
+
+      double invNorm = EuclidCoreTools.norm(rx, ry, rz, rs);
+
+      if (invNorm == 0.0)
+      {
+         setIdentity();
+         return;
+      }
+
+      invNorm = 1.0 / invNorm;
+      rx *= invNorm;
+      ry *= invNorm;
+      rz *= invNorm;
+      rs *= invNorm;
+      dx *= invNorm;
+      dy *= invNorm;
+      dz *= invNorm;
+      ds *= invNorm;
+
+      double dot = rx * dx + ry * dy + rz * dz + rs * ds;
+      dx -= dot * rx;
+      dy -= dot * ry;
+      dz -= dot * rz;
+      ds -= dot * rs;
+
+      realPart.setUnsafe(rx, ry, rz, rs);
+      dualPart.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Conjugates this dual quaternion, i.e. conjugates both its real and dual parts.
+    * <p>
+    * For a unit dual quaternion, this is equivalent to inverting the transform.
+    * </p>
+    */
+   public void conjugate()
+   {
+      realPart.conjugate();
+      dualPart.set(-dualPart.getX(), -dualPart.getY(), -dualPart.getZ(), dualPart.getS());
+   }
+
+   /**
+    * Inverts this transform.
+    */
+   public void invert()
+   {
+      conjugate();
+   }
+
+   /**
+    * Sets this dual quaternion to {@code other} and then inverts it.
+    *
+    * @param other the other dual quaternion to copy. Not modified.
+    */
+   public void setAndInvert(DualQuaternion other)
+   {
+      set(other);
+      invert();
+   }
+
+   /**
+    * Negates all the components of this dual quaternion.
+    * <p>
+    * The resulting dual quaternion represents the same transform.
+    * </p>
+    */
+   public void negate()
+   {
+      realPart.setUnsafe(-realPart.getX(), -realPart.getY(), -realPart.getZ(), -realPart.getS());
+      dualPart.negate();
+   }
+
+   /**
+    * Multiplies this dual quaternion by {@code other}.
+    * <p>
+    * this = this * other
+    * </p>
+    * <p>
+    * The resulting transform is equivalent to first applying {@code other} and then this.
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void multiply(DualQuaternion other)
+   {
+      multiply(this, other);
+   }
+
+   /**
+    * Pre-multiplies this dual quaternion by {@code other}.
+    * <p>
+    * this = other * this
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiply(DualQuaternion other)
+   {
+      multiply(other, this);
+   }
+
+   /**
+    * Sets this dual quaternion to the product of {@code dq1} and {@code dq2}.
+    * <p>
+    * this = dq1 * dq2
+    * </p>
+    * <p>
+    * This method is safe to use when either argument is this.
+    * </p>
+    *
+    * @param dq1 the first dual quaternion in the multiplication. Not modified.
+    * @param dq2 the second dual quaternion in the multiplication. Not modified.
+    */
+   public void multiply(DualQuaternion dq1, DualQuaternion dq2)
+   {
+      double r1x = dq1.realPart.getX(), r1y = dq1.realPart.getY(), r1z = dq1.realPart.getZ(), r1s = dq1.realPart.getS();
+      double d1x = dq1.dualPart.getX(), d1y = dq1.dualPart.getY(), d1z = dq1.dualPart.getZ(), d1s = dq1.dualPart.getS();
+      double r2x = dq2.realPart.getX(), r2y = dq2.realPart.getY(), r2z = dq2.realPart.getZ(), r2s = dq2.realPart.getS();
+      double d2x = dq2.dualPart.getX(), d2y = dq2.dualPart.getY(), d2z = dq2.dualPart.getZ(), d2s = dq2.dualPart.getS();
+
+      // real = r1 * r2
+      double rx = r1s * r2x + r1x * r2s + r1y * r2z - r1z * r2y;
+      double ry = r1s * r2y - r1x * r2z + r1y * r2s + r1z * r2x;
+      double rz = r1s * r2z + r1x * r2y - r1y * r2x + r1z * r2s;
+      double rs = r1s * r2s - r1x * r2x - r1y * r2y - r1z * r2z;
+
+      // dual = r1 * d2 + d1 * r2
+      double dx = r1s * d2x + r1x * d2s + r1y * d2z - r1z * d2y;
+      double dy = r1s * d2y - r1x * d2z + r1y * d2s + r1z * d2x;
+      double dz = r1s * d2z + r1x * d2y - r1y * d2x + r1z * d2s;
+      double ds = r1s * d2s - r1x * d2x - r1y * d2y - r1z * d2z;
+      dx += d1s * r2x + d1x * r2s + d1y * r2z - d1z * r2y;
+      dy += d1s * r2y - d1x * r2z + d1y * r2s + d1z * r2x;
+      dz += d1s * r2z + d1x * r2y - d1y * r2x + d1z * r2s;
+      ds += d1s * r2s - d1x * r2x - d1y * r2y - d1z * r2z;
+
+      realPart.setUnsafe(rx, ry, rz, rs);
+      dualPart.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Performs a screw linear interpolation (ScLERP) from this to {@code other} given the percentage
+    * {@code alpha}.
+    * <p>
+    * The interpolated transform follows the constant screw motion that brings this to {@code other},
+    * coupling the rotation and the translation.
+    * </p>
+    *
+    * @param other the other dual quaternion used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *              this dual quaternion, while a value of 1 is equivalent to setting this to
+    *              {@code other}.
+    */
+   public void interpolate(DualQuaternion other, double alpha)
+   {
+      interpolate(this, other, alpha);
+   }
+
+   /**
+    * Performs a screw linear interpolation (ScLERP) from {@code dq0} to {@code dqf} given the
+    * percentage {@code alpha}.
+    * <p>
+    * this = dq0 * (dq0<sup>-1</sup> * dqf)<sup>alpha</sup>
+    * </p>
+    * <p>
+    * The shortest path is always used.
+    * </p>
+    *
+    * @param dq0   the first dual quaternion used in the interpolation. Not modified.
+    * @param dqf   the second dual quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *              this to {@code dq0}, while a value of 1 is equivalent to setting this to
+    *              {@code dqf}.
+    */
+   public void interpolate(DualQuaternion dq0, DualQuaternion dqf, double alpha)
+   {
+      double r0x = dq0.realPart.getX(), r0y = dq0.realPart.getY(), r0z = dq0.realPart.getZ(), r0s = dq0.realPart.getS();
+      double d0x = dq0.dualPart.getX(), d0y = dq0.dualPart.getY(), d0z = dq0.dualPart.getZ(), d0s = dq0.dualPart.getS();
+      double rfx = dqf.realPart.getX(), rfy = dqf.realPart.getY(), rfz = dqf.realPart.getZ(), rfs = dqf.realPart.getS();
+      double dfx = dqf.dualPart.getX(), dfy = dqf.dualPart.getY(), dfz = dqf.dualPart.getZ(), dfs = dqf.dualPart.getS();
+
+      // diff = conj(dq0) * dqf, real = conj(r0) * rf, dual = conj(r0) * df + conj(d0) * rf
+      double rx = r0s * rfx - r0x * rfs - r0y * rfz + r0z * rfy;
+      double ry = r0s * rfy + r0x * rfz - r0y * rfs - r0z * rfx;
+      double rz = r0s * rfz - r0x * rfy + r0y * rfx - r0z * rfs;
+      double rs = r0s * rfs + r0x * rfx + r0y * rfy + r0z * rfz;
+      double dx = r0s * dfx - r0x * dfs - r0y * dfz + r0z * dfy;
+      double dy = r0s * dfy + r0x * dfz - r0y * dfs - r0z * dfx;
+      double dz = r0s * dfz - r0x * dfy + r0y * dfx - r0z * dfs;
+      double ds = r0s * dfs + r0x * dfx + r0y * dfy + r0z * dfz;
+      dx += d0s * rfx - d0x * rfs - d0y * rfz + d0z * rfy;
+      dy += d0s * rfy + d0x * rfz - d0y * rfs - d0z * rfx;
+      dz += d0s * rfz - d0x * rfy + d0y * rfx - d0z * rfs;
+      ds += d0s * rfs + d0x * rfx + d0y * rfy + d0z * rfz;
+
+      if (rs < 0.0)
+      { // Ensures the shortest path is used.
+         rx = -rx;
+         ry = -ry;
+         rz = -rz;
+         rs = -rs;
+         dx = -dx;
+         dy = -dy;
+         dz = -dz;
+         ds = -ds;
+      }
+
+      double sinHalfAngle = EuclidCoreTools.norm(rx, ry, rz);
+
+      if (sinHalfAngle < EPS_PURE_TRANSLATION)
+      { // Pure translation, the screw axis is undefined and the motion is a linear interpolation of the translation.
+         rx = alpha * rx;
+         ry = alpha * ry;
+         rz = alpha * rz;
+         rs = 1.0;
+         dx = alpha * dx;
+         dy = alpha * dy;
+         dz = alpha * dz;
+         ds = alpha * ds;
+      }
+      else
+      {
+         double halfAngle = EuclidCoreTools.atan2(sinHalfAngle, rs);
+         double invSin = 1.0 / sinHalfAngle;
+         // Screw axis
+         double lx = rx * invSin;
+         double ly = ry * invSin;
+         double lz = rz * invSin;
+         // Translation along the screw axis
+         double pitch = -2.0 * ds * invSin;
+         // Moment of the screw axis
+         double halfPitchCos = 0.5 * pitch * rs;
+         double mx = (dx - halfPitchCos * lx) * invSin;
+         double my = (dy - halfPitchCos * ly) * invSin;
+         double mz = (dz - halfPitchCos * lz) * invSin;
+
+         halfAngle *= alpha;
+         pitch *= alpha;
+         double sin = EuclidCoreTools.sin(halfAngle);
+         double cos = EuclidCoreTools.cos(halfAngle);
+         double halfPitch = 0.5 * pitch;
+
+         rx = lx * sin;
+         ry = ly * sin;
+         rz = lz * sin;
+         rs = cos;
+         dx = mx * sin + halfPitch * cos * lx;
+         dy = my * sin + halfPitch * cos * ly;
+         dz = mz * sin + halfPitch * cos * lz;
+         ds = -halfPitch * sin;
+      }
+
+      // this = dq0 * diff^alpha
+      double r0xNew = r0s * rx + r0x * rs + r0y * rz - r0z * ry;
+      double r0yNew = r0s * ry - r0x * rz + r0y * rs + r0z * rx;
+      double r0zNew = r0s * rz + r0x * ry - r0y * rx + r0z * rs;
+      double r0sNew = r0s * rs - r0x * rx - r0y * ry - r0z * rz;
+      double d0xNew = r0s * dx + r0x * ds + r0y * dz - r0z * dy;
+      double d0yNew = r0s * dy - r0x * dz + r0y * ds + r0z * dx;
+      double d0zNew = r0s * dz + r0x * dy - r0y * dx + r0z * ds;
+      double d0sNew = r0s * ds - r0x * dx - r0y * dy - r0z * dz;
+      d0xNew += d0s * rx + d0x * rs + d0y * rz - d0z * ry;
+      d0yNew += d0s * ry - d0x * rz + d0y * rs + d0z * rx;
+      d0zNew += d0s * rz + d0x * ry - d0y * rx + d0z * rs;
+      d0sNew += d0s * rs - d0x * rx - d0y * ry - d0z * rz;
+
+      set(r0xNew, r0yNew, r0zNew, r0sNew, d0xNew, d0yNew, d0zNew, d0sNew);
+   }
+
+   /**
+    * Performs a dual quaternion linear blending (DLB) between {@code dq0} and {@code dqf}.
+    * <p>
+    * this = normalize((1 - alpha) * dq0 + alpha * dqf)
+    * </p>
+    * <p>
+    * This is a cheaper approximation of {@link #interpolate(DualQuaternion, DualQuaternion, double)}
+    * that preserves the rigidity of the transform but does not have a constant speed.
+    * </p>
+    *
+    * @param dq0   the first dual quaternion used in the blending. Not modified.
+    * @param dqf   the second dual quaternion used in the blending. Not modified.
+    * @param alpha the percentage to use for the blending.
+    */
+   public void interpolateLinear(DualQuaternion dq0, DualQuaternion dqf, double alpha)
+   {
+      double w0 = 1.0 - alpha;
+      double wf = dq0.realPart.dot(dqf.realPart) < 0.0 ? -alpha : alpha;
+      set(w0 * dq0.realPart.getX() + wf * dqf.realPart.getX(),
+          w0 * dq0.realPart.getY() + wf * dqf.realPart.getY(),
+          w0 * dq0.realPart.getZ() + wf * dqf.realPart.getZ(),
+          w0 * dq0.realPart.getS() + wf * dqf.realPart.getS(),
+          w0 * dq0.dualPart.getX() + wf * dqf.dualPart.getX(),
+          w0 * dq0.dualPart.getY() + wf * dqf.dualPart.getY(),
+          w0 * dq0.dualPart.getZ() + wf * dqf.dualPart.getZ(),
+          w0 * dq0.dualPart.getS() + wf * dqf.dualPart.getS());
+   }
+
+   /**
+    * Performs a dual quaternion linear blending (DLB) of the given dual quaternions and stores the
+    * result in this.
+    * <p>
+    * this = normalize(&sum; weights[i] * dualQuaternions[i])
+    * </p>
+    * <p>
+    * Each dual quaternion is flipped, if necessary, to be in the same hemisphere as the first one to
+    * ensure the shortest path is used. The weights do not need to sum up to 1.
+    * </p>
+    *
+    * @param dualQuaternions the dual quaternions to blend. Not modified.
+    * @param weights         the weight associated to each dual quaternion. Not modified.
+    */
+   public void blend(List<? extends DualQuaternion> dualQuaternions, double[] weights)
+   {
+      if (dualQuaternions.isEmpty())
+      {
+         setIdentity();
+         return;
+      }
+
+      QuaternionReadOnly pivot = dualQuaternions.get(0).getRealPart();
+      double rx = 0.0, ry = 0.0, rz = 0.0, rs = 0.0;
+      double dx = 0.0, dy = 0.0, dz = 0.0, ds = 0.0;
+
+      for (int i = 0; i < dualQuaternions.size(); i++)
+      {
+         DualQuaternion dq = dualQuaternions.get(i);
+         double w = weights[i];
+         if (pivot.dot(dq.realPart) < 0.0)
+            w = -w;
+
+         rx += w * dq.realPart.getX();
+         ry += w * dq.realPart.getY();
+         rz += w * dq.realPart.getZ();
+         rs += w * dq.realPart.getS();
+         dx += w * dq.dualPart.getX();
+         dy += w * dq.dualPart.getY();
+         dz += w * dq.dualPart.getZ();
+         ds += w * dq.dualPart.getS();
+      }
+
+      set(rx, ry, rz, rs, dx, dy, dz, ds);
+   }
+
+   /**
+    * Transforms a batch of points stored in an array as {x0, y0, z0, x1, y1, z1, ...}.
+    * <p>
+    * The rotation matrix and translation are computed once and applied to each point, making this
+    * method significantly faster than transforming each point individually.
+    * </p>
+    * <p>
+    * The two arrays can be the same instance.
+    * </p>
+    *
+    * @param pointsOriginal    the array containing the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param numberOfPoints    the number of points to transform.
+    */
+   public void transformPoints(double[] pointsOriginal, double[] pointsTransformed, int numberOfPoints)
+   {
+      double qx = realPart.getX();
+      double qy = realPart.getY();
+      double qz = realPart.getZ();
+      double qs = realPart.getS();
+
+      double yy2 = 2.0 * qy * qy;
+      double zz2 = 2.0 * qz * qz;
+      double xx2 = 2.0 * qx * qx;
+      double xy2 = 2.0 * qx * qy;
+      double sz2 = 2.0 * qs * qz;
+      double xz2 = 2.0 * qx * qz;
+      double sy2 = 2.0 * qs * qy;
+      double yz2 = 2.0 * qy * qz;
+      double sx2 = 2.0 * qs * qx;
+
+      double m00 = 1.0 - yy2 - zz2;
+      double m01 = xy2 - sz2;
+      double m02 = xz2 + sy2;
+      double m10 = xy2 + sz2;
+      double m11 = 1.0 - xx2 - zz2;
+      double m12 = yz2 - sx2;
+      double m20 = xz2 - sy2;
+      double m21 = yz2 + sx2;
+      double m22 = 1.0 - xx2 - yy2;
+
+      double tx = getTranslationX();
+      double ty = getTranslationY();
+      double tz = getTranslationZ();
+
+      for (int i = 0, index = 0; i < numberOfPoints; i++, index += 3)
+      {
+         double x = pointsOriginal[index];
+         double y = pointsOriginal[index + 1];
+         double z = pointsOriginal[index + 2];
+         pointsTransformed[index] = m00 * x + m01 * y + m02 * z + tx;
+         pointsTransformed[index + 1] = m10 * x + m11 * y + m12 * z + ty;
+         pointsTransformed[index + 2] = m20 * x + m21 * y + m22 * z + tz;
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      double tx = getTranslationX();
+      double ty = getTranslationY();
+      double tz = getTranslationZ();
+      realPart.transform(pointOriginal, pointTransformed);
+      pointTransformed.add(tx, ty, tz);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      pointTransformed.set(pointOriginal.getX() - getTranslationX(), pointOriginal.getY() - getTranslationY(), pointOriginal.getZ() - getTranslationZ());
+      realPart.inverseTransform(pointTransformed);
+   }
+
+   /**
+    * Packs this transform into the given rigid-body transform.
+    *
+    * @param transformToPack the rigid-body transform in which this is stored. Modified.
+    */
+   public void get(RigidBodyTransformBasics transformToPack)
+   {
+      transformToPack.set(realPart, translation);
+   }
+
+   /**
+    * Packs the 8 components of this dual quaternion in the given array as follows: {rx, ry, rz, rs,
+    * dx, dy, dz, ds}.
+    *
+    * @param arrayToPack the array in which the components are stored. Modified.
+    */
+   public void get(double[] arrayToPack)
+   {
+      realPart.get(arrayToPack);
+      dualPart.get(4, arrayToPack);
+   }
+
+   /**
+    * Gets the read-only reference to the real part of this dual quaternion.
+    *
+    * @return the real part.
+    */
+   public QuaternionReadOnly getRealPart()
+   {
+      return realPart;
+   }
+
+   /**
+    * Gets the read-only reference to the dual part of this dual quaternion.
+    *
+    * @return the dual part.
+    */
+   public Vector4DReadOnly getDualPart()
+   {
+      return dualPart;
+   }
+
+   /**
+    * Gets the read-only reference to the rotation part of this transform, i.e. the real part.
+    *
+    * @return the rotation part of this transform.
+    */
+   @Override
+   public QuaternionReadOnly getRotation()
+   {
+      return realPart;
+   }
+
+   /**
+    * Gets a read-only view of the translation part of this transform.
+    * <p>
+    * The translation is not stored, it is computed from the dual part every time one of its
+    * components is accessed.
+    * </p>
+    *
+    * @return the translation part of this transform.
+    */
+   @Override
+   public Vector3DReadOnly getTranslation()
+   {
+      return translation;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getTranslationX()
+   {
+      // t = 2 * d * conj(r)
+      return 2.0 * (-dualPart.getS() * realPart.getX() + dualPart.getX() * realPart.getS() - dualPart.getY() * realPart.getZ()
+            + dualPart.getZ() * realPart.getY());
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getTranslationY()
+   {
+      return 2.0 * (-dualPart.getS() * realPart.getY() + dualPart.getX() * realPart.getZ() + dualPart.getY() * realPart.getS()
+            - dualPart.getZ() * realPart.getX());
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getTranslationZ()
+   {
+      return 2.0 * (-dualPart.getS() * realPart.getZ() - dualPart.getX() * realPart.getY() + dualPart.getY() * realPart.getX()
+            + dualPart.getZ() * realPart.getS());
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public boolean containsNaN()
+   {
+      return realPart.containsNaN() || dualPart.containsNaN();
+   }
+
+   /**
+    * Tests on a per component basis if the real and dual parts of this dual quaternion and
+    * {@code other} are equal to an {@code epsilon}.
+    *
+    * @param other   the other dual quaternion to compare against this. Not modified.
+    * @param epsilon the tolerance to use for the comparison.
+    * @return {@code true} if the two dual quaternions are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(DualQuaternion other, double epsilon)
+   {
+      return realPart.epsilonEquals(other.realPart, epsilon) && dualPart.epsilonEquals(other.dualPart, epsilon);
+   }
+
+   /**
+    * Two dual quaternions are considered geometrically equal if they represent the same rotation
+    * and the same translation.
+    * <p>
+    * Note that a dual quaternion and its negated counterpart are geometrically equal.
+    * </p>
+    *
+    * @param other   the other dual quaternion to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing the rotation and translation parts.
+    * @return {@code true} if the two dual quaternions represent the same transform, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(DualQuaternion other, double epsilon)
+   {
+      return realPart.geometricallyEquals(other.realPart, epsilon) && translation.geometricallyEquals(other.translation, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(DualQuaternion)}, it returns {@code false} otherwise or if the {@code object} is
+    * {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof DualQuaternion)
+         return equals((DualQuaternion) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if the real and dual parts of this dual quaternion and
+    * {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given dual quaternion is {@code null}.
+    * </p>
+    *
+    * @param other the other dual quaternion to compare against this. Not modified.
+    * @return {@code true} if the two dual quaternions are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(DualQuaternion other)
+   {
+      if (other == this)
+         return true;
+      else if (other == null)
+         return false;
+      else
+         return realPart.equals(other.realPart) && dualPart.equals(other.dualPart);
+   }
+
+   /**
+    * Provides a {@code String} representation of this dual quaternion as follows: <br>
+    * Real part: (rx, ry, rz, rs) <br>
+    * Dual part: (dx, dy, dz, ds)
+    *
+    * @return the {@code String} representing this dual quaternion.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getDualQuaternionString(this);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = EuclidHashCodeTools.addToHashCode(realPart.hashCode(), dualPart.hashCode());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
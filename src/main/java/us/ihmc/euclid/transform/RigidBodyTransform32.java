@@ -0,0 +1,550 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tools.Tuple32Tools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
+import us.ihmc.euclid.tuple3D.Point3D32;
+import us.ihmc.euclid.tuple3D.Vector3D32;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple4D.Quaternion32;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+
+/**
+ * A {@code RigidBodyTransform32} represents a 4-by-4 transformation matrix that can rotate and
+ * translate.
+ * <p>
+ * This version of rigid-body transform uses single precision fields to save the value of each
+ * component. The rotation part is stored as a {@link Quaternion32} and the translation part as a
+ * {@link Vector3D32}. It is meant to be used with the other single precision types, e.g.
+ * {@link Point3D32} and {@link Vector3D32}, for which this class provides transform methods that
+ * operate entirely in single precision, and with point clouds stored in {@code float} arrays, see
+ * {@link #transformPoints(float[], float[], int)}. When memory is not a constraint, the use of
+ * {@link RigidBodyTransform} is preferable.
+ * </p>
+ * <p>
+ * A few special cases to keep in mind:
+ * <ul>
+ * <li>when applying this transform on a {@link Point3DBasics} or {@link Point2DBasics}, this object
+ * is rotated, then translated.
+ * <li>when applying this transform on a {@link Vector3DBasics} or {@link Vector2DBasics}, this
+ * object is only rotated. It is NOT translated.
+ * </ul>
+ * </p>
+ */
+public class RigidBodyTransform32
+      implements RigidBodyTransformBasics, EpsilonComparable<RigidBodyTransform32>, GeometricallyComparable<RigidBodyTransform32>, Settable<RigidBodyTransform32>
+{
+   /** The rotation part of this transform. */
+   private final Quaternion32 quaternion = new Quaternion32();
+   /** The translation part of this transform. */
+   private final Vector3D32 translationVector = new Vector3D32();
+
+   /**
+    * Creates a new transform set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public RigidBodyTransform32()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new transform and initializes to the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    */
+   public RigidBodyTransform32(RigidBodyTransformReadOnly rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Creates a new transform given the value of its 7 components (4 components for quaternion and 3
+    * for the translation).
+    *
+    * @param array the array containing the values of the 7 components of this transform, ordered as
+    *              {@code qx, qy, qz, qs, tx, ty, tz}. Not modified.
+    * @see #set(float[])
+    */
+   public RigidBodyTransform32(float[] array)
+   {
+      set(array);
+   }
+
+   /**
+    * Creates a new transform and initializes it to the given orientation and translation.
+    *
+    * @param orientation the orientation used to initialize the quaternion of this transform. Not
+    *                    modified.
+    * @param translation the tuple used to initialize the translation part of this transform. Not
+    *                    modified.
+    */
+   public RigidBodyTransform32(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      set(orientation, translation);
+   }
+
+   /**
+    * Resets this transform to represent a zero rotation and zero translation.
+    * <p>
+    * When set to zero, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      quaternion.setToZero();
+      translationVector.setToZero();
+   }
+
+   /**
+    * Sets the 7 components of this transform.
+    * <p>
+    * The quaternion part will be normalized.
+    * </p>
+    *
+    * @param qx the x-component of the quaternion's vector part.
+    * @param qy the y-component of the quaternion's vector part.
+    * @param qz the z-component of the quaternion's vector part.
+    * @param qs the scalar component of the quaternion.
+    * @param x  the x-component of the translation.
+    * @param y  the y-component of the translation.
+    * @param z  the z-component of the translation.
+    */
+   public void set(float qx, float qy, float qz, float qs, float x, float y, float z)
+   {
+      quaternion.set(qx, qy, qz, qs);
+      translationVector.set(x, y, z);
+   }
+
+   /**
+    * Sets this transform to the given {@code other}.
+    *
+    * @param other the other transform. Not modified.
+    */
+   @Override
+   public void set(RigidBodyTransform32 other)
+   {
+      quaternion.set(other.quaternion);
+      translationVector.set(other.translationVector);
+   }
+
+   /**
+    * Sets the value of this transform's 7 components.
+    * <p>
+    * The array is expected to be ordered as {@code qx, qy, qz, qs, tx, ty, tz}. The quaternion part
+    * will be normalized.
+    * </p>
+    *
+    * @param array the array containing the values of the 7 components of this transform. Not modified.
+    */
+   public void set(float[] array)
+   {
+      quaternion.set(array);
+      translationVector.set(4, array);
+   }
+
+   /**
+    * Packs this transform in an array ordered as {@code qx, qy, qz, qs, tx, ty, tz}.
+    *
+    * @param transformArrayToPack the array in which this transform is packed. Modified.
+    */
+   public void get(float[] transformArrayToPack)
+   {
+      quaternion.get(transformArrayToPack);
+      translationVector.get(4, transformArrayToPack);
+   }
+
+   /**
+    * Multiplies this transform by {@code other}, performing the computation in single precision.
+    * <p>
+    * this = this * other
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void multiply(RigidBodyTransform32 other)
+   {
+      float q1x = quaternion.getX32();
+      float q1y = quaternion.getY32();
+      float q1z = quaternion.getZ32();
+      float q1s = quaternion.getS32();
+      float q2x = other.quaternion.getX32();
+      float q2y = other.quaternion.getY32();
+      float q2z = other.quaternion.getZ32();
+      float q2s = other.quaternion.getS32();
+
+      // Translation: t = t1 + R1 t2
+      float t2x = other.translationVector.getX32();
+      float t2y = other.translationVector.getY32();
+      float t2z = other.translationVector.getZ32();
+      float cx = 2.0f * (q1y * t2z - q1z * t2y);
+      float cy = 2.0f * (q1z * t2x - q1x * t2z);
+      float cz = 2.0f * (q1x * t2y - q1y * t2x);
+      translationVector.setX(translationVector.getX32() + t2x + q1s * cx + q1y * cz - q1z * cy);
+      translationVector.setY(translationVector.getY32() + t2y + q1s * cy + q1z * cx - q1x * cz);
+      translationVector.setZ(translationVector.getZ32() + t2z + q1s * cz + q1x * cy - q1y * cx);
+
+      // Rotation: q = q1 q2
+      float x = q1s * q2x + q1x * q2s + q1y * q2z - q1z * q2y;
+      float y = q1s * q2y - q1x * q2z + q1y * q2s + q1z * q2x;
+      float z = q1s * q2z + q1x * q2y - q1y * q2x + q1z * q2s;
+      float s = q1s * q2s - q1x * q2x - q1y * q2y - q1z * q2z;
+      Tuple32Tools.setAndNormalize(x, y, z, s, quaternion);
+   }
+
+   /**
+    * Transforms the given point, performing the computation in single precision.
+    *
+    * @param pointToTransform the point to transform. Modified.
+    */
+   public void transform(Point3D32 pointToTransform)
+   {
+      transform(pointToTransform, pointToTransform);
+   }
+
+   /**
+    * Transforms the given point, performing the computation in single precision.
+    *
+    * @param pointOriginal    the point to transform. Not modified.
+    * @param pointTransformed the point in which the result is stored. Modified.
+    */
+   public void transform(Point3D32 pointOriginal, Point3D32 pointTransformed)
+   {
+      rotate(pointOriginal.getX32(), pointOriginal.getY32(), pointOriginal.getZ32(), false, pointTransformed);
+      pointTransformed.setX(pointTransformed.getX32() + translationVector.getX32());
+      pointTransformed.setY(pointTransformed.getY32() + translationVector.getY32());
+      pointTransformed.setZ(pointTransformed.getZ32() + translationVector.getZ32());
+   }
+
+   /**
+    * Rotates the given vector, performing the computation in single precision.
+    *
+    * @param vectorToTransform the vector to transform. Modified.
+    */
+   public void transform(Vector3D32 vectorToTransform)
+   {
+      transform(vectorToTransform, vectorToTransform);
+   }
+
+   /**
+    * Rotates the given vector, performing the computation in single precision.
+    *
+    * @param vectorOriginal    the vector to transform. Not modified.
+    * @param vectorTransformed the vector in which the result is stored. Modified.
+    */
+   public void transform(Vector3D32 vectorOriginal, Vector3D32 vectorTransformed)
+   {
+      float x = vectorOriginal.getX32();
+      float y = vectorOriginal.getY32();
+      float z = vectorOriginal.getZ32();
+      rotate(x, y, z, false, vectorTransformed);
+   }
+
+   /**
+    * Performs the inverse of the transform on the given point, performing the computation in single
+    * precision.
+    *
+    * @param pointToTransform the point to transform. Modified.
+    */
+   public void inverseTransform(Point3D32 pointToTransform)
+   {
+      inverseTransform(pointToTransform, pointToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on the given point, performing the computation in single
+    * precision.
+    *
+    * @param pointOriginal    the point to transform. Not modified.
+    * @param pointTransformed the point in which the result is stored. Modified.
+    */
+   public void inverseTransform(Point3D32 pointOriginal, Point3D32 pointTransformed)
+   {
+      float x = pointOriginal.getX32() - translationVector.getX32();
+      float y = pointOriginal.getY32() - translationVector.getY32();
+      float z = pointOriginal.getZ32() - translationVector.getZ32();
+      rotate(x, y, z, true, pointTransformed);
+   }
+
+   /**
+    * Performs the inverse of the transform on the given vector, performing the computation in single
+    * precision.
+    *
+    * @param vectorToTransform the vector to transform. Modified.
+    */
+   public void inverseTransform(Vector3D32 vectorToTransform)
+   {
+      inverseTransform(vectorToTransform, vectorToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on the given vector, performing the computation in single
+    * precision.
+    *
+    * @param vectorOriginal    the vector to transform. Not modified.
+    * @param vectorTransformed the vector in which the result is stored. Modified.
+    */
+   public void inverseTransform(Vector3D32 vectorOriginal, Vector3D32 vectorTransformed)
+   {
+      float x = vectorOriginal.getX32();
+      float y = vectorOriginal.getY32();
+      float z = vectorOriginal.getZ32();
+      rotate(x, y, z, true, vectorTransformed);
+   }
+
+   private void rotate(float x, float y, float z, boolean conjugate, Tuple3DBasics result)
+   {
+      float qx = quaternion.getX32();
+      float qy = quaternion.getY32();
+      float qz = quaternion.getZ32();
+      float qs = conjugate ? -quaternion.getS32() : quaternion.getS32();
+
+      // v' = v + 2 s (q x v) + 2 q x (q x v), the float to double widening is exact.
+      float cx = 2.0f * (qy * z - qz * y);
+      float cy = 2.0f * (qz * x - qx * z);
+      float cz = 2.0f * (qx * y - qy * x);
+      result.set(x + qs * cx + qy * cz - qz * cy, y + qs * cy + qz * cx - qx * cz, z + qs * cz + qx * cy - qy * cx);
+   }
+
+   /**
+    * Transforms a batch of points stored in an array as {x0, y0, z0, x1, y1, z1, ...}.
+    * <p>
+    * The rotation matrix is computed once and applied to each point, all the computation is performed
+    * in single precision.
+    * </p>
+    * <p>
+    * The two arrays can be the same instance.
+    * </p>
+    *
+    * @param pointsOriginal    the array containing the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param numberOfPoints    the number of points to transform.
+    */
+   public void transformPoints(float[] pointsOriginal, float[] pointsTransformed, int numberOfPoints)
+   {
+      transformBatch(pointsOriginal, pointsTransformed, numberOfPoints, true);
+   }
+
+   /**
+    * Rotates a batch of vectors stored in an array as {x0, y0, z0, x1, y1, z1, ...}.
+    * <p>
+    * The rotation matrix is computed once and applied to each vector, all the computation is
+    * performed in single precision.
+    * </p>
+    * <p>
+    * The two arrays can be the same instance.
+    * </p>
+    *
+    * @param vectorsOriginal    the array containing the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    * @param numberOfVectors    the number of vectors to transform.
+    */
+   public void transformVectors(float[] vectorsOriginal, float[] vectorsTransformed, int numberOfVectors)
+   {
+      transformBatch(vectorsOriginal, vectorsTransformed, numberOfVectors, false);
+   }
+
+   /**
+    * Performs the inverse of this transform on a batch of points stored in an array as {x0, y0, z0,
+    * x1, y1, z1, ...}.
+    * <p>
+    * The two arrays can be the same instance.
+    * </p>
+    *
+    * @param pointsOriginal    the array containing the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param numberOfPoints    the number of points to transform.
+    */
+   public void inverseTransformPoints(float[] pointsOriginal, float[] pointsTransformed, int numberOfPoints)
+   {
+      float qx = quaternion.getX32();
+      float qy = quaternion.getY32();
+      float qz = quaternion.getZ32();
+      float qs = quaternion.getS32();
+
+      float yy2 = 2.0f * qy * qy;
+      float zz2 = 2.0f * qz * qz;
+      float xx2 = 2.0f * qx * qx;
+      float xy2 = 2.0f * qx * qy;
+      float sz2 = 2.0f * qs * qz;
+      float xz2 = 2.0f * qx * qz;
+      float sy2 = 2.0f * qs * qy;
+      float yz2 = 2.0f * qy * qz;
+      float sx2 = 2.0f * qs * qx;
+
+      // Transpose of the rotation matrix.
+      float m00 = 1.0f - yy2 - zz2;
+      float m01 = xy2 + sz2;
+      float m02 = xz2 - sy2;
+      float m10 = xy2 - sz2;
+      float m11 = 1.0f - xx2 - zz2;
+      float m12 = yz2 + sx2;
+      float m20 = xz2 + sy2;
+      float m21 = yz2 - sx2;
+      float m22 = 1.0f - xx2 - yy2;
+
+      float tx = translationVector.getX32();
+      float ty = translationVector.getY32();
+      float tz = translationVector.getZ32();
+
+      for (int i = 0, index = 0; i < numberOfPoints; i++, index += 3)
+      {
+         float x = pointsOriginal[index] - tx;
+         float y = pointsOriginal[index + 1] - ty;
+         float z = pointsOriginal[index + 2] - tz;
+         pointsTransformed[index] = m00 * x + m01 * y + m02 * z;
+         pointsTransformed[index + 1] = m10 * x + m11 * y + m12 * z;
+         pointsTransformed[index + 2] = m20 * x + m21 * y + m22 * z;
+      }
+   }
+
+   private void transformBatch(float[] original, float[] transformed, int count, boolean translate)
+   {
+      float qx = quaternion.getX32();
+      float qy = quaternion.getY32();
+      float qz = quaternion.getZ32();
+      float qs = quaternion.getS32();
+
+      float yy2 = 2.0f * qy * qy;
+      float zz2 = 2.0f * qz * qz;
+      float xx2 = 2.0f * qx * qx;
+      float xy2 = 2.0f * qx * qy;
+      float sz2 = 2.0f * qs * qz;
+      float xz2 = 2.0f * qx * qz;
+      float sy2 = 2.0f * qs * qy;
+      float yz2 = 2.0f * qy * qz;
+      float sx2 = 2.0f * qs * qx;
+
+      float m00 = 1.0f - yy2 - zz2;
+      float m01 = xy2 - sz2;
+      float m02 = xz2 + sy2;
+      float m10 = xy2 + sz2;
+      float m11 = 1.0f - xx2 - zz2;
+      float m12 = yz2 - sx2;
+      float m20 = xz2 - sy2;
+      float m21 = yz2 + sx2;
+      float m22 = 1.0f - xx2 - yy2;
+
+      float tx = translate ? translationVector.getX32() : 0.0f;
+      float ty = translate ? translationVector.getY32() : 0.0f;
+      float tz = translate ? translationVector.getZ32() : 0.0f;
+
+      for (int i = 0, index = 0; i < count; i++, index += 3)
+      {
+         float x = original[index];
+         float y = original[index + 1];
+         float z = original[index + 2];
+         transformed[index] = m00 * x + m01 * y + m02 * z + tx;
+         transformed[index + 1] = m10 * x + m11 * y + m12 * z + ty;
+         transformed[index + 2] = m20 * x + m21 * y + m22 * z + tz;
+      }
+   }
+
+   @Override
+   public QuaternionBasics getRotation()
+   {
+      return quaternion;
+   }
+
+   @Override
+   public Vector3DBasics getTranslation()
+   {
+      return translationVector;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are equal to an {@code epsilon}.
+    *
+    * @param other the other transform to compare against this. Not modified.
+    */
+   @Override
+   public boolean epsilonEquals(RigidBodyTransform32 other, double epsilon)
+   {
+      return quaternion.epsilonEquals(other.quaternion, epsilon) && translationVector.epsilonEquals(other.translationVector, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(RigidBodyTransform32)}, it returns {@code false} otherwise or if the
+    * {@code object} is {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof RigidBodyTransform32)
+         return equals((RigidBodyTransform32) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the rotation part and the translation part of
+    * this transform and {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given transform is {@code null}.
+    * </p>
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @return {@code true} if the two transforms are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(RigidBodyTransform32 other)
+   {
+      if (other == this)
+         return true;
+      else if (other == null)
+         return false;
+      else
+         return quaternion.equals(other.quaternion) && translationVector.equals(other.translationVector);
+   }
+
+   /**
+    * Two transforms are considered geometrically equal if both the rotation parts and translation
+    * vectors are geometrically equal.
+    *
+    * @param other   the other transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two transforms are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(RigidBodyTransform32 other, double epsilon)
+   {
+      return other.quaternion.geometricallyEquals(quaternion, epsilon) && other.translationVector.geometricallyEquals(translationVector, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this transform as follows: <br>
+    * Quaternion: (qx, qy, qz, qs) <br>
+    * Translation: ( x, y, z)
+    *
+    * @return the {@code String} representing this transform.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getRigidBodyTransform32String(this);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = EuclidHashCodeTools.addToHashCode(quaternion.hashCode(), translationVector.hashCode());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
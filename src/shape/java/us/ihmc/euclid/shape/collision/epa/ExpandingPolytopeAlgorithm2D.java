@@ -0,0 +1,374 @@
+package us.ihmc.euclid.shape.collision.epa;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector2D;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+
+/**
+ * Implementation of the Expanding Polytope algorithm for convex sets of points in the XY-plane,
+ * such as convex polygons.
+ * <p>
+ * This is the 2D counterpart of {@link ExpandingPolytopeAlgorithm}: the polytope is a convex
+ * polygon which vertices are stored in counter-clockwise order and expanded one edge at a time,
+ * which removes the need for the half-edge structure used in 3D.
+ * </p>
+ * <p>
+ * This algorithm first uses {@link GilbertJohnsonKeerthiCollisionDetector2D} to evaluate the
+ * collision state. When not colliding, the distance and closest points are provided by the GJK
+ * detector. When colliding, the GJK simplex is expanded to find the penetration depth and the pair
+ * of points from each set which represent the endpoints of the collision.
+ * </p>
+ * <p>
+ * The memory used to store the polytope is grown as needed and reused from one evaluation to the
+ * next.
+ * </p>
+ */
+public class ExpandingPolytopeAlgorithm2D
+{
+   /** The default value for the tolerance used to trigger the terminal condition. */
+   public static final double DEFAULT_TERMINAL_CONDITION_EPSILON = 1.0e-12;
+
+   private double epsilon = DEFAULT_TERMINAL_CONDITION_EPSILON;
+   /** The limit to the number of iterations in case the algorithm does not succeed to converge. */
+   private int maxIterations = 1000;
+   /** The number of iterations the last evaluation required. */
+   private int numberOfIterations = 0;
+   /** GJK collision detector used to initialize this algorithm. */
+   private final GilbertJohnsonKeerthiCollisionDetector2D gjkCollisionDetector = new GilbertJohnsonKeerthiCollisionDetector2D();
+
+   /** The vertices of the polytope in counter-clockwise order expressed on each set. */
+   private double[] verticesOnAX = new double[16], verticesOnAY = new double[16];
+   private double[] verticesOnBX = new double[16], verticesOnBY = new double[16];
+   private int polytopeSize = 0;
+   /** The index of the last supporting vertex of each set, used to speed up the search. */
+   private int supportingIndexA, supportingIndexB;
+
+   /**
+    * Creates a new collision detector that can be used right away to evaluate collisions.
+    */
+   public ExpandingPolytopeAlgorithm2D()
+   {
+   }
+
+   /**
+    * Evaluates the collision state between the two given convex sets.
+    *
+    * @param shapeA the first convex set to evaluate. Not modified.
+    * @param shapeB the second convex set to evaluate. Not modified.
+    * @return {@code true} if the sets are colliding, {@code false} otherwise.
+    */
+   public boolean evaluateCollision(Vertex2DSupplier shapeA, Vertex2DSupplier shapeB)
+   {
+      return evaluateSignedDistance(shapeA, shapeB, null, null) <= 0.0;
+   }
+
+   /**
+    * Evaluates the signed distance between the two given convex sets.
+    * <p>
+    * When not colliding, the distance is positive and the closest points from each set are computed.
+    * When colliding, the distance is negative and its magnitude is the penetration depth, i.e. the
+    * smallest translation of {@code shapeB} that separates the two sets. The points are then the
+    * endpoints of the collision such that {@code pointOnA - pointOnB} is that translation.
+    * </p>
+    *
+    * @param shapeA         the first convex set to evaluate. Not modified.
+    * @param shapeB         the second convex set to evaluate. Not modified.
+    * @param pointOnAToPack the point on {@code shapeA} as described above. Modified. Can be
+    *                       {@code null}.
+    * @param pointOnBToPack the point on {@code shapeB} as described above. Modified. Can be
+    *                       {@code null}.
+    * @return the signed distance between the two sets, or {@link Double#NaN} if either set is empty.
+    */
+   public double evaluateSignedDistance(Vertex2DSupplier shapeA, Vertex2DSupplier shapeB, Point2DBasics pointOnAToPack, Point2DBasics pointOnBToPack)
+   {
+      numberOfIterations = 0;
+      polytopeSize = 0;
+
+      double distance = gjkCollisionDetector.evaluateDistance(shapeA, shapeB, pointOnAToPack, pointOnBToPack);
+
+      if (Double.isNaN(distance) || distance > 0.0)
+         return distance;
+
+      supportingIndexA = 0;
+      supportingIndexB = 0;
+
+      for (int i = 0; i < gjkCollisionDetector.getSimplexSize(); i++)
+         addVertex(gjkCollisionDetector.getSimplexVertexOnA(i), gjkCollisionDetector.getSimplexVertexOnB(i));
+
+      if (polytopeSize == 1)
+      { // Both supporting vertices are the same point, the two sets are touching.
+         packPolytopePoint(0, 1, 0.0, pointOnAToPack, pointOnBToPack);
+         return 0.0;
+      }
+
+      if (polytopeSize == 2)
+      { // The origin is on the segment, the polytope needs a third vertex to enclose an area.
+         double normalX = -(vertexY(1) - vertexY(0));
+         double normalY = vertexX(1) - vertexX(0);
+
+         if (!addSupportingVertexIfBeyond(shapeA, shapeB, normalX, normalY) && !addSupportingVertexIfBeyond(shapeA, shapeB, -normalX, -normalY))
+         { // The Minkowski difference is flat, the two sets are touching.
+            packPolytopePoint(0, 1, closestPointAlpha(0, 1), pointOnAToPack, pointOnBToPack);
+            return 0.0;
+         }
+      }
+
+      if (cross(vertexX(1) - vertexX(0), vertexY(1) - vertexY(0), vertexX(2) - vertexX(0), vertexY(2) - vertexY(0)) < 0.0)
+         swapVertices(1, 2);
+
+      int closestEdgeIndex = -1;
+
+      for (int iteration = 0; iteration < maxIterations; iteration++)
+      {
+         numberOfIterations = iteration + 1;
+         closestEdgeIndex = -1;
+         double closestDistanceSquared = Double.POSITIVE_INFINITY;
+
+         for (int i = 0; i < polytopeSize; i++)
+         {
+            int next = next(i);
+
+            if (vertexX(next) == vertexX(i) && vertexY(next) == vertexY(i))
+               continue;
+
+            /*
+             * The edges are compared using the distance to the segment rather than to the supporting line:
+             * when the polytope has collinear vertices, the line of an edge can be the closest while the
+             * closest point on the boundary is on the next edge.
+             */
+            double alpha = closestPointAlpha(i, next);
+            double closestX = EuclidCoreTools.interpolate(vertexX(i), vertexX(next), alpha);
+            double closestY = EuclidCoreTools.interpolate(vertexY(i), vertexY(next), alpha);
+            double distanceSquared = EuclidCoreTools.normSquared(closestX, closestY);
+
+            if (distanceSquared < closestDistanceSquared)
+            {
+               closestEdgeIndex = i;
+               closestDistanceSquared = distanceSquared;
+            }
+         }
+
+         if (closestEdgeIndex == -1)
+            break;
+
+         int closestEdgeNext = next(closestEdgeIndex);
+         double edgeX = vertexX(closestEdgeNext) - vertexX(closestEdgeIndex);
+         double edgeY = vertexY(closestEdgeNext) - vertexY(closestEdgeIndex);
+         double edgeLength = EuclidCoreTools.norm(edgeX, edgeY);
+         // Outward normal of the edge for a counter-clockwise polytope.
+         double closestEdgeNormalX = edgeY / edgeLength;
+         double closestEdgeNormalY = -edgeX / edgeLength;
+         double closestEdgeDistance = closestEdgeNormalX * vertexX(closestEdgeIndex) + closestEdgeNormalY * vertexY(closestEdgeIndex);
+
+         supportingIndexA = GilbertJohnsonKeerthiCollisionDetector2D.findSupportingVertexIndex(shapeA,
+                                                                                               closestEdgeNormalX,
+                                                                                               closestEdgeNormalY,
+                                                                                               supportingIndexA);
+         supportingIndexB = GilbertJohnsonKeerthiCollisionDetector2D.findSupportingVertexIndex(shapeB,
+                                                                                               -closestEdgeNormalX,
+                                                                                               -closestEdgeNormalY,
+                                                                                               supportingIndexB);
+         Point2DReadOnly vertexA = shapeA.getVertex(supportingIndexA);
+         Point2DReadOnly vertexB = shapeB.getVertex(supportingIndexB);
+         double supportDistance = closestEdgeNormalX * (vertexA.getX() - vertexB.getX()) + closestEdgeNormalY * (vertexA.getY() - vertexB.getY());
+
+         if (supportDistance - closestEdgeDistance <= epsilon * Math.max(1.0, closestEdgeDistance))
+            break;
+
+         insertVertex(closestEdgeIndex + 1, vertexA, vertexB);
+      }
+
+      if (closestEdgeIndex == -1)
+      { // Should not happen as the polytope has a non-zero area.
+         if (pointOnAToPack != null)
+            pointOnAToPack.setToNaN();
+         if (pointOnBToPack != null)
+            pointOnBToPack.setToNaN();
+         return Double.NaN;
+      }
+
+      int next = next(closestEdgeIndex);
+      double alpha = closestPointAlpha(closestEdgeIndex, next);
+      double closestX = EuclidCoreTools.interpolate(vertexX(closestEdgeIndex), vertexX(next), alpha);
+      double closestY = EuclidCoreTools.interpolate(vertexY(closestEdgeIndex), vertexY(next), alpha);
+      packPolytopePoint(closestEdgeIndex, next, alpha, pointOnAToPack, pointOnBToPack);
+      return -EuclidCoreTools.norm(closestX, closestY);
+   }
+
+   private boolean addSupportingVertexIfBeyond(Vertex2DSupplier shapeA, Vertex2DSupplier shapeB, double directionX, double directionY)
+   {
+      supportingIndexA = GilbertJohnsonKeerthiCollisionDetector2D.findSupportingVertexIndex(shapeA, directionX, directionY, supportingIndexA);
+      supportingIndexB = GilbertJohnsonKeerthiCollisionDetector2D.findSupportingVertexIndex(shapeB, -directionX, -directionY, supportingIndexB);
+      Point2DReadOnly vertexA = shapeA.getVertex(supportingIndexA);
+      Point2DReadOnly vertexB = shapeB.getVertex(supportingIndexB);
+      double height = directionX * (vertexA.getX() - vertexB.getX() - vertexX(0)) + directionY * (vertexA.getY() - vertexB.getY() - vertexY(0));
+
+      if (height <= epsilon * EuclidCoreTools.normSquared(directionX, directionY))
+         return false;
+
+      addVertex(vertexA, vertexB);
+      return true;
+   }
+
+   /**
+    * Computes the parameter of the closest point to the origin on the given edge of the polytope.
+    */
+   private double closestPointAlpha(int first, int second)
+   {
+      double edgeX = vertexX(second) - vertexX(first);
+      double edgeY = vertexY(second) - vertexY(first);
+      double edgeLengthSquared = EuclidCoreTools.normSquared(edgeX, edgeY);
+
+      if (edgeLengthSquared == 0.0)
+         return 0.0;
+      return EuclidCoreTools.clamp(-(vertexX(first) * edgeX + vertexY(first) * edgeY) / edgeLengthSquared, 0.0, 1.0);
+   }
+
+   private void packPolytopePoint(int first, int second, double alpha, Point2DBasics pointOnAToPack, Point2DBasics pointOnBToPack)
+   {
+      if (pointOnAToPack != null)
+      {
+         pointOnAToPack.set(EuclidCoreTools.interpolate(verticesOnAX[first], verticesOnAX[second], alpha),
+                            EuclidCoreTools.interpolate(verticesOnAY[first], verticesOnAY[second], alpha));
+      }
+      if (pointOnBToPack != null)
+      {
+         pointOnBToPack.set(EuclidCoreTools.interpolate(verticesOnBX[first], verticesOnBX[second], alpha),
+                            EuclidCoreTools.interpolate(verticesOnBY[first], verticesOnBY[second], alpha));
+      }
+   }
+
+   private void addVertex(Point2DReadOnly vertexA, Point2DReadOnly vertexB)
+   {
+      insertVertex(polytopeSize, vertexA, vertexB);
+   }
+
+   private void insertVertex(int index, Point2DReadOnly vertexA, Point2DReadOnly vertexB)
+   {
+      if (polytopeSize == verticesOnAX.length)
+      {
+         int newCapacity = 2 * polytopeSize;
+         verticesOnAX = Arrays.copyOf(verticesOnAX, newCapacity);
+         verticesOnAY = Arrays.copyOf(verticesOnAY, newCapacity);
+         verticesOnBX = Arrays.copyOf(verticesOnBX, newCapacity);
+         verticesOnBY = Arrays.copyOf(verticesOnBY, newCapacity);
+      }
+
+      int length = polytopeSize - index;
+
+      if (length > 0)
+      {
+         System.arraycopy(verticesOnAX, index, verticesOnAX, index + 1, length);
+         System.arraycopy(verticesOnAY, index, verticesOnAY, index + 1, length);
+         System.arraycopy(verticesOnBX, index, verticesOnBX, index + 1, length);
+         System.arraycopy(verticesOnBY, index, verticesOnBY, index + 1, length);
+      }
+
+      verticesOnAX[index] = vertexA.getX();
+      verticesOnAY[index] = vertexA.getY();
+      verticesOnBX[index] = vertexB.getX();
+      verticesOnBY[index] = vertexB.getY();
+      polytopeSize++;
+   }
+
+   private void swapVertices(int i, int j)
+   {
+      swap(verticesOnAX, i, j);
+      swap(verticesOnAY, i, j);
+      swap(verticesOnBX, i, j);
+      swap(verticesOnBY, i, j);
+   }
+
+   private static void swap(double[] array, int i, int j)
+   {
+      double tmp = array[i];
+      array[i] = array[j];
+      array[j] = tmp;
+   }
+
+   private int next(int index)
+   {
+      return index + 1 == polytopeSize ? 0 : index + 1;
+   }
+
+   private double vertexX(int index)
+   {
+      return verticesOnAX[index] - verticesOnBX[index];
+   }
+
+   private double vertexY(int index)
+   {
+      return verticesOnAY[index] - verticesOnBY[index];
+   }
+
+   private static double cross(double x1, double y1, double x2, double y2)
+   {
+      return x1 * y2 - y1 * x2;
+   }
+
+   /**
+    * Gets the internal reference to the GJK collision detector used to initialize this algorithm.
+    *
+    * @return the GJK collision detector.
+    */
+   public GilbertJohnsonKeerthiCollisionDetector2D getGJKCollisionDetector()
+   {
+      return gjkCollisionDetector;
+   }
+
+   /**
+    * Sets the limit to the number of iterations in case the algorithm does not succeed to converge.
+    *
+    * @param maxIterations the maximum of iterations allowed before terminating.
+    */
+   public void setMaxIterations(int maxIterations)
+   {
+      this.maxIterations = maxIterations;
+   }
+
+   /**
+    * Sets the tolerance used to trigger the termination condition of this algorithm.
+    *
+    * @param epsilon the terminal condition tolerance to use, default value
+    *                {@value #DEFAULT_TERMINAL_CONDITION_EPSILON}.
+    */
+   public void setTerminalConditionEpsilon(double epsilon)
+   {
+      this.epsilon = epsilon;
+   }
+
+   /**
+    * Gets the current value of the tolerance used to trigger the termination condition of this
+    * algorithm.
+    *
+    * @return the current terminal condition tolerance.
+    */
+   public double getTerminalConditionEpsilon()
+   {
+      return epsilon;
+   }
+
+   /**
+    * Gets the number of expansions needed for the last evaluation.
+    *
+    * @return the number of iterations from the last evaluation.
+    */
+   public int getNumberOfIterations()
+   {
+      return numberOfIterations;
+   }
+
+   /**
+    * Gets the number of vertices of the polytope resulting from the last evaluation.
+    *
+    * @return the size of the polytope.
+    */
+   public int getPolytopeSize()
+   {
+      return polytopeSize;
+   }
+}
@@ -0,0 +1,546 @@
+package us.ihmc.euclid.shape.collision.gjk;
+
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm2D;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Vector2D;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+
+/**
+ * Implementation of the Gilbert-Johnson-Keerthi algorithm for convex sets of points in the
+ * XY-plane, such as convex polygons.
+ * <p>
+ * This is the 2D counterpart of {@link GilbertJohnsonKeerthiCollisionDetector}: the simplex is at
+ * most a triangle and the closest point to the origin is obtained by testing directly the Voronoi
+ * regions of the simplex, which makes an evaluation a lot cheaper than extruding the polygons into
+ * 3D shapes.
+ * </p>
+ * <p>
+ * This collision detector can be used to detect whether two convex sets are colliding or not, and
+ * when not colliding it provides the distance and pair of closest points from each set. When
+ * colliding, the {@link ExpandingPolytopeAlgorithm2D} can then be used to compute the penetration
+ * depth.
+ * </p>
+ * <p>
+ * Warm-starting: by default, each evaluation starts from the support direction and supporting
+ * vertices found by the previous evaluation. This is well suited for evaluating repeatedly the same
+ * pair of sets as they move, in which case the algorithm typically terminates within a couple of
+ * iterations. When the supplier is a {@link ConvexPolygon2DReadOnly}, the supporting vertices are
+ * found by climbing from the previous ones instead of iterating through all the vertices.
+ * </p>
+ * <p>
+ * This detector does not generate garbage.
+ * </p>
+ */
+public class GilbertJohnsonKeerthiCollisionDetector2D
+{
+   /** The default value for the tolerance used to trigger the terminal condition. */
+   public static final double DEFAULT_TERMINAL_CONDITION_EPSILON = 1.0e-12;
+
+   /** The tolerance used to trigger the terminal condition. */
+   private double epsilon = DEFAULT_TERMINAL_CONDITION_EPSILON;
+   /** The limit to the number of iterations in case the algorithm does not succeed to converge. */
+   private int maxIterations = 100;
+   /** The number of iterations the last evaluation required. */
+   private int numberOfIterations = 0;
+   /** Whether an evaluation should start from the result of the previous one. */
+   private boolean warmStart = true;
+   /** Whether the initial support direction has been provided by the user for the next evaluation. */
+   private boolean isInitialSupportDirectionProvided = false;
+   /** The support direction to use for the first iteration of the next evaluation. */
+   private final Vector2D initialSupportDirection = new Vector2D(1.0, 0.0);
+   /** The last support direction used in the last evaluation. */
+   private final Vector2D supportDirection = new Vector2D();
+   /** The index of the last supporting vertex of each set, used to warm-start the search. */
+   private int lastSupportingIndexA = 0, lastSupportingIndexB = 0;
+
+   /** Number of vertices of the simplex resulting from the last evaluation. */
+   private int simplexSize = 0;
+   /** The vertices of the simplex expressed on each set. */
+   private final Point2D[] simplexVerticesOnA = {new Point2D(), new Point2D(), new Point2D()};
+   private final Point2D[] simplexVerticesOnB = {new Point2D(), new Point2D(), new Point2D()};
+   /** The barycentric coordinates of the closest point to the origin on the simplex. */
+   private final double[] simplexLambdas = new double[3];
+   /** The closest point to the origin on the Minkowski difference from the last evaluation. */
+   private final Vector2D closestPoint = new Vector2D();
+
+   /**
+    * Creates a new collision detector that can be used right away to evaluate collisions.
+    */
+   public GilbertJohnsonKeerthiCollisionDetector2D()
+   {
+   }
+
+   /**
+    * Evaluates whether the two given convex sets are colliding.
+    *
+    * @param shapeA the first convex set to evaluate. Not modified.
+    * @param shapeB the second convex set to evaluate. Not modified.
+    * @return {@code true} if the sets are colliding, {@code false} otherwise.
+    */
+   public boolean evaluateCollision(Vertex2DSupplier shapeA, Vertex2DSupplier shapeB)
+   {
+      return evaluateDistance(shapeA, shapeB, null, null) == 0.0;
+   }
+
+   /**
+    * Evaluates the distance between the two given convex sets.
+    * <p>
+    * When the sets are colliding, this method returns {@code 0.0} and the closest points are set to
+    * {@link Double#NaN}, use {@link ExpandingPolytopeAlgorithm2D} to get the penetration depth.
+    * </p>
+    *
+    * @param shapeA         the first convex set to evaluate. Not modified.
+    * @param shapeB         the second convex set to evaluate. Not modified.
+    * @param pointOnAToPack the point on {@code shapeA} that is the closest to {@code shapeB}.
+    *                       Modified. Can be {@code null}.
+    * @param pointOnBToPack the point on {@code shapeB} that is the closest to {@code shapeA}.
+    *                       Modified. Can be {@code null}.
+    * @return the distance between the two sets, {@code 0.0} if colliding, or {@link Double#NaN} if
+    *         either set is empty.
+    */
+   public double evaluateDistance(Vertex2DSupplier shapeA, Vertex2DSupplier shapeB, Point2DBasics pointOnAToPack, Point2DBasics pointOnBToPack)
+   {
+      simplexSize = 0;
+      numberOfIterations = 0;
+
+      if (shapeA.isEmpty() || shapeB.isEmpty())
+      {
+         closestPoint.setToNaN();
+         setToNaN(pointOnAToPack, pointOnBToPack);
+         return Double.NaN;
+      }
+
+      if (isInitialSupportDirectionProvided)
+         supportDirection.set(initialSupportDirection);
+      else if (!warmStart || supportDirection.containsNaN() || supportDirection.lengthSquared() == 0.0)
+         supportDirection.set(1.0, 0.0);
+
+      if (!warmStart || lastSupportingIndexA >= shapeA.getNumberOfVertices())
+         lastSupportingIndexA = 0;
+      if (!warmStart || lastSupportingIndexB >= shapeB.getNumberOfVertices())
+         lastSupportingIndexB = 0;
+
+      isInitialSupportDirectionProvided = false;
+      boolean areColliding = false;
+
+      for (int i = 0; i < maxIterations; i++)
+      {
+         numberOfIterations = i + 1;
+
+         // The support of the Minkowski difference A - B in the direction d is: support(A, d) - support(B, -d).
+         lastSupportingIndexA = findSupportingVertexIndex(shapeA, supportDirection.getX(), supportDirection.getY(), lastSupportingIndexA);
+         lastSupportingIndexB = findSupportingVertexIndex(shapeB, -supportDirection.getX(), -supportDirection.getY(), lastSupportingIndexB);
+         Point2DReadOnly vertexA = shapeA.getVertex(lastSupportingIndexA);
+         Point2DReadOnly vertexB = shapeB.getVertex(lastSupportingIndexB);
+         double wx = vertexA.getX() - vertexB.getX();
+         double wy = vertexA.getY() - vertexB.getY();
+
+         if (simplexSize > 0)
+         {
+            if (simplexContains(vertexA, vertexB))
+               break;
+
+            double closestPointNormSquared = closestPoint.lengthSquared();
+            // The supporting vertex does not bring the simplex closer to the origin.
+            if (closestPointNormSquared - (closestPoint.getX() * wx + closestPoint.getY() * wy) <= epsilon * closestPointNormSquared)
+               break;
+         }
+
+         simplexVerticesOnA[simplexSize].set(vertexA);
+         simplexVerticesOnB[simplexSize].set(vertexB);
+         simplexSize++;
+
+         if (updateSimplex())
+         {
+            areColliding = true;
+            break;
+         }
+
+         supportDirection.setAndNegate(closestPoint);
+      }
+
+      if (areColliding)
+      {
+         setToNaN(pointOnAToPack, pointOnBToPack);
+         return 0.0;
+      }
+
+      if (pointOnAToPack != null)
+         computeSimplexPoint(simplexVerticesOnA, pointOnAToPack);
+      if (pointOnBToPack != null)
+         computeSimplexPoint(simplexVerticesOnB, pointOnBToPack);
+      return closestPoint.length();
+   }
+
+   private boolean simplexContains(Point2DReadOnly vertexA, Point2DReadOnly vertexB)
+   {
+      for (int i = 0; i < simplexSize; i++)
+      {
+         if (simplexVerticesOnA[i].equals(vertexA) && simplexVerticesOnB[i].equals(vertexB))
+            return true;
+      }
+      return false;
+   }
+
+   /**
+    * Reduces the simplex to the smallest sub-simplex that contains the closest point to the origin
+    * and updates the closest point.
+    *
+    * @return {@code true} if the origin is inside the simplex or on its boundary.
+    */
+   private boolean updateSimplex()
+   {
+      if (simplexSize == 1)
+      {
+         simplexLambdas[0] = 1.0;
+      }
+      else if (simplexSize == 2)
+      {
+         reduceToEdge(0, 1);
+      }
+      else
+      {
+         double ax = vertexX(0), ay = vertexY(0);
+         double bx = vertexX(1), by = vertexY(1);
+         double cx = vertexX(2), cy = vertexY(2);
+         double area = cross(bx - ax, by - ay, cx - ax, cy - ay);
+         // Signed areas of the sub-triangles formed with the origin, they all have the same sign as the triangle when the origin is inside.
+         double areaA = cross(bx, by, cx, cy);
+         double areaB = cross(cx, cy, ax, ay);
+         double areaC = cross(ax, ay, bx, by);
+
+         if (area != 0.0 && areaA * area >= 0.0 && areaB * area >= 0.0 && areaC * area >= 0.0)
+         {
+            simplexLambdas[0] = areaA / area;
+            simplexLambdas[1] = areaB / area;
+            simplexLambdas[2] = areaC / area;
+            closestPoint.setToZero();
+            return true;
+         }
+
+         // The closest point is on the edge opposite to the vertex which region does not contain the origin and is the closest.
+         int bestFirst = 0, bestSecond = 1;
+         double bestDistanceSquared = Double.POSITIVE_INFINITY;
+
+         for (int i = 0; i < 3; i++)
+         {
+            int j = (i + 1) % 3;
+            double distanceSquared = distanceSquaredFromOriginToEdge(i, j);
+
+            if (distanceSquared < bestDistanceSquared)
+            {
+               bestDistanceSquared = distanceSquared;
+               bestFirst = i;
+               bestSecond = j;
+            }
+         }
+
+         keepVertices(bestFirst, bestSecond);
+         reduceToEdge(0, 1);
+      }
+
+      closestPoint.setToZero();
+      for (int i = 0; i < simplexSize; i++)
+         closestPoint.add(simplexLambdas[i] * vertexX(i), simplexLambdas[i] * vertexY(i));
+
+      return closestPoint.lengthSquared() <= epsilon * epsilon * maxVertexNormSquared();
+   }
+
+   /**
+    * Reduces the simplex, that has to be an edge, to the vertex or edge containing the closest point
+    * to the origin.
+    */
+   private void reduceToEdge(int first, int second)
+   {
+      double ax = vertexX(first), ay = vertexY(first);
+      double edgeX = vertexX(second) - ax;
+      double edgeY = vertexY(second) - ay;
+      double edgeLengthSquared = edgeX * edgeX + edgeY * edgeY;
+      double alpha = edgeLengthSquared == 0.0 ? 0.0 : -(ax * edgeX + ay * edgeY) / edgeLengthSquared;
+
+      if (alpha <= 0.0)
+      {
+         keepVertices(first);
+      }
+      else if (alpha >= 1.0)
+      {
+         keepVertices(second);
+      }
+      else
+      {
+         keepVertices(first, second);
+         simplexLambdas[0] = 1.0 - alpha;
+         simplexLambdas[1] = alpha;
+      }
+   }
+
+   private double distanceSquaredFromOriginToEdge(int first, int second)
+   {
+      double ax = vertexX(first), ay = vertexY(first);
+      double edgeX = vertexX(second) - ax;
+      double edgeY = vertexY(second) - ay;
+      double edgeLengthSquared = edgeX * edgeX + edgeY * edgeY;
+      double alpha = edgeLengthSquared == 0.0 ? 0.0 : EuclidCoreTools.clamp(-(ax * edgeX + ay * edgeY) / edgeLengthSquared, 0.0, 1.0);
+      return EuclidCoreTools.normSquared(ax + alpha * edgeX, ay + alpha * edgeY);
+   }
+
+   private void keepVertices(int index)
+   {
+      if (index != 0)
+      {
+         simplexVerticesOnA[0].set(simplexVerticesOnA[index]);
+         simplexVerticesOnB[0].set(simplexVerticesOnB[index]);
+      }
+      simplexSize = 1;
+      simplexLambdas[0] = 1.0;
+   }
+
+   private void keepVertices(int first, int second)
+   {
+      // The indices are such that first < second or (first, second) = (2, 0) in which case the order does not matter.
+      if (first == 2 && second == 0)
+      {
+         first = 0;
+         second = 2;
+      }
+      if (first != 0)
+      {
+         simplexVerticesOnA[0].set(simplexVerticesOnA[first]);
+         simplexVerticesOnB[0].set(simplexVerticesOnB[first]);
+      }
+      if (second != 1)
+      {
+         simplexVerticesOnA[1].set(simplexVerticesOnA[second]);
+         simplexVerticesOnB[1].set(simplexVerticesOnB[second]);
+      }
+      simplexSize = 2;
+   }
+
+   private double vertexX(int index)
+   {
+      return simplexVerticesOnA[index].getX() - simplexVerticesOnB[index].getX();
+   }
+
+   private double vertexY(int index)
+   {
+      return simplexVerticesOnA[index].getY() - simplexVerticesOnB[index].getY();
+   }
+
+   private double maxVertexNormSquared()
+   {
+      double max = 0.0;
+      for (int i = 0; i < simplexSize; i++)
+         max = Math.max(max, EuclidCoreTools.normSquared(vertexX(i), vertexY(i)));
+      return max;
+   }
+
+   private void computeSimplexPoint(Point2D[] simplexVertices, Point2DBasics pointToPack)
+   {
+      pointToPack.setToZero();
+      for (int i = 0; i < simplexSize; i++)
+         pointToPack.scaleAdd(simplexLambdas[i], simplexVertices[i], pointToPack);
+   }
+
+   private static void setToNaN(Point2DBasics pointOnAToPack, Point2DBasics pointOnBToPack)
+   {
+      if (pointOnAToPack != null)
+         pointOnAToPack.setToNaN();
+      if (pointOnBToPack != null)
+         pointOnBToPack.setToNaN();
+   }
+
+   private static double cross(double x1, double y1, double x2, double y2)
+   {
+      return x1 * y2 - y1 * x2;
+   }
+
+   /**
+    * Finds the index of the vertex of the given set that is the farthest in the given direction.
+    * <p>
+    * When the supplier is a {@link ConvexPolygon2DReadOnly} with more than
+    * {@link EuclidGeometryPolygonTools#LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES} vertices, the search
+    * climbs from {@code guessIndex} to the supporting vertex, which is fast when the guess is close to
+    * the solution. Otherwise, all the vertices are tested.
+    * </p>
+    *
+    * @param shape      the convex set to search. Not modified.
+    * @param directionX the x-component of the search direction.
+    * @param directionY the y-component of the search direction.
+    * @param guessIndex the index of the vertex to start the search from.
+    * @return the index of the supporting vertex.
+    */
+   public static int findSupportingVertexIndex(Vertex2DSupplier shape, double directionX, double directionY, int guessIndex)
+   {
+      int numberOfVertices = shape.getNumberOfVertices();
+
+      if (shape instanceof ConvexPolygon2DReadOnly && numberOfVertices > EuclidGeometryPolygonTools.LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES)
+      { // The projection of the vertices onto the direction is unimodal.
+         int bestIndex = guessIndex;
+         double bestValue = dot(shape.getVertex(bestIndex), directionX, directionY);
+         boolean hasMoved = false;
+
+         for (int step = 1; step >= -1; step -= 2)
+         {
+            while (true)
+            {
+               int candidateIndex = EuclidGeometryPolygonTools.wrap(bestIndex + step, numberOfVertices);
+               double candidateValue = dot(shape.getVertex(candidateIndex), directionX, directionY);
+
+               if (candidateValue <= bestValue)
+                  break;
+
+               bestIndex = candidateIndex;
+               bestValue = candidateValue;
+               hasMoved = true;
+            }
+
+            if (hasMoved)
+               break;
+         }
+
+         // Only collinear vertices on both sides of the guess can stop the climb before reaching the supporting vertex.
+         if (hasMoved || dot(shape.getVertex(EuclidGeometryPolygonTools.next(bestIndex, numberOfVertices)), directionX, directionY) != bestValue
+               || dot(shape.getVertex(EuclidGeometryPolygonTools.previous(bestIndex, numberOfVertices)), directionX, directionY) != bestValue)
+            return bestIndex;
+      }
+
+      int bestIndex = 0;
+      double bestValue = dot(shape.getVertex(0), directionX, directionY);
+
+      for (int i = 1; i < numberOfVertices; i++)
+      {
+         double value = dot(shape.getVertex(i), directionX, directionY);
+
+         if (value > bestValue)
+         {
+            bestIndex = i;
+            bestValue = value;
+         }
+      }
+
+      return bestIndex;
+   }
+
+   private static double dot(Point2DReadOnly vertex, double directionX, double directionY)
+   {
+      return vertex.getX() * directionX + vertex.getY() * directionY;
+   }
+
+   /**
+    * Sets the support direction to use for the first iteration of the next evaluation, overriding the
+    * warm-start.
+    *
+    * @param initialSupportDirection the first support direction to use for the next evaluation. Not
+    *                                modified.
+    */
+   public void setInitialSupportDirection(Vector2DReadOnly initialSupportDirection)
+   {
+      isInitialSupportDirectionProvided = true;
+      this.initialSupportDirection.set(initialSupportDirection);
+   }
+
+   /**
+    * Sets whether an evaluation should start from the result of the previous one.
+    *
+    * @param warmStart {@code true} to enable warm-starting, default value is {@code true}.
+    */
+   public void setWarmStart(boolean warmStart)
+   {
+      this.warmStart = warmStart;
+   }
+
+   /**
+    * Sets the limit to the number of iterations in case the algorithm does not succeed to converge.
+    *
+    * @param maxIterations the maximum of iterations allowed before terminating.
+    */
+   public void setMaxIterations(int maxIterations)
+   {
+      this.maxIterations = maxIterations;
+   }
+
+   /**
+    * Sets the tolerance used to trigger the termination condition of this algorithm.
+    *
+    * @param epsilon the terminal condition tolerance to use, default value
+    *                {@value #DEFAULT_TERMINAL_CONDITION_EPSILON}.
+    */
+   public void setTerminalConditionEpsilon(double epsilon)
+   {
+      this.epsilon = epsilon;
+   }
+
+   /**
+    * Gets the current value of the tolerance used to trigger the termination condition of this
+    * algorithm.
+    *
+    * @return the current terminal condition tolerance.
+    */
+   public double getTerminalConditionEpsilon()
+   {
+      return epsilon;
+   }
+
+   /**
+    * Gets the number of iterations needed for the last evaluation.
+    *
+    * @return the number of iterations from the last evaluation.
+    */
+   public int getNumberOfIterations()
+   {
+      return numberOfIterations;
+   }
+
+   /**
+    * Gets the number of vertices of the simplex resulting from the last evaluation.
+    * <p>
+    * When the last evaluation detected a collision, the simplex contains the origin.
+    * </p>
+    *
+    * @return the size of the simplex, in [0, 3].
+    */
+   public int getSimplexSize()
+   {
+      return simplexSize;
+   }
+
+   /**
+    * Gets the i<sup>th</sup> vertex of the simplex resulting from the last evaluation expressed on
+    * {@code shapeA}.
+    *
+    * @param index the index of the vertex, in [0, {@link #getSimplexSize()}[.
+    * @return the read-only reference to the vertex.
+    */
+   public Point2DReadOnly getSimplexVertexOnA(int index)
+   {
+      return simplexVerticesOnA[index];
+   }
+
+   /**
+    * Gets the i<sup>th</sup> vertex of the simplex resulting from the last evaluation expressed on
+    * {@code shapeB}.
+    *
+    * @param index the index of the vertex, in [0, {@link #getSimplexSize()}[.
+    * @return the read-only reference to the vertex.
+    */
+   public Point2DReadOnly getSimplexVertexOnB(int index)
+   {
+      return simplexVerticesOnB[index];
+   }
+
+   /**
+    * Gets the read-only reference to the last support direction used in the last evaluation.
+    *
+    * @return the last support direction.
+    */
+   public Vector2DReadOnly getSupportDirection()
+   {
+      return supportDirection;
+   }
+}
@@ -5,14 +5,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
-import org.ejml.data.DMatrixRMaj;
-import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
-import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
-
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.interfaces.Clearable;
 import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.matrix.Matrix3D;
 import us.ihmc.euclid.shape.convexPolytope.interfaces.Face3DReadOnly;
 import us.ihmc.euclid.shape.convexPolytope.interfaces.HalfEdge3DFactory;
 import us.ihmc.euclid.shape.convexPolytope.tools.EuclidPolytopeConstructionTools;
@@ -56,9 +53,11 @@ public abstract class AbstractFace3D<Vertex extends AbstractVertex3D<Vertex, Edg
     * 3-by-3 covariance matrix computed from the vertices location and used to compute this face
     * normal.
     */
-   private DMatrixRMaj verticesCovariance;
-   /** Eigen decomposition solver used to compute this face normal. */
-   private EigenDecomposition_F64<DMatrixRMaj> eigenDecomposition;
+   private Matrix3D verticesCovariance;
+   /** Eigen values of the covariance matrix, used to compute this face normal. */
+   private Vector3D covarianceEigenValues;
+   /** Eigen vectors of the covariance matrix, used to compute this face normal. */
+   private Matrix3D covarianceEigenVectors;
    /** Factory used to create half-edges of the proper type. */
    private final HalfEdge3DFactory<Vertex, Edge> edgeFactory;
 
@@ -417,11 +416,13 @@ public abstract class AbstractFace3D<Vertex extends AbstractVertex3D<Vertex, Edg
       if (vertices.size() > 3)
       {
          if (verticesCovariance == null)
-            verticesCovariance = new DMatrixRMaj(3, 3);
+         {
+            verticesCovariance = new Matrix3D();
+            covarianceEigenValues = new Vector3D();
+            covarianceEigenVectors = new Matrix3D();
+         }
          EuclidPolytopeConstructionTools.computeCovariance3D(vertices, verticesCovariance);
-         if (eigenDecomposition == null)
-            eigenDecomposition = DecompositionFactory_DDRM.eig(3, true, true);
-         EuclidPolytopeConstructionTools.updateFace3DNormal(eigenDecomposition, verticesCovariance, getNormal());
+         EuclidPolytopeConstructionTools.updateFace3DNormal(verticesCovariance, covarianceEigenValues, covarianceEigenVectors, getNormal());
       }
       else if (vertices.size() == 3)
       {
@@ -4,9 +4,13 @@ import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.List;
 
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.geometry.tools.OrientedBoundingBoxFitter3D;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DPoseReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
@@ -143,6 +147,45 @@ public interface ConvexPolytope3DReadOnly extends Shape3DReadOnly
       boundingBoxToPack.set(getBoundingBox());
    }
 
+   /**
+    * Gets a tight oriented bounding box that contains this polytope.
+    * <p>
+    * The box is fitted to the vertices of this polytope with {@link OrientedBoundingBoxFitter3D}. In
+    * addition to the principal axes of the vertices, the normal of each face is evaluated as a
+    * candidate axis, such that the box is flush with one of the faces when this results in a smaller
+    * volume. The cost is linear in the number of faces times the number of vertices.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param orientedBoundingBoxToPack the oriented bounding box to pack, or set to
+    *                                  {@link Double#NaN} if this polytope is empty. Modified.
+    */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      OrientedBoundingBoxFitter3D fitter = new OrientedBoundingBoxFitter3D();
+      Vertex3DSupplier vertices = Vertex3DSupplier.asVertex3DSupplier(getVertices());
+      double bestVolume = fitter.fitMinimumVolume(vertices, orientedBoundingBoxToPack);
+
+      if (Double.isNaN(bestVolume))
+         return;
+
+      OrientedBoundingBox3D candidate = new OrientedBoundingBox3D();
+
+      for (int faceIndex = 0; faceIndex < getNumberOfFaces(); faceIndex++)
+      {
+         double volume = fitter.fitAroundAxis(vertices, getFace(faceIndex).getNormal(), candidate);
+
+         if (volume < bestVolume)
+         {
+            bestVolume = volume;
+            orientedBoundingBoxToPack.set(candidate);
+         }
+      }
+   }
+
    /**
     * Gets the tolerance used for building this convex polytope.
     *
@@ -331,6 +374,124 @@ public interface ConvexPolytope3DReadOnly extends Shape3DReadOnly
       }
    }
 
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The ray is clipped by the support plane of each face of this polytope. When this polytope is
+    * reduced to a single face, the ray is intersected with the face. When this polytope is reduced to
+    * a single vertex or edge, the ray is never reported as intersecting.
+    * </p>
+    */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      if (getNumberOfFaces() == 0)
+         return Double.NaN;
+
+      if (getNumberOfFaces() == 1)
+      {
+         Face3DReadOnly face = getFace(0);
+
+         if (face.getNumberOfEdges() < 3)
+            return Double.NaN;
+
+         Vector3DReadOnly faceNormal = face.getNormal();
+         double denominator = faceNormal.dot(rayDirection);
+
+         if (denominator == 0.0)
+            return Double.NaN;
+
+         Point3DReadOnly centroid = face.getCentroid();
+         double t = (faceNormal.getX() * (centroid.getX() - rayOrigin.getX()) + faceNormal.getY() * (centroid.getY() - rayOrigin.getY())
+               + faceNormal.getZ() * (centroid.getZ() - rayOrigin.getZ())) / denominator;
+
+         if (t < 0.0)
+            return Double.NaN;
+
+         double x = rayOrigin.getX() + t * rayDirection.getX();
+         double y = rayOrigin.getY() + t * rayDirection.getY();
+         double z = rayOrigin.getZ() + t * rayDirection.getZ();
+
+         for (int i = 0; i < face.getNumberOfEdges(); i++)
+         { // Same test as Face3DReadOnly.canObserverSeeEdge(...), the intersection is outside the face when it can see an edge.
+            HalfEdge3DReadOnly edge = face.getEdge(i);
+            Point3DReadOnly start = edge.getOrigin();
+            double edgeX = edge.getDestination().getX() - start.getX();
+            double edgeY = edge.getDestination().getY() - start.getY();
+            double edgeZ = edge.getDestination().getZ() - start.getZ();
+            double sideX = edgeY * faceNormal.getZ() - edgeZ * faceNormal.getY();
+            double sideY = edgeZ * faceNormal.getX() - edgeX * faceNormal.getZ();
+            double sideZ = edgeX * faceNormal.getY() - edgeY * faceNormal.getX();
+
+            if (sideX * (x - start.getX()) + sideY * (y - start.getY()) + sideZ * (z - start.getZ()) > 0.0)
+               return Double.NaN;
+         }
+
+         if (intersectionToPack != null)
+            intersectionToPack.set(x, y, z);
+
+         if (normalAtIntersectionToPack != null)
+         {
+            normalAtIntersectionToPack.set(faceNormal);
+            if (denominator > 0.0)
+               normalAtIntersectionToPack.negate();
+         }
+
+         return t * rayDirection.length();
+      }
+
+      double tEnter = Double.NEGATIVE_INFINITY;
+      double tExit = Double.POSITIVE_INFINITY;
+      Face3DReadOnly enterFace = null;
+      Face3DReadOnly exitFace = null;
+
+      for (int i = 0; i < getNumberOfFaces(); i++)
+      {
+         Face3DReadOnly face = getFace(i);
+         Vector3DReadOnly faceNormal = face.getNormal();
+         Point3DReadOnly centroid = face.getCentroid();
+         double denominator = faceNormal.dot(rayDirection);
+         double distanceToPlane = faceNormal.getX() * (centroid.getX() - rayOrigin.getX()) + faceNormal.getY() * (centroid.getY() - rayOrigin.getY())
+               + faceNormal.getZ() * (centroid.getZ() - rayOrigin.getZ());
+
+         if (denominator == 0.0)
+         {
+            if (distanceToPlane < 0.0)
+               return Double.NaN;
+            continue;
+         }
+
+         double t = distanceToPlane / denominator;
+
+         if (denominator < 0.0)
+         {
+            if (t > tEnter)
+            {
+               tEnter = t;
+               enterFace = face;
+            }
+         }
+         else if (t < tExit)
+         {
+            tExit = t;
+            exitFace = face;
+         }
+      }
+
+      if (exitFace == null || tEnter > tExit || tExit < 0.0)
+         return Double.NaN;
+
+      boolean isEntering = tEnter >= 0.0;
+      double t = isEntering ? tEnter : tExit;
+
+      if (intersectionToPack != null)
+         intersectionToPack.scaleAdd(t, rayDirection, rayOrigin);
+      if (normalAtIntersectionToPack != null)
+         normalAtIntersectionToPack.set((isEntering ? enterFace : exitFace).getNormal());
+
+      return t * rayDirection.length();
+   }
+
    /**
     * Finds and returns the closest face to the query.
     *
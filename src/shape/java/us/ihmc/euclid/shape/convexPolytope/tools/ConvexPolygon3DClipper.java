@@ -0,0 +1,263 @@
+package us.ihmc.euclid.shape.convexPolytope.tools;
+
+import java.util.Arrays;
+import java.util.List;
+
+import us.ihmc.euclid.geometry.interfaces.Plane3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Face3DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Clips planar convex polygons in 3D against planes using the Sutherland-Hodgman algorithm.
+ * <p>
+ * The part of the polygon that is kept is below the plane, i.e. on the opposite side of the plane
+ * normal, such that clipping against the support planes of the faces of a convex polytope keeps the
+ * part of the polygon that is inside the polytope.
+ * </p>
+ * <p>
+ * The input polygon can be a {@link Face3DReadOnly} or any {@link Vertex3DSupplier} which vertices
+ * describe a planar convex polygon, or equivalently a triangle fan around its first vertex. The
+ * vertices of the result are ordered the same way as the input and also describe a triangle fan
+ * around the first vertex. The result of the last clip is held by this clipper which is itself a
+ * {@link Vertex3DSupplier}, such that it can be passed to the next clip.
+ * </p>
+ * <p>
+ * This clipper uses two vertex buffers alternatively as source and destination of each clipping
+ * pass. The buffers grow as needed and are reused from one clip to the next, such that clipping
+ * does not generate garbage once the buffers are large enough.
+ * </p>
+ */
+public class ConvexPolygon3DClipper implements Vertex3DSupplier
+{
+   private final VertexBuffer bufferA = new VertexBuffer();
+   private final VertexBuffer bufferB = new VertexBuffer();
+   /** The buffer holding the result of the last clip. */
+   private VertexBuffer result = bufferA;
+   /** Adapter used to iterate through the vertices of a face without creating garbage. */
+   private final FaceVertexSupplier faceVertexSupplier = new FaceVertexSupplier();
+
+   /**
+    * Creates a new clipper ready to be used.
+    */
+   public ConvexPolygon3DClipper()
+   {
+   }
+
+   /**
+    * Clips the given face against the half-space located below the given plane.
+    *
+    * @param face  the face to clip. Not modified.
+    * @param plane the plane bounding the half-space to keep. Not modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Face3DReadOnly face, Plane3DReadOnly plane)
+   {
+      faceVertexSupplier.face = face;
+      boolean isNotEmpty = clip(faceVertexSupplier, plane);
+      faceVertexSupplier.face = null;
+      return isNotEmpty;
+   }
+
+   /**
+    * Clips the given face against the intersection of the half-spaces located below the given planes.
+    *
+    * @param face   the face to clip. Not modified.
+    * @param planes the planes bounding the half-spaces to keep. Not modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Face3DReadOnly face, List<? extends Plane3DReadOnly> planes)
+   {
+      faceVertexSupplier.face = face;
+      boolean isNotEmpty = clip(faceVertexSupplier, planes);
+      faceVertexSupplier.face = null;
+      return isNotEmpty;
+   }
+
+   /**
+    * Clips the given polygon against the half-space located below the given plane.
+    *
+    * @param polygon the planar convex polygon to clip. Not modified.
+    * @param plane   the plane bounding the half-space to keep. Not modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex3DSupplier polygon, Plane3DReadOnly plane)
+   {
+      Vertex3DSupplier source = polygon == this ? result : polygon;
+      VertexBuffer target = source == bufferA ? bufferB : bufferA;
+      clipWithPlane(source, plane, target);
+      result = target;
+      return !result.isEmpty();
+   }
+
+   /**
+    * Clips the given polygon against the intersection of the half-spaces located below the given
+    * planes.
+    * <p>
+    * The clipping stops as soon as the result is empty.
+    * </p>
+    *
+    * @param polygon the planar convex polygon to clip. Not modified.
+    * @param planes  the planes bounding the half-spaces to keep. Not modified.
+    * @return {@code true} if the result is not empty, {@code false} otherwise.
+    */
+   public boolean clip(Vertex3DSupplier polygon, List<? extends Plane3DReadOnly> planes)
+   {
+      Vertex3DSupplier source = polygon == this ? result : polygon;
+
+      if (planes.isEmpty())
+      {
+         VertexBuffer target = source == bufferA ? bufferB : bufferA;
+         target.set(source);
+         source = target;
+      }
+
+      for (int i = 0; i < planes.size(); i++)
+      {
+         VertexBuffer target = source == bufferA ? bufferB : bufferA;
+         clipWithPlane(source, planes.get(i), target);
+         source = target;
+
+         if (target.isEmpty())
+            break;
+      }
+
+      result = (VertexBuffer) source;
+      return !result.isEmpty();
+   }
+
+   /**
+    * One pass of the Sutherland-Hodgman algorithm keeping the vertices that are on or below the
+    * plane.
+    */
+   private static void clipWithPlane(Vertex3DSupplier source, Plane3DReadOnly plane, VertexBuffer target)
+   {
+      target.clear();
+      int numberOfVertices = source.getNumberOfVertices();
+
+      if (numberOfVertices == 0)
+         return;
+
+      Point3DReadOnly previous = source.getVertex(numberOfVertices - 1);
+      double previousDistance = plane.signedDistance(previous);
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point3DReadOnly current = source.getVertex(i);
+         double currentDistance = plane.signedDistance(current);
+
+         if (currentDistance <= 0.0)
+         {
+            if (previousDistance > 0.0)
+               target.addIntersection(previous, previousDistance, current, currentDistance);
+            target.add(current.getX(), current.getY(), current.getZ());
+         }
+         else if (previousDistance <= 0.0)
+         {
+            target.addIntersection(previous, previousDistance, current, currentDistance);
+         }
+
+         previous = current;
+         previousDistance = currentDistance;
+      }
+
+      target.removeLastIfEqualToFirst();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public Point3DReadOnly getVertex(int index)
+   {
+      return result.getVertex(index);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public int getNumberOfVertices()
+   {
+      return result.getNumberOfVertices();
+   }
+
+   private static class FaceVertexSupplier implements Vertex3DSupplier
+   {
+      private Face3DReadOnly face;
+
+      @Override
+      public Point3DReadOnly getVertex(int index)
+      {
+         return face.getVertex(index);
+      }
+
+      @Override
+      public int getNumberOfVertices()
+      {
+         return face.getNumberOfEdges();
+      }
+   }
+
+   private static class VertexBuffer implements Vertex3DSupplier
+   {
+      private Point3D[] vertices = new Point3D[0];
+      private int size = 0;
+
+      void clear()
+      {
+         size = 0;
+      }
+
+      void set(Vertex3DSupplier other)
+      {
+         clear();
+         for (int i = 0; i < other.getNumberOfVertices(); i++)
+         {
+            Point3DReadOnly vertex = other.getVertex(i);
+            add(vertex.getX(), vertex.getY(), vertex.getZ());
+         }
+      }
+
+      void addIntersection(Point3DReadOnly start, double startDistance, Point3DReadOnly end, double endDistance)
+      {
+         double alpha = startDistance / (startDistance - endDistance);
+         add(start.getX() + alpha * (end.getX() - start.getX()),
+             start.getY() + alpha * (end.getY() - start.getY()),
+             start.getZ() + alpha * (end.getZ() - start.getZ()));
+      }
+
+      void add(double x, double y, double z)
+      {
+         if (size > 0 && vertices[size - 1].getX() == x && vertices[size - 1].getY() == y && vertices[size - 1].getZ() == z)
+            return;
+
+         if (size == vertices.length)
+         {
+            int newLength = Math.max(8, 2 * size);
+            vertices = Arrays.copyOf(vertices, newLength);
+            for (int i = size; i < newLength; i++)
+               vertices[i] = new Point3D();
+         }
+
+         vertices[size++].set(x, y, z);
+      }
+
+      void removeLastIfEqualToFirst()
+      {
+         if (size > 1 && vertices[0].equals(vertices[size - 1]))
+            size--;
+      }
+
+      @Override
+      public Point3DReadOnly getVertex(int index)
+      {
+         if (index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", number of vertices: " + size);
+         return vertices[index];
+      }
+
+      @Override
+      public int getNumberOfVertices()
+      {
+         return size;
+      }
+   }
+}
@@ -15,6 +15,9 @@ import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
 import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
 
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3D;
 import us.ihmc.euclid.shape.convexPolytope.impl.AbstractFace3D;
 import us.ihmc.euclid.shape.convexPolytope.impl.AbstractHalfEdge3D;
@@ -25,6 +28,7 @@ import us.ihmc.euclid.shape.convexPolytope.interfaces.Face3DReadOnly;
 import us.ihmc.euclid.shape.convexPolytope.interfaces.HalfEdge3DReadOnly;
 import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
 import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
@@ -502,11 +506,63 @@ public class EuclidPolytopeConstructionTools
     */
    public static boolean updateFace3DNormal(List<? extends Point3DReadOnly> vertices, Point3DBasics averageToPack, Vector3DBasics normalToUpdate)
    {
-      DMatrixRMaj covarianceMatrix = new DMatrixRMaj(3, 3);
+      Matrix3D covarianceMatrix = new Matrix3D();
       computeCovariance3D(vertices, averageToPack, covarianceMatrix);
       return updateFace3DNormal(covarianceMatrix, normalToUpdate);
    }
 
+   /**
+    * Computes the face normal from its covariance matrix.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param covarianceMatrix the covariance matrix computed from the face vertices. Not modified.
+    * @param normalToUpdate   the vector used to store the normal. The normal is updated such that
+    *                         {@code oldNormal.dot(newNormal) > 0.0}. Modified.
+    * @return whether the method succeeded or not.
+    */
+   public static boolean updateFace3DNormal(Matrix3DReadOnly covarianceMatrix, Vector3DBasics normalToUpdate)
+   {
+      return updateFace3DNormal(covarianceMatrix, new Vector3D(), new Matrix3D(), normalToUpdate);
+   }
+
+   /**
+    * Computes the face normal from its covariance matrix.
+    * <p>
+    * The normal is the eigen vector associated with the smallest eigen value of the covariance
+    * matrix. The eigen decomposition is computed with
+    * {@link Matrix3DTools#computeSymmetricEigenDecomposition(Matrix3DReadOnly, Tuple3DBasics, Matrix3DBasics)}.
+    * </p>
+    *
+    * @param covarianceMatrix   the covariance matrix computed from the face vertices. Not modified.
+    * @param eigenValuesToPack  the tuple used to store the eigen values of the covariance matrix.
+    *                           Modified.
+    * @param eigenVectorsToPack the matrix used to store the eigen vectors of the covariance matrix.
+    *                           Modified.
+    * @param normalToUpdate     the vector used to store the normal. The normal is updated such that
+    *                           {@code oldNormal.dot(newNormal) > 0.0}. Modified.
+    * @return whether the method succeeded or not.
+    */
+   public static boolean updateFace3DNormal(Matrix3DReadOnly covarianceMatrix, Tuple3DBasics eigenValuesToPack, Matrix3DBasics eigenVectorsToPack,
+                                            Vector3DBasics normalToUpdate)
+   {
+      if (!Matrix3DTools.computeSymmetricEigenDecomposition(covarianceMatrix, eigenValuesToPack, eigenVectorsToPack))
+         return false;
+
+      // The eigen values are sorted in decreasing order, the normal is the last eigen vector.
+      double newX = eigenVectorsToPack.getM02();
+      double newY = eigenVectorsToPack.getM12();
+      double newZ = eigenVectorsToPack.getM22();
+
+      if (TupleTools.dot(newX, newY, newZ, normalToUpdate) < 0.0)
+         normalToUpdate.set(-newX, -newY, -newZ);
+      else
+         normalToUpdate.set(newX, newY, newZ);
+
+      return true;
+   }
+
    /**
     * Computes the face normal from its covariance matrix.
     * <p>
@@ -520,7 +576,7 @@ public class EuclidPolytopeConstructionTools
     */
    public static boolean updateFace3DNormal(DMatrixRMaj covarianceMatrix, Vector3DBasics normalToUpdate)
    {
-      return updateFace3DNormal(DecompositionFactory_DDRM.eig(3, true, true), covarianceMatrix, normalToUpdate);
+      return updateFace3DNormal(new Matrix3D(covarianceMatrix), normalToUpdate);
    }
 
    /**
@@ -534,7 +590,11 @@ public class EuclidPolytopeConstructionTools
     * @param normalToUpdate     the vector used to store the normal. The normal is updated such that
     *                           {@code oldNormal.dot(newNormal) > 0.0}. Modified.
     * @return whether the method succeeded or not.
+    * @deprecated Use
+    *             {@link #updateFace3DNormal(Matrix3DReadOnly, Tuple3DBasics, Matrix3DBasics, Vector3DBasics)}
+    *             instead which does not rely on a general purpose eigen decomposition.
     */
+   @Deprecated
    public static boolean updateFace3DNormal(EigenDecomposition_F64<DMatrixRMaj> eigenDecomposition, DMatrixRMaj covarianceMatrix, Vector3DBasics normalToUpdate)
    {
       if (!eigenDecomposition.decompose(covarianceMatrix))
@@ -605,6 +665,35 @@ public class EuclidPolytopeConstructionTools
     * @param covarianceToPack the matrix in which the 3-by-3 covariance matrix is stored. Modified.
     */
    public static void computeCovariance3D(List<? extends Tuple3DReadOnly> input, Tuple3DBasics averageToPack, DMatrixRMaj covarianceToPack)
+   {
+      Matrix3D covariance = new Matrix3D();
+      computeCovariance3D(input, averageToPack, covariance);
+      covarianceToPack.reshape(3, 3);
+      covariance.get(covarianceToPack);
+   }
+
+   /**
+    * Computes the covariance matrix from a list of 3D tuples.
+    *
+    * @param input            the list of tuples to use for computing the covariance matrix. Not
+    *                         modified.
+    * @param covarianceToPack the matrix in which the 3-by-3 covariance matrix is stored. Modified.
+    */
+   public static void computeCovariance3D(List<? extends Tuple3DReadOnly> input, Matrix3DBasics covarianceToPack)
+   {
+      computeCovariance3D(input, null, covarianceToPack);
+   }
+
+   /**
+    * Computes the covariance matrix from a list of 3D tuples.
+    *
+    * @param input            the list of tuples to use for computing the covariance matrix. Not
+    *                         modified.
+    * @param averageToPack    tuple in which the average from the input is stored. Modified. Can be
+    *                         {@code null}.
+    * @param covarianceToPack the matrix in which the 3-by-3 covariance matrix is stored. Modified.
+    */
+   public static void computeCovariance3D(List<? extends Tuple3DReadOnly> input, Tuple3DBasics averageToPack, Matrix3DBasics covarianceToPack)
    {
       double meanX = 0.0;
       double meanY = 0.0;
@@ -648,16 +737,7 @@ public class EuclidPolytopeConstructionTools
 
       }
 
-      covarianceToPack.reshape(3, 3);
-      covarianceToPack.set(0, covXX);
-      covarianceToPack.set(1, covXY);
-      covarianceToPack.set(2, covXZ);
-      covarianceToPack.set(3, covXY);
-      covarianceToPack.set(4, covYY);
-      covarianceToPack.set(5, covYZ);
-      covarianceToPack.set(6, covXZ);
-      covarianceToPack.set(7, covYZ);
-      covarianceToPack.set(8, covZZ);
+      covarianceToPack.set(covXX, covXY, covXZ, covXY, covYY, covYZ, covXZ, covYZ, covZZ);
    }
 
    /**
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import us.ihmc.euclid.geometry.IndexedTriangleMesh3D;
 import us.ihmc.euclid.geometry.Triangle3D;
 import us.ihmc.euclid.geometry.interfaces.Triangle3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
@@ -158,6 +159,30 @@ public class IcoSphereFactory
          return triangles;
       }
 
+      /**
+       * Creates a new indexed triangle mesh with the vertices and triangles of this mesh.
+       * <p>
+       * The indexed mesh stores the vertices and triangles in packed arrays and can be used to build a
+       * {@link us.ihmc.euclid.geometry.tools.TriangleMeshBVH3D} for fast queries.
+       * </p>
+       *
+       * @return the new indexed triangle mesh.
+       */
+      public IndexedTriangleMesh3D toIndexedTriangleMesh3D()
+      {
+         IndexedTriangleMesh3D indexedMesh = new IndexedTriangleMesh3D();
+
+         for (int index = 0; index < getNumberOfVertices(); index++)
+            indexedMesh.addVertex(vertices.get(index));
+         for (int index = 0; index < getNumberOfTriangles(); index++)
+         {
+            TriangleIndices triangleIndices = faces.get(index);
+            indexedMesh.addTriangle(triangleIndices.indexA, triangleIndices.indexB, triangleIndices.indexC);
+         }
+
+         return indexedMesh;
+      }
+
       /** {@inheritDoc} */
       @Override
       public void applyTransform(Transform transform)
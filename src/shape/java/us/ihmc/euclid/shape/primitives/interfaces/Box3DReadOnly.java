@@ -5,6 +5,7 @@ import static us.ihmc.euclid.tools.TupleTools.dot;
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.interfaces.Line3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.interfaces.Transformable;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
@@ -125,6 +126,31 @@ public interface Box3DReadOnly extends Shape3DReadOnly
       return distance <= 0.0;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      Point3DBasics rayOriginInLocal = getIntermediateVariableSupplier().requestPoint3D();
+      Vector3DBasics rayDirectionInLocal = getIntermediateVariableSupplier().requestVector3D();
+      getPose().inverseTransform(rayOrigin, rayOriginInLocal);
+      getPose().inverseTransform(rayDirection, rayDirectionInLocal);
+
+      double distance = EuclidShapeTools.castRayBox3D(rayOriginInLocal, rayDirectionInLocal, getSize(), intersectionToPack, normalAtIntersectionToPack);
+
+      if (!Double.isNaN(distance))
+      {
+         if (intersectionToPack != null)
+            transformToWorld(intersectionToPack);
+         if (normalAtIntersectionToPack != null)
+            transformToWorld(normalAtIntersectionToPack);
+      }
+
+      getIntermediateVariableSupplier().releasePoint3D(rayOriginInLocal);
+      getIntermediateVariableSupplier().releaseVector3D(rayDirectionInLocal);
+
+      return distance;
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
@@ -345,6 +371,16 @@ public interface Box3DReadOnly extends Shape3DReadOnly
       EuclidShapeTools.boundingBoxBox3D(getPosition(), getOrientation(), getSize(), boundingBoxToPack);
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      orientedBoundingBoxToPack.getCenter().setToZero();
+      orientedBoundingBoxToPack.getOrientation().setIdentity();
+      orientedBoundingBoxToPack.setHalfSize(0.5 * getSizeX(), 0.5 * getSizeY(), 0.5 * getSizeZ());
+      transformToWorld(orientedBoundingBoxToPack);
+   }
+
    /**
     * Gets the {@code ConvexPolytope3DReadOnly} view backed this box.
     * 
@@ -2,6 +2,7 @@ package us.ihmc.euclid.shape.primitives.interfaces;
 
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.interfaces.Line3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.shape.tools.EuclidShapeTools;
 import us.ihmc.euclid.tools.EuclidCoreTools;
@@ -130,6 +131,20 @@ public interface Cylinder3DReadOnly extends Shape3DReadOnly
                                                                  normalAtClosestPointToPack) <= 0.0;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      return EuclidShapeTools.castRayCylinder3D(rayOrigin,
+                                                rayDirection,
+                                                getPosition(),
+                                                getAxis(),
+                                                getLength(),
+                                                getRadius(),
+                                                intersectionToPack,
+                                                normalAtIntersectionToPack);
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
@@ -217,6 +232,15 @@ public interface Cylinder3DReadOnly extends Shape3DReadOnly
       EuclidShapeTools.boundingBoxCylinder3D(getPosition(), getAxis(), getLength(), getRadius(), boundingBoxToPack);
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      orientedBoundingBoxToPack.getCenter().set(getPosition());
+      EuclidGeometryTools.orientation3DFromZUpToVector3D(getAxis(), orientedBoundingBoxToPack.getOrientation());
+      orientedBoundingBoxToPack.setHalfSize(getRadius(), getRadius(), getHalfLength());
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean isConvex()
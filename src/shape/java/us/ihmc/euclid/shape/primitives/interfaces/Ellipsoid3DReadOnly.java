@@ -3,6 +3,7 @@ package us.ihmc.euclid.shape.primitives.interfaces;
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.interfaces.Line3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.interfaces.Transformable;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
@@ -128,6 +129,31 @@ public interface Ellipsoid3DReadOnly extends Shape3DReadOnly
       return distance <= 0.0;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      Point3DBasics rayOriginInLocal = getIntermediateVariableSupplier().requestPoint3D();
+      Vector3DBasics rayDirectionInLocal = getIntermediateVariableSupplier().requestVector3D();
+      getPose().inverseTransform(rayOrigin, rayOriginInLocal);
+      getPose().inverseTransform(rayDirection, rayDirectionInLocal);
+
+      double distance = EuclidShapeTools.castRayEllipsoid3D(rayOriginInLocal, rayDirectionInLocal, getRadii(), intersectionToPack, normalAtIntersectionToPack);
+
+      if (!Double.isNaN(distance))
+      {
+         if (intersectionToPack != null)
+            transformToWorld(intersectionToPack);
+         if (normalAtIntersectionToPack != null)
+            transformToWorld(normalAtIntersectionToPack);
+      }
+
+      getIntermediateVariableSupplier().releasePoint3D(rayOriginInLocal);
+      getIntermediateVariableSupplier().releaseVector3D(rayDirectionInLocal);
+
+      return distance;
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
@@ -272,6 +298,16 @@ public interface Ellipsoid3DReadOnly extends Shape3DReadOnly
       EuclidShapeTools.boundingBoxEllipsoid3D(getPosition(), getOrientation(), getRadii(), boundingBoxToPack);
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      orientedBoundingBoxToPack.getCenter().setToZero();
+      orientedBoundingBoxToPack.getOrientation().setIdentity();
+      orientedBoundingBoxToPack.setHalfSize(getRadiusX(), getRadiusY(), getRadiusZ());
+      transformToWorld(orientedBoundingBoxToPack);
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean isConvex()
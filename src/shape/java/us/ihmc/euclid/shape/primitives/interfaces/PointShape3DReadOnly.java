@@ -1,6 +1,10 @@
 package us.ihmc.euclid.shape.primitives.interfaces;
 
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
+import us.ihmc.euclid.shape.tools.EuclidShapeTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
@@ -66,6 +70,49 @@ public interface PointShape3DReadOnly extends Shape3DReadOnly, Point3DReadOnly
       return false;
    }
 
+   /**
+    * {@inheritDoc}
+    * <p>
+    * A point shape has no surface, a ray is considered to intersect it only when it passes within
+    * {@link EuclidShapeTools#MIN_DISTANCE_EPSILON} of the point. The normal is then set to the
+    * opposite of the ray direction.
+    * </p>
+    */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      double directionLengthSquared = rayDirection.lengthSquared();
+
+      if (!(directionLengthSquared > 0.0))
+         return Double.NaN;
+
+      double dx = getX() - rayOrigin.getX();
+      double dy = getY() - rayOrigin.getY();
+      double dz = getZ() - rayOrigin.getZ();
+      double t = TupleTools.dot(dx, dy, dz, rayDirection) / directionLengthSquared;
+
+      if (t < 0.0)
+         return Double.NaN;
+
+      dx -= t * rayDirection.getX();
+      dy -= t * rayDirection.getY();
+      dz -= t * rayDirection.getZ();
+
+      if (EuclidCoreTools.normSquared(dx, dy, dz) > EuclidShapeTools.MIN_DISTANCE_EPSILON * EuclidShapeTools.MIN_DISTANCE_EPSILON)
+         return Double.NaN;
+
+      if (intersectionToPack != null)
+         intersectionToPack.set(this);
+
+      if (normalAtIntersectionToPack != null)
+      {
+         normalAtIntersectionToPack.setAndNegate(rayDirection);
+         normalAtIntersectionToPack.normalize();
+      }
+
+      return t * EuclidCoreTools.squareRoot(directionLengthSquared);
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
@@ -96,6 +143,15 @@ public interface PointShape3DReadOnly extends Shape3DReadOnly, Point3DReadOnly
       boundingBoxToPack.set(this, this);
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      orientedBoundingBoxToPack.getCenter().set(this);
+      orientedBoundingBoxToPack.getOrientation().setIdentity();
+      orientedBoundingBoxToPack.setHalfSize(0.0, 0.0, 0.0);
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean isConvex()
@@ -2,6 +2,7 @@ package us.ihmc.euclid.shape.primitives.interfaces;
 
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.interfaces.Transformable;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeTools;
@@ -119,6 +120,31 @@ public interface Ramp3DReadOnly extends Shape3DReadOnly
       return distance <= 0.0;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      Point3DBasics rayOriginInLocal = getIntermediateVariableSupplier().requestPoint3D();
+      Vector3DBasics rayDirectionInLocal = getIntermediateVariableSupplier().requestVector3D();
+      getPose().inverseTransform(rayOrigin, rayOriginInLocal);
+      getPose().inverseTransform(rayDirection, rayDirectionInLocal);
+
+      double distance = EuclidShapeTools.castRayRamp3D(rayOriginInLocal, rayDirectionInLocal, getSize(), intersectionToPack, normalAtIntersectionToPack);
+
+      if (!Double.isNaN(distance))
+      {
+         if (intersectionToPack != null)
+            transformToWorld(intersectionToPack);
+         if (normalAtIntersectionToPack != null)
+            transformToWorld(normalAtIntersectionToPack);
+      }
+
+      getIntermediateVariableSupplier().releasePoint3D(rayOriginInLocal);
+      getIntermediateVariableSupplier().releaseVector3D(rayDirectionInLocal);
+
+      return distance;
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
@@ -354,6 +380,16 @@ public interface Ramp3DReadOnly extends Shape3DReadOnly
       getIntermediateVariableSupplier().releasePoint3D(vertex);
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      orientedBoundingBoxToPack.getCenter().set(0.5 * getSizeX(), 0.0, 0.5 * getSizeZ());
+      orientedBoundingBoxToPack.getOrientation().setIdentity();
+      orientedBoundingBoxToPack.setHalfSize(0.5 * getSizeX(), 0.5 * getSizeY(), 0.5 * getSizeZ());
+      transformToWorld(orientedBoundingBoxToPack);
+   }
+
    /**
     * Gets the {@code ConvexPolytope3DReadOnly} view backed this ramp.
     * 
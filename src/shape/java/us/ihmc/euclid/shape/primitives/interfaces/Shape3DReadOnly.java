@@ -3,11 +3,13 @@ package us.ihmc.euclid.shape.primitives.interfaces;
 import us.ihmc.euclid.geometry.BoundingBox3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
 import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
  * Read-only interface for representing a 3D shape.
@@ -162,6 +164,50 @@ public interface Shape3DReadOnly extends SupportingVertexHolder
     */
    boolean orthogonalProjection(Point3DReadOnly pointToProject, Point3DBasics projectionToPack);
 
+   /**
+    * Computes the first intersection between a ray and the surface of this shape.
+    * <p>
+    * When the ray origin is inside this shape, the intersection is where the ray exits this shape.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If the ray does not intersect this shape, the method fails, returns {@link Double#NaN}, and
+    * the output arguments remain unmodified.
+    * <li>Rays that only graze the surface of this shape may or may not be reported as intersecting.
+    * </ul>
+    * </p>
+    *
+    * @param rayOrigin                  the origin of the ray. Not modified.
+    * @param rayDirection               the direction of the ray. It does not need to be a unit vector.
+    *                                   Not modified.
+    * @param intersectionToPack         the coordinates of the intersection. Can be {@code null}.
+    *                                   Modified.
+    * @param normalAtIntersectionToPack the surface normal at the intersection. The normal points
+    *                                   toward outside the shape. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect this shape.
+    */
+   double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack);
+
+   /**
+    * Computes the distance from the ray origin to the first intersection between a ray and the
+    * surface of this shape.
+    * <p>
+    * When the ray origin is inside this shape, the intersection is where the ray exits this shape.
+    * </p>
+    *
+    * @param rayOrigin    the origin of the ray. Not modified.
+    * @param rayDirection the direction of the ray. It does not need to be a unit vector. Not
+    *                     modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect this shape.
+    */
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection)
+   {
+      return castRay(rayOrigin, rayDirection, null, null);
+   }
+
    /**
     * Gets the tightest axis-aligned bounding box that contains this shape.
     * <p>
@@ -184,6 +230,26 @@ public interface Shape3DReadOnly extends SupportingVertexHolder
     */
    void getBoundingBox(BoundingBox3DBasics boundingBoxToPack);
 
+   /**
+    * Gets a tight oriented bounding box that contains this shape.
+    * <p>
+    * Compared to {@link #getBoundingBox(BoundingBox3DBasics)}, the box follows the orientation of
+    * this shape, such that it remains tight for rotated shapes.
+    * </p>
+    * <p>
+    * WARNING: The default implementation of this method generates garbage and only returns the
+    * axis-aligned bounding box of this shape.
+    * </p>
+    *
+    * @param orientedBoundingBoxToPack the oriented bounding box to pack. Modified.
+    */
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      BoundingBox3D boundingBox3D = new BoundingBox3D();
+      getBoundingBox(boundingBox3D);
+      orientedBoundingBoxToPack.set(boundingBox3D);
+   }
+
    /**
     * Gets the convex property for this shape.
     *
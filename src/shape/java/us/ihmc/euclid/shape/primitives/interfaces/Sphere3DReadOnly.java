@@ -2,6 +2,7 @@ package us.ihmc.euclid.shape.primitives.interfaces;
 
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.interfaces.Line3DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.shape.tools.EuclidShapeTools;
 import us.ihmc.euclid.tools.EuclidCoreTools;
@@ -71,6 +72,13 @@ public interface Sphere3DReadOnly extends Shape3DReadOnly
                                                                normalAtClosestPointToPack) <= 0.0;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      return EuclidShapeTools.castRaySphere3D(rayOrigin, rayDirection, getPosition(), getRadius(), intersectionToPack, normalAtIntersectionToPack);
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
@@ -181,6 +189,15 @@ public interface Sphere3DReadOnly extends Shape3DReadOnly
       boundingBoxToPack.set(minX, minY, minZ, maxX, maxY, maxZ);
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      orientedBoundingBoxToPack.getCenter().set(getPosition());
+      orientedBoundingBoxToPack.getOrientation().setIdentity();
+      orientedBoundingBoxToPack.setHalfSize(getRadius(), getRadius(), getRadius());
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean isConvex()
@@ -1,6 +1,7 @@
 package us.ihmc.euclid.shape.primitives.interfaces;
 
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.OrientedBoundingBox3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.shape.tools.EuclidShapeTools;
 import us.ihmc.euclid.tools.EuclidCoreTools;
@@ -88,6 +89,20 @@ public interface Torus3DReadOnly extends Shape3DReadOnly
                                                               normalAtClosestPointToPack) <= 0.0;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   default double castRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack, Vector3DBasics normalAtIntersectionToPack)
+   {
+      return EuclidShapeTools.castRayTorus3D(rayOrigin,
+                                             rayDirection,
+                                             getPosition(),
+                                             getAxis(),
+                                             getRadius(),
+                                             getTubeRadius(),
+                                             intersectionToPack,
+                                             normalAtIntersectionToPack);
+   }
+
    /** {@inheritDoc} */
    @Override
    default boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
@@ -120,7 +135,16 @@ public interface Torus3DReadOnly extends Shape3DReadOnly
    @Override
    default void getBoundingBox(BoundingBox3DBasics boundingBoxToPack)
    {
-      EuclidShapeTools.boundingBoxCylinder3D(getPosition(), getAxis(), getTubeRadius(), getRadius() + getTubeRadius(), boundingBoxToPack);
+      EuclidShapeTools.boundingBoxCylinder3D(getPosition(), getAxis(), 2.0 * getTubeRadius(), getRadius() + getTubeRadius(), boundingBoxToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   default void getOrientedBoundingBox(OrientedBoundingBox3DBasics orientedBoundingBoxToPack)
+   {
+      orientedBoundingBoxToPack.getCenter().set(getPosition());
+      EuclidGeometryTools.orientation3DFromZUpToVector3D(getAxis(), orientedBoundingBoxToPack.getOrientation());
+      orientedBoundingBoxToPack.setHalfSize(getRadius() + getTubeRadius(), getRadius() + getTubeRadius(), getTubeRadius());
    }
 
    /** {@inheritDoc} */
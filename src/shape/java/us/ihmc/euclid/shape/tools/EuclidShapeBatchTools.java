@@ -0,0 +1,437 @@
+package us.ihmc.euclid.shape.tools;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Box3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Capsule3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Cylinder3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Ellipsoid3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Ramp3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DPoseReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Sphere3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Torus3DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * This class provides batch queries between a point cloud and a collection of shapes, for instance
+ * to remove the points of a range sensor that hit the robot's own body.
+ * <p>
+ * The point cloud is given as a structure of arrays: one array per coordinate, the i<sup>th</sup>
+ * point being {@code (xs[i], ys[i], zs[i])}. For each shape, the points are first tested against the
+ * shape's bounding box such that the points far from the shape are discarded without computing
+ * anything else. The shapes defined by a pose, i.e. boxes, ellipsoids, and ramps, have their pose
+ * extracted once and the remaining points are transformed into the shape's local frame before
+ * calling the same {@link EuclidShapeTools} kernels as the shape itself. The other primitives are
+ * evaluated directly in world using their kernel, while any other shape falls back to
+ * {@link Shape3DReadOnly#isPointInside(Point3DReadOnly, double)} and
+ * {@link Shape3DReadOnly#signedDistance(Point3DReadOnly)}.
+ * </p>
+ * <p>
+ * Each query can optionally be executed in parallel using the common fork-join pool. The parallel
+ * execution is only used when the number of points is at least {@value #PARALLEL_THRESHOLD}, below
+ * which the overhead outweighs the gain. In that case, the shapes have to support concurrent
+ * queries, which is the case of the shapes of this library unless they have been given a
+ * garbage-free intermediate variable supplier.
+ * </p>
+ */
+public class EuclidShapeBatchTools
+{
+   /** Minimum number of points for which a query is executed in parallel. */
+   public static final int PARALLEL_THRESHOLD = 1 << 14;
+   /** Number of points processed by a single task when executing in parallel. */
+   private static final int PARALLEL_CHUNK_SIZE = 1 << 11;
+
+   private static final int GENERIC = 0;
+   private static final int BOX = 1;
+   private static final int CAPSULE = 2;
+   private static final int CYLINDER = 3;
+   private static final int ELLIPSOID = 4;
+   private static final int RAMP = 5;
+   private static final int SPHERE = 6;
+   private static final int TORUS = 7;
+
+   private EuclidShapeBatchTools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Tests for each point of a point cloud whether it is inside any of the given shapes.
+    *
+    * @param shapes           the shapes to test the points against. Not modified.
+    * @param xs               the x-coordinates of the points. Not modified.
+    * @param ys               the y-coordinates of the points. Not modified.
+    * @param zs               the z-coordinates of the points. Not modified.
+    * @param numberOfPoints   the number of points to test.
+    * @param epsilon          the tolerance to use for the test. A positive value is equivalent to
+    *                         growing the shapes, while a negative value is equivalent to shrinking
+    *                         them.
+    * @param insideMaskToPack the array in which the outcome of the test is stored for each point.
+    *                         Modified.
+    * @return the number of points inside at least one of the shapes.
+    * @see Shape3DReadOnly#isPointInside(Point3DReadOnly, double)
+    */
+   public static int classifyPointsInside(List<? extends Shape3DReadOnly> shapes, double[] xs, double[] ys, double[] zs, int numberOfPoints, double epsilon,
+                                          boolean[] insideMaskToPack)
+   {
+      return classifyPointsInside(shapes, xs, ys, zs, numberOfPoints, epsilon, insideMaskToPack, false);
+   }
+
+   /**
+    * Tests for each point of a point cloud whether it is inside any of the given shapes.
+    *
+    * @param shapes           the shapes to test the points against. Not modified.
+    * @param xs               the x-coordinates of the points. Not modified.
+    * @param ys               the y-coordinates of the points. Not modified.
+    * @param zs               the z-coordinates of the points. Not modified.
+    * @param numberOfPoints   the number of points to test.
+    * @param epsilon          the tolerance to use for the test. A positive value is equivalent to
+    *                         growing the shapes, while a negative value is equivalent to shrinking
+    *                         them.
+    * @param insideMaskToPack the array in which the outcome of the test is stored for each point.
+    *                         Modified.
+    * @param parallel         whether the query may be executed in parallel.
+    * @return the number of points inside at least one of the shapes.
+    * @see Shape3DReadOnly#isPointInside(Point3DReadOnly, double)
+    */
+   public static int classifyPointsInside(List<? extends Shape3DReadOnly> shapes, double[] xs, double[] ys, double[] zs, int numberOfPoints, double epsilon,
+                                          boolean[] insideMaskToPack, boolean parallel)
+   {
+      checkArrayLengths(xs, ys, zs, numberOfPoints);
+      if (insideMaskToPack.length < numberOfPoints)
+         throw new IllegalArgumentException("The mask array is too small, expected at least " + numberOfPoints + " elements but was: "
+               + insideMaskToPack.length);
+
+      PreparedShapes preparedShapes = new PreparedShapes(shapes, epsilon);
+      RangeQuery query = (from, to) -> classifyRange(preparedShapes, xs, ys, zs, epsilon, insideMaskToPack, from, to);
+      return execute(query, numberOfPoints, parallel);
+   }
+
+   /**
+    * Computes for each point of a point cloud the signed distance to the union of the given shapes,
+    * i.e. the minimum of the signed distances to each shape.
+    * <p>
+    * The distances are truncated at {@code maximumDistance} which allows to skip a shape for all the
+    * points that are farther than {@code maximumDistance} from its bounding box.
+    * </p>
+    *
+    * @param shapes                the shapes to compute the distance to. Not modified.
+    * @param xs                    the x-coordinates of the points. Not modified.
+    * @param ys                    the y-coordinates of the points. Not modified.
+    * @param zs                    the z-coordinates of the points. Not modified.
+    * @param numberOfPoints        the number of points to process.
+    * @param maximumDistance       the value at which the distances are truncated. Use
+    *                              {@link Double#POSITIVE_INFINITY} to compute the exact distances.
+    * @param signedDistancesToPack the array in which the signed distance of each point is stored.
+    *                              Modified.
+    * @return the number of points with a negative signed distance, i.e. inside at least one shape.
+    * @throws IllegalArgumentException if {@code maximumDistance} is not strictly positive.
+    * @see Shape3DReadOnly#signedDistance(Point3DReadOnly)
+    */
+   public static int computeSignedDistances(List<? extends Shape3DReadOnly> shapes, double[] xs, double[] ys, double[] zs, int numberOfPoints,
+                                            double maximumDistance, double[] signedDistancesToPack)
+   {
+      return computeSignedDistances(shapes, xs, ys, zs, numberOfPoints, maximumDistance, signedDistancesToPack, false);
+   }
+
+   /**
+    * Computes for each point of a point cloud the signed distance to the union of the given shapes,
+    * i.e. the minimum of the signed distances to each shape.
+    * <p>
+    * The distances are truncated at {@code maximumDistance} which allows to skip a shape for all the
+    * points that are farther than {@code maximumDistance} from its bounding box.
+    * </p>
+    *
+    * @param shapes                the shapes to compute the distance to. Not modified.
+    * @param xs                    the x-coordinates of the points. Not modified.
+    * @param ys                    the y-coordinates of the points. Not modified.
+    * @param zs                    the z-coordinates of the points. Not modified.
+    * @param numberOfPoints        the number of points to process.
+    * @param maximumDistance       the value at which the distances are truncated. Use
+    *                              {@link Double#POSITIVE_INFINITY} to compute the exact distances.
+    * @param signedDistancesToPack the array in which the signed distance of each point is stored.
+    *                              Modified.
+    * @param parallel              whether the query may be executed in parallel.
+    * @return the number of points with a negative signed distance, i.e. inside at least one shape.
+    * @throws IllegalArgumentException if {@code maximumDistance} is not strictly positive.
+    * @see Shape3DReadOnly#signedDistance(Point3DReadOnly)
+    */
+   public static int computeSignedDistances(List<? extends Shape3DReadOnly> shapes, double[] xs, double[] ys, double[] zs, int numberOfPoints,
+                                            double maximumDistance, double[] signedDistancesToPack, boolean parallel)
+   {
+      if (!(maximumDistance > 0.0))
+         throw new IllegalArgumentException("The maximum distance has to be strictly positive, was: " + maximumDistance);
+      checkArrayLengths(xs, ys, zs, numberOfPoints);
+      if (signedDistancesToPack.length < numberOfPoints)
+         throw new IllegalArgumentException("The distance array is too small, expected at least " + numberOfPoints + " elements but was: "
+               + signedDistancesToPack.length);
+
+      PreparedShapes preparedShapes = new PreparedShapes(shapes, maximumDistance);
+      RangeQuery query = (from, to) -> signedDistanceRange(preparedShapes, xs, ys, zs, maximumDistance, signedDistancesToPack, from, to);
+      return execute(query, numberOfPoints, parallel);
+   }
+
+   private static int classifyRange(PreparedShapes shapes, double[] xs, double[] ys, double[] zs, double epsilon, boolean[] insideMask, int from, int to)
+   {
+      Arrays.fill(insideMask, from, to, false);
+      Point3D query = new Point3D();
+      int numberOfInsidePoints = 0;
+
+      for (int shapeIndex = 0; shapeIndex < shapes.size(); shapeIndex++)
+      {
+         for (int i = from; i < to; i++)
+         {
+            if (insideMask[i] || !shapes.toQuery(shapeIndex, xs[i], ys[i], zs[i], query))
+               continue;
+
+            if (isPointInside(shapes.types[shapeIndex], shapes.shapes.get(shapeIndex), query, epsilon))
+            {
+               insideMask[i] = true;
+               numberOfInsidePoints++;
+            }
+         }
+      }
+
+      return numberOfInsidePoints;
+   }
+
+   private static int signedDistanceRange(PreparedShapes shapes, double[] xs, double[] ys, double[] zs, double maximumDistance, double[] signedDistances,
+                                          int from, int to)
+   {
+      Arrays.fill(signedDistances, from, to, maximumDistance);
+      Point3D query = new Point3D();
+
+      for (int shapeIndex = 0; shapeIndex < shapes.size(); shapeIndex++)
+      {
+         for (int i = from; i < to; i++)
+         {
+            if (!shapes.toQuery(shapeIndex, xs[i], ys[i], zs[i], query))
+               continue;
+
+            double signedDistance = signedDistance(shapes.types[shapeIndex], shapes.shapes.get(shapeIndex), query);
+            if (signedDistance < signedDistances[i])
+               signedDistances[i] = signedDistance;
+         }
+      }
+
+      int numberOfInsidePoints = 0;
+      for (int i = from; i < to; i++)
+      {
+         if (signedDistances[i] < 0.0)
+            numberOfInsidePoints++;
+      }
+      return numberOfInsidePoints;
+   }
+
+   private static boolean isPointInside(int type, Shape3DReadOnly shape, Point3DReadOnly query, double epsilon)
+   {
+      switch (type)
+      {
+         case BOX:
+            return EuclidShapeTools.isPoint3DInsideBox3D(query, ((Box3DReadOnly) shape).getSize(), epsilon);
+         case CAPSULE:
+            Capsule3DReadOnly capsule = (Capsule3DReadOnly) shape;
+            return EuclidShapeTools.isPoint3DInsideCapsule3D(query, capsule.getPosition(), capsule.getAxis(), capsule.getLength(), capsule.getRadius(), epsilon);
+         case CYLINDER:
+            Cylinder3DReadOnly cylinder = (Cylinder3DReadOnly) shape;
+            return EuclidShapeTools.isPoint3DInsideCylinder3D(query,
+                                                              cylinder.getPosition(),
+                                                              cylinder.getAxis(),
+                                                              cylinder.getLength(),
+                                                              cylinder.getRadius(),
+                                                              epsilon);
+         case ELLIPSOID:
+            return EuclidShapeTools.isPoint3DInsideEllipsoid3D(query, ((Ellipsoid3DReadOnly) shape).getRadii(), epsilon);
+         case RAMP:
+            return EuclidShapeTools.isPoint3DInsideRamp3D(query, ((Ramp3DReadOnly) shape).getSize(), epsilon);
+         case SPHERE:
+            Sphere3DReadOnly sphere = (Sphere3DReadOnly) shape;
+            return EuclidShapeTools.isPoint3DInsideSphere3D(query, sphere.getPosition(), sphere.getRadius(), epsilon);
+         case TORUS:
+            Torus3DReadOnly torus = (Torus3DReadOnly) shape;
+            return EuclidShapeTools.isPoint3DInsideTorus3D(query, torus.getPosition(), torus.getAxis(), torus.getRadius(), torus.getTubeRadius(), epsilon);
+         default:
+            return shape.isPointInside(query, epsilon);
+      }
+   }
+
+   private static double signedDistance(int type, Shape3DReadOnly shape, Point3DReadOnly query)
+   {
+      switch (type)
+      {
+         case BOX:
+            return EuclidShapeTools.signedDistanceBetweenPoint3DAndBox3D(query, ((Box3DReadOnly) shape).getSize());
+         case CAPSULE:
+            Capsule3DReadOnly capsule = (Capsule3DReadOnly) shape;
+            return EuclidShapeTools.signedDistanceBetweenPoint3DAndCapsule3D(query, capsule.getPosition(), capsule.getAxis(), capsule.getLength(), capsule.getRadius());
+         case CYLINDER:
+            Cylinder3DReadOnly cylinder = (Cylinder3DReadOnly) shape;
+            return EuclidShapeTools.signedDistanceBetweenPoint3DAndCylinder3D(query,
+                                                                              cylinder.getPosition(),
+                                                                              cylinder.getAxis(),
+                                                                              cylinder.getLength(),
+                                                                              cylinder.getRadius());
+         case ELLIPSOID:
+            return EuclidEllipsoid3DTools.distancePoint3DEllipsoid3D(((Ellipsoid3DReadOnly) shape).getRadii(), query);
+         case RAMP:
+            return EuclidShapeTools.signedDistanceBetweenPoint3DAndRamp3D(query, ((Ramp3DReadOnly) shape).getSize());
+         case SPHERE:
+            Sphere3DReadOnly sphere = (Sphere3DReadOnly) shape;
+            return EuclidShapeTools.signedDistanceBetweenPoint3DAndSphere3D(query, sphere.getPosition(), sphere.getRadius());
+         case TORUS:
+            Torus3DReadOnly torus = (Torus3DReadOnly) shape;
+            return EuclidShapeTools.signedDistanceBetweenPoint3DAndTorus3D(query, torus.getPosition(), torus.getAxis(), torus.getRadius(), torus.getTubeRadius());
+         default:
+            return shape.signedDistance(query);
+      }
+   }
+
+   private static int execute(RangeQuery query, int numberOfPoints, boolean parallel)
+   {
+      if (!parallel || numberOfPoints < PARALLEL_THRESHOLD)
+         return query.process(0, numberOfPoints);
+
+      int numberOfChunks = (numberOfPoints + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+      return IntStream.range(0, numberOfChunks).parallel().map(chunk ->
+      {
+         int from = chunk * PARALLEL_CHUNK_SIZE;
+         return query.process(from, Math.min(from + PARALLEL_CHUNK_SIZE, numberOfPoints));
+      }).sum();
+   }
+
+   private static void checkArrayLengths(double[] xs, double[] ys, double[] zs, int numberOfPoints)
+   {
+      if (numberOfPoints < 0)
+         throw new IllegalArgumentException("The number of points cannot be negative: " + numberOfPoints);
+      if (xs.length < numberOfPoints || ys.length < numberOfPoints || zs.length < numberOfPoints)
+         throw new IllegalArgumentException("The coordinate arrays are too small, expected at least " + numberOfPoints + " elements but were: "
+               + xs.length + ", " + ys.length + ", " + zs.length);
+   }
+
+   private static interface RangeQuery
+   {
+      int process(int from, int to);
+   }
+
+   /**
+    * Holds the data extracted once per shape before processing the points: the shape's type, its
+    * bounding box grown by a margin, and for the shapes defined by a pose, the transform from world to
+    * local.
+    */
+   private static class PreparedShapes
+   {
+      private final List<? extends Shape3DReadOnly> shapes;
+      private final int[] types;
+      /** For each shape: minX, minY, minZ, maxX, maxY, maxZ. */
+      private final double[] bounds;
+      /** For each shape defined by a pose: the rotation matrix row-major followed by the translation. */
+      private final double[] transforms;
+
+      private PreparedShapes(List<? extends Shape3DReadOnly> shapes, double margin)
+      {
+         this.shapes = shapes;
+         types = new int[shapes.size()];
+         bounds = new double[6 * shapes.size()];
+         transforms = new double[12 * shapes.size()];
+         BoundingBox3D boundingBox = new BoundingBox3D();
+
+         for (int shapeIndex = 0; shapeIndex < shapes.size(); shapeIndex++)
+         {
+            Shape3DReadOnly shape = shapes.get(shapeIndex);
+            types[shapeIndex] = typeOf(shape);
+
+            shape.getBoundingBox(boundingBox);
+            int offset = 6 * shapeIndex;
+            bounds[offset] = boundingBox.getMinX() - margin;
+            bounds[offset + 1] = boundingBox.getMinY() - margin;
+            bounds[offset + 2] = boundingBox.getMinZ() - margin;
+            bounds[offset + 3] = boundingBox.getMaxX() + margin;
+            bounds[offset + 4] = boundingBox.getMaxY() + margin;
+            bounds[offset + 5] = boundingBox.getMaxZ() + margin;
+
+            if (isDefinedInLocal(types[shapeIndex]))
+            {
+               Shape3DPoseReadOnly pose = shape.getPose();
+               RotationMatrixReadOnly rotation = pose.getShapeOrientation();
+               offset = 12 * shapeIndex;
+               transforms[offset] = rotation.getM00();
+               transforms[offset + 1] = rotation.getM01();
+               transforms[offset + 2] = rotation.getM02();
+               transforms[offset + 3] = rotation.getM10();
+               transforms[offset + 4] = rotation.getM11();
+               transforms[offset + 5] = rotation.getM12();
+               transforms[offset + 6] = rotation.getM20();
+               transforms[offset + 7] = rotation.getM21();
+               transforms[offset + 8] = rotation.getM22();
+               transforms[offset + 9] = pose.getShapePosition().getX();
+               transforms[offset + 10] = pose.getShapePosition().getY();
+               transforms[offset + 11] = pose.getShapePosition().getZ();
+            }
+         }
+      }
+
+      private int size()
+      {
+         return types.length;
+      }
+
+      /**
+       * Tests the point against the grown bounding box of the shape and when inside, packs the
+       * coordinates the shape kernel expects: in local frame for the shapes defined by a pose, in world
+       * otherwise.
+       */
+      private boolean toQuery(int shapeIndex, double x, double y, double z, Point3D queryToPack)
+      {
+         int offset = 6 * shapeIndex;
+         if (x < bounds[offset] || y < bounds[offset + 1] || z < bounds[offset + 2] || x > bounds[offset + 3] || y > bounds[offset + 4]
+               || z > bounds[offset + 5])
+            return false;
+
+         if (!isDefinedInLocal(types[shapeIndex]))
+         {
+            queryToPack.set(x, y, z);
+            return true;
+         }
+
+         offset = 12 * shapeIndex;
+         double dx = x - transforms[offset + 9];
+         double dy = y - transforms[offset + 10];
+         double dz = z - transforms[offset + 11];
+         // Multiplying by the transpose of the rotation matrix.
+         queryToPack.set(transforms[offset] * dx + transforms[offset + 3] * dy + transforms[offset + 6] * dz,
+                         transforms[offset + 1] * dx + transforms[offset + 4] * dy + transforms[offset + 7] * dz,
+                         transforms[offset + 2] * dx + transforms[offset + 5] * dy + transforms[offset + 8] * dz);
+         return true;
+      }
+
+      private static int typeOf(Shape3DReadOnly shape)
+      {
+         if (shape instanceof Box3DReadOnly)
+            return BOX;
+         if (shape instanceof Capsule3DReadOnly)
+            return CAPSULE;
+         if (shape instanceof Cylinder3DReadOnly)
+            return CYLINDER;
+         if (shape instanceof Ellipsoid3DReadOnly)
+            return ELLIPSOID;
+         if (shape instanceof Ramp3DReadOnly)
+            return RAMP;
+         if (shape instanceof Sphere3DReadOnly)
+            return SPHERE;
+         if (shape instanceof Torus3DReadOnly)
+            return TORUS;
+         return GENERIC;
+      }
+
+      private static boolean isDefinedInLocal(int type)
+      {
+         return type == BOX || type == ELLIPSOID || type == RAMP;
+      }
+   }
+}
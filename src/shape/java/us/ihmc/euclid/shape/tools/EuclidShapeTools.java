@@ -1,11 +1,14 @@
 package us.ihmc.euclid.shape.tools;
 
+import java.util.List;
+
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Ramp3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DPoseReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
@@ -2407,6 +2410,811 @@ public class EuclidShapeTools
       supportingVertexToPack.add(torus3DPosition);
    }
 
+   /**
+    * Casts a batch of rays sharing the same origin against a shape, as done for instance when
+    * simulating a range sensor.
+    * <p>
+    * The distance for the rays that do not intersect the shape is set to {@link Double#NaN}.
+    * </p>
+    *
+    * @param shape           the shape to cast the rays against. Not modified.
+    * @param rayOrigin       the origin common to all the rays. Not modified.
+    * @param rayDirections   the direction of each ray. They do not need to be unit vectors. Not
+    *                        modified.
+    * @param distancesToPack the array in which the distance from the ray origin to the intersection
+    *                        is stored for each ray. Its length has to be at least equal to the number
+    *                        of rays. Modified.
+    * @return the number of rays intersecting the shape.
+    * @see Shape3DReadOnly#castRay(Point3DReadOnly, Vector3DReadOnly, Point3DBasics, Vector3DBasics)
+    */
+   public static int castRays(Shape3DReadOnly shape, Point3DReadOnly rayOrigin, List<? extends Vector3DReadOnly> rayDirections, double[] distancesToPack)
+   {
+      return castRays(shape, rayOrigin, rayDirections, distancesToPack, null, null);
+   }
+
+   /**
+    * Casts a batch of rays sharing the same origin against a shape, as done for instance when
+    * simulating a range sensor.
+    * <p>
+    * The i<sup>th</sup> element of each output corresponds to the i<sup>th</sup> ray. The distance
+    * for the rays that do not intersect the shape is set to {@link Double#NaN} while their
+    * intersection and normal remain unmodified.
+    * </p>
+    *
+    * @param shape                       the shape to cast the rays against. Not modified.
+    * @param rayOrigin                   the origin common to all the rays. Not modified.
+    * @param rayDirections               the direction of each ray. They do not need to be unit
+    *                                    vectors. Not modified.
+    * @param distancesToPack             the array in which the distance from the ray origin to the
+    *                                    intersection is stored for each ray. Its length has to be at
+    *                                    least equal to the number of rays. Modified.
+    * @param intersectionsToPack         the list in which the intersection is stored for each ray. Can
+    *                                    be {@code null}. Modified.
+    * @param normalsAtIntersectionToPack the list in which the surface normal at the intersection is
+    *                                    stored for each ray. Can be {@code null}. Modified.
+    * @return the number of rays intersecting the shape.
+    * @see Shape3DReadOnly#castRay(Point3DReadOnly, Vector3DReadOnly, Point3DBasics, Vector3DBasics)
+    */
+   public static int castRays(Shape3DReadOnly shape, Point3DReadOnly rayOrigin, List<? extends Vector3DReadOnly> rayDirections, double[] distancesToPack,
+                              List<? extends Point3DBasics> intersectionsToPack, List<? extends Vector3DBasics> normalsAtIntersectionToPack)
+   {
+      int numberOfIntersections = 0;
+
+      for (int i = 0; i < rayDirections.size(); i++)
+      {
+         Point3DBasics intersection = intersectionsToPack == null ? null : intersectionsToPack.get(i);
+         Vector3DBasics normal = normalsAtIntersectionToPack == null ? null : normalsAtIntersectionToPack.get(i);
+         distancesToPack[i] = shape.castRay(rayOrigin, rayDirections.get(i), intersection, normal);
+
+         if (!Double.isNaN(distancesToPack[i]))
+            numberOfIntersections++;
+      }
+
+      return numberOfIntersections;
+   }
+
+   /**
+    * Computes the first intersection between a ray and an axis-aligned 3D box centered at the origin
+    * given its size.
+    * <p>
+    * When the ray origin is inside the box, the intersection is where the ray exits the box.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray. Not modified.
+    * @param rayDirection       the direction of the ray. It does not need to be a unit vector. Not
+    *                           modified.
+    * @param box3DSize          the size of the box. Not modified.
+    * @param intersectionToPack the coordinates of the intersection. Can be {@code null}. Modified.
+    * @param normalToPack       the surface normal at the intersection. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect the box.
+    */
+   public static double castRayBox3D(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Vector3DReadOnly box3DSize, Point3DBasics intersectionToPack,
+                                     Vector3DBasics normalToPack)
+   {
+      double tEnter = Double.NEGATIVE_INFINITY;
+      double tExit = Double.POSITIVE_INFINITY;
+      int enterAxis = -1;
+      int exitAxis = -1;
+      double enterSign = 0.0;
+      double exitSign = 0.0;
+
+      for (int axis = 0; axis < 3; axis++)
+      {
+         double origin = rayOrigin.getElement(axis);
+         double direction = rayDirection.getElement(axis);
+         double halfSize = 0.5 * box3DSize.getElement(axis);
+
+         if (direction == 0.0)
+         {
+            if (Math.abs(origin) > halfSize)
+               return Double.NaN;
+            continue;
+         }
+
+         double sign = direction > 0.0 ? 1.0 : -1.0;
+         double tNear = (-sign * halfSize - origin) / direction;
+         double tFar = (sign * halfSize - origin) / direction;
+
+         if (tNear > tEnter)
+         {
+            tEnter = tNear;
+            enterAxis = axis;
+            enterSign = -sign;
+         }
+
+         if (tFar < tExit)
+         {
+            tExit = tFar;
+            exitAxis = axis;
+            exitSign = sign;
+         }
+      }
+
+      if (exitAxis == -1 || tEnter > tExit || tExit < 0.0)
+         return Double.NaN;
+
+      boolean isEntering = tEnter >= 0.0;
+
+      if (normalToPack != null)
+      {
+         normalToPack.setToZero();
+         normalToPack.setElement(isEntering ? enterAxis : exitAxis, isEntering ? enterSign : exitSign);
+      }
+
+      return packRayIntersection(rayOrigin, rayDirection, isEntering ? tEnter : tExit, intersectionToPack);
+   }
+
+   /**
+    * Computes the first intersection between a ray and a 3D capsule.
+    * <p>
+    * When the ray origin is inside the capsule, the intersection is where the ray exits the capsule.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray. Not modified.
+    * @param rayDirection       the direction of the ray. It does not need to be a unit vector. Not
+    *                           modified.
+    * @param capsule3DPosition  the coordinates of the capsule's center. Not modified.
+    * @param capsule3DAxis      the axis of the capsule. Not modified.
+    * @param capsule3DLength    the length of the capsule.
+    * @param capsule3DRadius    the radius of the capsule.
+    * @param intersectionToPack the coordinates of the intersection. Can be {@code null}. Modified.
+    * @param normalToPack       the surface normal at the intersection. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect the capsule.
+    */
+   public static double castRayCapsule3D(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DReadOnly capsule3DPosition,
+                                         Vector3DReadOnly capsule3DAxis, double capsule3DLength, double capsule3DRadius, Point3DBasics intersectionToPack,
+                                         Vector3DBasics normalToPack)
+   {
+      double halfLength = 0.5 * capsule3DLength;
+      double radiusSquared = capsule3DRadius * capsule3DRadius;
+
+      double dx = rayDirection.getX();
+      double dy = rayDirection.getY();
+      double dz = rayDirection.getZ();
+      double wx = rayOrigin.getX() - capsule3DPosition.getX();
+      double wy = rayOrigin.getY() - capsule3DPosition.getY();
+      double wz = rayOrigin.getZ() - capsule3DPosition.getZ();
+      double wAxis = TupleTools.dot(wx, wy, wz, capsule3DAxis);
+      double dAxis = TupleTools.dot(dx, dy, dz, capsule3DAxis);
+
+      // The capsule is the union of a finite cylinder and two spheres, all convex such that the range of the ray inside the capsule is the union of the ranges for each part.
+      double tEnter = Double.POSITIVE_INFINITY;
+      double tExit = Double.NEGATIVE_INFINITY;
+
+      double dPerpX = dx - dAxis * capsule3DAxis.getX();
+      double dPerpY = dy - dAxis * capsule3DAxis.getY();
+      double dPerpZ = dz - dAxis * capsule3DAxis.getZ();
+      double a = EuclidCoreTools.normSquared(dPerpX, dPerpY, dPerpZ);
+
+      if (a > 0.0)
+      {
+         double wPerpX = wx - wAxis * capsule3DAxis.getX();
+         double wPerpY = wy - wAxis * capsule3DAxis.getY();
+         double wPerpZ = wz - wAxis * capsule3DAxis.getZ();
+         double b = wPerpX * dPerpX + wPerpY * dPerpY + wPerpZ * dPerpZ;
+         double c = EuclidCoreTools.normSquared(wPerpX, wPerpY, wPerpZ) - radiusSquared;
+         double discriminant = b * b - a * c;
+
+         if (discriminant >= 0.0)
+         {
+            double sqrtDiscriminant = EuclidCoreTools.squareRoot(discriminant);
+            double tCylinderEnter = (-b - sqrtDiscriminant) / a;
+            double tCylinderExit = (-b + sqrtDiscriminant) / a;
+
+            if (dAxis != 0.0)
+            {
+               double tBottom = (-halfLength - wAxis) / dAxis;
+               double tTop = (halfLength - wAxis) / dAxis;
+               tCylinderEnter = Math.max(tCylinderEnter, Math.min(tBottom, tTop));
+               tCylinderExit = Math.min(tCylinderExit, Math.max(tBottom, tTop));
+            }
+            else if (Math.abs(wAxis) > halfLength)
+            {
+               tCylinderExit = Double.NEGATIVE_INFINITY;
+            }
+
+            if (tCylinderEnter <= tCylinderExit)
+            {
+               tEnter = tCylinderEnter;
+               tExit = tCylinderExit;
+            }
+         }
+      }
+
+      double dLengthSquared = EuclidCoreTools.normSquared(dx, dy, dz);
+
+      if (dLengthSquared == 0.0)
+         return Double.NaN;
+
+      for (int end = -1; end <= 1; end += 2)
+      {
+         double offset = end * halfLength;
+         double sx = wx - offset * capsule3DAxis.getX();
+         double sy = wy - offset * capsule3DAxis.getY();
+         double sz = wz - offset * capsule3DAxis.getZ();
+         double b = sx * dx + sy * dy + sz * dz;
+         double c = EuclidCoreTools.normSquared(sx, sy, sz) - radiusSquared;
+         double discriminant = b * b - dLengthSquared * c;
+
+         if (discriminant >= 0.0)
+         {
+            double sqrtDiscriminant = EuclidCoreTools.squareRoot(discriminant);
+            tEnter = Math.min(tEnter, (-b - sqrtDiscriminant) / dLengthSquared);
+            tExit = Math.max(tExit, (-b + sqrtDiscriminant) / dLengthSquared);
+         }
+      }
+
+      if (tEnter > tExit || tExit < 0.0)
+         return Double.NaN;
+
+      double t = tEnter >= 0.0 ? tEnter : tExit;
+
+      if (normalToPack != null)
+      {
+         double closestOnAxis = EuclidCoreTools.clamp(wAxis + t * dAxis, -halfLength, halfLength);
+         normalToPack.set(wx + t * dx, wy + t * dy, wz + t * dz);
+         normalToPack.scaleAdd(-closestOnAxis, capsule3DAxis, normalToPack);
+         normalToPack.normalize();
+      }
+
+      return packRayIntersection(rayOrigin, rayDirection, t, intersectionToPack);
+   }
+
+   /**
+    * Computes the first intersection between a ray and a 3D cylinder.
+    * <p>
+    * When the ray origin is inside the cylinder, the intersection is where the ray exits the cylinder.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray. Not modified.
+    * @param rayDirection       the direction of the ray. It does not need to be a unit vector. Not
+    *                           modified.
+    * @param cylinder3DPosition the coordinates of the cylinder's center. Not modified.
+    * @param cylinder3DAxis     the axis of the cylinder. Not modified.
+    * @param cylinder3DLength   the length of the cylinder.
+    * @param cylinder3DRadius   the radius of the cylinder.
+    * @param intersectionToPack the coordinates of the intersection. Can be {@code null}. Modified.
+    * @param normalToPack       the surface normal at the intersection. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect the cylinder.
+    */
+   public static double castRayCylinder3D(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DReadOnly cylinder3DPosition,
+                                          Vector3DReadOnly cylinder3DAxis, double cylinder3DLength, double cylinder3DRadius, Point3DBasics intersectionToPack,
+                                          Vector3DBasics normalToPack)
+   {
+      double halfLength = 0.5 * cylinder3DLength;
+
+      double dx = rayDirection.getX();
+      double dy = rayDirection.getY();
+      double dz = rayDirection.getZ();
+      double wx = rayOrigin.getX() - cylinder3DPosition.getX();
+      double wy = rayOrigin.getY() - cylinder3DPosition.getY();
+      double wz = rayOrigin.getZ() - cylinder3DPosition.getZ();
+      double wAxis = TupleTools.dot(wx, wy, wz, cylinder3DAxis);
+      double dAxis = TupleTools.dot(dx, dy, dz, cylinder3DAxis);
+
+      double wPerpX = wx - wAxis * cylinder3DAxis.getX();
+      double wPerpY = wy - wAxis * cylinder3DAxis.getY();
+      double wPerpZ = wz - wAxis * cylinder3DAxis.getZ();
+      double dPerpX = dx - dAxis * cylinder3DAxis.getX();
+      double dPerpY = dy - dAxis * cylinder3DAxis.getY();
+      double dPerpZ = dz - dAxis * cylinder3DAxis.getZ();
+
+      double tEnter, tExit;
+      boolean isEnteringThroughSide, isExitingThroughSide;
+
+      // Range of the ray inside the infinite cylinder.
+      double a = EuclidCoreTools.normSquared(dPerpX, dPerpY, dPerpZ);
+      double c = EuclidCoreTools.normSquared(wPerpX, wPerpY, wPerpZ) - cylinder3DRadius * cylinder3DRadius;
+
+      if (a == 0.0)
+      {
+         if (c > 0.0)
+            return Double.NaN;
+         tEnter = Double.NEGATIVE_INFINITY;
+         tExit = Double.POSITIVE_INFINITY;
+      }
+      else
+      {
+         double b = wPerpX * dPerpX + wPerpY * dPerpY + wPerpZ * dPerpZ;
+         double discriminant = b * b - a * c;
+
+         if (discriminant < 0.0)
+            return Double.NaN;
+
+         double sqrtDiscriminant = EuclidCoreTools.squareRoot(discriminant);
+         tEnter = (-b - sqrtDiscriminant) / a;
+         tExit = (-b + sqrtDiscriminant) / a;
+      }
+      isEnteringThroughSide = true;
+      isExitingThroughSide = true;
+
+      // Clipping with the slab in between the two caps.
+      if (dAxis == 0.0)
+      {
+         if (Math.abs(wAxis) > halfLength)
+            return Double.NaN;
+      }
+      else
+      {
+         double tBottom = (-halfLength - wAxis) / dAxis;
+         double tTop = (halfLength - wAxis) / dAxis;
+
+         if (Math.min(tBottom, tTop) > tEnter)
+         {
+            tEnter = Math.min(tBottom, tTop);
+            isEnteringThroughSide = false;
+         }
+
+         if (Math.max(tBottom, tTop) < tExit)
+         {
+            tExit = Math.max(tBottom, tTop);
+            isExitingThroughSide = false;
+         }
+      }
+
+      if (tEnter > tExit || tExit < 0.0)
+         return Double.NaN;
+
+      boolean isEntering = tEnter >= 0.0;
+      double t = isEntering ? tEnter : tExit;
+
+      if (normalToPack != null)
+      {
+         if (isEntering ? isEnteringThroughSide : isExitingThroughSide)
+         {
+            normalToPack.set(wPerpX + t * dPerpX, wPerpY + t * dPerpY, wPerpZ + t * dPerpZ);
+            normalToPack.normalize();
+         }
+         else
+         {
+            normalToPack.set(cylinder3DAxis);
+            // Entering through the bottom cap when going along the axis, or exiting through it when going against it.
+            if ((dAxis > 0.0) == isEntering)
+               normalToPack.negate();
+         }
+      }
+
+      return packRayIntersection(rayOrigin, rayDirection, t, intersectionToPack);
+   }
+
+   /**
+    * Computes the first intersection between a ray and a 3D ellipsoid centered at the origin and
+    * aligned with the coordinate axes.
+    * <p>
+    * When the ray origin is inside the ellipsoid, the intersection is where the ray exits the
+    * ellipsoid.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray. Not modified.
+    * @param rayDirection       the direction of the ray. It does not need to be a unit vector. Not
+    *                           modified.
+    * @param ellipsoid3DRadii   the radii of the ellipsoid. Not modified.
+    * @param intersectionToPack the coordinates of the intersection. Can be {@code null}. Modified.
+    * @param normalToPack       the surface normal at the intersection. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect the ellipsoid.
+    */
+   public static double castRayEllipsoid3D(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Vector3DReadOnly ellipsoid3DRadii,
+                                           Point3DBasics intersectionToPack, Vector3DBasics normalToPack)
+   {
+      double radiusX = ellipsoid3DRadii.getX();
+      double radiusY = ellipsoid3DRadii.getY();
+      double radiusZ = ellipsoid3DRadii.getZ();
+
+      // Scaling the problem such that the ellipsoid becomes a unit sphere.
+      double ox = rayOrigin.getX() / radiusX;
+      double oy = rayOrigin.getY() / radiusY;
+      double oz = rayOrigin.getZ() / radiusZ;
+      double dx = rayDirection.getX() / radiusX;
+      double dy = rayDirection.getY() / radiusY;
+      double dz = rayDirection.getZ() / radiusZ;
+
+      double t = firstRayParameterOnQuadric(EuclidCoreTools.normSquared(dx, dy, dz),
+                                            ox * dx + oy * dy + oz * dz,
+                                            EuclidCoreTools.normSquared(ox, oy, oz) - 1.0);
+
+      if (Double.isNaN(t))
+         return Double.NaN;
+
+      if (normalToPack != null)
+      {
+         normalToPack.set((ox + t * dx) / radiusX, (oy + t * dy) / radiusY, (oz + t * dz) / radiusZ);
+         normalToPack.normalize();
+      }
+
+      return packRayIntersection(rayOrigin, rayDirection, t, intersectionToPack);
+   }
+
+   /**
+    * Computes the first intersection between a ray and a 3D ramp.
+    * <p>
+    * When the ray origin is inside the ramp, the intersection is where the ray exits the ramp.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray, expressed in the local frame of the ramp. Not
+    *                           modified.
+    * @param rayDirection       the direction of the ray, expressed in the local frame of the ramp. It
+    *                           does not need to be a unit vector. Not modified.
+    * @param ramp3DSize         the size of the ramp. Not modified.
+    * @param intersectionToPack the coordinates of the intersection. Can be {@code null}. Modified.
+    * @param normalToPack       the surface normal at the intersection. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect the ramp.
+    */
+   public static double castRayRamp3D(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Vector3DReadOnly ramp3DSize, Point3DBasics intersectionToPack,
+                                      Vector3DBasics normalToPack)
+   {
+      double rampLength = computeRamp3DLength(ramp3DSize);
+      double slopeNormalX = -ramp3DSize.getZ() / rampLength;
+      double slopeNormalZ = ramp3DSize.getX() / rampLength;
+      double halfWidth = 0.5 * ramp3DSize.getY();
+
+      double tEnter = Double.NEGATIVE_INFINITY;
+      double tExit = Double.POSITIVE_INFINITY;
+      double enterNormalX = 0.0, enterNormalY = 0.0, enterNormalZ = 0.0;
+      double exitNormalX = 0.0, exitNormalY = 0.0, exitNormalZ = 0.0;
+
+      // The ramp is the intersection of 5 half-spaces: n . p <= offset.
+      for (int face = 0; face < 5; face++)
+      {
+         double normalX = 0.0, normalY = 0.0, normalZ = 0.0, offset = 0.0;
+
+         switch (face)
+         {
+            case 0: // Bottom
+               normalZ = -1.0;
+               break;
+            case 1: // Rear
+               normalX = 1.0;
+               offset = ramp3DSize.getX();
+               break;
+            case 2: // Left side
+               normalY = 1.0;
+               offset = halfWidth;
+               break;
+            case 3: // Right side
+               normalY = -1.0;
+               offset = halfWidth;
+               break;
+            default: // Slope
+               normalX = slopeNormalX;
+               normalZ = slopeNormalZ;
+               break;
+         }
+
+         double denominator = TupleTools.dot(normalX, normalY, normalZ, rayDirection);
+         double distanceToPlane = offset - TupleTools.dot(normalX, normalY, normalZ, rayOrigin);
+
+         if (denominator == 0.0)
+         {
+            if (distanceToPlane < 0.0)
+               return Double.NaN;
+            continue;
+         }
+
+         double t = distanceToPlane / denominator;
+
+         if (denominator < 0.0)
+         {
+            if (t > tEnter)
+            {
+               tEnter = t;
+               enterNormalX = normalX;
+               enterNormalY = normalY;
+               enterNormalZ = normalZ;
+            }
+         }
+         else if (t < tExit)
+         {
+            tExit = t;
+            exitNormalX = normalX;
+            exitNormalY = normalY;
+            exitNormalZ = normalZ;
+         }
+      }
+
+      if (tEnter > tExit || tExit < 0.0 || tExit == Double.POSITIVE_INFINITY)
+         return Double.NaN;
+
+      boolean isEntering = tEnter >= 0.0;
+
+      if (normalToPack != null)
+      {
+         if (isEntering)
+            normalToPack.set(enterNormalX, enterNormalY, enterNormalZ);
+         else
+            normalToPack.set(exitNormalX, exitNormalY, exitNormalZ);
+      }
+
+      return packRayIntersection(rayOrigin, rayDirection, isEntering ? tEnter : tExit, intersectionToPack);
+   }
+
+   /**
+    * Computes the first intersection between a ray and a 3D sphere.
+    * <p>
+    * When the ray origin is inside the sphere, the intersection is where the ray exits the sphere.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray. Not modified.
+    * @param rayDirection       the direction of the ray. It does not need to be a unit vector. Not
+    *                           modified.
+    * @param sphere3DPosition   the coordinates of the sphere's center. Not modified.
+    * @param sphere3DRadius     the radius of the sphere.
+    * @param intersectionToPack the coordinates of the intersection. Can be {@code null}. Modified.
+    * @param normalToPack       the surface normal at the intersection. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect the sphere.
+    */
+   public static double castRaySphere3D(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DReadOnly sphere3DPosition, double sphere3DRadius,
+                                        Point3DBasics intersectionToPack, Vector3DBasics normalToPack)
+   {
+      double wx = rayOrigin.getX() - sphere3DPosition.getX();
+      double wy = rayOrigin.getY() - sphere3DPosition.getY();
+      double wz = rayOrigin.getZ() - sphere3DPosition.getZ();
+
+      double t = firstRayParameterOnQuadric(rayDirection.lengthSquared(),
+                                            TupleTools.dot(wx, wy, wz, rayDirection),
+                                            EuclidCoreTools.normSquared(wx, wy, wz) - sphere3DRadius * sphere3DRadius);
+
+      if (Double.isNaN(t))
+         return Double.NaN;
+
+      if (normalToPack != null)
+      {
+         normalToPack.set(wx, wy, wz);
+         normalToPack.scaleAdd(t, rayDirection, normalToPack);
+         normalToPack.normalize();
+      }
+
+      return packRayIntersection(rayOrigin, rayDirection, t, intersectionToPack);
+   }
+
+   /**
+    * Computes the first intersection between a ray and a 3D torus.
+    * <p>
+    * When the ray origin is inside the torus, the intersection is where the ray exits the torus.
+    * </p>
+    * <p>
+    * The intersection is found by solving the quartic equation of the torus restricted to the part of
+    * the ray that is inside the torus bounding sphere. Rays that only graze the torus surface may not
+    * be reported as intersecting.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray. Not modified.
+    * @param rayDirection       the direction of the ray. It does not need to be a unit vector. Not
+    *                           modified.
+    * @param torus3DPosition    the coordinates of the torus' center. Not modified.
+    * @param torus3DAxis        the axis of revolution of the torus. Not modified.
+    * @param torus3DRadius      the radius from the axis to the tube center.
+    * @param torus3DTubeRadius  the radius of the tube.
+    * @param intersectionToPack the coordinates of the intersection. Can be {@code null}. Modified.
+    * @param normalToPack       the surface normal at the intersection. Can be {@code null}. Modified.
+    * @return the distance from the ray origin to the intersection, or {@link Double#NaN} if the ray
+    *         does not intersect the torus.
+    */
+   public static double castRayTorus3D(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DReadOnly torus3DPosition, Vector3DReadOnly torus3DAxis,
+                                       double torus3DRadius, double torus3DTubeRadius, Point3DBasics intersectionToPack, Vector3DBasics normalToPack)
+   {
+      double directionLength = rayDirection.length();
+
+      if (!(directionLength > 0.0))
+         return Double.NaN;
+
+      double ux = rayDirection.getX() / directionLength;
+      double uy = rayDirection.getY() / directionLength;
+      double uz = rayDirection.getZ() / directionLength;
+      double wx = rayOrigin.getX() - torus3DPosition.getX();
+      double wy = rayOrigin.getY() - torus3DPosition.getY();
+      double wz = rayOrigin.getZ() - torus3DPosition.getZ();
+
+      // Restricting the search to the bounding sphere keeps the polynomial coefficients well conditioned.
+      double boundingRadius = torus3DRadius + torus3DTubeRadius;
+      double b = wx * ux + wy * uy + wz * uz;
+      double discriminant = b * b - (EuclidCoreTools.normSquared(wx, wy, wz) - boundingRadius * boundingRadius);
+
+      if (discriminant < 0.0)
+         return Double.NaN;
+
+      double sqrtDiscriminant = EuclidCoreTools.squareRoot(discriminant);
+      double sExit = -b + sqrtDiscriminant;
+
+      if (sExit < 0.0)
+         return Double.NaN;
+
+      double sStart = Math.max(0.0, -b - sqrtDiscriminant);
+      wx += sStart * ux;
+      wy += sStart * uy;
+      wz += sStart * uz;
+
+      double wu = wx * ux + wy * uy + wz * uz;
+      double wAxis = TupleTools.dot(wx, wy, wz, torus3DAxis);
+      double uAxis = TupleTools.dot(ux, uy, uz, torus3DAxis);
+      double wLengthSquared = EuclidCoreTools.normSquared(wx, wy, wz);
+      double radiusSquared = torus3DRadius * torus3DRadius;
+      double k = wLengthSquared + radiusSquared - torus3DTubeRadius * torus3DTubeRadius;
+
+      // (|p|^2 + R^2 - r^2)^2 - 4 R^2 |p_perp|^2 = 0, with p = w + s u and p_perp the component of p orthogonal to the axis.
+      double c3 = 4.0 * wu;
+      double c2 = 4.0 * wu * wu + 2.0 * k - 4.0 * radiusSquared * (1.0 - uAxis * uAxis);
+      double c1 = 4.0 * wu * k - 8.0 * radiusSquared * (wu - wAxis * uAxis);
+      double c0 = k * k - 4.0 * radiusSquared * (wLengthSquared - wAxis * wAxis);
+
+      double s = smallestRootOfMonicQuartic(c0, c1, c2, c3, 0.0, sExit - sStart);
+
+      if (Double.isNaN(s))
+         return Double.NaN;
+
+      if (normalToPack != null)
+      {
+         double px = wx + s * ux;
+         double py = wy + s * uy;
+         double pz = wz + s * uz;
+         double pAxis = TupleTools.dot(px, py, pz, torus3DAxis);
+         double radialX = px - pAxis * torus3DAxis.getX();
+         double radialY = py - pAxis * torus3DAxis.getY();
+         double radialZ = pz - pAxis * torus3DAxis.getZ();
+         double radialLength = EuclidCoreTools.norm(radialX, radialY, radialZ);
+
+         if (radialLength > MIN_DISTANCE_EPSILON)
+         {
+            double scale = torus3DRadius / radialLength;
+            normalToPack.set(px - scale * radialX, py - scale * radialY, pz - scale * radialZ);
+            normalToPack.normalize();
+         }
+         else
+         {
+            normalToPack.set(torus3DAxis);
+            if (pAxis < 0.0)
+               normalToPack.negate();
+         }
+      }
+
+      return packRayIntersection(rayOrigin, rayDirection, (sStart + s) / directionLength, intersectionToPack);
+   }
+
+   /**
+    * Computes the ray parameter {@code t} of the first intersection between the ray
+    * {@code o + t * d} and the quadric surface {@code a * t^2 + 2 * b * t + c = 0}, where the inside
+    * of the surface is where the left-hand side is negative.
+    */
+   private static double firstRayParameterOnQuadric(double a, double b, double c)
+   {
+      if (!(a > 0.0))
+         return Double.NaN;
+
+      double discriminant = b * b - a * c;
+
+      if (discriminant < 0.0)
+         return Double.NaN;
+
+      double sqrtDiscriminant = EuclidCoreTools.squareRoot(discriminant);
+      double tExit = (-b + sqrtDiscriminant) / a;
+
+      if (tExit < 0.0)
+         return Double.NaN;
+      if (c <= 0.0) // The ray origin is inside.
+         return tExit;
+      // Both roots are positive, this form avoids the cancellation in -b - sqrt(discriminant).
+      return c / (-b + sqrtDiscriminant);
+   }
+
+   /**
+    * Finds the smallest root in [{@code lower}, {@code upper}] of the polynomial:
+    * {@code x^4 + c3 x^3 + c2 x^2 + c1 x + c0}.
+    * <p>
+    * The interval is split at the critical points of the polynomial such that the polynomial is
+    * monotonic on each sub-interval, the first sub-interval with a sign change is then searched for the
+    * root. Roots with an even multiplicity, which do not change the polynomial sign, are not detected.
+    * </p>
+    */
+   private static double smallestRootOfMonicQuartic(double c0, double c1, double c2, double c3, double lower, double upper)
+   {
+      // The inflection points of the quartic split the interval in pieces where its derivative is monotonic.
+      double inflection1 = Double.NaN;
+      double inflection2 = Double.NaN;
+      double discriminant = 36.0 * c3 * c3 - 96.0 * c2;
+
+      if (discriminant > 0.0)
+      {
+         double sqrtDiscriminant = EuclidCoreTools.squareRoot(discriminant);
+         inflection1 = (-6.0 * c3 - sqrtDiscriminant) / 24.0;
+         inflection2 = (-6.0 * c3 + sqrtDiscriminant) / 24.0;
+      }
+
+      double previous = lower;
+      double valuePrevious = evaluatePolynomial(lower, c0, c1, c2, c3, 1.0);
+      double pieceStart = lower;
+
+      for (int piece = 0; piece < 3; piece++)
+      {
+         double pieceEnd = piece == 0 ? inflection1 : piece == 1 ? inflection2 : upper;
+
+         if (!(pieceEnd > pieceStart))
+            continue;
+         if (pieceEnd > upper)
+            pieceEnd = upper;
+
+         double slopeStart = evaluatePolynomial(pieceStart, c1, 2.0 * c2, 3.0 * c3, 4.0, 0.0);
+         double slopeEnd = evaluatePolynomial(pieceEnd, c1, 2.0 * c2, 3.0 * c3, 4.0, 0.0);
+
+         if (slopeStart * slopeEnd < 0.0)
+         { // There is a critical point of the quartic on this piece, the quartic is monotonic in between the previous one and this one.
+            double critical = findRootOfMonotonicPolynomial(pieceStart, pieceEnd, c1, 2.0 * c2, 3.0 * c3, 4.0, 0.0);
+            double valueCritical = evaluatePolynomial(critical, c0, c1, c2, c3, 1.0);
+
+            if (valuePrevious * valueCritical <= 0.0)
+               return findRootOfMonotonicPolynomial(previous, critical, c0, c1, c2, c3, 1.0);
+
+            previous = critical;
+            valuePrevious = valueCritical;
+         }
+
+         pieceStart = pieceEnd;
+      }
+
+      if (valuePrevious * evaluatePolynomial(upper, c0, c1, c2, c3, 1.0) <= 0.0)
+         return findRootOfMonotonicPolynomial(previous, upper, c0, c1, c2, c3, 1.0);
+      else
+         return Double.NaN;
+   }
+
+   /**
+    * Finds the root of the polynomial {@code e4 x^4 + e3 x^3 + e2 x^2 + e1 x + e0} in [{@code lower},
+    * {@code upper}] using Newton's method safeguarded by bisection. The polynomial is assumed to be
+    * monotonic on the interval and to have opposite signs at its bounds.
+    */
+   private static double findRootOfMonotonicPolynomial(double lower, double upper, double e0, double e1, double e2, double e3, double e4)
+   {
+      double valueLower = evaluatePolynomial(lower, e0, e1, e2, e3, e4);
+      if (valueLower == 0.0)
+         return lower;
+      if (evaluatePolynomial(upper, e0, e1, e2, e3, e4) == 0.0)
+         return upper;
+
+      boolean isIncreasing = valueLower < 0.0;
+      double x = 0.5 * (lower + upper);
+
+      for (int iteration = 0; iteration < 100; iteration++)
+      {
+         double value = evaluatePolynomial(x, e0, e1, e2, e3, e4);
+
+         if (value == 0.0)
+            return x;
+
+         if ((value > 0.0) == isIncreasing)
+            upper = x;
+         else
+            lower = x;
+
+         double next = x - value / evaluatePolynomial(x, e1, 2.0 * e2, 3.0 * e3, 4.0 * e4, 0.0);
+
+         if (!(next > lower && next < upper))
+            next = 0.5 * (lower + upper);
+
+         if (Math.abs(next - x) <= 1.0e-15 * Math.max(1.0, Math.abs(x)))
+            return next;
+
+         x = next;
+      }
+
+      return x;
+   }
+
+   private static double evaluatePolynomial(double x, double e0, double e1, double e2, double e3, double e4)
+   {
+      return e0 + x * (e1 + x * (e2 + x * (e3 + x * e4)));
+   }
+
+   private static double packRayIntersection(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, double t, Point3DBasics intersectionToPack)
+   {
+      if (intersectionToPack != null)
+         intersectionToPack.scaleAdd(t, rayDirection, rayOrigin);
+      return t * rayDirection.length();
+   }
+
    /**
     * Computes the volume of a box defined by its 3D size.
     * 
@@ -0,0 +1,763 @@
+package us.ihmc.euclid.shape.tools;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
+import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector;
+import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Octree representing the occupied space of a cubic region, for instance built from the hits of a
+ * range sensor.
+ * <p>
+ * The octree divides the region into 2<sup>depth</sup> voxels along each axis. A voxel is either
+ * occupied or free, there is no probabilistic update. When the 8 children of a node are occupied,
+ * they are merged into their parent, such that large occupied regions are represented by a few
+ * nodes. Clearing a voxel inside a merged node splits that node again.
+ * </p>
+ * <p>
+ * The nodes are not linked with references. Each node is identified by its location code: the
+ * Morton code of the node, i.e. the interleaved bits of its integer coordinates at its level,
+ * prefixed with a 1 bit giving the level. The children of the node {@code code} are the nodes
+ * {@code (code << 3) | octant}, and its parent is {@code code >>> 3}. The existing nodes are stored
+ * in a hash table using open addressing with linear probing, which only holds two primitive arrays:
+ * the location codes and the node states.
+ * </p>
+ * <p>
+ * The octree is designed for garbage free operations once its internal arrays are large enough. It
+ * is not thread-safe, the queries use internal state.
+ * </p>
+ */
+public class OccupancyOctree3D
+{
+   /** The maximum depth such that the location codes fit in a {@code long}. */
+   public static final int MAX_DEPTH = 20;
+
+   private static final long EMPTY_KEY = 0L;
+   private static final byte ABSENT = 0;
+   /** State of a node that has at least one occupied descendant and at least one free descendant. */
+   private static final byte PARTIAL = 1;
+   /** State of a node that is entirely occupied, such node has no children. */
+   private static final byte OCCUPIED = 2;
+   private static final long ROOT = 1L;
+
+   private final int depth;
+   private final double resolution;
+   private final double invResolution;
+   private final int numberOfVoxelsPerAxis;
+   private final BoundingBox3D boundingBox = new BoundingBox3D();
+
+   private long[] nodeKeys = new long[64];
+   private byte[] nodeStates = new byte[64];
+   private int numberOfNodes = 0;
+
+   private final long[] traversalStack;
+   private final BoundingBox3D nodeBoundingBox = new BoundingBox3D();
+   private final BoundingBox3D queryBoundingBox = new BoundingBox3D();
+   private final Point3D nodeCenter = new Point3D();
+   private final Vector3D supportDirection = new Vector3D();
+   private final VoxelSupportingVertexHolder voxel = new VoxelSupportingVertexHolder();
+   private final GilbertJohnsonKeerthiCollisionDetector collisionDetector = new GilbertJohnsonKeerthiCollisionDetector();
+   private final EuclidShape3DCollisionResult collisionResult = new EuclidShape3DCollisionResult();
+
+   /**
+    * Creates a new empty octree which region is centered at the origin.
+    *
+    * @param resolution the size of the smallest voxels.
+    * @param depth      the number of levels below the root, the region spans
+    *                   {@code resolution * 2<sup>depth</sup>} along each axis.
+    * @throws IllegalArgumentException if {@code resolution} is not strictly positive or if
+    *                                  {@code depth} is not in [1, {@value #MAX_DEPTH}].
+    */
+   public OccupancyOctree3D(double resolution, int depth)
+   {
+      this(new Point3D(), resolution, depth);
+   }
+
+   /**
+    * Creates a new empty octree.
+    *
+    * @param center     the center of the region covered by this octree. Not modified.
+    * @param resolution the size of the smallest voxels.
+    * @param depth      the number of levels below the root, the region spans
+    *                   {@code resolution * 2<sup>depth</sup>} along each axis.
+    * @throws IllegalArgumentException if {@code resolution} is not strictly positive or if
+    *                                  {@code depth} is not in [1, {@value #MAX_DEPTH}].
+    */
+   public OccupancyOctree3D(Point3DReadOnly center, double resolution, int depth)
+   {
+      if (!(resolution > 0.0))
+         throw new IllegalArgumentException("The resolution has to be strictly positive, was: " + resolution);
+      if (depth < 1 || depth > MAX_DEPTH)
+         throw new IllegalArgumentException("The depth has to be in [1, " + MAX_DEPTH + "], was: " + depth);
+
+      this.depth = depth;
+      this.resolution = resolution;
+      invResolution = 1.0 / resolution;
+      numberOfVoxelsPerAxis = 1 << depth;
+      double halfSize = 0.5 * resolution * numberOfVoxelsPerAxis;
+      boundingBox.set(center.getX() - halfSize,
+                      center.getY() - halfSize,
+                      center.getZ() - halfSize,
+                      center.getX() + halfSize,
+                      center.getY() + halfSize,
+                      center.getZ() + halfSize);
+      // Each node popped pushes at most 8 children, the stack holds at most 7 nodes per level.
+      traversalStack = new long[7 * depth + 8];
+   }
+
+   /**
+    * Removes all the nodes of this octree.
+    */
+   public void clear()
+   {
+      Arrays.fill(nodeKeys, EMPTY_KEY);
+      Arrays.fill(nodeStates, ABSENT);
+      numberOfNodes = 0;
+   }
+
+   /**
+    * Marks the voxel containing the given point as occupied.
+    *
+    * @param point the coordinates of the point. Not modified.
+    * @return {@code true} if the voxel was free, {@code false} if it was already occupied or if the
+    *         point is outside the region covered by this octree.
+    */
+   public boolean insertPoint(Point3DReadOnly point)
+   {
+      return insertPoint(point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Marks the voxel containing the given point as occupied.
+    *
+    * @param x the x-coordinate of the point.
+    * @param y the y-coordinate of the point.
+    * @param z the z-coordinate of the point.
+    * @return {@code true} if the voxel was free, {@code false} if it was already occupied or if the
+    *         point is outside the region covered by this octree.
+    */
+   public boolean insertPoint(double x, double y, double z)
+   {
+      int i = toVoxelCoordinate(x, boundingBox.getMinX());
+      int j = toVoxelCoordinate(y, boundingBox.getMinY());
+      int k = toVoxelCoordinate(z, boundingBox.getMinZ());
+
+      if (i < 0 || j < 0 || k < 0)
+         return false;
+
+      return insertVoxel(encode(i, j, k));
+   }
+
+   /**
+    * Marks the voxel containing the given point as free.
+    *
+    * @param point the coordinates of the point. Not modified.
+    * @return {@code true} if the voxel was occupied, {@code false} if it was already free or if the
+    *         point is outside the region covered by this octree.
+    */
+   public boolean removePoint(Point3DReadOnly point)
+   {
+      int i = toVoxelCoordinate(point.getX(), boundingBox.getMinX());
+      int j = toVoxelCoordinate(point.getY(), boundingBox.getMinY());
+      int k = toVoxelCoordinate(point.getZ(), boundingBox.getMinZ());
+
+      if (i < 0 || j < 0 || k < 0)
+         return false;
+
+      return removeVoxel(encode(i, j, k));
+   }
+
+   /**
+    * Integrates a range measurement: the voxels traversed by the segment going from the sensor to the
+    * hit are marked as free and the voxel containing the hit is marked as occupied.
+    * <p>
+    * Only the part of the segment that is inside the region covered by this octree is considered. If
+    * the hit is outside this region, no voxel is marked as occupied.
+    * </p>
+    *
+    * @param sensorOrigin the position of the sensor. Not modified.
+    * @param hit          the position of the hit. Not modified.
+    */
+   public void insertRay(Point3DReadOnly sensorOrigin, Point3DReadOnly hit)
+   {
+      double originX = sensorOrigin.getX();
+      double originY = sensorOrigin.getY();
+      double originZ = sensorOrigin.getZ();
+      double dx = hit.getX() - originX;
+      double dy = hit.getY() - originY;
+      double dz = hit.getZ() - originZ;
+
+      // Clipping the segment, parameterized in [0, 1], against the region of the octree.
+      double tEnter = 0.0;
+      double tExit = 1.0;
+
+      if (dx != 0.0)
+      {
+         double t1 = (boundingBox.getMinX() - originX) / dx;
+         double t2 = (boundingBox.getMaxX() - originX) / dx;
+         tEnter = Math.max(tEnter, Math.min(t1, t2));
+         tExit = Math.min(tExit, Math.max(t1, t2));
+      }
+      else if (originX < boundingBox.getMinX() || originX >= boundingBox.getMaxX())
+      {
+         return;
+      }
+
+      if (dy != 0.0)
+      {
+         double t1 = (boundingBox.getMinY() - originY) / dy;
+         double t2 = (boundingBox.getMaxY() - originY) / dy;
+         tEnter = Math.max(tEnter, Math.min(t1, t2));
+         tExit = Math.min(tExit, Math.max(t1, t2));
+      }
+      else if (originY < boundingBox.getMinY() || originY >= boundingBox.getMaxY())
+      {
+         return;
+      }
+
+      if (dz != 0.0)
+      {
+         double t1 = (boundingBox.getMinZ() - originZ) / dz;
+         double t2 = (boundingBox.getMaxZ() - originZ) / dz;
+         tEnter = Math.max(tEnter, Math.min(t1, t2));
+         tExit = Math.min(tExit, Math.max(t1, t2));
+      }
+      else if (originZ < boundingBox.getMinZ() || originZ >= boundingBox.getMaxZ())
+      {
+         return;
+      }
+
+      if (tEnter > tExit)
+         return;
+
+      int hitI = toVoxelCoordinate(hit.getX(), boundingBox.getMinX());
+      int hitJ = toVoxelCoordinate(hit.getY(), boundingBox.getMinY());
+      int hitK = toVoxelCoordinate(hit.getZ(), boundingBox.getMinZ());
+      boolean isHitInside = hitI >= 0 && hitJ >= 0 && hitK >= 0;
+
+      // Walking through the voxels with a 3D digital differential analyzer.
+      int i = clampVoxelCoordinate((originX + tEnter * dx - boundingBox.getMinX()) * invResolution);
+      int j = clampVoxelCoordinate((originY + tEnter * dy - boundingBox.getMinY()) * invResolution);
+      int k = clampVoxelCoordinate((originZ + tEnter * dz - boundingBox.getMinZ()) * invResolution);
+      int stepI = dx > 0.0 ? 1 : -1;
+      int stepJ = dy > 0.0 ? 1 : -1;
+      int stepK = dz > 0.0 ? 1 : -1;
+      double tDeltaX = resolution / Math.abs(dx);
+      double tDeltaY = resolution / Math.abs(dy);
+      double tDeltaZ = resolution / Math.abs(dz);
+      double tMaxX = dx == 0.0 ? Double.POSITIVE_INFINITY : (boundingBox.getMinX() + (i + (stepI > 0 ? 1 : 0)) * resolution - originX) / dx;
+      double tMaxY = dy == 0.0 ? Double.POSITIVE_INFINITY : (boundingBox.getMinY() + (j + (stepJ > 0 ? 1 : 0)) * resolution - originY) / dy;
+      double tMaxZ = dz == 0.0 ? Double.POSITIVE_INFINITY : (boundingBox.getMinZ() + (k + (stepK > 0 ? 1 : 0)) * resolution - originZ) / dz;
+
+      while (i >= 0 && i < numberOfVoxelsPerAxis && j >= 0 && j < numberOfVoxelsPerAxis && k >= 0 && k < numberOfVoxelsPerAxis)
+      {
+         if (isHitInside && i == hitI && j == hitJ && k == hitK)
+            break;
+
+         removeVoxel(encode(i, j, k));
+
+         if (tMaxX <= tMaxY && tMaxX <= tMaxZ)
+         {
+            if (tMaxX > tExit)
+               break;
+            i += stepI;
+            tMaxX += tDeltaX;
+         }
+         else if (tMaxY <= tMaxZ)
+         {
+            if (tMaxY > tExit)
+               break;
+            j += stepJ;
+            tMaxY += tDeltaY;
+         }
+         else
+         {
+            if (tMaxZ > tExit)
+               break;
+            k += stepK;
+            tMaxZ += tDeltaZ;
+         }
+      }
+
+      if (isHitInside)
+         insertVoxel(encode(hitI, hitJ, hitK));
+   }
+
+   /**
+    * Tests whether the voxel containing the given point is occupied.
+    *
+    * @param point the coordinates of the point. Not modified.
+    * @return {@code true} if the voxel is occupied, {@code false} if it is free or if the point is
+    *         outside the region covered by this octree.
+    */
+   public boolean isOccupied(Point3DReadOnly point)
+   {
+      int i = toVoxelCoordinate(point.getX(), boundingBox.getMinX());
+      int j = toVoxelCoordinate(point.getY(), boundingBox.getMinY());
+      int k = toVoxelCoordinate(point.getZ(), boundingBox.getMinZ());
+
+      if (i < 0 || j < 0 || k < 0)
+         return false;
+
+      long morton = encode(i, j, k);
+
+      for (int level = 0; level <= depth; level++)
+      {
+         byte state = getState(locationCode(morton, level));
+         if (state != PARTIAL)
+            return state == OCCUPIED;
+      }
+      return false;
+   }
+
+   /**
+    * Calls the given action for each occupied node of this octree that intersects the given bounding
+    * box.
+    * <p>
+    * Merged nodes are reported once, as a single voxel larger than the resolution, and may extend
+    * beyond the query.
+    * </p>
+    *
+    * @param boundingBox the query. Not modified.
+    * @param action      the action to call with the bounds of each occupied node. The bounding box
+    *                    given to the action is reused and should not be held onto.
+    * @return the number of occupied nodes reported.
+    */
+   public int forEachOccupiedVoxel(BoundingBox3DReadOnly boundingBox, Consumer<BoundingBox3DReadOnly> action)
+   {
+      queryBoundingBox.set(boundingBox);
+      int numberOfVoxels = 0;
+      int stackSize = pushIfPresent(ROOT, 0);
+
+      while (stackSize > 0)
+      {
+         long code = traversalStack[--stackSize];
+         getNodeBoundingBox(code, nodeBoundingBox);
+
+         if (!nodeBoundingBox.intersectsInclusive(queryBoundingBox))
+            continue;
+
+         if (getState(code) == OCCUPIED)
+         {
+            numberOfVoxels++;
+            action.accept(nodeBoundingBox);
+         }
+         else
+         {
+            for (int octant = 0; octant < 8; octant++)
+               stackSize = pushIfPresent((code << 3) | octant, stackSize);
+         }
+      }
+
+      return numberOfVoxels;
+   }
+
+   /**
+    * Tests whether the given shape collides with any occupied voxel of this octree.
+    * <p>
+    * Only the nodes intersecting the bounding box of the shape are visited. Each occupied node is
+    * first tested against the shape using the signed distance at its center, the remaining ambiguous
+    * nodes are tested using {@link GilbertJohnsonKeerthiCollisionDetector}. For a non-convex shape,
+    * the latter cannot be used: an ambiguous merged node is split into its children down to the
+    * resolution, and an ambiguous voxel is conservatively reported as colliding if the shape
+    * intersects the sphere enclosing the voxel.
+    * </p>
+    *
+    * @param shape the shape to test. Not modified.
+    * @return {@code true} if the shape collides with at least one occupied voxel, {@code false}
+    *         otherwise.
+    */
+   public boolean isColliding(Shape3DReadOnly shape)
+   {
+      shape.getBoundingBox(queryBoundingBox);
+      int stackSize = pushIfPresent(ROOT, 0);
+
+      while (stackSize > 0)
+      {
+         long code = traversalStack[--stackSize];
+         getNodeBoundingBox(code, nodeBoundingBox);
+
+         if (!nodeBoundingBox.intersectsInclusive(queryBoundingBox))
+            continue;
+
+         // The children of a merged node are not stored, they are only pushed when splitting it and are then absent.
+         if (getState(code) == PARTIAL)
+         {
+            for (int octant = 0; octant < 8; octant++)
+               stackSize = pushIfPresent((code << 3) | octant, stackSize);
+            continue;
+         }
+
+         nodeBoundingBox.getCenterPoint(nodeCenter);
+         double signedDistance = shape.signedDistance(nodeCenter);
+
+         if (signedDistance <= 0.0)
+            return true;
+
+         double halfSize = 0.5 * (nodeBoundingBox.getMaxX() - nodeBoundingBox.getMinX());
+         double halfDiagonal = Math.sqrt(3.0) * halfSize;
+
+         if (signedDistance > halfDiagonal)
+            continue;
+         if (signedDistance <= halfSize)
+            return true;
+
+         if (!shape.isConvex())
+         {
+            if (getLevel(code) == depth)
+               return true;
+
+            for (int octant = 0; octant < 8; octant++)
+               traversalStack[stackSize++] = (code << 3) | octant;
+            continue;
+         }
+
+         voxel.set(nodeBoundingBox);
+         supportDirection.sub(shape.getCentroid(), nodeCenter);
+         collisionDetector.setInitialSupportDirection(supportDirection);
+         if (collisionDetector.evaluateCollision(voxel, shape, collisionResult))
+            return true;
+      }
+
+      return false;
+   }
+
+   /**
+    * Gets the size of the smallest voxels.
+    *
+    * @return the resolution.
+    */
+   public double getResolution()
+   {
+      return resolution;
+   }
+
+   /**
+    * Gets the number of levels below the root of this octree.
+    *
+    * @return the depth.
+    */
+   public int getDepth()
+   {
+      return depth;
+   }
+
+   /**
+    * Gets the region covered by this octree.
+    *
+    * @return the bounding box of the root node.
+    */
+   public BoundingBox3DReadOnly getBoundingBox()
+   {
+      return boundingBox;
+   }
+
+   /**
+    * Gets the number of nodes currently stored, including the nodes that are only partially
+    * occupied.
+    *
+    * @return the number of nodes.
+    */
+   public int getNumberOfNodes()
+   {
+      return numberOfNodes;
+   }
+
+   private boolean insertVoxel(long morton)
+   {
+      for (int level = 0; level < depth; level++)
+      {
+         long code = locationCode(morton, level);
+         byte state = getState(code);
+         if (state == OCCUPIED)
+            return false;
+         if (state == ABSENT)
+            putState(code, PARTIAL);
+      }
+
+      long code = locationCode(morton, depth);
+      if (getState(code) == OCCUPIED)
+         return false;
+      putState(code, OCCUPIED);
+
+      // Merging the occupied siblings into their parent.
+      while (code != ROOT)
+      {
+         long parent = code >>> 3;
+
+         for (int octant = 0; octant < 8; octant++)
+         {
+            if (getState((parent << 3) | octant) != OCCUPIED)
+               return true;
+         }
+
+         for (int octant = 0; octant < 8; octant++)
+            removeState((parent << 3) | octant);
+         putState(parent, OCCUPIED);
+         code = parent;
+      }
+
+      return true;
+   }
+
+   private boolean removeVoxel(long morton)
+   {
+      long code = ROOT;
+
+      for (int level = 0; level <= depth; level++)
+      {
+         code = locationCode(morton, level);
+         byte state = getState(code);
+
+         if (state == ABSENT)
+            return false;
+
+         if (state == OCCUPIED)
+         {
+            if (level == depth)
+               break;
+
+            // Splitting the merged node such that one of its children can be freed.
+            putState(code, PARTIAL);
+            for (int octant = 0; octant < 8; octant++)
+               putState((code << 3) | octant, OCCUPIED);
+         }
+      }
+
+      removeState(code);
+
+      // Removing the ancestors that do not have any child left.
+      while (code != ROOT)
+      {
+         long parent = code >>> 3;
+
+         for (int octant = 0; octant < 8; octant++)
+         {
+            if (getState((parent << 3) | octant) != ABSENT)
+               return true;
+         }
+
+         removeState(parent);
+         code = parent;
+      }
+
+      return true;
+   }
+
+   private int pushIfPresent(long code, int stackSize)
+   {
+      if (getState(code) == ABSENT)
+         return stackSize;
+      traversalStack[stackSize] = code;
+      return stackSize + 1;
+   }
+
+   private void getNodeBoundingBox(long code, BoundingBox3D boundingBoxToPack)
+   {
+      int level = getLevel(code);
+      long morton = code ^ (1L << (3 * level));
+      double nodeSize = resolution * (1 << (depth - level));
+      double minX = boundingBox.getMinX() + compact(morton) * nodeSize;
+      double minY = boundingBox.getMinY() + compact(morton >>> 1) * nodeSize;
+      double minZ = boundingBox.getMinZ() + compact(morton >>> 2) * nodeSize;
+      boundingBoxToPack.set(minX, minY, minZ, minX + nodeSize, minY + nodeSize, minZ + nodeSize);
+   }
+
+   private static int getLevel(long code)
+   {
+      return (63 - Long.numberOfLeadingZeros(code)) / 3;
+   }
+
+   private long locationCode(long morton, int level)
+   {
+      return (1L << (3 * level)) | (morton >>> (3 * (depth - level)));
+   }
+
+   /**
+    * Computes the coordinate of the voxel containing the given coordinate along one axis.
+    *
+    * @return the voxel coordinate, or {@code -1} if the coordinate is outside the region.
+    */
+   private int toVoxelCoordinate(double coordinate, double min)
+   {
+      double voxelCoordinate = Math.floor((coordinate - min) * invResolution);
+      // The negated comparison also rejects NaN.
+      if (!(voxelCoordinate >= 0.0 && voxelCoordinate < numberOfVoxelsPerAxis))
+         return -1;
+      return (int) voxelCoordinate;
+   }
+
+   private int clampVoxelCoordinate(double voxelCoordinate)
+   {
+      return (int) EuclidCoreTools.clamp(Math.floor(voxelCoordinate), 0.0, numberOfVoxelsPerAxis - 1);
+   }
+
+   private static long encode(int i, int j, int k)
+   {
+      return spread(i) | (spread(j) << 1) | (spread(k) << 2);
+   }
+
+   /** Inserts two 0 bits between each of the first 21 bits of the given value. */
+   private static long spread(long value)
+   {
+      value &= 0x1fffffL;
+      value = (value | value << 32) & 0x1f00000000ffffL;
+      value = (value | value << 16) & 0x1f0000ff0000ffL;
+      value = (value | value << 8) & 0x100f00f00f00f00fL;
+      value = (value | value << 4) & 0x10c30c30c30c30c3L;
+      value = (value | value << 2) & 0x1249249249249249L;
+      return value;
+   }
+
+   /** Inverse of {@link #spread(long)}, gathers every third bit of the given value. */
+   private static int compact(long value)
+   {
+      value &= 0x1249249249249249L;
+      value = (value ^ (value >>> 2)) & 0x10c30c30c30c30c3L;
+      value = (value ^ (value >>> 4)) & 0x100f00f00f00f00fL;
+      value = (value ^ (value >>> 8)) & 0x1f0000ff0000ffL;
+      value = (value ^ (value >>> 16)) & 0x1f00000000ffffL;
+      value = (value ^ (value >>> 32)) & 0x1fffffL;
+      return (int) value;
+   }
+
+   private byte getState(long code)
+   {
+      int slot = findSlot(code);
+      return slot < 0 ? ABSENT : nodeStates[slot];
+   }
+
+   private void putState(long code, byte state)
+   {
+      int slot = findSlot(code);
+
+      if (slot < 0)
+      {
+         // Keeping the load factor below 0.5.
+         if (2 * (numberOfNodes + 1) > nodeKeys.length)
+            rehash(2 * nodeKeys.length);
+
+         int mask = nodeKeys.length - 1;
+         slot = hash(code) & mask;
+         while (nodeKeys[slot] != EMPTY_KEY)
+            slot = (slot + 1) & mask;
+         nodeKeys[slot] = code;
+         numberOfNodes++;
+      }
+
+      nodeStates[slot] = state;
+   }
+
+   private void removeState(long code)
+   {
+      int slot = findSlot(code);
+      if (slot < 0)
+         return;
+
+      numberOfNodes--;
+      int mask = nodeKeys.length - 1;
+
+      // Backward shift deletion: moving back the following keys that would not be reachable anymore.
+      for (int next = (slot + 1) & mask;; next = (next + 1) & mask)
+      {
+         long nextKey = nodeKeys[next];
+
+         if (nextKey == EMPTY_KEY)
+            break;
+
+         int home = hash(nextKey) & mask;
+         boolean isReachable = slot <= next ? (slot < home && home <= next) : (slot < home || home <= next);
+
+         if (!isReachable)
+         {
+            nodeKeys[slot] = nextKey;
+            nodeStates[slot] = nodeStates[next];
+            slot = next;
+         }
+      }
+
+      nodeKeys[slot] = EMPTY_KEY;
+      nodeStates[slot] = ABSENT;
+   }
+
+   private int findSlot(long code)
+   {
+      int mask = nodeKeys.length - 1;
+
+      for (int slot = hash(code) & mask;; slot = (slot + 1) & mask)
+      {
+         long slotKey = nodeKeys[slot];
+         if (slotKey == code)
+            return slot;
+         if (slotKey == EMPTY_KEY)
+            return -1;
+      }
+   }
+
+   private void rehash(int newCapacity)
+   {
+      long[] oldKeys = nodeKeys;
+      byte[] oldStates = nodeStates;
+      nodeKeys = new long[newCapacity];
+      nodeStates = new byte[newCapacity];
+      int mask = newCapacity - 1;
+
+      for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++)
+      {
+         if (oldKeys[oldSlot] == EMPTY_KEY)
+            continue;
+
+         int slot = hash(oldKeys[oldSlot]) & mask;
+         while (nodeKeys[slot] != EMPTY_KEY)
+            slot = (slot + 1) & mask;
+         nodeKeys[slot] = oldKeys[oldSlot];
+         nodeStates[slot] = oldStates[oldSlot];
+      }
+   }
+
+   private static int hash(long key)
+   {
+      // Finalizer of the SplitMix64 generator to spread the bits of the location code.
+      key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+      key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+      return (int) (key ^ (key >>> 31));
+   }
+
+   /**
+    * Axis-aligned box used to test a shape against an occupied node.
+    */
+   private static class VoxelSupportingVertexHolder implements SupportingVertexHolder
+   {
+      private double minX, minY, minZ, maxX, maxY, maxZ;
+
+      private void set(BoundingBox3DReadOnly boundingBox)
+      {
+         minX = boundingBox.getMinX();
+         minY = boundingBox.getMinY();
+         minZ = boundingBox.getMinZ();
+         maxX = boundingBox.getMaxX();
+         maxY = boundingBox.getMaxY();
+         maxZ = boundingBox.getMaxZ();
+      }
+
+      @Override
+      public boolean getSupportingVertex(Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
+      {
+         supportingVertexToPack.set(supportDirection.getX() >= 0.0 ? maxX : minX,
+                                    supportDirection.getY() >= 0.0 ? maxY : minY,
+                                    supportDirection.getZ() >= 0.0 ? maxZ : minZ);
+         return true;
+      }
+   }
+}
@@ -0,0 +1,363 @@
+package us.ihmc.euclid.shape.tools;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+
+/**
+ * Signed distance field sampled on a regular 3D grid, for answering distance queries to a
+ * collection of shapes in constant time.
+ * <p>
+ * The field is built by evaluating {@link Shape3DReadOnly#signedDistance(Point3DReadOnly)} of each
+ * shape at the grid vertices and keeping the minimum, i.e. the signed distance to the union of the
+ * shapes. The distances are truncated to [-{@code maximumDistance}, {@code maximumDistance}] which
+ * allows to only evaluate each shape on the vertices that are inside its bounding box grown by
+ * {@code maximumDistance}. The vertices away from all the shapes are set to
+ * {@code maximumDistance} without any evaluation.
+ * </p>
+ * <p>
+ * The distances are stored as {@code float}s and queries between grid vertices are answered by
+ * trilinear interpolation, such that the error on a query is in the order of the grid resolution.
+ * Queries outside the grid return {@link Double#NaN}.
+ * </p>
+ */
+public class SignedDistanceField3D
+{
+   private final double resolution;
+   private final double maximumDistance;
+   private final double minX, minY, minZ;
+   private final int sizeX, sizeY, sizeZ;
+   private final BoundingBox3D boundingBox = new BoundingBox3D();
+   /** The samples ordered by increasing x, then y, then z index. */
+   private final float[] distances;
+
+   /**
+    * Creates a new field covering the given bounding box with all the vertices set to
+    * {@code maximumDistance}.
+    * <p>
+    * The grid starts at the minimum corner of the given bounding box and may extend beyond its
+    * maximum corner by less than {@code resolution} in order to fully cover it.
+    * </p>
+    *
+    * @param boundingBox     the region to cover. Not modified.
+    * @param resolution      the distance between two adjacent grid vertices.
+    * @param maximumDistance the magnitude at which the distances are truncated. Use
+    *                        {@link Double#POSITIVE_INFINITY} to evaluate every shape on every vertex.
+    * @throws IllegalArgumentException if {@code resolution} or {@code maximumDistance} is not strictly
+    *                                  positive, or if the grid would be too large to be stored.
+    */
+   public SignedDistanceField3D(BoundingBox3DReadOnly boundingBox, double resolution, double maximumDistance)
+   {
+      if (!(resolution > 0.0))
+         throw new IllegalArgumentException("The resolution has to be strictly positive, was: " + resolution);
+      if (!(maximumDistance > 0.0))
+         throw new IllegalArgumentException("The maximum distance has to be strictly positive, was: " + maximumDistance);
+
+      this.resolution = resolution;
+      this.maximumDistance = maximumDistance;
+      minX = boundingBox.getMinX();
+      minY = boundingBox.getMinY();
+      minZ = boundingBox.getMinZ();
+      sizeX = computeNumberOfVertices(boundingBox.getMaxX() - minX, resolution);
+      sizeY = computeNumberOfVertices(boundingBox.getMaxY() - minY, resolution);
+      sizeZ = computeNumberOfVertices(boundingBox.getMaxZ() - minZ, resolution);
+
+      long numberOfVertices = (long) sizeX * (long) sizeY * (long) sizeZ;
+      if (numberOfVertices > Integer.MAX_VALUE - 8)
+         throw new IllegalArgumentException("The grid is too large: " + sizeX + "x" + sizeY + "x" + sizeZ + " vertices.");
+
+      this.boundingBox.set(minX,
+                           minY,
+                           minZ,
+                           minX + (sizeX - 1) * resolution,
+                           minY + (sizeY - 1) * resolution,
+                           minZ + (sizeZ - 1) * resolution);
+      distances = new float[(int) numberOfVertices];
+      clear();
+   }
+
+   private static int computeNumberOfVertices(double length, double resolution)
+   {
+      double numberOfCells = Math.ceil(length / resolution);
+      if (numberOfCells > Integer.MAX_VALUE - 1)
+         throw new IllegalArgumentException("The grid is too large, length: " + length + ", resolution: " + resolution);
+      return Math.max(2, (int) numberOfCells + 1);
+   }
+
+   /**
+    * Sets all the vertices of this field to {@code maximumDistance}.
+    */
+   public void clear()
+   {
+      Arrays.fill(distances, (float) maximumDistance);
+   }
+
+   /**
+    * Rebuilds this field from the given shapes using the calling thread only.
+    *
+    * @param shapes the shapes to rasterize. Not modified.
+    */
+   public void build(List<? extends Shape3DReadOnly> shapes)
+   {
+      build(shapes, false);
+   }
+
+   /**
+    * Rebuilds this field from the given shapes.
+    * <p>
+    * When {@code parallel} is {@code true}, the slices of the grid are computed concurrently in the
+    * common fork-join pool. In that case, the shapes have to support concurrent calls to
+    * {@link Shape3DReadOnly#signedDistance(Point3DReadOnly)}, which is the case of the shapes of this
+    * library unless they have been given a garbage-free intermediate variable supplier.
+    * </p>
+    *
+    * @param shapes   the shapes to rasterize. Not modified.
+    * @param parallel whether the grid slices should be computed concurrently.
+    */
+   public void build(List<? extends Shape3DReadOnly> shapes, boolean parallel)
+   {
+      int numberOfShapes = shapes.size();
+      // Grid index ranges, in order: minX, maxX, minY, maxY, minZ, maxZ, of the region where each shape has to be evaluated.
+      int[] shapeRanges = new int[6 * numberOfShapes];
+      BoundingBox3D shapeBoundingBox = new BoundingBox3D();
+
+      for (int shapeIndex = 0; shapeIndex < numberOfShapes; shapeIndex++)
+      {
+         shapes.get(shapeIndex).getBoundingBox(shapeBoundingBox);
+         int offset = 6 * shapeIndex;
+         shapeRanges[offset] = lowerIndex(shapeBoundingBox.getMinX() - maximumDistance, minX, sizeX);
+         shapeRanges[offset + 1] = upperIndex(shapeBoundingBox.getMaxX() + maximumDistance, minX, sizeX);
+         shapeRanges[offset + 2] = lowerIndex(shapeBoundingBox.getMinY() - maximumDistance, minY, sizeY);
+         shapeRanges[offset + 3] = upperIndex(shapeBoundingBox.getMaxY() + maximumDistance, minY, sizeY);
+         shapeRanges[offset + 4] = lowerIndex(shapeBoundingBox.getMinZ() - maximumDistance, minZ, sizeZ);
+         shapeRanges[offset + 5] = upperIndex(shapeBoundingBox.getMaxZ() + maximumDistance, minZ, sizeZ);
+      }
+
+      if (parallel)
+         IntStream.range(0, sizeZ).parallel().forEach(k -> buildSlice(k, shapes, shapeRanges, new Point3D()));
+      else
+      {
+         Point3D vertex = new Point3D();
+         for (int k = 0; k < sizeZ; k++)
+            buildSlice(k, shapes, shapeRanges, vertex);
+      }
+   }
+
+   private void buildSlice(int k, List<? extends Shape3DReadOnly> shapes, int[] shapeRanges, Point3D vertex)
+   {
+      int sliceOffset = k * sizeX * sizeY;
+      Arrays.fill(distances, sliceOffset, sliceOffset + sizeX * sizeY, (float) maximumDistance);
+      double z = minZ + k * resolution;
+
+      for (int shapeIndex = 0; shapeIndex < shapes.size(); shapeIndex++)
+      {
+         int offset = 6 * shapeIndex;
+
+         if (k < shapeRanges[offset + 4] || k > shapeRanges[offset + 5])
+            continue;
+
+         Shape3DReadOnly shape = shapes.get(shapeIndex);
+
+         for (int j = shapeRanges[offset + 2]; j <= shapeRanges[offset + 3]; j++)
+         {
+            double y = minY + j * resolution;
+            int rowOffset = sliceOffset + j * sizeX;
+
+            for (int i = shapeRanges[offset]; i <= shapeRanges[offset + 1]; i++)
+            {
+               vertex.set(minX + i * resolution, y, z);
+               float distance = (float) EuclidCoreTools.clamp(shape.signedDistance(vertex), maximumDistance);
+               if (distance < distances[rowOffset + i])
+                  distances[rowOffset + i] = distance;
+            }
+         }
+      }
+   }
+
+   private int lowerIndex(double coordinate, double gridMin, int size)
+   {
+      return (int) EuclidCoreTools.clamp(Math.floor((coordinate - gridMin) / resolution), 0, size - 1);
+   }
+
+   private int upperIndex(double coordinate, double gridMin, int size)
+   {
+      return (int) EuclidCoreTools.clamp(Math.ceil((coordinate - gridMin) / resolution), 0, size - 1);
+   }
+
+   /**
+    * Gets the distance between two adjacent grid vertices.
+    *
+    * @return the grid resolution.
+    */
+   public double getResolution()
+   {
+      return resolution;
+   }
+
+   /**
+    * Gets the magnitude at which the distances of this field are truncated.
+    *
+    * @return the maximum distance.
+    */
+   public double getMaximumDistance()
+   {
+      return maximumDistance;
+   }
+
+   /**
+    * Gets the region covered by the grid.
+    *
+    * @return the bounding box of the grid vertices.
+    */
+   public BoundingBox3DReadOnly getBoundingBox()
+   {
+      return boundingBox;
+   }
+
+   /**
+    * Gets the number of grid vertices along the x-axis.
+    *
+    * @return the number of vertices along the x-axis.
+    */
+   public int getSizeX()
+   {
+      return sizeX;
+   }
+
+   /**
+    * Gets the number of grid vertices along the y-axis.
+    *
+    * @return the number of vertices along the y-axis.
+    */
+   public int getSizeY()
+   {
+      return sizeY;
+   }
+
+   /**
+    * Gets the number of grid vertices along the z-axis.
+    *
+    * @return the number of vertices along the z-axis.
+    */
+   public int getSizeZ()
+   {
+      return sizeZ;
+   }
+
+   /**
+    * Gets the signed distance stored at a grid vertex.
+    *
+    * @param i the index of the vertex along the x-axis.
+    * @param j the index of the vertex along the y-axis.
+    * @param k the index of the vertex along the z-axis.
+    * @return the signed distance at the vertex.
+    * @throws IndexOutOfBoundsException if any of the indices is outside the grid.
+    */
+   public double getVertexDistance(int i, int j, int k)
+   {
+      if (i < 0 || i >= sizeX || j < 0 || j >= sizeY || k < 0 || k >= sizeZ)
+         throw new IndexOutOfBoundsException("Vertex (" + i + ", " + j + ", " + k + ") is outside the grid: " + sizeX + "x" + sizeY + "x" + sizeZ);
+      return distances[i + sizeX * (j + sizeY * k)];
+   }
+
+   /**
+    * Computes the signed distance at the given query by trilinear interpolation.
+    *
+    * @param query the coordinates of the query. Not modified.
+    * @return the interpolated signed distance, or {@link Double#NaN} if the query is outside the grid.
+    */
+   public double signedDistance(Point3DReadOnly query)
+   {
+      return signedDistance(query, null);
+   }
+
+   /**
+    * Computes the signed distance and its gradient at the given query by trilinear interpolation.
+    * <p>
+    * The gradient is the exact gradient of the interpolated field. It approximates the direction
+    * pointing away from the closest shape, but is not normalized.
+    * </p>
+    *
+    * @param query          the coordinates of the query. Not modified.
+    * @param gradientToPack the vector used to store the gradient of the field at the query. Can be
+    *                       {@code null}. Set to {@link Double#NaN} if the query is outside the grid.
+    *                       Modified.
+    * @return the interpolated signed distance, or {@link Double#NaN} if the query is outside the grid.
+    */
+   public double signedDistance(Point3DReadOnly query, Vector3DBasics gradientToPack)
+   {
+      double fx = (query.getX() - minX) / resolution;
+      double fy = (query.getY() - minY) / resolution;
+      double fz = (query.getZ() - minZ) / resolution;
+
+      // The negated comparisons also reject NaN queries.
+      if (!(fx >= 0.0 && fx <= sizeX - 1 && fy >= 0.0 && fy <= sizeY - 1 && fz >= 0.0 && fz <= sizeZ - 1))
+      {
+         if (gradientToPack != null)
+            gradientToPack.setToNaN();
+         return Double.NaN;
+      }
+
+      int i = Math.min((int) fx, sizeX - 2);
+      int j = Math.min((int) fy, sizeY - 2);
+      int k = Math.min((int) fz, sizeZ - 2);
+      double tx = fx - i;
+      double ty = fy - j;
+      double tz = fz - k;
+
+      int index000 = i + sizeX * (j + sizeY * k);
+      int strideZ = sizeX * sizeY;
+      double d000 = distances[index000];
+      double d100 = distances[index000 + 1];
+      double d010 = distances[index000 + sizeX];
+      double d110 = distances[index000 + sizeX + 1];
+      double d001 = distances[index000 + strideZ];
+      double d101 = distances[index000 + strideZ + 1];
+      double d011 = distances[index000 + strideZ + sizeX];
+      double d111 = distances[index000 + strideZ + sizeX + 1];
+
+      // Interpolation along x on the 4 edges of the cell.
+      double d00 = d000 + tx * (d100 - d000);
+      double d10 = d010 + tx * (d110 - d010);
+      double d01 = d001 + tx * (d101 - d001);
+      double d11 = d011 + tx * (d111 - d011);
+      // Then along y on the 2 faces, then along z.
+      double d0 = d00 + ty * (d10 - d00);
+      double d1 = d01 + ty * (d11 - d01);
+
+      if (gradientToPack != null)
+      {
+         double dx0 = (d100 - d000) + ty * ((d110 - d010) - (d100 - d000));
+         double dx1 = (d101 - d001) + ty * ((d111 - d011) - (d101 - d001));
+         double gradientX = dx0 + tz * (dx1 - dx0);
+         double gradientY = (d10 - d00) + tz * ((d11 - d01) - (d10 - d00));
+         double gradientZ = d1 - d0;
+         gradientToPack.set(gradientX, gradientY, gradientZ);
+         gradientToPack.scale(1.0 / resolution);
+      }
+
+      return d0 + tz * (d1 - d0);
+   }
+
+   /**
+    * Provides a {@code String} representation of this field as follows:<br>
+    * Signed distance field: 20x20x10 vertices, resolution: 0.05, maximum distance: 0.5, bounding box:
+    * ...
+    *
+    * @return the {@code String} representing this field.
+    */
+   @Override
+   public String toString()
+   {
+      return "Signed distance field: " + sizeX + "x" + sizeY + "x" + sizeZ + " vertices, resolution: " + resolution + ", maximum distance: "
+            + maximumDistance + ", bounding box: " + boundingBox;
+   }
+}
@@ -6,13 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 
 public class ConvexPolygon2DTest extends ConvexPolygon2DBasicsTest<ConvexPolygon2D>
@@ -93,6 +96,85 @@ public class ConvexPolygon2DTest extends ConvexPolygon2DBasicsTest<ConvexPolygon
       }
    }
 
+   @Test
+   public void testIncrementalUpdate() throws Exception
+   {
+      Random random = new Random(34656);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Adding a few vertices to an up-to-date polygon gives the same result as building it from scratch.
+         ConvexPolygon2D polygon = EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, 30);
+         ArrayList<Point2D> allVertices = new ArrayList<>();
+         for (int j = 0; j < polygon.getNumberOfVertices(); j++)
+            allVertices.add(new Point2D(polygon.getVertex(j)));
+
+         for (int k = 0; k < 10; k++)
+         {
+            int numberOfVerticesToAdd = random.nextInt(4) + 1;
+
+            for (int j = 0; j < numberOfVerticesToAdd; j++)
+            {
+               Point2D vertex = EuclidCoreRandomTools.nextPoint2D(random, 10.0);
+               polygon.addVertex(vertex);
+               allVertices.add(vertex);
+            }
+
+            polygon.update();
+            ConvexPolygon2D expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(allVertices));
+            assertTrue(expected.epsilonEquals(polygon, EPSILON), "Iteration: " + i + "\nexpected: " + expected + "\nactual: " + polygon);
+            assertEquals(expected.getArea(), polygon.getArea(), EPSILON);
+         }
+      }
+
+      { // Collinear vertices: the vertex (0, 3) used to be dropped.
+         ConvexPolygon2D polygon = new ConvexPolygon2D();
+         double[][] firstVertices = {{0.0, 0.0}, {4.0, 4.0}, {0.0, 2.0}, {0.0, 3.0}, {0.0, 1.0}};
+         double[][] secondVertices = {{2.0, 4.0}, {4.0, 4.0}, {3.0, 1.0}, {1.0, 2.0}, {2.0, 1.0}};
+         for (double[] vertex : firstVertices)
+            polygon.addVertex(vertex[0], vertex[1]);
+         polygon.update();
+         for (double[] vertex : secondVertices)
+            polygon.addVertex(vertex[0], vertex[1]);
+         polygon.update();
+
+         ConvexPolygon2D expected = new ConvexPolygon2D();
+         for (double[] vertex : new double[][] {{0.0, 3.0}, {2.0, 4.0}, {4.0, 4.0}, {3.0, 1.0}, {0.0, 0.0}})
+            expected.addVertex(vertex[0], vertex[1]);
+         expected.update();
+         assertTrue(expected.epsilonEquals(polygon, 0.0), "expected: " + expected + "\nactual: " + polygon);
+         assertEquals(expected.getArea(), polygon.getArea(), EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Vertices on a grid, below and above the threshold between gift wrap and monotone chain.
+         int numberOfVertices = random.nextBoolean() ? 20 : 100;
+         int gridSize = random.nextInt(8) + 2;
+         ConvexPolygon2D polygon = new ConvexPolygon2D();
+         ArrayList<Point2D> allVertices = new ArrayList<>();
+         int numberOfInitialVertices = random.nextInt(numberOfVertices);
+
+         for (int j = 0; j < numberOfVertices; j++)
+         {
+            Point2D vertex = new Point2D(random.nextInt(gridSize), random.nextInt(gridSize));
+            polygon.addVertex(vertex);
+            allVertices.add(vertex);
+
+            if (j >= numberOfInitialVertices && random.nextInt(3) == 0 || j == numberOfInitialVertices)
+            {
+               polygon.update();
+               ConvexPolygon2D expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(allVertices));
+               assertTrue(expected.epsilonEquals(polygon, 0.0), "Iteration: " + i + "\nexpected: " + expected + "\nactual: " + polygon);
+
+               List<Point2D> monotoneChainHull = new ArrayList<>(allVertices);
+               int hullSize = EuclidGeometryPolygonTools.inPlaceMonotoneChainConvexHull2D(monotoneChainHull, monotoneChainHull.size());
+               assertEquals(hullSize, polygon.getNumberOfVertices(), "Iteration: " + i);
+               for (int vertexIndex = 0; vertexIndex < hullSize; vertexIndex++)
+                  EuclidCoreTestTools.assertTuple2DEquals(monotoneChainHull.get(vertexIndex), polygon.getVertex(vertexIndex), 0.0);
+            }
+         }
+      }
+   }
+
    @Test
    public void testConstructors()
    {
@@ -0,0 +1,130 @@
+package us.ihmc.euclid.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class IndexedTriangleMesh3DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testAddAndGet() throws Exception
+   {
+      Random random = new Random(6781L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         IndexedTriangleMesh3D mesh = new IndexedTriangleMesh3D();
+         int numberOfVertices = random.nextInt(20) + 3;
+         Point3D[] vertices = new Point3D[numberOfVertices];
+
+         for (int j = 0; j < numberOfVertices; j++)
+         {
+            vertices[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            assertEquals(j, mesh.addVertex(vertices[j]));
+         }
+
+         int numberOfTriangles = random.nextInt(30);
+         int[] indices = new int[3 * numberOfTriangles];
+         for (int j = 0; j < indices.length; j++)
+            indices[j] = random.nextInt(numberOfVertices);
+         for (int j = 0; j < numberOfTriangles; j++)
+            assertEquals(j, mesh.addTriangle(indices[3 * j], indices[3 * j + 1], indices[3 * j + 2]));
+
+         assertEquals(numberOfVertices, mesh.getNumberOfVertices());
+         assertEquals(numberOfTriangles, mesh.getNumberOfTriangles());
+
+         Triangle3D triangle = new Triangle3D();
+         for (int j = 0; j < numberOfTriangles; j++)
+         {
+            mesh.getTriangle(j, triangle);
+            EuclidCoreTestTools.assertTuple3DEquals(vertices[indices[3 * j]], triangle.getA(), EPSILON);
+            EuclidCoreTestTools.assertTuple3DEquals(vertices[indices[3 * j + 1]], triangle.getB(), EPSILON);
+            EuclidCoreTestTools.assertTuple3DEquals(vertices[indices[3 * j + 2]], triangle.getC(), EPSILON);
+            assertEquals(indices[3 * j + 1], mesh.getTriangleVertexIndex(j, 1));
+         }
+
+         double[] packedVertices = new double[3 * numberOfVertices];
+         float[] packedFloatVertices = new float[3 * numberOfVertices];
+         for (int j = 0; j < numberOfVertices; j++)
+         {
+            vertices[j].get(3 * j, packedVertices);
+            vertices[j].get(3 * j, packedFloatVertices);
+         }
+
+         IndexedTriangleMesh3D other = new IndexedTriangleMesh3D(packedVertices, numberOfVertices, indices, numberOfTriangles);
+         assertEquals(mesh, other);
+         assertEquals(mesh.hashCode(), other.hashCode());
+
+         other.set(packedFloatVertices, numberOfVertices, indices, numberOfTriangles);
+         for (int j = 0; j < numberOfVertices; j++)
+            EuclidCoreTestTools.assertTuple3DEquals(vertices[j], other.getVertex(j), 1.0e-6);
+
+         other.set(mesh);
+         assertEquals(mesh, other);
+         other.addVertex(0.0, 0.0, 0.0);
+         assertNotEquals(mesh, other);
+
+         BoundingBox3D boundingBox = new BoundingBox3D();
+         mesh.getBoundingBox(boundingBox);
+         BoundingBox3D expectedBoundingBox = new BoundingBox3D();
+         expectedBoundingBox.setToNaN();
+         for (Point3D vertex : vertices)
+            expectedBoundingBox.updateToIncludePoint(vertex);
+         assertEquals(expectedBoundingBox, boundingBox);
+      }
+   }
+
+   @Test
+   public void testApplyTransform() throws Exception
+   {
+      Random random = new Random(6782L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         IndexedTriangleMesh3D mesh = new IndexedTriangleMesh3D();
+         for (int j = 0; j < 10; j++)
+            mesh.addVertex(EuclidCoreRandomTools.nextPoint3D(random));
+         IndexedTriangleMesh3D original = new IndexedTriangleMesh3D();
+         original.set(mesh);
+
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         mesh.applyTransform(transform);
+
+         for (int j = 0; j < 10; j++)
+         {
+            Point3D expected = new Point3D(original.getVertex(j));
+            transform.transform(expected);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, mesh.getVertex(j), EPSILON);
+         }
+
+         mesh.applyInverseTransform(transform);
+         for (int j = 0; j < 10; j++)
+            EuclidCoreTestTools.assertTuple3DEquals(original.getVertex(j), mesh.getVertex(j), EPSILON);
+      }
+   }
+
+   @Test
+   public void testExceptions() throws Exception
+   {
+      IndexedTriangleMesh3D mesh = new IndexedTriangleMesh3D();
+      mesh.addVertex(0.0, 0.0, 0.0);
+      mesh.addVertex(1.0, 0.0, 0.0);
+      assertThrows(IndexOutOfBoundsException.class, () -> mesh.addTriangle(0, 1, 2));
+      assertThrows(IndexOutOfBoundsException.class, () -> mesh.getVertex(2));
+      assertThrows(IndexOutOfBoundsException.class, () -> mesh.getTriangle(0, new Triangle3D()));
+      assertThrows(IllegalArgumentException.class, () -> mesh.set(new double[5], 2, new int[0], 0));
+      assertThrows(IllegalArgumentException.class, () -> mesh.set(new double[6], 2, new int[2], 1));
+   }
+}
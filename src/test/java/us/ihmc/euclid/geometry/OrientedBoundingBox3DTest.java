@@ -0,0 +1,258 @@
+package us.ihmc.euclid.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.TupleTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class OrientedBoundingBox3DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testIntersects() throws Exception
+   {
+      Random random = new Random(4523L);
+      int numberOfIntersections = 0;
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         OrientedBoundingBox3D boxA = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random, 1.0, 2.0);
+         OrientedBoundingBox3D boxB = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random, 1.0, 2.0);
+
+         boolean expected = intersectsBruteForce(boxA, boxB);
+         if (expected)
+            numberOfIntersections++;
+         assertEquals(expected, boxA.intersects(boxB));
+         assertEquals(expected, boxB.intersects(boxA));
+
+         BoundingBox3D boundingBox = EuclidGeometryRandomTools.nextBoundingBox3D(random, 1.0, 2.0);
+         assertEquals(boxA.intersects(new OrientedBoundingBox3D(boundingBox)), boxA.intersects(boundingBox));
+      }
+
+      // Making sure both outcomes are covered.
+      assertTrue(numberOfIntersections > ITERATIONS / 10);
+      assertTrue(numberOfIntersections < ITERATIONS - ITERATIONS / 10);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // A box always intersects itself and any box containing one of its vertices.
+         OrientedBoundingBox3D boxA = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         assertTrue(boxA.intersects(boxA));
+
+         Point3D vertex = new Point3D();
+         boxA.getVertex(random.nextInt(8), vertex);
+         OrientedBoundingBox3D boxB = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         boxB.getCenter().set(vertex);
+         assertTrue(boxA.intersects(boxB));
+         assertTrue(boxB.intersects(boxA));
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Parallel boxes separated along one axis.
+         OrientedBoundingBox3D boxA = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         OrientedBoundingBox3D boxB = new OrientedBoundingBox3D(boxA);
+         Vector3D axis = new Vector3D();
+         int axisIndex = random.nextInt(3);
+         boxA.getAxis(axisIndex, axis);
+         double gap = EuclidCoreRandomTools.nextDouble(random, 1.0e-3, 1.0);
+         boxB.getCenter().scaleAdd(2.0 * boxA.getHalfSize().getElement(axisIndex) + gap, axis, boxB.getCenter());
+         assertFalse(boxA.intersects(boxB));
+         assertFalse(boxB.intersects(boxA));
+      }
+   }
+
+   private static boolean intersectsBruteForce(OrientedBoundingBox3D boxA, OrientedBoundingBox3D boxB)
+   {
+      Vector3D[] axesA = new Vector3D[3];
+      Vector3D[] axesB = new Vector3D[3];
+
+      for (int i = 0; i < 3; i++)
+      {
+         axesA[i] = new Vector3D();
+         axesB[i] = new Vector3D();
+         boxA.getAxis(i, axesA[i]);
+         boxB.getAxis(i, axesB[i]);
+      }
+
+      for (int i = 0; i < 3; i++)
+      {
+         if (isSeparatingAxis(axesA[i], boxA, boxB) || isSeparatingAxis(axesB[i], boxA, boxB))
+            return false;
+
+         for (int j = 0; j < 3; j++)
+         {
+            Vector3D cross = new Vector3D();
+            cross.cross(axesA[i], axesB[j]);
+            if (cross.length() > 1.0e-9 && isSeparatingAxis(cross, boxA, boxB))
+               return false;
+         }
+      }
+
+      return true;
+   }
+
+   private static boolean isSeparatingAxis(Vector3D axis, OrientedBoundingBox3D boxA, OrientedBoundingBox3D boxB)
+   {
+      double minA = Double.POSITIVE_INFINITY, maxA = Double.NEGATIVE_INFINITY;
+      double minB = Double.POSITIVE_INFINITY, maxB = Double.NEGATIVE_INFINITY;
+      Point3D vertex = new Point3D();
+
+      for (int i = 0; i < 8; i++)
+      {
+         boxA.getVertex(i, vertex);
+         minA = Math.min(minA, TupleTools.dot(axis, vertex));
+         maxA = Math.max(maxA, TupleTools.dot(axis, vertex));
+         boxB.getVertex(i, vertex);
+         minB = Math.min(minB, TupleTools.dot(axis, vertex));
+         maxB = Math.max(maxB, TupleTools.dot(axis, vertex));
+      }
+
+      return maxA < minB || maxB < minA;
+   }
+
+   @Test
+   public void testIsInside() throws Exception
+   {
+      Random random = new Random(8734L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         OrientedBoundingBox3D box = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         Point3D query = new Point3D();
+
+         for (int j = 0; j < 3; j++)
+            query.setElement(j, EuclidCoreRandomTools.nextDouble(random, 0.99) * box.getHalfSize().getElement(j));
+         box.getOrientation().transform(query);
+         query.add(box.getCenter());
+         assertTrue(box.isInsideInclusive(query));
+         assertTrue(box.isInsideEpsilon(query, 1.0e-3));
+
+         // Moving the query outside along one of the local axes.
+         Vector3D axis = new Vector3D();
+         int axisIndex = random.nextInt(3);
+         box.getAxis(axisIndex, axis);
+         query.scaleAdd(2.0 * box.getHalfSize().getElement(axisIndex) + 1.0e-3, axis, query);
+         assertFalse(box.isInsideInclusive(query));
+         assertTrue(box.isInsideEpsilon(query, 2.0 * box.getHalfSize().getElement(axisIndex) + 2.0e-3));
+      }
+   }
+
+   @Test
+   public void testGetBoundingBox() throws Exception
+   {
+      Random random = new Random(2345L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         OrientedBoundingBox3D box = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         BoundingBox3D expected = new BoundingBox3D();
+         Point3D vertex = new Point3D();
+
+         for (int j = 0; j < 8; j++)
+         {
+            box.getVertex(j, vertex);
+            expected.updateToIncludePoint(vertex);
+            assertTrue(box.isInsideEpsilon(vertex, EPSILON));
+         }
+
+         BoundingBox3D actual = new BoundingBox3D();
+         box.getBoundingBox(actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected.getMinPoint(), actual.getMinPoint(), EPSILON);
+         EuclidCoreTestTools.assertTuple3DEquals(expected.getMaxPoint(), actual.getMaxPoint(), EPSILON);
+
+         assertEquals(8.0 * box.getHalfSize().getX() * box.getHalfSize().getY() * box.getHalfSize().getZ(), box.getVolume(), EPSILON);
+
+         // An axis-aligned bounding box is its own bounding box.
+         OrientedBoundingBox3D alignedBox = new OrientedBoundingBox3D(expected);
+         alignedBox.getBoundingBox(actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected.getMinPoint(), actual.getMinPoint(), EPSILON);
+         EuclidCoreTestTools.assertTuple3DEquals(expected.getMaxPoint(), actual.getMaxPoint(), EPSILON);
+      }
+   }
+
+   @Test
+   public void testApplyTransform() throws Exception
+   {
+      Random random = new Random(9834L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         OrientedBoundingBox3D original = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         OrientedBoundingBox3D transformed = new OrientedBoundingBox3D(original);
+         transformed.applyTransform(transform);
+
+         Point3D expectedVertex = new Point3D();
+         Point3D actualVertex = new Point3D();
+
+         for (int j = 0; j < 8; j++)
+         {
+            original.getVertex(j, expectedVertex);
+            transform.transform(expectedVertex);
+            transformed.getVertex(j, actualVertex);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVertex, actualVertex, 1.0e-10);
+         }
+
+         transformed.applyInverseTransform(transform);
+         assertTrue(original.epsilonEquals(transformed, 1.0e-10));
+      }
+   }
+
+   @Test
+   public void testGeometricallyEquals() throws Exception
+   {
+      Random random = new Random(6534L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         OrientedBoundingBox3D box = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+
+         // Rotating the local frame by a quarter turn about z swaps the x and y half-sizes.
+         RotationMatrix orientation = new RotationMatrix(box.getOrientation());
+         orientation.appendYawRotation(Math.PI / 2.0);
+         OrientedBoundingBox3D other = new OrientedBoundingBox3D(box.getCenter(),
+                                                                 orientation,
+                                                                 new Vector3D(box.getHalfSize().getY(), box.getHalfSize().getX(), box.getHalfSize().getZ()));
+         assertFalse(box.epsilonEquals(other, 1.0e-10));
+         assertTrue(box.geometricallyEquals(other, 1.0e-10));
+         assertTrue(other.geometricallyEquals(box, 1.0e-10));
+
+         other.setHalfSize(box.getHalfSize().getX() + 1.0e-3, box.getHalfSize().getY(), box.getHalfSize().getZ());
+         assertFalse(box.geometricallyEquals(other, 1.0e-5));
+      }
+   }
+
+   @Test
+   public void testSetAndErrors() throws Exception
+   {
+      Random random = new Random(2398L);
+      OrientedBoundingBox3D box = new OrientedBoundingBox3D();
+      assertTrue(box.containsNaN());
+
+      OrientedBoundingBox3D other = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+      box.set(other);
+      assertEquals(other, box);
+      assertEquals(other.hashCode(), box.hashCode());
+      box.setToZero();
+      assertFalse(box.containsNaN());
+      assertEquals(0.0, box.getVolume());
+
+      assertThrows(IllegalArgumentException.class, () -> box.setHalfSize(-1.0, 1.0, 1.0));
+      assertThrows(IndexOutOfBoundsException.class, () -> box.getVertex(8, new Point3D()));
+      assertThrows(IndexOutOfBoundsException.class, () -> box.getAxis(3, new Vector3D()));
+   }
+}
@@ -0,0 +1,191 @@
+package us.ihmc.euclid.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+
+public class SimplePolygon2DTest
+{
+   private static final double EPSILON = 1.0e-10;
+
+   @Test
+   public void testBasicProperties() throws Exception
+   {
+      // L-shape, counter-clockwise.
+      SimplePolygon2D polygon = new SimplePolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0),
+                                                                                       new Point2D(2.0, 0.0),
+                                                                                       new Point2D(2.0, 1.0),
+                                                                                       new Point2D(1.0, 1.0),
+                                                                                       new Point2D(1.0, 2.0),
+                                                                                       new Point2D(0.0, 2.0)));
+      assertEquals(6, polygon.getNumberOfVertices());
+      assertEquals(3.0, polygon.getSignedArea(), EPSILON);
+      assertEquals(3.0, polygon.getArea(), EPSILON);
+      assertFalse(polygon.isClockwiseOrdered());
+      assertFalse(polygon.isConvex());
+      assertTrue(polygon.isPointInside(0.5, 1.5));
+      assertTrue(polygon.isPointInside(1.5, 0.5));
+      assertFalse(polygon.isPointInside(1.5, 1.5));
+      assertFalse(polygon.isPointInside(-0.5, 0.5));
+      assertThrows(IndexOutOfBoundsException.class, () -> polygon.getVertex(6));
+
+      SimplePolygon2D copy = new SimplePolygon2D();
+      copy.set(polygon);
+      assertEquals(polygon, copy);
+      assertEquals(polygon.hashCode(), copy.hashCode());
+
+      copy.clear();
+      for (int i = polygon.getNumberOfVertices() - 1; i >= 0; i--)
+         copy.addVertex(polygon.getVertex(i));
+      assertEquals(-3.0, copy.getSignedArea(), EPSILON);
+      assertTrue(copy.isClockwiseOrdered());
+
+      List<ConvexPolygon2D> convexPolygons = new ArrayList<>();
+      assertEquals(2, polygon.decompose(convexPolygons));
+      assertEquals(2, convexPolygons.size());
+      assertEquals(3.0, convexPolygons.get(0).getArea() + convexPolygons.get(1).getArea(), EPSILON);
+   }
+
+   @Test
+   public void testTriangulate() throws Exception
+   {
+      Random random = new Random(5467L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         SimplePolygon2D polygon = nextStarShapedPolygon2D(random);
+         int numberOfVertices = polygon.getNumberOfVertices();
+         double orientation = Math.signum(polygon.getSignedArea());
+         int[] triangles = new int[3 * (numberOfVertices - 2)];
+         assertEquals(numberOfVertices - 2, polygon.triangulate(triangles));
+
+         double totalArea = 0.0;
+
+         for (int j = 0; j < numberOfVertices - 2; j++)
+         {
+            SimplePolygon2D triangle = new SimplePolygon2D(Vertex2DSupplier.asVertex2DSupplier(polygon.getVertex(triangles[3 * j]),
+                                                                                                polygon.getVertex(triangles[3 * j + 1]),
+                                                                                                polygon.getVertex(triangles[3 * j + 2])));
+            double triangleArea = orientation * triangle.getSignedArea();
+            assertTrue(triangleArea >= -EPSILON, "Iteration " + i);
+            totalArea += triangleArea;
+
+            if (triangleArea > 1.0e-3)
+            {
+               Point2D centroid = new Point2D();
+               for (int k = 0; k < 3; k++)
+                  centroid.scaleAdd(1.0 / 3.0, triangle.getVertex(k), centroid);
+               assertTrue(polygon.isPointInside(centroid), "Iteration " + i);
+            }
+         }
+
+         assertEquals(polygon.getArea(), totalArea, EPSILON * Math.max(1.0, totalArea), "Iteration " + i);
+      }
+
+      SimplePolygon2D polygon = nextStarShapedPolygon2D(random);
+      assertThrows(IllegalArgumentException.class, () -> polygon.triangulate(new int[3 * (polygon.getNumberOfVertices() - 2) - 1]));
+      assertEquals(0, new SimplePolygon2D().triangulate(new int[0]));
+   }
+
+   @Test
+   public void testDecompose() throws Exception
+   {
+      Random random = new Random(5468L);
+      List<ConvexPolygon2D> convexPolygons = new ArrayList<>();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         SimplePolygon2D polygon = nextStarShapedPolygon2D(random);
+         int numberOfVertices = polygon.getNumberOfVertices();
+         ConvexPolygon2D firstPolygon = convexPolygons.isEmpty() ? null : convexPolygons.get(0);
+         int numberOfParts = polygon.decompose(convexPolygons);
+         assertEquals(numberOfParts, convexPolygons.size());
+
+         if (firstPolygon != null)
+            assertSame(firstPolygon, convexPolygons.get(0));
+
+         int numberOfReflexVertices = 0;
+         double orientation = Math.signum(polygon.getSignedArea());
+
+         for (int j = 0; j < numberOfVertices; j++)
+         {
+            Point2D previous = new Point2D(polygon.getVertex(EuclidGeometryPolygonTools.previous(j, numberOfVertices)));
+            Point2D vertex = new Point2D(polygon.getVertex(j));
+            Point2D next = new Point2D(polygon.getVertex(EuclidGeometryPolygonTools.next(j, numberOfVertices)));
+            double turn = (vertex.getX() - previous.getX()) * (next.getY() - vertex.getY()) - (vertex.getY() - previous.getY()) * (next.getX() - vertex.getX());
+            if (orientation * turn < 0.0)
+               numberOfReflexVertices++;
+         }
+
+         assertTrue(numberOfParts <= 2 * numberOfReflexVertices + 1, "Iteration " + i);
+
+         if (numberOfReflexVertices == 0)
+            assertEquals(1, numberOfParts);
+
+         // The convex hull of each part has the same area as the part only if the parts are convex.
+         double totalArea = 0.0;
+         for (ConvexPolygon2D convexPolygon : convexPolygons)
+            totalArea += convexPolygon.getArea();
+         assertEquals(polygon.getArea(), totalArea, EPSILON * Math.max(1.0, totalArea), "Iteration " + i);
+
+         for (int j = 0; j < 10; j++)
+         {
+            Point2D query = EuclidCoreRandomTools.nextPoint2D(random, 2.0);
+            boolean isInsideAnyPart = false;
+            for (ConvexPolygon2D convexPolygon : convexPolygons)
+               isInsideAnyPart |= convexPolygon.signedDistance(query) < -EPSILON;
+            if (isInsideAnyPart)
+               assertTrue(polygon.isPointInside(query), "Iteration " + i);
+         }
+      }
+
+      assertEquals(0, new SimplePolygon2D().decompose(convexPolygons));
+      assertTrue(convexPolygons.isEmpty());
+   }
+
+   private static SimplePolygon2D nextStarShapedPolygon2D(Random random)
+   {
+      int numberOfVertices = random.nextInt(50) + 3;
+      // The angle between two consecutive vertices is less than pi to ensure the polygon is simple.
+      double[] angles = new double[numberOfVertices];
+      for (int i = 0; i < numberOfVertices; i++)
+         angles[i] = 2.0 * Math.PI * (i + EuclidCoreRandomTools.nextDouble(random, 0.0, 0.5)) / numberOfVertices;
+
+      SimplePolygon2D polygon = new SimplePolygon2D();
+      Point2D center = EuclidCoreRandomTools.nextPoint2D(random, 0.5);
+
+      for (double angle : angles)
+      {
+         double radius = EuclidCoreRandomTools.nextDouble(random, 0.1, 1.0);
+         polygon.addVertex(center.getX() + radius * Math.cos(angle), center.getY() + radius * Math.sin(angle));
+      }
+
+      if (random.nextBoolean())
+      { // Reversing to get a clockwise ordered polygon.
+         List<Point2D> vertices = new ArrayList<>();
+         for (int i = numberOfVertices - 1; i >= 0; i--)
+            vertices.add(new Point2D(polygon.getVertex(i)));
+         polygon.set(Vertex2DSupplier.asVertex2DSupplier(vertices));
+      }
+
+      if (random.nextInt(10) == 0)
+         polygon.set(Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random, 1.0, 0.5, numberOfVertices)));
+
+      return polygon;
+   }
+}
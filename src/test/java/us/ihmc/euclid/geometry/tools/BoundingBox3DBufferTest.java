@@ -0,0 +1,97 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.exceptions.BoundingBoxException;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class BoundingBox3DBufferTest
+{
+   @Test
+   public void testAddSetGet() throws Exception
+   {
+      Random random = new Random(98234L);
+      BoundingBox3DBuffer buffer = new BoundingBox3DBuffer(1);
+      BoundingBox3D[] boundingBoxes = new BoundingBox3D[ITERATIONS];
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         boundingBoxes[i] = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 5.0);
+         assertEquals(i, buffer.add(boundingBoxes[i]));
+         assertEquals(i + 1, buffer.getNumberOfBoundingBoxes());
+      }
+
+      BoundingBox3D actual = new BoundingBox3D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         if (random.nextBoolean())
+         {
+            boundingBoxes[i] = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 5.0);
+            buffer.set(i, boundingBoxes[i]);
+         }
+         buffer.getBoundingBox(i, actual);
+         assertEquals(boundingBoxes[i], actual);
+      }
+
+      assertThrows(IndexOutOfBoundsException.class, () -> buffer.getBoundingBox(ITERATIONS, new BoundingBox3D()));
+      assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, new BoundingBox3D()));
+      assertThrows(BoundingBoxException.class, () -> buffer.add(1.0, 0.0, 0.0, 0.0, 1.0, 1.0));
+
+      buffer.clear();
+      assertEquals(0, buffer.getNumberOfBoundingBoxes());
+      assertThrows(IndexOutOfBoundsException.class, () -> buffer.getBoundingBox(0, new BoundingBox3D()));
+   }
+
+   @Test
+   public void testIntersectWithRay() throws Exception
+   {
+      Random random = new Random(23478L);
+      BoundingBox3DBuffer buffer = new BoundingBox3DBuffer();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         int numberOfBoundingBoxes = random.nextInt(200) + 1;
+         BoundingBox3D[] boundingBoxes = new BoundingBox3D[numberOfBoundingBoxes];
+
+         buffer.clear();
+
+         for (int j = 0; j < numberOfBoundingBoxes; j++)
+         {
+            boundingBoxes[j] = EuclidGeometryRandomTools.nextBoundingBox3D(random, 5.0, 5.0);
+            buffer.add(boundingBoxes[j]);
+         }
+
+         Point3D rayOrigin = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         Vector3D rayDirection = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+         if (random.nextInt(10) == 0) // Ray parallel to an axis.
+            rayDirection.setElement(random.nextInt(3), 0.0);
+
+         boolean[] hitMask = new boolean[numberOfBoundingBoxes];
+         double[] entryDistances = new double[numberOfBoundingBoxes];
+         double[] exitDistances = new double[numberOfBoundingBoxes];
+         int numberOfHits = buffer.intersectWithRay(rayOrigin, rayDirection, hitMask, entryDistances, exitDistances);
+
+         int expectedNumberOfHits = 0;
+
+         for (int j = 0; j < numberOfBoundingBoxes; j++)
+         {
+            if (RayPacket3DTest.assertSlabTestResult(boundingBoxes[j], rayOrigin, rayDirection, hitMask[j], entryDistances[j], exitDistances[j]))
+               expectedNumberOfHits++;
+         }
+
+         assertEquals(expectedNumberOfHits, numberOfHits);
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> buffer.intersectWithRay(new Point3D(), new Vector3D(), new boolean[1], null, null));
+   }
+}
@@ -0,0 +1,147 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox2D;
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.Line2D;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Vector2D;
+
+public class ConvexPolygon2DClipperTest
+{
+   private static final double EPSILON = 1.0e-10;
+
+   @Test
+   public void testClipWithLine() throws Exception
+   {
+      Random random = new Random(4576L);
+      ConvexPolygon2DClipper clipper = new ConvexPolygon2DClipper();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygon = nextConvexPolygon2D(random);
+         Line2D line = EuclidGeometryRandomTools.nextLine2D(random, 2.0);
+
+         ConvexPolygon2D expected = new ConvexPolygon2D();
+         EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds(polygon, halfPlaneAsConvexPolygon2D(line), expected);
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         boolean isNotEmpty = clipper.clip(polygon, line, actual);
+
+         assertEquals(!actual.isEmpty(), isNotEmpty);
+         assertEquals(expected.isEmpty() ? 0.0 : expected.getArea(), actual.isEmpty() ? 0.0 : actual.getArea(), EPSILON, "Iteration " + i);
+
+         for (int j = 0; j < clipper.getNumberOfVertices(); j++)
+         {
+            assertTrue(polygon.signedDistance(clipper.getVertex(j)) < EPSILON);
+            assertFalse(line.isPointOnRightSideOfLine(clipper.getVertex(j)) && line.distance(clipper.getVertex(j)) > EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testClipWithBoundingBox() throws Exception
+   {
+      Random random = new Random(4577L);
+      ConvexPolygon2DClipper clipper = new ConvexPolygon2DClipper();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygon = nextConvexPolygon2D(random);
+         BoundingBox2D boundingBox = EuclidGeometryRandomTools.nextBoundingBox2D(random, 2.0, 3.0);
+         ConvexPolygon2D boxPolygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(boundingBox.getMinX(), boundingBox.getMinY()),
+                                                                                             new Point2D(boundingBox.getMaxX(), boundingBox.getMinY()),
+                                                                                             new Point2D(boundingBox.getMaxX(), boundingBox.getMaxY()),
+                                                                                             new Point2D(boundingBox.getMinX(), boundingBox.getMaxY())));
+
+         ConvexPolygon2D expected = new ConvexPolygon2D();
+         EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds(polygon, boxPolygon, expected);
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         clipper.clip(polygon, boundingBox, actual);
+
+         assertEquals(expected.isEmpty() ? 0.0 : expected.getArea(), actual.isEmpty() ? 0.0 : actual.getArea(), EPSILON, "Iteration " + i);
+
+         for (int j = 0; j < clipper.getNumberOfVertices(); j++)
+            assertTrue(boundingBox.isInsideEpsilon(clipper.getVertex(j), EPSILON));
+      }
+   }
+
+   @Test
+   public void testClipWithLines() throws Exception
+   {
+      Random random = new Random(4578L);
+      ConvexPolygon2DClipper clipper = new ConvexPolygon2DClipper();
+      ConvexPolygon2DClipper chainedClipper = new ConvexPolygon2DClipper();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygon = nextConvexPolygon2D(random);
+         ConvexPolygon2D other = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random,
+                                                                                                                                                  1.0,
+                                                                                                                                                  1.0,
+                                                                                                                                                  random.nextInt(20)
+                                                                                                                                                        + 3)));
+         // The polygon is clockwise, the lines are reversed to have its interior on their left side.
+         List<Line2D> lines = new ArrayList<>();
+         for (int j = 0; j < other.getNumberOfVertices(); j++)
+            lines.add(new Line2D(other.getNextVertex(j), other.getVertex(j)));
+
+         ConvexPolygon2D expected = new ConvexPolygon2D();
+         EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds(polygon, other, expected);
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         clipper.clip(polygon, lines, actual);
+         assertEquals(expected.isEmpty() ? 0.0 : expected.getArea(), actual.isEmpty() ? 0.0 : actual.getArea(), EPSILON, "Iteration " + i);
+
+         // Clipping the result of the previous clip one line at a time.
+         chainedClipper.clip(polygon, lines.get(0));
+         for (int j = 1; j < lines.size(); j++)
+            chainedClipper.clip(chainedClipper, lines.get(j));
+
+         assertEquals(clipper.getNumberOfVertices(), chainedClipper.getNumberOfVertices());
+         for (int j = 0; j < clipper.getNumberOfVertices(); j++)
+            assertEquals(clipper.getVertex(j), chainedClipper.getVertex(j));
+      }
+
+      ConvexPolygon2D polygon = nextConvexPolygon2D(random);
+      ConvexPolygon2D actual = new ConvexPolygon2D();
+      clipper.clip(polygon, new ArrayList<>(), actual);
+      assertTrue(polygon.epsilonEquals(actual, 0.0));
+   }
+
+   private static ConvexPolygon2D halfPlaneAsConvexPolygon2D(Line2D line)
+   {
+      double size = 100.0;
+      Vector2D direction = new Vector2D(line.getDirection());
+      Vector2D left = new Vector2D(-direction.getY(), direction.getX());
+      Point2D start = new Point2D();
+      start.scaleAdd(-size, direction, line.getPoint());
+      Point2D end = new Point2D();
+      end.scaleAdd(size, direction, line.getPoint());
+      Point2D startLeft = new Point2D();
+      startLeft.scaleAdd(size, left, start);
+      Point2D endLeft = new Point2D();
+      endLeft.scaleAdd(size, left, end);
+      return new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(start, end, endLeft, startLeft));
+   }
+
+   private static ConvexPolygon2D nextConvexPolygon2D(Random random)
+   {
+      if (random.nextBoolean())
+         return EuclidGeometryRandomTools.nextConvexPolygon2D(random, 2.0, random.nextInt(20) + 1);
+      else
+         return new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random,
+                                                                                                                                 1.0,
+                                                                                                                                 1.0,
+                                                                                                                                 random.nextInt(100) + 3)));
+   }
+}
@@ -0,0 +1,254 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox2D;
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+
+public class DelaunayTriangulator2DTest
+{
+   private static final double EPSILON = 1.0e-9;
+
+   @Test
+   public void testTriangulate() throws Exception
+   {
+      Random random = new Random(2345L);
+      DelaunayTriangulator2D triangulator = new DelaunayTriangulator2D();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point2D> points = EuclidGeometryRandomTools.nextPointCloud2D(random, 0.0, 1.0, random.nextInt(200) + 3);
+         int numberOfTriangles = triangulator.triangulate(Vertex2DSupplier.asVertex2DSupplier(points));
+         int[] triangles = triangulator.getTriangles();
+         int[] halfEdges = triangulator.getHalfEdges();
+
+         ConvexPolygon2D convexHull = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(points));
+         assertEquals(convexHull.getNumberOfVertices(), triangulator.getHullSize());
+         assertEquals(2 * points.size() - 2 - triangulator.getHullSize(), numberOfTriangles);
+
+         double totalArea = 0.0;
+
+         for (int t = 0; t < numberOfTriangles; t++)
+         {
+            Point2D a = points.get(triangles[3 * t]);
+            Point2D b = points.get(triangles[3 * t + 1]);
+            Point2D c = points.get(triangles[3 * t + 2]);
+            double doubleArea = (b.getX() - a.getX()) * (c.getY() - a.getY()) - (b.getY() - a.getY()) * (c.getX() - a.getX());
+            assertTrue(doubleArea < 0.0, "The triangles should be clockwise");
+            totalArea -= 0.5 * doubleArea;
+
+            // Delaunay condition: no point is inside the circumcircle.
+            Point2D circumcenter = circumcenter(a, b, c);
+            double radius = circumcenter.distance(a);
+            for (Point2D point : points)
+               assertTrue(circumcenter.distance(point) > radius - EPSILON, "Iteration " + i);
+         }
+
+         assertEquals(convexHull.getArea(), totalArea, EPSILON);
+
+         for (int e = 0; e < 3 * numberOfTriangles; e++)
+         {
+            int opposite = halfEdges[e];
+            if (opposite == -1)
+               continue;
+            assertEquals(e, halfEdges[opposite]);
+            assertEquals(triangles[e], triangles[DelaunayTriangulator2D.nextHalfEdge(opposite)]);
+            assertEquals(triangles[DelaunayTriangulator2D.nextHalfEdge(e)], triangles[opposite]);
+            assertEquals(e, DelaunayTriangulator2D.previousHalfEdge(DelaunayTriangulator2D.nextHalfEdge(e)));
+         }
+
+         for (int j = 0; j < triangulator.getHullSize(); j++)
+         {
+            Point2D vertex = points.get(triangulator.getHull()[j]);
+            Point2D next = points.get(triangulator.getHull()[(j + 1) % triangulator.getHullSize()]);
+            assertEquals(0.0, convexHull.signedDistance(vertex), EPSILON);
+            // Clockwise ordering: the hull interior is on the right side of each edge.
+            Point2D centroid = new Point2D(convexHull.getCentroid());
+            assertTrue((next.getX() - vertex.getX()) * (centroid.getY() - vertex.getY()) - (next.getY() - vertex.getY()) * (centroid.getX() - vertex.getX()) < 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testEdgeCases() throws Exception
+   {
+      DelaunayTriangulator2D triangulator = new DelaunayTriangulator2D();
+      assertEquals(0, triangulator.triangulate(Vertex2DSupplier.emptyVertex2DSupplier()));
+
+      // Collinear points.
+      List<Point2D> points = new ArrayList<>();
+      for (int i = 0; i < 5; i++)
+         points.add(new Point2D(1.0 - 0.5 * i, 2.0 * i));
+      assertEquals(0, triangulator.triangulate(Vertex2DSupplier.asVertex2DSupplier(points)));
+      assertEquals(5, triangulator.getHullSize());
+      for (int i = 0; i < 5; i++)
+         assertEquals(4 - i, triangulator.getHull()[i]);
+
+      BoundingBox2D boundingBox = new BoundingBox2D(-10.0, -10.0, 10.0, 10.0);
+      List<ConvexPolygon2D> cells = new ArrayList<>();
+      triangulator.getVoronoiCells(boundingBox, cells);
+      double totalArea = 0.0;
+      for (ConvexPolygon2D cell : cells)
+         totalArea += cell.getArea();
+      assertEquals(400.0, totalArea, EPSILON);
+
+      // Square with a duplicate corner.
+      points.clear();
+      points.add(new Point2D(0.0, 0.0));
+      points.add(new Point2D(1.0, 0.0));
+      points.add(new Point2D(1.0, 1.0));
+      points.add(new Point2D(0.0, 1.0));
+      points.add(new Point2D(1.0, 1.0));
+      points.add(new Point2D(0.5, 0.5));
+      assertEquals(4, triangulator.triangulate(Vertex2DSupplier.asVertex2DSupplier(points)));
+      triangulator.getVoronoiCells(boundingBox, cells);
+      assertEquals(points.size(), cells.size());
+      assertTrue(cells.get(2).isEmpty() != cells.get(4).isEmpty());
+      assertFalse(cells.get(5).isEmpty());
+      assertEquals(0.5, cells.get(5).getArea(), EPSILON);
+
+      // Duplicates without triangles.
+      points.clear();
+      points.add(new Point2D(1.0, 0.5));
+      points.add(new Point2D(1.0, 0.5));
+      points.add(new Point2D(1.0, 0.5));
+      assertEquals(0, triangulator.triangulate(Vertex2DSupplier.asVertex2DSupplier(points)));
+      assertEquals(1, triangulator.getHullSize());
+      triangulator.getVoronoiCells(boundingBox, cells);
+      assertFalse(cells.get(0).isEmpty());
+      assertEquals(400.0, cells.get(0).getArea(), EPSILON);
+      assertTrue(cells.get(1).isEmpty());
+      assertTrue(cells.get(2).isEmpty());
+
+      points.add(new Point2D(-1.0, 0.5));
+      points.add(new Point2D(-1.0, 0.5 + Math.ulp(0.5)));
+      assertEquals(0, triangulator.triangulate(Vertex2DSupplier.asVertex2DSupplier(points)));
+      assertEquals(2, triangulator.getHullSize());
+      triangulator.getVoronoiCells(boundingBox, cells);
+      assertEquals(200.0, cells.get(0).getArea(), EPSILON);
+      assertEquals(200.0, cells.get(3).getArea(), EPSILON);
+      assertTrue(cells.get(1).isEmpty());
+      assertTrue(cells.get(2).isEmpty());
+      assertTrue(cells.get(4).isEmpty());
+   }
+
+   @Test
+   public void testVoronoiCells() throws Exception
+   {
+      Random random = new Random(2346L);
+      DelaunayTriangulator2D triangulator = new DelaunayTriangulator2D();
+      List<ConvexPolygon2D> cells = new ArrayList<>();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point2D> points = EuclidGeometryRandomTools.nextPointCloud2D(random, 0.0, 1.0, random.nextInt(100) + 1);
+         BoundingBox2D boundingBox = EuclidGeometryRandomTools.nextBoundingBox2D(random, 0.5, 3.0);
+         triangulator.triangulate(Vertex2DSupplier.asVertex2DSupplier(points));
+         triangulator.getVoronoiCells(boundingBox, cells);
+         assertEquals(points.size(), cells.size());
+
+         double totalArea = 0.0;
+         for (ConvexPolygon2D cell : cells)
+            totalArea += cell.isEmpty() ? 0.0 : cell.getArea();
+         double boxArea = (boundingBox.getMaxX() - boundingBox.getMinX()) * (boundingBox.getMaxY() - boundingBox.getMinY());
+         assertEquals(boxArea, totalArea, EPSILON, "Iteration " + i);
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point2D query = new Point2D(EuclidCoreRandomTools.nextDouble(random, boundingBox.getMinX(), boundingBox.getMaxX()),
+                                        EuclidCoreRandomTools.nextDouble(random, boundingBox.getMinY(), boundingBox.getMaxY()));
+            int closest = 0;
+            for (int k = 1; k < points.size(); k++)
+            {
+               if (points.get(k).distance(query) < points.get(closest).distance(query))
+                  closest = k;
+            }
+
+            ConvexPolygon2D cell = cells.get(closest);
+            assertTrue(cell.signedDistance(query) < EPSILON, "Iteration " + i);
+         }
+      }
+   }
+
+   @Test
+   public void testNearDuplicates() throws Exception
+   {
+      Random random = new Random(2347L);
+      DelaunayTriangulator2D triangulator = new DelaunayTriangulator2D();
+      List<ConvexPolygon2D> cells = new ArrayList<>();
+      BoundingBox2D boundingBox = new BoundingBox2D(-1.5, -1.5, 1.5, 1.5);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         // Points on a coarse grid such that many of them are at the same distance from the seed circumcenter.
+         List<Point2D> points = new ArrayList<>();
+         int numberOfUniquePoints = random.nextInt(12) + 3;
+         for (int j = 0; j < numberOfUniquePoints; j++)
+         {
+            Point2D point = new Point2D(0.125 * (random.nextInt(11) - 5), 0.125 * (random.nextInt(11) - 5));
+            points.add(point);
+            // Exact duplicate or duplicate off by one ulp.
+            if (random.nextBoolean())
+               points.add(new Point2D(point.getX() + Math.ulp(point.getX()), point.getY()));
+            else if (random.nextBoolean())
+               points.add(new Point2D(point));
+         }
+         Collections.shuffle(points, random);
+
+         int numberOfTriangles = triangulator.triangulate(Vertex2DSupplier.asVertex2DSupplier(points));
+         int[] triangles = triangulator.getTriangles();
+
+         for (int t = 0; t < numberOfTriangles; t++)
+         {
+            // A triangle with two copies of the same point is degenerate.
+            Point2D a = points.get(triangles[3 * t]);
+            Point2D b = points.get(triangles[3 * t + 1]);
+            Point2D c = points.get(triangles[3 * t + 2]);
+            assertTrue(a.distance(b) > EPSILON && b.distance(c) > EPSILON && c.distance(a) > EPSILON, "Iteration " + i);
+         }
+
+         triangulator.getVoronoiCells(boundingBox, cells);
+
+         double totalArea = 0.0;
+         for (ConvexPolygon2D cell : cells)
+            totalArea += cell.isEmpty() ? 0.0 : cell.getArea();
+         assertEquals(9.0, totalArea, EPSILON, "Iteration " + i);
+
+         for (int j = 0; j < points.size(); j++)
+         {
+            int numberOfNonEmptyCells = 0;
+            for (int k = 0; k < points.size(); k++)
+            {
+               if (points.get(j).distance(points.get(k)) < EPSILON && !cells.get(k).isEmpty())
+                  numberOfNonEmptyCells++;
+            }
+            assertEquals(1, numberOfNonEmptyCells, "Iteration " + i);
+         }
+      }
+   }
+
+   private static Point2D circumcenter(Point2D a, Point2D b, Point2D c)
+   {
+      double dx = b.getX() - a.getX();
+      double dy = b.getY() - a.getY();
+      double ex = c.getX() - a.getX();
+      double ey = c.getY() - a.getY();
+      double bl = dx * dx + dy * dy;
+      double cl = ex * ex + ey * ey;
+      double d = 0.5 / (dx * ey - dy * ex);
+      return new Point2D(a.getX() + (ey * bl - dy * cl) * d, a.getY() + (dx * cl - ex * bl) * d);
+   }
+}
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.EPSILON;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.GIFT_WRAP_MAX_NUMBER_OF_VERTICES;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.canObserverSeeEdge;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestEdgeIndexToPoint2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestPointToNonInterectingRay2D;
@@ -15,22 +17,37 @@ import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVe
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVertexIndexToPoint2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVertexIndexToRay2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.computeConvexPolygon2DArea;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.convexHullOfTwoConvexPolygon2Ds;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.diameterOfConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.distanceBetweenTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.edgeNormal;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.grahamScanAngleCompare;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceAddVerticesToConvexHull2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceGrahamScanConvexHull2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceMonotoneChainConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenLine2DAndConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenLineSegment2DAndConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenRay2DAndConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.isPoint2DInsideConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.isPolygon2DConvexAtVertex;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.lineOfSightEndIndex;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.lineOfSightStartIndex;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minimumAreaBoundingRectangleOfConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minimumPerimeterBoundingRectangleOfConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minkowskiSumOfTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.next;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.offsetConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.offsetConvexPolygon2DRounded;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.offsetConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.nextEdgeIndexIntersectingWithLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.orthogonalProjectionOnConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.previous;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.signedDistanceFromPoint2DToConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.widthOfConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.wrap;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools.nextPointCloud2D;
@@ -61,6 +78,8 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.geometry.Bound;
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
@@ -69,6 +88,7 @@ import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.UnitVector2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
 
 public class EuclidGeometryPolygonToolsTest
 {
@@ -300,6 +320,139 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testInPlaceMonotoneChainConvexHull2D() throws Exception
+   {
+      Random random = new Random(8723453L);
+      testConvexHullAlgorithm(random, (vertices, numberOfVertices) -> inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = 100;
+         List<? extends Point2DReadOnly> points = nextPointCloud2D(random, 10.0, 10.0, numberOfVertices);
+         List<? extends Point2DReadOnly> pointsCopy = new ArrayList<>(points);
+
+         int actualHullSize = inPlaceMonotoneChainConvexHull2D(points);
+         int expectedHullSize = inPlaceMonotoneChainConvexHull2D(pointsCopy, numberOfVertices);
+         assertEquals(expectedHullSize, actualHullSize);
+         assertEquals(points, pointsCopy);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test with collinear vertices, only the two extremities are part of the hull.
+         // Using integer coordinates so the vertices are exactly collinear.
+         Point2D start = new Point2D(random.nextInt(20) - 10, random.nextInt(20) - 10);
+         Vector2D direction = new Vector2D(random.nextInt(5) - 2, random.nextInt(5) - 2);
+         if (direction.getX() == 0.0 && direction.getY() == 0.0)
+            direction.set(0.0, 1.0);
+         List<Point2D> points = new ArrayList<>();
+         for (int j = 0; j < 20; j++)
+         {
+            Point2D point = new Point2D();
+            point.scaleAdd(random.nextInt(11), direction, start);
+            points.add(point);
+         }
+         points.add(new Point2D(start));
+         Point2D end = new Point2D();
+         end.scaleAdd(10.0, direction, start);
+         points.add(end);
+         Collections.shuffle(points, random);
+
+         int hullSize = inPlaceMonotoneChainConvexHull2D(points, points.size());
+         assertEquals(2, hullSize);
+         List<Point2D> extremities = new ArrayList<>(Arrays.asList(start, end));
+         Collections.swap(extremities, 0, EuclidGeometryPolygonTools.findMinXMaxYVertexIndex(extremities, 2));
+         EuclidCoreTestTools.assertTuple2DEquals(extremities.get(0), points.get(0), SMALLEST_EPSILON);
+         EuclidCoreTestTools.assertTuple2DEquals(extremities.get(1), points.get(1), SMALLEST_EPSILON);
+      }
+   }
+
+   @Test
+   public void testInPlaceAddVerticesToConvexHull2D() throws Exception
+   {
+      Random random = new Random(8723454L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = 200;
+         List<Point2D> points = new ArrayList<>();
+         for (int j = 0; j < numberOfVertices; j++)
+            points.add(nextPoint2D(random, 10.0));
+
+         int initialNumberOfVertices = random.nextInt(numberOfVertices - 3) + 3;
+         int hullSize = inPlaceConvexHull2D(points, initialNumberOfVertices);
+
+         // Add the next vertices by chunks as a polygon would do.
+         int numberOfProcessedVertices = initialNumberOfVertices;
+
+         while (numberOfProcessedVertices < numberOfVertices)
+         {
+            int numberOfVerticesToAdd = Math.min(random.nextInt(5) + 1, numberOfVertices - numberOfProcessedVertices);
+            // Move the new vertices right after the current hull.
+            for (int j = 0; j < numberOfVerticesToAdd; j++)
+               Collections.swap(points, hullSize + j, numberOfProcessedVertices + j);
+            numberOfProcessedVertices += numberOfVerticesToAdd;
+
+            List<Point2D> expectedPoints = new ArrayList<>(points.subList(0, hullSize + numberOfVerticesToAdd));
+            int expectedHullSize = inPlaceConvexHull2D(expectedPoints, expectedPoints.size());
+            hullSize = inPlaceAddVerticesToConvexHull2D(points, hullSize, hullSize + numberOfVerticesToAdd);
+
+            assertEquals(expectedHullSize, hullSize, "Iteration: " + i);
+            for (int vertexIndex = 0; vertexIndex < hullSize; vertexIndex++)
+               assertTrue(expectedPoints.get(vertexIndex) == points.get(vertexIndex), "Iteration: " + i);
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Vertices on a grid, such that many are collinear or duplicated, on both sides of the gift wrap threshold.
+         int numberOfVertices = random.nextBoolean() ? 20 : 200;
+         int gridSize = random.nextInt(8) + 2;
+         List<Point2D> points = new ArrayList<>();
+         for (int j = 0; j < numberOfVertices; j++)
+            points.add(new Point2D(random.nextInt(gridSize), random.nextInt(gridSize)));
+
+         int numberOfProcessedVertices = random.nextInt(numberOfVertices - 3) + 3;
+         int hullSize = inPlaceConvexHull2D(points, numberOfProcessedVertices);
+         assertStrictlyConvexHull(points, hullSize, numberOfProcessedVertices);
+
+         while (numberOfProcessedVertices < numberOfVertices)
+         {
+            int numberOfVerticesToAdd = Math.min(random.nextInt(5) + 1, numberOfVertices - numberOfProcessedVertices);
+            for (int j = 0; j < numberOfVerticesToAdd; j++)
+               Collections.swap(points, hullSize + j, numberOfProcessedVertices + j);
+            numberOfProcessedVertices += numberOfVerticesToAdd;
+
+            List<Point2D> expectedPoints = new ArrayList<>(points.subList(0, hullSize + numberOfVerticesToAdd));
+            int expectedHullSize = inPlaceMonotoneChainConvexHull2D(expectedPoints, expectedPoints.size());
+            hullSize = inPlaceAddVerticesToConvexHull2D(points, hullSize, hullSize + numberOfVerticesToAdd);
+
+            assertEquals(expectedHullSize, hullSize, "Iteration: " + i);
+            for (int vertexIndex = 0; vertexIndex < hullSize; vertexIndex++)
+               EuclidCoreTestTools.assertTuple2DEquals("Iteration: " + i, expectedPoints.get(vertexIndex), points.get(vertexIndex), 0.0);
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Adding vertices to a hull of less than 3 vertices falls back to the regular algorithm.
+         List<Point2D> points = nextPointCloud2D(random, 10.0, 10.0, 10);
+         List<Point2D> expectedPoints = new ArrayList<>(points);
+         int hullSize = inPlaceAddVerticesToConvexHull2D(points, 2, points.size());
+         assertEquals(inPlaceConvexHull2D(expectedPoints, expectedPoints.size()), hullSize);
+         for (int vertexIndex = 0; vertexIndex < hullSize; vertexIndex++)
+            assertTrue(expectedPoints.get(vertexIndex) == points.get(vertexIndex));
+      }
+
+      try
+      {
+         inPlaceAddVerticesToConvexHull2D(nextPointCloud2D(random, 10.0, 10.0, 10), 11, 10);
+         fail("Should have thrown an " + IllegalArgumentException.class.getSimpleName());
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
    @Test
    public void testCompareConvexHullAlgorithms() throws Exception
    {
@@ -308,6 +461,8 @@ public class EuclidGeometryPolygonToolsTest
       List<ConvexHullAlgorithm> algorithmsToTest = new ArrayList<>();
       algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices));
       algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGrahamScanConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceMonotoneChainConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceConvexHull2D(vertices, numberOfVertices));
 
       for (int i = 0; i < ITERATIONS; i++)
       {
@@ -332,6 +487,70 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testInPlaceConvexHull2DWithCollinearVertices() throws Exception
+   {
+      Random random = new Random(23455L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // The vertices lying on an edge are removed whichever algorithm is used, the hull is the same as with monotone chain.
+         int numberOfVertices = random.nextBoolean() ? random.nextInt(GIFT_WRAP_MAX_NUMBER_OF_VERTICES) + 1
+               : random.nextInt(100) + GIFT_WRAP_MAX_NUMBER_OF_VERTICES + 1;
+         int gridSize = random.nextInt(8) + 2;
+         List<Point2D> points = new ArrayList<>();
+         for (int j = 0; j < numberOfVertices; j++)
+            points.add(new Point2D(random.nextInt(gridSize), random.nextInt(gridSize)));
+
+         List<Point2D> expectedPoints = new ArrayList<>(points);
+         int expectedHullSize = inPlaceMonotoneChainConvexHull2D(expectedPoints, numberOfVertices);
+         int hullSize = inPlaceConvexHull2D(points, numberOfVertices);
+
+         assertEquals(expectedHullSize, hullSize, "Iteration: " + i);
+         for (int vertexIndex = 0; vertexIndex < hullSize; vertexIndex++)
+            EuclidCoreTestTools.assertTuple2DEquals("Iteration: " + i, expectedPoints.get(vertexIndex), points.get(vertexIndex), 0.0);
+         assertStrictlyConvexHull(points, hullSize, numberOfVertices);
+      }
+
+      { // A square with points on its edges, below and above the threshold.
+         for (int numberOfPointsPerEdge : new int[] {2, 3, 8, 20})
+         {
+            List<Point2D> points = new ArrayList<>();
+            for (int j = 0; j < numberOfPointsPerEdge; j++)
+            {
+               double alpha = (double) j / numberOfPointsPerEdge;
+               points.add(new Point2D(alpha, 0.0));
+               points.add(new Point2D(1.0, alpha));
+               points.add(new Point2D(1.0 - alpha, 1.0));
+               points.add(new Point2D(0.0, 1.0 - alpha));
+            }
+            Collections.shuffle(points, random);
+
+            assertEquals(4, inPlaceConvexHull2D(points, points.size()));
+            EuclidCoreTestTools.assertTuple2DEquals(new Point2D(0.0, 1.0), points.get(0), 0.0);
+            EuclidCoreTestTools.assertTuple2DEquals(new Point2D(1.0, 1.0), points.get(1), 0.0);
+            EuclidCoreTestTools.assertTuple2DEquals(new Point2D(1.0, 0.0), points.get(2), 0.0);
+            EuclidCoreTestTools.assertTuple2DEquals(new Point2D(0.0, 0.0), points.get(3), 0.0);
+         }
+      }
+   }
+
+   private static void assertStrictlyConvexHull(List<? extends Point2DReadOnly> points, int hullSize, int numberOfVertices)
+   {
+      if (hullSize < 3)
+         return;
+
+      for (int vertexIndex = 0; vertexIndex < hullSize; vertexIndex++)
+      {
+         Point2DReadOnly previousVertex = points.get(previous(vertexIndex, hullSize));
+         Point2DReadOnly vertex = points.get(vertexIndex);
+         Point2DReadOnly nextVertex = points.get(next(vertexIndex, hullSize));
+         assertTrue(isPoint2DOnRightSideOfLine2D(nextVertex, previousVertex, vertex), "Vertex " + vertexIndex + " is not a strict right turn.");
+      }
+
+      for (int vertexIndex = hullSize; vertexIndex < numberOfVertices; vertexIndex++)
+         assertTrue(isPoint2DInsideConvexPolygon2D(points.get(vertexIndex), points, hullSize, true, EPSILON));
+   }
+
    private static void testConvexHullAlgorithm(Random random, ConvexHullAlgorithm algorithmToTest) throws Exception
    {
       { // Test the exceptions
@@ -3869,6 +4088,762 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testBinarySearchQueries() throws Exception
+   {
+      Random random = new Random(2364L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Comparing the binary searches used with large polygons against a brute force evaluation.
+         int numberOfVertices = random.nextInt(200) + EuclidGeometryPolygonTools.LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES + 1;
+         List<Point2D> convexPolygon2D = nextCircleBasedConvexPolygon2D(random, 10.0, 1.0, numberOfVertices);
+         numberOfVertices = inPlaceConvexHull2D(convexPolygon2D, numberOfVertices);
+         boolean clockwiseOrdered = random.nextBoolean();
+         if (!clockwiseOrdered)
+            Collections.reverse(convexPolygon2D.subList(0, numberOfVertices));
+         Collections.rotate(convexPolygon2D.subList(0, numberOfVertices), random.nextInt(numberOfVertices));
+
+         Point2D centroid = new Point2D();
+         computeConvexPolygon2DArea(convexPolygon2D, numberOfVertices, clockwiseOrdered, centroid);
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point2D query = nextPoint2D(random, 1.0);
+            query.scaleAdd(nextDouble(random, 0.0, 20.0), query, centroid);
+
+            boolean expectedInside = true;
+            int expectedStartIndex = -1;
+            int expectedEndIndex = -1;
+            int expectedClosestEdgeIndex = -1;
+            double minDistanceSquared = Double.POSITIVE_INFINITY;
+
+            for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+            {
+               boolean isEdgeVisible = canObserverSeeEdge(edgeIndex, query, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+               boolean isPreviousEdgeVisible = canObserverSeeEdge(previous(edgeIndex, numberOfVertices),
+                                                                  query,
+                                                                  convexPolygon2D,
+                                                                  numberOfVertices,
+                                                                  clockwiseOrdered);
+               if (isEdgeVisible)
+                  expectedInside = false;
+               if (isEdgeVisible && !isPreviousEdgeVisible)
+                  expectedStartIndex = edgeIndex;
+               if (!isEdgeVisible && isPreviousEdgeVisible)
+                  expectedEndIndex = edgeIndex;
+
+               double distanceSquared = EuclidGeometryTools.distanceSquaredFromPoint2DToLineSegment2D(query,
+                                                                                                    convexPolygon2D.get(edgeIndex),
+                                                                                                    convexPolygon2D.get(next(edgeIndex,
+                                                                                                                             numberOfVertices)));
+               if (isEdgeVisible && distanceSquared < minDistanceSquared)
+               {
+                  expectedClosestEdgeIndex = edgeIndex;
+                  minDistanceSquared = distanceSquared;
+               }
+            }
+
+            assertEquals(expectedInside, isPoint2DInsideConvexPolygon2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered));
+            assertEquals(expectedStartIndex, lineOfSightStartIndex(query, convexPolygon2D, numberOfVertices, clockwiseOrdered));
+            assertEquals(expectedEndIndex, lineOfSightEndIndex(query, convexPolygon2D, numberOfVertices, clockwiseOrdered));
+
+            if (!expectedInside)
+            {
+               assertEquals(expectedClosestEdgeIndex, closestEdgeIndexToPoint2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered));
+               assertEquals(Math.sqrt(minDistanceSquared),
+                            signedDistanceFromPoint2DToConvexPolygon2D(query, convexPolygon2D, numberOfVertices, clockwiseOrdered),
+                            SMALLEST_EPSILON);
+            }
+
+            assertLine2DAndConvexPolygon2DIntersectionsEqualBruteForce(query, nextVector2D(random), convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Rectangles with vertices lying on their edges, any vertex can be the first one.
+         double width = nextDouble(random, 0.5, 5.0);
+         double height = nextDouble(random, 0.5, 5.0);
+         List<Point2D> convexPolygon2D = new ArrayList<>();
+         convexPolygon2D.add(new Point2D(0.0, height));
+         addPointsOnSegment(random, 0.0, height, 0.0, 0.0, random.nextInt(10), convexPolygon2D);
+         convexPolygon2D.add(new Point2D(0.0, 0.0));
+         addPointsOnSegment(random, 0.0, 0.0, width, 0.0, random.nextInt(10), convexPolygon2D);
+         convexPolygon2D.add(new Point2D(width, 0.0));
+         addPointsOnSegment(random, width, 0.0, width, height, random.nextInt(10), convexPolygon2D);
+         convexPolygon2D.add(new Point2D(width, height));
+         addPointsOnSegment(random, width, height, 0.0, height, random.nextInt(10) + 10, convexPolygon2D);
+         int numberOfVertices = convexPolygon2D.size();
+         boolean clockwiseOrdered = random.nextBoolean();
+         if (clockwiseOrdered)
+            Collections.reverse(convexPolygon2D);
+         Collections.rotate(convexPolygon2D, random.nextInt(numberOfVertices));
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point2D query = new Point2D(nextDouble(random, 0.0, width), nextDouble(random, 0.0, height));
+            assertLine2DAndConvexPolygon2DIntersectionsEqualBruteForce(query, nextVector2D(random), convexPolygon2D, numberOfVertices, clockwiseOrdered);
+         }
+      }
+
+      { // Unit square with collinear vertices, including the first one, which used to miss the intersections.
+         double[][] vertices = {{0.0, 0.784}, {0.0, 0.776}, {0.0, 0.703}, {0.0, 0.659}, {0.0, 0.184}, {0.059, 0.0}, {0.152, 0.0}, {0.931, 0.0}, {1.0, 0.06},
+               {1.0, 0.087}, {1.0, 0.089}, {1.0, 0.15}, {1.0, 0.987}, {0.936, 1.0}, {0.216, 1.0}, {0.034, 1.0}, {0.0, 0.992}};
+         List<Point2D> convexPolygon2D = new ArrayList<>();
+         for (double[] vertex : vertices)
+            convexPolygon2D.add(new Point2D(vertex[0], vertex[1]));
+         assertTrue(convexPolygon2D.size() > EuclidGeometryPolygonTools.LINEAR_SEARCH_MAX_NUMBER_OF_VERTICES);
+
+         for (int j = 0; j < 10 * ITERATIONS; j++)
+         {
+            Point2D query = new Point2D(nextDouble(random, 0.2, 0.8), nextDouble(random, 0.2, 0.8));
+            Vector2D lineDirection = nextVector2D(random);
+            assertEquals(2, intersectionBetweenLine2DAndConvexPolygon2D(query, lineDirection, convexPolygon2D, vertices.length, false, new Point2D(), new Point2D()));
+            assertLine2DAndConvexPolygon2DIntersectionsEqualBruteForce(query, lineDirection, convexPolygon2D, vertices.length, false);
+         }
+      }
+   }
+
+   /** Adds points on an horizontal or vertical segment, such that they are exactly aligned with its endpoints. */
+   private static void addPointsOnSegment(Random random, double startX, double startY, double endX, double endY, int numberOfPoints, List<Point2D> pointsToPack)
+   {
+      double[] alphas = new double[numberOfPoints];
+      for (int i = 0; i < numberOfPoints; i++)
+         alphas[i] = nextDouble(random, 0.01, 0.99);
+      Arrays.sort(alphas);
+      for (double alpha : alphas)
+         pointsToPack.add(new Point2D(startX == endX ? startX : EuclidCoreTools.interpolate(startX, endX, alpha),
+                                       startY == endY ? startY : EuclidCoreTools.interpolate(startY, endY, alpha)));
+   }
+
+   private static void assertLine2DAndConvexPolygon2DIntersectionsEqualBruteForce(Point2DReadOnly pointOnLine, Vector2DReadOnly lineDirection,
+                                                                                   List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                                                                   boolean clockwiseOrdered)
+   {
+      List<Point2D> expectedIntersections = new ArrayList<>();
+
+      for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+      {
+         Point2D intersection = new Point2D();
+         if (EuclidGeometryTools.intersectionBetweenLine2DAndLineSegment2D(pointOnLine,
+                                                                           lineDirection,
+                                                                           convexPolygon2D.get(edgeIndex),
+                                                                           convexPolygon2D.get(next(edgeIndex, numberOfVertices)),
+                                                                           intersection))
+         {
+            if (expectedIntersections.stream().noneMatch(other -> other.epsilonEquals(intersection, EPSILON)))
+               expectedIntersections.add(intersection);
+         }
+      }
+
+      Point2D firstIntersection = new Point2D();
+      Point2D secondIntersection = new Point2D();
+      int numberOfIntersections = intersectionBetweenLine2DAndConvexPolygon2D(pointOnLine,
+                                                                              lineDirection,
+                                                                              convexPolygon2D,
+                                                                              numberOfVertices,
+                                                                              clockwiseOrdered,
+                                                                              firstIntersection,
+                                                                              secondIntersection);
+      assertEquals(expectedIntersections.size(), numberOfIntersections);
+      if (numberOfIntersections > 0)
+         EuclidCoreTestTools.assertTuple2DEquals(expectedIntersections.get(0), firstIntersection, SMALLEST_EPSILON);
+      if (numberOfIntersections > 1)
+         EuclidCoreTestTools.assertTuple2DEquals(expectedIntersections.get(1), secondIntersection, SMALLEST_EPSILON);
+   }
+
+   @Test
+   public void testIntersectionBetweenTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Comparing against the convex hull of the vertices inside the other polygon and of the edge intersections.
+         ConvexPolygon2D polygonA = nextRandomConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = nextRandomConvexPolygon2D(random);
+
+         ConvexPolygon2D expected = intersectionBetweenTwoConvexPolygon2DsBruteForce(polygonA, polygonB);
+
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertEquals(!expected.isEmpty(), intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, actual));
+         if (expected.isEmpty())
+            assertTrue(actual.isEmpty());
+         else
+            EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALL_EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // One polygon inside the other
+         ConvexPolygon2D polygonA = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextCircleBasedConvexPolygon2D(random, 2.0, 1.0, random.nextInt(100) + 3)));
+         ConvexPolygon2D polygonB = new ConvexPolygon2D(polygonA);
+         polygonB.scale(polygonA.getCentroid(), nextDouble(random, 0.1, 0.9));
+
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, actual));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(polygonB, actual, SMALL_EPSILON);
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(polygonB, polygonA, actual));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(polygonB, actual, SMALL_EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Disjoint polygons
+         ConvexPolygon2D polygonA = nextRandomConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = new ConvexPolygon2D(polygonA);
+         polygonB.translate(nextVector2DWithFixedLength(random, 2.0 * (polygonA.getBoundingBox().getMaxX() - polygonA.getBoundingBox().getMinX()
+               + polygonA.getBoundingBox().getMaxY() - polygonA.getBoundingBox().getMinY()) + 0.1));
+
+         ConvexPolygon2D actual = new ConvexPolygon2D(polygonA);
+         assertFalse(intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, actual));
+         assertTrue(actual.isEmpty());
+      }
+
+      { // Two squares sharing an edge
+         ConvexPolygon2D polygonA = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0),
+                                                                                            new Point2D(1.0, 0.0),
+                                                                                            new Point2D(1.0, 1.0),
+                                                                                            new Point2D(0.0, 1.0)));
+         ConvexPolygon2D polygonB = new ConvexPolygon2D(polygonA);
+         polygonB.translate(1.0, 0.5);
+
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, actual));
+         ConvexPolygon2D expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(1.0, 0.5), new Point2D(1.0, 1.0)));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALLEST_EPSILON);
+      }
+
+      { // Polygons sharing two vertices, the result used to depend on the argument order.
+         ConvexPolygon2D polygonA = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 1.0),
+                                                                                            new Point2D(2.0, 1.0),
+                                                                                            new Point2D(3.0, -2.0),
+                                                                                            new Point2D(0.0, -1.0)));
+         ConvexPolygon2D polygonB = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(-1.0, -1.0),
+                                                                                            new Point2D(0.0, 1.0),
+                                                                                            new Point2D(2.0, 0.0),
+                                                                                            new Point2D(4.0, -1.0),
+                                                                                            new Point2D(3.0, -2.0),
+                                                                                            new Point2D(0.0, -2.0)));
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, actual));
+         assertEquals(4.8, actual.getArea(), SMALLEST_EPSILON);
+         assertTrue(intersectionBetweenTwoConvexPolygon2Ds(polygonB, polygonA, actual));
+         assertEquals(4.8, actual.getArea(), SMALLEST_EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Polygons sharing vertices and edges, the intersection does not depend on the argument order.
+         ConvexPolygon2D polygonA = nextRandomConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = new ConvexPolygon2D();
+         int numberOfSharedVertices = random.nextInt(polygonA.getNumberOfVertices()) + 1;
+
+         for (int j = 0; j < numberOfSharedVertices; j++)
+            polygonB.addVertex(polygonA.getVertex(random.nextInt(polygonA.getNumberOfVertices())));
+         BoundingBox2DReadOnly boundingBox = polygonA.getBoundingBox();
+         for (int j = random.nextInt(5); j >= 0; j--)
+            polygonB.addVertex(nextPoint2D(random, boundingBox.getMinX(), boundingBox.getMaxX(), boundingBox.getMinY(), boundingBox.getMaxY()));
+         polygonB.update();
+
+         if (random.nextBoolean())
+         { // Integer coordinates make the shared edges exactly collinear.
+            polygonA = roundVertices(polygonA);
+            polygonB = roundVertices(polygonB);
+         }
+
+         if (polygonA.getNumberOfVertices() < 3 || polygonB.getNumberOfVertices() < 3)
+            continue;
+
+         ConvexPolygon2D expected = intersectionBetweenTwoConvexPolygon2DsBruteForce(polygonA, polygonB);
+         ConvexPolygon2D actualAB = new ConvexPolygon2D();
+         ConvexPolygon2D actualBA = new ConvexPolygon2D();
+         assertEquals(!expected.isEmpty(), intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, actualAB));
+         assertEquals(!expected.isEmpty(), intersectionBetweenTwoConvexPolygon2Ds(polygonB, polygonA, actualBA));
+
+         if (!expected.isEmpty())
+         {
+            EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actualAB, SMALL_EPSILON);
+            EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actualBA, SMALL_EPSILON);
+         }
+      }
+
+      ConvexPolygon2D polygon = nextRandomConvexPolygon2D(random);
+      assertThrows(IllegalArgumentException.class, () -> intersectionBetweenTwoConvexPolygon2Ds(polygon, new ConvexPolygon2D(), polygon));
+   }
+
+   private static ConvexPolygon2D intersectionBetweenTwoConvexPolygon2DsBruteForce(ConvexPolygon2D polygonA, ConvexPolygon2D polygonB)
+   { // The convex hull of the vertices inside the other polygon and of the edge intersections.
+      ConvexPolygon2D expected = new ConvexPolygon2D();
+
+      for (int j = 0; j < polygonA.getNumberOfVertices(); j++)
+      {
+         if (polygonB.isPointInside(polygonA.getVertex(j)))
+            expected.addVertex(polygonA.getVertex(j));
+      }
+
+      for (int j = 0; j < polygonB.getNumberOfVertices(); j++)
+      {
+         if (polygonA.isPointInside(polygonB.getVertex(j)))
+            expected.addVertex(polygonB.getVertex(j));
+      }
+
+      for (int edgeA = 0; edgeA < polygonA.getNumberOfVertices() && polygonA.getNumberOfVertices() > 1; edgeA++)
+      {
+         for (int edgeB = 0; edgeB < polygonB.getNumberOfVertices() && polygonB.getNumberOfVertices() > 1; edgeB++)
+         {
+            Point2D intersection = new Point2D();
+            if (EuclidGeometryTools.intersectionBetweenTwoLineSegment2Ds(polygonA.getVertex(edgeA),
+                                                                         polygonA.getNextVertex(edgeA),
+                                                                         polygonB.getVertex(edgeB),
+                                                                         polygonB.getNextVertex(edgeB),
+                                                                         intersection))
+               expected.addVertex(intersection);
+         }
+      }
+      expected.update();
+      return expected;
+   }
+
+   private static ConvexPolygon2D roundVertices(ConvexPolygon2D polygon)
+   {
+      ConvexPolygon2D rounded = new ConvexPolygon2D();
+      for (int i = 0; i < polygon.getNumberOfVertices(); i++)
+         rounded.addVertex(Math.rint(2.0 * polygon.getVertex(i).getX()), Math.rint(2.0 * polygon.getVertex(i).getY()));
+      rounded.update();
+      return rounded;
+   }
+
+   @Test
+   public void testConvexHullOfTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(3454L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygonA = nextRandomConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = nextRandomConvexPolygon2D(random);
+
+         ConvexPolygon2D expected = new ConvexPolygon2D(polygonA, polygonB);
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         convexHullOfTwoConvexPolygon2Ds(polygonA, polygonB, actual);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALLEST_EPSILON);
+      }
+
+      ConvexPolygon2D polygonA = nextRandomConvexPolygon2D(random);
+      ConvexPolygon2D actual = new ConvexPolygon2D();
+      convexHullOfTwoConvexPolygon2Ds(polygonA, new ConvexPolygon2D(), actual);
+      EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(polygonA, actual, SMALLEST_EPSILON);
+      convexHullOfTwoConvexPolygon2Ds(polygonA, polygonA, actual);
+      EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(polygonA, actual, SMALLEST_EPSILON);
+   }
+
+   @Test
+   public void testMinkowskiSumAndDifferenceOfTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(3455L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygonA = nextRandomConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = nextRandomConvexPolygon2D(random);
+
+         ConvexPolygon2D expectedSum = new ConvexPolygon2D();
+         ConvexPolygon2D expectedDifference = new ConvexPolygon2D();
+
+         for (int j = 0; j < polygonA.getNumberOfVertices(); j++)
+         {
+            for (int k = 0; k < polygonB.getNumberOfVertices(); k++)
+            {
+               Point2D sum = new Point2D();
+               sum.add(polygonA.getVertex(j), polygonB.getVertex(k));
+               expectedSum.addVertex(sum);
+               Point2D difference = new Point2D();
+               difference.sub(polygonA.getVertex(j), polygonB.getVertex(k));
+               expectedDifference.addVertex(difference);
+            }
+         }
+         expectedSum.update();
+         expectedDifference.update();
+
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         minkowskiSumOfTwoConvexPolygon2Ds(polygonA, polygonB, actual);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expectedSum, actual, SMALL_EPSILON);
+
+         minkowskiDifferenceOfTwoConvexPolygon2Ds(polygonA, polygonB, actual);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expectedDifference, actual, SMALL_EPSILON);
+
+         // The difference contains the origin if and only if the polygons intersect.
+         if (polygonA.getNumberOfVertices() >= 3 && polygonB.getNumberOfVertices() >= 3)
+            assertEquals(intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, new ConvexPolygon2D()), actual.isPointInside(0.0, 0.0));
+      }
+   }
+
+   @Test
+   public void testOffsetConvexPolygon2D() throws Exception
+   {
+      Random random = new Random(3456L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Comparing against the brute force intersection of the half-planes delimited by the shifted edges.
+         ConvexPolygon2D polygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextCircleBasedConvexPolygon2D(random,
+                                                                                                                          2.0,
+                                                                                                                          1.0,
+                                                                                                                          random.nextInt(50) + 3)));
+         double distance = nextDouble(random, 1.0);
+
+         ConvexPolygon2D expected = new ConvexPolygon2D();
+         int n = polygon.getNumberOfVertices();
+
+         for (int edgeA = 0; edgeA < n; edgeA++)
+         {
+            for (int edgeB = edgeA + 1; edgeB < n; edgeB++)
+            {
+               Point2D intersection = new Point2D();
+               if (!intersectionBetweenTwoLine2Ds(shiftedEdgeStart(polygon, edgeA, distance),
+                                                  edgeDirection(polygon, edgeA),
+                                                  shiftedEdgeStart(polygon, edgeB, distance),
+                                                  edgeDirection(polygon, edgeB),
+                                                  intersection))
+                  continue;
+
+               boolean isInside = true;
+
+               for (int edgeC = 0; edgeC < n && isInside; edgeC++)
+                  isInside = signedDistanceFromPoint2DToLine2D(intersection, shiftedEdgeStart(polygon, edgeC, distance), edgeDirection(polygon, edgeC)) <= 1.0e-10;
+
+               if (isInside)
+                  expected.addVertex(intersection);
+            }
+         }
+         expected.update();
+
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         boolean isNotEmpty = offsetConvexPolygon2D(polygon, distance, actual);
+         assertEquals(!actual.isEmpty(), isNotEmpty);
+
+         if (expected.getNumberOfVertices() >= 3 && expected.getArea() > 1.0e-6)
+         {
+            EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALL_EPSILON);
+            if (distance > 0.0)
+               assertEquals(n, actual.getNumberOfVertices());
+         }
+         else if (expected.isEmpty())
+         {
+            assertTrue(actual.isEmpty());
+         }
+      }
+
+      { // Shrinking a square
+         ConvexPolygon2D square = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(-1.0, -1.0),
+                                                                                          new Point2D(1.0, -1.0),
+                                                                                          new Point2D(1.0, 1.0),
+                                                                                          new Point2D(-1.0, 1.0)));
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertTrue(offsetConvexPolygon2D(square, -0.5, actual));
+         ConvexPolygon2D expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(-0.5, -0.5),
+                                                                                            new Point2D(0.5, -0.5),
+                                                                                            new Point2D(0.5, 0.5),
+                                                                                            new Point2D(-0.5, 0.5)));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALLEST_EPSILON);
+
+         assertFalse(offsetConvexPolygon2D(square, -1.1, actual));
+         assertTrue(actual.isEmpty());
+
+         // The short edge of a square with a cut corner collapses
+         ConvexPolygon2D polygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0),
+                                                                                           new Point2D(0.9, 0.0),
+                                                                                           new Point2D(1.0, 0.1),
+                                                                                           new Point2D(1.0, 1.0),
+                                                                                           new Point2D(0.0, 1.0)));
+         assertTrue(offsetConvexPolygon2D(polygon, -0.1, actual));
+         assertEquals(5, actual.getNumberOfVertices());
+         assertTrue(offsetConvexPolygon2D(polygon, -0.3, actual));
+         expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.3, 0.3),
+                                                                            new Point2D(0.7, 0.3),
+                                                                            new Point2D(0.7, 0.7),
+                                                                            new Point2D(0.3, 0.7)));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALLEST_EPSILON);
+      }
+
+      { // Degenerate polygons
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertFalse(offsetConvexPolygon2D(new ConvexPolygon2D(), 1.0, actual));
+         assertTrue(actual.isEmpty());
+
+         ConvexPolygon2D point = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(1.0, 2.0)));
+         assertTrue(offsetConvexPolygon2D(point, 0.5, actual));
+         assertEquals(1.0, actual.getArea(), SMALLEST_EPSILON);
+         assertFalse(offsetConvexPolygon2D(point, -0.5, actual));
+
+         ConvexPolygon2D segment = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0), new Point2D(0.0, 2.0)));
+         assertTrue(offsetConvexPolygon2D(segment, 0.5, actual));
+         ConvexPolygon2D expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(-0.5, -0.5),
+                                                                                            new Point2D(0.5, -0.5),
+                                                                                            new Point2D(0.5, 2.5),
+                                                                                            new Point2D(-0.5, 2.5)));
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALLEST_EPSILON);
+
+         ConvexPolygon2D polygon = nextRandomConvexPolygon2D(random);
+         assertThrows(IllegalArgumentException.class, () -> offsetConvexPolygon2D(polygon, 1.0, polygon));
+      }
+   }
+
+   @Test
+   public void testOffsetConvexPolygon2DRounded() throws Exception
+   {
+      Random random = new Random(3457L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygon = nextRandomConvexPolygon2D(random);
+         double distance = nextDouble(random, 0.0, 1.0);
+         double maximumArcAngle = nextDouble(random, 0.01, 0.5);
+
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertTrue(offsetConvexPolygon2DRounded(polygon, distance, maximumArcAngle, actual));
+
+         // All the vertices are at the distance from the original polygon.
+         for (int j = 0; j < actual.getNumberOfVertices(); j++)
+            assertEquals(distance, polygon.signedDistance(actual.getVertex(j)), SMALL_EPSILON);
+
+         // The arcs are approximated with chords, the area is slightly less than the one of the exact rounded polygon.
+         double perimeter = 0.0;
+         for (int j = 0; j < polygon.getNumberOfVertices() && polygon.getNumberOfVertices() > 1; j++)
+            perimeter += polygon.getVertex(j).distance(polygon.getNextVertex(j));
+         double exactArea = polygon.getArea() + perimeter * distance + Math.PI * distance * distance;
+         double maximumChordArea = 0.5 * distance * distance * (maximumArcAngle - Math.sin(maximumArcAngle)) * Math.ceil(2.0 * Math.PI / maximumArcAngle + 3.0);
+         assertTrue(actual.getArea() <= exactArea + SMALL_EPSILON);
+         assertTrue(actual.getArea() >= exactArea - maximumChordArea - SMALL_EPSILON);
+
+         // Shrinking is the same as the sharp version.
+         ConvexPolygon2D expected = new ConvexPolygon2D();
+         assertEquals(offsetConvexPolygon2D(polygon, -distance, expected), offsetConvexPolygon2DRounded(polygon, -distance, maximumArcAngle, actual));
+         if (!expected.isEmpty())
+            EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, 0.0);
+      }
+
+      ConvexPolygon2D polygon = nextRandomConvexPolygon2D(random);
+      assertThrows(IllegalArgumentException.class, () -> offsetConvexPolygon2DRounded(polygon, 1.0, 0.0, new ConvexPolygon2D()));
+   }
+
+   @Test
+   public void testOffsetConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(3458L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<ConvexPolygon2D> polygons = new ArrayList<>();
+         List<ConvexPolygon2D> actuals = new ArrayList<>();
+
+         for (int j = 0; j < 20; j++)
+         {
+            polygons.add(nextRandomConvexPolygon2D(random));
+            actuals.add(new ConvexPolygon2D());
+         }
+
+         double distance = nextDouble(random, 1.0);
+         int expectedNumberOfNonEmptyPolygons = 0;
+
+         for (int j = 0; j < polygons.size(); j++)
+         {
+            ConvexPolygon2D expected = new ConvexPolygon2D();
+            if (offsetConvexPolygon2D(polygons.get(j), distance, expected))
+               expectedNumberOfNonEmptyPolygons++;
+         }
+
+         assertEquals(expectedNumberOfNonEmptyPolygons, offsetConvexPolygon2Ds(polygons, distance, actuals));
+
+         for (int j = 0; j < polygons.size(); j++)
+         {
+            ConvexPolygon2D expected = new ConvexPolygon2D();
+            polygons.get(j).offset(distance, expected);
+            assertTrue(expected.equals(actuals.get(j)));
+         }
+      }
+
+      assertThrows(IllegalArgumentException.class,
+                   () -> offsetConvexPolygon2Ds(Collections.singletonList(new ConvexPolygon2D()), 1.0, Collections.<ConvexPolygon2D>emptyList()));
+   }
+
+   @Test
+   public void testDiameterAndWidthOfConvexPolygon2D() throws Exception
+   {
+      Random random = new Random(3459L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygon = nextRandomConvexPolygon2D(random);
+         int n = polygon.getNumberOfVertices();
+
+         double expectedDiameter = 0.0;
+         for (int j = 0; j < n; j++)
+         {
+            for (int k = j + 1; k < n; k++)
+               expectedDiameter = Math.max(expectedDiameter, polygon.getVertex(j).distance(polygon.getVertex(k)));
+         }
+
+         Point2D firstVertex = new Point2D();
+         Point2D secondVertex = new Point2D();
+         assertEquals(expectedDiameter, diameterOfConvexPolygon2D(polygon, firstVertex, secondVertex), SMALLEST_EPSILON);
+         assertEquals(expectedDiameter, firstVertex.distance(secondVertex), SMALLEST_EPSILON);
+
+         double expectedWidth = n < 3 ? 0.0 : Double.POSITIVE_INFINITY;
+         for (int j = 0; j < n && n >= 3; j++)
+         {
+            double height = 0.0;
+            for (int k = 0; k < n; k++)
+               height = Math.max(height, distanceFromPoint2DToLine2D(polygon.getVertex(k), polygon.getVertex(j), polygon.getNextVertex(j)));
+            expectedWidth = Math.min(expectedWidth, height);
+         }
+
+         Vector2D widthDirection = new Vector2D();
+         double actualWidth = widthOfConvexPolygon2D(polygon, widthDirection);
+         assertEquals(expectedWidth, actualWidth, SMALLEST_EPSILON);
+
+         if (n >= 3)
+         { // The extent of the polygon along the width direction is the width.
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < n; j++)
+            {
+               double projection = widthDirection.dot(new Vector2D(polygon.getVertex(j)));
+               min = Math.min(min, projection);
+               max = Math.max(max, projection);
+            }
+            assertEquals(actualWidth, max - min, SMALLEST_EPSILON);
+         }
+      }
+
+      assertTrue(Double.isNaN(diameterOfConvexPolygon2D(new ConvexPolygon2D(), null, null)));
+      assertTrue(Double.isNaN(widthOfConvexPolygon2D(new ConvexPolygon2D(), null)));
+   }
+
+   @Test
+   public void testMinimumBoundingRectangleOfConvexPolygon2D() throws Exception
+   {
+      Random random = new Random(3460L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygon = nextRandomConvexPolygon2D(random);
+         int n = polygon.getNumberOfVertices();
+
+         if (n < 3)
+            continue;
+
+         // Brute force: the optimal rectangle has a side collinear with one of the edges.
+         double expectedArea = Double.POSITIVE_INFINITY;
+         double expectedPerimeter = Double.POSITIVE_INFINITY;
+
+         for (int j = 0; j < n; j++)
+         {
+            Vector2D direction = new Vector2D();
+            direction.sub(polygon.getNextVertex(j), polygon.getVertex(j));
+            direction.normalize();
+            Vector2D normal = new Vector2D(-direction.getY(), direction.getX());
+
+            double minAlong = Double.POSITIVE_INFINITY, maxAlong = Double.NEGATIVE_INFINITY;
+            double minAcross = Double.POSITIVE_INFINITY, maxAcross = Double.NEGATIVE_INFINITY;
+
+            for (int k = 0; k < n; k++)
+            {
+               minAlong = Math.min(minAlong, direction.dot(new Vector2D(polygon.getVertex(k))));
+               maxAlong = Math.max(maxAlong, direction.dot(new Vector2D(polygon.getVertex(k))));
+               minAcross = Math.min(minAcross, normal.dot(new Vector2D(polygon.getVertex(k))));
+               maxAcross = Math.max(maxAcross, normal.dot(new Vector2D(polygon.getVertex(k))));
+            }
+
+            expectedArea = Math.min(expectedArea, (maxAlong - minAlong) * (maxAcross - minAcross));
+            expectedPerimeter = Math.min(expectedPerimeter, 2.0 * (maxAlong - minAlong + maxAcross - minAcross));
+         }
+
+         ConvexPolygon2D rectangle = new ConvexPolygon2D();
+         assertEquals(expectedArea, minimumAreaBoundingRectangleOfConvexPolygon2D(polygon, rectangle), SMALL_EPSILON);
+         assertEquals(4, rectangle.getNumberOfVertices());
+         assertEquals(expectedArea, rectangle.getArea(), SMALL_EPSILON);
+         for (int j = 0; j < n; j++)
+            assertTrue(rectangle.isPointInside(polygon.getVertex(j), SMALL_EPSILON));
+
+         assertEquals(expectedPerimeter, minimumPerimeterBoundingRectangleOfConvexPolygon2D(polygon, rectangle), SMALL_EPSILON);
+         assertEquals(4, rectangle.getNumberOfVertices());
+         for (int j = 0; j < n; j++)
+            assertTrue(rectangle.isPointInside(polygon.getVertex(j), SMALL_EPSILON));
+      }
+
+      { // The rectangle of a rotated rectangle is itself
+         ConvexPolygon2D expected = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0),
+                                                                                            new Point2D(2.0, 2.0),
+                                                                                            new Point2D(1.0, 3.0),
+                                                                                            new Point2D(-1.0, 1.0)));
+         ConvexPolygon2D actual = new ConvexPolygon2D();
+         assertEquals(4.0, minimumAreaBoundingRectangleOfConvexPolygon2D(expected, actual), SMALLEST_EPSILON);
+         EuclidGeometryTestTools.assertConvexPolygon2DGeometricallyEquals(expected, actual, SMALLEST_EPSILON);
+      }
+
+      assertTrue(Double.isNaN(minimumAreaBoundingRectangleOfConvexPolygon2D(new ConvexPolygon2D(), null)));
+   }
+
+   @Test
+   public void testDistanceBetweenTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(3461L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygonA = nextRandomConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = nextRandomConvexPolygon2D(random);
+         polygonB.translate(nextVector2DWithFixedLength(random, nextDouble(random, 5.0, 20.0)));
+
+         if (intersectionBetweenTwoConvexPolygon2Ds(polygonA, polygonB, new ConvexPolygon2D()))
+            continue;
+
+         double expectedDistance = Double.POSITIVE_INFINITY;
+         for (int j = 0; j < polygonA.getNumberOfVertices(); j++)
+            expectedDistance = Math.min(expectedDistance, polygonB.distance(polygonA.getVertex(j)));
+         for (int j = 0; j < polygonB.getNumberOfVertices(); j++)
+            expectedDistance = Math.min(expectedDistance, polygonA.distance(polygonB.getVertex(j)));
+
+         Point2D closestPointOnA = new Point2D();
+         Point2D closestPointOnB = new Point2D();
+         double actualDistance = distanceBetweenTwoConvexPolygon2Ds(polygonA, polygonB, closestPointOnA, closestPointOnB);
+         assertEquals(expectedDistance, actualDistance, SMALLEST_EPSILON);
+         assertEquals(actualDistance, closestPointOnA.distance(closestPointOnB), SMALLEST_EPSILON);
+         assertEquals(0.0, polygonA.distance(closestPointOnA), SMALLEST_EPSILON);
+         assertEquals(0.0, polygonB.distance(closestPointOnB), SMALLEST_EPSILON);
+
+         assertEquals(actualDistance, distanceBetweenTwoConvexPolygon2Ds(polygonB, polygonA, null, null), SMALLEST_EPSILON);
+      }
+
+      assertTrue(Double.isNaN(distanceBetweenTwoConvexPolygon2Ds(new ConvexPolygon2D(), nextRandomConvexPolygon2D(random), null, null)));
+   }
+
+   private static Point2D shiftedEdgeStart(ConvexPolygon2D polygon, int edgeIndex, double distance)
+   {
+      Vector2D normal = new Vector2D();
+      edgeNormal(edgeIndex, polygon.getPolygonVerticesView(), polygon.getNumberOfVertices(), true, normal);
+      Point2D shiftedStart = new Point2D();
+      shiftedStart.scaleAdd(distance, normal, polygon.getVertex(edgeIndex));
+      return shiftedStart;
+   }
+
+   private static Vector2D edgeDirection(ConvexPolygon2D polygon, int edgeIndex)
+   {
+      Vector2D direction = new Vector2D();
+      direction.sub(polygon.getNextVertex(edgeIndex), polygon.getVertex(edgeIndex));
+      return direction;
+   }
+
+   private static double signedDistanceFromPoint2DToLine2D(Point2D point, Point2D pointOnLine, Vector2D lineDirection)
+   {
+      // Positive on the left side of the line, i.e. outside of a clockwise polygon.
+      return (lineDirection.getX() * (point.getY() - pointOnLine.getY()) - lineDirection.getY() * (point.getX() - pointOnLine.getX())) / lineDirection.length();
+   }
+
+   private static ConvexPolygon2D nextRandomConvexPolygon2D(Random random)
+   {
+      if (random.nextBoolean())
+         return EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+      else
+         return new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextCircleBasedConvexPolygon2D(random, 2.0, 1.0, random.nextInt(100) + 3)));
+   }
+
    @Test
    public void testMoveElementToEnd() throws Exception
    {
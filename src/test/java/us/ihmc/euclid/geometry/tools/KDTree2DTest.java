@@ -0,0 +1,169 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+
+public class KDTree2DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testFindNearest() throws Exception
+   {
+      Random random = new Random(4571L);
+      KDTree2D tree = new KDTree2D();
+      PointQueryResult result = new PointQueryResult();
+
+      assertEquals(-1, tree.findNearest(new Point2D()));
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point2D> points = nextPointCloud2D(random, random.nextInt(500) + 1);
+         tree.build(Vertex2DSupplier.asVertex2DSupplier(points));
+         assertEquals(points.size(), tree.getNumberOfPoints());
+
+         for (int j = 0; j < 50; j++)
+         {
+            Point2D query = EuclidCoreRandomTools.nextPoint2D(random, 12.0);
+            int nearest = tree.findNearest(query.getX(), query.getY(), result);
+            assertEquals(nearest, tree.findNearest(query));
+            assertEquals(1, result.size());
+            assertEquals(nearest, result.getIndex(0));
+            assertEquals(points.get(nearest).distanceSquared(query), result.getDistanceSquared(0), EPSILON);
+            assertEquals(bruteForceDistanceSquared(points, query, 1)[0], result.getDistanceSquared(0), EPSILON);
+
+            double epsilon = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+            int approximate = tree.findApproximateNearest(query.getX(), query.getY(), epsilon, result);
+            assertTrue(points.get(approximate).distance(query) <= (1.0 + epsilon) * points.get(nearest).distance(query) + EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testFindKNearest() throws Exception
+   {
+      Random random = new Random(4572L);
+      KDTree2D tree = new KDTree2D();
+      PointQueryResult result = new PointQueryResult(1);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point2D> points = nextPointCloud2D(random, random.nextInt(500) + 1);
+         tree.build(Vertex2DSupplier.asVertex2DSupplier(points));
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point2D query = EuclidCoreRandomTools.nextPoint2D(random, 12.0);
+            int k = random.nextInt(30) + 1;
+            int numberOfPoints = tree.findKNearest(query, k, result);
+            assertEquals(Math.min(k, points.size()), numberOfPoints);
+            assertEquals(numberOfPoints, result.size());
+
+            double[] expected = bruteForceDistanceSquared(points, query, numberOfPoints);
+
+            for (int n = 0; n < numberOfPoints; n++)
+            {
+               assertEquals(expected[n], result.getDistanceSquared(n), EPSILON);
+               assertEquals(points.get(result.getIndex(n)).distanceSquared(query), result.getDistanceSquared(n), EPSILON);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testFindWithinRadius() throws Exception
+   {
+      Random random = new Random(4573L);
+      KDTree2D tree = new KDTree2D();
+      PointQueryResult result = new PointQueryResult();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point2D> points = nextPointCloud2D(random, random.nextInt(500) + 1);
+         double[] packedCoordinates = new double[2 * points.size() + random.nextInt(5)];
+         for (int j = 0; j < points.size(); j++)
+            points.get(j).get(2 * j, packedCoordinates);
+         tree.build(packedCoordinates, points.size());
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point2D query = EuclidCoreRandomTools.nextPoint2D(random, 12.0);
+            double radius = EuclidCoreRandomTools.nextDouble(random, 0.0, 5.0);
+            int numberOfPoints = tree.findWithinRadius(query, radius, result);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int n = 0; n < points.size(); n++)
+            {
+               if (points.get(n).distance(query) <= radius)
+                  expected.add(n);
+            }
+
+            assertEquals(expected.size(), numberOfPoints);
+            for (int n = 0; n < numberOfPoints; n++)
+            {
+               assertTrue(expected.contains(result.getIndex(n)));
+               if (n > 0)
+                  assertTrue(result.getDistanceSquared(n - 1) <= result.getDistanceSquared(n));
+            }
+         }
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> tree.build(new double[3], 2));
+   }
+
+   @Test
+   public void testDuplicatePoints() throws Exception
+   {
+      Random random = new Random(4574L);
+      KDTree2D tree = new KDTree2D();
+      PointQueryResult result = new PointQueryResult();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         // Points on a coarse grid such that many of them share coordinates.
+         List<Point2D> points = new ArrayList<>();
+         for (int j = 0; j < random.nextInt(300) + 1; j++)
+            points.add(new Point2D(random.nextInt(4), random.nextInt(3)));
+         tree.build(Vertex2DSupplier.asVertex2DSupplier(points));
+
+         Point2D query = EuclidCoreRandomTools.nextPoint2D(random, 4.0);
+         int k = random.nextInt(points.size()) + 1;
+         tree.findKNearest(query, k, result);
+         double[] expected = bruteForceDistanceSquared(points, query, k);
+         for (int n = 0; n < k; n++)
+            assertEquals(expected[n], result.getDistanceSquared(n), EPSILON);
+
+         assertEquals(expected[0], points.get(tree.findNearest(query)).distanceSquared(query), EPSILON);
+      }
+   }
+
+   private static List<Point2D> nextPointCloud2D(Random random, int numberOfPoints)
+   {
+      List<Point2D> points = new ArrayList<>();
+      for (int i = 0; i < numberOfPoints; i++)
+         points.add(EuclidCoreRandomTools.nextPoint2D(random, 10.0));
+      return points;
+   }
+
+   private static double[] bruteForceDistanceSquared(List<Point2D> points, Point2D query, int k)
+   {
+      double[] distancesSquared = new double[points.size()];
+      for (int i = 0; i < points.size(); i++)
+         distancesSquared[i] = points.get(i).distanceSquared(query);
+      Arrays.sort(distancesSquared);
+      return Arrays.copyOf(distancesSquared, k);
+   }
+}
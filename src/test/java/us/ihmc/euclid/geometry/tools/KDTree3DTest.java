@@ -0,0 +1,169 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class KDTree3DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testFindNearest() throws Exception
+   {
+      Random random = new Random(4561L);
+      KDTree3D tree = new KDTree3D();
+      PointQueryResult result = new PointQueryResult();
+
+      assertEquals(-1, tree.findNearest(new Point3D()));
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point3D> points = nextPointCloud3D(random, random.nextInt(500) + 1);
+         tree.build(Vertex3DSupplier.asVertex3DSupplier(points));
+         assertEquals(points.size(), tree.getNumberOfPoints());
+
+         for (int j = 0; j < 50; j++)
+         {
+            Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 12.0);
+            int nearest = tree.findNearest(query.getX(), query.getY(), query.getZ(), result);
+            assertEquals(nearest, tree.findNearest(query));
+            assertEquals(1, result.size());
+            assertEquals(nearest, result.getIndex(0));
+            assertEquals(points.get(nearest).distanceSquared(query), result.getDistanceSquared(0), EPSILON);
+            assertEquals(bruteForceDistanceSquared(points, query, 1)[0], result.getDistanceSquared(0), EPSILON);
+
+            double epsilon = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+            int approximate = tree.findApproximateNearest(query.getX(), query.getY(), query.getZ(), epsilon, result);
+            assertTrue(points.get(approximate).distance(query) <= (1.0 + epsilon) * points.get(nearest).distance(query) + EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testFindKNearest() throws Exception
+   {
+      Random random = new Random(4562L);
+      KDTree3D tree = new KDTree3D();
+      PointQueryResult result = new PointQueryResult(1);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point3D> points = nextPointCloud3D(random, random.nextInt(500) + 1);
+         tree.build(Vertex3DSupplier.asVertex3DSupplier(points));
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 12.0);
+            int k = random.nextInt(30) + 1;
+            int numberOfPoints = tree.findKNearest(query, k, result);
+            assertEquals(Math.min(k, points.size()), numberOfPoints);
+            assertEquals(numberOfPoints, result.size());
+
+            double[] expected = bruteForceDistanceSquared(points, query, numberOfPoints);
+
+            for (int n = 0; n < numberOfPoints; n++)
+            {
+               assertEquals(expected[n], result.getDistanceSquared(n), EPSILON);
+               assertEquals(points.get(result.getIndex(n)).distanceSquared(query), result.getDistanceSquared(n), EPSILON);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testFindWithinRadius() throws Exception
+   {
+      Random random = new Random(4563L);
+      KDTree3D tree = new KDTree3D();
+      PointQueryResult result = new PointQueryResult();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point3D> points = nextPointCloud3D(random, random.nextInt(500) + 1);
+         double[] packedCoordinates = new double[3 * points.size() + random.nextInt(5)];
+         for (int j = 0; j < points.size(); j++)
+            points.get(j).get(3 * j, packedCoordinates);
+         tree.build(packedCoordinates, points.size());
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 12.0);
+            double radius = EuclidCoreRandomTools.nextDouble(random, 0.0, 5.0);
+            int numberOfPoints = tree.findWithinRadius(query, radius, result);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int n = 0; n < points.size(); n++)
+            {
+               if (points.get(n).distance(query) <= radius)
+                  expected.add(n);
+            }
+
+            assertEquals(expected.size(), numberOfPoints);
+            for (int n = 0; n < numberOfPoints; n++)
+            {
+               assertTrue(expected.contains(result.getIndex(n)));
+               if (n > 0)
+                  assertTrue(result.getDistanceSquared(n - 1) <= result.getDistanceSquared(n));
+            }
+         }
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> tree.build(new double[5], 2));
+   }
+
+   @Test
+   public void testDuplicatePoints() throws Exception
+   {
+      Random random = new Random(4564L);
+      KDTree3D tree = new KDTree3D();
+      PointQueryResult result = new PointQueryResult();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         // Points on a coarse grid such that many of them share coordinates.
+         List<Point3D> points = new ArrayList<>();
+         for (int j = 0; j < random.nextInt(300) + 1; j++)
+            points.add(new Point3D(random.nextInt(4), random.nextInt(3), random.nextInt(2)));
+         tree.build(Vertex3DSupplier.asVertex3DSupplier(points));
+
+         Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 4.0);
+         int k = random.nextInt(points.size()) + 1;
+         tree.findKNearest(query, k, result);
+         double[] expected = bruteForceDistanceSquared(points, query, k);
+         for (int n = 0; n < k; n++)
+            assertEquals(expected[n], result.getDistanceSquared(n), EPSILON);
+
+         assertEquals(expected[0], points.get(tree.findNearest(query)).distanceSquared(query), EPSILON);
+      }
+   }
+
+   private static List<Point3D> nextPointCloud3D(Random random, int numberOfPoints)
+   {
+      List<Point3D> points = new ArrayList<>();
+      for (int i = 0; i < numberOfPoints; i++)
+         points.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+      return points;
+   }
+
+   private static double[] bruteForceDistanceSquared(List<Point3D> points, Point3D query, int k)
+   {
+      double[] distancesSquared = new double[points.size()];
+      for (int i = 0; i < points.size(); i++)
+         distancesSquared[i] = points.get(i).distanceSquared(query);
+      Arrays.sort(distancesSquared);
+      return Arrays.copyOf(distancesSquared, k);
+   }
+}
@@ -0,0 +1,165 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class OrientedBoundingBoxFitter3DTest
+{
+   private static final double EPSILON = 1.0e-9;
+
+   @Test
+   public void testFitBoxVertices() throws Exception
+   {
+      Random random = new Random(3458L);
+      OrientedBoundingBoxFitter3D fitter = new OrientedBoundingBoxFitter3D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // The principal axes of the vertices of a box with distinct dimensions are the axes of the box.
+         OrientedBoundingBox3D expected = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random, 10.0, 5.0);
+         double halfSizeX = EuclidCoreRandomTools.nextDouble(random, 0.1, 1.0);
+         double halfSizeY = halfSizeX + EuclidCoreRandomTools.nextDouble(random, 0.5, 1.0);
+         double halfSizeZ = halfSizeY + EuclidCoreRandomTools.nextDouble(random, 0.5, 1.0);
+         expected.setHalfSize(halfSizeX, halfSizeY, halfSizeZ);
+         List<Point3D> points = new ArrayList<>();
+
+         for (int j = 0; j < 8; j++)
+         {
+            Point3D vertex = new Point3D();
+            expected.getVertex(j, vertex);
+            points.add(vertex);
+         }
+
+         Vertex3DSupplier supplier = Vertex3DSupplier.asVertex3DSupplier(points);
+         OrientedBoundingBox3D actual = new OrientedBoundingBox3D();
+         assertEquals(expected.getVolume(), fitter.fitPrincipalAxes(supplier, actual), EPSILON * expected.getVolume());
+         assertTrue(expected.geometricallyEquals(actual, EPSILON), "Expected:\n" + expected + "\nActual:\n" + actual);
+
+         assertEquals(expected.getVolume(), fitter.fitMinimumVolume(supplier, actual), EPSILON * expected.getVolume());
+         assertTrue(expected.geometricallyEquals(actual, EPSILON), "Expected:\n" + expected + "\nActual:\n" + actual);
+
+         // Adding interior points, the box is still recovered when fitting around one of its axes.
+         for (int j = 0; j < 50; j++)
+            points.add(EuclidGeometryRandomTools.nextWeightedAverage(random, points.subList(0, 8)));
+         supplier = Vertex3DSupplier.asVertex3DSupplier(points);
+
+         Vector3D axis = new Vector3D();
+         expected.getAxis(random.nextInt(3), axis);
+         axis.scale(EuclidCoreRandomTools.nextDouble(random, -10.0, 10.0));
+         assertEquals(expected.getVolume(), fitter.fitAroundAxis(supplier, axis, actual), EPSILON * expected.getVolume());
+         assertTrue(expected.geometricallyEquals(actual, EPSILON), "Expected:\n" + expected + "\nActual:\n" + actual);
+      }
+   }
+
+   @Test
+   public void testFitRandomPoints() throws Exception
+   {
+      Random random = new Random(9823L);
+      OrientedBoundingBoxFitter3D fitter = new OrientedBoundingBoxFitter3D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> points = new ArrayList<>();
+         int numberOfPoints = random.nextInt(100) + 1;
+         Vector3D stretch = EuclidCoreRandomTools.nextVector3D(random, 0.0, 5.0);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 1.0);
+            point.scale(stretch.getX(), stretch.getY(), stretch.getZ());
+            points.add(point);
+         }
+
+         Vertex3DSupplier supplier = Vertex3DSupplier.asVertex3DSupplier(points);
+         OrientedBoundingBox3D principalAxesBox = new OrientedBoundingBox3D();
+         OrientedBoundingBox3D minimumVolumeBox = new OrientedBoundingBox3D();
+         double principalAxesVolume = fitter.fitPrincipalAxes(supplier, principalAxesBox);
+         double minimumVolume = fitter.fitMinimumVolume(supplier, minimumVolumeBox);
+
+         assertEquals(principalAxesBox.getVolume(), principalAxesVolume, EPSILON);
+         assertEquals(minimumVolumeBox.getVolume(), minimumVolume, EPSILON);
+         assertTrue(minimumVolume <= principalAxesVolume);
+
+         for (Point3D point : points)
+         {
+            assertTrue(principalAxesBox.isInsideEpsilon(point, EPSILON));
+            assertTrue(minimumVolumeBox.isInsideEpsilon(point, EPSILON));
+         }
+
+         OrientedBoundingBox3D axisBox = new OrientedBoundingBox3D();
+         double axisVolume = fitter.fitAroundAxis(supplier, EuclidCoreRandomTools.nextVector3D(random), axisBox);
+         assertEquals(axisBox.getVolume(), axisVolume, EPSILON);
+         for (Point3D point : points)
+            assertTrue(axisBox.isInsideEpsilon(point, EPSILON));
+      }
+
+      OrientedBoundingBox3D box = new OrientedBoundingBox3D();
+      assertTrue(Double.isNaN(fitter.fitMinimumVolume(Vertex3DSupplier.emptyVertex3DSupplier(), box)));
+      assertTrue(box.containsNaN());
+      assertTrue(Double.isNaN(fitter.fitAroundAxis(Vertex3DSupplier.asVertex3DSupplier(new Point3D()), new Vector3D(), box)));
+   }
+
+   @Test
+   public void testFitDegeneratePoints() throws Exception
+   {
+      Random random = new Random(6723L);
+      OrientedBoundingBoxFitter3D fitter = new OrientedBoundingBoxFitter3D();
+
+      { // The projection along z has 3 collinear points, the first one used to be outside the box.
+         List<Point3D> points = new ArrayList<>();
+         points.add(new Point3D(3.0, 2.0, 1.0));
+         points.add(new Point3D(0.0, 2.0, 0.0));
+         points.add(new Point3D(1.0, 2.0, 0.0));
+         points.add(new Point3D(2.0, 2.0, 0.0));
+         assertPointsInside(points, fitter, new Vector3D(0.0, 0.0, 1.0));
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Points on a grid, on a line, or duplicated, possibly projected along one of the grid axes.
+         List<Point3D> points = new ArrayList<>();
+         Point3D origin = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Vector3D[] gridAxes = {EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0), new Vector3D(), new Vector3D()};
+         gridAxes[1].cross(gridAxes[0], EuclidCoreRandomTools.nextVector3D(random));
+         gridAxes[1].normalize();
+         gridAxes[2].cross(gridAxes[0], gridAxes[1]);
+         int[] gridSize = {random.nextInt(5) + 1, random.nextInt(5) + 1, random.nextInt(3) + 1};
+
+         for (int j = 0; j < 50; j++)
+         {
+            Point3D point = new Point3D(origin);
+            for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+               point.scaleAdd(random.nextInt(gridSize[axisIndex]), gridAxes[axisIndex], point);
+            points.add(point);
+         }
+
+         assertPointsInside(points, fitter, gridAxes[random.nextInt(3)]);
+         assertPointsInside(points, fitter, EuclidCoreRandomTools.nextVector3D(random));
+      }
+   }
+
+   private static void assertPointsInside(List<Point3D> points, OrientedBoundingBoxFitter3D fitter, Vector3D axis)
+   {
+      Vertex3DSupplier supplier = Vertex3DSupplier.asVertex3DSupplier(points);
+      OrientedBoundingBox3D box = new OrientedBoundingBox3D();
+
+      fitter.fitAroundAxis(supplier, axis, box);
+      for (Point3D point : points)
+         assertTrue(box.isInsideEpsilon(point, EPSILON), "Point outside:\n" + point + "\nBox:\n" + box);
+
+      fitter.fitMinimumVolume(supplier, box);
+      for (Point3D point : points)
+         assertTrue(box.isInsideEpsilon(point, EPSILON), "Point outside:\n" + point + "\nBox:\n" + box);
+   }
+}
@@ -0,0 +1,153 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.Plane3D;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class PlaneFitAccumulator3DTest
+{
+   private static final double EPSILON = 1.0e-9;
+
+   @Test
+   public void testAddRemovePoints() throws Exception
+   {
+      Random random = new Random(3479L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         PlaneFitAccumulator3D accumulator = new PlaneFitAccumulator3D();
+         List<Point3D> points = new ArrayList<>();
+         Point3D offset = EuclidCoreRandomTools.nextPoint3D(random, 1.0e4);
+
+         for (int j = 0; j < 100; j++)
+         {
+            if (points.isEmpty() || random.nextInt(3) != 0)
+            {
+               Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 1.0);
+               point.add(offset);
+               points.add(point);
+               accumulator.addPoint(point);
+            }
+            else
+            {
+               accumulator.removePoint(points.remove(random.nextInt(points.size())));
+            }
+         }
+
+         assertEquals(points.size(), accumulator.getNumberOfPoints());
+
+         Point3D expectedCentroid = new Point3D();
+         for (Point3D point : points)
+            expectedCentroid.add(point);
+         expectedCentroid.scale(1.0 / points.size());
+
+         Matrix3D expectedCovariance = new Matrix3D();
+         for (Point3D point : points)
+         {
+            Vector3D d = new Vector3D();
+            d.sub(point, expectedCentroid);
+            Matrix3D outer = new Matrix3D(d.getX() * d.getX(), d.getX() * d.getY(), d.getX() * d.getZ(),
+                                          d.getY() * d.getX(), d.getY() * d.getY(), d.getY() * d.getZ(),
+                                          d.getZ() * d.getX(), d.getZ() * d.getY(), d.getZ() * d.getZ());
+            expectedCovariance.add(outer);
+         }
+         expectedCovariance.scale(1.0 / points.size());
+
+         Point3D actualCentroid = new Point3D();
+         Matrix3D actualCovariance = new Matrix3D();
+         accumulator.getCentroid(actualCentroid);
+         accumulator.getCovariance(actualCovariance);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedCentroid, actualCentroid, EPSILON * 1.0e4);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedCovariance, actualCovariance, EPSILON);
+
+         // Merging two accumulators gives the same result as accumulating all the points.
+         PlaneFitAccumulator3D first = new PlaneFitAccumulator3D();
+         PlaneFitAccumulator3D second = new PlaneFitAccumulator3D();
+         for (int j = 0; j < points.size(); j++)
+            (j % 2 == 0 ? first : second).addPoint(points.get(j));
+         first.add(second);
+         assertEquals(points.size(), first.getNumberOfPoints());
+         first.getCentroid(actualCentroid);
+         first.getCovariance(actualCovariance);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedCentroid, actualCentroid, EPSILON * 1.0e4);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedCovariance, actualCovariance, EPSILON);
+      }
+
+      PlaneFitAccumulator3D accumulator = new PlaneFitAccumulator3D();
+      assertThrows(IllegalStateException.class, () -> accumulator.removePoint(new Point3D()));
+      Point3D centroid = new Point3D();
+      accumulator.getCentroid(centroid);
+      EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(centroid);
+   }
+
+   @Test
+   public void testFitPlane() throws Exception
+   {
+      Random random = new Random(2349L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Plane3D expectedPlane = EuclidGeometryRandomTools.nextPlane3D(random, 100.0);
+         Vector3D tangent1 = new Vector3D();
+         Vector3D tangent2 = new Vector3D();
+         tangent1.cross(expectedPlane.getNormal(), EuclidCoreRandomTools.nextVector3D(random));
+         tangent1.normalize();
+         tangent2.cross(expectedPlane.getNormal(), tangent1);
+
+         PlaneFitAccumulator3D accumulator = new PlaneFitAccumulator3D();
+         double noise = random.nextBoolean() ? 0.0 : 0.01;
+         List<Point3D> points = new ArrayList<>();
+         int numberOfPoints = random.nextInt(100) + 3;
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = new Point3D(expectedPlane.getPoint());
+            point.scaleAdd(EuclidCoreRandomTools.nextDouble(random, 5.0), tangent1, point);
+            point.scaleAdd(EuclidCoreRandomTools.nextDouble(random, 5.0), tangent2, point);
+            double distance = EuclidCoreRandomTools.nextDouble(random, noise);
+            point.scaleAdd(distance, expectedPlane.getNormal(), point);
+            accumulator.addPoint(point);
+            points.add(point);
+         }
+
+         Plane3D actualPlane = new Plane3D();
+         double meanSquaredDistance = accumulator.fitPlane(actualPlane);
+         assertTrue(actualPlane.getNormal().getZ() >= 0.0);
+
+         if (noise == 0.0)
+         {
+            assertEquals(0.0, meanSquaredDistance, 1.0e-9);
+            assertEquals(1.0, Math.abs(actualPlane.getNormal().dot(expectedPlane.getNormal())), 1.0e-9);
+            assertEquals(0.0, expectedPlane.distance(actualPlane.getPoint()), 1.0e-9);
+         }
+
+         // The returned error is the mean of the squared distances to the fitted plane.
+         double sumOfSquaredDistances = 0.0;
+         for (Point3D point : points)
+            sumOfSquaredDistances += EuclidCoreTools.square(actualPlane.distance(point));
+         assertEquals(sumOfSquaredDistances / numberOfPoints, meanSquaredDistance, 1.0e-9);
+      }
+
+      PlaneFitAccumulator3D accumulator = new PlaneFitAccumulator3D();
+      accumulator.addPoint(0.0, 0.0, 0.0);
+      accumulator.addPoint(1.0, 0.0, 0.0);
+      Plane3D plane = new Plane3D();
+      assertTrue(Double.isNaN(accumulator.fitPlane(plane)));
+      assertTrue(plane.containsNaN());
+   }
+}
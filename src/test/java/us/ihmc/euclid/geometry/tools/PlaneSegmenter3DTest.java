@@ -0,0 +1,116 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.Plane3D;
+import us.ihmc.euclid.geometry.interfaces.Plane3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class PlaneSegmenter3DTest
+{
+   @Test
+   public void testSegment() throws Exception
+   {
+      Random random = new Random(98345L);
+
+      for (int i = 0; i < ITERATIONS / 20; i++)
+      {
+         // Planar patches centered far apart from each other, plus uniform outliers.
+         int numberOfPlanes = random.nextInt(4) + 1;
+         int pointsPerPlane = 300;
+         int numberOfOutliers = random.nextInt(200);
+         int numberOfPoints = numberOfPlanes * pointsPerPlane + numberOfOutliers;
+         double[] xs = new double[numberOfPoints];
+         double[] ys = new double[numberOfPoints];
+         double[] zs = new double[numberOfPoints];
+         Plane3D[] expectedPlanes = new Plane3D[numberOfPlanes];
+
+         for (int planeIndex = 0; planeIndex < numberOfPlanes; planeIndex++)
+         {
+            Point3D center = new Point3D(10.0 * planeIndex, 0.0, 0.0);
+            expectedPlanes[planeIndex] = new Plane3D(center, EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0));
+            Vector3D tangent1 = new Vector3D();
+            Vector3D tangent2 = new Vector3D();
+            tangent1.cross(expectedPlanes[planeIndex].getNormal(), EuclidCoreRandomTools.nextVector3D(random));
+            tangent1.normalize();
+            tangent2.cross(expectedPlanes[planeIndex].getNormal(), tangent1);
+
+            for (int j = 0; j < pointsPerPlane; j++)
+            {
+               Point3D point = new Point3D(center);
+               point.scaleAdd(EuclidCoreRandomTools.nextDouble(random, 1.0), tangent1, point);
+               point.scaleAdd(EuclidCoreRandomTools.nextDouble(random, 1.0), tangent2, point);
+               point.scaleAdd(EuclidCoreRandomTools.nextDouble(random, 0.002), expectedPlanes[planeIndex].getNormal(), point);
+               int index = planeIndex * pointsPerPlane + j;
+               xs[index] = point.getX();
+               ys[index] = point.getY();
+               zs[index] = point.getZ();
+            }
+         }
+
+         for (int j = numberOfPlanes * pointsPerPlane; j < numberOfPoints; j++)
+         {
+            xs[j] = EuclidCoreRandomTools.nextDouble(random, -2.0, 10.0 * numberOfPlanes);
+            ys[j] = EuclidCoreRandomTools.nextDouble(random, 2.0);
+            zs[j] = EuclidCoreRandomTools.nextDouble(random, 2.0);
+         }
+
+         PlaneSegmenter3D segmenter = new PlaneSegmenter3D(random);
+         segmenter.setDistanceThreshold(0.01);
+         segmenter.setMinimumNumberOfInliers(pointsPerPlane / 2);
+         int[] labels = new int[numberOfPoints];
+         assertEquals(numberOfPlanes, segmenter.segment(xs, ys, zs, numberOfPoints, labels));
+         assertEquals(numberOfPlanes, segmenter.getNumberOfPlanes());
+
+         for (int planeIndex = 0; planeIndex < numberOfPlanes; planeIndex++)
+         {
+            // The most frequent label among the points of the patch identifies the plane found for it.
+            int[] labelCounts = new int[numberOfPlanes];
+            for (int j = 0; j < pointsPerPlane; j++)
+            {
+               if (labels[planeIndex * pointsPerPlane + j] >= 0)
+                  labelCounts[labels[planeIndex * pointsPerPlane + j]]++;
+            }
+            int label = 0;
+            for (int j = 1; j < numberOfPlanes; j++)
+            {
+               if (labelCounts[j] > labelCounts[label])
+                  label = j;
+            }
+            Plane3DReadOnly actualPlane = segmenter.getPlane(label);
+            assertEquals(1.0, Math.abs(actualPlane.getNormal().dot(expectedPlanes[planeIndex].getNormal())), 1.0e-3);
+            assertEquals(0.0, expectedPlanes[planeIndex].distance(actualPlane.getPoint()), 0.01);
+
+            int numberOfLabeledPoints = 0;
+            for (int j = 0; j < numberOfPoints; j++)
+            {
+               if (labels[j] == label)
+               {
+                  numberOfLabeledPoints++;
+                  assertTrue(actualPlane.distance(new Point3D(xs[j], ys[j], zs[j])) <= 0.01 + 1.0e-12);
+               }
+            }
+            assertEquals(segmenter.getNumberOfInliers(label), numberOfLabeledPoints);
+
+            // A few points of the patch may be closer to another plane crossing the patch.
+            assertTrue(labelCounts[label] >= 0.95 * pointsPerPlane);
+         }
+      }
+
+      PlaneSegmenter3D segmenter = new PlaneSegmenter3D(random);
+      assertThrows(IllegalArgumentException.class, () -> segmenter.setDistanceThreshold(0.0));
+      assertThrows(IllegalArgumentException.class, () -> segmenter.setMinimumNumberOfInliers(2));
+      assertThrows(IllegalArgumentException.class, () -> segmenter.setSuccessProbability(1.0));
+      assertThrows(IllegalArgumentException.class, () -> segmenter.segment(new double[2], new double[2], new double[2], 2, new int[1]));
+      assertThrows(IndexOutOfBoundsException.class, () -> segmenter.getPlane(0));
+   }
+}
@@ -0,0 +1,240 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class PolylineSimplifier3DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testSimplifyDouglasPeucker() throws Exception
+   {
+      Random random = new Random(3452L);
+      PolylineSimplifier3D simplifier = new PolylineSimplifier3D();
+      List<Point3D> simplified = new ArrayList<>();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> polyline = nextPolyline3D(random, random.nextInt(100) + 1);
+         double tolerance = EuclidCoreRandomTools.nextDouble(random, 0.0, 0.5);
+         simplifier.clear();
+         simplifier.addPoints(polyline);
+         int numberOfPoints = simplifier.simplifyDouglasPeucker(tolerance, simplified);
+         assertEquals(numberOfPoints, simplified.size());
+
+         boolean[] expected = new boolean[polyline.size()];
+         expected[0] = true;
+         expected[polyline.size() - 1] = true;
+         douglasPeucker(polyline, 0, polyline.size() - 1, tolerance, expected);
+
+         int index = 0;
+         for (int j = 0; j < polyline.size(); j++)
+         {
+            if (expected[j])
+               EuclidCoreTestTools.assertTuple3DEquals(polyline.get(j), simplified.get(index++), EPSILON);
+         }
+         assertEquals(index, numberOfPoints);
+      }
+   }
+
+   @Test
+   public void testSimplifyVisvalingamWhyatt() throws Exception
+   {
+      Random random = new Random(3453L);
+      PolylineSimplifier3D simplifier = new PolylineSimplifier3D();
+      List<Point3D> simplified = new ArrayList<>();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> polyline = nextPolyline3D(random, random.nextInt(100) + 1);
+         double minimumArea = EuclidCoreRandomTools.nextDouble(random, 0.0, 0.2);
+         simplifier.clear();
+         simplifier.addPoints(polyline);
+         int numberOfPoints = simplifier.simplifyVisvalingamWhyatt(minimumArea, simplified);
+
+         List<Point3D> expected = visvalingamWhyatt(polyline, minimumArea);
+         assertEquals(expected.size(), numberOfPoints);
+         assertEquals(expected.size(), simplified.size());
+         for (int j = 0; j < numberOfPoints; j++)
+            EuclidCoreTestTools.assertTuple3DEquals(expected.get(j), simplified.get(j), EPSILON);
+      }
+   }
+
+   @Test
+   public void testResample() throws Exception
+   {
+      Random random = new Random(3454L);
+      PolylineSimplifier3D simplifier = new PolylineSimplifier3D();
+      List<Point3D> resampled = new ArrayList<>();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> polyline = nextPolyline3D(random, random.nextInt(50) + 2);
+         double spacing = EuclidCoreRandomTools.nextDouble(random, 0.01, 2.0);
+         simplifier.clear();
+         simplifier.addPoints(polyline);
+         int numberOfPoints = simplifier.resample(spacing, resampled);
+         assertEquals(numberOfPoints, resampled.size());
+
+         double length = 0.0;
+         for (int j = 1; j < polyline.size(); j++)
+            length += polyline.get(j - 1).distance(polyline.get(j));
+
+         int expectedNumberOfPoints = (int) Math.ceil(length / spacing) + 1;
+         assertTrue(Math.abs(expectedNumberOfPoints - numberOfPoints) <= 1, "Iteration " + i);
+         EuclidCoreTestTools.assertTuple3DEquals(polyline.get(0), resampled.get(0), EPSILON);
+         EuclidCoreTestTools.assertTuple3DEquals(polyline.get(polyline.size() - 1), resampled.get(numberOfPoints - 1), EPSILON);
+
+         // Each resampled point is on the polyline at the expected arc-length.
+         for (int j = 1; j < numberOfPoints - 1; j++)
+         {
+            double arcLength = j * spacing;
+            int segmentIndex = 1;
+            double cumulatedLength = 0.0;
+            while (segmentIndex < polyline.size() - 1 && cumulatedLength + polyline.get(segmentIndex - 1).distance(polyline.get(segmentIndex)) <= arcLength)
+               cumulatedLength += polyline.get(segmentIndex - 1).distance(polyline.get(segmentIndex++));
+
+            Point3D start = polyline.get(segmentIndex - 1);
+            Point3D end = polyline.get(segmentIndex);
+            Point3D expected = new Point3D();
+            expected.interpolate(start, end, (arcLength - cumulatedLength) / start.distance(end));
+            EuclidCoreTestTools.assertTuple3DEquals(expected, resampled.get(j), 1.0e-9);
+         }
+
+         assertTrue(resampled.get(numberOfPoints - 2).distance(resampled.get(numberOfPoints - 1)) <= spacing + 1.0e-9);
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> simplifier.resample(0.0, resampled));
+   }
+
+   @Test
+   public void testStreaming() throws Exception
+   {
+      Random random = new Random(3455L);
+      PolylineSimplifier3D simplifier = new PolylineSimplifier3D();
+      List<Point3D> simplified = new ArrayList<>();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Point3D> polyline = nextPolyline3D(random, random.nextInt(200) + 2);
+         double tolerance = EuclidCoreRandomTools.nextDouble(random, 0.0, 0.5);
+         int windowSize = random.nextInt(20) + 2;
+         List<Point3D> streamed = new ArrayList<>();
+         simplifier.clear();
+
+         for (int j = 0; j < polyline.size(); j++)
+         {
+            simplifier.addPoint(polyline.get(j));
+
+            if (simplifier.getNumberOfPoints() == windowSize || j == polyline.size() - 1)
+            {
+               simplifier.simplifyDouglasPeucker(tolerance, simplified);
+               // The first point of a window is the last point of the previous one.
+               for (int k = streamed.isEmpty() ? 0 : 1; k < simplified.size(); k++)
+                  streamed.add(new Point3D(simplified.get(k)));
+               simplifier.clearExceptLastPoint();
+               EuclidCoreTestTools.assertTuple3DEquals(polyline.get(j), simplifier.getPoint(0), EPSILON);
+            }
+         }
+
+         EuclidCoreTestTools.assertTuple3DEquals(polyline.get(0), streamed.get(0), EPSILON);
+         EuclidCoreTestTools.assertTuple3DEquals(polyline.get(polyline.size() - 1), streamed.get(streamed.size() - 1), EPSILON);
+
+         // Every point of the stream is within the tolerance of the simplified polyline.
+         for (Point3D point : polyline)
+         {
+            double minDistance = Double.POSITIVE_INFINITY;
+            for (int k = 1; k < streamed.size(); k++)
+               minDistance = Math.min(minDistance, EuclidGeometryTools.distanceFromPoint3DToLineSegment3D(point, streamed.get(k - 1), streamed.get(k)));
+            if (streamed.size() > 1)
+               assertTrue(minDistance <= tolerance + EPSILON);
+         }
+      }
+   }
+
+   private static List<Point3D> nextPolyline3D(Random random, int numberOfPoints)
+   {
+      List<Point3D> polyline = new ArrayList<>();
+      Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         polyline.add(new Point3D(point));
+         point.add(EuclidCoreRandomTools.nextVector3D(random, 0.0, 0.5));
+      }
+
+      return polyline;
+   }
+
+   private static void douglasPeucker(List<Point3D> polyline, int start, int end, double tolerance, boolean[] isKept)
+   {
+      int farthestIndex = -1;
+      double maxDistance = tolerance;
+
+      for (int i = start + 1; i < end; i++)
+      {
+         double distance = EuclidGeometryTools.distanceFromPoint3DToLineSegment3D(polyline.get(i), polyline.get(start), polyline.get(end));
+         if (distance > maxDistance)
+         {
+            maxDistance = distance;
+            farthestIndex = i;
+         }
+      }
+
+      if (farthestIndex == -1)
+         return;
+
+      isKept[farthestIndex] = true;
+      douglasPeucker(polyline, start, farthestIndex, tolerance, isKept);
+      douglasPeucker(polyline, farthestIndex, end, tolerance, isKept);
+   }
+
+   private static List<Point3D> visvalingamWhyatt(List<Point3D> polyline, double minimumArea)
+   {
+      List<Point3D> points = new ArrayList<>(polyline);
+      double[] areas = new double[points.size()];
+      for (int i = 1; i < points.size() - 1; i++)
+         areas[i] = EuclidGeometryTools.triangleArea(points.get(i - 1), points.get(i), points.get(i + 1));
+      List<Double> effectiveAreas = new ArrayList<>();
+      for (double area : areas)
+         effectiveAreas.add(area);
+
+      while (points.size() > 2)
+      {
+         int minIndex = 1;
+         for (int i = 2; i < points.size() - 1; i++)
+         {
+            if (effectiveAreas.get(i) < effectiveAreas.get(minIndex))
+               minIndex = i;
+         }
+
+         double area = effectiveAreas.get(minIndex);
+         if (area >= minimumArea)
+            break;
+
+         points.remove(minIndex);
+         effectiveAreas.remove(minIndex);
+
+         if (minIndex - 1 > 0)
+            effectiveAreas.set(minIndex - 1,
+                               Math.max(area, EuclidGeometryTools.triangleArea(points.get(minIndex - 2), points.get(minIndex - 1), points.get(minIndex))));
+         if (minIndex < points.size() - 1)
+            effectiveAreas.set(minIndex, Math.max(area, EuclidGeometryTools.triangleArea(points.get(minIndex - 1), points.get(minIndex), points.get(minIndex + 1))));
+      }
+
+      return points;
+   }
+}
@@ -0,0 +1,142 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+public class RayPacket3DTest
+{
+   private static final double EPSILON = 1.0e-10;
+
+   @Test
+   public void testAddRay() throws Exception
+   {
+      Random random = new Random(34786L);
+      RayPacket3D packet = new RayPacket3D(1);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Point3D origin = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Vector3D direction = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+         assertEquals(i, packet.addRay(origin, direction));
+         assertEquals(i + 1, packet.getNumberOfRays());
+
+         Point3D actualOrigin = new Point3D();
+         Vector3D actualDirection = new Vector3D();
+         packet.getRayOrigin(i, actualOrigin);
+         packet.getRayDirection(i, actualDirection);
+         direction.normalize();
+         EuclidCoreTestTools.assertTuple3DEquals(origin, actualOrigin, 0.0);
+         EuclidCoreTestTools.assertTuple3DEquals(direction, actualDirection, EPSILON);
+      }
+
+      assertThrows(IndexOutOfBoundsException.class, () -> packet.getRayOrigin(packet.getNumberOfRays(), new Point3D()));
+      assertThrows(IndexOutOfBoundsException.class, () -> packet.getRayDirection(-1, new Vector3D()));
+      assertThrows(IllegalArgumentException.class, () -> packet.addRay(new Point3D(), new Vector3D()));
+
+      packet.clear();
+      assertEquals(0, packet.getNumberOfRays());
+      assertThrows(IndexOutOfBoundsException.class, () -> packet.getRayOrigin(0, new Point3D()));
+   }
+
+   @Test
+   public void testIntersectWithBoundingBox() throws Exception
+   {
+      Random random = new Random(4569L);
+      RayPacket3D packet = new RayPacket3D();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         BoundingBox3D boundingBox = EuclidGeometryRandomTools.nextBoundingBox3D(random, 2.0, 5.0);
+         int numberOfRays = random.nextInt(200) + 1;
+         Point3D[] origins = new Point3D[numberOfRays];
+         Vector3D[] directions = new Vector3D[numberOfRays];
+
+         packet.clear();
+
+         for (int j = 0; j < numberOfRays; j++)
+         {
+            origins[j] = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+            directions[j] = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+            if (random.nextInt(10) == 0) // Some rays parallel to an axis.
+               directions[j].setElement(random.nextInt(3), 0.0);
+            packet.addRay(origins[j], directions[j]);
+         }
+
+         boolean[] hitMask = new boolean[numberOfRays];
+         double[] entryDistances = new double[numberOfRays];
+         double[] exitDistances = new double[numberOfRays];
+         int numberOfHits = packet.intersectWithBoundingBox(boundingBox, hitMask, entryDistances, exitDistances);
+
+         int expectedNumberOfHits = 0;
+
+         for (int j = 0; j < numberOfRays; j++)
+         {
+            if (assertSlabTestResult(boundingBox, origins[j], directions[j], hitMask[j], entryDistances[j], exitDistances[j]))
+               expectedNumberOfHits++;
+         }
+
+         assertEquals(expectedNumberOfHits, numberOfHits);
+
+         boolean[] otherHitMask = new boolean[numberOfRays];
+         assertEquals(numberOfHits, packet.intersectWithBoundingBox(boundingBox, otherHitMask, null, null));
+         for (int j = 0; j < numberOfRays; j++)
+            assertEquals(hitMask[j], otherHitMask[j]);
+      }
+   }
+
+   /**
+    * Asserts the outcome of a slab test against
+    * {@link EuclidGeometryTools#intersectionBetweenRay3DAndBoundingBox3D(Point3DReadOnly, Point3DReadOnly, Point3DReadOnly, Vector3DReadOnly, us.ihmc.euclid.tuple3D.interfaces.Point3DBasics, us.ihmc.euclid.tuple3D.interfaces.Point3DBasics)}
+    * and returns whether the ray hits the bounding box.
+    */
+   static boolean assertSlabTestResult(BoundingBox3DReadOnly boundingBox, Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, boolean actualHit,
+                                       double actualEntryDistance, double actualExitDistance)
+   {
+      Point3D firstIntersection = new Point3D();
+      Point3D secondIntersection = new Point3D();
+      int numberOfIntersections = EuclidGeometryTools.intersectionBetweenRay3DAndBoundingBox3D(boundingBox.getMinPoint(),
+                                                                                              boundingBox.getMaxPoint(),
+                                                                                              rayOrigin,
+                                                                                              rayDirection,
+                                                                                              firstIntersection,
+                                                                                              secondIntersection);
+
+      if (numberOfIntersections == 0)
+      {
+         assertFalse(actualHit);
+         assertTrue(Double.isNaN(actualEntryDistance));
+         assertTrue(Double.isNaN(actualExitDistance));
+         return false;
+      }
+
+      assertTrue(actualHit);
+
+      if (numberOfIntersections == 2)
+      {
+         assertEquals(firstIntersection.distance(rayOrigin), actualEntryDistance, EPSILON);
+         assertEquals(secondIntersection.distance(rayOrigin), actualExitDistance, EPSILON);
+      }
+      else
+      { // The origin is inside the bounding box.
+         assertEquals(0.0, actualEntryDistance);
+         assertEquals(firstIntersection.distance(rayOrigin), actualExitDistance, EPSILON);
+      }
+      return true;
+   }
+}
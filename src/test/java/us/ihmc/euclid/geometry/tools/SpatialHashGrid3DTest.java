@@ -0,0 +1,186 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class SpatialHashGrid3DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testInsertMoveRemove() throws Exception
+   {
+      Random random = new Random(5671L);
+
+      for (int i = 0; i < ITERATIONS / 50; i++)
+      {
+         SpatialHashGrid3D grid = new SpatialHashGrid3D(EuclidCoreRandomTools.nextDouble(random, 0.1, 2.0));
+         int maxNumberOfEntries = random.nextInt(200) + 1;
+         BoundingBox3D[] entries = new BoundingBox3D[maxNumberOfEntries];
+         PointQueryResult result = new PointQueryResult();
+
+         for (int j = 0; j < 500; j++)
+         {
+            int index = random.nextInt(maxNumberOfEntries);
+            int operation = random.nextInt(3);
+
+            if (entries[index] == null)
+            {
+               if (random.nextBoolean())
+               {
+                  entries[index] = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 3.0);
+                  grid.insert(index, entries[index]);
+               }
+               else
+               {
+                  Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+                  entries[index] = new BoundingBox3D(point, point);
+                  grid.insert(index, point);
+               }
+               assertThrows(IllegalArgumentException.class, () -> grid.insert(index, entries[index]));
+            }
+            else if (operation == 0)
+            {
+               assertTrue(grid.remove(index));
+               assertFalse(grid.remove(index));
+               entries[index] = null;
+            }
+            else
+            {
+               // Small moves mostly stay in the same cells while large moves change cells.
+               double amplitude = operation == 1 ? 0.01 : 5.0;
+               BoundingBox3D moved = new BoundingBox3D(entries[index]);
+               Point3D translation = EuclidCoreRandomTools.nextPoint3D(random, amplitude);
+               moved.getMinPoint().add(translation);
+               moved.getMaxPoint().add(translation);
+               entries[index] = moved;
+               grid.move(index, moved);
+            }
+
+            if (j % 10 == 0)
+               assertQueries(random, grid, entries, result);
+         }
+
+         assertThrows(IllegalArgumentException.class, () -> grid.move(maxNumberOfEntries, new Point3D()));
+         grid.clear();
+         assertEquals(0, grid.getNumberOfEntries());
+         for (int j = 0; j < maxNumberOfEntries; j++)
+            entries[j] = null;
+         assertQueries(random, grid, entries, result);
+      }
+   }
+
+   @Test
+   public void testForEachInNeighborCells() throws Exception
+   {
+      Random random = new Random(5672L);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         double cellSize = EuclidCoreRandomTools.nextDouble(random, 0.1, 2.0);
+         SpatialHashGrid3D grid = new SpatialHashGrid3D(cellSize);
+         List<Point3D> points = new ArrayList<>();
+         for (int j = 0; j < 100; j++)
+         {
+            points.add(EuclidCoreRandomTools.nextPoint3D(random, 5.0));
+            grid.insert(j, points.get(j));
+         }
+
+         Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         boolean[] isReported = new boolean[points.size()];
+         grid.forEachInNeighborCells(query, index ->
+         {
+            assertFalse(isReported[index]);
+            isReported[index] = true;
+         });
+
+         for (int j = 0; j < points.size(); j++)
+         {
+            Point3D point = points.get(j);
+            boolean isInNeighborCells = Math.abs(Math.floor(point.getX() / cellSize) - Math.floor(query.getX() / cellSize)) <= 1.0
+                  && Math.abs(Math.floor(point.getY() / cellSize) - Math.floor(query.getY() / cellSize)) <= 1.0
+                  && Math.abs(Math.floor(point.getZ() / cellSize) - Math.floor(query.getZ() / cellSize)) <= 1.0;
+            assertEquals(isInNeighborCells, isReported[j]);
+
+            if (point.distance(query) < cellSize)
+               assertTrue(isReported[j]);
+         }
+      }
+   }
+
+   @Test
+   public void testConstructor() throws Exception
+   {
+      assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid3D(0.0));
+      assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid3D(Double.NaN));
+      assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid3D(1.0).insert(-1, new Point3D()));
+   }
+
+   private static void assertQueries(Random random, SpatialHashGrid3D grid, BoundingBox3D[] entries, PointQueryResult result)
+   {
+      int numberOfEntries = 0;
+      for (int index = 0; index < entries.length; index++)
+      {
+         assertEquals(entries[index] != null, grid.contains(index));
+         if (entries[index] != null)
+            numberOfEntries++;
+      }
+      assertEquals(numberOfEntries, grid.getNumberOfEntries());
+
+      Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+      // Large radii make the grid scan its hash table instead of the cells.
+      double radius = EuclidCoreRandomTools.nextDouble(random, 0.0, random.nextBoolean() ? 3.0 : 50.0);
+      int numberOfPoints = grid.findWithinRadius(query, radius, result);
+      int expectedNumberOfPoints = 0;
+
+      for (int index = 0; index < entries.length; index++)
+      {
+         if (entries[index] == null)
+            continue;
+         double distanceSquared = distanceSquared(entries[index], query);
+         if (distanceSquared <= radius * radius)
+            expectedNumberOfPoints++;
+      }
+
+      assertEquals(expectedNumberOfPoints, numberOfPoints);
+      for (int n = 0; n < numberOfPoints; n++)
+      {
+         assertEquals(distanceSquared(entries[result.getIndex(n)], query), result.getDistanceSquared(n), EPSILON);
+         if (n > 0)
+            assertTrue(result.getDistanceSquared(n - 1) <= result.getDistanceSquared(n));
+      }
+
+      BoundingBox3D range = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, random.nextBoolean() ? 5.0 : 50.0);
+      boolean[] isReported = new boolean[entries.length];
+      grid.forEachInBoundingBox(range, index ->
+      {
+         assertFalse(isReported[index]);
+         isReported[index] = true;
+      });
+
+      for (int index = 0; index < entries.length; index++)
+         assertEquals(entries[index] != null && entries[index].intersectsInclusive(range), isReported[index]);
+   }
+
+   private static double distanceSquared(BoundingBox3D boundingBox, Point3D query)
+   {
+      Point3D closest = new Point3D();
+      closest.setX(Math.max(boundingBox.getMinX(), Math.min(boundingBox.getMaxX(), query.getX())));
+      closest.setY(Math.max(boundingBox.getMinY(), Math.min(boundingBox.getMaxY(), query.getY())));
+      closest.setZ(Math.max(boundingBox.getMinZ(), Math.min(boundingBox.getMaxZ(), query.getZ())));
+      return closest.distanceSquared(query);
+   }
+}
@@ -0,0 +1,263 @@
+package us.ihmc.euclid.geometry.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.IndexedTriangleMesh3D;
+import us.ihmc.euclid.geometry.Triangle3D;
+import us.ihmc.euclid.shape.convexPolytope.tools.IcoSphereFactory;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+public class TriangleMeshBVH3DTest
+{
+   private static final double EPSILON = 1.0e-9;
+
+   @Test
+   public void testCastRay() throws Exception
+   {
+      Random random = new Random(4362L);
+      TriangleMeshQueryResult result = new TriangleMeshQueryResult();
+      Triangle3D triangle = new Triangle3D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         IndexedTriangleMesh3D mesh = nextTriangleSoup(random, random.nextInt(200) + 1);
+         TriangleMeshBVH3D bvh = new TriangleMeshBVH3D(mesh);
+         assertEquals(mesh.getNumberOfTriangles(), bvh.getNumberOfTriangles());
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point3D rayOrigin = EuclidCoreRandomTools.nextPoint3D(random, 12.0);
+            Point3D target = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+            Vector3D rayDirection = new Vector3D();
+            rayDirection.sub(target, rayOrigin);
+            rayDirection.scale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+
+            double expectedDistance = bruteForceCastRay(mesh, rayOrigin, rayDirection, Double.POSITIVE_INFINITY);
+            boolean hit = bvh.castRay(rayOrigin, rayDirection, result);
+
+            assertEquals(Double.isFinite(expectedDistance), hit);
+            assertEquals(hit, result.hasTriangle());
+            if (!hit)
+               continue;
+
+            assertEquals(expectedDistance, result.getDistance(), EPSILON);
+            Point3D expectedPoint = new Point3D();
+            expectedPoint.scaleAdd(expectedDistance / rayDirection.length(), rayDirection, rayOrigin);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, result.getPoint(), EPSILON);
+
+            mesh.getTriangle(result.getTriangleIndex(), triangle);
+            assertEquals(1.0, result.getWeightA() + result.getWeightB() + result.getWeightC(), EPSILON);
+            Point3D interpolated = new Point3D();
+            interpolated.setAndScale(result.getWeightA(), triangle.getA());
+            interpolated.scaleAdd(result.getWeightB(), triangle.getB(), interpolated);
+            interpolated.scaleAdd(result.getWeightC(), triangle.getC(), interpolated);
+            EuclidCoreTestTools.assertTuple3DEquals(result.getPoint(), interpolated, EPSILON);
+
+            // Limiting the distance to just before the first hit should report no intersection.
+            assertFalse(bvh.castRay(rayOrigin, rayDirection, 0.999 * expectedDistance, result));
+         }
+      }
+   }
+
+   @Test
+   public void testIntersectLineSegment() throws Exception
+   {
+      Random random = new Random(4363L);
+      TriangleMeshQueryResult result = new TriangleMeshQueryResult();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         IndexedTriangleMesh3D mesh = nextTriangleSoup(random, random.nextInt(200) + 1);
+         TriangleMeshBVH3D bvh = new TriangleMeshBVH3D(mesh);
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point3D start = EuclidCoreRandomTools.nextPoint3D(random, 8.0);
+            Point3D end = EuclidCoreRandomTools.nextPoint3D(random, 8.0);
+            Vector3D direction = new Vector3D();
+            direction.sub(end, start);
+
+            double expectedDistance = bruteForceCastRay(mesh, start, direction, direction.length());
+            boolean hit = bvh.intersectLineSegment(start, end, result);
+            assertEquals(Double.isFinite(expectedDistance), hit);
+            if (hit)
+               assertEquals(expectedDistance, result.getDistance(), EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testClosestPoint() throws Exception
+   {
+      Random random = new Random(4364L);
+      TriangleMeshQueryResult result = new TriangleMeshQueryResult();
+      Triangle3D triangle = new Triangle3D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         IndexedTriangleMesh3D mesh = nextTriangleSoup(random, random.nextInt(200) + 1);
+         TriangleMeshBVH3D bvh = new TriangleMeshBVH3D(mesh);
+
+         for (int j = 0; j < 20; j++)
+         {
+            Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+
+            double expectedDistance = Double.POSITIVE_INFINITY;
+            for (int t = 0; t < mesh.getNumberOfTriangles(); t++)
+            {
+               mesh.getTriangle(t, triangle);
+               expectedDistance = Math.min(expectedDistance, bruteForceDistance(query, triangle));
+            }
+
+            assertTrue(bvh.closestPoint(query, result));
+            assertEquals(expectedDistance, result.getDistance(), EPSILON);
+            assertEquals(expectedDistance, query.distance(result.getPoint()), EPSILON);
+            mesh.getTriangle(result.getTriangleIndex(), triangle);
+            assertEquals(expectedDistance, bruteForceDistance(query, triangle), EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testWatertightness() throws Exception
+   {
+      Random random = new Random(4365L);
+      TriangleMeshQueryResult result = new TriangleMeshQueryResult();
+      IndexedTriangleMesh3D mesh = IcoSphereFactory.newIcoSphere(3).toIndexedTriangleMesh3D();
+      TriangleMeshBVH3D bvh = new TriangleMeshBVH3D(mesh);
+      Point3D center = new Point3D();
+
+      for (int i = 0; i < 10 * ITERATIONS; i++)
+      { // Rays cast from the inside of a closed mesh should never leak through, even through edges and vertices.
+         Vector3D direction = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0);
+         assertTrue(bvh.castRay(center, direction, result));
+         assertTrue(result.getDistance() > 0.9 && result.getDistance() <= 1.0 + EPSILON);
+      }
+
+      for (int i = 0; i < mesh.getNumberOfVertices(); i++)
+      {
+         Vector3D direction = new Vector3D(mesh.getVertex(i));
+         assertTrue(bvh.castRay(center, direction, result));
+         EuclidCoreTestTools.assertTuple3DEquals(mesh.getVertex(i), result.getPoint(), EPSILON);
+      }
+   }
+
+   @Test
+   public void testEmptyMesh() throws Exception
+   {
+      TriangleMeshBVH3D bvh = new TriangleMeshBVH3D(new IndexedTriangleMesh3D());
+      TriangleMeshQueryResult result = new TriangleMeshQueryResult();
+      assertEquals(0, bvh.getNumberOfTriangles());
+      assertFalse(bvh.castRay(new Point3D(), new Vector3D(1.0, 0.0, 0.0), result));
+      assertFalse(bvh.intersectLineSegment(new Point3D(), new Point3D(1.0, 0.0, 0.0), result));
+      assertFalse(bvh.closestPoint(new Point3D(), result));
+      assertFalse(result.hasTriangle());
+   }
+
+   private static IndexedTriangleMesh3D nextTriangleSoup(Random random, int numberOfTriangles)
+   {
+      IndexedTriangleMesh3D mesh = new IndexedTriangleMesh3D();
+
+      for (int i = 0; i < numberOfTriangles; i++)
+      {
+         Point3D center = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         int a = mesh.addVertex(center.getX() + random.nextDouble() - 0.5, center.getY() + random.nextDouble() - 0.5, center.getZ() + random.nextDouble() - 0.5);
+         int b = mesh.addVertex(center.getX() + random.nextDouble() - 0.5, center.getY() + random.nextDouble() - 0.5, center.getZ() + random.nextDouble() - 0.5);
+         int c = mesh.addVertex(center.getX() + random.nextDouble() - 0.5, center.getY() + random.nextDouble() - 0.5, center.getZ() + random.nextDouble() - 0.5);
+         mesh.addTriangle(a, b, c);
+      }
+
+      return mesh;
+   }
+
+   /** Moller-Trumbore, returns the distance to the closest hit or infinity. */
+   private static double bruteForceCastRay(IndexedTriangleMesh3D mesh, Point3DReadOnly origin, Vector3DReadOnly direction, double maxDistance)
+   {
+      Triangle3D triangle = new Triangle3D();
+      Vector3D edge1 = new Vector3D();
+      Vector3D edge2 = new Vector3D();
+      Vector3D p = new Vector3D();
+      Vector3D s = new Vector3D();
+      Vector3D q = new Vector3D();
+      double length = direction.length();
+      double closest = Double.POSITIVE_INFINITY;
+
+      for (int i = 0; i < mesh.getNumberOfTriangles(); i++)
+      {
+         mesh.getTriangle(i, triangle);
+         edge1.sub(triangle.getB(), triangle.getA());
+         edge2.sub(triangle.getC(), triangle.getA());
+         p.cross(direction, edge2);
+         double det = edge1.dot(p);
+         if (Math.abs(det) < 1.0e-15)
+            continue;
+         s.sub(origin, triangle.getA());
+         double u = s.dot(p) / det;
+         if (u < 0.0 || u > 1.0)
+            continue;
+         q.cross(s, edge1);
+         double v = direction.dot(q) / det;
+         if (v < 0.0 || u + v > 1.0)
+            continue;
+         double distance = length * edge2.dot(q) / det;
+         if (distance >= 0.0 && distance <= maxDistance)
+            closest = Math.min(closest, distance);
+      }
+
+      return closest;
+   }
+
+   private static double bruteForceDistance(Point3DReadOnly query, Triangle3D triangle)
+   {
+      Vector3D normal = new Vector3D();
+      Vector3D ab = new Vector3D();
+      Vector3D ac = new Vector3D();
+      ab.sub(triangle.getB(), triangle.getA());
+      ac.sub(triangle.getC(), triangle.getA());
+      normal.cross(ab, ac);
+      normal.normalize();
+
+      Point3D projection = new Point3D();
+      Vector3D offset = new Vector3D();
+      offset.sub(query, triangle.getA());
+      projection.scaleAdd(-offset.dot(normal), normal, query);
+
+      if (isInside(projection, triangle, normal))
+         return query.distance(projection);
+
+      double distance = EuclidGeometryTools.distanceFromPoint3DToLineSegment3D(query, triangle.getA(), triangle.getB());
+      distance = Math.min(distance, EuclidGeometryTools.distanceFromPoint3DToLineSegment3D(query, triangle.getB(), triangle.getC()));
+      distance = Math.min(distance, EuclidGeometryTools.distanceFromPoint3DToLineSegment3D(query, triangle.getC(), triangle.getA()));
+      return distance;
+   }
+
+   private static boolean isInside(Point3DReadOnly point, Triangle3D triangle, Vector3DReadOnly normal)
+   {
+      Point3DReadOnly[] vertices = {triangle.getA(), triangle.getB(), triangle.getC()};
+      Vector3D edge = new Vector3D();
+      Vector3D toPoint = new Vector3D();
+      Vector3D cross = new Vector3D();
+
+      for (int i = 0; i < 3; i++)
+      {
+         edge.sub(vertices[(i + 1) % 3], vertices[i]);
+         toPoint.sub(point, vertices[i]);
+         cross.cross(edge, toPoint);
+         if (cross.dot(normal) < 0.0)
+            return false;
+      }
+      return true;
+   }
+}
@@ -0,0 +1,261 @@
+package us.ihmc.euclid.rotationConversion;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+public class BatchOrientationConversionTest
+{
+   private static final int NUMBER_OF_ORIENTATIONS = 1000;
+   private static final double EPSILON = 1.0e-15;
+
+   @Test
+   public void testConvertQuaternionsToMatrices() throws Exception
+   {
+      Random random = new Random(2342L);
+      double[] quaternions = nextQuaternions(random, NUMBER_OF_ORIENTATIONS);
+      double[] actual = new double[9 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertQuaternionsToMatrices(quaternions, actual, NUMBER_OF_ORIENTATIONS);
+
+      RotationMatrix matrix = new RotationMatrix();
+      assertEachEquals(quaternions, 4, actual, 9, (in, out) ->
+      {
+         RotationMatrixConversion.convertQuaternionToMatrix(in[0], in[1], in[2], in[3], matrix);
+         matrix.get(out);
+      });
+   }
+
+   @Test
+   public void testConvertMatricesToQuaternions() throws Exception
+   {
+      Random random = new Random(2343L);
+      double[] matrices = new double[9 * NUMBER_OF_ORIENTATIONS];
+      for (int i = 0; i < NUMBER_OF_ORIENTATIONS; i++)
+         EuclidCoreRandomTools.nextRotationMatrix(random).get(9 * i, matrices);
+      Arrays.fill(matrices, 0, 9, Double.NaN);
+
+      double[] actual = new double[4 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertMatricesToQuaternions(matrices, actual, NUMBER_OF_ORIENTATIONS);
+
+      Quaternion quaternion = new Quaternion();
+      assertEachEquals(matrices, 9, actual, 4, (in, out) ->
+      {
+         QuaternionConversion.convertMatrixToQuaternion(in[0], in[1], in[2], in[3], in[4], in[5], in[6], in[7], in[8], quaternion);
+         quaternion.get(out);
+      });
+   }
+
+   @Test
+   public void testConvertQuaternionsToYawPitchRolls() throws Exception
+   {
+      Random random = new Random(2344L);
+      double[] quaternions = nextQuaternions(random, NUMBER_OF_ORIENTATIONS);
+      double[] actual = new double[3 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertQuaternionsToYawPitchRolls(quaternions, actual, NUMBER_OF_ORIENTATIONS);
+
+      YawPitchRoll yawPitchRoll = new YawPitchRoll();
+      assertEachEquals(quaternions, 4, actual, 3, (in, out) ->
+      {
+         YawPitchRollConversion.convertQuaternionToYawPitchRoll(in[0], in[1], in[2], in[3], yawPitchRoll);
+         yawPitchRoll.get(out);
+      });
+   }
+
+   @Test
+   public void testConvertYawPitchRollsToQuaternionsAndMatrices() throws Exception
+   {
+      Random random = new Random(2345L);
+      double[] yawPitchRolls = new double[3 * NUMBER_OF_ORIENTATIONS];
+      for (int i = 0; i < NUMBER_OF_ORIENTATIONS; i++)
+         EuclidCoreRandomTools.nextYawPitchRoll(random).get(3 * i, yawPitchRolls);
+      Arrays.fill(yawPitchRolls, 0, 3, Double.NaN);
+      Arrays.fill(yawPitchRolls, 3, 6, 0.0);
+
+      double[] actualQuaternions = new double[4 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertYawPitchRollsToQuaternions(yawPitchRolls, actualQuaternions, NUMBER_OF_ORIENTATIONS);
+
+      Quaternion quaternion = new Quaternion();
+      assertEachEquals(yawPitchRolls, 3, actualQuaternions, 4, (in, out) ->
+      {
+         QuaternionConversion.convertYawPitchRollToQuaternion(in[0], in[1], in[2], quaternion);
+         quaternion.get(out);
+      });
+
+      double[] actualMatrices = new double[9 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertYawPitchRollsToMatrices(yawPitchRolls, actualMatrices, NUMBER_OF_ORIENTATIONS);
+
+      RotationMatrix matrix = new RotationMatrix();
+      assertEachEquals(yawPitchRolls, 3, actualMatrices, 9, (in, out) ->
+      {
+         RotationMatrixConversion.convertYawPitchRollToMatrix(in[0], in[1], in[2], matrix);
+         matrix.get(out);
+      });
+   }
+
+   @Test
+   public void testConvertMatricesToYawPitchRolls() throws Exception
+   {
+      Random random = new Random(2346L);
+      double[] matrices = new double[9 * NUMBER_OF_ORIENTATIONS];
+      for (int i = 0; i < NUMBER_OF_ORIENTATIONS; i++)
+         EuclidCoreRandomTools.nextRotationMatrix(random).get(9 * i, matrices);
+      Arrays.fill(matrices, 0, 9, Double.NaN);
+
+      double[] actual = new double[3 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertMatricesToYawPitchRolls(matrices, actual, NUMBER_OF_ORIENTATIONS);
+
+      YawPitchRoll yawPitchRoll = new YawPitchRoll();
+      assertEachEquals(matrices, 9, actual, 3, (in, out) ->
+      {
+         YawPitchRollConversion.convertMatrixToYawPitchRoll(in[0], in[1], in[2], in[3], in[4], in[5], in[6], in[7], in[8], yawPitchRoll);
+         yawPitchRoll.get(out);
+      });
+   }
+
+   @Test
+   public void testConvertQuaternionsAndAxisAngles() throws Exception
+   {
+      Random random = new Random(2347L);
+      double[] quaternions = nextQuaternions(random, NUMBER_OF_ORIENTATIONS);
+      double[] actualAxisAngles = new double[4 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertQuaternionsToAxisAngles(quaternions, actualAxisAngles, NUMBER_OF_ORIENTATIONS);
+
+      AxisAngle axisAngle = new AxisAngle();
+      assertEachEquals(quaternions, 4, actualAxisAngles, 4, (in, out) ->
+      {
+         AxisAngleConversion.convertQuaternionToAxisAngle(in[0], in[1], in[2], in[3], axisAngle);
+         axisAngle.get(out);
+      });
+
+      double[] axisAngles = new double[4 * NUMBER_OF_ORIENTATIONS];
+      for (int i = 0; i < NUMBER_OF_ORIENTATIONS; i++)
+         EuclidCoreRandomTools.nextAxisAngle(random).get(4 * i, axisAngles);
+      Arrays.fill(axisAngles, 0, 4, Double.NaN);
+      Arrays.fill(axisAngles, 4, 7, 0.0);
+
+      double[] actualQuaternions = new double[4 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertAxisAnglesToQuaternions(axisAngles, actualQuaternions, NUMBER_OF_ORIENTATIONS);
+
+      Quaternion quaternion = new Quaternion();
+      assertEachEquals(axisAngles, 4, actualQuaternions, 4, (in, out) ->
+      {
+         QuaternionConversion.convertAxisAngleToQuaternion(in[0], in[1], in[2], in[3], quaternion);
+         quaternion.get(out);
+      });
+   }
+
+   @Test
+   public void testConvertQuaternionsAndRotationVectors() throws Exception
+   {
+      Random random = new Random(2348L);
+      double[] quaternions = nextQuaternions(random, NUMBER_OF_ORIENTATIONS);
+      double[] actualRotationVectors = new double[3 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertQuaternionsToRotationVectors(quaternions, actualRotationVectors, NUMBER_OF_ORIENTATIONS);
+
+      Quaternion quaternion = new Quaternion();
+      Vector3D rotationVector = new Vector3D();
+      assertEachEquals(quaternions, 4, actualRotationVectors, 3, (in, out) ->
+      {
+         quaternion.setUnsafe(in[0], in[1], in[2], in[3]);
+         RotationVectorConversion.convertQuaternionToRotationVector(quaternion, rotationVector);
+         rotationVector.get(out);
+      });
+
+      double[] rotationVectors = new double[3 * NUMBER_OF_ORIENTATIONS];
+      for (int i = 0; i < NUMBER_OF_ORIENTATIONS; i++)
+         EuclidCoreRandomTools.nextRotationVector(random).get(3 * i, rotationVectors);
+      Arrays.fill(rotationVectors, 0, 3, Double.NaN);
+      Arrays.fill(rotationVectors, 3, 6, 1.0e-13);
+
+      double[] actualQuaternions = new double[4 * NUMBER_OF_ORIENTATIONS];
+      BatchOrientationConversion.convertRotationVectorsToQuaternions(rotationVectors, actualQuaternions, NUMBER_OF_ORIENTATIONS);
+
+      assertEachEquals(rotationVectors, 3, actualQuaternions, 4, (in, out) ->
+      {
+         QuaternionConversion.convertRotationVectorToQuaternion(in[0], in[1], in[2], quaternion);
+         quaternion.get(out);
+      });
+   }
+
+   @Test
+   public void testParallelConversion() throws Exception
+   {
+      Random random = new Random(2349L);
+      int count = 3 * BatchOrientationConversion.PARALLEL_THRESHOLD + 17;
+      double[] quaternions = nextQuaternions(random, count);
+
+      double[] expected = new double[9 * count];
+      double[] actual = new double[9 * count];
+      BatchOrientationConversion.convertQuaternionsToMatrices(quaternions, expected, count, false);
+      BatchOrientationConversion.convertQuaternionsToMatrices(quaternions, actual, count, true);
+      assertArrayEquals(expected, actual);
+
+      expected = new double[3 * count];
+      actual = new double[3 * count];
+      BatchOrientationConversion.convertQuaternionsToYawPitchRolls(quaternions, expected, count, false);
+      BatchOrientationConversion.convertQuaternionsToYawPitchRolls(quaternions, actual, count, true);
+      assertArrayEquals(expected, actual);
+   }
+
+   @Test
+   public void testArguments() throws Exception
+   {
+      double[] quaternions = new double[8];
+      double[] matrices = new double[18];
+
+      assertThrows(IllegalArgumentException.class, () -> BatchOrientationConversion.convertQuaternionsToMatrices(quaternions, matrices, -1));
+      assertThrows(IllegalArgumentException.class, () -> BatchOrientationConversion.convertQuaternionsToMatrices(quaternions, matrices, 3));
+      assertThrows(IllegalArgumentException.class, () -> BatchOrientationConversion.convertQuaternionsToMatrices(quaternions, new double[17], 2));
+
+      // Only the requested orientations are written.
+      Arrays.fill(matrices, -1.0);
+      BatchOrientationConversion.convertQuaternionsToMatrices(quaternions, matrices, 1);
+      for (int i = 0; i < 9; i++)
+         assertEquals(i % 4 == 0 ? 1.0 : 0.0, matrices[i]);
+      for (int i = 9; i < 18; i++)
+         assertEquals(-1.0, matrices[i]);
+   }
+
+   private static double[] nextQuaternions(Random random, int count)
+   {
+      double[] quaternions = new double[4 * count];
+      for (int i = 0; i < count; i++)
+         EuclidCoreRandomTools.nextQuaternion(random).get(4 * i, quaternions);
+      // Edge cases: NaN, zero, and a quaternion with a near-zero vector part.
+      Arrays.fill(quaternions, 0, 4, Double.NaN);
+      Arrays.fill(quaternions, 4, 8, 0.0);
+      quaternions[8] = 1.0e-13;
+      quaternions[9] = 0.0;
+      quaternions[10] = 0.0;
+      quaternions[11] = -1.0;
+      return quaternions;
+   }
+
+   private static void assertEachEquals(double[] input, int inputSize, double[] actual, int outputSize, BiConsumer<double[], double[]> singleConversion)
+   {
+      double[] in = new double[inputSize];
+      double[] expected = new double[outputSize];
+      double[] actualSingle = new double[outputSize];
+
+      for (int i = 0; i < actual.length / outputSize; i++)
+      {
+         System.arraycopy(input, i * inputSize, in, 0, inputSize);
+         System.arraycopy(actual, i * outputSize, actualSingle, 0, outputSize);
+         singleConversion.accept(in, expected);
+         assertArrayEquals(expected, actualSingle, EPSILON, "Orientation index: " + i);
+      }
+   }
+}
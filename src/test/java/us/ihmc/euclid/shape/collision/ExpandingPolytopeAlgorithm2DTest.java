@@ -0,0 +1,184 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm2D;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Vector2D;
+
+class ExpandingPolytopeAlgorithm2DTest
+{
+   private static final int ITERATIONS = 5000;
+   private static final double EPSILON = 1.0e-9;
+
+   @Test
+   void testSignedDistanceAgainstMinkowskiDifference()
+   {
+      Random random = new Random(6734);
+      ExpandingPolytopeAlgorithm2D epa = new ExpandingPolytopeAlgorithm2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygonA = nextConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = nextConvexPolygon2D(random);
+         ConvexPolygon2D difference = new ConvexPolygon2D();
+         EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds(polygonA, polygonB, difference);
+         double expected = difference.signedDistance(new Point2D());
+
+         Point2D pointOnA = new Point2D();
+         Point2D pointOnB = new Point2D();
+         double actual = epa.evaluateSignedDistance(polygonA, polygonB, pointOnA, pointOnB);
+         assertEquals(expected, actual, EPSILON, "Iteration " + i);
+         assertEquals(Math.abs(actual), pointOnA.distance(pointOnB), EPSILON, "Iteration " + i);
+         assertTrue(Math.abs(polygonA.signedDistance(pointOnA)) < EPSILON || polygonA.getNumberOfVertices() < 3 && polygonA.signedDistance(pointOnA) < EPSILON);
+         assertTrue(Math.abs(polygonB.signedDistance(pointOnB)) < EPSILON || polygonB.getNumberOfVertices() < 3 && polygonB.signedDistance(pointOnB) < EPSILON);
+         assertEquals(expected <= 0.0, epa.evaluateCollision(polygonA, polygonB));
+
+         if (actual < -EPSILON)
+         { // Translating B by the penetration vector brings the polygons in contact.
+            Vector2D separation = new Vector2D();
+            separation.sub(pointOnA, pointOnB);
+            ConvexPolygon2D separatedB = new ConvexPolygon2D(polygonB);
+            separatedB.translate(separation);
+            EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds(polygonA, separatedB, difference);
+            assertEquals(0.0, difference.signedDistance(new Point2D()), EPSILON, "Iteration " + i);
+         }
+      }
+   }
+
+   @Test
+   void testEdgeCases()
+   {
+      ExpandingPolytopeAlgorithm2D epa = new ExpandingPolytopeAlgorithm2D();
+      ConvexPolygon2D square = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0),
+                                                                                      new Point2D(1.0, 0.0),
+                                                                                      new Point2D(1.0, 1.0),
+                                                                                      new Point2D(0.0, 1.0)));
+      Point2D pointOnA = new Point2D();
+      Point2D pointOnB = new Point2D();
+
+      assertTrue(Double.isNaN(epa.evaluateSignedDistance(square, new ConvexPolygon2D(), pointOnA, pointOnB)));
+
+      // Identical squares: the smallest translation is along any of the edges.
+      assertEquals(-1.0, epa.evaluateSignedDistance(square, square, pointOnA, pointOnB), EPSILON);
+      assertEquals(1.0, pointOnA.distance(pointOnB), EPSILON);
+
+      // Segment crossing the square.
+      ConvexPolygon2D segment = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(-1.0, 0.25), new Point2D(2.0, 0.25)));
+      assertEquals(-0.25, epa.evaluateSignedDistance(square, segment, pointOnA, pointOnB), EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(pointOnB.getX(), 0.0), pointOnA, EPSILON);
+
+      // Point inside the square.
+      ConvexPolygon2D point = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.9, 0.5)));
+      assertEquals(-0.1, epa.evaluateSignedDistance(square, point, pointOnA, pointOnB), EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(1.0, 0.5), pointOnA, EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(0.9, 0.5), pointOnB, EPSILON);
+
+      // Touching squares.
+      ConvexPolygon2D touching = new ConvexPolygon2D(square);
+      touching.translate(1.0, 0.5);
+      assertEquals(0.0, epa.evaluateSignedDistance(square, touching, pointOnA, pointOnB), EPSILON);
+      assertEquals(0.0, pointOnA.distance(pointOnB), EPSILON);
+   }
+
+   @Test
+   void testSymmetry()
+   {
+      Random random = new Random(2390);
+      ExpandingPolytopeAlgorithm2D epa = new ExpandingPolytopeAlgorithm2D();
+
+      { // The Minkowski difference has collinear vertices next to the closest edge.
+         Vertex2DSupplier polygonA = Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 6.0),
+                                                                         new Point2D(4.0, 6.0),
+                                                                         new Point2D(6.0, 5.0),
+                                                                         new Point2D(6.0, 0.0),
+                                                                         new Point2D(0.0, 0.0));
+         Vertex2DSupplier polygonB = Vertex2DSupplier.asVertex2DSupplier(new Point2D(-1.0, 5.0),
+                                                                         new Point2D(2.0, 6.0),
+                                                                         new Point2D(3.0, 6.0),
+                                                                         new Point2D(5.0, 3.0),
+                                                                         new Point2D(5.0, 0.0),
+                                                                         new Point2D(2.0, 0.0),
+                                                                         new Point2D(0.0, 0.0));
+         assertEquals(-5.0, epa.evaluateSignedDistance(polygonA, polygonB, null, null), EPSILON);
+         assertEquals(-5.0, epa.evaluateSignedDistance(polygonB, polygonA, null, null), EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Overlapping polygons with collinear vertices, integer coordinates also yield parallel edges.
+         ConvexPolygon2D polygonA = new ConvexPolygon2D();
+         ConvexPolygon2D polygonB = new ConvexPolygon2D();
+         boolean onGrid = random.nextBoolean();
+
+         for (int j = random.nextInt(10) + 3; j > 0; j--)
+         {
+            polygonA.addVertex(nextCoordinate(random, onGrid), nextCoordinate(random, onGrid));
+            polygonB.addVertex(nextCoordinate(random, onGrid), nextCoordinate(random, onGrid));
+         }
+         polygonA.update();
+         polygonB.update();
+
+         ConvexPolygon2D difference = new ConvexPolygon2D();
+         EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds(polygonA, polygonB, difference);
+         double expected = difference.signedDistance(new Point2D());
+
+         if (expected >= 0.0)
+            continue;
+
+         Vertex2DSupplier verticesA = addEdgeMidpoints(random, polygonA);
+         Vertex2DSupplier verticesB = addEdgeMidpoints(random, polygonB);
+         double distanceAB = epa.evaluateSignedDistance(verticesA, verticesB, null, null);
+         double distanceBA = epa.evaluateSignedDistance(verticesB, verticesA, null, null);
+         assertEquals(expected, distanceAB, EPSILON, "Iteration " + i);
+         assertEquals(distanceAB, distanceBA, EPSILON, "Iteration " + i);
+      }
+   }
+
+   private static Vertex2DSupplier addEdgeMidpoints(Random random, ConvexPolygon2D polygon)
+   {
+      List<Point2D> vertices = new ArrayList<>();
+
+      for (int i = 0; i < polygon.getNumberOfVertices(); i++)
+      {
+         vertices.add(new Point2D(polygon.getVertex(i)));
+
+         if (random.nextBoolean())
+         {
+            Point2D midpoint = new Point2D();
+            midpoint.interpolate(polygon.getVertex(i), polygon.getNextVertex(i), 0.5);
+            vertices.add(midpoint);
+         }
+      }
+
+      return Vertex2DSupplier.asVertex2DSupplier(vertices);
+   }
+
+   private static double nextCoordinate(Random random, boolean onGrid)
+   {
+      return onGrid ? random.nextInt(6) : EuclidCoreRandomTools.nextDouble(random, 5.0);
+   }
+
+   private static ConvexPolygon2D nextConvexPolygon2D(Random random)
+   {
+      if (random.nextBoolean())
+         return EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+      else
+         return new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random,
+                                                                                                                                 2.0,
+                                                                                                                                 1.0,
+                                                                                                                                 random.nextInt(100) + 3)));
+   }
+}
@@ -0,0 +1,167 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector2D;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Vector2D;
+
+class GilbertJohnsonKeerthiCollisionDetector2DTest
+{
+   private static final int ITERATIONS = 5000;
+   private static final double EPSILON = 1.0e-9;
+
+   @Test
+   void testDistanceAgainstRotatingCalipers()
+   {
+      Random random = new Random(8923);
+      GilbertJohnsonKeerthiCollisionDetector2D detector = new GilbertJohnsonKeerthiCollisionDetector2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ConvexPolygon2D polygonA = nextConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = nextConvexPolygon2D(random);
+         ConvexPolygon2D difference = new ConvexPolygon2D();
+         EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds(polygonA, polygonB, difference);
+         double expectedSignedDistance = difference.signedDistance(new Point2D());
+
+         Point2D pointOnA = new Point2D();
+         Point2D pointOnB = new Point2D();
+         double actualDistance = detector.evaluateDistance(polygonA, polygonB, pointOnA, pointOnB);
+
+         if (Math.abs(expectedSignedDistance) < EPSILON)
+            continue;
+
+         if (expectedSignedDistance < 0.0)
+         {
+            assertEquals(0.0, actualDistance, "Iteration " + i);
+            assertTrue(pointOnA.containsNaN());
+            assertTrue(pointOnB.containsNaN());
+            assertTrue(detector.evaluateCollision(polygonA, polygonB));
+         }
+         else
+         {
+            double expectedDistance = EuclidGeometryPolygonTools.distanceBetweenTwoConvexPolygon2Ds(polygonA, polygonB, null, null);
+            assertEquals(expectedDistance, actualDistance, EPSILON, "Iteration " + i);
+            assertEquals(actualDistance, pointOnA.distance(pointOnB), EPSILON);
+            assertTrue(polygonA.signedDistance(pointOnA) < EPSILON);
+            assertTrue(polygonB.signedDistance(pointOnB) < EPSILON);
+            assertTrue(!detector.evaluateCollision(polygonA, polygonB));
+         }
+      }
+   }
+
+   @Test
+   void testGenericVertexSuppliers()
+   {
+      Random random = new Random(8924);
+      GilbertJohnsonKeerthiCollisionDetector2D detector = new GilbertJohnsonKeerthiCollisionDetector2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // The supplier does not need to be convex, the detector works on its convex hull.
+         ConvexPolygon2D polygonA = nextConvexPolygon2D(random);
+         ConvexPolygon2D polygonB = nextConvexPolygon2D(random);
+         Vertex2DSupplier supplierA = Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextPointCloud2D(random, 0.0, 1.0, 10));
+         polygonA.set(supplierA);
+         polygonA.update();
+
+         double expected = detector.evaluateDistance(polygonA, polygonB, null, null);
+         double actual = detector.evaluateDistance(supplierA, polygonB, null, null);
+         assertEquals(expected, actual, EPSILON);
+      }
+   }
+
+   @Test
+   void testWarmStart()
+   {
+      Random random = new Random(8925);
+      GilbertJohnsonKeerthiCollisionDetector2D coldDetector = new GilbertJohnsonKeerthiCollisionDetector2D();
+      GilbertJohnsonKeerthiCollisionDetector2D warmDetector = new GilbertJohnsonKeerthiCollisionDetector2D();
+      coldDetector.setWarmStart(false);
+      int coldIterations = 0;
+      int warmIterations = 0;
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         ConvexPolygon2D polygonA = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random,
+                                                                                                                                                     0.0,
+                                                                                                                                                     0.2,
+                                                                                                                                                     100)));
+         ConvexPolygon2D polygonB = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random,
+                                                                                                                                                     0.0,
+                                                                                                                                                     0.2,
+                                                                                                                                                     100)));
+         Vector2D offset = EuclidCoreRandomTools.nextVector2DWithFixedLength(random, 10.0);
+         Vector2D velocity = EuclidCoreRandomTools.nextVector2DWithFixedLength(random, 0.01);
+         polygonB.translate(offset);
+
+         for (int j = 0; j < 20; j++)
+         { // Small motions from one evaluation to the next.
+            polygonB.translate(velocity);
+            Point2D expectedPointOnA = new Point2D();
+            Point2D expectedPointOnB = new Point2D();
+            Point2D actualPointOnA = new Point2D();
+            Point2D actualPointOnB = new Point2D();
+            double expected = coldDetector.evaluateDistance(polygonA, polygonB, expectedPointOnA, expectedPointOnB);
+            double actual = warmDetector.evaluateDistance(polygonA, polygonB, actualPointOnA, actualPointOnB);
+            assertEquals(expected, actual, EPSILON);
+            EuclidCoreTestTools.assertTuple2DEquals(expectedPointOnA, actualPointOnA, 1.0e-6);
+            EuclidCoreTestTools.assertTuple2DEquals(expectedPointOnB, actualPointOnB, 1.0e-6);
+
+            if (j > 0)
+            {
+               coldIterations += coldDetector.getNumberOfIterations();
+               warmIterations += warmDetector.getNumberOfIterations();
+            }
+         }
+      }
+
+      assertTrue(warmIterations < coldIterations, "Warm: " + warmIterations + ", cold: " + coldIterations);
+   }
+
+   @Test
+   void testEdgeCases()
+   {
+      GilbertJohnsonKeerthiCollisionDetector2D detector = new GilbertJohnsonKeerthiCollisionDetector2D();
+      ConvexPolygon2D polygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(0.0, 0.0),
+                                                                                       new Point2D(1.0, 0.0),
+                                                                                       new Point2D(1.0, 1.0),
+                                                                                       new Point2D(0.0, 1.0)));
+      Point2D pointOnA = new Point2D();
+      Point2D pointOnB = new Point2D();
+
+      assertTrue(Double.isNaN(detector.evaluateDistance(polygon, new ConvexPolygon2D(), pointOnA, pointOnB)));
+      assertTrue(pointOnA.containsNaN());
+
+      ConvexPolygon2D point = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new Point2D(3.0, 0.5)));
+      assertEquals(2.0, detector.evaluateDistance(polygon, point, pointOnA, pointOnB), EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(1.0, 0.5), pointOnA, EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(3.0, 0.5), pointOnB, EPSILON);
+
+      ConvexPolygon2D touching = new ConvexPolygon2D(polygon);
+      touching.translate(1.0, 0.0);
+      assertTrue(detector.evaluateCollision(polygon, touching));
+   }
+
+   private static ConvexPolygon2D nextConvexPolygon2D(Random random)
+   {
+      if (random.nextBoolean())
+         return EuclidGeometryRandomTools.nextConvexPolygon2D(random, 5.0, random.nextInt(20) + 1);
+      else
+         return new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random,
+                                                                                                                                 2.0,
+                                                                                                                                 1.0,
+                                                                                                                                 random.nextInt(100) + 3)));
+   }
+}
@@ -22,10 +22,12 @@ import org.opentest4j.AssertionFailedError;
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.EuclidTestConstants;
 import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.geometry.tools.OrientedBoundingBoxFitter3D;
 import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3DTroublesomeDatasetLibrary.ConvexPolytope3DTroublesomeDataset_20190302_160115;
 import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3DTroublesomeDatasetLibrary.ConvexPolytope3DTroublesomeDataset_20190303_111711;
 import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3DTroublesomeDatasetLibrary.ConvexPolytope3DTroublesomeDataset_20190303_120656;
@@ -2030,4 +2032,50 @@ public class ConvexPolytope3DTest
          }
       }
    }
+
+   @Test
+   void testOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(8956);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // All the vertices are in the box, which is at least as tight as the principal axes box.
+         ConvexPolytope3D convexPolytope3D = EuclidShapeRandomTools.nextIcoSphereBasedConvexPolytope3D(random);
+         OrientedBoundingBox3D boundingBox = new OrientedBoundingBox3D();
+         convexPolytope3D.getOrientedBoundingBox(boundingBox);
+
+         convexPolytope3D.getVertices().forEach(vertex -> assertTrue(boundingBox.isInsideEpsilon(vertex, EPSILON)));
+
+         OrientedBoundingBox3D principalAxesBox = new OrientedBoundingBox3D();
+         new OrientedBoundingBoxFitter3D().fitPrincipalAxes(Vertex3DSupplier.asVertex3DSupplier(convexPolytope3D.getVertices()), principalAxesBox);
+         assertTrue(boundingBox.getVolume() <= principalAxesBox.getVolume() + EPSILON);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Any kind of polytope, the vertices projected along a face normal have collinear points.
+         ConvexPolytope3D convexPolytope3D = EuclidShapeRandomTools.nextConvexPolytope3D(random);
+         OrientedBoundingBox3D boundingBox = new OrientedBoundingBox3D();
+         convexPolytope3D.getOrientedBoundingBox(boundingBox);
+
+         convexPolytope3D.getVertices().forEach(vertex -> assertTrue(boundingBox.isInsideEpsilon(vertex, EPSILON)));
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // A polytope built from the vertices of a box is bounded by the same box.
+         OrientedBoundingBox3D expected = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         expected.setHalfSize(expected.getHalfSize().getX() + 0.1, expected.getHalfSize().getY() + 0.1, expected.getHalfSize().getZ() + 0.1);
+         Point3D[] vertices = new Point3D[8];
+
+         for (int j = 0; j < 8; j++)
+         {
+            vertices[j] = new Point3D();
+            expected.getVertex(j, vertices[j]);
+         }
+
+         ConvexPolytope3D convexPolytope3D = new ConvexPolytope3D(Vertex3DSupplier.asVertex3DSupplier(vertices));
+         OrientedBoundingBox3D actual = new OrientedBoundingBox3D();
+         convexPolytope3D.getOrientedBoundingBox(actual);
+         assertTrue(expected.geometricallyEquals(actual, 1.0e-9), "Expected:\n" + expected + "\nActual:\n" + actual);
+      }
+   }
 }
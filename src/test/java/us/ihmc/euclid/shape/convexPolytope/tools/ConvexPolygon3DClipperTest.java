@@ -0,0 +1,121 @@
+package us.ihmc.euclid.shape.convexPolytope.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.EuclidTestConstants;
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.Plane3D;
+import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3D;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Face3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class ConvexPolygon3DClipperTest
+{
+   private final static int ITERATIONS = EuclidTestConstants.ITERATIONS;
+   private static final double EPSILON = 1.0e-10;
+
+   @Test
+   public void testClipWithPlane() throws Exception
+   {
+      Random random = new Random(8734L);
+      ConvexPolygon3DClipper belowClipper = new ConvexPolygon3DClipper();
+      ConvexPolygon3DClipper aboveClipper = new ConvexPolygon3DClipper();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point2D> vertices2D = EuclidGeometryRandomTools.nextCircleBasedConvexPolygon2D(random, 1.0, 1.0, random.nextInt(30) + 3);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         List<Point3D> vertices = new ArrayList<>();
+         for (Point2D vertex2D : vertices2D)
+         {
+            Point3D vertex = new Point3D(vertex2D);
+            transform.transform(vertex);
+            vertices.add(vertex);
+         }
+         Vertex3DSupplier polygon = Vertex3DSupplier.asVertex3DSupplier(vertices);
+
+         Point3D centroid = new Point3D();
+         for (Point3D vertex : vertices)
+            centroid.scaleAdd(1.0 / vertices.size(), vertex, centroid);
+         Plane3D plane = new Plane3D(centroid, EuclidCoreRandomTools.nextVector3D(random));
+         plane.getPoint().add(EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 0.5));
+         Plane3D flippedPlane = new Plane3D(plane.getPoint(), plane.getNormal());
+         flippedPlane.getNormal().negate();
+
+         belowClipper.clip(polygon, plane);
+         aboveClipper.clip(polygon, flippedPlane);
+
+         for (int j = 0; j < belowClipper.getNumberOfVertices(); j++)
+            assertTrue(plane.signedDistance(belowClipper.getVertex(j)) < EPSILON);
+         for (int j = 0; j < aboveClipper.getNumberOfVertices(); j++)
+            assertTrue(plane.signedDistance(aboveClipper.getVertex(j)) > -EPSILON);
+
+         double expectedArea = area(polygon, transform);
+         double actualArea = area(belowClipper, transform) + area(aboveClipper, transform);
+         assertEquals(expectedArea, actualArea, EPSILON, "Iteration " + i);
+      }
+   }
+
+   @Test
+   public void testClipFace() throws Exception
+   {
+      ConvexPolytope3D cube = EuclidPolytopeFactories.newCube(1.0);
+      ConvexPolygon3DClipper clipper = new ConvexPolygon3DClipper();
+      List<Plane3D> facePlanes = new ArrayList<>();
+
+      for (Face3DReadOnly face : cube.getFaces())
+         facePlanes.add(new Plane3D(face.getCentroid(), face.getNormal()));
+
+      for (Face3DReadOnly face : cube.getFaces())
+      {
+         // Clipping a face with the support planes of the polytope it belongs to does not change it.
+         assertTrue(clipper.clip(face, facePlanes));
+         assertEquals(face.getNumberOfEdges(), clipper.getNumberOfVertices());
+
+         // Cutting the face in half.
+         Vector3D edgeDirection = new Vector3D();
+         edgeDirection.sub(face.getVertex(1), face.getVertex(0));
+         assertTrue(clipper.clip(face, new Plane3D(face.getCentroid(), edgeDirection)));
+         assertEquals(4, clipper.getNumberOfVertices());
+
+         for (int j = 0; j < clipper.getNumberOfVertices(); j++)
+            assertTrue(face.distance(clipper.getVertex(j)) < EPSILON);
+
+         // Removing the face entirely.
+         Plane3D belowFacePlane = new Plane3D(face.getCentroid(), face.getNormal());
+         belowFacePlane.getPoint().scaleAdd(-0.1, face.getNormal(), face.getCentroid());
+         assertTrue(!clipper.clip(face, belowFacePlane));
+         assertEquals(0, clipper.getNumberOfVertices());
+      }
+   }
+
+   private static double area(Vertex3DSupplier polygon, RigidBodyTransform transform)
+   {
+      if (polygon.getNumberOfVertices() < 3)
+         return 0.0;
+
+      List<Point2D> vertices2D = new ArrayList<>();
+      for (int i = 0; i < polygon.getNumberOfVertices(); i++)
+      {
+         Point3D vertex = new Point3D(polygon.getVertex(i));
+         transform.inverseTransform(vertex);
+         assertEquals(0.0, vertex.getZ(), EPSILON);
+         vertices2D.add(new Point2D(vertex));
+      }
+      return new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(vertices2D)).getArea();
+   }
+}
@@ -19,6 +19,7 @@ import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.geometry.BoundingBox3D;
 import us.ihmc.euclid.geometry.Line3D;
 import us.ihmc.euclid.geometry.LineSegment3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.Pose3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
@@ -1571,4 +1572,25 @@ public class Box3DTest
          EuclidGeometryTestTools.assertBoundingBox3DEquals(expectedBoundingBox, actualBoundingBox, EPSILON);
       }
    }
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(45698);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Box3D box3D = EuclidShapeRandomTools.nextBox3D(random);
+         OrientedBoundingBox3D expected = new OrientedBoundingBox3D(box3D.getPosition(), box3D.getOrientation(), new Vector3D(0.5 * box3D.getSizeX(),
+                                                                                                                            0.5 * box3D.getSizeY(),
+                                                                                                                            0.5 * box3D.getSizeZ()));
+         OrientedBoundingBox3D actual = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         box3D.getOrientedBoundingBox(actual);
+         assertTrue(expected.epsilonEquals(actual, EPSILON), "Expected:\n" + expected + "\nActual:\n" + actual);
+         assertEquals(box3D.getVolume(), actual.getVolume(), EPSILON);
+
+         for (Point3DBasics vertex : box3D.getVertices())
+            assertTrue(actual.isInsideEpsilon(vertex, EPSILON));
+      }
+   }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
@@ -908,4 +909,44 @@ class Capsule3DTest
          EuclidGeometryTestTools.assertBoundingBox3DEquals(expectedBoundingBox, actualBoundingBox, EPSILON);
       }
    }
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(7823);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Capsule3D capsule3D = EuclidShapeRandomTools.nextCapsule3D(random);
+         OrientedBoundingBox3D boundingBox = new OrientedBoundingBox3D();
+         capsule3D.getOrientedBoundingBox(boundingBox);
+
+         assertEquals(8.0 * capsule3D.getRadius() * capsule3D.getRadius() * (capsule3D.getHalfLength() + capsule3D.getRadius()), boundingBox.getVolume(), EPSILON);
+
+         Point3D supportingVertex = new Point3D();
+         Vector3D offset = new Vector3D();
+
+         for (int j = 0; j < 100; j++)
+         {
+            capsule3D.getSupportingVertex(EuclidCoreRandomTools.nextVector3D(random), supportingVertex);
+            assertTrue(boundingBox.isInsideEpsilon(supportingVertex, EPSILON));
+         }
+
+         // The box touches the capsule on each of its faces.
+         Vector3D axis = new Vector3D();
+
+         for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+         {
+            boundingBox.getAxis(axisIndex, axis);
+
+            for (int sign = -1; sign <= 1; sign += 2)
+            {
+               axis.scale(sign);
+               capsule3D.getSupportingVertex(axis, supportingVertex);
+               offset.sub(supportingVertex, boundingBox.getCenter());
+               assertEquals(boundingBox.getHalfSize().getElement(axisIndex), axis.dot(offset), EPSILON);
+            }
+         }
+      }
+   }
 }
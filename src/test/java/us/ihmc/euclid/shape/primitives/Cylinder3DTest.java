@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.axisAngle.AxisAngle;
 import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.shape.primitives.interfaces.Cylinder3DReadOnly;
@@ -1007,4 +1009,49 @@ public class Cylinder3DTest
          EuclidGeometryTestTools.assertBoundingBox3DEquals(expectedBoundingBox, actualBoundingBox, EPSILON);
       }
    }
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(893457);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Cylinder3D cylinder3D = EuclidShapeRandomTools.nextCylinder3D(random);
+         OrientedBoundingBox3D boundingBox = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         cylinder3D.getOrientedBoundingBox(boundingBox);
+
+         assertEquals(4.0 * cylinder3D.getRadius() * cylinder3D.getRadius() * cylinder3D.getLength(), boundingBox.getVolume(), EPSILON);
+
+         // The local z-axis of the box is aligned with the axis of the cylinder.
+         Vector3D zAxis = new Vector3D();
+         boundingBox.getAxis(2, zAxis);
+         assertEquals(1.0, Math.abs(zAxis.dot(cylinder3D.getAxis())), EPSILON);
+
+         Point3D supportingVertex = new Point3D();
+
+         for (int j = 0; j < 100; j++)
+         {
+            cylinder3D.getSupportingVertex(EuclidCoreRandomTools.nextVector3D(random), supportingVertex);
+            assertTrue(boundingBox.isInsideEpsilon(supportingVertex, EPSILON));
+         }
+
+         // The box touches the cylinder on each of its faces.
+         Vector3D axis = new Vector3D();
+         Vector3D offset = new Vector3D();
+
+         for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+         {
+            boundingBox.getAxis(axisIndex, axis);
+
+            for (int sign = -1; sign <= 1; sign += 2)
+            {
+               axis.scale(sign);
+               cylinder3D.getSupportingVertex(axis, supportingVertex);
+               offset.sub(supportingVertex, boundingBox.getCenter());
+               assertEquals(boundingBox.getHalfSize().getElement(axisIndex), axis.dot(offset), EPSILON);
+            }
+         }
+      }
+   }
 }
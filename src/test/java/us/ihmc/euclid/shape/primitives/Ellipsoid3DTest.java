@@ -15,8 +15,10 @@ import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.axisAngle.AxisAngle;
 import us.ihmc.euclid.geometry.BoundingBox3D;
 import us.ihmc.euclid.geometry.Line3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.Pose3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
 import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.shape.primitives.interfaces.Ellipsoid3DReadOnly;
@@ -1285,4 +1287,44 @@ public class Ellipsoid3DTest
          EuclidGeometryTestTools.assertBoundingBox3DEquals(expectedBoundingBox, actualBoundingBox, EPSILON);
       }
    }
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(560234);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Ellipsoid3D ellipsoid3D = EuclidShapeRandomTools.nextEllipsoid3D(random);
+         OrientedBoundingBox3D boundingBox = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         ellipsoid3D.getOrientedBoundingBox(boundingBox);
+
+         assertEquals(8.0 * ellipsoid3D.getRadiusX() * ellipsoid3D.getRadiusY() * ellipsoid3D.getRadiusZ(), boundingBox.getVolume(), EPSILON);
+
+         Point3D supportingVertex = new Point3D();
+
+         for (int j = 0; j < 100; j++)
+         {
+            ellipsoid3D.getSupportingVertex(EuclidCoreRandomTools.nextVector3D(random), supportingVertex);
+            assertTrue(boundingBox.isInsideEpsilon(supportingVertex, EPSILON));
+         }
+
+         // The box touches the ellipsoid on each of its faces.
+         Vector3D axis = new Vector3D();
+         Vector3D offset = new Vector3D();
+
+         for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+         {
+            boundingBox.getAxis(axisIndex, axis);
+
+            for (int sign = -1; sign <= 1; sign += 2)
+            {
+               axis.scale(sign);
+               ellipsoid3D.getSupportingVertex(axis, supportingVertex);
+               offset.sub(supportingVertex, boundingBox.getCenter());
+               assertEquals(boundingBox.getHalfSize().getElement(axisIndex), axis.dot(offset), EPSILON);
+            }
+         }
+      }
+   }
 }
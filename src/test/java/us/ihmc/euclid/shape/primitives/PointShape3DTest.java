@@ -0,0 +1,53 @@
+package us.ihmc.euclid.shape.primitives;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class PointShape3DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(781245);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         PointShape3D pointShape3D = EuclidShapeRandomTools.nextPointShape3D(random);
+         OrientedBoundingBox3D boundingBox = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         pointShape3D.getOrientedBoundingBox(boundingBox);
+
+         assertEquals(0.0, boundingBox.getVolume());
+         EuclidCoreTestTools.assertTuple3DEquals(pointShape3D, boundingBox.getCenter(), 0.0);
+
+         Point3D supportingVertex = new Point3D();
+
+         for (int j = 0; j < 100; j++)
+         {
+            pointShape3D.getSupportingVertex(EuclidCoreRandomTools.nextVector3D(random), supportingVertex);
+            assertTrue(boundingBox.isInsideEpsilon(supportingVertex, EPSILON));
+         }
+
+         // Any point other than the shape is outside the degenerate box.
+         Vector3D offset = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0e-3);
+         Point3D outsidePoint = new Point3D();
+         outsidePoint.add(pointShape3D, offset);
+         assertFalse(boundingBox.isInsideEpsilon(outsidePoint, EPSILON));
+      }
+   }
+}
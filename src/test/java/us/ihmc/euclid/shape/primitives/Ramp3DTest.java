@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.axisAngle.AxisAngle;
 import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.Plane3D;
 import us.ihmc.euclid.geometry.Pose3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
@@ -1761,4 +1762,49 @@ public class Ramp3DTest
          assertFalse(firstRamp.geometricallyEquals(secondRamp, epsilon));
       }
    }
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(129874);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Ramp3D ramp3D = EuclidShapeRandomTools.nextRamp3D(random);
+         OrientedBoundingBox3D boundingBox = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         ramp3D.getOrientedBoundingBox(boundingBox);
+
+         assertEquals(ramp3D.getSizeX() * ramp3D.getSizeY() * ramp3D.getSizeZ(), boundingBox.getVolume(), EPSILON);
+
+         // The center of the box is not the origin of the ramp.
+         Point3D expectedCenter = new Point3D(0.5 * ramp3D.getSizeX(), 0.0, 0.5 * ramp3D.getSizeZ());
+         ramp3D.transformToWorld(expectedCenter);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedCenter, boundingBox.getCenter(), EPSILON);
+
+         Point3D supportingVertex = new Point3D();
+
+         for (int j = 0; j < 100; j++)
+         {
+            ramp3D.getSupportingVertex(EuclidCoreRandomTools.nextVector3D(random), supportingVertex);
+            assertTrue(boundingBox.isInsideEpsilon(supportingVertex, EPSILON));
+         }
+
+         // The box touches the ramp on each of its faces.
+         Vector3D axis = new Vector3D();
+         Vector3D offset = new Vector3D();
+
+         for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+         {
+            boundingBox.getAxis(axisIndex, axis);
+
+            for (int sign = -1; sign <= 1; sign += 2)
+            {
+               axis.scale(sign);
+               ramp3D.getSupportingVertex(axis, supportingVertex);
+               offset.sub(supportingVertex, boundingBox.getCenter());
+               assertEquals(boundingBox.getHalfSize().getElement(axisIndex), axis.dot(offset), EPSILON);
+            }
+         }
+      }
+   }
 }
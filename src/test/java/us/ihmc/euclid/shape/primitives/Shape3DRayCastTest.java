@@ -0,0 +1,246 @@
+package us.ihmc.euclid.shape.primitives;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.shape.tools.EuclidShapeTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class Shape3DRayCastTest
+{
+   private static final double EPSILON = 1.0e-9;
+
+   @Test
+   public void testBox3D()
+   {
+      testCastRay(new Random(3451L), random -> EuclidShapeRandomTools.nextBox3D(random, 0.1, 2.0));
+   }
+
+   @Test
+   public void testCapsule3D()
+   {
+      testCastRay(new Random(3452L), random -> EuclidShapeRandomTools.nextCapsule3D(random, 0.1, 2.0, 0.1, 1.0));
+   }
+
+   @Test
+   public void testCylinder3D()
+   {
+      testCastRay(new Random(3453L), random -> EuclidShapeRandomTools.nextCylinder3D(random, 0.1, 2.0, 0.1, 1.0));
+   }
+
+   @Test
+   public void testEllipsoid3D()
+   {
+      testCastRay(new Random(3454L), random -> EuclidShapeRandomTools.nextEllipsoid3D(random, 0.1, 2.0));
+   }
+
+   @Test
+   public void testRamp3D()
+   {
+      testCastRay(new Random(3455L), random -> EuclidShapeRandomTools.nextRamp3D(random, 0.1, 2.0));
+   }
+
+   @Test
+   public void testSphere3D()
+   {
+      testCastRay(new Random(3456L), random -> EuclidShapeRandomTools.nextSphere3D(random, 0.1, 2.0));
+   }
+
+   @Test
+   public void testTorus3D()
+   {
+      testCastRay(new Random(3457L), random -> EuclidShapeRandomTools.nextTorus3D(random, 0.5, 2.0, 0.1, 0.5));
+   }
+
+   @Test
+   public void testConvexPolytope3D()
+   {
+      testCastRay(new Random(3458L), random -> EuclidShapeRandomTools.nextConvexPolytope3D(random));
+   }
+
+   @Test
+   public void testPointShape3D()
+   {
+      Random random = new Random(3459L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         PointShape3D pointShape = EuclidShapeRandomTools.nextPointShape3D(random);
+         Point3D rayOrigin = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         Vector3D rayDirection = new Vector3D();
+         rayDirection.sub(pointShape, rayOrigin);
+         double expectedDistance = rayDirection.length();
+         rayDirection.scale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+
+         Point3D intersection = new Point3D();
+         Vector3D normal = new Vector3D();
+         assertEquals(expectedDistance, pointShape.castRay(rayOrigin, rayDirection, intersection, normal), EPSILON);
+         EuclidCoreTestTools.assertTuple3DEquals(pointShape, intersection, EPSILON);
+         assertEquals(-1.0, normal.dot(rayDirection) / rayDirection.length(), EPSILON);
+
+         rayDirection.negate();
+         assertTrue(Double.isNaN(pointShape.castRay(rayOrigin, rayDirection)));
+         rayDirection.add(EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 0.1));
+         assertTrue(Double.isNaN(pointShape.castRay(rayOrigin, rayDirection)));
+      }
+   }
+
+   private static void testCastRay(Random random, Function<Random, Shape3DReadOnly> shapeGenerator)
+   {
+      Point3D intersection = new Point3D();
+      Vector3D normal = new Vector3D();
+      Point3D closestPoint = new Point3D();
+      Vector3D closestNormal = new Vector3D();
+      int numberOfHits = 0;
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Shape3DReadOnly shape = shapeGenerator.apply(random);
+         Point3D rayOrigin = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         rayOrigin.add(shape.getCentroid());
+         Point3D target = EuclidCoreRandomTools.nextPoint3D(random, 1.0);
+         target.add(shape.getCentroid());
+         Vector3D rayDirection = new Vector3D();
+         rayDirection.sub(target, rayOrigin);
+         rayDirection.scale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+
+         if (shape.signedDistance(rayOrigin) <= 0.0)
+            continue;
+
+         double distance = shape.castRay(rayOrigin, rayDirection, intersection, normal);
+         double expectedDistance = sphereTracing(shape, rayOrigin, rayDirection);
+
+         if (Double.isNaN(expectedDistance))
+         {
+            assertTrue(Double.isNaN(distance));
+            continue;
+         }
+
+         numberOfHits++;
+         assertEquals(expectedDistance, distance, 1.0e-7);
+         assertEquals(distance, shape.castRay(rayOrigin, rayDirection), 0.0);
+         assertEquals(distance, rayOrigin.distance(intersection), EPSILON);
+         assertEquals(0.0, shape.signedDistance(intersection), EPSILON);
+         assertValidNormal(shape, intersection, normal, closestPoint, closestNormal);
+      }
+
+      assertTrue(numberOfHits > ITERATIONS / 4);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Ray origin inside the shape: the ray should hit where it exits the shape.
+         Shape3DReadOnly shape = shapeGenerator.apply(random);
+         Point3D rayOrigin = new Point3D(shape.getCentroid());
+         Vector3D rayDirection = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+
+         if (!shape.isPointInside(rayOrigin, -1.0e-3))
+            continue;
+
+         double distance = shape.castRay(rayOrigin, rayDirection, intersection, normal);
+         assertFalse(Double.isNaN(distance));
+         assertEquals(0.0, shape.signedDistance(intersection), EPSILON);
+         assertTrue(normal.dot(rayDirection) >= 0.0);
+
+         for (double alpha = 0.05; alpha < 1.0; alpha += 0.05)
+         {
+            Point3D pointBeforeExit = new Point3D();
+            pointBeforeExit.interpolate(rayOrigin, intersection, alpha);
+            assertTrue(shape.isPointInside(pointBeforeExit, EPSILON));
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Batch version
+         Shape3DReadOnly shape = shapeGenerator.apply(random);
+         Point3D rayOrigin = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         int numberOfRays = random.nextInt(50);
+         List<Vector3D> rayDirections = new ArrayList<>();
+         List<Point3D> intersections = new ArrayList<>();
+         List<Vector3D> normals = new ArrayList<>();
+
+         for (int j = 0; j < numberOfRays; j++)
+         {
+            Point3D target = EuclidCoreRandomTools.nextPoint3D(random, 1.0);
+            target.add(shape.getCentroid());
+            Vector3D rayDirection = new Vector3D();
+            rayDirection.sub(target, rayOrigin);
+            rayDirections.add(rayDirection);
+            intersections.add(new Point3D());
+            normals.add(new Vector3D());
+         }
+
+         double[] distances = new double[numberOfRays];
+         int expectedNumberOfHits = 0;
+         int actualNumberOfHits = EuclidShapeTools.castRays(shape, rayOrigin, rayDirections, distances, intersections, normals);
+
+         for (int j = 0; j < numberOfRays; j++)
+         {
+            double expectedDistance = shape.castRay(rayOrigin, rayDirections.get(j), intersection, normal);
+            assertEquals(expectedDistance, distances[j], 0.0);
+
+            if (!Double.isNaN(expectedDistance))
+            {
+               expectedNumberOfHits++;
+               EuclidCoreTestTools.assertTuple3DEquals(intersection, intersections.get(j), 0.0);
+               EuclidCoreTestTools.assertTuple3DEquals(normal, normals.get(j), 0.0);
+            }
+         }
+
+         assertEquals(expectedNumberOfHits, actualNumberOfHits);
+         assertEquals(expectedNumberOfHits, EuclidShapeTools.castRays(shape, rayOrigin, rayDirections, distances));
+      }
+   }
+
+   /**
+    * The normal is valid when it is a unit vector and a point slightly outside the shape along the
+    * normal projects back onto the intersection.
+    */
+   private static void assertValidNormal(Shape3DReadOnly shape, Point3D intersection, Vector3D normal, Point3D closestPoint, Vector3D closestNormal)
+   {
+      assertEquals(1.0, normal.length(), EPSILON);
+      Point3D outside = new Point3D();
+      outside.scaleAdd(1.0e-4, normal, intersection);
+      shape.evaluatePoint3DCollision(outside, closestPoint, closestNormal);
+      EuclidCoreTestTools.assertTuple3DEquals(intersection, closestPoint, 1.0e-7);
+   }
+
+   /**
+    * Reference implementation marching along the ray using the signed distance to the shape, only
+    * valid for a ray origin outside the shape.
+    */
+   private static double sphereTracing(Shape3DReadOnly shape, Point3D rayOrigin, Vector3D rayDirection)
+   {
+      Vector3D unitDirection = new Vector3D(rayDirection);
+      unitDirection.normalize();
+      Point3D point = new Point3D();
+      double distance = 0.0;
+
+      for (int i = 0; i < 100000; i++)
+      {
+         point.scaleAdd(distance, unitDirection, rayOrigin);
+         double signedDistance = shape.signedDistance(point);
+
+         if (signedDistance < 1.0e-12)
+            return distance;
+         if (distance > 100.0)
+            return Double.NaN;
+
+         distance += signedDistance;
+      }
+
+      return Double.NaN;
+   }
+}
@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.geometry.BoundingBox3D;
 import us.ihmc.euclid.geometry.Line3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
 import us.ihmc.euclid.shape.primitives.interfaces.Sphere3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
@@ -568,4 +570,44 @@ public class Sphere3DTest
          EuclidGeometryTestTools.assertBoundingBox3DEquals(expectedBoundingBox, actualBoundingBox, EPSILON);
       }
    }
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(672301);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Sphere3D sphere3D = EuclidShapeRandomTools.nextSphere3D(random);
+         OrientedBoundingBox3D boundingBox = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         sphere3D.getOrientedBoundingBox(boundingBox);
+
+         assertEquals(8.0 * sphere3D.getRadius() * sphere3D.getRadius() * sphere3D.getRadius(), boundingBox.getVolume(), EPSILON);
+
+         Point3D supportingVertex = new Point3D();
+
+         for (int j = 0; j < 100; j++)
+         {
+            sphere3D.getSupportingVertex(EuclidCoreRandomTools.nextVector3D(random), supportingVertex);
+            assertTrue(boundingBox.isInsideEpsilon(supportingVertex, EPSILON));
+         }
+
+         // The box touches the sphere on each of its faces.
+         Vector3D axis = new Vector3D();
+         Vector3D offset = new Vector3D();
+
+         for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+         {
+            boundingBox.getAxis(axisIndex, axis);
+
+            for (int sign = -1; sign <= 1; sign += 2)
+            {
+               axis.scale(sign);
+               sphere3D.getSupportingVertex(axis, supportingVertex);
+               offset.sub(supportingVertex, boundingBox.getCenter());
+               assertEquals(boundingBox.getHalfSize().getElement(axisIndex), axis.dot(offset), EPSILON);
+            }
+         }
+      }
+   }
 }
@@ -13,7 +13,9 @@ import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.Axis3D;
+import us.ihmc.euclid.geometry.OrientedBoundingBox3D;
 import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTestTools;
 import us.ihmc.euclid.shape.primitives.interfaces.Torus3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
@@ -26,6 +28,7 @@ import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 public class Torus3DTest
 {
@@ -580,13 +583,20 @@ public class Torus3DTest
          Torus3D torus3D = EuclidShapeRandomTools.nextTorus3D(random);
          Cylinder3D cylinder3D = new Cylinder3D(torus3D.getPosition(),
                                                 torus3D.getAxis(),
-                                                torus3D.getTubeRadius(),
+                                                2.0 * torus3D.getTubeRadius(),
                                                 torus3D.getRadius() + torus3D.getTubeRadius());
 
          BoundingBox3DReadOnly expectedBoundingBox = cylinder3D.getBoundingBox();
          BoundingBox3DReadOnly actualBoundingBox = torus3D.getBoundingBox();
          EuclidGeometryTestTools.assertBoundingBox3DEquals(expectedBoundingBox, actualBoundingBox, EPSILON);
       }
+
+      { // Point inside the tube away from the torus plane, it used to be outside of the bounding box.
+         Torus3D torus3D = new Torus3D(new Point3D(), new Vector3D(1.0, 0.0, 0.0), 1.0, 0.5);
+         Point3D query = new Point3D(0.4, 1.0, 0.0);
+         assertTrue(torus3D.isPointInside(query));
+         assertTrue(torus3D.getBoundingBox().isInsideInclusive(query));
+      }
    }
 
    @Test
@@ -678,4 +688,69 @@ public class Torus3DTest
          assertTrue(firstTorus.geometricallyEquals(secondTorus, epsilon));
       }
    }
+
+   @Test
+   void testGetOrientedBoundingBox() throws Exception
+   {
+      Random random = new Random(340917);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Torus3D torus3D = EuclidShapeRandomTools.nextTorus3D(random);
+         OrientedBoundingBox3D boundingBox = EuclidGeometryRandomTools.nextOrientedBoundingBox3D(random);
+         torus3D.getOrientedBoundingBox(boundingBox);
+
+         assertEquals(8.0 * (torus3D.getRadius() + torus3D.getTubeRadius()) * (torus3D.getRadius() + torus3D.getTubeRadius()) * torus3D.getTubeRadius(), boundingBox.getVolume(), EPSILON);
+
+         // The local z-axis of the box is aligned with the axis of the torus.
+         Vector3D zAxis = new Vector3D();
+         boundingBox.getAxis(2, zAxis);
+         assertEquals(1.0, Math.abs(zAxis.dot(torus3D.getAxis())), EPSILON);
+
+         Point3D supportingVertex = new Point3D();
+
+         for (int j = 0; j < 100; j++)
+         {
+            getTorusSupportingVertex(torus3D, EuclidCoreRandomTools.nextVector3D(random), supportingVertex);
+            assertTrue(boundingBox.isInsideEpsilon(supportingVertex, EPSILON));
+         }
+
+         // The box touches the torus on each of its faces.
+         Vector3D axis = new Vector3D();
+         Vector3D offset = new Vector3D();
+
+         for (int axisIndex = 0; axisIndex < 3; axisIndex++)
+         {
+            boundingBox.getAxis(axisIndex, axis);
+
+            for (int sign = -1; sign <= 1; sign += 2)
+            {
+               axis.scale(sign);
+               getTorusSupportingVertex(torus3D, axis, supportingVertex);
+               offset.sub(supportingVertex, boundingBox.getCenter());
+               assertEquals(boundingBox.getHalfSize().getElement(axisIndex), axis.dot(offset), EPSILON);
+            }
+         }
+      }
+   }
+
+   /**
+    * Computes the point of the torus that is the furthest along the given direction. The torus is the
+    * Minkowski sum of its center circle and of a sphere which radius is the tube radius.
+    */
+   private static void getTorusSupportingVertex(Torus3DReadOnly torus3D, Vector3DReadOnly supportDirection, Point3DBasics supportingVertexToPack)
+   {
+      Vector3D radialDirection = new Vector3D();
+      radialDirection.setAndScale(-supportDirection.dot(torus3D.getAxis()), torus3D.getAxis());
+      radialDirection.add(supportDirection);
+
+      // When the direction is aligned with the axis, any point of the center circle is extreme.
+      if (radialDirection.lengthSquared() < 1.0e-20)
+         radialDirection.cross(torus3D.getAxis(), Math.abs(torus3D.getAxis().getX()) < 0.9 ? Axis3D.X : Axis3D.Y);
+
+      radialDirection.normalize();
+      supportingVertexToPack.set(torus3D.getPosition());
+      supportingVertexToPack.scaleAdd(torus3D.getRadius(), radialDirection, supportingVertexToPack);
+      supportingVertexToPack.scaleAdd(torus3D.getTubeRadius() / supportDirection.length(), supportDirection, supportingVertexToPack);
+   }
 }
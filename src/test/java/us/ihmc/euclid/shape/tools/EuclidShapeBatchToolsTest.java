@@ -0,0 +1,168 @@
+package us.ihmc.euclid.shape.tools;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class EuclidShapeBatchToolsTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testClassifyPointsInside() throws Exception
+   {
+      Random random = new Random(89723L);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Shape3DReadOnly> shapes = nextShapes(random);
+         int numberOfPoints = random.nextInt(500);
+         double[] xs = new double[numberOfPoints + random.nextInt(3)];
+         double[] ys = new double[numberOfPoints + random.nextInt(3)];
+         double[] zs = new double[numberOfPoints + random.nextInt(3)];
+         nextPoints(random, xs, ys, zs);
+         double epsilon = EuclidCoreRandomTools.nextDouble(random, 0.05);
+
+         boolean[] insideMask = new boolean[numberOfPoints];
+         int numberOfInsidePoints = EuclidShapeBatchTools.classifyPointsInside(shapes, xs, ys, zs, numberOfPoints, epsilon, insideMask);
+
+         int expectedNumberOfInsidePoints = 0;
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = new Point3D(xs[j], ys[j], zs[j]);
+            boolean expected = false;
+            for (Shape3DReadOnly shape : shapes)
+               expected |= shape.isPointInside(point, epsilon);
+            assertEquals(expected, insideMask[j]);
+            if (expected)
+               expectedNumberOfInsidePoints++;
+         }
+
+         assertEquals(expectedNumberOfInsidePoints, numberOfInsidePoints);
+      }
+
+      { // Point outside the bounding box of the shape but within epsilon of the shape.
+         List<Shape3DReadOnly> shapes = List.of(new Sphere3D(1.0));
+         boolean[] insideMask = new boolean[1];
+         assertEquals(1, EuclidShapeBatchTools.classifyPointsInside(shapes, new double[] {1.05}, new double[] {0.0}, new double[] {0.0}, 1, 0.1, insideMask));
+         assertTrue(insideMask[0]);
+         assertEquals(0, EuclidShapeBatchTools.classifyPointsInside(shapes, new double[] {1.05}, new double[] {0.0}, new double[] {0.0}, 1, 0.0, insideMask));
+         assertFalse(insideMask[0]);
+      }
+
+      assertThrows(IllegalArgumentException.class,
+                   () -> EuclidShapeBatchTools.classifyPointsInside(new ArrayList<>(), new double[2], new double[1], new double[2], 2, 0.0, new boolean[2]));
+      assertThrows(IllegalArgumentException.class,
+                   () -> EuclidShapeBatchTools.classifyPointsInside(new ArrayList<>(), new double[2], new double[2], new double[2], 2, 0.0, new boolean[1]));
+   }
+
+   @Test
+   public void testComputeSignedDistances() throws Exception
+   {
+      Random random = new Random(2347L);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         List<Shape3DReadOnly> shapes = nextShapes(random);
+         int numberOfPoints = random.nextInt(500);
+         double[] xs = new double[numberOfPoints];
+         double[] ys = new double[numberOfPoints];
+         double[] zs = new double[numberOfPoints];
+         nextPoints(random, xs, ys, zs);
+         double maximumDistance = random.nextBoolean() ? Double.POSITIVE_INFINITY : EuclidCoreRandomTools.nextDouble(random, 0.1, 1.0);
+
+         double[] signedDistances = new double[numberOfPoints];
+         int numberOfInsidePoints = EuclidShapeBatchTools.computeSignedDistances(shapes, xs, ys, zs, numberOfPoints, maximumDistance, signedDistances);
+
+         int expectedNumberOfInsidePoints = 0;
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = new Point3D(xs[j], ys[j], zs[j]);
+            double expected = maximumDistance;
+            for (Shape3DReadOnly shape : shapes)
+               expected = Math.min(expected, shape.signedDistance(point));
+            assertEquals(expected, signedDistances[j], EPSILON * Math.max(1.0, Math.abs(expected)));
+            if (signedDistances[j] < 0.0)
+               expectedNumberOfInsidePoints++;
+         }
+
+         assertEquals(expectedNumberOfInsidePoints, numberOfInsidePoints);
+      }
+
+      { // Only the positive distances are truncated.
+         List<Shape3DReadOnly> shapes = List.of(new Sphere3D(1.0));
+         double[] signedDistances = new double[3];
+         assertEquals(1,
+                      EuclidShapeBatchTools.computeSignedDistances(shapes,
+                                                                   new double[] {0.0, 1.2, 3.0},
+                                                                   new double[3],
+                                                                   new double[3],
+                                                                   3,
+                                                                   0.5,
+                                                                   signedDistances));
+         assertArrayEquals(new double[] {-1.0, 0.2, 0.5}, signedDistances, EPSILON);
+      }
+
+      assertThrows(IllegalArgumentException.class,
+                   () -> EuclidShapeBatchTools.computeSignedDistances(new ArrayList<>(), new double[1], new double[1], new double[1], 1, 0.0, new double[1]));
+   }
+
+   @Test
+   public void testParallel() throws Exception
+   {
+      Random random = new Random(6734L);
+      List<Shape3DReadOnly> shapes = nextShapes(random);
+      int numberOfPoints = EuclidShapeBatchTools.PARALLEL_THRESHOLD + random.nextInt(10000);
+      double[] xs = new double[numberOfPoints];
+      double[] ys = new double[numberOfPoints];
+      double[] zs = new double[numberOfPoints];
+      nextPoints(random, xs, ys, zs);
+
+      boolean[] expectedInsideMask = new boolean[numberOfPoints];
+      boolean[] actualInsideMask = new boolean[numberOfPoints];
+      assertEquals(EuclidShapeBatchTools.classifyPointsInside(shapes, xs, ys, zs, numberOfPoints, 0.0, expectedInsideMask),
+                   EuclidShapeBatchTools.classifyPointsInside(shapes, xs, ys, zs, numberOfPoints, 0.0, actualInsideMask, true));
+      assertArrayEquals(expectedInsideMask, actualInsideMask);
+
+      double[] expectedSignedDistances = new double[numberOfPoints];
+      double[] actualSignedDistances = new double[numberOfPoints];
+      assertEquals(EuclidShapeBatchTools.computeSignedDistances(shapes, xs, ys, zs, numberOfPoints, 0.5, expectedSignedDistances),
+                   EuclidShapeBatchTools.computeSignedDistances(shapes, xs, ys, zs, numberOfPoints, 0.5, actualSignedDistances, true));
+      assertArrayEquals(expectedSignedDistances, actualSignedDistances);
+   }
+
+   private static List<Shape3DReadOnly> nextShapes(Random random)
+   {
+      List<Shape3DReadOnly> shapes = new ArrayList<>();
+      int numberOfShapes = random.nextInt(6) + 1;
+      for (int i = 0; i < numberOfShapes; i++)
+         shapes.add(EuclidShapeRandomTools.nextShape3D(random));
+      return shapes;
+   }
+
+   private static void nextPoints(Random random, double[] xs, double[] ys, double[] zs)
+   {
+      for (int i = 0; i < xs.length; i++)
+         xs[i] = EuclidCoreRandomTools.nextDouble(random, 3.0);
+      for (int i = 0; i < ys.length; i++)
+         ys[i] = EuclidCoreRandomTools.nextDouble(random, 3.0);
+      for (int i = 0; i < zs.length; i++)
+         zs[i] = EuclidCoreRandomTools.nextDouble(random, 3.0);
+   }
+}
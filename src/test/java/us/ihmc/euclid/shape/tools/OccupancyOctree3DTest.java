@@ -0,0 +1,282 @@
+package us.ihmc.euclid.shape.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector;
+import us.ihmc.euclid.shape.primitives.Box3D;
+import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.Torus3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class OccupancyOctree3DTest
+{
+   @Test
+   public void testInsertAndRemovePoints() throws Exception
+   {
+      Random random = new Random(45098L);
+
+      for (int i = 0; i < ITERATIONS / 100; i++)
+      {
+         double resolution = EuclidCoreRandomTools.nextDouble(random, 0.05, 0.5);
+         int depth = random.nextInt(4) + 2;
+         OccupancyOctree3D octree = new OccupancyOctree3D(EuclidCoreRandomTools.nextPoint3D(random, 1.0), resolution, depth);
+         Set<Long> expectedVoxels = new HashSet<>();
+
+         for (int j = 0; j < 2000; j++)
+         {
+            Point3D point = nextPointAround(random, octree);
+            long voxel = voxelKey(octree, point);
+            boolean isInside = voxel >= 0;
+
+            if (random.nextInt(3) != 0)
+               assertEquals(isInside && expectedVoxels.add(voxel), octree.insertPoint(point));
+            else
+               assertEquals(isInside && expectedVoxels.remove(voxel), octree.removePoint(point));
+
+            Point3D query = nextPointAround(random, octree);
+            assertEquals(expectedVoxels.contains(voxelKey(octree, query)), octree.isOccupied(query));
+         }
+
+         for (long voxel : new ArrayList<>(expectedVoxels))
+            assertTrue(octree.removePoint(voxelCenter(octree, voxel)));
+         assertEquals(0, octree.getNumberOfNodes());
+      }
+   }
+
+   @Test
+   public void testMerge() throws Exception
+   {
+      OccupancyOctree3D octree = new OccupancyOctree3D(1.0, 3);
+
+      for (int i = 0; i < 8; i++)
+      {
+         for (int j = 0; j < 8; j++)
+         {
+            for (int k = 0; k < 8; k++)
+               assertTrue(octree.insertPoint(i - 3.5, j - 3.5, k - 3.5));
+         }
+      }
+
+      // All the voxels are occupied, only the root remains.
+      assertEquals(1, octree.getNumberOfNodes());
+      List<BoundingBox3D> voxels = new ArrayList<>();
+      assertEquals(1, octree.forEachOccupiedVoxel(new BoundingBox3D(0.0, 0.0, 0.0, 0.1, 0.1, 0.1), voxel -> voxels.add(new BoundingBox3D(voxel))));
+      assertEquals(octree.getBoundingBox(), voxels.get(0));
+
+      // Freeing one voxel splits the nodes down to the leaves: 1 + 8 + 8 + 8 nodes, minus the freed one.
+      assertTrue(octree.removePoint(new Point3D(0.5, 0.5, 0.5)));
+      assertEquals(24, octree.getNumberOfNodes());
+      assertFalse(octree.isOccupied(new Point3D(0.5, 0.5, 0.5)));
+      assertTrue(octree.isOccupied(new Point3D(1.5, 0.5, 0.5)));
+      assertTrue(octree.insertPoint(0.5, 0.5, 0.5));
+      assertEquals(1, octree.getNumberOfNodes());
+
+      assertThrows(IllegalArgumentException.class, () -> new OccupancyOctree3D(0.0, 3));
+      assertThrows(IllegalArgumentException.class, () -> new OccupancyOctree3D(1.0, OccupancyOctree3D.MAX_DEPTH + 1));
+   }
+
+   @Test
+   public void testInsertRay() throws Exception
+   {
+      Random random = new Random(2340L);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         OccupancyOctree3D octree = new OccupancyOctree3D(0.1, 5);
+
+         // Filling a random block such that rays have something to clear.
+         BoundingBox3D block = EuclidGeometryRandomTools.nextBoundingBox3D(random, 1.0, 2.0);
+         for (double x = block.getMinX(); x < block.getMaxX(); x += 0.05)
+         {
+            for (double y = block.getMinY(); y < block.getMaxY(); y += 0.05)
+            {
+               for (double z = block.getMinZ(); z < block.getMaxZ(); z += 0.05)
+                  octree.insertPoint(x, y, z);
+            }
+         }
+
+         Point3D sensorOrigin = EuclidCoreRandomTools.nextPoint3D(random, 2.0);
+         Point3D hit = EuclidCoreRandomTools.nextPoint3D(random, 2.0);
+         octree.insertRay(sensorOrigin, hit);
+
+         if (voxelKey(octree, hit) >= 0)
+            assertTrue(octree.isOccupied(hit));
+
+         for (int j = 0; j <= 200; j++)
+         {
+            Point3D point = new Point3D();
+            point.interpolate(sensorOrigin, hit, j / 200.0);
+            if (voxelKey(octree, point) != voxelKey(octree, hit))
+               assertFalse(octree.isOccupied(point));
+         }
+      }
+   }
+
+   @Test
+   public void testForEachOccupiedVoxel() throws Exception
+   {
+      Random random = new Random(90834L);
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         OccupancyOctree3D octree = new OccupancyOctree3D(0.25, 4);
+         Set<Long> expectedVoxels = new HashSet<>();
+
+         for (int j = 0; j < 500; j++)
+         {
+            Point3D point = nextPointAround(random, octree);
+            octree.insertPoint(point);
+            long voxel = voxelKey(octree, point);
+            if (voxel >= 0)
+               expectedVoxels.add(voxel);
+         }
+
+         BoundingBox3D query = EuclidGeometryRandomTools.nextBoundingBox3D(random, 2.0, 3.0);
+         Set<Long> reportedVoxels = new HashSet<>();
+         int numberOfVoxels = octree.forEachOccupiedVoxel(query, voxel ->
+         {
+            assertTrue(voxel.intersectsInclusive(query));
+            // Collecting the leaves covered by the reported node.
+            for (double x = voxel.getMinX() + 0.125; x < voxel.getMaxX(); x += 0.25)
+            {
+               for (double y = voxel.getMinY() + 0.125; y < voxel.getMaxY(); y += 0.25)
+               {
+                  for (double z = voxel.getMinZ() + 0.125; z < voxel.getMaxZ(); z += 0.25)
+                     assertTrue(reportedVoxels.add(voxelKey(octree, new Point3D(x, y, z))));
+               }
+            }
+         });
+
+         assertTrue(numberOfVoxels <= reportedVoxels.size());
+         assertTrue(expectedVoxels.containsAll(reportedVoxels));
+
+         for (long voxel : expectedVoxels)
+         {
+            Point3D center = voxelCenter(octree, voxel);
+            BoundingBox3D voxelBoundingBox = new BoundingBox3D(center.getX() - 0.125,
+                                                               center.getY() - 0.125,
+                                                               center.getZ() - 0.125,
+                                                               center.getX() + 0.125,
+                                                               center.getY() + 0.125,
+                                                               center.getZ() + 0.125);
+            if (voxelBoundingBox.intersectsExclusive(query))
+               assertTrue(reportedVoxels.contains(voxel));
+         }
+      }
+   }
+
+   @Test
+   public void testIsColliding() throws Exception
+   {
+      Random random = new Random(3455L);
+      GilbertJohnsonKeerthiCollisionDetector detector = new GilbertJohnsonKeerthiCollisionDetector();
+
+      for (int i = 0; i < ITERATIONS / 10; i++)
+      {
+         OccupancyOctree3D octree = new OccupancyOctree3D(0.25, 4);
+         Set<Long> occupiedVoxels = new HashSet<>();
+
+         for (int j = 0; j < 100; j++)
+         {
+            Point3D point = nextPointAround(random, octree);
+            octree.insertPoint(point);
+            long voxel = voxelKey(octree, point);
+            if (voxel >= 0)
+               occupiedVoxels.add(voxel);
+         }
+
+         Shape3DReadOnly shape;
+         if (random.nextBoolean())
+         {
+            Sphere3D sphere = EuclidShapeRandomTools.nextSphere3D(random, 0.1, 1.0);
+            sphere.getPosition().set(EuclidCoreRandomTools.nextPoint3D(random, 2.0));
+            shape = sphere;
+         }
+         else
+         {
+            Box3D box = EuclidShapeRandomTools.nextBox3D(random, 0.1, 1.0);
+            box.getPosition().set(EuclidCoreRandomTools.nextPoint3D(random, 2.0));
+            shape = box;
+         }
+
+         boolean expected = false;
+         for (long voxel : occupiedVoxels)
+         {
+            Box3D voxelBox = new Box3D(voxelCenter(octree, voxel), new Quaternion(), 0.25, 0.25, 0.25);
+            if (detector.evaluateCollision(shape, voxelBox).areShapesColliding())
+            {
+               expected = true;
+               break;
+            }
+         }
+
+         assertEquals(expected, octree.isColliding(shape));
+      }
+
+      { // Merged node inside the hole of a torus, the torus intersects the sphere enclosing the node but not its voxels.
+         OccupancyOctree3D octree = new OccupancyOctree3D(0.1, 5);
+         for (int x = 0; x < 4; x++)
+         {
+            for (int y = 0; y < 4; y++)
+            {
+               for (int z = 0; z < 4; z++)
+                  octree.insertPoint(0.05 + 0.1 * x, 0.05 + 0.1 * y, 0.05 + 0.1 * z);
+            }
+         }
+         Torus3D torus = new Torus3D(new Point3D(0.2, 0.2, 0.2), new Vector3D(0.0, 0.0, 1.0), 0.45, 0.12);
+         assertFalse(octree.isColliding(torus));
+         octree.insertPoint(0.2, 0.2 + 0.45, 0.2);
+         assertTrue(octree.isColliding(torus));
+      }
+   }
+
+   private static Point3D nextPointAround(Random random, OccupancyOctree3D octree)
+   {
+      Point3D point = new Point3D();
+      octree.getBoundingBox().getCenterPoint(point);
+      double halfSize = 0.5 * (octree.getBoundingBox().getMaxX() - octree.getBoundingBox().getMinX());
+      point.add(EuclidCoreRandomTools.nextPoint3D(random, 1.1 * halfSize));
+      return point;
+   }
+
+   /** Packs the leaf voxel coordinates containing the point, or returns {@code -1} if outside. */
+   private static long voxelKey(OccupancyOctree3D octree, Point3D point)
+   {
+      int n = 1 << octree.getDepth();
+      long i = (long) Math.floor((point.getX() - octree.getBoundingBox().getMinX()) / octree.getResolution());
+      long j = (long) Math.floor((point.getY() - octree.getBoundingBox().getMinY()) / octree.getResolution());
+      long k = (long) Math.floor((point.getZ() - octree.getBoundingBox().getMinZ()) / octree.getResolution());
+      if (i < 0 || i >= n || j < 0 || j >= n || k < 0 || k >= n)
+         return -1;
+      return (i * n + j) * n + k;
+   }
+
+   private static Point3D voxelCenter(OccupancyOctree3D octree, long key)
+   {
+      int n = 1 << octree.getDepth();
+      long k = key % n;
+      long j = (key / n) % n;
+      long i = key / n / n;
+      return new Point3D(octree.getBoundingBox().getMinX() + (i + 0.5) * octree.getResolution(),
+                         octree.getBoundingBox().getMinY() + (j + 0.5) * octree.getResolution(),
+                         octree.getBoundingBox().getMinZ() + (k + 0.5) * octree.getResolution());
+   }
+}
@@ -0,0 +1,128 @@
+package us.ihmc.euclid.shape.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class SignedDistanceField3DTest
+{
+   private static final double FLOAT_EPSILON = 1.0e-6;
+
+   @Test
+   public void testBuild() throws Exception
+   {
+      Random random = new Random(7834L);
+
+      for (int i = 0; i < ITERATIONS / 100; i++)
+      {
+         BoundingBox3D region = new BoundingBox3D(-3.0, -3.0, -3.0, 3.0, 3.0, 3.0);
+         double resolution = EuclidCoreRandomTools.nextDouble(random, 0.15, 0.4);
+         double maximumDistance = random.nextBoolean() ? Double.POSITIVE_INFINITY : EuclidCoreRandomTools.nextDouble(random, 0.1, 1.0);
+         SignedDistanceField3D field = new SignedDistanceField3D(region, resolution, maximumDistance);
+         List<Shape3DReadOnly> shapes = new ArrayList<>();
+         int numberOfShapes = random.nextInt(5) + 1;
+         for (int j = 0; j < numberOfShapes; j++)
+            shapes.add(EuclidShapeRandomTools.nextShape3D(random));
+
+         field.build(shapes);
+
+         assertTrue(field.getBoundingBox().getMaxX() >= region.getMaxX());
+         assertTrue(field.getBoundingBox().getMaxX() < region.getMaxX() + resolution);
+
+         Point3D vertex = new Point3D();
+
+         for (int k = 0; k < field.getSizeZ(); k++)
+         {
+            for (int j = 0; j < field.getSizeY(); j++)
+            {
+               for (int ii = 0; ii < field.getSizeX(); ii++)
+               {
+                  vertex.set(ii * resolution, j * resolution, k * resolution);
+                  vertex.add(field.getBoundingBox().getMinPoint());
+
+                  double expected = Double.POSITIVE_INFINITY;
+                  for (Shape3DReadOnly shape : shapes)
+                     expected = Math.min(expected, shape.signedDistance(vertex));
+                  expected = Math.max(-maximumDistance, Math.min(maximumDistance, expected));
+
+                  assertEquals(expected, field.getVertexDistance(ii, j, k), FLOAT_EPSILON * Math.max(1.0, Math.abs(expected)));
+               }
+            }
+         }
+
+         SignedDistanceField3D parallelField = new SignedDistanceField3D(region, resolution, maximumDistance);
+         parallelField.build(shapes, true);
+
+         for (int k = 0; k < field.getSizeZ(); k++)
+         {
+            for (int j = 0; j < field.getSizeY(); j++)
+            {
+               for (int ii = 0; ii < field.getSizeX(); ii++)
+                  assertEquals(field.getVertexDistance(ii, j, k), parallelField.getVertexDistance(ii, j, k));
+            }
+         }
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> new SignedDistanceField3D(new BoundingBox3D(), 0.0, 1.0));
+      assertThrows(IllegalArgumentException.class, () -> new SignedDistanceField3D(new BoundingBox3D(), 1.0, -1.0));
+   }
+
+   @Test
+   public void testSignedDistance() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < ITERATIONS / 100; i++)
+      {
+         double resolution = EuclidCoreRandomTools.nextDouble(random, 0.02, 0.1);
+         BoundingBox3D region = new BoundingBox3D(-1.0, -1.0, -1.0, 1.0, 1.0, 1.0);
+         SignedDistanceField3D field = new SignedDistanceField3D(region, resolution, Double.POSITIVE_INFINITY);
+         Sphere3D sphere = new Sphere3D(EuclidCoreRandomTools.nextPoint3D(random, 0.3), EuclidCoreRandomTools.nextDouble(random, 0.2, 0.5));
+         field.build(List.of(sphere));
+
+         for (int j = 0; j < 100; j++)
+         {
+            Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 1.0);
+            Vector3D gradient = new Vector3D();
+            double distance = field.signedDistance(query, gradient);
+
+            // The field is 1-Lipschitz, so is its interpolation.
+            assertEquals(sphere.signedDistance(query), distance, resolution);
+            assertEquals(distance, field.signedDistance(query), 0.0);
+
+            // The gradient is the one of the interpolated field.
+            double h = 1.0e-7;
+            Vector3D expectedGradient = new Vector3D();
+            for (int axis = 0; axis < 3; axis++)
+            {
+               Point3D shifted = new Point3D(query);
+               shifted.setElement(axis, query.getElement(axis) + h);
+               double distancePlus = field.signedDistance(shifted);
+               shifted.setElement(axis, query.getElement(axis) - h);
+               double distanceMinus = field.signedDistance(shifted);
+               expectedGradient.setElement(axis, (distancePlus - distanceMinus) / (2.0 * h));
+            }
+            EuclidCoreTestTools.assertTuple3DEquals(expectedGradient, gradient, 1.0e-5);
+         }
+
+         Vector3D gradient = new Vector3D();
+         assertTrue(Double.isNaN(field.signedDistance(new Point3D(1.0 + 2.0 * resolution, 0.0, 0.0), gradient)));
+         EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(gradient);
+      }
+   }
+}
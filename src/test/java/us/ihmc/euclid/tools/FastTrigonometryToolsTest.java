@@ -0,0 +1,171 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+public class FastTrigonometryToolsTest
+{
+   private static final double SIN_COS_EPS = 1.0e-13;
+   private static final double INVERSE_EPS = 2.0e-13;
+
+   @Test
+   public void testSinCosTan() throws Exception
+   {
+      Random random = new Random(45345L);
+
+      for (int i = 0; i < 100 * ITERATIONS; i++)
+      {
+         double a = EuclidCoreRandomTools.nextDouble(random, 4.0 * Math.PI);
+         assertEquals(StrictMath.sin(a), FastTrigonometryTools.sin(a), SIN_COS_EPS);
+         assertEquals(StrictMath.cos(a), FastTrigonometryTools.cos(a), SIN_COS_EPS);
+         double expectedTan = StrictMath.tan(a);
+         assertEquals(expectedTan, FastTrigonometryTools.tan(a), SIN_COS_EPS * Math.max(1.0, Math.abs(expectedTan)));
+      }
+
+      for (int i = 0; i < 100 * ITERATIONS; i++)
+      {
+         double a = EuclidCoreRandomTools.nextDouble(random, FastTrigonometryTools.MAX_REDUCIBLE_ANGLE);
+         assertEquals(StrictMath.sin(a), FastTrigonometryTools.sin(a), SIN_COS_EPS);
+         assertEquals(StrictMath.cos(a), FastTrigonometryTools.cos(a), SIN_COS_EPS);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Beyond the reducible range, StrictMath is used
+         double a = EuclidCoreRandomTools.nextDouble(random, FastTrigonometryTools.MAX_REDUCIBLE_ANGLE, 1.0e10);
+         assertEquals(StrictMath.sin(a), FastTrigonometryTools.sin(a));
+         assertEquals(StrictMath.cos(a), FastTrigonometryTools.cos(a));
+         assertEquals(StrictMath.tan(a), FastTrigonometryTools.tan(a));
+      }
+
+      assertTrue(Double.isNaN(FastTrigonometryTools.sin(Double.NaN)));
+      assertTrue(Double.isNaN(FastTrigonometryTools.cos(Double.POSITIVE_INFINITY)));
+      assertTrue(Double.isNaN(FastTrigonometryTools.tan(Double.NEGATIVE_INFINITY)));
+      assertEquals(0.0, FastTrigonometryTools.sin(0.0));
+      assertEquals(1.0, FastTrigonometryTools.cos(0.0));
+      assertEquals(-0.0, FastTrigonometryTools.sin(-0.0));
+      assertEquals(0.0, FastTrigonometryTools.tan(0.0));
+      assertEquals(-0.0, FastTrigonometryTools.tan(-0.0));
+      assertEquals(1.0, FastTrigonometryTools.cos(-0.0));
+   }
+
+   @Test
+   public void testAtan() throws Exception
+   {
+      Random random = new Random(45346L);
+
+      for (int i = 0; i < 100 * ITERATIONS; i++)
+      {
+         double a = EuclidCoreRandomTools.nextDouble(random, 2.0);
+         assertEquals(StrictMath.atan(a), FastTrigonometryTools.atan(a), INVERSE_EPS);
+         a = 1.0 / a;
+         assertEquals(StrictMath.atan(a), FastTrigonometryTools.atan(a), INVERSE_EPS);
+      }
+
+      assertEquals(Math.PI / 2.0, FastTrigonometryTools.atan(Double.POSITIVE_INFINITY), INVERSE_EPS);
+      assertEquals(-Math.PI / 2.0, FastTrigonometryTools.atan(Double.NEGATIVE_INFINITY), INVERSE_EPS);
+      assertTrue(Double.isNaN(FastTrigonometryTools.atan(Double.NaN)));
+      assertEquals(0.0, FastTrigonometryTools.atan(0.0));
+      assertEquals(-0.0, FastTrigonometryTools.atan(-0.0));
+   }
+
+   @Test
+   public void testAtan2() throws Exception
+   {
+      Random random = new Random(45347L);
+
+      for (int i = 0; i < 100 * ITERATIONS; i++)
+      {
+         double y = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         double x = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         assertEquals(StrictMath.atan2(y, x), FastTrigonometryTools.atan2(y, x), INVERSE_EPS);
+      }
+
+      double[] specialValues = {0.0, -0.0, 1.0, -1.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, Double.MIN_VALUE};
+
+      for (double y : specialValues)
+      {
+         for (double x : specialValues)
+         {
+            assertEquals(StrictMath.atan2(y, x), FastTrigonometryTools.atan2(y, x), INVERSE_EPS);
+         }
+      }
+   }
+
+   @Test
+   public void testAsinAcos() throws Exception
+   {
+      Random random = new Random(45348L);
+
+      for (int i = 0; i < 100 * ITERATIONS; i++)
+      {
+         double a = EuclidCoreRandomTools.nextDouble(random, 1.0);
+         assertEquals(StrictMath.asin(a), FastTrigonometryTools.asin(a), INVERSE_EPS);
+         assertEquals(StrictMath.acos(a), FastTrigonometryTools.acos(a), INVERSE_EPS);
+      }
+
+      for (double a : new double[] {-1.0, 0.0, 1.0})
+      {
+         assertEquals(StrictMath.asin(a), FastTrigonometryTools.asin(a), INVERSE_EPS);
+         assertEquals(StrictMath.acos(a), FastTrigonometryTools.acos(a), INVERSE_EPS);
+      }
+
+      assertTrue(Double.isNaN(FastTrigonometryTools.asin(1.0 + 1.0e-12)));
+      assertTrue(Double.isNaN(FastTrigonometryTools.acos(-1.0 - 1.0e-12)));
+      assertTrue(Double.isNaN(FastTrigonometryTools.asin(Double.NaN)));
+      assertEquals(-0.0, FastTrigonometryTools.asin(-0.0));
+   }
+
+   @Test
+   public void testTrigonometryBackend() throws Exception
+   {
+      Random random = new Random(45349L);
+
+      assertSame(TrigonometryBackend.STRICT_MATH, EuclidCoreTools.getTrigonometryBackend());
+      assertThrows(IllegalArgumentException.class, () -> EuclidCoreTools.setTrigonometryBackend(null));
+
+      try
+      {
+         for (TrigonometryBackend backend : new TrigonometryBackend[] {TrigonometryBackend.STRICT_MATH, TrigonometryBackend.MATH, TrigonometryBackend.FAST})
+         {
+            EuclidCoreTools.setTrigonometryBackend(backend);
+            assertSame(backend, EuclidCoreTools.getTrigonometryBackend());
+
+            for (int i = 0; i < ITERATIONS; i++)
+            {
+               double a = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+               assertEquals(backend.sin(a), EuclidCoreTools.sin(a));
+               assertEquals(backend.cos(a), EuclidCoreTools.cos(a));
+               assertEquals(backend.tan(a), EuclidCoreTools.tan(a));
+               assertEquals(backend.atan(a), EuclidCoreTools.atan(a));
+               assertEquals(backend.atan2(a, 0.5), EuclidCoreTools.atan2(a, 0.5));
+               assertEquals(backend.asin(a / Math.PI), EuclidCoreTools.asin(a / Math.PI));
+               assertEquals(backend.acos(a / Math.PI), EuclidCoreTools.acos(a / Math.PI));
+            }
+
+            for (int i = 0; i < ITERATIONS; i++)
+            { // The orientation conversions remain accurate regardless of the backend.
+               YawPitchRoll expected = EuclidCoreRandomTools.nextYawPitchRoll(random);
+               Quaternion quaternion = new Quaternion(expected);
+               AxisAngle axisAngle = new AxisAngle(quaternion);
+               YawPitchRoll actual = new YawPitchRoll(axisAngle);
+               EuclidCoreTestTools.assertYawPitchRollGeometricallyEquals(expected, actual, 1.0e-9);
+            }
+         }
+      }
+      finally
+      {
+         EuclidCoreTools.setTrigonometryBackend(TrigonometryBackend.STRICT_MATH);
+      }
+   }
+}
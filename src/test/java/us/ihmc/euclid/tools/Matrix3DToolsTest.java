@@ -2,10 +2,12 @@ package us.ihmc.euclid.tools;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import org.ejml.data.DMatrixRMaj;
@@ -17,6 +19,7 @@ import us.ihmc.euclid.exceptions.SingularMatrixException;
 import us.ihmc.euclid.matrix.Matrix3D;
 import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
 import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
 import us.ihmc.euclid.tuple2D.Vector2D;
@@ -1430,4 +1433,128 @@ public class Matrix3DToolsTest
          EuclidCoreTestTools.assertTuple4DEquals(vectorExpected, vectorActual, EPS);
       }
    }
+
+   @Test
+   public void testComputeSymmetricEigenDecomposition() throws Exception
+   {
+      Random random = new Random(23546L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RotationMatrix rotation = EuclidCoreRandomTools.nextRotationMatrix(random);
+         Vector3D expectedEigenValues = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+
+         if (random.nextBoolean()) // Test with repeated eigen values
+            expectedEigenValues.setY(expectedEigenValues.getX());
+
+         Matrix3D symmetricMatrix = new Matrix3D();
+         symmetricMatrix.setToDiagonal(expectedEigenValues);
+         rotation.transform(symmetricMatrix);
+
+         Vector3D actualEigenValues = new Vector3D();
+         Matrix3D eigenVectors = new Matrix3D();
+         assertTrue(Matrix3DTools.computeSymmetricEigenDecomposition(symmetricMatrix, actualEigenValues, eigenVectors));
+
+         double[] sortedEigenValues = {expectedEigenValues.getX(), expectedEigenValues.getY(), expectedEigenValues.getZ()};
+         Arrays.sort(sortedEigenValues);
+         EuclidCoreTestTools.assertTuple3DEquals(new Vector3D(sortedEigenValues[2], sortedEigenValues[1], sortedEigenValues[0]), actualEigenValues, EPS);
+
+         assertOrthonormal(eigenVectors, EPS);
+
+         // A * V = V * diag(eigenValues)
+         Matrix3D expected = new Matrix3D(eigenVectors);
+         expected.scaleColumns(actualEigenValues.getX(), actualEigenValues.getY(), actualEigenValues.getZ());
+         Matrix3D actual = new Matrix3D();
+         Matrix3DTools.multiply(symmetricMatrix, eigenVectors, actual);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, actual, EPS);
+      }
+
+      { // Test with the zero matrix
+         Vector3D eigenValues = new Vector3D();
+         Matrix3D eigenVectors = new Matrix3D();
+         assertTrue(Matrix3DTools.computeSymmetricEigenDecomposition(new Matrix3D(), eigenValues, eigenVectors));
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(eigenValues);
+         assertOrthonormal(eigenVectors, EPS);
+      }
+
+      { // Test with NaN
+         Matrix3D matrix = new Matrix3D();
+         matrix.setM12(Double.NaN);
+         assertFalse(Matrix3DTools.computeSymmetricEigenDecomposition(matrix, new Vector3D(), new Matrix3D()));
+      }
+   }
+
+   @Test
+   public void testComputeSVD() throws Exception
+   {
+      Random random = new Random(23547L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+
+         int rank = random.nextInt(4);
+
+         if (rank < 3)
+         { // Builds a rank deficient matrix from a random SVD
+            Vector3D singularValues = new Vector3D();
+            for (int j = 0; j < rank; j++)
+               singularValues.setElement(j, EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+            matrix.setToDiagonal(singularValues);
+            Matrix3DTools.multiply(EuclidCoreRandomTools.nextRotationMatrix(random), matrix, matrix);
+            Matrix3DTools.multiplyTransposeRight(matrix, EuclidCoreRandomTools.nextRotationMatrix(random), matrix);
+         }
+
+         Matrix3D u = new Matrix3D();
+         Vector3D singularValues = new Vector3D();
+         Matrix3D v = new Matrix3D();
+         assertTrue(Matrix3DTools.computeSVD(matrix, u, singularValues, v));
+
+         assertTrue(singularValues.getX() >= singularValues.getY());
+         assertTrue(singularValues.getY() >= singularValues.getZ());
+         assertTrue(singularValues.getZ() >= 0.0);
+         assertOrthonormal(u, EPS);
+         assertOrthonormal(v, EPS);
+
+         Matrix3D reconstructed = new Matrix3D(u);
+         reconstructed.scaleColumns(singularValues.getX(), singularValues.getY(), singularValues.getZ());
+         Matrix3DTools.multiplyTransposeRight(reconstructed, v, reconstructed);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrix, reconstructed, EPS);
+
+         // Compare the singular values against the eigen values of M^T * M
+         Matrix3D mTm = new Matrix3D();
+         Matrix3DTools.multiplyTransposeLeft(matrix, matrix, mTm);
+         Vector3D eigenValues = new Vector3D();
+         Matrix3DTools.computeSymmetricEigenDecomposition(mTm, eigenValues, new Matrix3D());
+         for (int j = 0; j < 3; j++)
+            assertEquals(Math.sqrt(Math.max(0.0, eigenValues.getElement(j))), singularValues.getElement(j), 1.0e-6);
+
+         // The input can be used to store U
+         Matrix3D matrixCopy = new Matrix3D(matrix);
+         Matrix3DTools.computeSVD(matrixCopy, matrixCopy, singularValues, v);
+         EuclidCoreTestTools.assertMatrix3DEquals(u, matrixCopy, EPS);
+      }
+
+      { // Test with the zero matrix
+         Matrix3D u = new Matrix3D();
+         Vector3D singularValues = new Vector3D();
+         Matrix3D v = new Matrix3D();
+         assertTrue(Matrix3DTools.computeSVD(new Matrix3D(), u, singularValues, v));
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(singularValues);
+         assertOrthonormal(u, EPS);
+         assertOrthonormal(v, EPS);
+      }
+
+      Matrix3D matrix = new Matrix3D();
+      assertThrows(IllegalArgumentException.class, () -> Matrix3DTools.computeSVD(matrix, matrix, new Vector3D(), matrix));
+      matrix.setM01(Double.NaN);
+      assertFalse(Matrix3DTools.computeSVD(matrix, new Matrix3D(), new Vector3D(), new Matrix3D()));
+   }
+
+   private static void assertOrthonormal(Matrix3DReadOnly matrix, double epsilon)
+   {
+      Matrix3D product = new Matrix3D();
+      Matrix3DTools.multiplyTransposeLeft(matrix, matrix, product);
+      EuclidCoreTestTools.assertIdentity(product, epsilon);
+   }
 }
@@ -0,0 +1,133 @@
+package us.ihmc.euclid.tools;
+
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.rotationConversion.AxisAngleConversion;
+import us.ihmc.euclid.rotationConversion.QuaternionConversion;
+import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+/**
+ * Compares the run time of the orientation conversions for each {@link TrigonometryBackend}.
+ * <p>
+ * This is not a unit test, run {@link #main(String[])} to print the results.
+ * </p>
+ */
+public class TrigonometryBackendBenchmark
+{
+   private static final int NUMBER_OF_SAMPLES = 1 << 16;
+   private static final int WARMUP_ROUNDS = 20;
+   private static final int MEASURED_ROUNDS = 50;
+
+   private final Quaternion[] quaternions = new Quaternion[NUMBER_OF_SAMPLES];
+   private final YawPitchRoll[] yawPitchRolls = new YawPitchRoll[NUMBER_OF_SAMPLES];
+   private final AxisAngle[] axisAngles = new AxisAngle[NUMBER_OF_SAMPLES];
+
+   private final Quaternion quaternionResult = new Quaternion();
+   private final YawPitchRoll yawPitchRollResult = new YawPitchRoll();
+   private final AxisAngle axisAngleResult = new AxisAngle();
+
+   public TrigonometryBackendBenchmark(Random random)
+   {
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         quaternions[i] = EuclidCoreRandomTools.nextQuaternion(random);
+         yawPitchRolls[i] = EuclidCoreRandomTools.nextYawPitchRoll(random);
+         axisAngles[i] = EuclidCoreRandomTools.nextAxisAngle(random);
+      }
+   }
+
+   private double quaternionToYawPitchRoll()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         YawPitchRollConversion.convertQuaternionToYawPitchRoll(quaternions[i], yawPitchRollResult);
+         sum += yawPitchRollResult.getYaw();
+      }
+      return sum;
+   }
+
+   private double yawPitchRollToQuaternion()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         QuaternionConversion.convertYawPitchRollToQuaternion(yawPitchRolls[i], quaternionResult);
+         sum += quaternionResult.getS();
+      }
+      return sum;
+   }
+
+   private double quaternionToAxisAngle()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         AxisAngleConversion.convertQuaternionToAxisAngle(quaternions[i], axisAngleResult);
+         sum += axisAngleResult.getAngle();
+      }
+      return sum;
+   }
+
+   private double axisAngleToQuaternion()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < NUMBER_OF_SAMPLES; i++)
+      {
+         QuaternionConversion.convertAxisAngleToQuaternion(axisAngles[i], quaternionResult);
+         sum += quaternionResult.getS();
+      }
+      return sum;
+   }
+
+   private double quaternionInterpolation()
+   {
+      double sum = 0.0;
+      for (int i = 1; i < NUMBER_OF_SAMPLES; i++)
+      {
+         quaternionResult.interpolate(quaternions[i - 1], quaternions[i], 0.3);
+         sum += quaternionResult.getS();
+      }
+      return sum;
+   }
+
+   private static double measure(String name, DoubleSupplier task)
+   {
+      double sink = 0.0;
+
+      for (int i = 0; i < WARMUP_ROUNDS; i++)
+         sink += task.getAsDouble();
+
+      long start = System.nanoTime();
+      for (int i = 0; i < MEASURED_ROUNDS; i++)
+         sink += task.getAsDouble();
+      double nanosPerCall = (double) (System.nanoTime() - start) / (MEASURED_ROUNDS * NUMBER_OF_SAMPLES);
+
+      System.out.println(String.format("   %-28s %8.2f ns/call", name, nanosPerCall));
+      return sink;
+   }
+
+   public static void main(String[] args)
+   {
+      TrigonometryBackendBenchmark benchmark = new TrigonometryBackendBenchmark(new Random(3453L));
+      double sink = 0.0;
+
+      for (TrigonometryBackend backend : new TrigonometryBackend[] {TrigonometryBackend.STRICT_MATH, TrigonometryBackend.MATH, TrigonometryBackend.FAST})
+      {
+         EuclidCoreTools.setTrigonometryBackend(backend);
+         System.out.println("Backend: " + backend);
+         sink += measure("Quaternion -> YawPitchRoll", benchmark::quaternionToYawPitchRoll);
+         sink += measure("YawPitchRoll -> Quaternion", benchmark::yawPitchRollToQuaternion);
+         sink += measure("Quaternion -> AxisAngle", benchmark::quaternionToAxisAngle);
+         sink += measure("AxisAngle -> Quaternion", benchmark::axisAngleToQuaternion);
+         sink += measure("Quaternion interpolation", benchmark::quaternionInterpolation);
+      }
+
+      EuclidCoreTools.setTrigonometryBackend(TrigonometryBackend.STRICT_MATH);
+      System.out.println("(ignore: " + sink + ")");
+   }
+}
@@ -0,0 +1,217 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tuple3D.Point3D32;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3D32;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Quaternion32;
+
+public class Tuple32ToolsTest
+{
+   private static final double EPS = 1.0e-6;
+   private static final int NUMBER_OF_TUPLES = 100;
+
+   @Test
+   public void testCross() throws Exception
+   {
+      Random random = new Random(6543L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Vector3D32 tuple1 = EuclidCoreRandomTools.nextVector3D32(random);
+         Point3D32 tuple2 = EuclidCoreRandomTools.nextPoint3D32(random);
+         Vector3D expected = new Vector3D();
+         expected.cross(tuple1, tuple2);
+         Vector3D32 actual = new Vector3D32();
+         Tuple32Tools.cross(tuple1, tuple2, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+         // In place
+         Tuple32Tools.cross(tuple1, tuple2, tuple1);
+         EuclidCoreTestTools.assertTuple3DEquals(actual, tuple1, 0.0);
+      }
+   }
+
+   @Test
+   public void testMultiply() throws Exception
+   {
+      Random random = new Random(6544L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Quaternion32 q1 = EuclidCoreRandomTools.nextQuaternion32(random);
+         Quaternion32 q2 = EuclidCoreRandomTools.nextQuaternion32(random);
+         Quaternion expected = new Quaternion();
+         QuaternionTools.multiply(q1, q2, expected);
+         Quaternion32 actual = new Quaternion32();
+         Tuple32Tools.multiply(q1, q2, actual);
+         EuclidCoreTestTools.assertTuple4DEquals(expected, actual, EPS);
+         assertEquals(1.0, actual.norm(), EPS);
+      }
+   }
+
+   @Test
+   public void testAddAndNormalize() throws Exception
+   {
+      Random random = new Random(6546L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Vector3D32 tuple1 = EuclidCoreRandomTools.nextVector3D32(random);
+         Point3D32 tuple2 = EuclidCoreRandomTools.nextPoint3D32(random);
+
+         Point3D32 pointSum = new Point3D32();
+         Tuple32Tools.add(tuple1, tuple2, pointSum);
+         assertEquals(tuple1.getX32() + tuple2.getX32(), pointSum.getX32());
+         assertEquals(tuple1.getY32() + tuple2.getY32(), pointSum.getY32());
+         assertEquals(tuple1.getZ32() + tuple2.getZ32(), pointSum.getZ32());
+         Vector3D32 vectorSum = new Vector3D32();
+         Tuple32Tools.add(tuple1, tuple2, vectorSum);
+         EuclidCoreTestTools.assertTuple3DEquals(pointSum, vectorSum, 0.0);
+
+         Vector3D expectedVector = new Vector3D(tuple1);
+         expectedVector.normalize();
+         float x = tuple1.getX32();
+         float y = tuple1.getY32();
+         float z = tuple1.getZ32();
+         float invNorm = 1.0f / (float) Math.sqrt(x * x + y * y + z * z);
+         Tuple32Tools.normalize(tuple1);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, tuple1, EPS);
+         assertEquals(x * invNorm, tuple1.getX32());
+         assertEquals(y * invNorm, tuple1.getY32());
+         assertEquals(z * invNorm, tuple1.getZ32());
+
+         Quaternion32 quaternion = new Quaternion32();
+         float qx = random.nextFloat() - 0.5f;
+         float qy = random.nextFloat() - 0.5f;
+         float qz = random.nextFloat() - 0.5f;
+         float qs = random.nextFloat() - 0.5f;
+         Tuple32Tools.setAndNormalize(qx, qy, qz, qs, quaternion);
+         Quaternion expectedQuaternion = new Quaternion(qx, qy, qz, qs);
+         EuclidCoreTestTools.assertTuple4DEquals(expectedQuaternion, quaternion, EPS);
+         invNorm = 1.0f / (float) Math.sqrt(qx * qx + qy * qy + qz * qz + qs * qs);
+         assertEquals(qx * invNorm, quaternion.getX32());
+         assertEquals(qy * invNorm, quaternion.getY32());
+         assertEquals(qz * invNorm, quaternion.getZ32());
+         assertEquals(qs * invNorm, quaternion.getS32());
+
+         Quaternion32 copy = new Quaternion32(quaternion);
+         Tuple32Tools.normalize(quaternion);
+         EuclidCoreTestTools.assertTuple4DEquals(copy, quaternion, EPS);
+      }
+
+      Quaternion32 quaternion = EuclidCoreRandomTools.nextQuaternion32(random);
+      Tuple32Tools.setAndNormalize(0.0f, 0.0f, 0.0f, 0.0f, quaternion);
+      EuclidCoreTestTools.assertTuple4DEquals(new Quaternion(), quaternion, 0.0);
+   }
+
+   @Test
+   public void testBatchOperations() throws Exception
+   {
+      Random random = new Random(6545L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         float[] tuples1 = nextFloatArray(random, 3 * NUMBER_OF_TUPLES);
+         float[] tuples2 = nextFloatArray(random, 3 * NUMBER_OF_TUPLES);
+         float[] sums = new float[tuples1.length];
+         float[] differences = new float[tuples1.length];
+         float[] crosses = new float[tuples1.length];
+         float[] dots = new float[NUMBER_OF_TUPLES];
+         float[] unitVectors = new float[tuples1.length];
+
+         Tuple32Tools.add(tuples1, tuples2, sums, NUMBER_OF_TUPLES);
+         Tuple32Tools.sub(tuples1, tuples2, differences, NUMBER_OF_TUPLES);
+         Tuple32Tools.cross(tuples1, tuples2, crosses, NUMBER_OF_TUPLES);
+         Tuple32Tools.dot(tuples1, tuples2, dots, NUMBER_OF_TUPLES);
+         Tuple32Tools.normalize(tuples1, unitVectors, NUMBER_OF_TUPLES);
+
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            Vector3D32 tuple1 = new Vector3D32();
+            tuple1.set(3 * j, tuples1);
+            Vector3D32 tuple2 = new Vector3D32();
+            tuple2.set(3 * j, tuples2);
+
+            Vector3D expected = new Vector3D();
+            Vector3D32 actual = new Vector3D32();
+
+            expected.add(tuple1, tuple2);
+            actual.set(3 * j, sums);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+            expected.sub(tuple1, tuple2);
+            actual.set(3 * j, differences);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+            expected.cross(tuple1, tuple2);
+            actual.set(3 * j, crosses);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 10.0 * EPS);
+
+            assertEquals(tuple1.dot(tuple2), dots[j], 10.0 * EPS);
+
+            expected.setAndNormalize(tuple1);
+            actual.set(3 * j, unitVectors);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+      }
+
+      float[] zero = new float[3];
+      Tuple32Tools.normalize(zero, zero, 1);
+      assertTrue(Float.isNaN(zero[0]));
+   }
+
+   @Test
+   public void testBatchMultiplyQuaternions() throws Exception
+   {
+      Random random = new Random(6546L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         float[] quaternions1 = new float[4 * NUMBER_OF_TUPLES];
+         float[] quaternions2 = new float[4 * NUMBER_OF_TUPLES];
+
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            EuclidCoreRandomTools.nextQuaternion32(random).get(4 * j, quaternions1);
+            EuclidCoreRandomTools.nextQuaternion32(random).get(4 * j, quaternions2);
+         }
+
+         float[] products = new float[quaternions1.length];
+         Tuple32Tools.multiplyQuaternions(quaternions1, quaternions2, products, NUMBER_OF_TUPLES);
+
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            Quaternion32 q1 = new Quaternion32();
+            q1.set(4 * j, quaternions1);
+            Quaternion32 q2 = new Quaternion32();
+            q2.set(4 * j, quaternions2);
+            Quaternion expected = new Quaternion();
+            QuaternionTools.multiply(q1, q2, expected);
+            Quaternion32 actual = new Quaternion32();
+            actual.set(4 * j, products);
+            EuclidCoreTestTools.assertTuple4DEquals(expected, actual, EPS);
+         }
+      }
+
+      float[] zero = new float[4];
+      Tuple32Tools.multiplyQuaternions(zero, zero, zero, 1);
+      assertEquals(1.0f, zero[3]);
+   }
+
+   private static float[] nextFloatArray(Random random, int length)
+   {
+      float[] array = new float[length];
+      for (int i = 0; i < length; i++)
+         array[i] = (float) EuclidCoreRandomTools.nextDouble(random, 1.0);
+      return array;
+   }
+}
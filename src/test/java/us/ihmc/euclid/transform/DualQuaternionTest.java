@@ -0,0 +1,344 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class DualQuaternionTest extends TransformTest<DualQuaternion>
+{
+   private static final double EPS = 1.0e-10;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(345L);
+
+      { // Test empty constructor
+         DualQuaternion dualQuaternion = new DualQuaternion();
+         EuclidCoreTestTools.assertQuaternionIsSetToZero(dualQuaternion.getRotation());
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(dualQuaternion.getTranslation());
+         assertFalse(dualQuaternion.hasRotation());
+         assertFalse(dualQuaternion.hasTranslation());
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test DualQuaternion(Orientation3DReadOnly, Tuple3DReadOnly)
+         Quaternion orientation = EuclidCoreRandomTools.nextQuaternion(random);
+         Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+         DualQuaternion dualQuaternion = new DualQuaternion(orientation, translation);
+         EuclidCoreTestTools.assertQuaternionEquals(orientation, dualQuaternion.getRotation(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(translation, dualQuaternion.getTranslation(), EPS);
+         assertEquals(0.0, dualQuaternion.getRealPart().dot(dualQuaternion.getDualPart()), EPS);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test DualQuaternion(RigidBodyTransformReadOnly) and DualQuaternion(DualQuaternion)
+         RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         DualQuaternion dualQuaternion = new DualQuaternion(rigidBodyTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(rigidBodyTransform, new RigidBodyTransform(dualQuaternion), EPS);
+         EuclidCoreTestTools.assertDualQuaternionEquals(dualQuaternion, new DualQuaternion(dualQuaternion), EPS);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test DualQuaternion(double[])
+         DualQuaternion expected = EuclidCoreRandomTools.nextDualQuaternion(random);
+         double[] array = new double[8];
+         expected.get(array);
+         EuclidCoreTestTools.assertDualQuaternionEquals(expected, new DualQuaternion(array), EPS);
+      }
+   }
+
+   @Test
+   public void testSetTranslationAndRotation() throws Exception
+   {
+      Random random = new Random(3457L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DualQuaternion dualQuaternion = EuclidCoreRandomTools.nextDualQuaternion(random);
+         Quaternion expectedRotation = new Quaternion(dualQuaternion.getRotation());
+         Vector3D expectedTranslation = EuclidCoreRandomTools.nextVector3D(random);
+         dualQuaternion.setTranslation(expectedTranslation.getX(), expectedTranslation.getY(), expectedTranslation.getZ());
+         EuclidCoreTestTools.assertQuaternionEquals(expectedRotation, dualQuaternion.getRotation(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, dualQuaternion.getTranslation(), EPS);
+
+         expectedRotation = EuclidCoreRandomTools.nextQuaternion(random);
+         dualQuaternion.setRotation(expectedRotation);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedRotation, dualQuaternion.getRotation(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, dualQuaternion.getTranslation(), EPS);
+      }
+   }
+
+   @Test
+   public void testNormalize() throws Exception
+   {
+      Random random = new Random(3458L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DualQuaternion expected = EuclidCoreRandomTools.nextDualQuaternion(random);
+         double[] array = new double[8];
+         expected.get(array);
+         double scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+         for (int j = 0; j < 8; j++)
+            array[j] *= scale;
+
+         DualQuaternion actual = new DualQuaternion();
+         actual.setUnsafe(array[0], array[1], array[2], array[3], array[4], array[5], array[6], array[7]);
+         actual.normalize();
+         EuclidCoreTestTools.assertDualQuaternionEquals(expected, actual, EPS);
+      }
+   }
+
+   @Test
+   public void testMultiply() throws Exception
+   {
+      Random random = new Random(3459L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform t1 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform t2 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         DualQuaternion dq1 = new DualQuaternion(t1);
+         DualQuaternion dq2 = new DualQuaternion(t2);
+
+         RigidBodyTransform expected = new RigidBodyTransform(t1);
+         expected.multiply(t2);
+         DualQuaternion actual = new DualQuaternion(dq1);
+         actual.multiply(dq2);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+         expected.set(t1);
+         expected.preMultiply(t2);
+         actual.set(dq1);
+         actual.preMultiply(dq2);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+      }
+   }
+
+   @Test
+   public void testInvert() throws Exception
+   {
+      Random random = new Random(3460L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         DualQuaternion actual = new DualQuaternion(expected);
+         expected.invert();
+         actual.invert();
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+         DualQuaternion identity = new DualQuaternion();
+         identity.setAndInvert(actual);
+         identity.multiply(actual);
+         EuclidCoreTestTools.assertDualQuaternionGeometricallyEquals(new DualQuaternion(), identity, EPS);
+      }
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(3461L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         DualQuaternion dualQuaternion = new DualQuaternion(rigidBodyTransform);
+         Point3D original = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Point3D expected = new Point3D();
+         Point3D actual = new Point3D();
+         rigidBodyTransform.transform(original, expected);
+         dualQuaternion.transform(original, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+         rigidBodyTransform.inverseTransform(original, expected);
+         dualQuaternion.inverseTransform(original, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+      }
+   }
+
+   @Test
+   public void testTransformPoints() throws Exception
+   {
+      Random random = new Random(3462L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DualQuaternion dualQuaternion = EuclidCoreRandomTools.nextDualQuaternion(random);
+         int numberOfPoints = random.nextInt(20);
+         double[] original = new double[3 * numberOfPoints];
+         for (int j = 0; j < original.length; j++)
+            original[j] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+         double[] actual = new double[original.length];
+         dualQuaternion.transformPoints(original, actual, numberOfPoints);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D expected = new Point3D();
+            expected.set(3 * j, original);
+            dualQuaternion.transform(expected);
+            Point3D actualPoint = new Point3D();
+            actualPoint.set(3 * j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actualPoint, EPS);
+         }
+
+         // In place
+         dualQuaternion.transformPoints(original, original, numberOfPoints);
+         for (int j = 0; j < original.length; j++)
+            assertEquals(actual[j], original[j], EPS);
+      }
+   }
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(3463L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DualQuaternion dq0 = EuclidCoreRandomTools.nextDualQuaternion(random);
+         DualQuaternion dqf = EuclidCoreRandomTools.nextDualQuaternion(random);
+         DualQuaternion actual = new DualQuaternion();
+
+         actual.interpolate(dq0, dqf, 0.0);
+         EuclidCoreTestTools.assertDualQuaternionGeometricallyEquals(dq0, actual, EPS);
+         actual.interpolate(dq0, dqf, 1.0);
+         EuclidCoreTestTools.assertDualQuaternionGeometricallyEquals(dqf, actual, EPS);
+
+         // Applying twice the half screw motion should result in the full screw motion.
+         DualQuaternion dq0Inverse = new DualQuaternion();
+         dq0Inverse.setAndInvert(dq0);
+         DualQuaternion halfDiff = new DualQuaternion();
+         halfDiff.interpolate(dq0, dqf, 0.5);
+         halfDiff.preMultiply(dq0Inverse);
+         DualQuaternion expectedDiff = new DualQuaternion(dq0Inverse);
+         expectedDiff.multiply(dqf);
+         actual.set(halfDiff);
+         actual.multiply(halfDiff);
+         EuclidCoreTestTools.assertDualQuaternionGeometricallyEquals(expectedDiff, actual, 1.0e-8);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Pure translation is equivalent to linear interpolation of the translation
+         Quaternion rotation = EuclidCoreRandomTools.nextQuaternion(random);
+         Vector3D t0 = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D tf = EuclidCoreRandomTools.nextVector3D(random);
+         double alpha = random.nextDouble();
+         DualQuaternion actual = new DualQuaternion();
+         actual.interpolate(new DualQuaternion(rotation, t0), new DualQuaternion(rotation, tf), alpha);
+
+         Vector3D expectedTranslation = new Vector3D();
+         expectedTranslation.interpolate(t0, tf, alpha);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(rotation, actual.getRotation(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actual.getTranslation(), EPS);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Pure rotation is equivalent to slerp
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+         double alpha = random.nextDouble();
+         DualQuaternion actual = new DualQuaternion();
+         actual.interpolate(new DualQuaternion(q0, new Vector3D()), new DualQuaternion(qf, new Vector3D()), alpha);
+
+         Quaternion expectedRotation = new Quaternion();
+         expectedRotation.interpolate(q0, qf, alpha);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(expectedRotation, actual.getRotation(), EPS);
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(actual.getTranslation());
+      }
+   }
+
+   @Test
+   public void testBlend() throws Exception
+   {
+      Random random = new Random(3464L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DualQuaternion dq0 = EuclidCoreRandomTools.nextDualQuaternion(random);
+         DualQuaternion dqf = EuclidCoreRandomTools.nextDualQuaternion(random);
+         double alpha = random.nextDouble();
+
+         DualQuaternion expected = new DualQuaternion();
+         expected.interpolateLinear(dq0, dqf, alpha);
+
+         List<DualQuaternion> dualQuaternions = new ArrayList<>();
+         dualQuaternions.add(dq0);
+         dualQuaternions.add(dqf);
+         DualQuaternion actual = new DualQuaternion();
+         actual.blend(dualQuaternions, new double[] {1.0 - alpha, alpha});
+         EuclidCoreTestTools.assertDualQuaternionGeometricallyEquals(expected, actual, EPS);
+
+         // The result does not depend on the sign of the inputs.
+         dqf.negate();
+         actual.blend(dualQuaternions, new double[] {1.0 - alpha, alpha});
+         EuclidCoreTestTools.assertDualQuaternionGeometricallyEquals(expected, actual, EPS);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Blending the same pose multiple times
+         DualQuaternion expected = EuclidCoreRandomTools.nextDualQuaternion(random);
+         int numberOfPoses = random.nextInt(10) + 1;
+         List<DualQuaternion> dualQuaternions = new ArrayList<>();
+         double[] weights = new double[numberOfPoses];
+
+         for (int j = 0; j < numberOfPoses; j++)
+         {
+            dualQuaternions.add(new DualQuaternion(expected));
+            weights[j] = random.nextDouble();
+         }
+
+         DualQuaternion actual = new DualQuaternion();
+         actual.blend(dualQuaternions, weights);
+         EuclidCoreTestTools.assertDualQuaternionGeometricallyEquals(expected, actual, EPS);
+      }
+   }
+
+   @Test
+   public void testGeometricallyEquals() throws Exception
+   {
+      Random random = new Random(3465L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         DualQuaternion dqA = EuclidCoreRandomTools.nextDualQuaternion(random);
+         DualQuaternion dqB = new DualQuaternion(dqA);
+         dqB.negate();
+         assertFalse(dqA.epsilonEquals(dqB, EPS));
+         assertTrue(dqA.geometricallyEquals(dqB, EPS));
+
+         dqB.setTranslation(dqA.getTranslationX() + 1.0e-3, dqA.getTranslationY(), dqA.getTranslationZ());
+         assertFalse(dqA.geometricallyEquals(dqB, EPS));
+      }
+   }
+
+   @Override
+   public DualQuaternion createRandomTransform(Random random)
+   {
+      return EuclidCoreRandomTools.nextDualQuaternion(random);
+   }
+
+   @Override
+   public DualQuaternion createRandomTransform2D(Random random)
+   {
+      RigidBodyTransform rTransform2D = new RigidBodyTransform();
+      rTransform2D.setRotationYaw(2.0 * Math.PI * random.nextDouble() - Math.PI);
+      rTransform2D.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+      return new DualQuaternion(rTransform2D);
+   }
+}
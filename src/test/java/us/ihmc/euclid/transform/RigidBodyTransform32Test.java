@@ -0,0 +1,182 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3D32;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3D32;
+import us.ihmc.euclid.tuple4D.Quaternion32;
+
+public class RigidBodyTransform32Test
+{
+   private static final double EPS = 1.0e-6;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(4353L);
+
+      { // Test empty constructor
+         RigidBodyTransform32 transform = new RigidBodyTransform32();
+         EuclidCoreTestTools.assertQuaternionIsSetToZero(transform.getRotation());
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(transform.getTranslation());
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test RigidBodyTransform32(RigidBodyTransformReadOnly)
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform32 actual = new RigidBodyTransform32(expected);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test RigidBodyTransform32(float[]) and get(float[])
+         RigidBodyTransform32 expected = EuclidCoreRandomTools.nextRigidBodyTransform32(random);
+         float[] array = new float[7];
+         expected.get(array);
+         RigidBodyTransform32 actual = new RigidBodyTransform32(array);
+         EuclidCoreTestTools.assertRigidBodyTransform32Equals(expected, actual, EPS);
+
+         RigidBodyTransform32 copy = new RigidBodyTransform32();
+         copy.set(expected);
+         assertEquals(expected, copy);
+         assertEquals(expected.hashCode(), copy.hashCode());
+      }
+   }
+
+   @Test
+   public void testSingleTransform() throws Exception
+   {
+      Random random = new Random(4354L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform32 transform = EuclidCoreRandomTools.nextRigidBodyTransform32(random);
+         RigidBodyTransform reference = new RigidBodyTransform(transform);
+
+         Point3D32 point = EuclidCoreRandomTools.nextPoint3D32(random);
+         Point3D expectedPoint = new Point3D(point);
+         Point3D32 actualPoint = new Point3D32();
+         reference.transform(expectedPoint);
+         transform.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+
+         Point3D32 original = new Point3D32(point);
+         transform.transform(point);
+         EuclidCoreTestTools.assertTuple3DEquals(actualPoint, point, 0.0);
+         transform.inverseTransform(point);
+         EuclidCoreTestTools.assertTuple3DEquals(original, point, EPS);
+
+         Vector3D32 vector = EuclidCoreRandomTools.nextVector3D32(random);
+         Vector3D expectedVector = new Vector3D(vector);
+         Vector3D32 actualVector = new Vector3D32();
+         reference.transform(expectedVector);
+         transform.transform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+
+         reference.inverseTransform(expectedVector);
+         transform.inverseTransform(actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+      }
+   }
+
+   @Test
+   public void testBatchTransform() throws Exception
+   {
+      Random random = new Random(4355L);
+      int numberOfPoints = 100;
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform32 transform = EuclidCoreRandomTools.nextRigidBodyTransform32(random);
+         float[] points = new float[3 * numberOfPoints];
+
+         for (int j = 0; j < points.length; j++)
+            points[j] = (float) EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+         float[] transformedPoints = new float[points.length];
+         float[] transformedVectors = new float[points.length];
+         transform.transformPoints(points, transformedPoints, numberOfPoints);
+         transform.transformVectors(points, transformedVectors, numberOfPoints);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D32 expectedPoint = new Point3D32();
+            expectedPoint.set(3 * j, points);
+            transform.transform(expectedPoint);
+            Point3D32 actualPoint = new Point3D32();
+            actualPoint.set(3 * j, transformedPoints);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, 10.0 * EPS);
+
+            Vector3D32 expectedVector = new Vector3D32();
+            expectedVector.set(3 * j, points);
+            transform.transform(expectedVector);
+            Vector3D32 actualVector = new Vector3D32();
+            actualVector.set(3 * j, transformedVectors);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, 10.0 * EPS);
+         }
+
+         // In place inverse transform recovers the original points
+         transform.inverseTransformPoints(transformedPoints, transformedPoints, numberOfPoints);
+
+         for (int j = 0; j < points.length; j++)
+            assertEquals(points[j], transformedPoints[j], 10.0 * EPS);
+      }
+   }
+
+   @Test
+   public void testMultiply() throws Exception
+   {
+      Random random = new Random(4356L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform32 transform1 = EuclidCoreRandomTools.nextRigidBodyTransform32(random);
+         RigidBodyTransform32 transform2 = EuclidCoreRandomTools.nextRigidBodyTransform32(random);
+
+         RigidBodyTransform expected = new RigidBodyTransform(transform1);
+         expected.multiply(new RigidBodyTransform(transform2));
+
+         RigidBodyTransform32 actual = new RigidBodyTransform32(transform1);
+         actual.multiply(transform2);
+         EuclidCoreTestTools.assertRigidBodyTransformGeometricallyEquals(expected, new RigidBodyTransform(actual), EPS);
+         assertEquals(1.0, actual.getRotation().norm(), EPS);
+      }
+   }
+
+   @Test
+   public void testEqualsAndGeometricallyEquals() throws Exception
+   {
+      Random random = new Random(4357L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform32 transformA = EuclidCoreRandomTools.nextRigidBodyTransform32(random);
+         RigidBodyTransform32 transformB = new RigidBodyTransform32(transformA);
+         assertTrue(transformA.equals(transformB));
+         assertTrue(transformA.epsilonEquals(transformB, 0.0));
+
+         Quaternion32 negated = new Quaternion32(transformA.getRotation());
+         negated.negate();
+         transformB.getRotation().set(negated);
+         assertFalse(transformA.epsilonEquals(transformB, EPS));
+         assertTrue(transformA.geometricallyEquals(transformB, EPS));
+
+         transformB.set(transformA);
+         transformB.getTranslation().addX(1.0e-3);
+         assertNotEquals(transformA, transformB);
+         assertFalse(transformA.geometricallyEquals(transformB, 1.0e-4));
+      }
+   }
+}